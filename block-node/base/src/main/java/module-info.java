@@ -3,6 +3,7 @@ import org.hiero.block.server.config.BlockNodeConfigExtension;
 
 module org.hiero.block.base {
     exports org.hiero.block.server.consumer;
+    exports org.hiero.block.server.download;
     exports org.hiero.block.server.exception;
     exports org.hiero.block.server.persistence.storage;
     exports org.hiero.block.server.persistence.storage.archive;
@@ -11,6 +12,7 @@ module org.hiero.block.base {
     exports org.hiero.block.server.persistence.storage.write;
     exports org.hiero.block.server.persistence.storage.read;
     exports org.hiero.block.server.persistence.storage.remove;
+    exports org.hiero.block.server.persistence.storage.segment;
     exports org.hiero.block.server.config;
     exports org.hiero.block.server.config.logging;
     exports org.hiero.block.server.mediator;
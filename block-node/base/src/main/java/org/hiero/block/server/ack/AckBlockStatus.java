@@ -6,12 +6,18 @@ import java.util.concurrent.atomic.AtomicBoolean;
 /**
  * A simple block status object that:
  *  - Uses volatile booleans for 'persisted' and 'verified' (set once, from false to true).
+ *  - Uses an AtomicBoolean 'moveSubmitted' for lock-free compare-and-set if a block has been submitted
+ *    to be moved to live storage, and a volatile boolean 'moved' once the move is durable.
  *  - Uses an AtomicBoolean 'ackSent' for lock-free compare-and-set if a block has been ACKed.
  */
 public class AckBlockStatus {
 
     private volatile boolean persisted = false;
     private volatile boolean verified = false;
+    private volatile boolean moved = false;
+
+    /** Flag that tracks whether this block has been submitted to be moved to live storage. */
+    private final AtomicBoolean moveSubmitted = new AtomicBoolean(false);
 
     /** Flag that tracks whether this block has been ACKed. */
     private final AtomicBoolean ackSent = new AtomicBoolean(false);
@@ -32,6 +38,24 @@ public class AckBlockStatus {
         verified = true;
     }
 
+    /**
+     * Marks this block as durably moved to live storage.
+     * This is a "set once" transition from false -> true (idempotent if called again).
+     */
+    public void setMoved() {
+        moved = true;
+    }
+
+    /**
+     * Atomically marks this block as submitted to be moved to live storage if not already done.
+     *
+     * @return true if this call successfully set 'moveSubmitted' from false -> true,
+     *         false if 'moveSubmitted' was already true.
+     */
+    public boolean markMoveSubmittedIfNotAlready() {
+        return moveSubmitted.compareAndSet(false, true);
+    }
+
     /**
      * Atomically marks this block as ACKed if not already done.
      *
@@ -56,6 +80,13 @@ public class AckBlockStatus {
         return verified;
     }
 
+    /**
+     * @return true if moved = true
+     */
+    public boolean isMoved() {
+        return moved;
+    }
+
     /**
      * @return true if 'ackSent' has already been set
      */
@@ -10,6 +10,8 @@ import java.io.IOException;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import javax.inject.Inject;
 import org.hiero.block.server.block.BlockInfo;
 import org.hiero.block.server.metrics.BlockNodeMetricTypes;
@@ -28,11 +30,18 @@ import org.hiero.block.server.service.ServiceStatus;
  *  Acks blocks only in strictly increasing order
  *    the ACK is delayed until it is that block's turn.
  *    consecutive ACKs for all blocks that are both persisted and verified.
+ *  Moves the blocks that are both persisted and verified to live storage in order,
+ *    and ACKs each block once its move is durable.
  */
 public class AckHandlerImpl implements AckHandler {
     private final System.Logger LOGGER = System.getLogger(getClass().getName());
     private final Map<Long, BlockInfo> blockInfo = new ConcurrentHashMap<>();
     private volatile long lastAcknowledgedBlockNumber = -1;
+    // the last block submitted to be moved to live storage, it is ACKed once the move is durable
+    private volatile long lastSubmittedBlockNumber = -1;
+    // serializes the submission of moves with the rewind of a failed move, so a
+    // submission that read the last submitted block before a rewind cannot undo it
+    private final Lock submitLock = new ReentrantLock();
     private final Notifier notifier;
     private final boolean skipAcknowledgement;
     private final ServiceStatus serviceStatus;
@@ -74,6 +83,7 @@ public class AckHandlerImpl implements AckHandler {
             // @todo(147) we need to handle new instances that need to start from a different block than 0.
             lastAcknowledgedBlockNumber = -1;
         }
+        lastSubmittedBlockNumber = lastAcknowledgedBlockNumber;
 
         LOGGER.log(
                 System.Logger.Level.INFO,
@@ -140,17 +150,27 @@ public class AckHandlerImpl implements AckHandler {
     /**
      * Attempt to ACK all blocks that are ready to be ACKed.
      * This method is called whenever a block is persisted or verified.
-     * It ACKs all blocks in sequence that are both persisted and verified.
+     * It submits all blocks in sequence that are both persisted and verified to be
+     * moved to live storage, each block is ACKed once its move is durable.
      */
     private void attemptAcks() {
-        // Keep ACK-ing starting from the next block in sequence
+        submitLock.lock();
+        try {
+            submitReadyMoves();
+        } finally {
+            submitLock.unlock();
+        }
+    }
+
+    private void submitReadyMoves() {
+        // Keep submitting starting from the next block in sequence
         while (true) {
-            long nextBlock = lastAcknowledgedBlockNumber + 1;
+            long nextBlock = lastSubmittedBlockNumber + 1;
             BlockInfo info = blockInfo.get(nextBlock);
 
             if (info == null) {
                 // We have no info for the next expected block yet.
-                // => We can't ACK the "next" block. Stop.
+                // => We can't move the "next" block. Stop.
                 break;
             }
 
@@ -160,27 +180,44 @@ public class AckHandlerImpl implements AckHandler {
                 break;
             }
 
+            // Attempt to mark the move submitted (CAS-protected to avoid duplicates)
+            if (info.getBlockStatus().markMoveSubmittedIfNotAlready()) {
+                // We "won" the race; we submit the actual move, the block is moved
+                // together with the blocks submitted at about the same time and is
+                // ACKed once the move is durable
+                lastSubmittedBlockNumber = nextBlock;
+                streamPersistenceHandler.moveVerified(nextBlock).whenComplete((ignored, error) -> {
+                    if (error == null) {
+                        info.getBlockStatus().setMoved();
+                        sendAcks();
+                    } else {
+                        moveFailed(nextBlock, error);
+                    }
+                });
+            } else {
+                // Someone else already submitted this block.
+                // Stop, as they will continue with the next block.
+                break;
+            }
+            // Loop again in case the next block is also ready.
+        }
+    }
+
+    /**
+     * Send the ACKs of all blocks in sequence that have been durably moved to
+     * live storage.
+     */
+    private void sendAcks() {
+        while (true) {
+            final long nextBlock = lastAcknowledgedBlockNumber + 1;
+            final BlockInfo info = blockInfo.get(nextBlock);
+            if (info == null || !info.getBlockStatus().isMoved()) {
+                // The next block is not durable yet. Stop.
+                break;
+            }
+
             // Attempt to mark ACK sent (CAS-protected to avoid duplicates)
             if (info.getBlockStatus().markAckSentIfNotAlready()) {
-                try {
-                    // @todo(582) if we are unable to move the block to the verified state,
-                    //   should we throw or for now simply take the same action as if the block
-                    //   failed persistence (for now since we lack infrastructure we simply
-                    //   call the verification failed method)
-                    streamPersistenceHandler.moveVerified(nextBlock);
-                } catch (final IOException e) {
-                    // @todo(582) if we do this, we must be aware that we will not increment
-                    //   lastAcknowledgedBlockNumber and the verification failed method will
-                    //   remove the info from the map. This means that the data needs to be requested
-                    //   again. What would be the best way to hande inability to move the block with
-                    //   the limitations we current have?
-                    // @todo(774) we should use a response code for failed persistence here
-                    final String message = "Failed to move Block with number [%d] from unverified to live storage"
-                            .formatted(nextBlock);
-                    LOGGER.log(ERROR, message, e);
-                    blockVerificationFailed(nextBlock);
-                    return;
-                }
                 // We "won" the race; we do the actual ACK
                 notifier.sendAck(nextBlock, info.getBlockHash(), false);
 
@@ -198,13 +235,45 @@ public class AckHandlerImpl implements AckHandler {
                 lastAcknowledgedBlockNumber = nextBlock;
             } else {
                 // Someone else already ACKed this block.
-                // Stop, as we can't ACK the next block until this one is ACKed.
-                // Also, to unblock the other thread faster.
                 break;
             }
-            // Loop again in case the next block is also ready.
-            // This can ACK multiple consecutive blocks if they are all
-            // persisted & verified in order.
+        }
+    }
+
+    /**
+     * Handle a block that could not be moved from unverified to live storage.
+     * The blocks submitted after it are not moved either, until the moves are
+     * reset here.
+     */
+    private void moveFailed(final long blockNumber, final Throwable error) {
+        // @todo(582) if we are unable to move the block to the verified state,
+        //   should we throw or for now simply take the same action as if the block
+        //   failed persistence (for now since we lack infrastructure we simply
+        //   call the verification failed method)
+        final boolean firstFailed;
+        submitLock.lock();
+        try {
+            firstFailed = lastSubmittedBlockNumber >= blockNumber;
+            if (firstFailed) {
+                // the blocks are resubmitted from here once they are received again
+                lastSubmittedBlockNumber = blockNumber - 1;
+                // the blocks submitted before this point are failed, the block is
+                // submitted again once it is received again
+                streamPersistenceHandler.resetMoves();
+            }
+        } finally {
+            submitLock.unlock();
+        }
+        if (firstFailed) {
+            // the first block of the sequence that failed, the stream is ended
+            // @todo(774) we should use a response code for failed persistence here
+            final String message =
+                    "Failed to move Block with number [%d] from unverified to live storage".formatted(blockNumber);
+            LOGGER.log(ERROR, message, error);
+            blockVerificationFailed(blockNumber);
+        } else {
+            // a block submitted after the one that failed
+            blockInfo.remove(blockNumber);
         }
     }
 }
@@ -0,0 +1,67 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.block;
+
+import com.hedera.hapi.block.BlockItemUnparsed;
+import com.hedera.hapi.block.stream.output.BlockHeader;
+import com.hedera.pbj.runtime.ParseException;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
+
+/**
+ * Metadata about a batch of block items, computed once when the batch is received from the
+ * upstream producer and carried alongside the batch to every downstream handler. Handlers read the
+ * block number and the parsed block header from here instead of parsing the batch again.
+ *
+ * @param blockNumber the number of the block the batch belongs to, or {@link #UNKNOWN_BLOCK_NUMBER}
+ *     if the batch does not start with a block header and the block is unknown
+ * @param blockHeader the parsed block header if the batch starts with one, otherwise null
+ * @param endsWithBlockProof true if the last block item of the batch is the block proof
+ */
+public record BlockItemBatchMetadata(long blockNumber, BlockHeader blockHeader, boolean endsWithBlockProof) {
+
+    /** The block number of a batch whose block is unknown. */
+    public static final long UNKNOWN_BLOCK_NUMBER = -1L;
+
+    /**
+     * Checks if the batch starts with a block header.
+     *
+     * @return true if the batch starts a new block, false otherwise
+     */
+    public boolean startsWithBlockHeader() {
+        return blockHeader != null;
+    }
+
+    /**
+     * Computes the metadata of the given batch of block items, parsing its block header if it has
+     * one.
+     *
+     * @param blockItems the batch of block items
+     * @param currentBlockNumber the number of the block in progress, used when the batch does not
+     *     start with a block header
+     * @return the metadata of the batch
+     * @throws ParseException if the block header cannot be parsed
+     */
+    @NonNull
+    public static BlockItemBatchMetadata parse(
+            @NonNull final List<BlockItemUnparsed> blockItems, final long currentBlockNumber) throws ParseException {
+        final BlockItemUnparsed firstItem = blockItems.getFirst();
+        final BlockHeader blockHeader =
+                firstItem.hasBlockHeader() ? BlockHeader.PROTOBUF.parse(firstItem.blockHeader()) : null;
+        final long blockNumber = (blockHeader != null) ? blockHeader.number() : currentBlockNumber;
+        return new BlockItemBatchMetadata(blockNumber, blockHeader, blockItems.getLast().hasBlockProof());
+    }
+
+    /**
+     * Computes the metadata of the given batch of block items, parsing its block header if it has
+     * one. The block number is unknown when the batch does not start with a block header.
+     *
+     * @param blockItems the batch of block items
+     * @return the metadata of the batch
+     * @throws ParseException if the block header cannot be parsed
+     */
+    @NonNull
+    public static BlockItemBatchMetadata parse(@NonNull final List<BlockItemUnparsed> blockItems)
+            throws ParseException {
+        return parse(blockItems, UNKNOWN_BLOCK_NUMBER);
+    }
+}
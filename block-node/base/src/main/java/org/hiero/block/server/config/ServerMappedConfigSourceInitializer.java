@@ -19,6 +19,12 @@ public final class ServerMappedConfigSourceInitializer {
                     "consumer.cueHistoricStreamingPaddingBlocks", "CONSUMER_CUE_HISTORIC_STREAMING_PADDING_BLOCKS"),
             new ConfigMapping("consumer.timeoutThresholdMillis", "CONSUMER_TIMEOUT_THRESHOLD_MILLIS"),
             new ConfigMapping("consumer.maxBlockItemBatchSize", "CONSUMER_MAX_BLOCK_ITEM_BATCH_SIZE"),
+            new ConfigMapping("consumer.waitMode", "CONSUMER_WAIT_MODE"),
+            new ConfigMapping("consumer.waitSpinIterations", "CONSUMER_WAIT_SPIN_ITERATIONS"),
+            new ConfigMapping("consumer.waitMaxParkMillis", "CONSUMER_WAIT_MAX_PARK_MILLIS"),
+            new ConfigMapping("consumer.maxCoalescedResponseBytes", "CONSUMER_MAX_COALESCED_RESPONSE_BYTES"),
+            new ConfigMapping("consumer.readAheadMaxBlocks", "CONSUMER_READ_AHEAD_MAX_BLOCKS"),
+            new ConfigMapping("consumer.readAheadMaxBytes", "CONSUMER_READ_AHEAD_MAX_BYTES"),
 
             // Mediator Config
             new ConfigMapping(
@@ -26,12 +32,21 @@ public final class ServerMappedConfigSourceInitializer {
                     "MEDIATOR_HISTORIC_TRANSITION_THRESHOLD_PERCENTAGE"),
             new ConfigMapping("mediator.ringBufferSize", "MEDIATOR_RING_BUFFER_SIZE"),
             new ConfigMapping("mediator.type", "MEDIATOR_TYPE"),
+            new ConfigMapping("mediator.consumerBackPressure", "MEDIATOR_CONSUMER_BACK_PRESSURE"),
+            new ConfigMapping("mediator.pollerBatchSize", "MEDIATOR_POLLER_BATCH_SIZE"),
+            new ConfigMapping("mediator.maxRetainedBytes", "MEDIATOR_MAX_RETAINED_BYTES"),
+            new ConfigMapping("mediator.fanOutConsumersPerRelay", "MEDIATOR_FAN_OUT_CONSUMERS_PER_RELAY"),
+            new ConfigMapping("mediator.fanOutRelayRingBufferSize", "MEDIATOR_FAN_OUT_RELAY_RING_BUFFER_SIZE"),
+            new ConfigMapping("mediator.waitStrategy", "MEDIATOR_WAIT_STRATEGY"),
+            new ConfigMapping("mediator.producerType", "MEDIATOR_PRODUCER_TYPE"),
 
             // Notifier Config
             new ConfigMapping(
                     "notifier.historicTransitionThresholdPercentage",
                     "NOTIFIER_HISTORIC_TRANSITION_THRESHOLD_PERCENTAGE"),
             new ConfigMapping("notifier.ringBufferSize", "NOTIFIER_RING_BUFFER_SIZE"),
+            new ConfigMapping("notifier.waitStrategy", "NOTIFIER_WAIT_STRATEGY"),
+            new ConfigMapping("notifier.producerType", "NOTIFIER_PRODUCER_TYPE"),
 
             // Persistence Config
             new ConfigMapping("persistence.storage.archiveRootPath", "PERSISTENCE_STORAGE_ARCHIVE_ROOT_PATH"),
@@ -46,6 +61,32 @@ public final class ServerMappedConfigSourceInitializer {
             new ConfigMapping("persistence.storage.threadCount", "PERSISTENCE_STORAGE_THREAD_COUNT"),
             new ConfigMapping("persistence.storage.threadKeepAliveTime", "PERSISTENCE_STORAGE_THREAD_KEEP_ALIVE_TIME"),
             new ConfigMapping("persistence.storage.useVirtualThreads", "PERSISTENCE_STORAGE_USE_VIRTUAL_THREADS"),
+            new ConfigMapping("persistence.storage.segmentSize", "PERSISTENCE_STORAGE_SEGMENT_SIZE"),
+            new ConfigMapping(
+                    "persistence.storage.archiveHandleCacheSize", "PERSISTENCE_STORAGE_ARCHIVE_HANDLE_CACHE_SIZE"),
+            new ConfigMapping("persistence.storage.memoryMappedReads", "PERSISTENCE_STORAGE_MEMORY_MAPPED_READS"),
+            new ConfigMapping("persistence.storage.blockCacheMaxBytes", "PERSISTENCE_STORAGE_BLOCK_CACHE_MAX_BYTES"),
+            new ConfigMapping("persistence.storage.retentionMaxBlocks", "PERSISTENCE_STORAGE_RETENTION_MAX_BLOCKS"),
+            new ConfigMapping("persistence.storage.retentionMaxBytes", "PERSISTENCE_STORAGE_RETENTION_MAX_BYTES"),
+            new ConfigMapping("persistence.storage.retentionMaxAgeDays", "PERSISTENCE_STORAGE_RETENTION_MAX_AGE_DAYS"),
+            new ConfigMapping(
+                    "persistence.storage.retentionDeleteBytesPerSecond",
+                    "PERSISTENCE_STORAGE_RETENTION_DELETE_BYTES_PER_SECOND"),
+            new ConfigMapping(
+                    "persistence.storage.groupCommitMaxBlocks",
+                    "PERSISTENCE_STORAGE_GROUP_COMMIT_MAX_BLOCKS"),
+            new ConfigMapping(
+                    "persistence.storage.groupCommitWindowMillis",
+                    "PERSISTENCE_STORAGE_GROUP_COMMIT_WINDOW_MILLIS"),
+            new ConfigMapping(
+                    "persistence.storage.compressionDictionaryRootPath",
+                    "PERSISTENCE_STORAGE_COMPRESSION_DICTIONARY_ROOT_PATH"),
+            new ConfigMapping(
+                    "persistence.storage.compressionDictionarySize",
+                    "PERSISTENCE_STORAGE_COMPRESSION_DICTIONARY_SIZE"),
+            new ConfigMapping(
+                    "persistence.storage.compressionDictionarySampleBlocks",
+                    "PERSISTENCE_STORAGE_COMPRESSION_DICTIONARY_SAMPLE_BLOCKS"),
 
             // Producer Config
             new ConfigMapping("producer.type", "PRODUCER_TYPE"),
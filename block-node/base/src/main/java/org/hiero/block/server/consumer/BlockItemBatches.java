@@ -0,0 +1,69 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.consumer;
+
+import com.hedera.hapi.block.BlockItemUnparsed;
+import com.hedera.hapi.block.BlockUnparsed;
+import com.hedera.pbj.runtime.ParseException;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import org.hiero.block.common.utils.ChunkUtils;
+import org.hiero.block.server.persistence.storage.read.BlockReader;
+import org.hiero.block.server.persistence.storage.read.EncodedBlock;
+import org.hiero.block.server.persistence.storage.read.EncodedBlockReader;
+
+/**
+ * BlockItemBatches is a Block read for a historic stream, split into the batches of items to send.
+ *
+ * @param batches the batches of items of the Block, in order
+ * @param sizeInBytes the size of the Block, in bytes
+ */
+record BlockItemBatches(@NonNull List<? extends List<BlockItemUnparsed>> batches, long sizeInBytes) {
+
+    /**
+     * Reads a Block and splits its items into batches of at most the given size. A Block read in
+     * its encoded form is split into {@link EncodedBlockItems}, which are parsed lazily and sent as
+     * they are stored.
+     *
+     * @param blockReader the block reader to read the Block from
+     * @param blockNumber the number of the Block to read
+     * @param maxBlockItemBatchSize the maximum number of items in a batch
+     * @return an optional of the batches of items, empty if the Block is not found
+     * @throws IOException if an error occurs while reading the Block
+     * @throws ParseException if an error occurs while parsing the Block
+     */
+    @NonNull
+    static Optional<BlockItemBatches> read(
+            @NonNull final BlockReader<BlockUnparsed> blockReader,
+            final long blockNumber,
+            final int maxBlockItemBatchSize)
+            throws IOException, ParseException {
+        if (blockReader instanceof EncodedBlockReader encodedBlockReader) {
+            final Optional<EncodedBlock> blockOpt = encodedBlockReader.readEncoded(blockNumber);
+            return blockOpt.map(block -> new BlockItemBatches(
+                    EncodedBlockItems.chunkify(block, maxBlockItemBatchSize),
+                    block.bytes().length()));
+        }
+        final Optional<BlockUnparsed> blockOpt = blockReader.read(blockNumber);
+        return blockOpt.map(block -> new BlockItemBatches(
+                ChunkUtils.chunkify(block.blockItems(), maxBlockItemBatchSize),
+                BlockUnparsed.PROTOBUF.measureRecord(block)));
+    }
+
+    /**
+     * Assembles the wire-encoded responses of the batches read in their encoded form, so they are
+     * ready to be sent when the Block is streamed.
+     *
+     * @return these batches
+     */
+    @NonNull
+    BlockItemBatches prepareEncodedResponses() {
+        for (final List<BlockItemUnparsed> batch : batches) {
+            if (batch instanceof EncodedBlockItems encodedBlockItems) {
+                encodedBlockItems.encodedResponse();
+            }
+        }
+        return this;
+    }
+}
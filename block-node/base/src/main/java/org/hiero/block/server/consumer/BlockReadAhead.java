@@ -0,0 +1,177 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.consumer;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.ToLongFunction;
+
+/**
+ * BlockReadAhead reads the blocks following the block being read ahead of time, on virtual
+ * threads, so a historic stream does not wait for the storage on every block.
+ *
+ * <p>The number of blocks read ahead is bounded both by a maximum number of blocks and by a budget
+ * of bytes, estimated from the average size of the blocks read so far. Within those bounds the
+ * depth adapts to the consumer: it grows while the consumer has to wait for the block it reads
+ * and shrinks while the blocks read ahead are ready before the consumer needs them.
+ *
+ * <p>Instances are not thread-safe and are meant to be used by the single thread streaming the
+ * blocks.
+ *
+ * @param <T> the type of the blocks read
+ */
+final class BlockReadAhead<T> implements AutoCloseable {
+
+    /**
+     * Fetches a block from the storage.
+     *
+     * @param <T> the type of the blocks fetched
+     */
+    @FunctionalInterface
+    interface BlockFetcher<T> {
+        /**
+         * Fetches the block with the given number.
+         *
+         * @param blockNumber the number of the block to fetch
+         * @return an optional of the block, empty if the block is not found
+         * @throws Exception if an error occurs while fetching the block
+         */
+        @NonNull
+        Optional<T> fetch(long blockNumber) throws Exception;
+    }
+
+    private static final ExecutorService READ_AHEAD_EXECUTOR = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("block-read-ahead-", 0).factory());
+
+    private final BlockFetcher<T> blockFetcher;
+    private final ToLongFunction<T> blockSize;
+    private final int maxBlocks;
+    private final long maxBytes;
+
+    // The blocks read ahead, in order, starting at nextBlockNumber
+    private final Deque<Future<Optional<T>>> readAhead = new ArrayDeque<>();
+    private long nextBlockNumber = -1;
+    private int depth = 1;
+    private long averageBlockSize;
+
+    /**
+     * Constructor.
+     *
+     * @param blockFetcher the fetcher reading the blocks from the storage
+     * @param blockSize the function estimating the size of a block, in bytes
+     * @param maxBlocks the maximum number of blocks to read ahead, zero to read every block
+     *     synchronously
+     * @param maxBytes the maximum number of bytes to read ahead
+     */
+    BlockReadAhead(
+            @NonNull final BlockFetcher<T> blockFetcher,
+            @NonNull final ToLongFunction<T> blockSize,
+            final int maxBlocks,
+            final long maxBytes) {
+        this.blockFetcher = Objects.requireNonNull(blockFetcher);
+        this.blockSize = Objects.requireNonNull(blockSize);
+        this.maxBlocks = maxBlocks;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Reads a block, reading the following blocks up to the given last block number ahead of
+     * time. Reading a block other than the one following the previously read block discards the
+     * blocks read ahead.
+     *
+     * @param blockNumber the number of the block to read
+     * @param lastBlockNumber the number of the last block that may be read ahead
+     * @return an optional of the block, empty if the block is not found
+     * @throws Exception if an error occurs while reading the block
+     */
+    @NonNull
+    Optional<T> read(final long blockNumber, final long lastBlockNumber) throws Exception {
+        if (blockNumber != nextBlockNumber) {
+            reset(blockNumber);
+        }
+        // The depth is only adapted on blocks read ahead, not on the block the read started from
+        final boolean readingAhead = !readAhead.isEmpty();
+        readAhead(lastBlockNumber);
+
+        final Future<Optional<T>> next = readAhead.pollFirst();
+        if (next != null && readingAhead) {
+            adaptDepth(next);
+        }
+        final Optional<T> blockOpt;
+        try {
+            blockOpt = next == null ? blockFetcher.fetch(blockNumber) : await(next);
+        } catch (final Exception e) {
+            reset(blockNumber);
+            throw e;
+        }
+
+        if (blockOpt.isEmpty()) {
+            // The blocks read ahead of a block not found are not to be trusted
+            reset(blockNumber);
+            return blockOpt;
+        }
+
+        nextBlockNumber = blockNumber + 1;
+        final long size = blockSize.applyAsLong(blockOpt.get());
+        averageBlockSize = averageBlockSize == 0 ? size : (averageBlockSize * 7 + size) / 8;
+        return blockOpt;
+    }
+
+    /**
+     * Discards the blocks read ahead.
+     */
+    @Override
+    public void close() {
+        reset(-1);
+    }
+
+    private void readAhead(final long lastBlockNumber) {
+        if (maxBlocks == 0) {
+            return;
+        }
+        // Until the size of the blocks is known, a single block is read ahead
+        final long blocksWithinBudget = averageBlockSize == 0 ? 1 : Math.max(1, maxBytes / averageBlockSize);
+        // The block being read and the blocks read ahead of it
+        final long window = 1 + Math.min(depth, blocksWithinBudget);
+        long blockNumber = nextBlockNumber + readAhead.size();
+        while (readAhead.size() < window && blockNumber <= lastBlockNumber) {
+            final long toFetch = blockNumber++;
+            readAhead.addLast(READ_AHEAD_EXECUTOR.submit(() -> blockFetcher.fetch(toFetch)));
+        }
+    }
+
+    private void adaptDepth(@NonNull final Future<Optional<T>> next) {
+        if (!next.isDone()) {
+            // The consumer is waiting for the storage, read further ahead
+            depth = Math.min(maxBlocks, depth * 2);
+        } else if (readAhead.isEmpty() || readAhead.peekLast().isDone()) {
+            // Every block read ahead is ready before it is needed, read less ahead
+            depth = Math.max(1, depth - 1);
+        }
+    }
+
+    private void reset(final long blockNumber) {
+        // The reads are not interrupted, as interrupting a read closes the channel it reads from
+        readAhead.forEach(future -> future.cancel(false));
+        readAhead.clear();
+        nextBlockNumber = blockNumber;
+    }
+
+    @NonNull
+    private Optional<T> await(@NonNull final Future<Optional<T>> future) throws Exception {
+        try {
+            return future.get();
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -11,16 +11,36 @@ import org.hiero.block.server.config.logging.Loggable;
  *
  * @param timeoutThresholdMillis after this time of inactivity, the consumer will be considered
  *     timed out and will be disconnected
+ * @param waitMode how an open-range consumer waits for new data when none is available
+ * @param waitSpinIterations the number of times a consumer busy-spins for new data before parking
+ * @param waitMaxParkMillis the maximum time a consumer parks waiting for new data before
+ *     re-checking the producer liveness
+ * @param maxCoalescedResponseBytes the byte budget for coalescing the live batches available to a
+ *     consumer into a single response
+ * @param readAheadMaxBlocks the maximum number of blocks a historic stream reads ahead of the block
+ *     being sent, 0 disables reading ahead
+ * @param readAheadMaxBytes the byte budget for the blocks a historic stream reads ahead
  */
 @ConfigData("consumer")
 public record ConsumerConfig(
         @Loggable @ConfigProperty(defaultValue = "1500") int timeoutThresholdMillis,
         @Loggable @ConfigProperty(defaultValue = "3") int cueHistoricStreamingPaddingBlocks,
-        @Loggable @ConfigProperty(defaultValue = "1000") int maxBlockItemBatchSize) {
+        @Loggable @ConfigProperty(defaultValue = "1000") int maxBlockItemBatchSize,
+        @Loggable @ConfigProperty(defaultValue = "SIGNALLED") WaitMode waitMode,
+        @Loggable @ConfigProperty(defaultValue = "100") int waitSpinIterations,
+        @Loggable @ConfigProperty(defaultValue = "100") int waitMaxParkMillis,
+        @Loggable @ConfigProperty(defaultValue = "1048576") int maxCoalescedResponseBytes,
+        @Loggable @ConfigProperty(defaultValue = "16") int readAheadMaxBlocks,
+        @Loggable @ConfigProperty(defaultValue = "67108864") int readAheadMaxBytes) {
 
     static final int minTimeoutThresholdMillis = 1;
     static final int minMaxBlockItemBatchSize = 1;
     static final int minCueHistoricStreamingPaddingBlocks = 1;
+    static final int minWaitSpinIterations = 0;
+    static final int minWaitMaxParkMillis = 1;
+    static final int minMaxCoalescedResponseBytes = 1;
+    static final int minReadAheadMaxBlocks = 0;
+    static final int minReadAheadMaxBytes = 1;
 
     /**
      * Validate the configuration.
@@ -31,5 +51,20 @@ public record ConsumerConfig(
         Preconditions.requireGreaterOrEqual(timeoutThresholdMillis, minTimeoutThresholdMillis);
         Preconditions.requireGreaterOrEqual(maxBlockItemBatchSize, minMaxBlockItemBatchSize);
         Preconditions.requireGreaterOrEqual(cueHistoricStreamingPaddingBlocks, minCueHistoricStreamingPaddingBlocks);
+        Preconditions.requireGreaterOrEqual(waitSpinIterations, minWaitSpinIterations);
+        Preconditions.requireGreaterOrEqual(waitMaxParkMillis, minWaitMaxParkMillis);
+        Preconditions.requireGreaterOrEqual(maxCoalescedResponseBytes, minMaxCoalescedResponseBytes);
+        Preconditions.requireGreaterOrEqual(readAheadMaxBlocks, minReadAheadMaxBlocks);
+        Preconditions.requireGreaterOrEqual(readAheadMaxBytes, minReadAheadMaxBytes);
+    }
+
+    /**
+     * The way an open-range consumer waits for new data - SIGNALLED or POLLING.
+     */
+    public enum WaitMode {
+        /** Spin, then park until the live stream or the acked block signals new data. */
+        SIGNALLED,
+        /** Park for a fixed interval between each check for new data. */
+        POLLING,
     }
 }
@@ -66,7 +66,7 @@ public final class ConsumerStreamBuilder {
             @NonNull final ConsumerConfig consumerConfig) {
 
         final HistoricDataPoller<List<BlockItemUnparsed>> historicDataPoller =
-                new HistoricDataPollerImpl(blockReader, metricsService, consumerConfig);
+                new HistoricDataPollerImpl(blockReader, serviceStatus, metricsService, consumerConfig);
 
         final ConsumerStreamResponseObserver consumerStreamResponseObserver =
                 new ConsumerStreamResponseObserver(helidonConsumerObserver, metricsService);
@@ -12,10 +12,15 @@ import com.hedera.hapi.block.SubscribeStreamResponseUnparsed;
 import com.hedera.hapi.block.stream.output.BlockHeader;
 import com.hedera.pbj.runtime.ParseException;
 import com.hedera.pbj.runtime.grpc.Pipeline;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
+import org.hiero.block.server.block.BlockItemBatchMetadata;
+import org.hiero.block.server.events.ObjectEvent;
+import org.hiero.block.server.mediator.LiveStreamEvent;
 import org.hiero.block.server.metrics.MetricsService;
 
 /**
@@ -27,6 +32,7 @@ public class ConsumerStreamResponseObserver {
 
     private final MetricsService metricsService;
     private final Pipeline<? super SubscribeStreamResponseUnparsed> helidonConsumerObserver;
+    private final SubscribeStreamResponsePipeline encodedResponseObserver;
 
     private final AtomicBoolean streamStarted = new AtomicBoolean(false);
 
@@ -42,6 +48,12 @@ public class ConsumerStreamResponseObserver {
 
         this.metricsService = Objects.requireNonNull(metricsService);
         this.helidonConsumerObserver = helidonConsumerObserver;
+
+        // Responses encoded once by the live stream can only be passed
+        // through when Helidon accepts the wire-encoded bytes directly.
+        this.encodedResponseObserver = (helidonConsumerObserver instanceof SubscribeStreamResponsePipeline pipeline)
+                ? pipeline
+                : null;
     }
 
     /**
@@ -59,27 +71,93 @@ public class ConsumerStreamResponseObserver {
     }
 
     /**
-     * Use this method to send a list of BlockItems to the downstream client.
+     * Use this method to send a list of BlockItems to the downstream client. When the BlockItems
+     * were read from storage in their encoded form, the response is spliced from those bytes
+     * instead of encoding the BlockItems again.
      *
      * @param blockItems the list of BlockItems to send
      * @throws ParseException if there is an error parsing the BlockItems
      */
     public void send(@NonNull final List<BlockItemUnparsed> blockItems) throws ParseException {
 
-        // Only start sending BlockItems after we've reached
-        // the beginning of a block.
-        final BlockItemUnparsed firstBlockItem = blockItems.getFirst();
-        if (!streamStarted.get() && firstBlockItem.hasBlockHeader()) {
-            streamStarted.set(true);
+        if (encodedResponseObserver != null && blockItems instanceof EncodedBlockItems encodedBlockItems) {
+            if (isStreamStarted(blockItems)) {
+                encodedResponseObserver.onNextEncoded(encodedBlockItems.encodedResponse());
+            }
+        } else if (isStreamStarted(blockItems)) {
+            // Build the response
+            final SubscribeStreamResponseUnparsed subscribeStreamResponse = SubscribeStreamResponseUnparsed.newBuilder()
+                    .blockItems(BlockItemSetUnparsed.newBuilder()
+                            .blockItems(blockItems)
+                            .build())
+                    .build();
+
+            // Send the response to the client via Helidon
+            helidonConsumerObserver.onNext(subscribeStreamResponse);
         }
+    }
 
-        if (streamStarted.get()) {
-            if (firstBlockItem.hasBlockHeader()) {
-                reportFirstBlock(firstBlockItem);
+    /**
+     * Use this method to send the list of BlockItems held by a live stream event to the downstream
+     * client. When the event carries a response already encoded for all consumers, those bytes are
+     * sent as-is instead of building and encoding a new response for this client.
+     *
+     * @param event the live stream event holding the list of BlockItems to send
+     * @throws ParseException if there is an error parsing the BlockItems
+     */
+    public void send(@NonNull final ObjectEvent<List<BlockItemUnparsed>> event) throws ParseException {
+
+        if (encodedResponseObserver == null || !(event instanceof LiveStreamEvent liveStreamEvent)) {
+            send(event.get());
+            return;
+        }
+
+        if (isStreamStarted(liveStreamEvent)) {
+            // Send the shared encoded response to the client via Helidon
+            encodedResponseObserver.onNextEncoded(liveStreamEvent.encodedResponse());
+        }
+    }
+
+    /**
+     * Use this method to send the lists of BlockItems held by several live stream events to the
+     * downstream client as a single response. A single event is sent as-is, so it keeps using the
+     * response already encoded for all consumers. Several events are coalesced by splicing the
+     * responses shared by all consumers, without building or encoding the BlockItems again.
+     *
+     * @param events the live stream events holding the lists of BlockItems to send, in order
+     * @throws ParseException if there is an error parsing the BlockItems
+     */
+    public void sendCoalesced(@NonNull final List<ObjectEvent<List<BlockItemUnparsed>>> events)
+            throws ParseException {
+
+        if (events.size() == 1) {
+            send(events.getFirst());
+            return;
+        }
+
+        if (encodedResponseObserver != null) {
+            final List<Bytes> encodedResponses = new ArrayList<>(events.size());
+            for (final ObjectEvent<List<BlockItemUnparsed>> event : events) {
+                if (isStreamStarted(event)) {
+                    encodedResponses.add(LiveStreamEvent.encodedResponseOf(event));
+                }
             }
 
-            metricsService.get(LiveBlockItemsConsumed).add(blockItems.size());
+            if (!encodedResponses.isEmpty()) {
+                // Send the spliced response to the client via Helidon
+                encodedResponseObserver.onNextEncoded(EncodedBlockItems.coalesce(encodedResponses));
+            }
+            return;
+        }
+
+        final List<BlockItemUnparsed> blockItems = new ArrayList<>();
+        for (final ObjectEvent<List<BlockItemUnparsed>> event : events) {
+            if (isStreamStarted(event)) {
+                blockItems.addAll(event.get());
+            }
+        }
 
+        if (!blockItems.isEmpty()) {
             // Build the response
             final SubscribeStreamResponseUnparsed subscribeStreamResponse = SubscribeStreamResponseUnparsed.newBuilder()
                     .blockItems(BlockItemSetUnparsed.newBuilder()
@@ -92,9 +170,45 @@ public class ConsumerStreamResponseObserver {
         }
     }
 
-    private void reportFirstBlock(final BlockItemUnparsed firstBlockItem) throws ParseException {
-        long blockNumber =
-                BlockHeader.PROTOBUF.parse(firstBlockItem.blockHeader()).number();
+    private boolean isStreamStarted(@NonNull final ObjectEvent<List<BlockItemUnparsed>> event) throws ParseException {
+        // Live stream events carry the block number parsed when the batch was received
+        final BlockItemBatchMetadata metadata =
+                (event instanceof LiveStreamEvent liveStreamEvent) ? liveStreamEvent.metadata() : null;
+        return isStreamStarted(event.get(), metadata);
+    }
+
+    private boolean isStreamStarted(@NonNull final List<BlockItemUnparsed> blockItems) throws ParseException {
+        return isStreamStarted(blockItems, null);
+    }
+
+    private boolean isStreamStarted(
+            @NonNull final List<BlockItemUnparsed> blockItems, final BlockItemBatchMetadata metadata)
+            throws ParseException {
+
+        // Only start sending BlockItems after we've reached
+        // the beginning of a block.
+        final BlockItemUnparsed firstBlockItem = blockItems.getFirst();
+        if (!streamStarted.get() && firstBlockItem.hasBlockHeader()) {
+            streamStarted.set(true);
+        }
+
+        if (streamStarted.get()) {
+            if (firstBlockItem.hasBlockHeader()) {
+                reportFirstBlock(firstBlockItem, metadata);
+            }
+
+            metricsService.get(LiveBlockItemsConsumed).add(blockItems.size());
+            return true;
+        }
+
+        return false;
+    }
+
+    private void reportFirstBlock(final BlockItemUnparsed firstBlockItem, final BlockItemBatchMetadata metadata)
+            throws ParseException {
+        final long blockNumber = (metadata != null)
+                ? metadata.blockNumber()
+                : BlockHeader.PROTOBUF.parse(firstBlockItem.blockHeader()).number();
         if (LOGGER.isLoggable(TRACE)) {
             LOGGER.log(TRACE, "{0} sending block: {1}", Thread.currentThread(), blockNumber);
         }
@@ -0,0 +1,115 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.consumer;
+
+import com.hedera.hapi.block.BlockItemSetUnparsed;
+import com.hedera.hapi.block.BlockItemUnparsed;
+import com.hedera.hapi.block.SubscribeStreamResponseUnparsed;
+import com.hedera.pbj.runtime.ParseException;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import org.hiero.block.server.persistence.storage.read.EncodedBlock;
+
+/**
+ * EncodedBlockItems is a batch of consecutive items of a Block read in its encoded form. The items
+ * are parsed lazily, one at a time, only when accessed, and the SubscribeStreamResponse for the
+ * batch is spliced from the stored bytes of the items instead of encoding the parsed items again.
+ */
+final class EncodedBlockItems extends AbstractList<BlockItemUnparsed> implements RandomAccess {
+
+    // A SubscribeStreamResponse holding an empty set of block items
+    private static final Bytes EMPTY_BLOCK_ITEMS_RESPONSE = SubscribeStreamResponseUnparsed.PROTOBUF.toBytes(
+            SubscribeStreamResponseUnparsed.newBuilder()
+                    .blockItems(BlockItemSetUnparsed.DEFAULT)
+                    .build());
+
+    private final EncodedBlock block;
+    private final int fromIndex;
+    private final BlockItemUnparsed[] parsedItems;
+    private Bytes encodedResponse;
+
+    private EncodedBlockItems(@NonNull final EncodedBlock block, final int fromIndex, final int toIndex) {
+        this.block = block;
+        this.fromIndex = fromIndex;
+        this.parsedItems = new BlockItemUnparsed[toIndex - fromIndex];
+    }
+
+    /**
+     * Splits the items of an encoded Block into batches of at most the given size.
+     *
+     * @param block the encoded Block
+     * @param maxBatchSize the maximum number of items in a batch
+     * @return the batches of items, in order
+     */
+    @NonNull
+    static List<EncodedBlockItems> chunkify(@NonNull final EncodedBlock block, final int maxBatchSize) {
+        Objects.requireNonNull(block);
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be greater than 0");
+        }
+        final int itemCount = block.itemCount();
+        final List<EncodedBlockItems> batches = new ArrayList<>((itemCount + maxBatchSize - 1) / maxBatchSize);
+        for (int fromIndex = 0; fromIndex < itemCount; fromIndex += maxBatchSize) {
+            batches.add(new EncodedBlockItems(block, fromIndex, Math.min(itemCount, fromIndex + maxBatchSize)));
+        }
+        return batches;
+    }
+
+    /**
+     * Gets the batch of items wrapped in a SubscribeStreamResponse and encoded in the protobuf
+     * wire format, assembled from the stored bytes of the items. The response is assembled once,
+     * on the first call.
+     *
+     * @return the wire-encoded SubscribeStreamResponse for the batch of items
+     */
+    @NonNull
+    Bytes encodedResponse() {
+        if (encodedResponse == null) {
+            encodedResponse = EncodedBlock.withLastField(
+                    EMPTY_BLOCK_ITEMS_RESPONSE, block.items(fromIndex, fromIndex + parsedItems.length));
+        }
+        return encodedResponse;
+    }
+
+    /**
+     * Coalesces several wire-encoded SubscribeStreamResponses of block items into a single
+     * response. The set of block items of a response is encoded as repeated item fields, so the
+     * sets are concatenated as they are, once the prefix of every response is stripped.
+     *
+     * @param encodedResponses the wire-encoded SubscribeStreamResponses of block items, in order
+     * @return the wire-encoded SubscribeStreamResponse holding all their block items
+     * @throws ParseException if a response is not a SubscribeStreamResponse of block items
+     */
+    @NonNull
+    static Bytes coalesce(@NonNull final List<Bytes> encodedResponses) throws ParseException {
+        final List<Bytes> blockItemSets = new ArrayList<>(encodedResponses.size());
+        for (final Bytes encodedResponse : encodedResponses) {
+            blockItemSets.add(EncodedBlock.lastField(EMPTY_BLOCK_ITEMS_RESPONSE, encodedResponse));
+        }
+        return EncodedBlock.withLastField(EMPTY_BLOCK_ITEMS_RESPONSE, blockItemSets);
+    }
+
+    @Override
+    public BlockItemUnparsed get(final int index) {
+        Objects.checkIndex(index, parsedItems.length);
+        BlockItemUnparsed item = parsedItems[index];
+        if (item == null) {
+            try {
+                item = block.item(fromIndex + index);
+            } catch (final ParseException e) {
+                throw new IllegalStateException("Failed to parse block item [%d]".formatted(fromIndex + index), e);
+            }
+            parsedItems[index] = item;
+        }
+        return item;
+    }
+
+    @Override
+    public int size() {
+        return parsedItems.length;
+    }
+}
@@ -15,12 +15,13 @@ import edu.umd.cs.findbugs.annotations.NonNull;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import org.hiero.block.common.utils.ChunkUtils;
 import org.hiero.block.server.metrics.MetricsService;
 import org.hiero.block.server.persistence.storage.read.BlockReader;
+import org.hiero.block.server.persistence.storage.read.EncodedBlockReader;
 
 /**
- * Use this supplier to send historic blocks to the consumer.
+ * Use this supplier to send historic blocks to the consumer. The blocks following the block being
+ * sent are read ahead concurrently and are sent strictly in order.
  */
 class HistoricBlockStreamSupplier implements Runnable {
 
@@ -28,9 +29,9 @@ class HistoricBlockStreamSupplier implements Runnable {
 
     private final long startBlockNumber;
     private final long endBlockNumber;
-    private final BlockReader<BlockUnparsed> blockReader;
-    private final int maxBlockItemBatchSize;
+    private final BlockReadAhead<BlockItemBatches> blockReadAhead;
     private final Pipeline<? super SubscribeStreamResponseUnparsed> helidonConsumerObserver;
+    private final SubscribeStreamResponsePipeline encodedResponseObserver;
     private final MetricsService metricsService;
 
     /**
@@ -52,11 +53,33 @@ class HistoricBlockStreamSupplier implements Runnable {
             @NonNull final ConsumerConfig consumerConfig) {
         this.startBlockNumber = startBlockNumber;
         this.endBlockNumber = endBlockNumber;
-        this.blockReader = Objects.requireNonNull(blockReader);
+        Objects.requireNonNull(blockReader);
 
         this.metricsService = Objects.requireNonNull(metricsService);
-        this.maxBlockItemBatchSize = consumerConfig.maxBlockItemBatchSize();
         this.helidonConsumerObserver = Objects.requireNonNull(helidonConsumerObserver);
+
+        // Blocks can only be passed through in their stored encoding when the
+        // reader provides it and Helidon accepts the wire-encoded bytes directly.
+        this.encodedResponseObserver = (blockReader instanceof EncodedBlockReader
+                        && helidonConsumerObserver instanceof SubscribeStreamResponsePipeline pipeline)
+                ? pipeline
+                : null;
+
+        // The blocks of the window are read, decoded and, when passed through,
+        // assembled into their responses concurrently. Sending to Helidon blocks
+        // while the client is not reading, which stops the window from advancing,
+        // so the blocks held are bounded by the window.
+        final int maxBlockItemBatchSize = consumerConfig.maxBlockItemBatchSize();
+        final boolean prepareEncodedResponses = encodedResponseObserver != null;
+        this.blockReadAhead = new BlockReadAhead<>(
+                blockNumber -> {
+                    final Optional<BlockItemBatches> blockOpt =
+                            BlockItemBatches.read(blockReader, blockNumber, maxBlockItemBatchSize);
+                    return prepareEncodedResponses ? blockOpt.map(BlockItemBatches::prepareEncodedResponses) : blockOpt;
+                },
+                BlockItemBatches::sizeInBytes,
+                consumerConfig.readAheadMaxBlocks(),
+                consumerConfig.readAheadMaxBytes());
     }
 
     /**
@@ -64,17 +87,19 @@ class HistoricBlockStreamSupplier implements Runnable {
      */
     @Override
     public void run() {
-        for (long i = startBlockNumber; i <= endBlockNumber; i++) {
-            try {
-                if (!send(i)) {
-                    LOGGER.log(ERROR, "Block was not found: " + i);
+        try (blockReadAhead) {
+            for (long i = startBlockNumber; i <= endBlockNumber; i++) {
+                try {
+                    if (!send(i)) {
+                        LOGGER.log(ERROR, "Block was not found: " + i);
+                        sendReadStreamNotAvailable();
+                        return;
+                    }
+                } catch (Exception e) {
+                    LOGGER.log(ERROR, "Exception thrown attempting to send blocks: " + e.getMessage(), e);
                     sendReadStreamNotAvailable();
                     return;
                 }
-            } catch (Exception e) {
-                LOGGER.log(ERROR, "Exception thrown attempting to send blocks: " + e.getMessage(), e);
-                sendReadStreamNotAvailable();
-                return;
             }
         }
 
@@ -85,21 +110,25 @@ class HistoricBlockStreamSupplier implements Runnable {
 
     private boolean send(final long currentIndex) throws Exception {
 
-        final Optional<BlockUnparsed> blockOpt = blockReader.read(currentIndex);
-        if (blockOpt.isPresent()) {
-            metricsService.get(ClosedRangeHistoricBlocksRetrieved).increment();
-            List<List<BlockItemUnparsed>> blockItems =
-                    ChunkUtils.chunkify(blockOpt.get().blockItems(), maxBlockItemBatchSize);
-            sendInBatches(blockItems);
-        } else {
+        // The blocks of the range following the current block are read ahead
+        final Optional<BlockItemBatches> blockOpt = blockReadAhead.read(currentIndex, endBlockNumber);
+        if (blockOpt.isEmpty()) {
             return false;
         }
 
+        metricsService.get(ClosedRangeHistoricBlocksRetrieved).increment();
+        sendInBatches(blockOpt.get().batches());
         return true;
     }
 
-    void sendInBatches(final List<List<BlockItemUnparsed>> blockItems) {
+    void sendInBatches(final List<? extends List<BlockItemUnparsed>> blockItems) {
         for (List<BlockItemUnparsed> blockItemsBatch : blockItems) {
+            if (encodedResponseObserver != null && blockItemsBatch instanceof EncodedBlockItems encodedBlockItems) {
+                // Splice the response from the stored bytes of the batch
+                encodedResponseObserver.onNextEncoded(encodedBlockItems.encodedResponse());
+                continue;
+            }
+
             // Prepare the response
             final var subscribeStreamResponse = SubscribeStreamResponseUnparsed.newBuilder()
                     .blockItems(BlockItemSetUnparsed.newBuilder()
@@ -23,4 +23,15 @@ public interface HistoricDataPoller<V> {
      * @throws Exception if an error occurs
      */
     Optional<V> poll() throws Exception;
+
+    /**
+     * Waits until new historic data is available to poll or the timeout elapses.
+     *
+     * @param spinIterations the number of times to busy-spin before parking the calling thread
+     * @param timeoutNanos the maximum time to wait in nanoseconds
+     * @return the wakeup latency in nanoseconds, or {@link
+     *     org.hiero.block.server.events.DataAvailableSignal#NOT_AVAILABLE} if no data became
+     *     available before the timeout
+     */
+    long awaitData(int spinIterations, long timeoutNanos);
 }
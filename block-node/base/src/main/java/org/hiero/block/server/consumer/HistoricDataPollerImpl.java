@@ -13,9 +13,10 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.concurrent.atomic.AtomicLong;
-import org.hiero.block.common.utils.ChunkUtils;
+import org.hiero.block.server.block.BlockInfo;
 import org.hiero.block.server.metrics.MetricsService;
 import org.hiero.block.server.persistence.storage.read.BlockReader;
+import org.hiero.block.server.service.ServiceStatus;
 
 /**
  * HistoricDataPollerImpl is responsible for polling historic data from the block reader.
@@ -25,20 +26,28 @@ public class HistoricDataPollerImpl implements HistoricDataPoller<List<BlockItem
 
     private final AtomicLong currentIndex = new AtomicLong(0);
 
-    private final BlockReader<BlockUnparsed> blockReader;
+    private final ServiceStatus serviceStatus;
     private final MetricsService metricsService;
-    private final int maxBlockItemBatchSize;
+    private final BlockReadAhead<BlockItemBatches> blockReadAhead;
 
     private final Queue<List<BlockItemUnparsed>> blockItemBatches = new LinkedList<>();
 
     public HistoricDataPollerImpl(
             @NonNull final BlockReader<BlockUnparsed> blockReader,
+            @NonNull final ServiceStatus serviceStatus,
             @NonNull final MetricsService metricsService,
             @NonNull final ConsumerConfig consumerConfig) {
 
-        this.blockReader = Objects.requireNonNull(blockReader);
+        Objects.requireNonNull(blockReader);
+        this.serviceStatus = Objects.requireNonNull(serviceStatus);
         this.metricsService = Objects.requireNonNull(metricsService);
-        this.maxBlockItemBatchSize = consumerConfig.maxBlockItemBatchSize();
+
+        final int maxBlockItemBatchSize = consumerConfig.maxBlockItemBatchSize();
+        this.blockReadAhead = new BlockReadAhead<>(
+                blockNumber -> BlockItemBatches.read(blockReader, blockNumber, maxBlockItemBatchSize),
+                BlockItemBatches::sizeInBytes,
+                consumerConfig.readAheadMaxBlocks(),
+                consumerConfig.readAheadMaxBytes());
     }
 
     /**
@@ -50,6 +59,7 @@ public class HistoricDataPollerImpl implements HistoricDataPoller<List<BlockItem
     public void init(long blockNumber) {
         currentIndex.set(blockNumber);
         blockItemBatches.clear();
+        blockReadAhead.close();
     }
 
     /**
@@ -75,13 +85,32 @@ public class HistoricDataPollerImpl implements HistoricDataPoller<List<BlockItem
         return Optional.of(batch);
     }
 
+    /**
+     * Waits until the next block to poll has been acked and can be read from the block reader.
+     *
+     * @param spinIterations the number of times to busy-spin before parking the calling thread
+     * @param timeoutNanos the maximum time to wait in nanoseconds
+     * @return the wakeup latency in nanoseconds, or -1 if the block was not acked before the
+     *     timeout
+     */
+    @Override
+    public long awaitData(final int spinIterations, final long timeoutNanos) {
+        if (!blockItemBatches.isEmpty()) {
+            return 0L;
+        }
+
+        return serviceStatus.awaitLatestAckedBlock(currentIndex.get(), spinIterations, timeoutNanos);
+    }
+
     private void fetchData() throws Exception {
         LOGGER.log(TRACE, "Fetching historic data for block number: {0}", currentIndex.get());
-        final Optional<BlockUnparsed> blockOpt = blockReader.read(currentIndex.get());
-        if (blockOpt.isPresent()) {
+        // Only the blocks acked so far are read ahead
+        final BlockInfo latestAckedBlock = serviceStatus.getLatestAckedBlock();
+        final long lastBlockNumber = latestAckedBlock == null ? -1L : latestAckedBlock.getBlockNumber();
+        final Optional<BlockItemBatches> blockItemsOpt = blockReadAhead.read(currentIndex.get(), lastBlockNumber);
+        if (blockItemsOpt.isPresent()) {
+            final List<? extends List<BlockItemUnparsed>> blockItems = blockItemsOpt.get().batches();
             metricsService.get(ClosedRangeHistoricBlocksRetrieved).increment();
-            List<List<BlockItemUnparsed>> blockItems =
-                    ChunkUtils.chunkify(blockOpt.get().blockItems(), maxBlockItemBatchSize);
             LOGGER.log(
                     TRACE, "Found {0} block item batches for block number: {1}", blockItems.size(), currentIndex.get());
             blockItemBatches.addAll(blockItems);
@@ -4,8 +4,11 @@ package org.hiero.block.server.consumer;
 import static java.lang.System.Logger.Level.DEBUG;
 import static java.lang.System.Logger.Level.ERROR;
 import static java.lang.System.Logger.Level.TRACE;
+import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.ConsumerWakeups;
 import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.HistoricToLiveStreamTransitions;
+import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.LiveToHistoricStreamTransitions;
 import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.OutboundStreamingError;
+import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Gauge.ConsumerWakeupLatency;
 
 import com.hedera.hapi.block.BlockItemUnparsed;
 import com.hedera.hapi.block.SubscribeStreamRequest;
@@ -15,15 +18,20 @@ import com.hedera.pbj.runtime.ParseException;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.UncheckedIOException;
 import java.time.InstantSource;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.LockSupport;
+import org.hiero.block.server.block.BlockItemBatchMetadata;
+import org.hiero.block.server.events.DataAvailableSignal;
 import org.hiero.block.server.events.LivenessCalculator;
 import org.hiero.block.server.events.ObjectEvent;
+import org.hiero.block.server.mediator.LiveStreamEvent;
 import org.hiero.block.server.mediator.Poller;
 import org.hiero.block.server.mediator.SubscriptionHandler;
 import org.hiero.block.server.metrics.MetricsService;
@@ -32,13 +40,17 @@ import org.hiero.block.server.service.ServiceStatus;
 /**
  * The OpenRangeStreamManager class is responsible for managing the state transitions between
  * live-streaming and historic-streaming for open-range requests. The class is designed
- * to be used in a busy-wait loop to continuously produce block item batches for a downstream
- * client.
+ * to be used in a loop to continuously produce block item batches for a downstream
+ * client. When no data is available, the manager waits for the live stream or the historic
+ * data source to signal new data, as configured by {@link ConsumerConfig#waitMode()}.
  */
 public class OpenRangeStreamManager implements StreamManager {
 
     private final System.Logger LOGGER = System.getLogger(getClass().getName());
 
+    // The fixed park interval of the POLLING wait mode
+    private static final long POLLING_PARK_NANOS = 500_000L;
+
     private final State initialState;
     private State currentState;
 
@@ -48,8 +60,31 @@ public class OpenRangeStreamManager implements StreamManager {
 
     private final AtomicBoolean isLiveStreamInitialized = new AtomicBoolean(false);
 
-    // @todo(#750) - Commented out first pass. Need to revisit.
-    //    private final int cueHistoricStreamingPaddingBlocks;
+    private final ConsumerConfig.WaitMode waitMode;
+    private final int waitSpinIterations;
+    private final long waitMaxParkNanos;
+    private boolean dataPolled;
+    private boolean idleAfterWakeup;
+
+    // Set once the live stream fell back to historic streaming, after which
+    // returning to the live stream must always be cued on a block boundary.
+    private boolean historicFallback;
+    private boolean liveBlockCompleted;
+
+    // The items of the live block being sent which the client already received,
+    // and its number if the live batches carry it. After an overrun, the block is
+    // streamed again from history without the items already sent.
+    private long partialBlockItemsSent;
+    private long partialBlockNumber = BlockItemBatchMetadata.UNKNOWN_BLOCK_NUMBER;
+    private long historicItemsToSkip;
+
+    private final int cueHistoricStreamingPaddingBlocks;
+
+    private final long maxCoalescedResponseBytes;
+
+    // A live batch held back from a coalesced response which would
+    // otherwise exceed the byte budget. It is the next batch to send.
+    private ObjectEvent<List<BlockItemUnparsed>> pendingLiveEvent;
 
     private final LivenessCalculator livenessCalculator;
     private final HistoricDataPoller<List<BlockItemUnparsed>> historicDataPoller;
@@ -60,9 +95,6 @@ public class OpenRangeStreamManager implements StreamManager {
     private final ServiceStatus serviceStatus;
     private final MetricsService metricsService;
 
-    // @todo(#750) - Commented out first pass. Need to revisit.
-    //    private final Configuration configuration;
-
     public OpenRangeStreamManager(
             @NonNull final InstantSource producerLivenessClock,
             @NonNull final SubscribeStreamRequest subscribeStreamRequest,
@@ -79,6 +111,12 @@ public class OpenRangeStreamManager implements StreamManager {
         this.currentLiveBlockNumber = new AtomicLong(0);
         this.currentHistoricBlockNumber = new AtomicLong(subscribeStreamRequest.startBlockNumber());
 
+        this.waitMode = consumerConfig.waitMode();
+        this.waitSpinIterations = consumerConfig.waitSpinIterations();
+        this.waitMaxParkNanos = TimeUnit.MILLISECONDS.toNanos(consumerConfig.waitMaxParkMillis());
+        this.cueHistoricStreamingPaddingBlocks = consumerConfig.cueHistoricStreamingPaddingBlocks();
+        this.maxCoalescedResponseBytes = consumerConfig.maxCoalescedResponseBytes();
+
         this.subscriptionHandler = Objects.requireNonNull(subscriptionHandler);
         this.historicDataPoller = Objects.requireNonNull(historicDataPoller);
         this.consumerStreamResponseObserver = Objects.requireNonNull(consumerStreamResponseObserver);
@@ -88,11 +126,6 @@ public class OpenRangeStreamManager implements StreamManager {
         // Assign a unique instance id to the manager for troubleshooting
         this.managerId = UUID.randomUUID().toString();
 
-        // @todo(#750) - Commented out first pass. Need to revisit.
-        //        this.configuration = Objects.requireNonNull(configuration);
-        //        this.cueHistoricStreamingPaddingBlocks =
-        //                configuration.getConfigData(ConsumerConfig.class).cueHistoricStreamingPaddingBlocks();
-
         // Pick the state machine entrypoint based on the start block number
         currentState = (subscribeStreamRequest.startBlockNumber() == 0) ? State.INIT_LIVE : State.INIT_HISTORIC;
         initialState = currentState;
@@ -100,7 +133,8 @@ public class OpenRangeStreamManager implements StreamManager {
 
     /**
      * The execute method is the main entrypoint for the state machine. It is designed to be used in a
-     * busy-wait loop to continuously produce block item batches for a downstream client.
+     * loop to continuously produce block item batches for a downstream client. If an invocation
+     * neither polls data nor changes state, it waits for new data before returning.
      *
      * @return true if the stream should continue producing block item batches, false otherwise
      */
@@ -120,13 +154,18 @@ public class OpenRangeStreamManager implements StreamManager {
                 LOGGER.log(DEBUG, "Producer liveness timeout. Unsubscribed from the live stream.");
                 return false;
             } else {
+                final State previousState = currentState;
+                dataPolled = false;
                 this.currentState = currentState.execute(this);
-            }
 
-            // Inside the busy-wait loop, we
-            // need to wait to avoid consuming
-            // the whole CPU
-            LockSupport.parkNanos(500_000L);
+                // Only wait when nothing was polled,
+                // otherwise loop straight back for more data
+                if (!dataPolled && currentState == previousState) {
+                    awaitData();
+                } else {
+                    idleAfterWakeup = false;
+                }
+            }
 
             // For open-range, always return true
             // to keep the stream producing block item
@@ -160,6 +199,34 @@ public class OpenRangeStreamManager implements StreamManager {
         }
     }
 
+    private void awaitData() {
+        // A wakeup which still found nothing to poll falls back to the polling
+        // interval so a condition that stays true cannot spin the thread.
+        if (waitMode == ConsumerConfig.WaitMode.POLLING || idleAfterWakeup) {
+            idleAfterWakeup = false;
+            LockSupport.parkNanos(POLLING_PARK_NANOS);
+            return;
+        }
+
+        final long wakeupLatencyNanos =
+                switch (currentState) {
+                    case CUE_HISTORIC_STREAMING -> serviceStatus.awaitLatestAckedBlock(
+                            currentHistoricBlockNumber.get() + cueHistoricStreamingPaddingBlocks,
+                            waitSpinIterations,
+                            waitMaxParkNanos);
+                    case HISTORIC_STREAMING -> historicDataPoller.awaitData(waitSpinIterations, waitMaxParkNanos);
+                    case CUE_LIVE_STREAMING, LIVE_STREAMING, DRAIN_LIVE_STREAMING -> liveStreamingDataPoller.awaitData(
+                            waitSpinIterations, waitMaxParkNanos);
+                    default -> DataAvailableSignal.NOT_AVAILABLE;
+                };
+
+        if (wakeupLatencyNanos != DataAvailableSignal.NOT_AVAILABLE) {
+            idleAfterWakeup = true;
+            metricsService.get(ConsumerWakeups).increment();
+            metricsService.get(ConsumerWakeupLatency).set(TimeUnit.NANOSECONDS.toMicros(wakeupLatencyNanos));
+        }
+    }
+
     private void cleanUpLiveStream() {
         // Unsubscribe from the live stream
         isLiveStreamInitialized.set(false);
@@ -169,6 +236,18 @@ public class OpenRangeStreamManager implements StreamManager {
         }
 
         liveStreamingDataPoller = null;
+        pendingLiveEvent = null;
+    }
+
+    @NonNull
+    private Optional<ObjectEvent<List<BlockItemUnparsed>>> pollLiveData() throws Exception {
+        if (pendingLiveEvent != null) {
+            final ObjectEvent<List<BlockItemUnparsed>> liveEvent = pendingLiveEvent;
+            pendingLiveEvent = null;
+            return Optional.of(liveEvent);
+        }
+
+        return liveStreamingDataPoller.poll();
     }
 
     // The state machine for managing the transitions for closed-range and open-range historic
@@ -180,85 +259,61 @@ public class OpenRangeStreamManager implements StreamManager {
         /**
          * INIT_HISTORIC is the starting state for closed-range historic requests and
          * open-range historic streaming requests. It's responsible for initializing the historic
-         * data poller. It will transition to the HISTORIC_STREAMING state.
+         * data poller. It will transition to the HISTORIC_STREAMING state, or to the
+         * CUE_HISTORIC_STREAMING state when downgrading from live-streaming.
          */
         INIT_HISTORIC {
             @NonNull
             @Override
             public State execute(@NonNull final OpenRangeStreamManager m) {
 
-                long currentAckedBlockNumber = getLatestAckedBlock(m);
                 long historicStreamBlockNumber = m.currentHistoricBlockNumber.get();
                 m.historicDataPoller.init(historicStreamBlockNumber);
 
-                // @todo(#750) - Commented out first pass. Need to revisit.
-                //   Validation in the proxy prevents a client requesting an historic start block number
-                //   greater than the current acked block number. However, we can arrive at this state
-                //   when downgrading from live-streaming to historic streaming. During the downgrade process,
-                //   the historic stream block number will be greater than the current acked block number.
-                //   Here, we're padding the number so that, when we transition, the current acked block number
-                //   is at least the padding number ahead. The hope is to reduce "flapping" where we're constantly
-                //   downgrading to historic then upgrading to live then downgrading to historic, etc.
-                //                long paddedHistoricStreamBlockNumber = historicStreamBlockNumber +
-                //   m.cueHistoricStreamingPaddingBlocks;
-                //                if (paddedHistoricStreamBlockNumber > currentAckedBlockNumber) {
-                //                    LOGGER.log(
-                //                            TRACE,
-                //                            "Padded Historic stream block number: {0} > Current acked block number:
-                //   {1}",
-                //                            paddedHistoricStreamBlockNumber,
-                //                            currentAckedBlockNumber);
-                //                    logTransition(State.CUE_HISTORIC_STREAMING);
-                //                    return State.CUE_HISTORIC_STREAMING;
-                //                }
-
                 LOGGER.log(
                         DEBUG,
                         "{0} - Initialized historic data poller with the block number: {1}",
                         m.managerId,
                         historicStreamBlockNumber);
+
+                // Validation in the proxy prevents a client requesting an historic start block number
+                // greater than the current acked block number. However, we arrive at this state when
+                // downgrading from live-streaming to historic streaming as well, when the historic stream
+                // block number is at or near the current acked block number. Cue the historic stream until
+                // the current acked block number is at least the padding ahead, to prevent "flapping" where
+                // we're constantly downgrading to historic then upgrading to live then downgrading, etc.
+                if (m.historicFallback && isBehindPaddedHistoricStream(m)) {
+                    logTransition(State.CUE_HISTORIC_STREAMING, m);
+                    return State.CUE_HISTORIC_STREAMING;
+                }
+
                 logTransition(State.HISTORIC_STREAMING, m);
                 return State.HISTORIC_STREAMING;
             }
         },
 
-        // @todo(#750) - Commented out first pass. Need to revisit.
-        //        CUE_HISTORIC_STREAMING {
-        //            @NonNull
-        //            @Override
-        //            public State execute(@NonNull final OpenRangeStreamManager m) {
-        //                long currentAckedBlockNumber = getLatestAckedBlock(m);
-        //                long historicStreamBlockNumber = m.currentHistoricBlockNumber.get();
-        //                // If we just transitioned back to HISTORY_STREAMING from DRAIN_LIVE_STREAMING,
-        //                // the current acked block number will still be behind the historic stream block number
-        //                // we proactively set in DRAIN_LIVE_STREAMING before transitioning.
-        //                //
-        //                // Loop until the current acked block number exceeds the historic stream block number.
-        //                // It's ok to loop here. We transitioned back to HISTORIC_STREAMING because the client
-        //                // was not keeping up with the live stream. So the client will continue to
-        //                // receive data buffered in Helidon.
-        //                long paddedHistoricStreamBlockNumber = historicStreamBlockNumber +
-        //   m.cueHistoricStreamingPaddingBlocks;
-        //                if (paddedHistoricStreamBlockNumber > currentAckedBlockNumber) {
-        //                    LOGGER.log(
-        //                            TRACE,
-        //                            "Padded Historic stream block number: {0} > Current acked block number: {1}",
-        //                            paddedHistoricStreamBlockNumber,
-        //                            currentAckedBlockNumber);
-        //                    logTransition(State.CUE_HISTORIC_STREAMING);
-        //                    return State.CUE_HISTORIC_STREAMING;
-        //                }
-        //    LOGGER.log(
-        //                        TRACE,
-        //                        "Historic stream block number: {0} > Current acked block number: {1}",
-        //                        historicStreamBlockNumber,
-        //                        currentAckedBlockNumber);
-        //                logTransition(State.HISTORIC_STREAMING);
-        //                // Increment the dashboard metric
-        //                m.metricsService.get(LiveToHistoricStreamTransitions).increment();
-        //                return State.HISTORIC_STREAMING;
-        //            }
-        //        },
+        /**
+         * CUE_HISTORIC_STREAMING is the state for waiting on the acked blocks to run ahead of the
+         * historic stream after a downgrade from live-streaming. It will transition to the
+         * HISTORIC_STREAMING state once the current acked block number is at least the configured
+         * padding ahead of the historic stream block number.
+         */
+        CUE_HISTORIC_STREAMING {
+            @NonNull
+            @Override
+            public State execute(@NonNull final OpenRangeStreamManager m) {
+                // It's ok to loop here. We transitioned back to historic streaming because the
+                // client was not keeping up with the live stream, so the client will continue
+                // to receive the data buffered in Helidon.
+                if (isBehindPaddedHistoricStream(m)) {
+                    logTransition(State.CUE_HISTORIC_STREAMING, m);
+                    return State.CUE_HISTORIC_STREAMING;
+                }
+
+                logTransition(State.HISTORIC_STREAMING, m);
+                return State.HISTORIC_STREAMING;
+            }
+        },
 
         /**
          * HISTORIC_STREAMING is the state for streaming historic data to the client. It's responsible
@@ -319,7 +374,7 @@ public class OpenRangeStreamManager implements StreamManager {
                             TRACE,
                             "{0} - Fetched an historic batch with data. Loop to get the next batch.",
                             m.managerId);
-                    final List<BlockItemUnparsed> blockItems = historicDataOpt.get();
+                    List<BlockItemUnparsed> blockItems = historicDataOpt.get();
                     if (blockItems.getLast().hasBlockProof()) {
                         final long currentHistoricBlockNumber = getBlockNumber(blockItems);
                         LOGGER.log(
@@ -333,8 +388,20 @@ public class OpenRangeStreamManager implements StreamManager {
                         m.currentHistoricBlockNumber.set(currentHistoricBlockNumber + 1);
                     }
 
+                    if (m.historicItemsToSkip > 0) {
+                        // The client received the first items of the block from the
+                        // live stream before it was overrun, only send the rest
+                        final int skipped = (int) Math.min(m.historicItemsToSkip, blockItems.size());
+                        m.historicItemsToSkip -= skipped;
+                        blockItems = blockItems.subList(skipped, blockItems.size());
+                    }
+
                     // send data to the client
-                    sendData(m, blockItems);
+                    if (!blockItems.isEmpty()) {
+                        sendData(m, blockItems);
+                    } else {
+                        m.dataPolled = true;
+                    }
 
                 } else {
                     LOGGER.log(TRACE, "{0} - No data returned from historic poll. Loop to check again.", m.managerId);
@@ -363,8 +430,7 @@ public class OpenRangeStreamManager implements StreamManager {
                 // For historic-streaming requests (request [start_block_number > 0, end_block_number = 0]) we
                 // need to cue up the live stream to the start of the next block so we can transition at a block
                 // boundary.
-                final State next =
-                        (m.initialState == State.INIT_LIVE) ? State.LIVE_STREAMING : State.CUE_LIVE_STREAMING;
+                final State next = m.isLiveOnly() ? State.LIVE_STREAMING : State.CUE_LIVE_STREAMING;
                 logTransition(next, m);
 
                 return next;
@@ -378,11 +444,12 @@ public class OpenRangeStreamManager implements StreamManager {
             @NonNull
             @Override
             public State execute(@NonNull final OpenRangeStreamManager m) throws Exception {
-                final Optional<ObjectEvent<List<BlockItemUnparsed>>> liveDataOpt = m.liveStreamingDataPoller.poll();
+                final Optional<ObjectEvent<List<BlockItemUnparsed>>> liveDataOpt = m.pollLiveData();
                 if (liveDataOpt.isPresent()) {
+                    m.dataPolled = true;
                     final List<BlockItemUnparsed> blockItems = liveDataOpt.get().get();
                     if (blockItems.getLast().hasBlockProof()) {
-                        final long currentLiveBlockNumber = getBlockNumber(blockItems);
+                        final long currentLiveBlockNumber = getBlockNumber(liveDataOpt.get());
 
                         LOGGER.log(
                                 TRACE,
@@ -412,14 +479,20 @@ public class OpenRangeStreamManager implements StreamManager {
                                 "{0} - Initialized live stream to block number: {1}",
                                 m.managerId,
                                 m.currentLiveBlockNumber.get());
-                        State next =
-                                (m.initialState == State.INIT_LIVE) ? State.LIVE_STREAMING : State.HISTORIC_STREAMING;
+                        State next = m.isLiveOnly() ? State.LIVE_STREAMING : State.HISTORIC_STREAMING;
                         logTransition(next, m);
 
                         return next;
                     } else {
                         LOGGER.log(TRACE, "{0} - Block Proof not found. Loop to check again.", m.managerId);
                     }
+                } else if (m.liveStreamingDataPoller.isOverrun()) {
+                    // Nothing was sent from the live stream yet, so simply
+                    // subscribe again from the current ring buffer cursor.
+                    LOGGER.log(DEBUG, "{0} - Live stream poller overrun while cueing. Resubscribing.", m.managerId);
+                    m.cleanUpLiveStream();
+                    logTransition(State.INIT_LIVE, m);
+                    return State.INIT_LIVE;
                 } else {
                     LOGGER.log(TRACE, "{0} - No data returned from live poll. Loop to check again.", m.managerId);
                 }
@@ -432,27 +505,43 @@ public class OpenRangeStreamManager implements StreamManager {
         /**
          * LIVE_STREAMING is the state for streaming live data from the live stream poller to the client.
          * It will continue to query the live stream poller regardless of whether it received data or not.
+         * Live batches already available are coalesced into a single response up to the configured byte budget.
+         * It will transition to the DRAIN_LIVE_STREAMING state if the client falls too far behind the live stream.
          */
         LIVE_STREAMING {
             @NonNull
             @Override
             public State execute(@NonNull final OpenRangeStreamManager m) throws Exception {
-                // @todo(#750) - Commented out first pass. Need to revisit.
-                //                if (m.liveStreamingDataPoller.exceedsThreshold()) {
-                //                    LOGGER.log(
-                //                            DEBUG,
-                //                            "Client is not keeping up with the live stream. Transitioning to historic
-                // streaming.");
-                //                    logTransition(State.DRAIN_LIVE_STREAMING);
-                //                    return State.DRAIN_LIVE_STREAMING;
-                //                }
+                if (m.liveStreamingDataPoller.exceedsThreshold()) {
+                    LOGGER.log(
+                            DEBUG,
+                            "{0} - Client is not keeping up with the live stream. Transitioning to historic streaming.",
+                            m.managerId);
+                    logTransition(State.DRAIN_LIVE_STREAMING, m);
+                    return State.DRAIN_LIVE_STREAMING;
+                }
 
                 // Get the next batch of live data
-                final Optional<ObjectEvent<List<BlockItemUnparsed>>> liveDataOpt = m.liveStreamingDataPoller.poll();
+                final Optional<ObjectEvent<List<BlockItemUnparsed>>> liveDataOpt = m.pollLiveData();
                 if (liveDataOpt.isPresent()) {
-                    // send data to the client
-                    sendData(m, liveDataOpt.get().get());
-                    LOGGER.log(TRACE, "{0} - Fetched a live batch with data. Loop to get the next batch.", m.managerId);
+                    // Coalesce the live batches already available into
+                    // a single response and send it to the client
+                    final List<ObjectEvent<List<BlockItemUnparsed>>> liveEvents =
+                            coalesceLiveData(m, liveDataOpt.get());
+                    sendCoalescedData(m, liveEvents);
+
+                    // Track what was sent to the client in case the live
+                    // stream overruns it and it falls back to historic streaming
+                    for (final ObjectEvent<List<BlockItemUnparsed>> liveEvent : liveEvents) {
+                        trackSentLiveData(m, liveEvent);
+                    }
+                    LOGGER.log(
+                            TRACE,
+                            "{0} - Fetched {1} live batches with data. Loop to get the next batch.",
+                            m.managerId,
+                            liveEvents.size());
+                } else if (m.liveStreamingDataPoller.isOverrun()) {
+                    return fallBackToHistoric(m);
                 } else {
                     LOGGER.log(TRACE, "{0} - No data returned from live poll. Loop to check again.", m.managerId);
                 }
@@ -460,40 +549,45 @@ public class OpenRangeStreamManager implements StreamManager {
                 logTransition(State.LIVE_STREAMING, m);
                 return State.LIVE_STREAMING;
             }
+        },
+        /**
+         * DRAIN_LIVE_STREAMING is the state for finishing the current live block before downgrading
+         * a lagging client to historic streaming. It sends the remaining block items of the current
+         * block and transitions to the INIT_HISTORIC state on the block boundary.
+         */
+        DRAIN_LIVE_STREAMING {
+            @NonNull
+            @Override
+            public State execute(@NonNull final OpenRangeStreamManager m) throws Exception {
+                // Drain the live stream
+                final Optional<ObjectEvent<List<BlockItemUnparsed>>> liveDataOpt = m.pollLiveData();
+                if (liveDataOpt.isPresent()) {
+                    // send data to the client
+                    final ObjectEvent<List<BlockItemUnparsed>> liveEvent = liveDataOpt.get();
+                    sendData(m, liveEvent);
+
+                    // The poller found block item data. If the block items
+                    // contain a block proof, then we can transition to historic streaming.
+                    // Otherwise, fall through and loop again.
+                    // Tracking the block proof preps the historic stream to start from the next block.
+                    if (trackSentLiveData(m, liveEvent)) {
+                        LOGGER.log(
+                                TRACE,
+                                "{0} - Found the block proof for live block number: {1}",
+                                m.managerId,
+                                m.currentHistoricBlockNumber.get() - 1);
+                        return downgradeToHistoric(m);
+                    }
+                } else if (m.liveStreamingDataPoller.isOverrun()) {
+                    return fallBackToHistoric(m);
+                } else {
+                    LOGGER.log(TRACE, "{0} - No data returned from live poll. Loop to check again.", m.managerId);
+                }
+
+                logTransition(State.DRAIN_LIVE_STREAMING, m);
+                return State.DRAIN_LIVE_STREAMING;
+            }
         };
-        // @todo(#750) - Commented out first pass. Need to revisit.
-        //        DRAIN_LIVE_STREAMING {
-        //            @NonNull
-        //            @Override
-        //            public State execute(@NonNull final OpenRangeStreamManager m) throws Exception {
-        //                // Drain the live stream
-        //                final Optional<ObjectEvent<List<BlockItemUnparsed>>> liveDataOpt =
-        // m.liveStreamingDataPoller.poll();
-        //                if (liveDataOpt.isPresent()) {
-        //                    final List<BlockItemUnparsed> blockItems = liveDataOpt.get().get();
-        //                    // send data to the client
-        //                    m.consumerStreamResponseObserver.send(blockItems);
-        //                    // The poller found block item data. If the block items
-        //                    // contain a block proof, then we can transition to historic streaming.
-        //                    // Otherwise, fall through and loop again.
-        //                    if (blockItems.getLast().hasBlockProof()) {
-        //                        long liveBlockNumber = getBlockNumber(blockItems);
-        //                        LOGGER.log(TRACE, "Found the block proof for live block number: {0}",
-        // liveBlockNumber);
-        //                        // Prep the historic stream to start from the next block
-        //                        m.currentHistoricBlockNumber.set(liveBlockNumber + 1);
-        //                        logTransition(State.INIT_HISTORIC);
-        //                        // Unsubscribe from the live stream to free up the sequence in the ring buffer
-        //                        m.cleanUpLiveStream();
-        //                        return State.INIT_HISTORIC;
-        //                    }
-        //                } else {
-        //                    LOGGER.log(TRACE, "No data returned from live poll. Loop to check again.");
-        //                }
-        //                logTransition(State.DRAIN_LIVE_STREAMING);
-        //                return State.DRAIN_LIVE_STREAMING;
-        //            }
-        //        };
 
         private static final System.Logger LOGGER = System.getLogger(State.class.getName());
 
@@ -506,9 +600,146 @@ public class OpenRangeStreamManager implements StreamManager {
             // Refresh the liveness when sending data to
             // the client
             m.livenessCalculator.refresh();
+            m.dataPolled = true;
             m.consumerStreamResponseObserver.send(blockItems);
         }
 
+        private static void sendData(
+                @NonNull final OpenRangeStreamManager m, final ObjectEvent<List<BlockItemUnparsed>> liveEvent)
+                throws ParseException {
+
+            // Refresh the liveness when sending data to
+            // the client
+            m.livenessCalculator.refresh();
+            m.dataPolled = true;
+            m.consumerStreamResponseObserver.send(liveEvent);
+        }
+
+        private static void sendCoalescedData(
+                @NonNull final OpenRangeStreamManager m, final List<ObjectEvent<List<BlockItemUnparsed>>> liveEvents)
+                throws ParseException {
+
+            // Refresh the liveness when sending data to
+            // the client
+            m.livenessCalculator.refresh();
+            m.dataPolled = true;
+            m.consumerStreamResponseObserver.sendCoalesced(liveEvents);
+        }
+
+        @NonNull
+        private static List<ObjectEvent<List<BlockItemUnparsed>>> coalesceLiveData(
+                @NonNull final OpenRangeStreamManager m, @NonNull final ObjectEvent<List<BlockItemUnparsed>> liveEvent)
+                throws Exception {
+
+            final List<ObjectEvent<List<BlockItemUnparsed>>> liveEvents = new ArrayList<>();
+            liveEvents.add(liveEvent);
+
+            // Keep polling the batches the live stream already has
+            // available until the response reaches the byte budget
+            long coalescedBytes = LiveStreamEvent.encodedResponseOf(liveEvent).length();
+            while (coalescedBytes < m.maxCoalescedResponseBytes) {
+                final Optional<ObjectEvent<List<BlockItemUnparsed>>> liveDataOpt = m.liveStreamingDataPoller.poll();
+                if (liveDataOpt.isEmpty()) {
+                    break;
+                }
+
+                final ObjectEvent<List<BlockItemUnparsed>> nextLiveEvent = liveDataOpt.get();
+                final long nextBytes = LiveStreamEvent.encodedResponseOf(nextLiveEvent).length();
+                if (coalescedBytes + nextBytes > m.maxCoalescedResponseBytes) {
+                    // Hold the batch back to start the next response
+                    m.pendingLiveEvent = nextLiveEvent;
+                    break;
+                }
+
+                liveEvents.add(nextLiveEvent);
+                coalescedBytes += nextBytes;
+            }
+
+            return liveEvents;
+        }
+
+        /**
+         * Tracks the live batch just sent to the client, the block it completes or the items of
+         * the block in progress the client received.
+         *
+         * @return true if the batch completed a block, false otherwise
+         */
+        private static boolean trackSentLiveData(
+                @NonNull final OpenRangeStreamManager m, final ObjectEvent<List<BlockItemUnparsed>> liveEvent)
+                throws ParseException {
+            final List<BlockItemUnparsed> blockItems = liveEvent.get();
+            if (blockItems.getLast().hasBlockProof()) {
+                m.currentHistoricBlockNumber.set(getBlockNumber(liveEvent) + 1);
+                m.liveBlockCompleted = true;
+                m.partialBlockItemsSent = 0;
+                m.partialBlockNumber = BlockItemBatchMetadata.UNKNOWN_BLOCK_NUMBER;
+                return true;
+            }
+
+            m.partialBlockItemsSent += blockItems.size();
+            if (liveEvent instanceof LiveStreamEvent liveStreamEvent && liveStreamEvent.metadata() != null) {
+                m.partialBlockNumber = liveStreamEvent.metadata().blockNumber();
+            }
+            return false;
+        }
+
+        private static State fallBackToHistoric(@NonNull final OpenRangeStreamManager m) {
+            // Resume from the block after the last one fully sent to the client. A block
+            // which was only partially sent is streamed again without the items the client
+            // already received, so every item is delivered once.
+            if (m.initialState == State.INIT_LIVE && !m.liveBlockCompleted) {
+                // A live-only client which has not completed a block joined the block
+                // it received mid-way, so it resumes on the next block boundary, or after
+                // the latest acked block if the number of the block is unknown.
+                final long resumeBlockNumber = (m.partialBlockNumber != BlockItemBatchMetadata.UNKNOWN_BLOCK_NUMBER)
+                        ? m.partialBlockNumber + 1
+                        : getLatestAckedBlock(m) + 1;
+                m.currentHistoricBlockNumber.set(resumeBlockNumber);
+                m.historicItemsToSkip = 0;
+            } else {
+                m.historicItemsToSkip = m.partialBlockItemsSent;
+            }
+            m.partialBlockItemsSent = 0;
+            m.partialBlockNumber = BlockItemBatchMetadata.UNKNOWN_BLOCK_NUMBER;
+
+            LOGGER.log(
+                    DEBUG,
+                    "{0} - Live stream poller overrun. Falling back to historic streaming from block number: {1}",
+                    m.managerId,
+                    m.currentHistoricBlockNumber.get());
+
+            return downgradeToHistoric(m);
+        }
+
+        private static State downgradeToHistoric(@NonNull final OpenRangeStreamManager m) {
+            // Unsubscribe from the live stream to free up the sequence in the ring buffer
+            m.cleanUpLiveStream();
+            m.historicFallback = true;
+
+            // Increment the dashboard metric
+            m.metricsService.get(LiveToHistoricStreamTransitions).increment();
+
+            logTransition(State.INIT_HISTORIC, m);
+            return State.INIT_HISTORIC;
+        }
+
+        private static boolean isBehindPaddedHistoricStream(@NonNull final OpenRangeStreamManager m) {
+            final long currentAckedBlockNumber = getLatestAckedBlock(m);
+            final long paddedHistoricStreamBlockNumber =
+                    m.currentHistoricBlockNumber.get() + m.cueHistoricStreamingPaddingBlocks;
+            if (paddedHistoricStreamBlockNumber > currentAckedBlockNumber) {
+                LOGGER.log(
+                        TRACE,
+                        "{0} - Padded historic stream block number: {1} > Current acked block number: {2}",
+                        m.managerId,
+                        paddedHistoricStreamBlockNumber,
+                        currentAckedBlockNumber);
+                return true;
+            }
+
+            return false;
+        }
+
         private static long getLatestAckedBlock(OpenRangeStreamManager m) {
             return (m.serviceStatus.getLatestAckedBlock() != null)
                     ? m.serviceStatus.getLatestAckedBlock().getBlockNumber()
@@ -519,11 +750,28 @@ public class OpenRangeStreamManager implements StreamManager {
             return BlockProof.PROTOBUF.parse(blockItems.getLast().blockProof()).block();
         }
 
+        private static long getBlockNumber(final ObjectEvent<List<BlockItemUnparsed>> event) throws ParseException {
+            // Live events carry the block number parsed when the batch was received
+            if (event instanceof LiveStreamEvent liveStreamEvent) {
+                final BlockItemBatchMetadata metadata = liveStreamEvent.metadata();
+                if (metadata != null && metadata.blockNumber() != BlockItemBatchMetadata.UNKNOWN_BLOCK_NUMBER) {
+                    return metadata.blockNumber();
+                }
+            }
+            return getBlockNumber(event.get());
+        }
+
         public void logTransition(State next, OpenRangeStreamManager m) {
             LOGGER.log(TRACE, "{0} - Transition: {1} ==> {2}", m.managerId, this, next);
         }
     }
 
+    // Live-only requests start streaming without cueing the live stream
+    // until they had to fall back to historic streaming.
+    private boolean isLiveOnly() {
+        return initialState == State.INIT_LIVE && !historicFallback;
+    }
+
     State getState() {
         return currentState;
     }
@@ -0,0 +1,63 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.consumer;
+
+import com.hedera.hapi.block.SubscribeStreamResponseUnparsed;
+import com.hedera.pbj.runtime.grpc.Pipeline;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+
+/**
+ * SubscribeStreamResponsePipeline adapts the Helidon pipeline of wire-encoded responses to a
+ * pipeline of {@link SubscribeStreamResponseUnparsed}s. Responses passed to {@link #onNext} are
+ * encoded on the way through, while responses which are already encoded (e.g. the shared live
+ * stream batches) are handed directly to Helidon via {@link #onNextEncoded}.
+ */
+public final class SubscribeStreamResponsePipeline implements Pipeline<SubscribeStreamResponseUnparsed> {
+
+    private final Pipeline<? super Bytes> replies;
+
+    /**
+     * Constructs a SubscribeStreamResponsePipeline.
+     *
+     * @param replies the Helidon pipeline accepting wire-encoded responses
+     */
+    public SubscribeStreamResponsePipeline(@NonNull final Pipeline<? super Bytes> replies) {
+        this.replies = Objects.requireNonNull(replies);
+    }
+
+    /**
+     * Sends an already wire-encoded SubscribeStreamResponse to the client without re-encoding it.
+     *
+     * @param encodedResponse the wire-encoded SubscribeStreamResponse
+     */
+    public void onNextEncoded(@NonNull final Bytes encodedResponse) {
+        replies.onNext(encodedResponse);
+    }
+
+    @Override
+    public void onNext(@NonNull final SubscribeStreamResponseUnparsed subscribeStreamResponse) {
+        replies.onNext(SubscribeStreamResponseUnparsed.PROTOBUF.toBytes(subscribeStreamResponse));
+    }
+
+    @Override
+    public void onSubscribe(@NonNull final Flow.Subscription subscription) {
+        replies.onSubscribe(subscription);
+    }
+
+    @Override
+    public void onError(@NonNull final Throwable throwable) {
+        replies.onError(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        replies.onComplete();
+    }
+
+    @Override
+    public void clientEndStreamReceived() {
+        replies.clientEndStreamReceived();
+    }
+}
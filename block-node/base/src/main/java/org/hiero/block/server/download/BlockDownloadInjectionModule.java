@@ -0,0 +1,21 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.download;
+
+import dagger.Binds;
+import dagger.Module;
+import javax.inject.Singleton;
+
+/** A Dagger module for providing dependencies for the Block Download Module. */
+@Module
+public interface BlockDownloadInjectionModule {
+
+    /**
+     * Binds the block download service to the block download service implementation.
+     *
+     * @param blockDownloadService needs a block download service implementation
+     * @return the block download service implementation
+     */
+    @Singleton
+    @Binds
+    BlockDownloadService bindBlockDownloadService(BlockDownloadServiceImpl blockDownloadService);
+}
@@ -0,0 +1,28 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.download;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import io.helidon.webserver.http.HttpService;
+import io.helidon.webserver.http.ServerRequest;
+import io.helidon.webserver.http.ServerResponse;
+
+/** Defines the contract for the http service downloading single blocks in bulk. */
+public interface BlockDownloadService extends HttpService {
+    /**
+     * The path for the block download endpoints. Root path for all block download endpoints.
+     *
+     * @return the root path for the block download endpoints
+     */
+    @NonNull
+    String getBlockDownloadRootPath();
+
+    /**
+     * Handles the request for a single block, answering with the protobuf encoded block. When the
+     * client accepts the zstd content encoding and the block is stored zstd compressed, the stored
+     * bytes are sent as they are.
+     *
+     * @param req the server request
+     * @param res the server response
+     */
+    void handleBlock(@NonNull final ServerRequest req, @NonNull final ServerResponse res);
+}
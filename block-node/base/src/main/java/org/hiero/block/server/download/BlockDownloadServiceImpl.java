@@ -0,0 +1,196 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.download;
+
+import static java.lang.System.Logger.Level.DEBUG;
+import static java.lang.System.Logger.Level.ERROR;
+import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.BlocksDownloaded;
+import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.CompressedBlocksDownloaded;
+
+import com.hedera.hapi.block.BlockUnparsed;
+import com.hedera.pbj.runtime.ParseException;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import io.helidon.http.HeaderNames;
+import io.helidon.http.ServerRequestHeaders;
+import io.helidon.webserver.http.HttpRules;
+import io.helidon.webserver.http.ServerRequest;
+import io.helidon.webserver.http.ServerResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Optional;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.hiero.block.server.metrics.MetricsService;
+import org.hiero.block.server.persistence.storage.PersistenceStorageConfig.CompressionType;
+import org.hiero.block.server.persistence.storage.read.BlockReader;
+import org.hiero.block.server.persistence.storage.read.EncodedBlock;
+import org.hiero.block.server.persistence.storage.read.EncodedBlockReader;
+import org.hiero.block.server.persistence.storage.read.StoredBlock;
+import org.hiero.block.server.persistence.storage.read.StoredBlockReader;
+import org.hiero.block.server.service.ServiceStatus;
+
+/**
+ * Provides implementation for the block download endpoints of the server.
+ *
+ * <p>The content encoding of a block is negotiated with the Accept-Encoding header of the request.
+ * A client accepting zstd receives a block stored with zstd compression as its stored frame, which
+ * is neither decompressed nor compressed again by the server, unless the frame is compressed with
+ * a dictionary of the node, which the client does not have. Any other block is sent
+ * decompressed, read through the block reader as its encoded bytes so it is decompressed once, and
+ * may be served from the block cache. The body is written to the response from the bytes read,
+ * without being copied.
+ *
+ * <p>The gRPC block access service cannot negotiate message compression the same way: a PBJ
+ * service is only handed the request options, which carry the content type but not the
+ * grpc-accept-encoding header, and answers with the message bytes, which the transport frames
+ * without the compressed flag. Bulk historic downloads use this endpoint instead.
+ */
+@Singleton
+public class BlockDownloadServiceImpl implements BlockDownloadService {
+
+    private final System.Logger LOGGER = System.getLogger(getClass().getName());
+
+    private static final String BLOCK_NUMBER_PARAMETER = "blockNumber";
+    private static final String BLOCK_PATH = "/{" + BLOCK_NUMBER_PARAMETER + "}";
+    private static final String CONTENT_TYPE = "application/x-protobuf";
+    private static final String ZSTD_ENCODING = "zstd";
+
+    private final ServiceStatus serviceStatus;
+    private final BlockReader<BlockUnparsed> blockReader;
+    private final MetricsService metricsService;
+
+    /**
+     * It initializes the BlockDownloadService with needed dependencies.
+     *
+     * @param serviceStatus is used to check the status of the service
+     * @param blockReader is used to read the blocks to download
+     * @param metricsService is used to count the downloaded blocks
+     */
+    @Inject
+    public BlockDownloadServiceImpl(
+            @NonNull final ServiceStatus serviceStatus,
+            @NonNull final BlockReader<BlockUnparsed> blockReader,
+            @NonNull final MetricsService metricsService) {
+        this.serviceStatus = serviceStatus;
+        this.blockReader = blockReader;
+        this.metricsService = metricsService;
+    }
+
+    @Override
+    @NonNull
+    public String getBlockDownloadRootPath() {
+        return "/blocks";
+    }
+
+    /**
+     * Configures the block download routes for the server.
+     *
+     * @param httpRules is used to configure the block download endpoints routes
+     */
+    @Override
+    public void routing(@NonNull final HttpRules httpRules) {
+        httpRules.get(BLOCK_PATH, this::handleBlock);
+    }
+
+    @Override
+    public final void handleBlock(@NonNull final ServerRequest req, @NonNull final ServerResponse res) {
+        if (!serviceStatus.isRunning()) {
+            res.status(503).send("Service is not running");
+            return;
+        }
+
+        final long blockNumber;
+        try {
+            blockNumber = Long.parseLong(req.path().pathParameters().get(BLOCK_NUMBER_PARAMETER));
+        } catch (final NumberFormatException e) {
+            res.status(400).send("Invalid block number");
+            return;
+        }
+        if (blockNumber < 0) {
+            res.status(400).send("Invalid block number");
+            return;
+        }
+
+        try {
+            final Optional<DownloadBody> bodyOpt = readBody(blockNumber, acceptsZstd(req.headers()));
+            if (bodyOpt.isEmpty()) {
+                LOGGER.log(DEBUG, "Block number {0} not found", blockNumber);
+                res.status(404).send("Block not found");
+                return;
+            }
+
+            LOGGER.log(DEBUG, "Successfully returning block number: {0}", blockNumber);
+            final DownloadBody body = bodyOpt.get();
+            metricsService.get(BlocksDownloaded).increment();
+            if (body.zstdEncoded()) {
+                metricsService.get(CompressedBlocksDownloaded).increment();
+                res.header(HeaderNames.CONTENT_ENCODING, ZSTD_ENCODING);
+            }
+            res.header(HeaderNames.VARY, HeaderNames.ACCEPT_ENCODING.defaultCase());
+            res.header(HeaderNames.CONTENT_TYPE, CONTENT_TYPE);
+            res.header(HeaderNames.CONTENT_LENGTH, Long.toString(body.bytes().length()));
+            res.status(200);
+            try (final OutputStream out = res.outputStream()) {
+                body.bytes().writeTo(out);
+            } catch (final IOException | UncheckedIOException e) {
+                // the response is already committed, the client sees the body cut short
+                LOGGER.log(DEBUG, "Failed to send block number: {0}", blockNumber);
+            }
+        } catch (final IOException | ParseException e) {
+            LOGGER.log(ERROR, "Error reading block number: {0}", blockNumber);
+            res.status(500).send("Block not available");
+        }
+    }
+
+    private Optional<DownloadBody> readBody(final long blockNumber, final boolean acceptsZstd)
+            throws IOException, ParseException {
+        if (acceptsZstd && blockReader instanceof StoredBlockReader storedBlockReader) {
+            final Optional<StoredBlock> blockOpt = storedBlockReader.readStored(blockNumber);
+            if (blockOpt.isEmpty()) {
+                return Optional.empty();
+            }
+            final StoredBlock block = blockOpt.get();
+            if (block.compressionType() == CompressionType.ZSTD && !block.isDictionaryCompressed()) {
+                // Send the stored frame as it is, the client decompresses it
+                return Optional.of(new DownloadBody(block.bytes(), true));
+            } else if (block.compressionType() == CompressionType.NONE) {
+                return Optional.of(new DownloadBody(block.bytes(), false));
+            }
+        }
+
+        if (blockReader instanceof EncodedBlockReader encodedBlockReader) {
+            final Optional<EncodedBlock> blockOpt = encodedBlockReader.readEncoded(blockNumber);
+            return blockOpt.map(block -> new DownloadBody(block.bytes(), false));
+        }
+        final Optional<BlockUnparsed> blockOpt = blockReader.read(blockNumber);
+        return blockOpt.map(block -> new DownloadBody(BlockUnparsed.PROTOBUF.toBytes(block), false));
+    }
+
+    /**
+     * Checks whether the Accept-Encoding header of the request accepts zstd, with a quality other
+     * than zero.
+     */
+    private static boolean acceptsZstd(@NonNull final ServerRequestHeaders headers) {
+        if (!headers.contains(HeaderNames.ACCEPT_ENCODING)) {
+            return false;
+        }
+        for (final String value : headers.get(HeaderNames.ACCEPT_ENCODING).allValues()) {
+            for (final String coding : value.split(",")) {
+                final String[] parameters = coding.split(";");
+                if (ZSTD_ENCODING.equalsIgnoreCase(parameters[0].trim())) {
+                    return parameters.length < 2 || !parameters[1].trim().matches("q=0(\\.0*)?");
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The body of a block download.
+     *
+     * @param bytes the bytes of the body
+     * @param zstdEncoded whether the bytes are the zstd compressed block
+     */
+    private record DownloadBody(@NonNull Bytes bytes, boolean zstdEncoded) {}
+}
@@ -0,0 +1,111 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.events;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Use this class to let consumers wait for new data instead of polling for it in a loop.
+ *
+ * <p>Producers call {@link #signal()} after making new data visible. Consumers call {@link
+ * #await(BooleanSupplier, int, long)} which first spins for a bounded number of iterations and then
+ * parks the calling thread until it is signalled or the timeout elapses. Waiters register
+ * themselves before re-checking their condition, so a signal raised between the check and the
+ * park is never lost.
+ *
+ * <p>Every signal bumps a sequence and unparks only the longest waiting thread. Each woken thread
+ * unparks the next one registered before the latest signal, so the cost of a signal for the
+ * producer does not grow with the number of waiters.
+ */
+public final class DataAvailableSignal {
+
+    /** Returned by {@link #await(BooleanSupplier, int, long)} when no data became available. */
+    public static final long NOT_AVAILABLE = -1L;
+
+    private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private volatile long lastSignalNanos;
+
+    /** Wakes up the threads currently waiting for new data. */
+    public void signal() {
+        lastSignalNanos = System.nanoTime();
+        sequence.incrementAndGet();
+        wakeUpNext();
+    }
+
+    /**
+     * Waits until the given condition reports new data is available or the timeout elapses.
+     *
+     * @param isDataAvailable the condition to check for new data
+     * @param spinIterations the number of times to busy-spin on the condition before parking
+     * @param timeoutNanos the maximum time to wait in nanoseconds
+     * @return the nanoseconds elapsed between the signal and the caller observing the new data, 0
+     *     if the data was available without being signalled during the wait, or {@link
+     *     #NOT_AVAILABLE} if the timeout elapsed first
+     */
+    public long await(
+            @NonNull final BooleanSupplier isDataAvailable, final int spinIterations, final long timeoutNanos) {
+        Objects.requireNonNull(isDataAvailable);
+        final long waitStartNanos = System.nanoTime();
+
+        for (int i = 0; i < spinIterations; i++) {
+            if (isDataAvailable.getAsBoolean()) {
+                return wakeupLatency(waitStartNanos);
+            }
+            Thread.onSpinWait();
+        }
+
+        final Thread thread = Thread.currentThread();
+        final long deadlineNanos = waitStartNanos + timeoutNanos;
+        while (true) {
+            final Waiter waiter = new Waiter(thread, sequence.get());
+            waiters.add(waiter);
+            try {
+                if (isDataAvailable.getAsBoolean()) {
+                    return wakeupLatency(waitStartNanos);
+                }
+                final long remainingNanos = deadlineNanos - System.nanoTime();
+                if (remainingNanos <= 0 || thread.isInterrupted()) {
+                    return NOT_AVAILABLE;
+                }
+                LockSupport.parkNanos(this, remainingNanos);
+            } finally {
+                // A waiter no longer queued was woken up, so it passes the wakeup on
+                if (!waiters.remove(waiter)) {
+                    wakeUpNext();
+                }
+            }
+        }
+    }
+
+    // Wakes up the longest waiting thread if it registered before the latest signal.
+    // A waiter queued before a signal is only ever behind other waiters queued before it.
+    private void wakeUpNext() {
+        final Waiter next = waiters.peek();
+        if (next != null && next.sequence < sequence.get() && waiters.remove(next)) {
+            LockSupport.unpark(next.thread);
+        }
+    }
+
+    private long wakeupLatency(final long waitStartNanos) {
+        final long signalNanos = lastSignalNanos;
+        // Only a signal raised while waiting contributes to the wakeup latency
+        return (signalNanos - waitStartNanos > 0) ? System.nanoTime() - signalNanos : 0L;
+    }
+
+    // Compared by identity, so a waiter only ever removes its own registration
+    private static final class Waiter {
+        private final Thread thread;
+        private final long sequence;
+
+        private Waiter(final Thread thread, final long sequence) {
+            this.thread = thread;
+            this.sequence = sequence;
+        }
+    }
+}
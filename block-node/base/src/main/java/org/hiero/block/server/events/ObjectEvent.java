@@ -7,6 +7,10 @@ import edu.umd.cs.findbugs.annotations.NonNull;
  * The ObjectEvent class defines a simple object event used to publish data to downstream
  * subscribers through the LMAX Disruptor RingBuffer.
  *
+ * <p>The value is volatile, so a consumer holding on to the event, for example to {@link #copy()}
+ * it, sees the value released or replaced when the RingBuffer reuses the slot. The publish time is
+ * made visible to the handlers by the RingBuffer publishing the event.
+ *
  * @param <T> the type of the data to publish
  */
 public class ObjectEvent<T> {
@@ -14,11 +18,12 @@ public class ObjectEvent<T> {
     /** Constructor for the ObjectEvent class. */
     public ObjectEvent() {}
 
-    private T val;
+    private volatile T val;
+    private long publishedNanos;
 
     /**
      * Sets the given value to be published to downstream subscribers through the LMAX Disruptor.
-     * The value must not be null and the method is thread-safe.
+     * The value must not be null.
      *
      * @param val the value to set
      */
@@ -27,13 +32,70 @@ public class ObjectEvent<T> {
     }
 
     /**
-     * Gets the value of the event from the LMAX Disruptor on the consumer side. The method is
-     * thread-safe.
+     * Gets the value of the event from the LMAX Disruptor on the consumer side.
      *
      * @return the value of the event
+     * @throws IllegalStateException if the event holds no value, because it was never set or was
+     *     already released
      */
     @NonNull
     public T get() {
-        return val;
+        final T current = val;
+        if (current == null) {
+            throw new IllegalStateException("The event holds no value, it was never set or was already released");
+        }
+        return current;
+    }
+
+    /**
+     * Records the time the event is published so the handlers can measure how long it took to
+     * reach them. Publishers call this method right before publishing the event.
+     */
+    public void markPublished() {
+        this.publishedNanos = System.nanoTime();
+    }
+
+    /**
+     * Gets the time the event was last published, as reported by {@link System#nanoTime()}.
+     *
+     * @return the time the event was published in nanoseconds
+     */
+    public long publishedNanos() {
+        return publishedNanos;
+    }
+
+    /**
+     * Sets the value held by the given event so it can be published again through another LMAX
+     * Disruptor RingBuffer.
+     *
+     * @param event the event holding the value to set
+     */
+    public void copyFrom(@NonNull final ObjectEvent<T> event) {
+        this.val = event.get();
+    }
+
+    /**
+     * Releases the value held by this event so it can be garbage collected before the LMAX
+     * Disruptor RingBuffer reuses the slot.
+     */
+    public void clear() {
+        this.val = null;
+    }
+
+    /**
+     * Returns a copy of this event holding the same value. Consumers use the copy so the value
+     * cannot change when the slot is reused.
+     *
+     * @return a detached copy of this event, or null if the value was already released
+     */
+    public ObjectEvent<T> copy() {
+        final T current = val;
+        if (current == null) {
+            return null;
+        }
+
+        final ObjectEvent<T> copy = new ObjectEvent<>();
+        copy.set(current);
+        return copy;
     }
 }
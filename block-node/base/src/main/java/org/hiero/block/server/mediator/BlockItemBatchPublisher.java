@@ -0,0 +1,23 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.mediator;
+
+import com.hedera.hapi.block.BlockItemUnparsed;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
+import org.hiero.block.server.block.BlockItemBatchMetadata;
+
+/**
+ * The BlockItemBatchPublisher interface defines the contract for publishing batches of block items
+ * together with the metadata the upstream producer computed for them, so the downstream
+ * subscribers do not have to compute it again.
+ */
+public interface BlockItemBatchPublisher extends Publisher<List<BlockItemUnparsed>> {
+
+    /**
+     * Publishes the given batch of block items and its metadata to the downstream subscribers.
+     *
+     * @param blockItems the batch of block items emitted by an upstream producer
+     * @param metadata the metadata computed for the batch of block items
+     */
+    void publish(@NonNull final List<BlockItemUnparsed> blockItems, @NonNull final BlockItemBatchMetadata metadata);
+}
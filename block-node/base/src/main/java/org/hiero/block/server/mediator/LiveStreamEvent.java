@@ -0,0 +1,209 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.mediator;
+
+import com.hedera.hapi.block.BlockItemSetUnparsed;
+import com.hedera.hapi.block.BlockItemUnparsed;
+import com.hedera.hapi.block.SubscribeStreamResponseUnparsed;
+import com.hedera.pbj.runtime.ParseException;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
+import java.util.Objects;
+import org.hiero.block.server.block.BlockItemBatchMetadata;
+import org.hiero.block.server.events.ObjectEvent;
+
+/**
+ * The LiveStreamEvent class is the RingBuffer slot used by the live stream mediator. Along with
+ * the batch of block items, it holds the wire-encoded SubscribeStreamResponse for that batch.
+ *
+ * <p>The encoded response is computed lazily, on the first consumer demand, and then shared by
+ * every consumer polling the same event. This keeps the protobuf encoding cost constant per
+ * published batch regardless of the number of subscribed consumers.
+ *
+ * <p>The event also carries the {@link BlockItemBatchMetadata} computed once by the upstream
+ * producer, so the downstream handlers do not parse the batch again.
+ */
+public final class LiveStreamEvent extends ObjectEvent<List<BlockItemUnparsed>> {
+
+    private volatile EncodedBatch batch;
+
+    /** Constructor for the LiveStreamEvent class. */
+    public LiveStreamEvent() {}
+
+    private LiveStreamEvent(@NonNull final EncodedBatch batch) {
+        this.batch = batch;
+    }
+
+    /**
+     * Sets the given batch of block items and discards any response encoded for the previous
+     * value held by this RingBuffer slot.
+     *
+     * @param val the batch of block items to set
+     */
+    @Override
+    public void set(@NonNull final List<BlockItemUnparsed> val) {
+        this.batch = new EncodedBatch(val, null);
+    }
+
+    /**
+     * Sets the given batch of block items along with its precomputed metadata and discards any
+     * response encoded for the previous value held by this RingBuffer slot.
+     *
+     * @param val the batch of block items to set
+     * @param metadata the metadata computed for the batch of block items
+     */
+    public void set(@NonNull final List<BlockItemUnparsed> val, @NonNull final BlockItemBatchMetadata metadata) {
+        this.batch = new EncodedBatch(val, Objects.requireNonNull(metadata));
+    }
+
+    /**
+     * Gets the metadata precomputed for the batch of block items.
+     *
+     * @return the metadata of the batch, or null if the batch was set without metadata
+     */
+    public BlockItemBatchMetadata metadata() {
+        return currentBatch().metadata;
+    }
+
+    /**
+     * Gets the metadata of the batch of block items held by the given event. The metadata carried
+     * by a live stream event is returned as-is, otherwise it is computed from the batch.
+     *
+     * @param event the event holding the batch of block items
+     * @return the metadata of the batch
+     * @throws ParseException if the metadata has to be computed and the block header cannot be
+     *     parsed
+     */
+    @NonNull
+    public static BlockItemBatchMetadata metadataOf(@NonNull final ObjectEvent<List<BlockItemUnparsed>> event)
+            throws ParseException {
+        if (event instanceof LiveStreamEvent liveStreamEvent) {
+            final BlockItemBatchMetadata metadata = liveStreamEvent.metadata();
+            if (metadata != null) {
+                return metadata;
+            }
+        }
+        return BlockItemBatchMetadata.parse(event.get());
+    }
+
+    /**
+     * Gets the wire-encoded SubscribeStreamResponse for the batch of block items held by the
+     * given event. The response shared by a live stream event is returned as-is, otherwise it is
+     * encoded from the batch.
+     *
+     * @param event the event holding the batch of block items
+     * @return the wire-encoded SubscribeStreamResponse for the batch
+     */
+    @NonNull
+    public static Bytes encodedResponseOf(@NonNull final ObjectEvent<List<BlockItemUnparsed>> event) {
+        return (event instanceof LiveStreamEvent liveStreamEvent)
+                ? liveStreamEvent.encodedResponse()
+                : EncodedBatch.encode(event.get());
+    }
+
+    /**
+     * Sets the batch of block items held by the given event. When the event is a LiveStreamEvent
+     * its encoded response is shared as well, so republishing the event to another RingBuffer
+     * does not encode the batch again.
+     *
+     * @param event the event holding the batch of block items to set
+     */
+    @Override
+    public void copyFrom(@NonNull final ObjectEvent<List<BlockItemUnparsed>> event) {
+        if (event instanceof LiveStreamEvent liveStreamEvent) {
+            this.batch = liveStreamEvent.currentBatch();
+        } else {
+            set(event.get());
+        }
+    }
+
+    /**
+     * Gets the batch of block items held by this event.
+     *
+     * @return the batch of block items
+     * @throws IllegalStateException if the event holds no batch, because it was never set or was
+     *     already released
+     */
+    @NonNull
+    @Override
+    public List<BlockItemUnparsed> get() {
+        return currentBatch().blockItems;
+    }
+
+    @Override
+    public void clear() {
+        this.batch = null;
+    }
+
+    /**
+     * Returns a copy of this event sharing the batch of block items and its encoded response. The
+     * copy is not affected when the RingBuffer reuses this slot.
+     *
+     * @return a detached copy of this event, or null if the batch was already released
+     */
+    @Override
+    public LiveStreamEvent copy() {
+        final EncodedBatch current = batch;
+        return (current != null) ? new LiveStreamEvent(current) : null;
+    }
+
+    /**
+     * Gets the batch of block items wrapped in a SubscribeStreamResponse and encoded in the
+     * protobuf wire format. The encoding happens once per event, the first caller pays the cost
+     * and all subsequent callers receive the same shared bytes.
+     *
+     * @return the wire-encoded SubscribeStreamResponse for the batch of block items
+     * @throws IllegalStateException if the event holds no batch
+     */
+    @NonNull
+    public Bytes encodedResponse() {
+        return currentBatch().encodedResponse();
+    }
+
+    @NonNull
+    private EncodedBatch currentBatch() {
+        final EncodedBatch current = batch;
+        if (current == null) {
+            throw new IllegalStateException("The event holds no batch, it was never set or was already released");
+        }
+        return current;
+    }
+
+    // Holds a batch together with its metadata and encoded response
+    // so all can be swapped, or copied, with a single reference.
+    private static final class EncodedBatch {
+        private final List<BlockItemUnparsed> blockItems;
+        private final BlockItemBatchMetadata metadata;
+        private volatile Bytes encodedResponse;
+
+        private EncodedBatch(@NonNull final List<BlockItemUnparsed> blockItems, final BlockItemBatchMetadata metadata) {
+            this.blockItems = blockItems;
+            this.metadata = metadata;
+        }
+
+        @NonNull
+        private Bytes encodedResponse() {
+            Bytes result = encodedResponse;
+            if (result == null) {
+                synchronized (this) {
+                    result = encodedResponse;
+                    if (result == null) {
+                        result = encode(blockItems);
+                        encodedResponse = result;
+                    }
+                }
+            }
+            return result;
+        }
+
+        @NonNull
+        private static Bytes encode(@NonNull final List<BlockItemUnparsed> blockItems) {
+            final SubscribeStreamResponseUnparsed subscribeStreamResponse = SubscribeStreamResponseUnparsed.newBuilder()
+                    .blockItems(BlockItemSetUnparsed.newBuilder()
+                            .blockItems(blockItems)
+                            .build())
+                    .build();
+            return SubscribeStreamResponseUnparsed.PROTOBUF.toBytes(subscribeStreamResponse);
+        }
+    }
+}
@@ -7,7 +7,8 @@ import org.hiero.block.server.notifier.Notifiable;
 
 /**
  * Use this interface to combine the contract for mediating the live stream of blocks from the
- * Hedera network with the contract to be notified of critical system events.
+ * Hedera network with the contract to be notified of critical system events. Batches of block items
+ * may be published along with their precomputed metadata.
  */
 public interface LiveStreamMediator
-        extends StreamMediator<List<BlockItemUnparsed>, List<BlockItemUnparsed>>, Notifiable {}
+        extends StreamMediator<List<BlockItemUnparsed>, List<BlockItemUnparsed>>, BlockItemBatchPublisher, Notifiable {}
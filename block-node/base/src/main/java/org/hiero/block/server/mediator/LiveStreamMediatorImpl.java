@@ -7,6 +7,8 @@ import static java.lang.System.Logger.Level.ERROR;
 import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.LiveBlockItems;
 import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.LiveBlockStreamMediatorError;
 import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Gauge.Consumers;
+import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Gauge.MediatorPublishLatencyP99;
+import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Gauge.MediatorRetainedBytes;
 import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Gauge.MediatorRingBufferRemainingCapacity;
 
 import com.hedera.hapi.block.BlockItemUnparsed;
@@ -15,6 +17,8 @@ import com.lmax.disruptor.EventPoller;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import org.hiero.block.server.block.BlockItemBatchMetadata;
 import org.hiero.block.server.consumer.StreamManager;
 import org.hiero.block.server.events.BlockNodeEventHandler;
 import org.hiero.block.server.events.ObjectEvent;
@@ -27,7 +31,10 @@ import org.hiero.block.server.service.ServiceStatus;
  *
  * <p>As an implementation of the StreamMediator interface, it proxies block items to the
  * subscribers as they arrive via a RingBuffer maintained in the base class and persists the block
- * items to a store.
+ * items to a store. The RingBuffer slots are {@link LiveStreamEvent}s so the response sent to the
+ * consumers is encoded once per event and shared between all of them. Publishing is admitted by
+ * {@link RetainedBytesAdmission} so the block items held by the RingBuffer, and by the relays
+ * copying it, stay within the configured memory budget.
  */
 class LiveStreamMediatorImpl extends SubscriptionHandlerBase<List<BlockItemUnparsed>> implements LiveStreamMediator {
 
@@ -35,6 +42,7 @@ class LiveStreamMediatorImpl extends SubscriptionHandlerBase<List<BlockItemUnpar
 
     private final ServiceStatus serviceStatus;
     private final MetricsService metricsService;
+    private final RetainedBytesAdmission retainedBytesAdmission;
 
     /**
      * Constructs a new LiveStreamMediatorImpl instance with the given subscribers, and service
@@ -64,27 +72,68 @@ class LiveStreamMediatorImpl extends SubscriptionHandlerBase<List<BlockItemUnpar
                 subscribers,
                 pollSubscribers,
                 metricsService.get(Consumers),
+                metricsService.get(MediatorPublishLatencyP99),
                 mediatorConfig,
-                mediatorConfig.ringBufferSize());
+                mediatorConfig.ringBufferSize(),
+                LiveStreamEvent::new,
+                mediatorConfig.producerType(),
+                mediatorConfig.waitStrategy());
 
         this.serviceStatus = serviceStatus;
         this.metricsService = metricsService;
+        this.retainedBytesAdmission = new RetainedBytesAdmission(
+                ringBuffer,
+                mediatorConfig.maxRetainedBytes(),
+                (mediatorConfig.fanOutConsumersPerRelay() > 0) ? mediatorConfig.fanOutRelayRingBufferSize() : 0,
+                this::lowestRelayedSequence,
+                this::releaseConsumedByRelays);
+    }
+
+    @Override
+    protected void eventsConsumed() {
+        retainedBytesAdmission.eventsConsumed();
     }
 
     /**
      * Publishes the given block item to all subscribers. If an exception occurs while persisting
      * the block items, the service status is set to not running, and all downstream consumers are
-     * unsubscribed.
+     * unsubscribed. Publishing waits while the RingBuffer retains more block item bytes than the
+     * configured budget allows.
      *
      * @param blockItems the block item from the upstream producer to publish to downstream
      *     consumers
      */
     @Override
     public void publish(@NonNull final List<BlockItemUnparsed> blockItems) {
+        publishBatch(blockItems, null);
+    }
+
+    /**
+     * Publishes the given block items to all subscribers along with the metadata the upstream
+     * producer computed for them, so the subscribers do not parse the block items again.
+     *
+     * @param blockItems the block items from the upstream producer to publish to downstream
+     *     consumers
+     * @param metadata the metadata computed for the block items
+     */
+    @Override
+    public void publish(
+            @NonNull final List<BlockItemUnparsed> blockItems, @NonNull final BlockItemBatchMetadata metadata) {
+        publishBatch(blockItems, Objects.requireNonNull(metadata));
+    }
+
+    private void publishBatch(
+            @NonNull final List<BlockItemUnparsed> blockItems, final BlockItemBatchMetadata metadata) {
 
         if (serviceStatus.isRunning()) {
             LOGGER.log(DEBUG, "Publishing BlockItems: " + blockItems.size());
-            ringBuffer.publishEvent((event, sequence) -> event.set(blockItems));
+            // The wire-encoded response is not built here. Each ring event
+            // encodes it lazily, once, on the first consumer demand.
+            final long retainedBytes = retainedBytesAdmission.publish(blockItems, metadata);
+            metricsService.get(MediatorRetainedBytes).set(retainedBytes);
+
+            // Wake up the consumers waiting on the live stream
+            signalPollers();
 
             long remainingCapacity = ringBuffer.remainingCapacity();
             metricsService.get(MediatorRingBufferRemainingCapacity).set(remainingCapacity);
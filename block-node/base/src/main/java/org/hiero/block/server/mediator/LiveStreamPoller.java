@@ -9,6 +9,8 @@ import com.lmax.disruptor.RingBuffer;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.UnaryOperator;
+import org.hiero.block.server.events.DataAvailableSignal;
 
 public class LiveStreamPoller<V> implements Poller<V> {
 
@@ -17,19 +19,46 @@ public class LiveStreamPoller<V> implements Poller<V> {
     private final EventPoller<V> eventPoller;
     private final BatchedData<V> polledData;
     private final RingBuffer<V> ringBuffer;
+    private final DataAvailableSignal dataAvailableSignal;
+    private final UnaryOperator<V> eventCopier;
+    private final Runnable eventsConsumed;
+    private final boolean gating;
+    private boolean overrun;
 
     private final int historicTransitionThresholdPercentage;
 
+    /**
+     * Constructs a LiveStreamPoller. Each poll of the ring buffer drains up to the configured
+     * poller batch size of events. The events are copied with the given event copier since the
+     * drained slots are released to the publisher before the batch is consumed. When the mediator
+     * configuration disables consumer back-pressure, the poller does not gate the ring buffer and
+     * flags itself overrun if the publisher may have reused a slot before its copy was taken.
+     *
+     * @param eventPoller the event poller to poll the ring buffer with
+     * @param ringBuffer the ring buffer to poll
+     * @param dataAvailableSignal the signal raised when new events are published
+     * @param eventCopier copies the polled events out of the ring buffer slots
+     * @param eventsConsumed called once the poller has drained events, so their slots may be
+     *     released
+     * @param mediatorConfig the mediator configuration
+     */
     public LiveStreamPoller(
             @NonNull final EventPoller<V> eventPoller,
             @NonNull final RingBuffer<V> ringBuffer,
+            @NonNull final DataAvailableSignal dataAvailableSignal,
+            @NonNull final UnaryOperator<V> eventCopier,
+            @NonNull final Runnable eventsConsumed,
             @NonNull final MediatorConfig mediatorConfig) {
 
         this.eventPoller = Objects.requireNonNull(eventPoller);
         this.ringBuffer = Objects.requireNonNull(ringBuffer);
+        this.dataAvailableSignal = Objects.requireNonNull(dataAvailableSignal);
+        this.eventCopier = Objects.requireNonNull(eventCopier);
+        this.eventsConsumed = Objects.requireNonNull(eventsConsumed);
+        this.gating = mediatorConfig.consumerBackPressure();
         this.historicTransitionThresholdPercentage = mediatorConfig.historicTransitionThresholdPercentage();
 
-        this.polledData = new BatchedData<>(1);
+        this.polledData = new BatchedData<>(mediatorConfig.pollerBatchSize());
     }
 
     @Override
@@ -38,8 +67,10 @@ public class LiveStreamPoller<V> implements Poller<V> {
         long cursorPosition = ringBuffer.getCursor();
         long sequencePosition = eventPoller.getSequence().get();
 
-        long difference = (cursorPosition % ringBufferSize) - (sequencePosition % ringBufferSize);
-        int percentage = (int) ((float) difference / ringBufferSize) * 100;
+        // Sequences only ever increase, so their difference is the number of
+        // published events the poller has yet to consume, even across a wrap
+        long difference = cursorPosition - sequencePosition;
+        long percentage = difference * 100 / ringBufferSize;
         if (percentage > historicTransitionThresholdPercentage) {
             LOGGER.log(
                     DEBUG,
@@ -65,9 +96,19 @@ public class LiveStreamPoller<V> implements Poller<V> {
             return Optional.of(polledData.pollMessage());
         }
 
+        if (overrun) {
+            return Optional.empty();
+        }
+
         // Poll to get the latest batches of block items
-        eventPoller.poll((event, sequence, endOfBatch) -> polledData.addDataItem(event));
+        if (gating) {
+            eventPoller.poll((event, sequence, endOfBatch) -> polledData.addDataItem(eventCopier.apply(event)));
+        } else {
+            eventPoller.poll(this::pollWithoutGating);
+        }
+
         if (polledData.getMsgCount() > 0) {
+            eventsConsumed.run();
             return Optional.of(polledData.pollMessage());
         }
 
@@ -85,6 +126,36 @@ public class LiveStreamPoller<V> implements Poller<V> {
         return Optional.empty();
     }
 
+    @Override
+    public boolean isOverrun() {
+        return overrun;
+    }
+
+    private boolean pollWithoutGating(final V event, final long sequence, final boolean endOfBatch) {
+        final V copy = eventCopier.apply(event);
+
+        // The publisher may have claimed one more slot than the cursor shows,
+        // so the copy is only trusted while the slot is not the next to be reused.
+        // The publisher may also have released the event to make room for new ones.
+        if (copy == null || ringBuffer.getCursor() - sequence >= ringBuffer.getBufferSize() - 1) {
+            LOGGER.log(DEBUG, "Poller overrun by the publisher at sequence: {0}", sequence);
+            overrun = true;
+            return false;
+        }
+
+        return polledData.addDataItem(copy);
+    }
+
+    @Override
+    public long awaitData(final int spinIterations, final long timeoutNanos) {
+        // Data is available once the ring cursor has moved past the poller sequence
+        return dataAvailableSignal.await(
+                () -> polledData.getMsgCount() > 0
+                        || ringBuffer.getCursor() > eventPoller.getSequence().get(),
+                spinIterations,
+                timeoutNanos);
+    }
+
     private static class BatchedData<V> {
         private int msgHighBound;
         private final int capacity;
@@ -1,6 +1,7 @@
 // SPDX-License-Identifier: Apache-2.0
 package org.hiero.block.server.mediator;
 
+import com.lmax.disruptor.dsl.ProducerType;
 import com.swirlds.config.api.ConfigData;
 import com.swirlds.config.api.ConfigProperty;
 import org.hiero.block.common.utils.Preconditions;
@@ -15,12 +16,36 @@ import org.hiero.block.server.config.logging.Loggable;
  *                       events.
  * @param type use a predefined type string to replace the mediator component implementation.
  *  Non-PRODUCTION values should only be used for troubleshooting and development purposes.
+ * @param historicTransitionThresholdPercentage the percentage of the ring buffer a live consumer
+ *  may fall behind before it is moved to historic streaming.
+ * @param consumerBackPressure when true, live consumers gate the ring buffer so a slow consumer
+ *  holds back the publisher. When false, live consumers read without gating the ring buffer and
+ *  fall back to historic streaming if the publisher overruns them.
+ * @param pollerBatchSize the maximum number of events a live consumer drains from the ring buffer
+ *  with a single poll.
+ * @param maxRetainedBytes the budget of block item bytes the ring buffer events may retain before
+ *  publishing waits for the subscribers to consume them.
+ * @param fanOutConsumersPerRelay the maximum number of live consumers served by a single relay
+ *  ring buffer. When positive, live consumers poll relay ring buffers fed by the mediator instead
+ *  of the mediator ring buffer itself. Zero disables the relays.
+ * @param fanOutRelayRingBufferSize the number of "slots" of each relay ring buffer.
+ * @param waitStrategy the strategy the handlers of the ring buffer use to wait for new events.
+ * @param producerType whether a single thread or multiple threads publish to the ring buffer.
+ *  The mediator serializes its publishers, so a single producer is safe for any number of
+ *  upstream producers.
  */
 @ConfigData("mediator")
 public record MediatorConfig(
         @Loggable @ConfigProperty(defaultValue = "4096") int ringBufferSize,
         @Loggable @ConfigProperty(defaultValue = "PRODUCTION") MediatorType type,
-        @Loggable @ConfigProperty(defaultValue = "90") int historicTransitionThresholdPercentage) {
+        @Loggable @ConfigProperty(defaultValue = "90") int historicTransitionThresholdPercentage,
+        @Loggable @ConfigProperty(defaultValue = "true") boolean consumerBackPressure,
+        @Loggable @ConfigProperty(defaultValue = "16") int pollerBatchSize,
+        @Loggable @ConfigProperty(defaultValue = "536870912") long maxRetainedBytes,
+        @Loggable @ConfigProperty(defaultValue = "0") int fanOutConsumersPerRelay,
+        @Loggable @ConfigProperty(defaultValue = "1024") int fanOutRelayRingBufferSize,
+        @Loggable @ConfigProperty(defaultValue = "BLOCKING") WaitStrategyType waitStrategy,
+        @Loggable @ConfigProperty(defaultValue = "MULTI") ProducerType producerType) {
 
     /**
      * Validate the configuration.
@@ -36,6 +61,16 @@ public record MediatorConfig(
                 10,
                 90,
                 "Historic Transition Threshold Percentage must be between 10 and 90");
+
+        Preconditions.requirePositive(pollerBatchSize, "Mediator Poller Batch Size must be positive");
+        Preconditions.requirePositive(maxRetainedBytes, "Mediator Max Retained Bytes must be positive");
+
+        Preconditions.requireWhole(
+                fanOutConsumersPerRelay, "Mediator Fan Out Consumers Per Relay must not be negative");
+        Preconditions.requirePositive(
+                fanOutRelayRingBufferSize, "Mediator Fan Out Relay Ring Buffer Size must be positive");
+        Preconditions.requirePowerOfTwo(
+                fanOutRelayRingBufferSize, "Mediator Fan Out Relay Ring Buffer Size must be a power of 2");
     }
 
     /**
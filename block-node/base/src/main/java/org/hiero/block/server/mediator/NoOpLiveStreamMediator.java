@@ -7,6 +7,7 @@ import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.LiveBl
 import com.hedera.hapi.block.BlockItemUnparsed;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.util.List;
+import org.hiero.block.server.block.BlockItemBatchMetadata;
 import org.hiero.block.server.consumer.StreamManager;
 import org.hiero.block.server.events.BlockNodeEventHandler;
 import org.hiero.block.server.events.ObjectEvent;
@@ -36,6 +37,11 @@ public class NoOpLiveStreamMediator implements LiveStreamMediator {
         metricsService.get(LiveBlockItems).add(blockItems.size());
     }
 
+    @Override
+    public void publish(@NonNull List<BlockItemUnparsed> blockItems, @NonNull BlockItemBatchMetadata metadata) {
+        publish(blockItems);
+    }
+
     @Override
     public void subscribe(@NonNull BlockNodeEventHandler<ObjectEvent<List<BlockItemUnparsed>>> handler) {}
 
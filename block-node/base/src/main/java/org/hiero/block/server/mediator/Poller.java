@@ -18,5 +18,31 @@ public interface Poller<V> {
      */
     Optional<V> poll() throws Exception;
 
+    /**
+     * Waits until a new event is available to poll or the timeout elapses.
+     *
+     * @param spinIterations the number of times to busy-spin before parking the calling thread
+     * @param timeoutNanos the maximum time to wait in nanoseconds
+     * @return the wakeup latency in nanoseconds, or {@link
+     *     org.hiero.block.server.events.DataAvailableSignal#NOT_AVAILABLE} if no event became
+     *     available before the timeout
+     */
+    long awaitData(int spinIterations, long timeoutNanos);
+
+    /**
+     * Checks if the poller has fallen further behind the publisher than the configured percentage
+     * of the stream capacity allows.
+     *
+     * @return true if the poller should be moved to a slower data source, false otherwise
+     */
     boolean exceedsThreshold();
+
+    /**
+     * Checks if the publisher has overrun this poller. Pollers which do not gate the stream of
+     * events lose events when they fall a whole ring behind, after which they can no longer poll
+     * the stream in order.
+     *
+     * @return true if events were lost and the poller must be discarded, false otherwise
+     */
+    boolean isOverrun();
 }
@@ -0,0 +1,92 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.mediator;
+
+import com.swirlds.metrics.api.LongGauge;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PublishLatencyRecorder reports the 99th percentile of the time events take from being published
+ * to reaching the handlers of a ring buffer.
+ *
+ * <p>Latencies are recorded into a fixed window of samples shared by all the handlers. Each time
+ * the window fills up, the percentile of the window is computed and set on the gauge, so the gauge
+ * reports the latency of all the handlers together and the cost of sorting is spread over all the
+ * recorded events.
+ *
+ * <p>Every handler records through its own {@link HandlerRecorder}, on its own thread, which adds
+ * the samples to the shared window in batches, so the window is only locked once per batch.
+ */
+final class PublishLatencyRecorder {
+
+    /** The number of samples the percentile is computed over. */
+    static final int WINDOW_SIZE = 1024;
+
+    /** The number of samples a handler adds to the window at once. */
+    static final int BATCH_SIZE = 64;
+
+    private static final int PERCENTILE = 99;
+    private static final int PERCENTILE_INDEX = WINDOW_SIZE * PERCENTILE / 100 - 1;
+
+    private final LongGauge latencyGauge;
+    // Guarded by this
+    private final long[] window = new long[WINDOW_SIZE];
+    private int recorded;
+
+    /**
+     * Constructs a PublishLatencyRecorder reporting to the given gauge.
+     *
+     * @param latencyGauge the gauge to set the percentile latency in microseconds on
+     */
+    PublishLatencyRecorder(@NonNull final LongGauge latencyGauge) {
+        this.latencyGauge = Objects.requireNonNull(latencyGauge);
+    }
+
+    /**
+     * Creates a recorder for a single handler, adding its samples to the shared window.
+     *
+     * @return a new recorder, only to be used by the thread of the handler
+     */
+    @NonNull
+    HandlerRecorder forHandler() {
+        return new HandlerRecorder();
+    }
+
+    private synchronized void add(final long[] latencies, final int count) {
+        for (int i = 0; i < count; i++) {
+            window[recorded++] = latencies[i];
+            if (recorded == WINDOW_SIZE) {
+                // The window is only written under the lock, so it can be sorted in place
+                Arrays.sort(window);
+                latencyGauge.set(TimeUnit.NANOSECONDS.toMicros(window[PERCENTILE_INDEX]));
+                recorded = 0;
+            }
+        }
+    }
+
+    /**
+     * Records the latencies of the events reaching a single handler. A handler recorder is not
+     * thread-safe, it is only used by the thread of its handler.
+     */
+    final class HandlerRecorder {
+        private final long[] batch = new long[BATCH_SIZE];
+        private int batched;
+
+        private HandlerRecorder() {}
+
+        /**
+         * Records the latency of an event published at the given time.
+         *
+         * @param publishedNanos the time the event was published in nanoseconds
+         */
+        void record(final long publishedNanos) {
+            batch[batched++] = System.nanoTime() - publishedNanos;
+            if (batched == BATCH_SIZE) {
+                add(batch, batched);
+                batched = 0;
+            }
+        }
+    }
+}
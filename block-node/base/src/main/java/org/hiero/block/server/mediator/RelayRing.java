@@ -0,0 +1,181 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.mediator;
+
+import com.lmax.disruptor.BatchEventProcessor;
+import com.lmax.disruptor.BatchEventProcessorBuilder;
+import com.lmax.disruptor.EventFactory;
+import com.lmax.disruptor.EventHandler;
+import com.lmax.disruptor.RingBuffer;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Objects;
+import java.util.concurrent.ThreadFactory;
+import org.hiero.block.server.events.DataAvailableSignal;
+import org.hiero.block.server.events.ObjectEvent;
+
+/**
+ * RelayRing republishes the events of an upstream RingBuffer to its own RingBuffer, which serves
+ * a bounded group of pollers.
+ *
+ * <p>The relay holds a single gating sequence on the upstream RingBuffer, so the upstream
+ * publisher scans one sequence per relay instead of one per poller. The pollers of the group gate,
+ * or overrun, the relay RingBuffer instead. A relay whose pollers fall behind stops consuming the
+ * upstream RingBuffer once its own RingBuffer is full, so back-pressure still reaches the upstream
+ * publisher. Republished events share the value, and any state derived from it, with the upstream
+ * event.
+ *
+ * <p>A relayed copy stays in its slot until the slot is reused, or until the mediator needs room
+ * and releases the copies the pollers have consumed, so the relay reports the lowest upstream
+ * sequence it still holds a copy of.
+ *
+ * <p>The number of pollers is guarded by the caller, which assigns pollers to relays.
+ *
+ * @param <V> the type of the relayed event values
+ */
+final class RelayRing<V> implements EventHandler<ObjectEvent<V>> {
+
+    private final RingBuffer<ObjectEvent<V>> upstream;
+    private final RingBuffer<ObjectEvent<V>> ringBuffer;
+    private final BatchEventProcessor<ObjectEvent<V>> batchEventProcessor;
+    private final DataAvailableSignal dataAvailableSignal = new DataAvailableSignal();
+    private final Runnable eventsConsumed;
+
+    // The upstream sequence of the event copied to each slot, guarded by this relay
+    private final long[] upstreamSequences;
+    private final int indexMask;
+    private long releasedSequence;
+
+    private int pollerCount;
+
+    /**
+     * Constructs a RelayRing for the given upstream RingBuffer.
+     *
+     * @param upstream the RingBuffer to relay the events from
+     * @param eventFactory the factory used to pre-allocate the relay RingBuffer slots
+     * @param ringBufferSize the number of slots in the relay RingBuffer
+     * @param eventsConsumed called once a batch of upstream events has been relayed
+     */
+    RelayRing(
+            @NonNull final RingBuffer<ObjectEvent<V>> upstream,
+            @NonNull final EventFactory<ObjectEvent<V>> eventFactory,
+            final int ringBufferSize,
+            @NonNull final Runnable eventsConsumed) {
+        this.upstream = Objects.requireNonNull(upstream);
+        this.eventsConsumed = Objects.requireNonNull(eventsConsumed);
+
+        // The relay thread is the only publisher to the relay RingBuffer
+        this.ringBuffer = RingBuffer.createSingleProducer(Objects.requireNonNull(eventFactory), ringBufferSize);
+        this.batchEventProcessor = new BatchEventProcessorBuilder().build(upstream, upstream.newBarrier(), this);
+        this.upstreamSequences = new long[ringBufferSize];
+        this.indexMask = ringBufferSize - 1;
+        this.releasedSequence = ringBuffer.getCursor();
+    }
+
+    /**
+     * Starts relaying the events published upstream from now on, on a thread owned by this relay.
+     *
+     * @param threadFactory the factory to create the relay thread with
+     */
+    void start(@NonNull final ThreadFactory threadFactory) {
+        // Adding the gating sequence also moves it to the upstream cursor
+        upstream.addGatingSequences(batchEventProcessor.getSequence());
+        threadFactory.newThread(batchEventProcessor).start();
+    }
+
+    /** Stops relaying the events, which ends the relay thread, and releases the upstream RingBuffer. */
+    void stop() {
+        batchEventProcessor.halt();
+        upstream.removeGatingSequence(batchEventProcessor.getSequence());
+    }
+
+    @Override
+    public void onEvent(final ObjectEvent<V> event, final long sequence, final boolean endOfBatch) {
+        // Claim the slot outside the lock, the claim waits for the gating pollers
+        final long relaySequence = ringBuffer.next();
+        try {
+            synchronized (this) {
+                // The claimed slot last held the copy relayed a whole ring earlier
+                releaseUpTo(relaySequence - upstreamSequences.length);
+                ringBuffer.get(relaySequence).copyFrom(event);
+                upstreamSequences[(int) (relaySequence & indexMask)] = sequence;
+            }
+        } finally {
+            ringBuffer.publish(relaySequence);
+        }
+
+        // Wake up the pollers, and a publisher waiting for room, once per batch of upstream events
+        if (endOfBatch) {
+            dataAvailableSignal.signal();
+            eventsConsumed.run();
+        }
+    }
+
+    /**
+     * Releases the copies all the gating pollers of this relay have consumed, so they no longer
+     * retain the upstream events. Without gating pollers every published copy is released.
+     *
+     * @return true if any copy was released, false otherwise
+     */
+    synchronized boolean releaseConsumed() {
+        final long consumedSequence = ringBuffer.getMinimumGatingSequence();
+        if (releasedSequence < consumedSequence) {
+            releaseUpTo(consumedSequence);
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Gets the lowest upstream sequence of the events this relay still holds a copy of, or is
+     * still to relay.
+     *
+     * @return the lowest upstream sequence retained by this relay
+     */
+    synchronized long lowestRetainedSequence() {
+        if (releasedSequence == ringBuffer.getCursor()) {
+            // Every copy was released, only the events not relayed yet are retained
+            return batchEventProcessor.getSequence().get() + 1;
+        }
+
+        return upstreamSequences[(int) ((releasedSequence + 1) & indexMask)];
+    }
+
+    private void releaseUpTo(final long consumedSequence) {
+        while (releasedSequence < consumedSequence) {
+            releasedSequence++;
+            ringBuffer.get(releasedSequence).clear();
+        }
+    }
+
+    /**
+     * Gets the RingBuffer the pollers of this relay poll.
+     *
+     * @return the relay RingBuffer
+     */
+    @NonNull
+    RingBuffer<ObjectEvent<V>> ringBuffer() {
+        return ringBuffer;
+    }
+
+    /**
+     * Gets the signal raised when new events are relayed.
+     *
+     * @return the relay data available signal
+     */
+    @NonNull
+    DataAvailableSignal dataAvailableSignal() {
+        return dataAvailableSignal;
+    }
+
+    int pollerCount() {
+        return pollerCount;
+    }
+
+    void addPoller() {
+        pollerCount++;
+    }
+
+    int removePoller() {
+        return --pollerCount;
+    }
+}
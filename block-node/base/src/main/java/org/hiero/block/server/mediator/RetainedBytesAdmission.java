@@ -0,0 +1,217 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.mediator;
+
+import com.hedera.hapi.block.BlockItemUnparsed;
+import com.lmax.disruptor.RingBuffer;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
+import org.hiero.block.server.block.BlockItemBatchMetadata;
+import org.hiero.block.server.events.ObjectEvent;
+
+/**
+ * RetainedBytesAdmission bounds the heap held by the mediator RingBuffer by the size of the
+ * published block items rather than by the number of slots.
+ *
+ * <p>It publishes the events on behalf of the mediator and accounts for the bytes of every event
+ * until it is released from its slot and from the slots of every relay holding a copy of it.
+ * Consumed events stay in their slots, where pollers which do not gate the ring buffer can still
+ * read them, until a new event needs the room. Publishing then releases the oldest events all the
+ * gating subscribers have consumed, along with the relayed copies all the relay pollers have
+ * consumed, so they can be garbage collected, and waits for the subscribers when that is not
+ * enough. An event is always admitted when nothing is retained, so a single batch larger than the
+ * budget cannot stall the stream.
+ *
+ * <p>Since publishers are serialized here, the ring buffer may be configured with a single
+ * producer regardless of the number of upstream producers.
+ */
+final class RetainedBytesAdmission {
+
+    // The longest wait for a subscriber to report consumed events before checking again
+    private static final long MAX_ADMISSION_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final RingBuffer<ObjectEvent<List<BlockItemUnparsed>>> ringBuffer;
+    private final long maxRetainedBytes;
+    private final LongSupplier lowestRelayedSequence;
+    private final BooleanSupplier releaseConsumedByRelays;
+    private final long[] eventBytes;
+    private final int eventBytesMask;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition roomAvailable = lock.newCondition();
+    private final AtomicInteger waitingPublishers = new AtomicInteger();
+
+    private long releasedSequence;
+    private long freedSequence;
+    private long retainedBytes;
+
+    /**
+     * Constructs a RetainedBytesAdmission for the given ring buffer.
+     *
+     * @param ringBuffer the ring buffer to publish the events to
+     * @param maxRetainedBytes the budget of bytes the ring buffer events may retain
+     * @param relayRingBufferSize the number of slots of a relay holding copies of the events, or 0
+     *     if the events are not relayed
+     * @param lowestRelayedSequence supplies the lowest sequence of the events the relays still hold
+     *     a copy of, or {@link Long#MAX_VALUE} if they hold none
+     * @param releaseConsumedByRelays releases the copies the relay pollers have consumed, returns
+     *     true if any copy was released
+     */
+    RetainedBytesAdmission(
+            @NonNull final RingBuffer<ObjectEvent<List<BlockItemUnparsed>>> ringBuffer,
+            final long maxRetainedBytes,
+            final int relayRingBufferSize,
+            @NonNull final LongSupplier lowestRelayedSequence,
+            @NonNull final BooleanSupplier releaseConsumedByRelays) {
+        this.ringBuffer = Objects.requireNonNull(ringBuffer);
+        this.maxRetainedBytes = maxRetainedBytes;
+        this.lowestRelayedSequence = Objects.requireNonNull(lowestRelayedSequence);
+        this.releaseConsumedByRelays = Objects.requireNonNull(releaseConsumedByRelays);
+
+        // A relay lags the ring buffer by at most a whole ring, and holds at most a whole relay
+        // ring of copies, so the bytes of every event still retained fit in their combined size
+        final int retainedEvents = ringBuffer.getBufferSize() + relayRingBufferSize;
+        final int eventBytesSize = Integer.highestOneBit(retainedEvents);
+        this.eventBytes = new long[(eventBytesSize == retainedEvents) ? eventBytesSize : eventBytesSize << 1];
+        this.eventBytesMask = eventBytes.length - 1;
+        this.releasedSequence = ringBuffer.getCursor();
+        this.freedSequence = ringBuffer.getCursor();
+    }
+
+    /**
+     * Publishes the given block items to the ring buffer once they fit within the budget of
+     * retained bytes. Publishers are serialized, so a slot is never released while another
+     * publisher writes to it.
+     *
+     * @param blockItems the block items to publish
+     * @param metadata the metadata computed for the block items, or null if none was computed
+     * @return the bytes retained by the ring buffer events after publishing
+     */
+    long publish(@NonNull final List<BlockItemUnparsed> blockItems, final BlockItemBatchMetadata metadata) {
+        final long bytes = measure(blockItems);
+
+        lock.lock();
+        try {
+            awaitRoom(bytes);
+
+            final long sequence = ringBuffer.next();
+            try {
+                // The claimed slot last held the event published a whole ring earlier,
+                // which the subscribers have consumed for the claim to succeed
+                releaseUpTo(sequence - ringBuffer.getBufferSize());
+                free();
+
+                final ObjectEvent<List<BlockItemUnparsed>> event = ringBuffer.get(sequence);
+                if (metadata != null && event instanceof LiveStreamEvent liveStreamEvent) {
+                    liveStreamEvent.set(blockItems, metadata);
+                } else {
+                    event.set(blockItems);
+                }
+                event.markPublished();
+                eventBytes[(int) (sequence & eventBytesMask)] = bytes;
+                retainedBytes += bytes;
+            } finally {
+                ringBuffer.publish(sequence);
+            }
+
+            return retainedBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Wakes up a publisher waiting for room. Subscribers call this method once they have consumed
+     * events, it does not contend for the publishing lock unless a publisher is waiting. It never
+     * blocks the subscriber either, since a publisher holding the lock may itself be waiting for the
+     * subscriber to free a slot. A signal missed while the lock is held only delays the waiting
+     * publisher until its bounded wait elapses.
+     */
+    void eventsConsumed() {
+        if (waitingPublishers.get() > 0 && lock.tryLock()) {
+            try {
+                roomAvailable.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void awaitRoom(final long bytes) {
+        free();
+        while (retainedBytes > 0 && retainedBytes + bytes > maxRetainedBytes) {
+            if (releaseConsumed()) {
+                continue;
+            }
+
+            // Flag the wait before checking again, so consumption reported
+            // after the check always signals the condition
+            waitingPublishers.incrementAndGet();
+            try {
+                if (!releaseConsumed()) {
+                    roomAvailable.awaitNanos(MAX_ADMISSION_WAIT_NANOS);
+                }
+            } catch (final InterruptedException e) {
+                // Publish anyway rather than drop the block items, keeping the interrupt
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                waitingPublishers.decrementAndGet();
+            }
+        }
+    }
+
+    private boolean releaseConsumed() {
+        if (releaseOldestConsumed() || releaseConsumedByRelays.getAsBoolean()) {
+            free();
+            return true;
+        }
+
+        return false;
+    }
+
+    private boolean releaseOldestConsumed() {
+        if (releasedSequence < ringBuffer.getMinimumGatingSequence()) {
+            release(releasedSequence + 1);
+            return true;
+        }
+
+        return false;
+    }
+
+    private void releaseUpTo(final long consumedSequence) {
+        while (releasedSequence < consumedSequence) {
+            release(releasedSequence + 1);
+        }
+    }
+
+    private void release(final long sequence) {
+        ringBuffer.get(sequence).clear();
+        releasedSequence = sequence;
+    }
+
+    // The bytes of an event are freed once it is released from the ring buffer and from every relay
+    private void free() {
+        final long freeSequence = Math.min(releasedSequence, lowestRelayedSequence.getAsLong() - 1);
+        while (freedSequence < freeSequence) {
+            freedSequence++;
+            final int index = (int) (freedSequence & eventBytesMask);
+            retainedBytes -= eventBytes[index];
+            eventBytes[index] = 0;
+        }
+    }
+
+    private static long measure(@NonNull final List<BlockItemUnparsed> blockItems) {
+        long bytes = 0;
+        for (final BlockItemUnparsed blockItem : blockItems) {
+            bytes += BlockItemUnparsed.PROTOBUF.measureRecord(blockItem);
+        }
+        return bytes;
+    }
+}
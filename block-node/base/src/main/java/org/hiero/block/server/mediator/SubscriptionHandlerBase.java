@@ -6,18 +6,25 @@ import static java.lang.System.Logger.Level.WARNING;
 
 import com.lmax.disruptor.BatchEventProcessor;
 import com.lmax.disruptor.BatchEventProcessorBuilder;
+import com.lmax.disruptor.EventFactory;
+import com.lmax.disruptor.EventHandler;
 import com.lmax.disruptor.EventPoller;
 import com.lmax.disruptor.RingBuffer;
 import com.lmax.disruptor.dsl.Disruptor;
-import com.lmax.disruptor.util.DaemonThreadFactory;
+import com.lmax.disruptor.dsl.ProducerType;
 import com.swirlds.metrics.api.LongGauge;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 import org.hiero.block.server.consumer.StreamManager;
 import org.hiero.block.server.events.BlockNodeEventHandler;
+import org.hiero.block.server.events.DataAvailableSignal;
 import org.hiero.block.server.events.ObjectEvent;
 
 /**
@@ -26,6 +33,11 @@ import org.hiero.block.server.events.ObjectEvent;
  * <p>Subclasses may use the ringBuffer to publish events to the subscribers. This base class
  * contains the logic to manage subscriptions to the ring buffer.
  *
+ * <p>When fan-out is enabled in the mediator configuration, pollers do not poll the ring buffer
+ * directly. They are assigned to the least loaded {@link RelayRing}, each serving a bounded group
+ * of pollers, so the number of gating sequences the publisher scans grows with the number of
+ * relays rather than with the number of pollers.
+ *
  * @param <V> the type of the subscription events
  */
 public abstract class SubscriptionHandlerBase<V> implements SubscriptionHandler<V> {
@@ -39,39 +51,124 @@ public abstract class SubscriptionHandlerBase<V> implements SubscriptionHandler<
     protected final RingBuffer<ObjectEvent<V>> ringBuffer;
 
     private final MediatorConfig mediatorConfig;
+    private final EventFactory<ObjectEvent<V>> eventFactory;
+    private final DataAvailableSignal dataAvailableSignal = new DataAvailableSignal();
+
+    // The relays list also guards the poller count of each relay
+    private final List<RelayRing<V>> relays = new ArrayList<>();
+    private final Map<StreamManager, RelayRing<V>> relayAssignments = new ConcurrentHashMap<>();
 
     private final LongGauge subscriptionGauge;
+    private final PublishLatencyRecorder publishLatencyRecorder;
     private final ExecutorService executor;
+    private final ThreadFactory relayThreadFactory;
 
     /**
-     * Constructs an abstract SubscriptionHandler instance with the given subscribers, block writer,
-     * and service status. Users of this constructor should take care to supply a thread-safe map
-     * implementation for the subscribers to handle the dynamic addition and removal of subscribers
-     * at runtime.
+     * Constructs an abstract SubscriptionHandler instance which pre-allocates the ring buffer
+     * slots with the given event factory. Subclasses can use an event factory to publish a
+     * specialized {@link ObjectEvent} carrying additional per-event state. Users of this
+     * constructor should take care to supply a thread-safe map implementation for the subscribers
+     * to handle the dynamic addition and removal of subscribers at runtime.
+     *
+     * <p>Every subscribed handler runs on a dedicated platform thread and waits for new events
+     * with the given wait strategy, while pollers run on the threads of their callers.
      *
      * @param subscribers the map of subscribers to batch event processors. It's recommended the map
      *     implementation is thread-safe
      * @param pollSubscribers the map of poll subscribers to event pollers. It's recommended the map
      *     implementation is thread-safe
      * @param subscriptionGauge the gauge to track the number of subscribers
+     * @param publishLatencyGauge the gauge to report the p99 publish-to-handler latency of all the
+     *     handlers on
      * @param mediatorConfig the configuration
+     * @param ringBufferSize the number of slots in the ring buffer
+     * @param eventFactory the factory used to pre-allocate the ring buffer slots
+     * @param producerType whether a single thread or multiple threads publish to the ring buffer
+     * @param waitStrategy the strategy the handlers use to wait for new events
      */
     protected SubscriptionHandlerBase(
             @NonNull final Map<BlockNodeEventHandler<ObjectEvent<V>>, BatchEventProcessor<ObjectEvent<V>>> subscribers,
             @NonNull final Map<StreamManager, EventPoller<ObjectEvent<V>>> pollSubscribers,
             @NonNull final LongGauge subscriptionGauge,
+            @NonNull final LongGauge publishLatencyGauge,
             @NonNull final MediatorConfig mediatorConfig,
-            final int ringBufferSize) {
+            final int ringBufferSize,
+            @NonNull final EventFactory<ObjectEvent<V>> eventFactory,
+            @NonNull final ProducerType producerType,
+            @NonNull final WaitStrategyType waitStrategy) {
         this.subscribers = subscribers;
         this.pollSubscribers = pollSubscribers;
         this.mediatorConfig = mediatorConfig;
+        this.eventFactory = Objects.requireNonNull(eventFactory);
         this.subscriptionGauge = Objects.requireNonNull(subscriptionGauge);
+        this.publishLatencyRecorder = new PublishLatencyRecorder(publishLatencyGauge);
+
+        final ThreadFactory handlerThreadFactory = Thread.ofPlatform()
+                .name(getClass().getSimpleName() + "-handler-", 0)
+                .daemon(true)
+                .factory();
 
         // Initialize and start the disruptor
-        final Disruptor<ObjectEvent<V>> disruptor =
-                new Disruptor<>(ObjectEvent::new, ringBufferSize, DaemonThreadFactory.INSTANCE);
+        final Disruptor<ObjectEvent<V>> disruptor = new Disruptor<>(
+                eventFactory,
+                ringBufferSize,
+                handlerThreadFactory,
+                Objects.requireNonNull(producerType),
+                waitStrategy.newWaitStrategy());
         this.ringBuffer = disruptor.start();
-        this.executor = Executors.newCachedThreadPool(DaemonThreadFactory.INSTANCE);
+        this.executor = Executors.newThreadPerTaskExecutor(handlerThreadFactory);
+
+        // Every relay owns its thread, which ends once the relay is stopped
+        this.relayThreadFactory = Thread.ofPlatform()
+                .name(getClass().getSimpleName() + "-relay-", 0)
+                .daemon(true)
+                .factory();
+    }
+
+    /**
+     * Wakes up the pollers waiting for new events. Subclasses should call this method after
+     * publishing events to the ring buffer.
+     */
+    protected void signalPollers() {
+        dataAvailableSignal.signal();
+    }
+
+    /**
+     * Called once subscribers have consumed events, so their slots may be released. Subclasses
+     * which wait for the subscribers before publishing should override this method.
+     */
+    protected void eventsConsumed() {}
+
+    /**
+     * Gets the lowest sequence of the events the relays still hold a copy of, or are still to
+     * relay.
+     *
+     * @return the lowest sequence retained by the relays, or {@link Long#MAX_VALUE} if there is no
+     *     relay
+     */
+    long lowestRelayedSequence() {
+        synchronized (relays) {
+            long lowestSequence = Long.MAX_VALUE;
+            for (final RelayRing<V> relay : relays) {
+                lowestSequence = Math.min(lowestSequence, relay.lowestRetainedSequence());
+            }
+            return lowestSequence;
+        }
+    }
+
+    /**
+     * Releases the copies of the events the pollers of every relay have consumed.
+     *
+     * @return true if any copy was released, false otherwise
+     */
+    boolean releaseConsumedByRelays() {
+        synchronized (relays) {
+            boolean released = false;
+            for (final RelayRing<V> relay : relays) {
+                released |= relay.releaseConsumed();
+            }
+            return released;
+        }
     }
 
     /**
@@ -83,9 +180,20 @@ public abstract class SubscriptionHandlerBase<V> implements SubscriptionHandler<
     public void subscribe(@NonNull final BlockNodeEventHandler<ObjectEvent<V>> handler) {
 
         if (!subscribers.containsKey(handler)) {
+            // Record how long each event took to reach the handler, the handler recorder
+            // is only used by the handler thread and shares its samples with the others
+            final PublishLatencyRecorder.HandlerRecorder handlerRecorder = publishLatencyRecorder.forHandler();
+            final EventHandler<ObjectEvent<V>> timedHandler = (event, sequence, endOfBatch) -> {
+                handlerRecorder.record(event.publishedNanos());
+                handler.onEvent(event, sequence, endOfBatch);
+                if (endOfBatch) {
+                    eventsConsumed();
+                }
+            };
+
             // Initialize the batch event processor and set it on the ring buffer
             final BatchEventProcessor<ObjectEvent<V>> batchEventProcessor =
-                    new BatchEventProcessorBuilder().build(ringBuffer, ringBuffer.newBarrier(), handler);
+                    new BatchEventProcessorBuilder().build(ringBuffer, ringBuffer.newBarrier(), timedHandler);
 
             ringBuffer.addGatingSequences(batchEventProcessor.getSequence());
             executor.execute(batchEventProcessor);
@@ -103,15 +211,15 @@ public abstract class SubscriptionHandlerBase<V> implements SubscriptionHandler<
 
         if (!pollSubscribers.containsKey(streamManager)) {
 
-            final EventPoller<ObjectEvent<V>> eventPoller = ringBuffer.newPoller();
-            ringBuffer.addGatingSequences(eventPoller.getSequence());
-            pollSubscribers.put(streamManager, eventPoller);
+            final Poller<ObjectEvent<V>> poller = (mediatorConfig.fanOutConsumersPerRelay() > 0)
+                    ? subscribeRelayPoller(streamManager)
+                    : subscribePoller(streamManager, ringBuffer, dataAvailableSignal);
 
             // Update the subscriber metrics.
             subscriptionGauge.set(subscribers.size() + pollSubscribers.size());
             LOGGER.log(DEBUG, "Subscribed poller");
 
-            return new LiveStreamPoller<>(eventPoller, ringBuffer, mediatorConfig);
+            return poller;
         } else {
             LOGGER.log(WARNING, "Poller already subscribed");
         }
@@ -123,7 +231,15 @@ public abstract class SubscriptionHandlerBase<V> implements SubscriptionHandler<
     public void unsubscribePoller(@NonNull final StreamManager streamManager) {
         final EventPoller<ObjectEvent<V>> eventPoller = pollSubscribers.remove(streamManager);
         if (eventPoller != null) {
-            ringBuffer.removeGatingSequence(eventPoller.getSequence());
+            final RelayRing<V> relay = relayAssignments.remove(streamManager);
+            if (relay != null) {
+                unsubscribeRelayPoller(relay, eventPoller);
+            } else {
+                ringBuffer.removeGatingSequence(eventPoller.getSequence());
+            }
+
+            // The poller no longer holds back the release of the events
+            eventsConsumed();
         }
 
         // Update the subscriber metrics.
@@ -131,6 +247,69 @@ public abstract class SubscriptionHandlerBase<V> implements SubscriptionHandler<
         LOGGER.log(DEBUG, "Unsubscribed poller");
     }
 
+    private Poller<ObjectEvent<V>> subscribeRelayPoller(@NonNull final StreamManager streamManager) {
+        synchronized (relays) {
+            // Assign the poller to the least loaded relay with room left, or start a new one
+            RelayRing<V> relay = null;
+            for (final RelayRing<V> candidate : relays) {
+                if (candidate.pollerCount() < mediatorConfig.fanOutConsumersPerRelay()
+                        && (relay == null || candidate.pollerCount() < relay.pollerCount())) {
+                    relay = candidate;
+                }
+            }
+
+            if (relay == null) {
+                relay = new RelayRing<>(
+                        ringBuffer, eventFactory, mediatorConfig.fanOutRelayRingBufferSize(), this::eventsConsumed);
+                relay.start(relayThreadFactory);
+                relays.add(relay);
+                LOGGER.log(DEBUG, "Started relay ring, relays: {0}", relays.size());
+            }
+
+            relay.addPoller();
+            relayAssignments.put(streamManager, relay);
+            return subscribePoller(streamManager, relay.ringBuffer(), relay.dataAvailableSignal());
+        }
+    }
+
+    private void unsubscribeRelayPoller(
+            @NonNull final RelayRing<V> relay, @NonNull final EventPoller<ObjectEvent<V>> eventPoller) {
+        synchronized (relays) {
+            relay.ringBuffer().removeGatingSequence(eventPoller.getSequence());
+
+            // Stop the relay once its last poller is gone so it no longer gates the ring buffer
+            if (relay.removePoller() == 0) {
+                relay.stop();
+                relays.remove(relay);
+                LOGGER.log(DEBUG, "Stopped relay ring, relays: {0}", relays.size());
+            }
+        }
+    }
+
+    private Poller<ObjectEvent<V>> subscribePoller(
+            @NonNull final StreamManager streamManager,
+            @NonNull final RingBuffer<ObjectEvent<V>> pollerRingBuffer,
+            @NonNull final DataAvailableSignal pollerDataAvailableSignal) {
+
+        final EventPoller<ObjectEvent<V>> eventPoller = pollerRingBuffer.newPoller();
+        if (mediatorConfig.consumerBackPressure()) {
+            // Adding the gating sequence also moves it to the cursor
+            pollerRingBuffer.addGatingSequences(eventPoller.getSequence());
+        } else {
+            // Start from the cursor without holding back the publisher
+            eventPoller.getSequence().set(pollerRingBuffer.getCursor());
+        }
+        pollSubscribers.put(streamManager, eventPoller);
+
+        return new LiveStreamPoller<>(
+                eventPoller,
+                pollerRingBuffer,
+                pollerDataAvailableSignal,
+                ObjectEvent::copy,
+                this::eventsConsumed,
+                mediatorConfig);
+    }
+
     /**
      * Checks if the given streamManager is subscribed to the stream of events.
      *
@@ -158,6 +337,7 @@ public abstract class SubscriptionHandlerBase<V> implements SubscriptionHandler<
 
             // Remove the gating sequence from the ring buffer
             ringBuffer.removeGatingSequence(batchEventProcessor.getSequence());
+            eventsConsumed();
         }
 
         // Update the subscriber metrics.
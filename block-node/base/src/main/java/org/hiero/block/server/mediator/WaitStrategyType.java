@@ -0,0 +1,47 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.mediator;
+
+import com.lmax.disruptor.BlockingWaitStrategy;
+import com.lmax.disruptor.BusySpinWaitStrategy;
+import com.lmax.disruptor.PhasedBackoffWaitStrategy;
+import com.lmax.disruptor.WaitStrategy;
+import com.lmax.disruptor.YieldingWaitStrategy;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The strategies the handlers of a RingBuffer may use to wait for new events. Strategies which
+ * spin or yield trade CPU for lower publish-to-handler latency and should only be used when every
+ * handler can be given a core of its own.
+ */
+public enum WaitStrategyType {
+    /** Park on a lock until the publisher signals new events. Lowest CPU usage. */
+    BLOCKING,
+    /** Busy-spin on the sequence. Lowest latency, occupies a core per handler. */
+    BUSY_SPIN,
+    /** Spin briefly, then yield the core to other threads while waiting. */
+    YIELDING,
+    /** Spin, then yield, then fall back to parking on a lock when no events arrive. */
+    PHASED_BACKOFF;
+
+    // The time the phased back-off strategy spins, and then yields, before it blocks
+    private static final long PHASED_BACKOFF_SPIN_MICROS = 100L;
+    private static final long PHASED_BACKOFF_YIELD_MICROS = 1_000L;
+
+    /**
+     * Creates a new wait strategy of this type. Each RingBuffer needs its own wait strategy
+     * instance.
+     *
+     * @return the new wait strategy
+     */
+    @NonNull
+    public WaitStrategy newWaitStrategy() {
+        return switch (this) {
+            case BLOCKING -> new BlockingWaitStrategy();
+            case BUSY_SPIN -> new BusySpinWaitStrategy();
+            case YIELDING -> new YieldingWaitStrategy();
+            case PHASED_BACKOFF -> PhasedBackoffWaitStrategy.withLock(
+                    PHASED_BACKOFF_SPIN_MICROS, PHASED_BACKOFF_YIELD_MICROS, TimeUnit.MICROSECONDS);
+        };
+    }
+}
@@ -71,6 +71,33 @@ public final class BlockNodeMetricTypes {
         /** The number of live to historic stream transitions */
         LiveToHistoricStreamTransitions("live_to_historic_stream_transitions", "Live to Historic Stream Transitions"),
 
+        /** The number of times a waiting consumer was woken up by new data. */
+        ConsumerWakeups("consumer_wakeups", "Consumer Wakeups"),
+
+        /** The number of archived block reads served by an already open archive handle. */
+        ArchiveHandleCacheHits("archive_handle_cache_hits", "Archive Handle Cache Hits"),
+
+        /** The number of archived block reads that had to open and index an archive. */
+        ArchiveHandleCacheMisses("archive_handle_cache_misses", "Archive Handle Cache Misses"),
+
+        /** The number of block reads served from the block cache. */
+        BlockCacheHits("block_cache_hits", "Block Cache Hits"),
+
+        /** The number of block reads that had to read the block from storage. */
+        BlockCacheMisses("block_cache_misses", "Block Cache Misses"),
+
+        /** The number of blocks evicted from the block cache. */
+        BlockCacheEvictions("block_cache_evictions", "Block Cache Evictions"),
+
+        /** The number of blocks downloaded over HTTP. */
+        BlocksDownloaded("blocks_downloaded", "Blocks Downloaded"),
+
+        /** The number of blocks downloaded over HTTP as their stored zstd frames. */
+        CompressedBlocksDownloaded("compressed_blocks_downloaded", "Compressed Blocks Downloaded"),
+
+        /** The number of archived blocks pruned by the retention policy. */
+        RetentionBlocksPruned("retention_blocks_pruned", "Retention Blocks Pruned"),
+
         // Error counters
 
         /** The number of errors encountered by the live block stream mediator. */
@@ -86,7 +113,10 @@ public final class BlockNodeMetricTypes {
         BlockPersistenceError("block_persistence_error", "Blocks Failed to Persist"),
 
         /** The number of errors streaming block items to clients. */
-        OutboundStreamingError("outbound_streaming_error", "Outbound Streaming Error");
+        OutboundStreamingError("outbound_streaming_error", "Outbound Streaming Error"),
+
+        /** The number of failed attempts to rebuild the block index from the storage. */
+        BlockIndexRebuildFailures("block_index_rebuild_failures", "Block Index Rebuild Failures");
 
         private final String grafanaLabel;
         private final String description;
@@ -133,9 +163,32 @@ public final class BlockNodeMetricTypes {
         MediatorRingBufferRemainingCapacity(
                 "mediator_ring_buffer_remaining_capacity", "Mediator Ring Buffer Remaining Capacity"),
 
+        /** The bytes of block items retained by the mediator ring buffer events. */
+        MediatorRetainedBytes("mediator_retained_bytes", "Mediator Retained Bytes"),
+
+        /** The 99th percentile of the microseconds mediator events take from publish to any of its handlers. */
+        MediatorPublishLatencyP99(
+                "mediator_publish_latency_p99_micros", "Mediator Publish Latency P99 in Microseconds"),
+
         /** The amount of capacity remaining in the notifier ring buffer. */
         NotifierRingBufferRemainingCapacity(
-                "notifier_ring_buffer_remaining_capacity", "Notifier Ring Buffer Remaining Capacity");
+                "notifier_ring_buffer_remaining_capacity", "Notifier Ring Buffer Remaining Capacity"),
+
+        /** The 99th percentile of the microseconds notifier events take from publish to any of its handlers. */
+        NotifierPublishLatencyP99(
+                "notifier_publish_latency_p99_micros", "Notifier Publish Latency P99 in Microseconds"),
+
+        /** The microseconds between new data being signalled and the latest woken consumer observing it. */
+        ConsumerWakeupLatency("consumer_wakeup_latency_micros", "Consumer Wakeup Latency in Microseconds"),
+
+        /** The number of archive zip files currently held open for reading archived blocks. */
+        ArchiveHandlesOpen("archive_handles_open", "Archive Handles Open"),
+
+        /** The bytes of the blocks held by the block cache. */
+        BlockCacheResidentBytes("block_cache_resident_bytes", "Block Cache Resident Bytes"),
+
+        /** The percentage of block reads served from the block cache. */
+        BlockCacheHitRatio("block_cache_hit_ratio_percent", "Block Cache Hit Ratio in Percent");
 
         private final String grafanaLabel;
         private final String description;
@@ -1,10 +1,12 @@
 // SPDX-License-Identifier: Apache-2.0
 package org.hiero.block.server.notifier;
 
+import com.lmax.disruptor.dsl.ProducerType;
 import com.swirlds.config.api.ConfigData;
 import com.swirlds.config.api.ConfigProperty;
 import org.hiero.block.common.utils.Preconditions;
 import org.hiero.block.server.config.logging.Loggable;
+import org.hiero.block.server.mediator.WaitStrategyType;
 
 /**
  * Constructor to initialize the Notifier configuration.
@@ -13,11 +15,16 @@ import org.hiero.block.server.config.logging.Loggable;
  *
  * @param ringBufferSize the number of available "slots" the ring buffer uses internally to store
  *                       events.
+ * @param waitStrategy the strategy the handlers of the ring buffer use to wait for new events.
+ * @param producerType whether a single thread or multiple threads publish to the ring buffer.
+ *  The notifier serializes its publishers when a single producer is configured.
  */
 @ConfigData("notifier")
 public record NotifierConfig(
         @Loggable @ConfigProperty(defaultValue = "1024") int ringBufferSize,
-        @Loggable @ConfigProperty(defaultValue = "90") int historicTransitionThresholdPercentage) {
+        @Loggable @ConfigProperty(defaultValue = "90") int historicTransitionThresholdPercentage,
+        @Loggable @ConfigProperty(defaultValue = "BLOCKING") WaitStrategyType waitStrategy,
+        @Loggable @ConfigProperty(defaultValue = "MULTI") ProducerType producerType) {
 
     /**
      * Validate the configuration.
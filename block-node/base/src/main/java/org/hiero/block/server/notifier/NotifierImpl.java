@@ -3,6 +3,7 @@ package org.hiero.block.server.notifier;
 
 import static java.lang.System.Logger.Level.ERROR;
 import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.SuccessfulPubStreamResp;
+import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Gauge.NotifierPublishLatencyP99;
 import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Gauge.NotifierRingBufferRemainingCapacity;
 import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Gauge.Producers;
 
@@ -12,10 +13,12 @@ import com.hedera.hapi.block.EndOfStream;
 import com.hedera.hapi.block.PublishStreamResponse;
 import com.hedera.hapi.block.PublishStreamResponseCode;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.lmax.disruptor.dsl.ProducerType;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.util.concurrent.ConcurrentHashMap;
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import org.hiero.block.server.events.ObjectEvent;
 import org.hiero.block.server.mediator.MediatorConfig;
 import org.hiero.block.server.mediator.SubscriptionHandlerBase;
 import org.hiero.block.server.metrics.MetricsService;
@@ -41,6 +44,7 @@ public class NotifierImpl extends SubscriptionHandlerBase<PublishStreamResponse>
     private final Notifiable mediator;
     private final MetricsService metricsService;
     private final ServiceStatus serviceStatus;
+    private final boolean serializePublishers;
 
     /**
      * Constructs a new NotifierImpl instance with the given mediator, block node context, and
@@ -64,10 +68,15 @@ public class NotifierImpl extends SubscriptionHandlerBase<PublishStreamResponse>
                 new ConcurrentHashMap<>(SUBSCRIBER_INIT_CAPACITY),
                 new ConcurrentHashMap<>(SUBSCRIBER_INIT_CAPACITY),
                 metricsService.get(Producers),
+                metricsService.get(NotifierPublishLatencyP99),
                 mediatorConfig,
-                notifierConfig.ringBufferSize());
+                notifierConfig.ringBufferSize(),
+                ObjectEvent::new,
+                notifierConfig.producerType(),
+                notifierConfig.waitStrategy());
 
         this.mediator = mediator;
+        this.serializePublishers = notifierConfig.producerType() == ProducerType.SINGLE;
         this.metricsService = metricsService;
         this.serviceStatus = serviceStatus;
     }
@@ -79,7 +88,7 @@ public class NotifierImpl extends SubscriptionHandlerBase<PublishStreamResponse>
 
         // Publish an end of stream response to the producers.
         final PublishStreamResponse errorStreamResponse = buildErrorStreamResponse();
-        ringBuffer.publishEvent((event, sequence) -> event.set(errorStreamResponse));
+        publishEvent(errorStreamResponse);
 
         // Stop the server
         serviceStatus.stopWebServer(getClass().getName());
@@ -94,7 +103,7 @@ public class NotifierImpl extends SubscriptionHandlerBase<PublishStreamResponse>
     public void publish(@NonNull PublishStreamResponse response) {
         if (serviceStatus.isRunning()) {
             // Publish the block item to the subscribers
-            ringBuffer.publishEvent((event, sequence) -> event.set(response));
+            publishEvent(response);
 
             metricsService.get(NotifierRingBufferRemainingCapacity).set(ringBuffer.remainingCapacity());
             metricsService.get(SuccessfulPubStreamResp).increment();
@@ -103,6 +112,23 @@ public class NotifierImpl extends SubscriptionHandlerBase<PublishStreamResponse>
         }
     }
 
+    private void publishEvent(@NonNull final PublishStreamResponse response) {
+        if (serializePublishers) {
+            // A single producer ring buffer must only be published to by one thread at a time
+            synchronized (this) {
+                ringBuffer.publishEvent(NotifierImpl::translate, response);
+            }
+        } else {
+            ringBuffer.publishEvent(NotifierImpl::translate, response);
+        }
+    }
+
+    private static void translate(
+            final ObjectEvent<PublishStreamResponse> event, final long sequence, final PublishStreamResponse response) {
+        event.set(response);
+        event.markPublished();
+    }
+
     /**
      * Builds an error stream response.
      *
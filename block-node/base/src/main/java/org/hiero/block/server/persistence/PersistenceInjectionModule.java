@@ -3,6 +3,7 @@ package org.hiero.block.server.persistence;
 
 import com.hedera.hapi.block.BlockItemUnparsed;
 import com.hedera.hapi.block.BlockUnparsed;
+import dagger.Lazy;
 import dagger.Module;
 import dagger.Provides;
 import edu.umd.cs.findbugs.annotations.NonNull;
@@ -24,25 +25,47 @@ import org.hiero.block.server.persistence.storage.PersistenceStorageConfig;
 import org.hiero.block.server.persistence.storage.PersistenceStorageConfig.CompressionType;
 import org.hiero.block.server.persistence.storage.PersistenceStorageConfig.StorageType;
 import org.hiero.block.server.persistence.storage.archive.BlockAsLocalFileArchiver;
+import org.hiero.block.server.persistence.storage.archive.BlockAsSegmentLogArchiver;
 import org.hiero.block.server.persistence.storage.archive.LocalBlockArchiver;
+import org.hiero.block.server.persistence.storage.compression.BlockDictionaryTrainer;
 import org.hiero.block.server.persistence.storage.compression.Compression;
 import org.hiero.block.server.persistence.storage.compression.NoOpCompression;
 import org.hiero.block.server.persistence.storage.compression.ZstdCompression;
-import org.hiero.block.server.persistence.storage.path.BlockAsLocalFilePathResolver;
+import org.hiero.block.server.persistence.storage.compression.ZstdDictionaries;
+import org.hiero.block.server.persistence.storage.path.BlockAsSegmentLogPathResolver;
 import org.hiero.block.server.persistence.storage.path.BlockPathResolver;
+import org.hiero.block.server.persistence.storage.path.IndexedBlockPathResolver;
 import org.hiero.block.server.persistence.storage.path.NoOpBlockPathResolver;
+import org.hiero.block.server.persistence.storage.read.ArchiveHandleCache;
 import org.hiero.block.server.persistence.storage.read.BlockAsLocalFileReader;
+import org.hiero.block.server.persistence.storage.read.BlockAsSegmentLogReader;
+import org.hiero.block.server.persistence.storage.read.BlockCache;
 import org.hiero.block.server.persistence.storage.read.BlockReader;
+import org.hiero.block.server.persistence.storage.read.CachingBlockReader;
+import org.hiero.block.server.persistence.storage.read.EncodedBlockReader;
+import org.hiero.block.server.persistence.storage.read.NoOpBlockCache;
 import org.hiero.block.server.persistence.storage.read.NoOpBlockReader;
+import org.hiero.block.server.persistence.storage.read.StoredBlockReader;
+import org.hiero.block.server.persistence.storage.recovery.BlockAsLocalFileRecovery;
+import org.hiero.block.server.persistence.storage.recovery.NoOpUnverifiedBlockRecovery;
+import org.hiero.block.server.persistence.storage.recovery.UnverifiedBlockRecovery;
 import org.hiero.block.server.persistence.storage.remove.BlockAsLocalFileRemover;
+import org.hiero.block.server.persistence.storage.remove.BlockAsLocalFilePruner;
+import org.hiero.block.server.persistence.storage.remove.BlockAsSegmentLogPruner;
+import org.hiero.block.server.persistence.storage.remove.BlockPruner;
 import org.hiero.block.server.persistence.storage.remove.BlockRemover;
+import org.hiero.block.server.persistence.storage.remove.NoOpBlockPruner;
 import org.hiero.block.server.persistence.storage.remove.NoOpBlockRemover;
+import org.hiero.block.server.persistence.storage.segment.SegmentLog;
 import org.hiero.block.server.persistence.storage.write.AsyncBlockAsLocalFileWriterFactory;
 import org.hiero.block.server.persistence.storage.write.AsyncBlockWriterFactory;
 import org.hiero.block.server.persistence.storage.write.AsyncNoOpWriterFactory;
 import org.hiero.block.server.persistence.storage.write.AsyncWriterExecutorFactory;
 import org.hiero.block.server.service.ServiceStatus;
 import org.hiero.block.server.utils.InjectionConstants;
+import org.hiero.block.server.verification.VerificationConfig;
+import org.hiero.block.server.verification.VerificationConfig.VerificationServiceType;
+import org.hiero.block.server.verification.session.BlockVerificationSessionFactory;
 
 /** A Dagger module for providing dependencies for Persistence Module. */
 @Module
@@ -68,12 +91,28 @@ public interface PersistenceInjectionModule {
             @NonNull final MetricsService metricsService) {
         final StorageType type = config.type();
         return switch (type) {
-            case BLOCK_AS_LOCAL_FILE -> new AsyncBlockAsLocalFileWriterFactory(
+            case BLOCK_AS_LOCAL_FILE, BLOCK_AS_SEGMENT_LOG -> new AsyncBlockAsLocalFileWriterFactory(
                     blockPathResolver, blockRemover, compression, ackHandler, metricsService);
             case NO_OP -> new AsyncNoOpWriterFactory(ackHandler, metricsService);
         };
     }
 
+    /**
+     * Provides the archive handle cache singleton, shared by the readers of
+     * archived blocks.
+     *
+     * @param config the persistence storage configuration needed to build the
+     * cache
+     * @param metricsService the metrics service
+     * @return the archive handle cache singleton
+     */
+    @Provides
+    @Singleton
+    static ArchiveHandleCache providesArchiveHandleCache(
+            @NonNull final PersistenceStorageConfig config, @NonNull final MetricsService metricsService) {
+        return new ArchiveHandleCache(config, metricsService);
+    }
+
     /**
      * Provides a block reader singleton using the persistence storage config.
      *
@@ -81,21 +120,68 @@ public interface PersistenceInjectionModule {
      * block reader
      * @param blockPathResolver the block path resolver needed to build
      * the block reader
-     * @return a block reader singleton
+     * @param segmentLog the segment log, only opened for the segment log
+     * storage type
+     * @param archiveHandleCache the cache of open archives needed to read
+     * archived blocks
+     * @param metricsService the metrics service
+     * @return a block reader singleton, caching the blocks it reads unless the
+     * block cache is disabled
      */
     @Provides
     @Singleton
     static BlockReader<BlockUnparsed> providesBlockReader(
             @NonNull final PersistenceStorageConfig config,
             @NonNull final BlockPathResolver blockPathResolver,
-            @NonNull final Compression compression) {
+            @NonNull final Compression compression,
+            @NonNull final Lazy<SegmentLog> segmentLog,
+            @NonNull final ArchiveHandleCache archiveHandleCache,
+            @NonNull final MetricsService metricsService) {
         final StorageType persistenceType = config.type();
         return switch (persistenceType) {
-            case BLOCK_AS_LOCAL_FILE -> BlockAsLocalFileReader.of(compression, blockPathResolver);
+            case BLOCK_AS_LOCAL_FILE -> cached(
+                    BlockAsLocalFileReader.of(
+                            compression, blockPathResolver, archiveHandleCache, config.memoryMappedReads()),
+                    config,
+                    metricsService);
+            case BLOCK_AS_SEGMENT_LOG -> cached(
+                    BlockAsSegmentLogReader.of(compression, blockPathResolver, segmentLog.get()),
+                    config,
+                    metricsService);
             case NO_OP -> NoOpBlockReader.newInstance();
         };
     }
 
+    private static <R extends BlockReader<BlockUnparsed> & EncodedBlockReader & StoredBlockReader>
+            BlockReader<BlockUnparsed> cached(
+                    @NonNull final R blockReader,
+                    @NonNull final PersistenceStorageConfig config,
+                    @NonNull final MetricsService metricsService) {
+        if (config.blockCacheMaxBytes() > 0) {
+            return CachingBlockReader.of(blockReader, config, metricsService);
+        } else {
+            return blockReader;
+        }
+    }
+
+    /**
+     * Provides the block cache singleton, kept up to date with the blocks
+     * persisted and pruned.
+     *
+     * @param blockReader the block reader
+     * @return the block reader itself when it caches the blocks it reads, a
+     * no-op block cache otherwise
+     */
+    @Provides
+    @Singleton
+    static BlockCache providesBlockCache(@NonNull final BlockReader<BlockUnparsed> blockReader) {
+        if (blockReader instanceof CachingBlockReader cachingBlockReader) {
+            return cachingBlockReader;
+        } else {
+            return NoOpBlockCache.newInstance();
+        }
+    }
+
     /**
      * Provides a block remover singleton using the persistence storage config.
      *
@@ -111,25 +197,83 @@ public interface PersistenceInjectionModule {
         Objects.requireNonNull(blockPathResolver);
         final StorageType persistenceType = config.type();
         return switch (persistenceType) {
-            case BLOCK_AS_LOCAL_FILE -> new BlockAsLocalFileRemover(blockPathResolver);
+            case BLOCK_AS_LOCAL_FILE, BLOCK_AS_SEGMENT_LOG -> new BlockAsLocalFileRemover(blockPathResolver);
             case NO_OP -> NoOpBlockRemover.newInstance();
         };
     }
 
+    /**
+     * Provides a block pruner singleton using the persistence storage config.
+     *
+     * @param config the persistence storage configuration holding the
+     * retention policy
+     * @param blockPathResolver the block path resolver
+     * @param blockRemover the block remover used to delete the pruned blocks
+     * @param archiveHandleCache the cache of open archives
+     * @param segmentLog the segment log, only opened for the segment log
+     * storage type
+     * @param blockCache the block cache the pruned blocks are removed from
+     * @param serviceStatus the service status
+     * @param metricsService the metrics service
+     * @return a block pruner singleton, a no-op one unless a retention policy
+     * is set and the blocks are persisted
+     */
+    @Provides
+    @Singleton
+    static BlockPruner providesBlockPruner(
+            @NonNull final PersistenceStorageConfig config,
+            @NonNull final BlockPathResolver blockPathResolver,
+            @NonNull final BlockRemover blockRemover,
+            @NonNull final ArchiveHandleCache archiveHandleCache,
+            @NonNull final Lazy<SegmentLog> segmentLog,
+            @NonNull final BlockCache blockCache,
+            @NonNull final ServiceStatus serviceStatus,
+            @NonNull final MetricsService metricsService) {
+        if (!config.retentionEnabled()) {
+            return NoOpBlockPruner.newInstance();
+        }
+        return switch (config.type()) {
+            case BLOCK_AS_LOCAL_FILE -> new BlockAsLocalFilePruner(
+                    config,
+                    blockPathResolver,
+                    blockRemover,
+                    archiveHandleCache,
+                    blockCache,
+                    serviceStatus,
+                    metricsService);
+            case BLOCK_AS_SEGMENT_LOG -> new BlockAsSegmentLogPruner(
+                    config, segmentLog.get(), blockCache, serviceStatus, metricsService);
+            case NO_OP -> NoOpBlockPruner.newInstance();
+        };
+    }
+
     /**
      * Provides a path resolver singleton using the persistence storage config.
+     * The index of the {@link StorageType#BLOCK_AS_LOCAL_FILE} storage type is
+     * rebuilt and checkpointed on virtual threads.
      *
      * @param config the persistence storage configuration needed to build the
      * path resolver
+     * @param segmentLog the segment log, only opened for the segment log
+     * storage type
+     * @param metricsService the metrics service the failed index rebuilds are
+     * counted with
      * @return a path resolver singleton
      */
     @Provides
     @Singleton
-    static BlockPathResolver providesPathResolver(@NonNull final PersistenceStorageConfig config) {
+    static BlockPathResolver providesPathResolver(
+            @NonNull final PersistenceStorageConfig config,
+            @NonNull final Lazy<SegmentLog> segmentLog,
+            @NonNull final MetricsService metricsService) {
         final StorageType persistenceType = config.type();
         try {
             return switch (persistenceType) {
-                case BLOCK_AS_LOCAL_FILE -> new BlockAsLocalFilePathResolver(config);
+                case BLOCK_AS_LOCAL_FILE -> new IndexedBlockPathResolver(
+                        config,
+                        Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("block-index-", 0).factory()),
+                        metricsService);
+                case BLOCK_AS_SEGMENT_LOG -> new BlockAsSegmentLogPathResolver(config, segmentLog.get());
                 case NO_OP -> new NoOpBlockPathResolver();
             };
         } catch (final IOException e) {
@@ -138,28 +282,111 @@ public interface PersistenceInjectionModule {
     }
 
     /**
-     * Provides a compression singleton using the persistence config.
+     * Provides a compression singleton using the persistence config. The
+     * compression reads and writes with the Zstd dictionaries under the
+     * dictionary root. When dictionary training is enabled and there is no
+     * active dictionary yet, one is trained from the latest live blocks in
+     * the background, once enough blocks were persisted, so providing the
+     * compression neither waits for the training nor for the block index.
      *
      * @param config the persistence storage configuration needed to build the
      * compression
+     * @param blockPathResolver the block path resolver used to find the blocks
+     * a dictionary is trained from
      * @return a compression singleton
      */
     @Provides
     @Singleton
-    static Compression providesCompression(@NonNull final PersistenceStorageConfig config) {
+    static Compression providesCompression(
+            @NonNull final PersistenceStorageConfig config, @NonNull final BlockPathResolver blockPathResolver) {
         final CompressionType compressionType = config.compression();
-        return switch (compressionType) {
-            case ZSTD -> ZstdCompression.of(config);
-            case NONE -> NoOpCompression.newInstance();
-        };
+        try {
+            final ZstdDictionaries dictionaries = config.type() == StorageType.NO_OP
+                    ? ZstdDictionaries.none()
+                    : ZstdDictionaries.open(config.compressionDictionaryRootPath(), config.compressionLevel());
+            final Compression compression =
+                    switch (compressionType) {
+                        case ZSTD -> ZstdCompression.of(config, dictionaries);
+                        case NONE -> NoOpCompression.newInstance(dictionaries);
+                    };
+            if (compressionType == CompressionType.ZSTD
+                    && config.type() == StorageType.BLOCK_AS_LOCAL_FILE
+                    && config.compressionDictionarySize() > 0
+                    && dictionaries.activeDictionary() == null) {
+                final Executor trainerExecutor = Executors.newThreadPerTaskExecutor(
+                        Thread.ofVirtual().name("block-dictionary-trainer-", 0).factory());
+                new BlockDictionaryTrainer(config, blockPathResolver, compression)
+                        .trainInBackground(dictionaries, trainerExecutor);
+            }
+            return compression;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Provides the segment log singleton, opened under the live root. Only
+     * requested when the storage type is
+     * {@link StorageType#BLOCK_AS_SEGMENT_LOG}.
+     *
+     * @param config the persistence storage configuration needed to open the
+     * segment log
+     * @return a segment log singleton
+     */
+    @Provides
+    @Singleton
+    static SegmentLog providesSegmentLog(@NonNull final PersistenceStorageConfig config) {
+        try {
+            return new SegmentLog(config);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     @Provides
     @Singleton
     static LocalBlockArchiver providesLocalBlockArchiver(
-            @NonNull final PersistenceStorageConfig config, @NonNull final BlockPathResolver blockPathResolver) {
-        // @todo(740) allow for configurable executor for the archiver
-        return new BlockAsLocalFileArchiver(config, blockPathResolver, Executors.newFixedThreadPool(5));
+            @NonNull final PersistenceStorageConfig config,
+            @NonNull final BlockPathResolver blockPathResolver,
+            @NonNull final Lazy<SegmentLog> segmentLog) {
+        return switch (config.type()) {
+            case BLOCK_AS_SEGMENT_LOG -> new BlockAsSegmentLogArchiver(
+                    blockPathResolver,
+                    segmentLog.get(),
+                    Executors.newThreadPerTaskExecutor(
+                            Thread.ofVirtual().name("segment-log-appender-", 0).factory()));
+            // @todo(740) allow for configurable executor for the archiver
+            case BLOCK_AS_LOCAL_FILE, NO_OP -> new BlockAsLocalFileArchiver(
+                    config, blockPathResolver, Executors.newFixedThreadPool(5));
+        };
+    }
+
+    /**
+     * Provides the recovery of the Blocks left under the unverified root by a
+     * previous run.
+     *
+     * @param config the persistence storage configuration
+     * @param verificationConfig the verification configuration
+     * @param blockPathResolver the block path resolver
+     * @param compression the compression used
+     * @param sessionFactory the verification session factory used to verify
+     * the recovered Blocks
+     * @return an unverified block recovery singleton, a no-op one when the
+     * Blocks are not persisted or not verified
+     */
+    @Provides
+    @Singleton
+    static UnverifiedBlockRecovery providesUnverifiedBlockRecovery(
+            @NonNull final PersistenceStorageConfig config,
+            @NonNull final VerificationConfig verificationConfig,
+            @NonNull final BlockPathResolver blockPathResolver,
+            @NonNull final Compression compression,
+            @NonNull final BlockVerificationSessionFactory sessionFactory) {
+        if (config.type() == StorageType.NO_OP || verificationConfig.type() == VerificationServiceType.NO_OP) {
+            return NoOpUnverifiedBlockRecovery.newInstance();
+        } else {
+            return new BlockAsLocalFileRecovery(blockPathResolver, compression, sessionFactory);
+        }
     }
 
     /**
@@ -170,6 +397,12 @@ public interface PersistenceInjectionModule {
      * @param serviceStatus the service status
      * @param ackHandler the ack handler
      * @param asyncBlockWriterFactory the async block writer factory
+     * @param blockCache the block cache, populated with the blocks moved to
+     * live storage
+     * @param blockPruner the block pruner
+     * @param blockRemover the block remover
+     * @param unverifiedBlockRecovery the recovery of the blocks left under the
+     * unverified root
      * @return the persistence block node event handler singleton
      */
     @Provides
@@ -184,7 +417,11 @@ public interface PersistenceInjectionModule {
             @NonNull final AsyncBlockWriterFactory asyncBlockWriterFactory,
             @NonNull final BlockPathResolver blockPathResolver,
             @NonNull final PersistenceStorageConfig persistenceStorageConfig,
-            @NonNull final LocalBlockArchiver localBlockArchiver) {
+            @NonNull final LocalBlockArchiver localBlockArchiver,
+            @NonNull final BlockCache blockCache,
+            @NonNull final BlockPruner blockPruner,
+            @NonNull final BlockRemover blockRemover,
+            @NonNull final UnverifiedBlockRecovery unverifiedBlockRecovery) {
         try {
             final Executor executor = AsyncWriterExecutorFactory.createExecutor(persistenceStorageConfig);
             return new StreamPersistenceHandlerImpl(
@@ -197,7 +434,11 @@ public interface PersistenceInjectionModule {
                     executor,
                     localBlockArchiver,
                     blockPathResolver,
-                    persistenceStorageConfig);
+                    persistenceStorageConfig,
+                    blockCache,
+                    blockPruner,
+                    blockRemover,
+                    unverifiedBlockRecovery);
         } catch (final IOException e) {
             throw new UncheckedIOException(e);
         }
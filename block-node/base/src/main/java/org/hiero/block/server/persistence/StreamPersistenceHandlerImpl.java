@@ -3,47 +3,55 @@ package org.hiero.block.server.persistence;
 
 import static java.lang.System.Logger.Level.DEBUG;
 import static java.lang.System.Logger.Level.ERROR;
+import static java.lang.System.Logger.Level.WARNING;
 import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.StreamPersistenceHandlerError;
 
 import com.hedera.hapi.block.BlockItemUnparsed;
-import com.hedera.hapi.block.stream.output.BlockHeader;
-import com.hedera.pbj.runtime.ParseException;
 import edu.umd.cs.findbugs.annotations.NonNull;
-import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.CompletionService;
-import java.util.concurrent.ExecutionException;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
-import java.util.concurrent.ExecutorCompletionService;
-import java.util.concurrent.Future;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TransferQueue;
 import java.util.stream.Stream;
 import javax.inject.Singleton;
-import org.hiero.block.common.utils.FileUtilities;
 import org.hiero.block.server.ack.AckBlockStatus;
 import org.hiero.block.server.ack.AckHandler;
 import org.hiero.block.server.block.BlockInfo;
+import org.hiero.block.server.block.BlockItemBatchMetadata;
 import org.hiero.block.server.events.BlockNodeEventHandler;
 import org.hiero.block.server.events.ObjectEvent;
 import org.hiero.block.server.exception.BlockStreamProtocolException;
+import org.hiero.block.server.mediator.LiveStreamEvent;
 import org.hiero.block.server.mediator.SubscriptionHandler;
 import org.hiero.block.server.metrics.MetricsService;
 import org.hiero.block.server.notifier.Notifier;
 import org.hiero.block.server.persistence.storage.PersistenceStorageConfig;
 import org.hiero.block.server.persistence.storage.archive.LocalBlockArchiver;
 import org.hiero.block.server.persistence.storage.path.BlockPathResolver;
-import org.hiero.block.server.persistence.storage.path.UnverifiedBlockPath;
+import org.hiero.block.server.persistence.storage.read.BlockCache;
+import org.hiero.block.server.persistence.storage.recovery.UnverifiedBlockRecovery;
+import org.hiero.block.server.persistence.storage.remove.BlockPruner;
+import org.hiero.block.server.persistence.storage.remove.BlockRemover;
 import org.hiero.block.server.persistence.storage.write.AsyncBlockWriter;
 import org.hiero.block.server.persistence.storage.write.AsyncBlockWriterFactory;
+import org.hiero.block.server.persistence.storage.write.AsyncWriterExecutorFactory;
+import org.hiero.block.server.persistence.storage.write.BlockGroupCommitter;
 import org.hiero.block.server.persistence.storage.write.BlockPersistenceResult;
 import org.hiero.block.server.persistence.storage.write.BlockPersistenceResult.BlockPersistenceStatus;
+import org.hiero.block.server.service.Constants;
 import org.hiero.block.server.service.ServiceStatus;
+import org.hiero.block.server.verification.VerificationResult;
 
 /**
  * Use the StreamPersistenceHandlerImpl to persist live block items passed asynchronously through
@@ -62,9 +70,16 @@ public class StreamPersistenceHandlerImpl implements BlockNodeEventHandler<Objec
     private final ServiceStatus serviceStatus;
     private final AckHandler ackHandler;
     private final AsyncBlockWriterFactory asyncBlockWriterFactory;
-    private final CompletionService<Void> completionService;
+    // the writers of the Blocks routed to each lane, each lane runs its writers one after the other
+    private final List<BlockingQueue<AsyncBlockWriter>> writerLanes;
     private final LocalBlockArchiver archiver;
     private final BlockPathResolver pathResolver;
+    private final BlockCache blockCache;
+    private final BlockPruner blockPruner;
+    private final BlockGroupCommitter groupCommitter;
+    // runs the steps that follow a move in the order the Blocks were moved
+    private final Executor postMoveExecutor =
+            Executors.newSingleThreadExecutor(Thread.ofVirtual().name("block-post-move-", 0).factory());
     private TransferQueue<BlockItemUnparsed> currentWriterQueue;
 
     /**
@@ -76,9 +91,17 @@ public class StreamPersistenceHandlerImpl implements BlockNodeEventHandler<Objec
      * @param serviceStatus valid, non-null instance of {@link ServiceStatus}
      * @param ackHandler valid, non-null instance of {@link AckHandler}
      * @param asyncBlockWriterFactory valid, non-null instance of {@link AsyncBlockWriterFactory}
-     * @param writerExecutor valid, non-null instance of {@link Executor}
+     * @param writerExecutor valid, non-null instance of {@link Executor}, runs one long-lived task for
+     *     each writer lane, as many as {@link AsyncWriterExecutorFactory#threadCount} returns
      * @param archiver valid, non-null instance of {@link LocalBlockArchiver}
      * @param persistenceStorageConfig valid, non-null instance of {@link PersistenceStorageConfig}
+     * @param blockCache valid, non-null instance of {@link BlockCache}, populated with the blocks
+     *     moved to live storage
+     * @param blockPruner valid, non-null instance of {@link BlockPruner}
+     * @param blockRemover valid, non-null instance of {@link BlockRemover}, used to clean up the
+     *     blocks left under the unverified root that were not recovered
+     * @param unverifiedBlockRecovery valid, non-null instance of {@link UnverifiedBlockRecovery}, used to
+     *     recover the verified blocks that were not moved to live storage before the server was stopped
      */
     public StreamPersistenceHandlerImpl(
             @NonNull final SubscriptionHandler<List<BlockItemUnparsed>> subscriptionHandler,
@@ -90,7 +113,11 @@ public class StreamPersistenceHandlerImpl implements BlockNodeEventHandler<Objec
             @NonNull final Executor writerExecutor,
             @NonNull final LocalBlockArchiver archiver,
             @NonNull final BlockPathResolver pathResolver,
-            @NonNull final PersistenceStorageConfig persistenceStorageConfig)
+            @NonNull final PersistenceStorageConfig persistenceStorageConfig,
+            @NonNull final BlockCache blockCache,
+            @NonNull final BlockPruner blockPruner,
+            @NonNull final BlockRemover blockRemover,
+            @NonNull final UnverifiedBlockRecovery unverifiedBlockRecovery)
             throws IOException {
         this.subscriptionHandler = Objects.requireNonNull(subscriptionHandler);
         this.notifier = Objects.requireNonNull(notifier);
@@ -99,7 +126,18 @@ public class StreamPersistenceHandlerImpl implements BlockNodeEventHandler<Objec
         this.asyncBlockWriterFactory = Objects.requireNonNull(asyncBlockWriterFactory);
         this.archiver = Objects.requireNonNull(archiver);
         this.pathResolver = Objects.requireNonNull(pathResolver);
-        this.completionService = new ExecutorCompletionService<>(Objects.requireNonNull(writerExecutor));
+        this.blockCache = Objects.requireNonNull(blockCache);
+        this.blockPruner = Objects.requireNonNull(blockPruner);
+        this.groupCommitter = new BlockGroupCommitter(
+                persistenceStorageConfig,
+                pathResolver,
+                Executors.newSingleThreadExecutor(Thread.ofVirtual().name("block-group-commit-", 0).factory()));
+        Objects.requireNonNull(writerExecutor);
+        final int laneCount = AsyncWriterExecutorFactory.threadCount(persistenceStorageConfig);
+        this.writerLanes = new ArrayList<>(laneCount);
+        for (int i = 0; i < laneCount; i++) {
+            writerLanes.add(new LinkedBlockingQueue<>());
+        }
         // Ensure that the root paths exist
         final Path liveRootPath = Objects.requireNonNull(persistenceStorageConfig.liveRootPath());
         final Path archiveRootPath = Objects.requireNonNull(persistenceStorageConfig.archiveRootPath());
@@ -108,12 +146,6 @@ public class StreamPersistenceHandlerImpl implements BlockNodeEventHandler<Objec
         Files.createDirectories(archiveRootPath);
         Files.createDirectories(unverifiedRootPath);
 
-        try (final Stream<Path> blockFilesInUnverified = Files.list(unverifiedRootPath)) {
-            // Clean up the unverified directory at startup. Any files under the
-            // unverified root at startup are to be considered unreliable
-            blockFilesInUnverified.map(Path::toFile).forEach(File::delete);
-        }
-
         // @todo(796) default value for long is a 0, so this means that if no
         //   value is set to the service status for these numbers, the default
         //   in the beginning will be 0, which is a valid number for us. This
@@ -139,6 +171,31 @@ public class StreamPersistenceHandlerImpl implements BlockNodeEventHandler<Objec
             serviceStatus.setLatestReceivedBlockNumber(latestAvailableBlockNumber);
         }
 
+        // The blocks that follow the latest available block, and were
+        // persisted and pass verification, are recovered from the unverified
+        // directory. They are acknowledged below, once the ackHandler knows
+        // about this handler, and are not received again from the publisher.
+        final List<VerificationResult> recoveredBlocks =
+                unverifiedBlockRecovery.recover(latestAvailableBlockNumberOpt.map(n -> n + 1).orElse(0L));
+        final Set<Path> recoveredBlockFiles = new HashSet<>();
+        for (final VerificationResult recoveredBlock : recoveredBlocks) {
+            pathResolver
+                    .findUnverifiedBlock(recoveredBlock.blockNumber())
+                    .ifPresent(path -> recoveredBlockFiles.add(path.dirPath().resolve(path.blockFileName())));
+        }
+        if (!recoveredBlocks.isEmpty()) {
+            serviceStatus.setLatestReceivedBlockNumber(recoveredBlocks.getLast().blockNumber());
+        }
+
+        try (final Stream<Path> blockFilesInUnverified = Files.list(unverifiedRootPath)) {
+            // Clean up the unverified directory at startup. Any files under the
+            // unverified root at startup, other than the recovered blocks, are
+            // to be considered unreliable
+            blockFilesInUnverified
+                    .filter(path -> !recoveredBlockFiles.contains(path))
+                    .forEach(path -> removeUnverified(path, blockRemover));
+        }
+
         // It is indeed a very bad idea to expose `this` to the outside world
         // for an object that has not finished initializing, unfortunately there
         // is no way around this until we have much needed architectural
@@ -160,25 +217,79 @@ public class StreamPersistenceHandlerImpl implements BlockNodeEventHandler<Objec
         // fully initialized.
         this.ackHandler = Objects.requireNonNull(ackHandler);
         this.ackHandler.registerPersistence(this);
+        // every field is set by now, so the recovered blocks may be moved right away
+        for (final VerificationResult recoveredBlock : recoveredBlocks) {
+            final long blockNumber = recoveredBlock.blockNumber();
+            this.ackHandler.blockPersisted(new BlockPersistenceResult(blockNumber, BlockPersistenceStatus.SUCCESS));
+            this.ackHandler.blockVerified(blockNumber, recoveredBlock.blockHash());
+        }
+        // the lanes run for as long as the handler, once it is fully initialized
+        for (final BlockingQueue<AsyncBlockWriter> writerLane : writerLanes) {
+            writerExecutor.execute(() -> runWriterLane(writerLane));
+        }
     }
 
-    public void moveVerified(final long blockNumber) throws IOException {
-        final Optional<UnverifiedBlockPath> optUnverified = pathResolver.findUnverifiedBlock(blockNumber);
-        if (optUnverified.isPresent()) {
-            final UnverifiedBlockPath unverifiedBlockPath = optUnverified.get();
-            final Path source = unverifiedBlockPath.dirPath().resolve(unverifiedBlockPath.blockFileName());
-            final Path rawPathToLive = pathResolver.resolveLiveRawPathToBlock(unverifiedBlockPath.blockNumber());
-            final Path target = FileUtilities.appendExtension(
-                    rawPathToLive, unverifiedBlockPath.compressionType().getFileExtension());
-            Files.createDirectories(target.getParent());
-            Files.move(source, target);
-            archiver.notifyBlockPersisted(blockNumber);
-        } else {
-            throw new FileNotFoundException(
-                    "File for Block [%s] not found under unverified root".formatted(blockNumber));
+    /**
+     * Removes the given file under the unverified root through the block
+     * remover, so the block is no longer found, or deletes the file directly
+     * if it does not hold a block the remover knows of.
+     */
+    private static void removeUnverified(@NonNull final Path path, @NonNull final BlockRemover blockRemover) {
+        final String fileName = path.getFileName().toString();
+        final int blockExtensionStart = fileName.indexOf(Constants.BLOCK_FILE_EXTENSION);
+        try {
+            if (blockExtensionStart > 0
+                    && fileName.chars().limit(blockExtensionStart).allMatch(Character::isDigit)
+                    && blockRemover.removeUnverified(Long.parseLong(fileName.substring(0, blockExtensionStart)))) {
+                return;
+            }
+            Files.deleteIfExists(path);
+        } catch (final IOException | NumberFormatException e) {
+            LOGGER.log(WARNING, "Failed to remove [%s] from unverified storage".formatted(path), e);
         }
     }
 
+    /**
+     * Moves the verified Block with the given number from the unverified root
+     * to the live root. The Block is moved, and made durable, together with
+     * the other Blocks verified at about the same time. Once it is durable,
+     * the Block is registered, and archiving, pruning and caching follow in
+     * the background, where a failure is logged rather than failing the move.
+     *
+     * @param blockNumber the number of the verified Block to move
+     * @return a future completed once the Block is durable under the live
+     * root, or completed exceptionally if it could not be moved
+     */
+    @NonNull
+    public CompletableFuture<Void> moveVerified(final long blockNumber) {
+        return groupCommitter.commit(blockNumber).thenAccept(liveBlockPath -> {
+            try {
+                pathResolver.registerVerifiedBlock(blockNumber, liveBlockPath.compressionType());
+            } catch (final RuntimeException e) {
+                LOGGER.log(ERROR, "Failed to register Block [%d] moved to live storage".formatted(blockNumber), e);
+            }
+            postMoveExecutor.execute(() -> {
+                try {
+                    archiver.notifyBlockPersisted(blockNumber);
+                    blockPruner.notifyBlockPersisted(blockNumber);
+                    // the blocks just persisted are the ones most likely to be read next
+                    blockCache.populate(blockNumber);
+                } catch (final RuntimeException e) {
+                    LOGGER.log(WARNING, "Failed to archive, prune or cache after Block [%d]".formatted(blockNumber), e);
+                }
+            });
+        });
+    }
+
+    /**
+     * Accepts Blocks to move to the live root again after a Block failed to
+     * move. The Blocks submitted before are failed, and are expected to be
+     * submitted again once they are received again.
+     */
+    public void resetMoves() {
+        groupCommitter.reset();
+    }
+
     /**
      * The onEvent method is invoked by the Disruptor when a new SubscribeStreamResponse is
      * available. The method processes the response and persists the block item to the file system.
@@ -196,7 +307,7 @@ public class StreamPersistenceHandlerImpl implements BlockNodeEventHandler<Objec
                     final String message = "BlockItems list is empty.";
                     throw new BlockStreamProtocolException(message);
                 }
-                handleBlockItems(blockItems);
+                handleBlockItems(blockItems, LiveStreamEvent.metadataOf(event));
             } else {
                 LOGGER.log(ERROR, "Service is not running. Block items will not be persisted.");
             }
@@ -211,10 +322,8 @@ public class StreamPersistenceHandlerImpl implements BlockNodeEventHandler<Objec
         subscriptionHandler.unsubscribe(this);
     }
 
-    private void handleBlockItems(final List<BlockItemUnparsed> blockItems)
-            throws ParseException, BlockStreamProtocolException {
-        final BlockItemUnparsed firstItem = blockItems.getFirst();
-        if (firstItem.hasBlockHeader()) {
+    private void handleBlockItems(final List<BlockItemUnparsed> blockItems, final BlockItemBatchMetadata metadata) {
+        if (metadata.startsWithBlockHeader()) {
             if (currentWriterQueue != null) {
                 // we do not expect to enter here, but if we have, this means that a block header was found
                 // before the previous block was completed (no block proof received), the current block is
@@ -230,12 +339,14 @@ public class StreamPersistenceHandlerImpl implements BlockNodeEventHandler<Objec
                 // which will start anew
                 currentWriterQueue = null;
             } else {
-                final BlockHeader header = BlockHeader.PROTOBUF.parse(firstItem.blockHeader());
-                final long blockNumber = header.number();
+                final long blockNumber = metadata.blockNumber();
                 if (blockNumber >= 0) {
-                    final AsyncBlockWriter writer = asyncBlockWriterFactory.create(blockNumber);
+                    // consecutive Blocks are routed to consecutive lanes, so a Block
+                    // is written while the Blocks before it are still being written
+                    final int lane = (int) (blockNumber % writerLanes.size());
+                    final AsyncBlockWriter writer = asyncBlockWriterFactory.create(blockNumber, lane);
                     currentWriterQueue = writer.getQueue();
-                    completionService.submit(writer);
+                    writerLanes.get(lane).add(writer);
                 } else {
                     // we need to notify the ackHandler that the block number is invalid
                     // IMPORTANT: the currentWriterQueue MUST be null after we have
@@ -270,34 +381,35 @@ public class StreamPersistenceHandlerImpl implements BlockNodeEventHandler<Objec
             // which will start anew.
             currentWriterQueue.offer(blockItems.get(i));
         }
-        if (blockItems.getLast().hasBlockProof()) {
+        if (metadata.endsWithBlockProof()) {
             currentWriterQueue = null;
         }
-        Future<Void> completionResult;
-        while ((completionResult = completionService.poll()) != null) {
-            handlePersistenceExecution(completionResult);
-        }
     }
 
-    private void handlePersistenceExecution(final Future<Void> completionResult) throws BlockStreamProtocolException {
-        try {
-            if (completionResult.isCancelled()) {
-                // @todo(713) submit cancelled to ackHandler when migrated
-            } else {
-                // we call get here to verify that the task has run to completion
-                // we do not expect it to throw an exception, but to publish
-                // a meaningful result, if an exception is thrown, it should be
-                // either considered a bug or an unhandled exception
-                completionResult.get();
+    /**
+     * Runs the writers routed to the given lane, one after the other, until
+     * interrupted. Each writer publishes its result to the ackHandler once the
+     * block is written, so nothing is waited for here. If a writer throws, the
+     * persistence handler is torn down.
+     */
+    private void runWriterLane(final BlockingQueue<AsyncBlockWriter> writerLane) {
+        while (!Thread.currentThread().isInterrupted()) {
+            final AsyncBlockWriter writer;
+            try {
+                writer = writerLane.take();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            try {
+                writer.call();
+            } catch (final Exception e) {
+                // we do not expect to enter here, if an exception during execution
+                // occurs inside the async block writer, it should publish a sensible
+                // result otherwise, it is either a bug or an unhandled case
+                LOGGER.log(ERROR, "Unexpected exception during block persistence", e);
+                teardown();
             }
-        } catch (final ExecutionException e) {
-            // we do not expect to enter here, if an exception during execution
-            // occurs inside the async block writer, it should publish a sensible
-            // result otherwise, it is either a bug or an unhandled case
-            throw new BlockStreamProtocolException("Unexpected exception during block persistence.", e);
-        } catch (final InterruptedException e) {
-            // @todo(713) What would be the proper handling here
-            Thread.currentThread().interrupt();
         }
     }
 
@@ -20,6 +20,36 @@ import org.hiero.block.server.config.logging.Loggable;
  * @param compressionLevel compression level used by the compression algorithm
  * Non-PRODUCTION values should only be used for troubleshooting and development purposes.
  * @param archiveGroupSize the number of blocks to archive in a single group
+ * @param segmentSize the size in bytes pre-allocated for each segment file of the
+ * {@link StorageType#BLOCK_AS_SEGMENT_LOG} storage type
+ * @param archiveHandleCacheSize the maximum number of archive zip files kept
+ * open, with their entries indexed, for reading archived blocks
+ * @param memoryMappedReads whether block files and archive entries are
+ * memory-mapped and parsed from the mapping, instead of being streamed
+ * @param blockCacheMaxBytes the maximum number of bytes of decompressed blocks
+ * kept in memory to serve repeated reads of the same blocks, 0 to disable the
+ * cache
+ * @param retentionMaxBlocks the number of the latest blocks to retain, older
+ * archive groups or segments are pruned, 0 to not prune by number of blocks
+ * @param retentionMaxBytes the maximum number of bytes of archived blocks or
+ * segments to retain, the oldest archive groups or segments are pruned past
+ * it, 0 to not prune by size
+ * @param retentionMaxAgeDays the number of days to retain archived blocks or
+ * segments for, archive groups archived or segments appended to earlier are
+ * pruned, 0 to not prune by age
+ * @param retentionDeleteBytesPerSecond the maximum rate, in bytes per second,
+ * at which pruned archive groups or segments are deleted
+ * @param groupCommitMaxBlocks the maximum number of verified blocks moved to
+ * live storage and made durable together
+ * @param groupCommitWindowMillis the time, in milliseconds, to wait for more
+ * verified blocks to move together with the first one of a group
+ * @param compressionDictionaryRootPath provides the root path for the
+ * versioned Zstd dictionaries, the active one is used for new blocks
+ * @param compressionDictionarySize the size in bytes of the Zstd dictionary
+ * trained from recent blocks at startup when there is no active dictionary, 0
+ * to not train a dictionary
+ * @param compressionDictionarySampleBlocks the number of the latest blocks
+ * sampled to train a Zstd dictionary
  */
 @ConfigData("persistence.storage")
 public record PersistenceStorageConfig(
@@ -34,7 +64,21 @@ public record PersistenceStorageConfig(
         @Loggable @ConfigProperty(defaultValue = "THREAD_POOL") ExecutorType executorType,
         @Loggable @ConfigProperty(defaultValue = "6") @Min(1) @Max(16) int threadCount,
         @Loggable @ConfigProperty(defaultValue = "60000") @Min(0) long threadKeepAliveTime,
-        @Loggable @ConfigProperty(defaultValue = "false") boolean useVirtualThreads) {
+        @Loggable @ConfigProperty(defaultValue = "false") boolean useVirtualThreads,
+        @Loggable @ConfigProperty(defaultValue = "1073741824") @Min(1048576) long segmentSize,
+        @Loggable @ConfigProperty(defaultValue = "64") @Min(1) @Max(4096) int archiveHandleCacheSize,
+        @Loggable @ConfigProperty(defaultValue = "true") boolean memoryMappedReads,
+        @Loggable @ConfigProperty(defaultValue = "268435456") @Min(0) long blockCacheMaxBytes,
+        @Loggable @ConfigProperty(defaultValue = "0") @Min(0) long retentionMaxBlocks,
+        @Loggable @ConfigProperty(defaultValue = "0") @Min(0) long retentionMaxBytes,
+        @Loggable @ConfigProperty(defaultValue = "0") @Min(0) int retentionMaxAgeDays,
+        @Loggable @ConfigProperty(defaultValue = "67108864") @Min(1) long retentionDeleteBytesPerSecond,
+        @Loggable @ConfigProperty(defaultValue = "64") @Min(1) @Max(4096) int groupCommitMaxBlocks,
+        @Loggable @ConfigProperty(defaultValue = "2") @Min(0) long groupCommitWindowMillis,
+        @Loggable @ConfigProperty(defaultValue = "/opt/hashgraph/blocknode/data/dictionaries")
+                Path compressionDictionaryRootPath,
+        @Loggable @ConfigProperty(defaultValue = "0") @Min(0) @Max(1048576) int compressionDictionarySize,
+        @Loggable @ConfigProperty(defaultValue = "1000") @Min(1) @Max(100000) int compressionDictionarySampleBlocks) {
     /**
      * Constructor.
      */
@@ -42,6 +86,7 @@ public record PersistenceStorageConfig(
         Objects.requireNonNull(liveRootPath);
         Objects.requireNonNull(archiveRootPath);
         Objects.requireNonNull(unverifiedRootPath);
+        Objects.requireNonNull(compressionDictionaryRootPath);
         Objects.requireNonNull(type);
         Objects.requireNonNull(executorType);
         compression.verifyCompressionLevel(compressionLevel);
@@ -63,6 +108,52 @@ public record PersistenceStorageConfig(
                 "persistence.storage.executionQueueLimit [%d] is required to be between [%d] and [%d].");
         Preconditions.requireInRange(
                 threadCount, 1, 16, "persistence.storage.threadCount [%d] is required to be between [%d] and [%d].");
+        Preconditions.requireGreaterOrEqual(
+                segmentSize,
+                1048576L,
+                "persistence.storage.segmentSize [%d] is required to be greater or equal than [%d].");
+        Preconditions.requireInRange(
+                archiveHandleCacheSize,
+                1,
+                4096,
+                "persistence.storage.archiveHandleCacheSize [%d] is required to be between [%d] and [%d].");
+        Preconditions.requireWhole(
+                blockCacheMaxBytes, "persistence.storage.blockCacheMaxBytes [%d] is required to be a whole number.");
+        Preconditions.requireWhole(
+                retentionMaxBlocks, "persistence.storage.retentionMaxBlocks [%d] is required to be a whole number.");
+        Preconditions.requireWhole(
+                retentionMaxBytes, "persistence.storage.retentionMaxBytes [%d] is required to be a whole number.");
+        Preconditions.requireWhole(
+                retentionMaxAgeDays, "persistence.storage.retentionMaxAgeDays [%d] is required to be a whole number.");
+        Preconditions.requirePositive(
+                retentionDeleteBytesPerSecond,
+                "persistence.storage.retentionDeleteBytesPerSecond [%d] is required to be a positive number.");
+        Preconditions.requireInRange(
+                groupCommitMaxBlocks,
+                1,
+                4096,
+                "persistence.storage.groupCommitMaxBlocks [%d] is required to be between [%d] and [%d].");
+        Preconditions.requireWhole(
+                groupCommitWindowMillis,
+                "persistence.storage.groupCommitWindowMillis [%d] is required to be a whole number.");
+        Preconditions.requireInRange(
+                compressionDictionarySize,
+                0,
+                1048576,
+                "persistence.storage.compressionDictionarySize [%d] is required to be between [%d] and [%d].");
+        Preconditions.requireInRange(
+                compressionDictionarySampleBlocks,
+                1,
+                100000,
+                "persistence.storage.compressionDictionarySampleBlocks [%d] is required to be between [%d] and [%d].");
+    }
+
+    /**
+     * @return {@code true} if any retention policy is set, so archived blocks
+     * are pruned, else {@code false}
+     */
+    public boolean retentionEnabled() {
+        return retentionMaxBlocks > 0 || retentionMaxBytes > 0 || retentionMaxAgeDays > 0;
     }
 
     /**
@@ -83,6 +174,14 @@ public record PersistenceStorageConfig(
          * explicitly specified via an environment variable or app.properties.
          */
         BLOCK_AS_LOCAL_FILE,
+        /**
+         * This type of storage appends verified Blocks to large, pre-allocated
+         * segment files and keeps a memory-mapped index from the Block number
+         * to the segment, offset, length and compression of each Block.
+         * Unverified Blocks are still written as individual files until they
+         * are verified.
+         */
+        BLOCK_AS_SEGMENT_LOG,
         /**
          * This type of storage does nothing.
          */
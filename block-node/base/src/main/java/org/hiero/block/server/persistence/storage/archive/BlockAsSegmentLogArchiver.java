@@ -0,0 +1,172 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.persistence.storage.archive;
+
+import static java.lang.System.Logger.Level.TRACE;
+import static java.lang.System.Logger.Level.WARNING;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.lang.System.Logger;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.hiero.block.server.persistence.storage.PersistenceStorageConfig;
+import org.hiero.block.server.persistence.storage.path.BlockPathResolver;
+import org.hiero.block.server.persistence.storage.path.LiveBlockPath;
+import org.hiero.block.server.persistence.storage.segment.SegmentLog;
+import org.hiero.block.server.persistence.storage.segment.SegmentLogEntry;
+
+/**
+ * An implementation of {@link LocalBlockArchiver} that utilizes the
+ * {@link PersistenceStorageConfig.StorageType#BLOCK_AS_SEGMENT_LOG}
+ * persistence type.
+ * <p>
+ * The verified Blocks are appended to the {@link SegmentLog} in the
+ * background, in batches of all the Blocks persisted since the previous
+ * append, and their staged files are removed once appended. The staged files
+ * are already durable, so the log is forced once per batch rather than once
+ * per Block, and the Blocks are read from the staged files until they are
+ * appended. A batch that fails to append is retried along with the next one.
+ * Staged Blocks left by a previous run are appended ahead of the first Block
+ * persisted after it. The next segment of the log is pre-allocated after
+ * each append, on the same thread.
+ */
+public final class BlockAsSegmentLogArchiver implements LocalBlockArchiver {
+    private final Logger LOGGER = System.getLogger(BlockAsSegmentLogArchiver.class.getName());
+    private final BlockPathResolver blockPathResolver;
+    private final SegmentLog segmentLog;
+    private final Executor executor;
+    private final BlockingQueue<Long> persisted = new LinkedBlockingQueue<>();
+    private final AtomicBoolean appending = new AtomicBoolean();
+    // the Blocks of a failed append, only used by the appending thread
+    private final List<Long> pending = new ArrayList<>();
+
+    /**
+     * Constructor.
+     *
+     * @param blockPathResolver valid, {@code non-null} instance of
+     * {@link BlockPathResolver} used to find the staged Blocks
+     * @param segmentLog valid, {@code non-null} instance of {@link SegmentLog}
+     * the Blocks are appended to
+     * @param executor valid, {@code non-null} executor the Blocks are appended
+     * on
+     */
+    public BlockAsSegmentLogArchiver(
+            @NonNull final BlockPathResolver blockPathResolver,
+            @NonNull final SegmentLog segmentLog,
+            @NonNull final Executor executor) {
+        this.blockPathResolver = Objects.requireNonNull(blockPathResolver);
+        this.segmentLog = Objects.requireNonNull(segmentLog);
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    @Override
+    public void notifyBlockPersisted(final long blockNumber) {
+        persisted.add(blockNumber);
+        if (appending.compareAndSet(false, true)) {
+            executor.execute(this::appendPersisted);
+        }
+    }
+
+    /**
+     * Appends the persisted Blocks until there are none left, or an append
+     * fails.
+     */
+    private void appendPersisted() {
+        boolean appended;
+        do {
+            appended = false;
+            try {
+                persisted.drainTo(pending);
+                appended = appendPending();
+            } catch (final RuntimeException e) {
+                LOGGER.log(WARNING, "Failed to append Blocks to the segment log", e);
+            } finally {
+                appending.set(false);
+            }
+            // a Block persisted before the flag was cleared must not wait for the next one
+        } while (appended && !persisted.isEmpty() && appending.compareAndSet(false, true));
+    }
+
+    private boolean appendPending() {
+        if (pending.isEmpty()) {
+            return true;
+        }
+        final List<LiveBlockPath> stagedBlocks = new ArrayList<>(pending.size());
+        try {
+            final long latestAppended = segmentLog.findLatestBlockNumber().orElse(-1L);
+            for (final long blockNumber : blockNumbersToAppend(latestAppended)) {
+                final Optional<LiveBlockPath> stagedBlock = blockPathResolver.findLiveBlock(blockNumber);
+                if (segmentLog.contains(blockNumber)) {
+                    // appended by an append that failed after indexing it
+                    if (stagedBlock.isPresent()) {
+                        Files.deleteIfExists(stagedBlock.get().dirPath().resolve(stagedBlock.get().blockFileName()));
+                    }
+                } else if (blockNumber < latestAppended) {
+                    LOGGER.log(WARNING, "Block [{0}] precedes the latest Block in the segment log", blockNumber);
+                } else if (stagedBlock.isPresent()) {
+                    stagedBlocks.add(stagedBlock.get());
+                } else {
+                    LOGGER.log(WARNING, "Staged file for Block [{0}] not found", blockNumber);
+                }
+            }
+            final List<SegmentLogEntry> entries = segmentLog.append(stagedBlocks);
+            for (final LiveBlockPath stagedBlock : stagedBlocks) {
+                Files.delete(stagedBlock.dirPath().resolve(stagedBlock.blockFileName()));
+            }
+            pending.clear();
+            if (!entries.isEmpty()) {
+                LOGGER.log(
+                        TRACE,
+                        "Appended Blocks [{0}] to [{1}] to segment [{2}]",
+                        entries.getFirst().blockNumber(),
+                        entries.getLast().blockNumber(),
+                        entries.getLast().segment());
+            }
+            preallocateNextSegment();
+            return true;
+        } catch (final IOException e) {
+            LOGGER.log(WARNING, "Failed to append [%d] Blocks to the segment log".formatted(pending.size()), e);
+            return false;
+        }
+    }
+
+    /**
+     * Pre-allocates the next segment between appends, so the append that
+     * rolls over to it does not wait for it to be allocated. A failure is
+     * not an append failure, the append allocates the segment if it is still
+     * missing.
+     */
+    private void preallocateNextSegment() {
+        try {
+            segmentLog.preallocateNextSegment();
+        } catch (final IOException e) {
+            LOGGER.log(WARNING, "Failed to pre-allocate the next segment of the segment log", e);
+        }
+    }
+
+    /**
+     * The pending Blocks in ascending order, preceded by the staged Blocks
+     * after the latest Block in the log that are not pending, which a previous
+     * run left unappended.
+     */
+    private List<Long> blockNumbersToAppend(final long latestAppended) {
+        final List<Long> blockNumbers = new ArrayList<>();
+        final long firstPending = pending.stream().mapToLong(Long::longValue).min().orElseThrow();
+        if (latestAppended >= 0) {
+            for (long blockNumber = latestAppended + 1; blockNumber < firstPending; blockNumber++) {
+                if (blockPathResolver.findLiveBlock(blockNumber).isPresent()) {
+                    blockNumbers.add(blockNumber);
+                }
+            }
+        }
+        pending.stream().sorted().distinct().forEach(blockNumbers::add);
+        return blockNumbers;
+    }
+}
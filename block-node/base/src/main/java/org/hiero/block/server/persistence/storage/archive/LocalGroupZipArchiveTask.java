@@ -45,9 +45,11 @@ public final class LocalGroupZipArchiveTask implements Callable<Long> {
     private static final String ADD_SUCCESS_MESSAGE = "Zip Entry [{0}] successfully added to zip file [{1}]";
     private static final String ZIP_FILE_SUCCESSFULLY_CREATED_MESSAGE = "Zip File [{0}] successfully created";
     private static final String LINK_CREATED_MESSAGE = "Link [{0} <-> {1}] created";
+    private static final String NOT_ARCHIVED_MESSAGE = "Block [%d] is not archived by the path resolver";
     private static final int BUFFER_SIZE = 32768; // 32K should exactly contain one or two disk blocks in most cases.
     private final BlockPathResolver pathResolver;
     private final long blockNumberThreshold;
+    private final int archiveGroupSize;
     private long blockFilesArchived = 0;
 
     /**
@@ -80,7 +82,7 @@ public final class LocalGroupZipArchiveTask implements Callable<Long> {
             @NonNull final PersistenceStorageConfig config,
             @NonNull final BlockPathResolver pathResolver) {
         this.pathResolver = Objects.requireNonNull(pathResolver);
-        final int archiveGroupSize = config.archiveGroupSize();
+        this.archiveGroupSize = config.archiveGroupSize();
         // Valid thresholds are all that are exactly divisible by the group size
         // and are greater than or equal to 10 (minimum allowed group size, also
         // that would be the least possible threshold passed if group size were
@@ -111,7 +113,9 @@ public final class LocalGroupZipArchiveTask implements Callable<Long> {
         // We need to determine the root where the upper bound would reside. All blocks under this root
         // will be the target of our archive. We expect that this root exists because we expect blocks
         // to be actually written there.
-        final Path rootToArchive = pathResolver.resolveRawPathToArchiveParentUnderLive(upperBound);
+        final Path rootToArchive = pathResolver
+                .resolveRawPathToArchiveParentUnderLive(upperBound)
+                .orElseThrow(() -> new IOException(NOT_ARCHIVED_MESSAGE.formatted(upperBound)));
         LOGGER.log(Level.DEBUG, ARCHIVE_ROOT_RESOLVED_MESSAGE, rootToArchive);
         final List<Path> pathsToArchive; // all blocks that should be archived
         try (final Stream<Path> tree = Files.walk(rootToArchive)) {
@@ -135,6 +139,8 @@ public final class LocalGroupZipArchiveTask implements Callable<Long> {
             // delete the live blocks, if something goes wrong, we know the archive is fine, we
             // can rely on it, we will no longer be touching that.
             deleteLive(rootToArchive);
+            // Finally, the resolver is told the blocks are now found in the archive.
+            pathResolver.registerArchivedBlocks(blockNumberThreshold - archiveGroupSize, upperBound);
             // If deleting does not throw any exception, we are sure that the blocks are safely
             // archived, are discoverable via the link to the archive and the live blocks are
             // deleted. We can also be sure that no data has been lost.
@@ -153,7 +159,9 @@ public final class LocalGroupZipArchiveTask implements Callable<Long> {
     private Path archiveInZip(final long upperBound, final List<Path> pathsToArchive, final Path rootToArchive)
             throws IOException {
         // First, we create the zip
-        final Path zipFilePath = pathResolver.resolveRawPathToArchiveParentUnderArchive(upperBound);
+        final Path zipFilePath = pathResolver
+                .resolveRawPathToArchiveParentUnderArchive(upperBound)
+                .orElseThrow(() -> new IOException(NOT_ARCHIVED_MESSAGE.formatted(upperBound)));
         // If the zip file cannot be created or already exists we must throw and stop the archiving
         // existing archives must never be overwritten.
         if (!Files.exists(zipFilePath)) {
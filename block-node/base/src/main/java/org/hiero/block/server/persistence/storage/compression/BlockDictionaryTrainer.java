@@ -0,0 +1,168 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.persistence.storage.compression;
+
+import static java.lang.System.Logger.Level.DEBUG;
+import static java.lang.System.Logger.Level.INFO;
+import static java.lang.System.Logger.Level.WARNING;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import org.hiero.block.common.utils.Preconditions;
+import org.hiero.block.server.persistence.storage.PersistenceStorageConfig;
+import org.hiero.block.server.persistence.storage.path.BlockPathResolver;
+import org.hiero.block.server.persistence.storage.path.LiveBlockPath;
+
+/**
+ * Trains a Zstd dictionary from a sample of the latest live Blocks and
+ * installs it as the active dictionary. A dictionary is only trained once
+ * there are at least as many Blocks available as are sampled, so training may
+ * run in the background, retrying until enough Blocks were persisted.
+ */
+public final class BlockDictionaryTrainer {
+    private static final System.Logger LOGGER = System.getLogger(BlockDictionaryTrainer.class.getName());
+    /**
+     * The maximum size of a sample. A dictionary only helps to compress the
+     * start of a frame, before the frame has enough history of its own, so
+     * only the start of every Block is sampled.
+     */
+    static final int MAX_SAMPLE_SIZE = 128 * 1024;
+    // the time between two attempts to train a dictionary in the background
+    private static final long RETRY_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private final BlockPathResolver pathResolver;
+    private final Compression compression;
+    private final int dictionarySize;
+    private final int sampleBlocks;
+
+    /**
+     * Constructor.
+     *
+     * @param config valid, {@code non-null} instance of
+     * {@link PersistenceStorageConfig} providing the dictionary size and the
+     * number of Blocks to sample, the dictionary size must be positive
+     * @param pathResolver valid, {@code non-null} instance of
+     * {@link BlockPathResolver} used to find the sampled Blocks
+     * @param compression valid, {@code non-null} instance of
+     * {@link Compression} used to decompress the sampled Blocks
+     */
+    public BlockDictionaryTrainer(
+            @NonNull final PersistenceStorageConfig config,
+            @NonNull final BlockPathResolver pathResolver,
+            @NonNull final Compression compression) {
+        this.pathResolver = Objects.requireNonNull(pathResolver);
+        this.compression = Objects.requireNonNull(compression);
+        this.dictionarySize = Preconditions.requirePositive(config.compressionDictionarySize());
+        this.sampleBlocks = config.compressionDictionarySampleBlocks();
+    }
+
+    /**
+     * Trains a dictionary and installs it on the given executor, once there
+     * are enough Blocks to train it from, retrying every minute until then.
+     *
+     * @param dictionaries valid, {@code non-null} dictionaries to install the
+     * trained dictionary in
+     * @param executor valid, {@code non-null} executor the dictionary is
+     * trained on, one of its threads is used until the dictionary is installed
+     */
+    public void trainInBackground(@NonNull final ZstdDictionaries dictionaries, @NonNull final Executor executor) {
+        Objects.requireNonNull(dictionaries);
+        executor.execute(() -> {
+            try {
+                while (!tryTrainAndInstall(dictionaries)) {
+                    TimeUnit.MILLISECONDS.sleep(RETRY_INTERVAL_MILLIS);
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+    }
+
+    private boolean tryTrainAndInstall(final ZstdDictionaries dictionaries) {
+        try {
+            return trainAndInstall(dictionaries);
+        } catch (final IOException | UncheckedIOException e) {
+            LOGGER.log(WARNING, "Failed to train a dictionary, retrying", e);
+            return false;
+        }
+    }
+
+    /**
+     * Trains a dictionary from the latest live Blocks and installs it as the
+     * active dictionary of the given dictionaries. If there are not enough
+     * Blocks to train a dictionary yet, no dictionary is installed and the
+     * Blocks keep being compressed without one.
+     *
+     * @param dictionaries valid, {@code non-null} dictionaries to install the
+     * trained dictionary in
+     * @return {@code true} if a dictionary was installed, else {@code false}
+     * @throws IOException if the Blocks cannot be read, or the dictionary
+     * cannot be installed
+     */
+    public boolean trainAndInstall(@NonNull final ZstdDictionaries dictionaries) throws IOException {
+        Objects.requireNonNull(dictionaries);
+        if (!hasEnoughBlocks()) {
+            LOGGER.log(DEBUG, "Fewer than [%d] Blocks to train a dictionary from".formatted(sampleBlocks));
+            return false;
+        }
+        final List<byte[]> samples = sampleLatestBlocks();
+        final byte[] dictionary;
+        try {
+            dictionary = ZstdDictionaries.train(samples, dictionarySize);
+        } catch (final IOException e) {
+            LOGGER.log(
+                    WARNING, "Not enough Blocks to train a dictionary from [%d] samples".formatted(samples.size()), e);
+            return false;
+        }
+        final long dictionaryId = dictionaries.install(dictionary);
+        LOGGER.log(
+                INFO,
+                "Installed dictionary [%d] of [%d] bytes trained from [%d] Blocks"
+                        .formatted(dictionaryId, dictionary.length, samples.size()));
+        return true;
+    }
+
+    /**
+     * Returns {@code true} if there are at least as many Blocks available as
+     * the configured number of Blocks to sample.
+     */
+    private boolean hasEnoughBlocks() throws IOException {
+        final Optional<Long> firstBlockNumber = pathResolver.findFirstAvailableBlockNumber();
+        final Optional<Long> latestBlockNumber = pathResolver.findLatestAvailableBlockNumber();
+        return firstBlockNumber.isPresent()
+                && latestBlockNumber.isPresent()
+                && latestBlockNumber.get() - firstBlockNumber.get() + 1 >= sampleBlocks;
+    }
+
+    /**
+     * Returns the start of up to the configured number of the latest live
+     * Blocks, decompressed.
+     */
+    List<byte[]> sampleLatestBlocks() throws IOException {
+        final List<byte[]> samples = new ArrayList<>(sampleBlocks);
+        final Optional<Long> latestBlockNumber = pathResolver.findLatestAvailableBlockNumber();
+        if (latestBlockNumber.isEmpty()) {
+            return samples;
+        }
+        final long lowestBlockNumber = Math.max(0L, latestBlockNumber.get() - sampleBlocks + 1);
+        for (long blockNumber = latestBlockNumber.get(); blockNumber >= lowestBlockNumber; blockNumber--) {
+            final Optional<LiveBlockPath> liveBlockPath = pathResolver.findLiveBlock(blockNumber);
+            if (liveBlockPath.isPresent()) {
+                final LiveBlockPath path = liveBlockPath.get();
+                try (final InputStream in = compression.wrap(
+                        Files.newInputStream(path.dirPath().resolve(path.blockFileName())), path.compressionType())) {
+                    samples.add(in.readNBytes(MAX_SAMPLE_SIZE));
+                }
+            }
+        }
+        return samples;
+    }
+}
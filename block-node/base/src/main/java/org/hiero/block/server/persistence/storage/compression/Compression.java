@@ -1,10 +1,14 @@
 // SPDX-License-Identifier: Apache-2.0
 package org.hiero.block.server.persistence.storage.compression;
 
+import com.hedera.pbj.runtime.Codec;
+import com.hedera.pbj.runtime.ParseException;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import org.hiero.block.server.persistence.storage.PersistenceStorageConfig.CompressionType;
 
 /**
@@ -26,6 +30,22 @@ public interface Compression {
     @NonNull
     OutputStream wrap(@NonNull final OutputStream streamToWrap) throws IOException;
 
+    /**
+     * This method creates a new {@link CompressionEncoder} that compresses
+     * with the specific compression algorithm implementation. An encoder
+     * compresses one stream at a time and is reused from one stream to the
+     * next, so it is meant to be kept by a single writer for as long as the
+     * writer runs. By default, every stream is compressed by
+     * {@link #wrap(OutputStream)}, implementations may override this method
+     * to keep their compression context from one stream to the next.
+     *
+     * @return a new, {@code non-null} {@link CompressionEncoder}
+     */
+    @NonNull
+    default CompressionEncoder newEncoder() {
+        return new StreamCompressionEncoder(this);
+    }
+
     /**
      * This method takes a valid, {@code non-null} {@link InputStream} instance
      * and wraps it with the specified compression algorithm implementation. The
@@ -41,6 +61,44 @@ public interface Compression {
     @NonNull
     InputStream wrap(@NonNull final InputStream streamToWrap, final CompressionType compressionType) throws IOException;
 
+    /**
+     * This method takes a valid, {@code non-null} {@link ByteBuffer} that
+     * holds bytes compressed with the specified compression algorithm,
+     * decompresses them and parses the result with the given codec.
+     * Uncompressed bytes are parsed in place, without being copied, and
+     * compressed bytes are decompressed into a reusable direct buffer.
+     *
+     * @param source a valid {@code non-null} {@link ByteBuffer} that holds
+     * the compressed bytes between its position and limit
+     * @param compressionType valid, {@code non-null} {@link CompressionType}
+     * that specifies the compression algorithm to use
+     * @param codec valid, {@code non-null} {@link Codec} used to parse the
+     * decompressed bytes
+     * @param <T> the type of the parsed value
+     * @return the parsed value
+     * @throws IOException if the bytes cannot be decompressed
+     * @throws ParseException if the decompressed bytes cannot be parsed
+     */
+    @NonNull
+    <T> T decompressAndParse(
+            @NonNull final ByteBuffer source, final CompressionType compressionType, @NonNull final Codec<T> codec)
+            throws IOException, ParseException;
+
+    /**
+     * This method takes a valid, {@code non-null} {@link ByteBuffer} that
+     * holds bytes compressed with the specified compression algorithm and
+     * returns the decompressed bytes.
+     *
+     * @param source a valid {@code non-null} {@link ByteBuffer} that holds
+     * the compressed bytes between its position and limit
+     * @param compressionType valid, {@code non-null} {@link CompressionType}
+     * that specifies the compression algorithm to use
+     * @return the decompressed bytes
+     * @throws IOException if the bytes cannot be decompressed
+     */
+    @NonNull
+    Bytes decompress(@NonNull final ByteBuffer source, final CompressionType compressionType) throws IOException;
+
     /**
      * This method aims to return a valid, {@code non-blank} {@link String} that
      * represents the file extension for the given specific implementation,
@@ -52,4 +110,13 @@ public interface Compression {
      */
     @NonNull
     String getCompressionFileExtension();
+
+    /**
+     * This method returns the {@link CompressionType} of the compression
+     * algorithm the given specific implementation applies.
+     *
+     * @return a valid, {@code non-null} {@link CompressionType}
+     */
+    @NonNull
+    CompressionType getCompressionType();
 }
@@ -1,17 +1,70 @@
 // SPDX-License-Identifier: Apache-2.0
 package org.hiero.block.server.persistence.storage.compression;
 
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdDictDecompress;
 import com.github.luben.zstd.ZstdInputStream;
+import com.hedera.pbj.runtime.Codec;
+import com.hedera.pbj.runtime.ParseException;
+import com.hedera.pbj.runtime.io.buffer.BufferedData;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import org.hiero.block.server.persistence.storage.PersistenceStorageConfig.CompressionType;
 
 /**
- * Base for all compression implementations.
+ * Base for all compression implementations. Zstd frames compressed with a
+ * dictionary are decompressed with the dictionary named in their header.
  */
 public abstract class CompressionBase implements Compression {
+    /** The initial size of a decompression buffer, grown on demand. */
+    private static final int INITIAL_DECOMPRESSION_BUFFER_SIZE = 1024 * 1024;
+    /** The size of a pooled input buffer, larger heap sources get a buffer of their own. */
+    private static final int INITIAL_INPUT_BUFFER_SIZE = 256 * 1024;
+    /** The maximum number of idle buffers of each kind kept for reuse. */
+    private static final int MAX_POOLED_BUFFERS = 16;
+    /**
+     * Idle decompression buffers. They are direct, so that zstd decompresses
+     * into them without an intermediate copy, and they are reused because
+     * PBJ copies the bytes it parses out of the buffer. Only buffers of the
+     * initial size are kept, a buffer grown for a large Block is not.
+     */
+    private static final BlockingQueue<ByteBuffer> DECOMPRESSION_BUFFERS = new ArrayBlockingQueue<>(MAX_POOLED_BUFFERS);
+    /**
+     * Idle input buffers, the direct buffers heap sources are copied to
+     * before decompressed, as zstd only decompresses direct buffers in place.
+     * Only buffers of the initial size are kept.
+     */
+    private static final BlockingQueue<ByteBuffer> INPUT_BUFFERS = new ArrayBlockingQueue<>(MAX_POOLED_BUFFERS);
+    /** The maximum size of a Zstd frame header, enough to find its dictionary ID. */
+    private static final int MAX_FRAME_HEADER_SIZE = 18;
+    private final ZstdDictionaries dictionaries;
+
+    /**
+     * Constructor.
+     *
+     * @param dictionaries valid, {@code non-null} dictionaries the Zstd frames
+     * compressed with a dictionary are decompressed with
+     */
+    protected CompressionBase(@NonNull final ZstdDictionaries dictionaries) {
+        this.dictionaries = Objects.requireNonNull(dictionaries);
+    }
+
+    /**
+     * @return the dictionaries the Zstd frames are compressed and
+     * decompressed with
+     */
+    @NonNull
+    protected final ZstdDictionaries getDictionaries() {
+        return dictionaries;
+    }
+
     /*
      * Comment: no matter what the compression type configured is, we must
      * always be able to wrap an {@link InputStream} with any supported
@@ -26,8 +79,165 @@ public abstract class CompressionBase implements Compression {
             @NonNull final InputStream streamToWrap, @NonNull final CompressionType compressionType)
             throws IOException {
         return switch (Objects.requireNonNull(compressionType)) {
-            case ZSTD -> new ZstdInputStream(Objects.requireNonNull(streamToWrap));
+            case ZSTD -> wrapZstd(Objects.requireNonNull(streamToWrap));
             case NONE -> Objects.requireNonNull(streamToWrap);
         };
     }
+
+    private InputStream wrapZstd(final InputStream streamToWrap) throws IOException {
+        // the frame header is peeked at to find the dictionary of the frame
+        final InputStream markableStream =
+                streamToWrap.markSupported() ? streamToWrap : new BufferedInputStream(streamToWrap);
+        try {
+            markableStream.mark(MAX_FRAME_HEADER_SIZE);
+            final byte[] frameHeader = markableStream.readNBytes(MAX_FRAME_HEADER_SIZE);
+            markableStream.reset();
+            final ZstdDictDecompress dictionary = findDictionary(frameHeader);
+            final ZstdInputStream zstdInputStream = new ZstdInputStream(markableStream);
+            if (dictionary != null) {
+                zstdInputStream.setDict(dictionary);
+            }
+            return zstdInputStream;
+        } catch (final IOException e) {
+            // the caller does not get a stream to close
+            markableStream.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the dictionary the frame starting with the given bytes was
+     * compressed with, or {@code null} if it was compressed without one.
+     */
+    private ZstdDictDecompress findDictionary(final byte[] frameHeader) throws IOException {
+        final long dictionaryId = frameHeader.length == 0 ? 0 : Zstd.getDictIdFromFrame(frameHeader);
+        return dictionaryId == 0 ? null : dictionaries.decompressDictionary(dictionaryId);
+    }
+
+    /*
+     * Comment: final for the same reasons as wrapping an {@link InputStream}.
+     */
+    @NonNull
+    @Override
+    public final <T> T decompressAndParse(
+            @NonNull final ByteBuffer source,
+            @NonNull final CompressionType compressionType,
+            @NonNull final Codec<T> codec)
+            throws IOException, ParseException {
+        Objects.requireNonNull(source);
+        Objects.requireNonNull(codec);
+        return switch (Objects.requireNonNull(compressionType)) {
+            case ZSTD -> decompressZstd(source, decompressed -> codec.parse(BufferedData.wrap(decompressed)));
+            case NONE -> codec.parse(BufferedData.wrap(source));
+        };
+    }
+
+    /*
+     * Comment: final for the same reasons as wrapping an {@link InputStream}.
+     */
+    @NonNull
+    @Override
+    public final Bytes decompress(@NonNull final ByteBuffer source, @NonNull final CompressionType compressionType)
+            throws IOException {
+        Objects.requireNonNull(source);
+        return switch (Objects.requireNonNull(compressionType)) {
+            case ZSTD -> decompressZstd(source, CompressionBase::copyRemaining);
+            case NONE -> copyRemaining(source);
+        };
+    }
+
+    private static Bytes copyRemaining(final ByteBuffer buffer) {
+        final byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return Bytes.wrap(bytes);
+    }
+
+    private <T, E extends Exception> T decompressZstd(
+            final ByteBuffer source, final DecompressedBytesHandler<T, E> handler) throws IOException, E {
+        final ByteBuffer input = source.isDirect()
+                ? null
+                : takeBuffer(INPUT_BUFFERS, INITIAL_INPUT_BUFFER_SIZE, source.remaining());
+        final ByteBuffer directSource = input == null ? source : input.put(source.duplicate()).flip();
+        ByteBuffer target = null;
+        try {
+            final byte[] frameHeader = new byte[Math.min(MAX_FRAME_HEADER_SIZE, directSource.remaining())];
+            directSource.duplicate().get(frameHeader);
+            final ZstdDictDecompress dictionary = findDictionary(frameHeader);
+            target = takeBuffer(DECOMPRESSION_BUFFERS, INITIAL_DECOMPRESSION_BUFFER_SIZE, 0);
+            // the blocks are written as a stream, so their frames do not
+            // declare the decompressed size, the buffer is doubled until the
+            // block fits
+            while (true) {
+                final long result = dictionary == null
+                        ? Zstd.decompressDirectByteBuffer(
+                                target,
+                                0,
+                                target.capacity(),
+                                directSource,
+                                directSource.position(),
+                                directSource.remaining())
+                        : Zstd.decompressDirectByteBufferFastDict(
+                                target,
+                                0,
+                                target.capacity(),
+                                directSource,
+                                directSource.position(),
+                                directSource.remaining(),
+                                dictionary);
+                if (!Zstd.isError(result)) {
+                    return handler.handle(target.clear().limit((int) result));
+                } else if (Zstd.getErrorCode(result) != Zstd.errDstSizeTooSmall()) {
+                    throw new IOException("Failed to decompress: %s".formatted(Zstd.getErrorName(result)));
+                } else if (target.capacity() > Integer.MAX_VALUE / 2) {
+                    throw new IOException("Decompressed size exceeds [%d] bytes".formatted(Integer.MAX_VALUE));
+                }
+                final int grownCapacity = target.capacity() * 2;
+                releaseBuffer(DECOMPRESSION_BUFFERS, INITIAL_DECOMPRESSION_BUFFER_SIZE, target);
+                target = null;
+                target = ByteBuffer.allocateDirect(grownCapacity);
+            }
+        } finally {
+            if (target != null) {
+                releaseBuffer(DECOMPRESSION_BUFFERS, INITIAL_DECOMPRESSION_BUFFER_SIZE, target);
+            }
+            if (input != null) {
+                releaseBuffer(INPUT_BUFFERS, INITIAL_INPUT_BUFFER_SIZE, input);
+            }
+        }
+    }
+
+    /**
+     * Takes an idle buffer of the initial size from the given pool, or
+     * allocates one, unless the buffer must be larger than the initial size.
+     */
+    private static ByteBuffer takeBuffer(
+            final BlockingQueue<ByteBuffer> pool, final int initialSize, final int minCapacity) {
+        if (minCapacity > initialSize) {
+            return ByteBuffer.allocateDirect(minCapacity);
+        }
+        final ByteBuffer pooled = pool.poll();
+        return pooled != null ? pooled : ByteBuffer.allocateDirect(initialSize);
+    }
+
+    /**
+     * Returns the given buffer to the given pool if it is of the initial size,
+     * a larger buffer is left to the garbage collector rather than kept.
+     */
+    private static void releaseBuffer(
+            final BlockingQueue<ByteBuffer> pool, final int initialSize, final ByteBuffer buffer) {
+        if (buffer.capacity() == initialSize) {
+            pool.offer(buffer.clear());
+        }
+    }
+
+    /**
+     * Handles the decompressed bytes before the buffer holding them is reused.
+     *
+     * @param <T> the type of the result
+     * @param <E> the type of the exception thrown by the handler
+     */
+    @FunctionalInterface
+    private interface DecompressedBytesHandler<T, E extends Exception> {
+        T handle(ByteBuffer decompressed) throws E;
+    }
 }
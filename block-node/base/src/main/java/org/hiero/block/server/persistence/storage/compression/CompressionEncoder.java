@@ -0,0 +1,52 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.persistence.storage.compression;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * A reusable encoder that compresses one stream at a time into a channel. An
+ * encoder keeps its compression context and buffers from one stream to the
+ * next, a stream is started with {@link #begin(WritableByteChannel)} and is
+ * either completed with {@link #end()} or abandoned by beginning the next one.
+ * An encoder is not thread safe.
+ */
+public interface CompressionEncoder extends AutoCloseable {
+    /**
+     * Begins a new stream written to the given channel, abandoning the
+     * previous stream if it was not ended.
+     *
+     * @param target a valid, {@code non-null} channel to write the compressed
+     * bytes to
+     * @throws IOException if an I/O exception occurs
+     */
+    void begin(@NonNull final WritableByteChannel target) throws IOException;
+
+    /**
+     * Compresses all the remaining bytes of the given buffer into the current
+     * stream. The bytes may be held back by the encoder until more bytes are
+     * written, or until the stream is ended.
+     *
+     * @param source a valid, {@code non-null} buffer, direct buffers are
+     * compressed without a copy
+     * @throws IOException if an I/O exception occurs
+     */
+    void write(@NonNull final ByteBuffer source) throws IOException;
+
+    /**
+     * Ends the current stream, writing all the compressed bytes still held by
+     * the encoder to the channel.
+     *
+     * @throws IOException if an I/O exception occurs
+     */
+    void end() throws IOException;
+
+    /**
+     * Releases the compression context of the encoder, it must not be used
+     * afterward.
+     */
+    @Override
+    void close();
+}
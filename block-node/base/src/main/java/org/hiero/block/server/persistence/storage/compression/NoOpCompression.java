@@ -15,7 +15,9 @@ public final class NoOpCompression extends CompressionBase {
     /**
      * Constructor.
      */
-    private NoOpCompression() {}
+    private NoOpCompression(@NonNull final ZstdDictionaries dictionaries) {
+        super(dictionaries);
+    }
 
     /**
      * Factory method. Returns a new, fully initialized instance of
@@ -25,7 +27,21 @@ public final class NoOpCompression extends CompressionBase {
      */
     @NonNull
     public static NoOpCompression newInstance() {
-        return new NoOpCompression();
+        return new NoOpCompression(ZstdDictionaries.none());
+    }
+
+    /**
+     * Factory method. Returns a new, fully initialized instance of
+     * {@link NoOpCompression} that still reads the Blocks compressed with the
+     * given dictionaries before compression was disabled.
+     *
+     * @param dictionaries the dictionaries compressed data is decompressed
+     * with
+     * @return a new, fully initialized instance of {@link NoOpCompression}
+     */
+    @NonNull
+    public static NoOpCompression newInstance(@NonNull final ZstdDictionaries dictionaries) {
+        return new NoOpCompression(dictionaries);
     }
 
     /**
@@ -40,9 +56,26 @@ public final class NoOpCompression extends CompressionBase {
         return Objects.requireNonNull(streamToWrap);
     }
 
+    /**
+     * This implementation does not compress the data, the encoder writes the
+     * data to the channel as it is received.
+     * @see Compression#newEncoder() for API contract
+     */
+    @NonNull
+    @Override
+    public CompressionEncoder newEncoder() {
+        return new NoOpCompressionEncoder();
+    }
+
     @NonNull
     @Override
     public String getCompressionFileExtension() {
         return CompressionType.NONE.getFileExtension();
     }
+
+    @NonNull
+    @Override
+    public CompressionType getCompressionType() {
+        return CompressionType.NONE;
+    }
 }
@@ -0,0 +1,38 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.persistence.storage.compression;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Objects;
+
+/**
+ * A {@link CompressionEncoder} that does not compress the data, but writes
+ * it to the channel as it is received.
+ */
+final class NoOpCompressionEncoder implements CompressionEncoder {
+    private WritableByteChannel target;
+
+    @Override
+    public void begin(@NonNull final WritableByteChannel target) {
+        this.target = Objects.requireNonNull(target);
+    }
+
+    @Override
+    public void write(@NonNull final ByteBuffer source) throws IOException {
+        while (source.hasRemaining()) {
+            target.write(source);
+        }
+    }
+
+    @Override
+    public void end() {
+        target = null;
+    }
+
+    @Override
+    public void close() {
+        target = null;
+    }
+}
@@ -0,0 +1,66 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.persistence.storage.compression;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.Objects;
+
+/**
+ * A {@link CompressionEncoder} that compresses every stream with a new
+ * {@link OutputStream} created by {@link Compression#wrap(OutputStream)}.
+ */
+final class StreamCompressionEncoder implements CompressionEncoder {
+    // the size of the chunks the bytes of a buffer without an array are copied in
+    private static final int COPY_BUFFER_SIZE = 8 * 1024;
+    private final Compression compression;
+    private byte[] copyBuffer;
+    private OutputStream out;
+
+    /**
+     * Constructor.
+     *
+     * @param compression the compression every stream is wrapped with
+     */
+    StreamCompressionEncoder(@NonNull final Compression compression) {
+        this.compression = Objects.requireNonNull(compression);
+    }
+
+    @Override
+    public void begin(@NonNull final WritableByteChannel target) throws IOException {
+        out = compression.wrap(Channels.newOutputStream(Objects.requireNonNull(target)));
+    }
+
+    @Override
+    public void write(@NonNull final ByteBuffer source) throws IOException {
+        if (source.hasArray()) {
+            out.write(source.array(), source.arrayOffset() + source.position(), source.remaining());
+            source.position(source.limit());
+        } else {
+            if (copyBuffer == null) {
+                copyBuffer = new byte[COPY_BUFFER_SIZE];
+            }
+            while (source.hasRemaining()) {
+                final int length = Math.min(source.remaining(), copyBuffer.length);
+                source.get(copyBuffer, 0, length);
+                out.write(copyBuffer, 0, length);
+            }
+        }
+    }
+
+    @Override
+    public void end() throws IOException {
+        // closing the stream completes it, and closes the channel it was
+        // created on, which the channel's owner closes regardless
+        out.close();
+        out = null;
+    }
+
+    @Override
+    public void close() {
+        out = null;
+    }
+}
@@ -1,6 +1,7 @@
 // SPDX-License-Identifier: Apache-2.0
 package org.hiero.block.server.persistence.storage.compression;
 
+import com.github.luben.zstd.ZstdDictCompress;
 import com.github.luben.zstd.ZstdOutputStream;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.IOException;
@@ -11,7 +12,8 @@ import org.hiero.block.server.persistence.storage.PersistenceStorageConfig.Compr
 
 /**
  * An implementation of {@link Compression} that compresses the data using the
- * Zstandard (Zstd) compression algorithm.
+ * Zstandard (Zstd) compression algorithm. The data is compressed with the
+ * active dictionary of the {@link ZstdDictionaries}, if any.
  */
 public final class ZstdCompression extends CompressionBase {
     private final int compressionLevel;
@@ -21,8 +23,12 @@ public final class ZstdCompression extends CompressionBase {
      *
      * @param config the {@link PersistenceStorageConfig} instance that provides
      * the configuration for the compression algorithm
+     * @param dictionaries the dictionaries the data is compressed and
+     * decompressed with
      */
-    private ZstdCompression(@NonNull final PersistenceStorageConfig config) {
+    private ZstdCompression(
+            @NonNull final PersistenceStorageConfig config, @NonNull final ZstdDictionaries dictionaries) {
+        super(dictionaries);
         this.compressionLevel = config.compressionLevel();
     }
 
@@ -37,13 +43,48 @@ public final class ZstdCompression extends CompressionBase {
      */
     @NonNull
     public static ZstdCompression of(@NonNull final PersistenceStorageConfig config) {
-        return new ZstdCompression(config);
+        return new ZstdCompression(config, ZstdDictionaries.none());
+    }
+
+    /**
+     * Factory method. Returns a new, fully initialized instance of
+     * {@link ZstdCompression} that compresses with the active dictionary of
+     * the given dictionaries.
+     *
+     * @param config the {@link PersistenceStorageConfig} instance that provides
+     * the configuration for the compression algorithm
+     * @param dictionaries the dictionaries the data is compressed and
+     * decompressed with
+     * @return a new, fully initialized and valid instance of
+     * {@link ZstdCompression}
+     */
+    @NonNull
+    public static ZstdCompression of(
+            @NonNull final PersistenceStorageConfig config, @NonNull final ZstdDictionaries dictionaries) {
+        return new ZstdCompression(config, dictionaries);
     }
 
     @NonNull
     @Override
     public OutputStream wrap(@NonNull final OutputStream streamToWrap) throws IOException {
-        return new ZstdOutputStream(Objects.requireNonNull(streamToWrap), compressionLevel);
+        final ZstdOutputStream zstdOutputStream =
+                new ZstdOutputStream(Objects.requireNonNull(streamToWrap), compressionLevel);
+        final ZstdDictCompress dictionary = getDictionaries().activeDictionary();
+        if (dictionary != null) {
+            zstdOutputStream.setDict(dictionary);
+        }
+        return zstdOutputStream;
+    }
+
+    /**
+     * This implementation keeps the native compression context of the encoder
+     * from one stream to the next.
+     * @see Compression#newEncoder() for API contract
+     */
+    @NonNull
+    @Override
+    public CompressionEncoder newEncoder() {
+        return new ZstdCompressionEncoder(compressionLevel, getDictionaries());
     }
 
     @NonNull
@@ -51,4 +92,10 @@ public final class ZstdCompression extends CompressionBase {
     public String getCompressionFileExtension() {
         return CompressionType.ZSTD.getFileExtension();
     }
+
+    @NonNull
+    @Override
+    public CompressionType getCompressionType() {
+        return CompressionType.ZSTD;
+    }
 }
@@ -0,0 +1,113 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.persistence.storage.compression;
+
+import com.github.luben.zstd.EndDirective;
+import com.github.luben.zstd.ZstdCompressCtx;
+import com.github.luben.zstd.ZstdDictCompress;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Objects;
+
+/**
+ * A {@link CompressionEncoder} that compresses with the Zstandard (Zstd)
+ * compression algorithm. The native compression context and the direct
+ * buffers are kept from one stream to the next, every stream is a single Zstd
+ * frame, compressed with the dictionary that is active when the stream
+ * begins, if any. Heap buffers are compressed through a direct input buffer,
+ * a chunk at a time.
+ */
+final class ZstdCompressionEncoder implements CompressionEncoder {
+    // the size of the direct buffer the compressed bytes are gathered in before written
+    private static final int OUTPUT_BUFFER_SIZE = 128 * 1024;
+    // the size of the direct buffer heap bytes are copied to before compressed
+    private static final int INPUT_BUFFER_SIZE = 64 * 1024;
+    private static final ByteBuffer NO_INPUT = ByteBuffer.allocateDirect(0);
+    private final ZstdCompressCtx context;
+    private final int compressionLevel;
+    private final ZstdDictionaries dictionaries;
+    private final ByteBuffer output;
+    // allocated on the first write of a heap buffer
+    private ByteBuffer input;
+    private WritableByteChannel target;
+
+    /**
+     * Constructor.
+     *
+     * @param compressionLevel the Zstd compression level of the streams
+     * @param dictionaries the dictionaries holding the active dictionary the
+     * streams are compressed with
+     */
+    ZstdCompressionEncoder(final int compressionLevel, @NonNull final ZstdDictionaries dictionaries) {
+        this.compressionLevel = compressionLevel;
+        this.dictionaries = Objects.requireNonNull(dictionaries);
+        this.context = new ZstdCompressCtx();
+        this.output = ByteBuffer.allocateDirect(OUTPUT_BUFFER_SIZE);
+    }
+
+    @Override
+    public void begin(@NonNull final WritableByteChannel target) {
+        this.target = Objects.requireNonNull(target);
+        // resetting drops a stream that was abandoned, along with the parameters
+        // and the dictionary
+        context.reset();
+        context.setLevel(compressionLevel);
+        final ZstdDictCompress dictionary = dictionaries.activeDictionary();
+        if (dictionary != null) {
+            context.loadDict(dictionary);
+        }
+        output.clear();
+    }
+
+    @Override
+    public void write(@NonNull final ByteBuffer source) throws IOException {
+        if (source.isDirect()) {
+            compress(source);
+        } else {
+            if (input == null) {
+                input = ByteBuffer.allocateDirect(INPUT_BUFFER_SIZE);
+            }
+            final ByteBuffer chunk = source.duplicate();
+            while (chunk.hasRemaining()) {
+                final int limit = chunk.limit();
+                chunk.limit(chunk.position() + Math.min(chunk.remaining(), input.capacity()));
+                input.clear();
+                input.put(chunk).flip();
+                chunk.limit(limit);
+                compress(input);
+            }
+        }
+        source.position(source.limit());
+    }
+
+    @Override
+    public void end() throws IOException {
+        boolean flushed;
+        do {
+            flushed = context.compressDirectByteBufferStream(output, NO_INPUT, EndDirective.END);
+            drainOutput();
+        } while (!flushed);
+        target = null;
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+
+    private void drainOutput() throws IOException {
+        output.flip();
+        while (output.hasRemaining()) {
+            target.write(output);
+        }
+        output.clear();
+    }
+
+    private void compress(final ByteBuffer directSource) throws IOException {
+        while (directSource.hasRemaining()) {
+            context.compressDirectByteBufferStream(output, directSource, EndDirective.CONTINUE);
+            drainOutput();
+        }
+    }
+}
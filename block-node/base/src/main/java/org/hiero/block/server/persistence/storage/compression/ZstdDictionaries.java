@@ -0,0 +1,201 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.persistence.storage.compression;
+
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdDictCompress;
+import com.github.luben.zstd.ZstdDictDecompress;
+import com.github.luben.zstd.ZstdDictTrainer;
+import com.github.luben.zstd.ZstdException;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import org.hiero.block.common.utils.FileUtilities;
+import org.hiero.block.common.utils.Preconditions;
+
+/**
+ * The versioned Zstandard (Zstd) dictionaries the Blocks are compressed with.
+ * <p>
+ * Every dictionary is kept under the dictionary root, in a file named after
+ * the dictionary ID, and is never modified once written. One of them is the
+ * active dictionary, named by the {@value #ACTIVE_FILE_NAME} file, and the new
+ * Blocks are compressed with it. Zstd writes the ID of the dictionary in the
+ * header of every frame compressed with it, so a Block is always decompressed
+ * with the dictionary it was compressed with, no matter which dictionary is
+ * active at the time it is read.
+ */
+public final class ZstdDictionaries {
+    /** The extension of the dictionary files. */
+    public static final String DICTIONARY_FILE_EXTENSION = ".zdict";
+    /** The name of the file holding the ID of the active dictionary. */
+    public static final String ACTIVE_FILE_NAME = "active";
+
+    private static final ZstdDictionaries NONE = new ZstdDictionaries(null, 0);
+    private final Path rootPath;
+    private final int compressionLevel;
+    private final Map<Long, ZstdDictDecompress> decompressDictionaries = new ConcurrentHashMap<>();
+    private volatile ZstdDictCompress activeDictionary;
+
+    private ZstdDictionaries(@Nullable final Path rootPath, final int compressionLevel) {
+        this.rootPath = rootPath;
+        this.compressionLevel = compressionLevel;
+    }
+
+    /**
+     * Opens the dictionaries under the given root, loading the active one.
+     *
+     * @param rootPath valid, {@code non-null} path to the dictionary root, it
+     * is created once a dictionary is installed
+     * @param compressionLevel the Zstd compression level the active
+     * dictionary is prepared for
+     * @return the dictionaries under the given root
+     * @throws IOException if the active dictionary cannot be read
+     */
+    @NonNull
+    public static ZstdDictionaries open(@NonNull final Path rootPath, final int compressionLevel) throws IOException {
+        final ZstdDictionaries dictionaries = new ZstdDictionaries(Objects.requireNonNull(rootPath), compressionLevel);
+        final Path activeFilePath = rootPath.resolve(ACTIVE_FILE_NAME);
+        if (Files.exists(activeFilePath)) {
+            final String activeId = Files.readString(activeFilePath, StandardCharsets.US_ASCII).strip();
+            try {
+                dictionaries.activate(dictionaries.readDictionary(Long.parseLong(activeId)));
+            } catch (final NumberFormatException e) {
+                throw new IOException("Invalid active dictionary ID [%s]".formatted(activeId), e);
+            }
+        }
+        return dictionaries;
+    }
+
+    /**
+     * @return dictionaries without any dictionary, Blocks are compressed
+     * without a dictionary and Blocks compressed with one cannot be read
+     */
+    @NonNull
+    public static ZstdDictionaries none() {
+        return NONE;
+    }
+
+    /**
+     * Trains a dictionary from the given samples.
+     *
+     * @param samples valid, {@code non-null} samples of the data to compress,
+     * the more samples the better the dictionary
+     * @param dictionarySize the maximum size of the dictionary in bytes, must
+     * be positive
+     * @return the trained dictionary
+     * @throws IOException if the samples are not sufficient to train a
+     * dictionary
+     */
+    @NonNull
+    public static byte[] train(@NonNull final List<byte[]> samples, final int dictionarySize) throws IOException {
+        Preconditions.requirePositive(dictionarySize);
+        if (samples.isEmpty()) {
+            throw new IOException("No samples to train a dictionary from");
+        }
+        final int samplesSize = samples.stream().mapToInt(sample -> sample.length).sum();
+        final ZstdDictTrainer trainer = new ZstdDictTrainer(samplesSize, dictionarySize);
+        for (final byte[] sample : samples) {
+            trainer.addSample(sample);
+        }
+        try {
+            return trainer.trainSamples();
+        } catch (final ZstdException e) {
+            throw new IOException("Failed to train dictionary from [%d] samples".formatted(samples.size()), e);
+        }
+    }
+
+    /**
+     * @return the prepared active dictionary new Blocks are compressed with,
+     * or {@code null} if there is no active dictionary
+     */
+    @Nullable
+    public ZstdDictCompress activeDictionary() {
+        return activeDictionary;
+    }
+
+    /**
+     * Returns the prepared dictionary with the given ID, to decompress a frame
+     * compressed with it.
+     *
+     * @param dictionaryId the ID of the dictionary, as found in a frame header
+     * @return the prepared dictionary with the given ID
+     * @throws IOException if there is no dictionary with the given ID, or it
+     * cannot be read
+     */
+    @NonNull
+    public ZstdDictDecompress decompressDictionary(final long dictionaryId) throws IOException {
+        final ZstdDictDecompress cached = decompressDictionaries.get(dictionaryId);
+        if (cached != null) {
+            return cached;
+        }
+        final ZstdDictDecompress dictionary = new ZstdDictDecompress(readDictionary(dictionaryId));
+        final ZstdDictDecompress previous = decompressDictionaries.putIfAbsent(dictionaryId, dictionary);
+        return previous != null ? previous : dictionary;
+    }
+
+    /**
+     * Writes the given dictionary under the dictionary root and makes it the
+     * active dictionary. Both the dictionary file and the file naming the
+     * active dictionary are replaced atomically.
+     *
+     * @param dictionary valid, {@code non-null} dictionary to install
+     * @return the ID of the installed dictionary
+     * @throws IOException if the dictionary cannot be written, or there is no
+     * dictionary root
+     */
+    public long install(@NonNull final byte[] dictionary) throws IOException {
+        if (rootPath == null) {
+            throw new IOException("No dictionary root to install the dictionary under");
+        }
+        final long dictionaryId = Zstd.getDictIdFromDict(Objects.requireNonNull(dictionary));
+        if (dictionaryId == 0) {
+            throw new IOException("Cannot install a dictionary without an ID");
+        }
+        Files.createDirectories(rootPath);
+        writeAtomically(resolveDictionaryPath(dictionaryId), dictionary);
+        writeAtomically(
+                rootPath.resolve(ACTIVE_FILE_NAME), Long.toString(dictionaryId).getBytes(StandardCharsets.US_ASCII));
+        activate(dictionary);
+        return dictionaryId;
+    }
+
+    private void activate(final byte[] dictionary) {
+        activeDictionary = new ZstdDictCompress(dictionary, compressionLevel);
+    }
+
+    private byte[] readDictionary(final long dictionaryId) throws IOException {
+        final Path dictionaryPath = rootPath == null ? null : resolveDictionaryPath(dictionaryId);
+        if (dictionaryPath == null || Files.notExists(dictionaryPath)) {
+            throw new FileNotFoundException("Dictionary [%d] not found".formatted(dictionaryId));
+        }
+        return Files.readAllBytes(dictionaryPath);
+    }
+
+    private Path resolveDictionaryPath(final long dictionaryId) {
+        return rootPath.resolve(dictionaryId + DICTIONARY_FILE_EXTENSION);
+    }
+
+    private static void writeAtomically(final Path path, final byte[] bytes) throws IOException {
+        final Path tempPath = FileUtilities.appendExtension(path, ".tmp");
+        try (final FileChannel channel = FileChannel.open(
+                tempPath, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        Files.move(tempPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+}
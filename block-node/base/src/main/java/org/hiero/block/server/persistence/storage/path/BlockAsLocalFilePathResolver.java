@@ -66,14 +66,14 @@ public final class BlockAsLocalFilePathResolver implements BlockPathResolver {
 
     @NonNull
     @Override
-    public Path resolveRawPathToArchiveParentUnderLive(final long blockNumber) {
-        return resolveRawArchivingTarget(blockNumber, liveRootPath, "");
+    public Optional<Path> resolveRawPathToArchiveParentUnderLive(final long blockNumber) {
+        return Optional.of(resolveRawArchivingTarget(blockNumber, liveRootPath, ""));
     }
 
     @NonNull
     @Override
-    public Path resolveRawPathToArchiveParentUnderArchive(final long blockNumber) {
-        return resolveRawArchivingTarget(blockNumber, archiveRootPath, Constants.ZIP_FILE_EXTENSION);
+    public Optional<Path> resolveRawPathToArchiveParentUnderArchive(final long blockNumber) {
+        return Optional.of(resolveRawArchivingTarget(blockNumber, archiveRootPath, Constants.ZIP_FILE_EXTENSION));
     }
 
     @NonNull
@@ -169,7 +169,8 @@ public final class BlockAsLocalFilePathResolver implements BlockPathResolver {
     private Optional<Path> dfsFindFistLive(final Path root) throws IOException {
         if (Files.isDirectory(root)) {
             try (final Stream<Path> list = Files.list(root)) {
-                final Optional<Path> nextPath = list.sorted().findAny();
+                final Optional<Path> nextPath =
+                        list.filter(BlockAsLocalFilePathResolver::isTriePath).sorted().findAny();
                 if (nextPath.isPresent()) {
                     return dfsFindFistLive(nextPath.get());
                 } else {
@@ -218,8 +219,9 @@ public final class BlockAsLocalFilePathResolver implements BlockPathResolver {
     private Optional<Path> dfsFindLatestLive(final Path root) throws IOException {
         if (Files.isDirectory(root)) {
             try (final Stream<Path> list = Files.list(root)) {
-                final Optional<Path> nextPath =
-                        list.sorted(Comparator.reverseOrder()).findAny();
+                final Optional<Path> nextPath = list.filter(BlockAsLocalFilePathResolver::isTriePath)
+                        .sorted(Comparator.reverseOrder())
+                        .findAny();
                 if (nextPath.isPresent()) {
                     return dfsFindLatestLive(nextPath.get());
                 } else {
@@ -272,7 +274,7 @@ public final class BlockAsLocalFilePathResolver implements BlockPathResolver {
      * @return an {@link ArchiveBlockPath} containing the raw path resolved
      */
     ArchiveBlockPath resolveRawArchivePath(final long blockNumber) {
-        final Path zipRootUnderLiveLocation = resolveRawPathToArchiveParentUnderLive(blockNumber);
+        final Path zipRootUnderLiveLocation = resolveRawArchivingTarget(blockNumber, liveRootPath, "");
         final String zipEntryName = zipRootUnderLiveLocation
                 .relativize(resolveLiveRawPathToBlock(blockNumber))
                 .toString();
@@ -286,6 +288,15 @@ public final class BlockAsLocalFilePathResolver implements BlockPathResolver {
                 blockNumber);
     }
 
+    /**
+     * The entries of the trie are named after the digits of the Block
+     * numbers, other files kept under the live root, like the Block manifest,
+     * are not.
+     */
+    private static boolean isTriePath(final Path path) {
+        return Character.isDigit(path.getFileName().toString().charAt(0));
+    }
+
     private String[] getRawBlockPath(final long blockNumber) {
         final String rawBlockNumber = longLeadingZeroesFormat.format(blockNumber);
         final String[] split = rawBlockNumber.split("");
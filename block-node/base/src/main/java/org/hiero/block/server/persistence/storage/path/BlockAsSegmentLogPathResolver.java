@@ -0,0 +1,150 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.persistence.storage.path;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.DecimalFormat;
+import java.util.Objects;
+import java.util.Optional;
+import org.hiero.block.common.utils.FileUtilities;
+import org.hiero.block.common.utils.Preconditions;
+import org.hiero.block.server.persistence.storage.PersistenceStorageConfig;
+import org.hiero.block.server.persistence.storage.PersistenceStorageConfig.CompressionType;
+import org.hiero.block.server.persistence.storage.segment.SegmentLog;
+import org.hiero.block.server.service.Constants;
+
+/**
+ * A Block path resolver for block-as-segment-log.
+ * <p>
+ * Unverified Blocks are kept as one file per Block, exactly as for
+ * block-as-file. Once verified, a Block is moved to a flat staging directory
+ * under the live root, from where it is appended to the {@link SegmentLog}. A
+ * verified Block is therefore found either in the log or, until it is
+ * appended, in the staging directory. Blocks in the log are not archived.
+ */
+public final class BlockAsSegmentLogPathResolver implements BlockPathResolver {
+    private static final String STAGING_DIR_NAME = "staging";
+    private static final int MAX_LONG_DIGITS = 19;
+    private final Path stagingRootPath;
+    private final SegmentLog segmentLog;
+    private final BlockAsLocalFilePathResolver unverifiedPathResolver;
+    private final DecimalFormat longLeadingZeroesFormat;
+
+    /**
+     * Constructor.
+     *
+     * @param config valid, {@code non-null} instance of
+     * {@link PersistenceStorageConfig} used for initializing the resolver
+     * @param segmentLog valid, {@code non-null} instance of {@link SegmentLog}
+     * verified Blocks are appended to
+     */
+    public BlockAsSegmentLogPathResolver(
+            @NonNull final PersistenceStorageConfig config, @NonNull final SegmentLog segmentLog) throws IOException {
+        this.stagingRootPath = Objects.requireNonNull(config.liveRootPath()).resolve(STAGING_DIR_NAME);
+        this.segmentLog = Objects.requireNonNull(segmentLog);
+        this.unverifiedPathResolver = new BlockAsLocalFilePathResolver(config);
+        this.longLeadingZeroesFormat = new DecimalFormat("0".repeat(MAX_LONG_DIGITS));
+    }
+
+    /**
+     * Resolves the path to the Block in the staging directory, where a
+     * verified Block waits to be appended to the {@link SegmentLog}.
+     */
+    @NonNull
+    @Override
+    public Path resolveLiveRawPathToBlock(final long blockNumber) {
+        Preconditions.requireWhole(blockNumber);
+        return stagingRootPath.resolve(
+                longLeadingZeroesFormat.format(blockNumber).concat(Constants.BLOCK_FILE_EXTENSION));
+    }
+
+    @NonNull
+    @Override
+    public Path resolveLiveRawUnverifiedPathToBlock(final long blockNumber) {
+        return unverifiedPathResolver.resolveLiveRawUnverifiedPathToBlock(blockNumber);
+    }
+
+    /**
+     * Blocks in the {@link SegmentLog} are not archived, always returns an
+     * empty optional.
+     */
+    @NonNull
+    @Override
+    public Optional<Path> resolveRawPathToArchiveParentUnderLive(final long blockNumber) {
+        Preconditions.requireWhole(blockNumber);
+        return Optional.empty();
+    }
+
+    /**
+     * Blocks in the {@link SegmentLog} are not archived, always returns an
+     * empty optional.
+     */
+    @NonNull
+    @Override
+    public Optional<Path> resolveRawPathToArchiveParentUnderArchive(final long blockNumber) {
+        Preconditions.requireWhole(blockNumber);
+        return Optional.empty();
+    }
+
+    /**
+     * Finds a verified Block that is not yet appended to the
+     * {@link SegmentLog}, in the staging directory.
+     */
+    @NonNull
+    @Override
+    public Optional<LiveBlockPath> findLiveBlock(final long blockNumber) {
+        Preconditions.requireWhole(blockNumber);
+        final Path rawStagedBlockPath = resolveLiveRawPathToBlock(blockNumber);
+        final CompressionType[] allCompressionTypes = CompressionType.values();
+        for (int i = 0; i < allCompressionTypes.length; i++) {
+            final CompressionType localCompressionType = allCompressionTypes[i];
+            final Path compressionExtendedBlockPath =
+                    FileUtilities.appendExtension(rawStagedBlockPath, localCompressionType.getFileExtension());
+            if (Files.exists(compressionExtendedBlockPath)) {
+                return Optional.of(new LiveBlockPath(
+                        blockNumber,
+                        compressionExtendedBlockPath.getParent(),
+                        compressionExtendedBlockPath.getFileName().toString(),
+                        localCompressionType));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Blocks in the {@link SegmentLog} are not archived, always returns an
+     * empty optional.
+     */
+    @NonNull
+    @Override
+    public Optional<ArchiveBlockPath> findArchivedBlock(final long blockNumber) {
+        Preconditions.requireWhole(blockNumber);
+        return Optional.empty();
+    }
+
+    @NonNull
+    @Override
+    public Optional<UnverifiedBlockPath> findUnverifiedBlock(final long blockNumber) {
+        return unverifiedPathResolver.findUnverifiedBlock(blockNumber);
+    }
+
+    @Override
+    public boolean existsVerifiedBlock(final long blockNumber) {
+        Preconditions.requireWhole(blockNumber);
+        return segmentLog.contains(blockNumber) || findLiveBlock(blockNumber).isPresent();
+    }
+
+    @NonNull
+    @Override
+    public Optional<Long> findFirstAvailableBlockNumber() {
+        return segmentLog.findFirstBlockNumber();
+    }
+
+    @NonNull
+    @Override
+    public Optional<Long> findLatestAvailableBlockNumber() {
+        return segmentLog.findLatestBlockNumber();
+    }
+}
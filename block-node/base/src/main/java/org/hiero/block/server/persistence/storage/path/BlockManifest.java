@@ -0,0 +1,148 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.persistence.storage.path;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.zip.CRC32;
+import org.hiero.block.common.utils.FileUtilities;
+import org.hiero.block.server.persistence.storage.PersistenceStorageConfig.CompressionType;
+import org.hiero.block.server.persistence.storage.path.BlockRangeSet.BlockRange;
+
+/**
+ * A checkpoint of the live and archived Block ranges of the
+ * {@link IndexedBlockPathResolver}, so the index is restored at startup
+ * without scanning the storage.
+ * <p>
+ * The manifest is written whole, to a temporary file that is forced to disk
+ * and then atomically moved over the previous manifest, so a crash leaves
+ * either the previous or the new manifest in place. A checksum after the
+ * ranges detects a manifest that was not written completely.
+ *
+ * @param archiveGroupSize the archive group size the ranges were archived with
+ * @param liveRanges the ranges of the live Blocks, in ascending order
+ * @param archivedRanges the ranges of the archived Blocks, in ascending order
+ */
+record BlockManifest(
+        int archiveGroupSize, @NonNull List<BlockRange> liveRanges, @NonNull List<BlockRange> archivedRanges) {
+    /** The name of the manifest file under the live root. */
+    static final String MANIFEST_FILE_NAME = "blocks.manifest";
+
+    private static final int MAGIC = 0x424E4D46; // BNMF
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 20;
+    private static final int RANGE_SIZE = 17;
+    private static final CompressionType[] COMPRESSION_TYPES = CompressionType.values();
+
+    /**
+     * Constructor.
+     */
+    BlockManifest {
+        liveRanges = List.copyOf(liveRanges);
+        archivedRanges = List.copyOf(archivedRanges);
+    }
+
+    /**
+     * Reads the manifest at the given path.
+     *
+     * @param manifestPath the path to the manifest file
+     * @return the manifest, or an empty optional if there is no manifest or it
+     * is not a valid manifest
+     * @throws IOException if the manifest file cannot be read
+     */
+    static Optional<BlockManifest> read(@NonNull final Path manifestPath) throws IOException {
+        if (Files.notExists(Objects.requireNonNull(manifestPath))) {
+            return Optional.empty();
+        }
+        final ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(manifestPath));
+        try {
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                return Optional.empty();
+            }
+            final int archiveGroupSize = buffer.getInt();
+            final int liveRangeCount = buffer.getInt();
+            final int archivedRangeCount = buffer.getInt();
+            final List<BlockRange> liveRanges = readRanges(buffer, liveRangeCount);
+            final List<BlockRange> archivedRanges = readRanges(buffer, archivedRangeCount);
+            final int checksumPosition = buffer.position();
+            if (buffer.getLong() != checksum(buffer, checksumPosition) || buffer.hasRemaining()) {
+                return Optional.empty();
+            }
+            return Optional.of(new BlockManifest(archiveGroupSize, liveRanges, archivedRanges));
+        } catch (final BufferUnderflowException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Writes the manifest to the given path, replacing the previous manifest
+     * atomically.
+     *
+     * @param manifestPath the path to the manifest file
+     * @throws IOException if the manifest cannot be written
+     */
+    void write(@NonNull final Path manifestPath) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(
+                HEADER_SIZE + RANGE_SIZE * (liveRanges.size() + archivedRanges.size()) + Long.BYTES);
+        buffer.putInt(MAGIC)
+                .putInt(VERSION)
+                .putInt(archiveGroupSize)
+                .putInt(liveRanges.size())
+                .putInt(archivedRanges.size());
+        writeRanges(buffer, liveRanges);
+        writeRanges(buffer, archivedRanges);
+        buffer.putLong(checksum(buffer, buffer.position()));
+        buffer.flip();
+        final Path tempPath = FileUtilities.appendExtension(manifestPath, ".tmp");
+        Files.createDirectories(manifestPath.getParent());
+        try (final FileChannel channel = FileChannel.open(
+                tempPath, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        Files.move(tempPath, manifestPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static List<BlockRange> readRanges(final ByteBuffer buffer, final int rangeCount) {
+        if (rangeCount < 0 || rangeCount > buffer.remaining() / RANGE_SIZE) {
+            throw new IllegalArgumentException("Invalid range count [%d]".formatted(rangeCount));
+        }
+        final List<BlockRange> ranges = new ArrayList<>(rangeCount);
+        for (int i = 0; i < rangeCount; i++) {
+            final long first = buffer.getLong();
+            final long last = buffer.getLong();
+            final int compression = buffer.get();
+            if (first < 0 || last < first || compression < 0 || compression >= COMPRESSION_TYPES.length) {
+                throw new IllegalArgumentException("Invalid range [%d, %d]".formatted(first, last));
+            }
+            ranges.add(new BlockRange(first, last, COMPRESSION_TYPES[compression]));
+        }
+        return ranges;
+    }
+
+    private static void writeRanges(final ByteBuffer buffer, final List<BlockRange> ranges) {
+        for (final BlockRange range : ranges) {
+            buffer.putLong(range.first())
+                    .putLong(range.last())
+                    .put((byte) range.compressionType().ordinal());
+        }
+    }
+
+    private static long checksum(final ByteBuffer buffer, final int length) {
+        final CRC32 crc = new CRC32();
+        crc.update(buffer.array(), 0, length);
+        return crc.getValue();
+    }
+}
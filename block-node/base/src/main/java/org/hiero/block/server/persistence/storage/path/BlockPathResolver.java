@@ -6,6 +6,7 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
 import org.hiero.block.server.persistence.storage.PersistenceStorageConfig;
+import org.hiero.block.server.persistence.storage.PersistenceStorageConfig.CompressionType;
 import org.hiero.block.server.service.Constants;
 
 /**
@@ -73,10 +74,11 @@ public interface BlockPathResolver {
      * reside. This is intended so we know which is the root to be used to
      * archive all blocks under.
      * @param blockNumber to be resolved the path for
-     * @return non-null, resolved path for parent of block under live to archive
+     * @return non-null, resolved path for parent of block under live to
+     * archive, or an empty optional if the storage does not archive blocks
      */
     @NonNull
-    Path resolveRawPathToArchiveParentUnderLive(final long blockNumber);
+    Optional<Path> resolveRawPathToArchiveParentUnderLive(final long blockNumber);
 
     /**
      * This method will resolve the path to a parent directory of a given
@@ -94,10 +96,11 @@ public interface BlockPathResolver {
      * to a directory, we will resolve to a zip file.
      * @param blockNumber to be resolved the path for
      * @return non-null, resolved path for the zip that would contain all
-     * blocks archived based on group size
+     * blocks archived based on group size, or an empty optional if the storage
+     * does not archive blocks
      */
     @NonNull
-    Path resolveRawPathToArchiveParentUnderArchive(final long blockNumber);
+    Optional<Path> resolveRawPathToArchiveParentUnderArchive(final long blockNumber);
 
     /**
      * This method attempts to find a Block by a given number under the
@@ -180,4 +183,55 @@ public interface BlockPathResolver {
      */
     @NonNull
     Optional<Long> findLatestAvailableBlockNumber() throws IOException;
+
+    /**
+     * This method records that an UNVERIFIED Block is being written under the
+     * persistence storage unverified root. Writers call this before they
+     * create the Block file, so a partially written Block can still be found
+     * and removed. Resolvers that look up the storage on every call ignore
+     * this method.
+     *
+     * @param blockNumber the number of the Block being written
+     * @param compressionType the compression the Block is written with
+     */
+    default void registerUnverifiedBlock(final long blockNumber, @NonNull final CompressionType compressionType) {}
+
+    /**
+     * This method records that an UNVERIFIED Block has been removed from the
+     * persistence storage unverified root. Resolvers that look up the storage
+     * on every call ignore this method.
+     *
+     * @param blockNumber the number of the removed Block
+     */
+    default void unregisterUnverifiedBlock(final long blockNumber) {}
+
+    /**
+     * This method records that a Block has been verified and moved under the
+     * persistence storage live root. Resolvers that look up the storage on
+     * every call ignore this method.
+     *
+     * @param blockNumber the number of the verified Block
+     * @param compressionType the compression the Block is written with
+     */
+    default void registerVerifiedBlock(final long blockNumber, @NonNull final CompressionType compressionType) {}
+
+    /**
+     * This method records that all Blocks in the given range, that were
+     * under the persistence storage live root, have been archived. Resolvers
+     * that look up the storage on every call ignore this method.
+     *
+     * @param firstBlockNumber the number of the first archived Block, inclusive
+     * @param lastBlockNumber the number of the last archived Block, inclusive
+     */
+    default void registerArchivedBlocks(final long firstBlockNumber, final long lastBlockNumber) {}
+
+    /**
+     * This method records that all archived Blocks in the given range have
+     * been pruned from the persistence storage. Resolvers that look up the
+     * storage on every call ignore this method.
+     *
+     * @param firstBlockNumber the number of the first pruned Block, inclusive
+     * @param lastBlockNumber the number of the last pruned Block, inclusive
+     */
+    default void unregisterArchivedBlocks(final long firstBlockNumber, final long lastBlockNumber) {}
 }
@@ -0,0 +1,158 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.persistence.storage.path;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import org.hiero.block.server.persistence.storage.PersistenceStorageConfig.CompressionType;
+
+/**
+ * A set of Block numbers, each with the compression type its Block is written
+ * with. Consecutive Block numbers with the same compression type are kept as a
+ * single range, so a contiguous chain of Blocks takes constant memory no
+ * matter its length.
+ * <p>
+ * The set is not thread safe.
+ */
+final class BlockRangeSet {
+    /**
+     * A range of consecutive Block numbers written with the same compression.
+     *
+     * @param first the first Block number of the range, inclusive
+     * @param last the last Block number of the range, inclusive
+     * @param compressionType the compression the Blocks are written with
+     */
+    record BlockRange(long first, long last, @NonNull CompressionType compressionType) {}
+
+    // ranges keyed by their first Block number, ranges never overlap
+    private final TreeMap<Long, BlockRange> ranges = new TreeMap<>();
+
+    /**
+     * @param blockNumber the Block number to look for
+     * @return the compression type of the Block if it is in the set, else an
+     * empty optional
+     */
+    Optional<CompressionType> find(final long blockNumber) {
+        final Entry<Long, BlockRange> floor = ranges.floorEntry(blockNumber);
+        if (floor != null && floor.getValue().last() >= blockNumber) {
+            return Optional.of(floor.getValue().compressionType());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @param blockNumber the Block number to look for
+     * @return {@code true} if the Block is in the set, else {@code false}
+     */
+    boolean contains(final long blockNumber) {
+        final Entry<Long, BlockRange> floor = ranges.floorEntry(blockNumber);
+        return floor != null && floor.getValue().last() >= blockNumber;
+    }
+
+    /**
+     * @return the lowest Block number in the set, if any
+     */
+    Optional<Long> first() {
+        return ranges.isEmpty() ? Optional.empty() : Optional.of(ranges.firstKey());
+    }
+
+    /**
+     * @return the highest Block number in the set, if any
+     */
+    Optional<Long> last() {
+        return ranges.isEmpty() ? Optional.empty() : Optional.of(ranges.lastEntry().getValue().last());
+    }
+
+    /**
+     * @return the ranges of the set, in ascending order
+     */
+    @NonNull
+    List<BlockRange> ranges() {
+        return List.copyOf(ranges.values());
+    }
+
+    /**
+     * Adds the Block to the set, replacing its compression type if it is
+     * already in the set.
+     *
+     * @param blockNumber the Block number to add
+     * @param compressionType the compression the Block is written with
+     */
+    void add(final long blockNumber, @NonNull final CompressionType compressionType) {
+        add(new BlockRange(blockNumber, blockNumber, Objects.requireNonNull(compressionType)));
+    }
+
+    /**
+     * Adds all Blocks of the range to the set, replacing the compression type
+     * of those already in the set.
+     *
+     * @param range the range to add
+     */
+    void add(@NonNull final BlockRange range) {
+        remove(range.first(), range.last());
+        long first = range.first();
+        long last = range.last();
+        final Entry<Long, BlockRange> lower = ranges.floorEntry(first - 1);
+        if (lower != null
+                && lower.getValue().last() == first - 1
+                && lower.getValue().compressionType() == range.compressionType()) {
+            first = lower.getKey();
+            ranges.remove(lower.getKey());
+        }
+        final BlockRange higher = ranges.get(last + 1);
+        if (higher != null && higher.compressionType() == range.compressionType()) {
+            last = higher.last();
+            ranges.remove(higher.first());
+        }
+        ranges.put(first, new BlockRange(first, last, range.compressionType()));
+    }
+
+    /**
+     * Removes the Block from the set.
+     *
+     * @param blockNumber the Block number to remove
+     * @return {@code true} if the Block was in the set, else {@code false}
+     */
+    boolean remove(final long blockNumber) {
+        return !remove(blockNumber, blockNumber).isEmpty();
+    }
+
+    /**
+     * Removes all Blocks between the given Block numbers from the set.
+     *
+     * @param first the first Block number to remove, inclusive
+     * @param last the last Block number to remove, inclusive
+     * @return the removed ranges, in ascending order
+     */
+    @NonNull
+    List<BlockRange> remove(final long first, final long last) {
+        final List<BlockRange> removed = new ArrayList<>();
+        final Entry<Long, BlockRange> floor = ranges.floorEntry(first);
+        Long key = (floor != null && floor.getValue().last() >= first) ? floor.getKey() : ranges.ceilingKey(first);
+        while (key != null && key <= last) {
+            final BlockRange range = ranges.remove(key);
+            final CompressionType compressionType = range.compressionType();
+            if (range.first() < first) {
+                ranges.put(range.first(), new BlockRange(range.first(), first - 1, compressionType));
+            }
+            if (range.last() > last) {
+                ranges.put(last + 1, new BlockRange(last + 1, range.last(), compressionType));
+            }
+            removed.add(new BlockRange(
+                    Math.max(range.first(), first), Math.min(range.last(), last), compressionType));
+            key = ranges.ceilingKey(key + 1);
+        }
+        return removed;
+    }
+
+    /**
+     * Removes all Blocks from the set.
+     */
+    void clear() {
+        ranges.clear();
+    }
+}
@@ -0,0 +1,531 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.persistence.storage.path;
+
+import static java.lang.System.Logger.Level.INFO;
+import static java.lang.System.Logger.Level.WARNING;
+import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.BlockIndexRebuildFailures;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import org.hiero.block.common.utils.FileUtilities;
+import org.hiero.block.common.utils.Preconditions;
+import org.hiero.block.server.metrics.MetricsService;
+import org.hiero.block.server.persistence.storage.PersistenceStorageConfig;
+import org.hiero.block.server.persistence.storage.PersistenceStorageConfig.CompressionType;
+import org.hiero.block.server.persistence.storage.path.BlockRangeSet.BlockRange;
+import org.hiero.block.server.service.Constants;
+
+/**
+ * A Block path resolver for block-as-file that answers every lookup from an
+ * in-memory index instead of probing the file system.
+ * <p>
+ * The index holds the unverified, live and archived Block numbers, each with
+ * the compression type of its Block, as compact ranges. It is built once, by
+ * scanning the storage roots when the resolver is created, and is kept
+ * current by the writers, the persistence handler, the archiver and the
+ * remover through the {@code register} methods of {@link BlockPathResolver}.
+ * Paths are resolved the same way as by {@link BlockAsLocalFilePathResolver}.
+ * <p>
+ * The live and archived ranges are checkpointed to a {@link BlockManifest}
+ * under the live root, and are restored from it at startup once the first and
+ * last Blocks of every range are found in the storage, adding the Blocks moved
+ * to live after the checkpoint. Since those Blocks are found again at startup,
+ * the Blocks moved to live are only checkpointed once per group of Blocks, or
+ * at most every {@value #CHECKPOINT_INTERVAL_SECONDS} seconds, while archived
+ * and pruned Blocks are checkpointed right away. Unverified Blocks are never
+ * checkpointed, as they are scanned at startup. When the
+ * manifest is missing or stale, the index is rebuilt in the background and
+ * the lookups probe the file system until it is built. A rebuild that fails
+ * is retried with a growing delay, and the changes registered until the
+ * retry are dropped rather than kept, as the retry scans the storage after
+ * them.
+ */
+public final class IndexedBlockPathResolver implements BlockPathResolver {
+    private static final System.Logger LOGGER = System.getLogger(IndexedBlockPathResolver.class.getName());
+    /** The longest time the Blocks moved to live go without a checkpoint while Blocks are moved. */
+    private static final long CHECKPOINT_INTERVAL_SECONDS = 10L;
+    private static final long CHECKPOINT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(CHECKPOINT_INTERVAL_SECONDS);
+    /** The delay before the first retry of a failed rebuild, doubled after every failed retry. */
+    private static final long REBUILD_RETRY_INITIAL_DELAY_MILLIS = 1000L;
+    private static final long REBUILD_RETRY_MAX_DELAY_MILLIS = TimeUnit.MINUTES.toMillis(5L);
+    private final BlockAsLocalFilePathResolver delegate;
+    private final Path liveRootPath;
+    private final Path unverifiedRootPath;
+    private final Path manifestPath;
+    private final int archiveGroupSize;
+    private final Executor executor;
+    private final MetricsService metricsService;
+    private final BlockRangeSet unverifiedBlocks = new BlockRangeSet();
+    private final BlockRangeSet liveBlocks = new BlockRangeSet();
+    private final BlockRangeSet archivedBlocks = new BlockRangeSet();
+    private final Lock readLock;
+    private final Lock writeLock;
+    private final Lock checkpointLock = new ReentrantLock();
+    private final AtomicBoolean checkpointScheduled = new AtomicBoolean();
+    // the Blocks moved to live since the last checkpoint
+    private final AtomicLong uncheckpointedLiveBlocks = new AtomicLong();
+    private volatile long lastCheckpointNanos = System.nanoTime();
+    // the changes registered while the index is rebuilt, applied once it is built
+    private final List<Runnable> pendingChanges = new ArrayList<>();
+    // whether changes are kept while the index is not ready, not after a failed rebuild
+    private boolean collectingChanges = true;
+    private volatile boolean ready;
+
+    /**
+     * Constructor. The index is restored, or rebuilt, and checkpointed on the
+     * calling thread, a failed rebuild is retried on the calling thread until
+     * it succeeds.
+     *
+     * @param config valid, {@code non-null} instance of
+     * {@link PersistenceStorageConfig} used for initializing the resolver
+     * @param metricsService valid, {@code non-null} instance of
+     * {@link MetricsService} the failed rebuilds are counted with
+     * @throws IOException if the unverified root or the manifest cannot be read
+     */
+    public IndexedBlockPathResolver(
+            @NonNull final PersistenceStorageConfig config, @NonNull final MetricsService metricsService)
+            throws IOException {
+        this(config, Runnable::run, metricsService);
+    }
+
+    /**
+     * Constructor. Restores the index from the manifest under the live root
+     * and scans the unverified root of the given config, else rebuilds the
+     * index on the given executor. The index is checkpointed on the given
+     * executor.
+     *
+     * @param config valid, {@code non-null} instance of
+     * {@link PersistenceStorageConfig} used for initializing the resolver
+     * @param executor valid, {@code non-null} executor used to rebuild and
+     * checkpoint the index
+     * @param metricsService valid, {@code non-null} instance of
+     * {@link MetricsService} the failed rebuilds are counted with
+     * @throws IOException if the unverified root or the manifest cannot be read
+     */
+    public IndexedBlockPathResolver(
+            @NonNull final PersistenceStorageConfig config,
+            @NonNull final Executor executor,
+            @NonNull final MetricsService metricsService)
+            throws IOException {
+        this.delegate = new BlockAsLocalFilePathResolver(config);
+        this.liveRootPath = Objects.requireNonNull(config.liveRootPath());
+        this.unverifiedRootPath = Objects.requireNonNull(config.unverifiedRootPath());
+        this.manifestPath = liveRootPath.resolve(BlockManifest.MANIFEST_FILE_NAME);
+        this.archiveGroupSize = config.archiveGroupSize();
+        this.executor = Objects.requireNonNull(executor);
+        this.metricsService = Objects.requireNonNull(metricsService);
+        final ReadWriteLock lock = new ReentrantReadWriteLock();
+        this.readLock = lock.readLock();
+        this.writeLock = lock.writeLock();
+        final Optional<BlockManifest> manifest = BlockManifest.read(manifestPath);
+        if (manifest.isPresent() && restore(manifest.get())) {
+            indexUnverifiedRoot();
+            ready = true;
+            scheduleCheckpoint();
+        } else {
+            LOGGER.log(INFO, "Rebuilding the Block index, no valid manifest found at [%s]".formatted(manifestPath));
+            executor.execute(this::rebuildUntilBuilt);
+        }
+    }
+
+    @NonNull
+    @Override
+    public Path resolveLiveRawPathToBlock(final long blockNumber) {
+        return delegate.resolveLiveRawPathToBlock(blockNumber);
+    }
+
+    @NonNull
+    @Override
+    public Path resolveLiveRawUnverifiedPathToBlock(final long blockNumber) {
+        return delegate.resolveLiveRawUnverifiedPathToBlock(blockNumber);
+    }
+
+    @NonNull
+    @Override
+    public Optional<Path> resolveRawPathToArchiveParentUnderLive(final long blockNumber) {
+        return delegate.resolveRawPathToArchiveParentUnderLive(blockNumber);
+    }
+
+    @NonNull
+    @Override
+    public Optional<Path> resolveRawPathToArchiveParentUnderArchive(final long blockNumber) {
+        return delegate.resolveRawPathToArchiveParentUnderArchive(blockNumber);
+    }
+
+    @NonNull
+    @Override
+    public Optional<LiveBlockPath> findLiveBlock(final long blockNumber) {
+        Preconditions.requireWhole(blockNumber);
+        if (!ready) {
+            return delegate.findLiveBlock(blockNumber);
+        }
+        return find(liveBlocks, blockNumber).map(compressionType -> {
+            final Path blockPath = FileUtilities.appendExtension(
+                    delegate.resolveLiveRawPathToBlock(blockNumber), compressionType.getFileExtension());
+            return new LiveBlockPath(
+                    blockNumber, blockPath.getParent(), blockPath.getFileName().toString(), compressionType);
+        });
+    }
+
+    @NonNull
+    @Override
+    public Optional<ArchiveBlockPath> findArchivedBlock(final long blockNumber) {
+        Preconditions.requireWhole(blockNumber);
+        if (!ready) {
+            return delegate.findArchivedBlock(blockNumber);
+        }
+        return find(archivedBlocks, blockNumber).map(compressionType -> {
+            final ArchiveBlockPath rawArchiveBlockPath = delegate.resolveRawArchivePath(blockNumber);
+            return new ArchiveBlockPath(
+                    rawArchiveBlockPath.dirPath(),
+                    rawArchiveBlockPath.zipFileName(),
+                    rawArchiveBlockPath.zipEntryName().concat(compressionType.getFileExtension()),
+                    compressionType,
+                    blockNumber);
+        });
+    }
+
+    @NonNull
+    @Override
+    public Optional<UnverifiedBlockPath> findUnverifiedBlock(final long blockNumber) {
+        Preconditions.requireWhole(blockNumber);
+        if (!ready) {
+            return delegate.findUnverifiedBlock(blockNumber);
+        }
+        return find(unverifiedBlocks, blockNumber).map(compressionType -> {
+            final Path blockPath = FileUtilities.appendExtension(
+                    delegate.resolveLiveRawUnverifiedPathToBlock(blockNumber), compressionType.getFileExtension());
+            return new UnverifiedBlockPath(
+                    blockNumber, blockPath.getParent(), blockPath.getFileName().toString(), compressionType);
+        });
+    }
+
+    @Override
+    public boolean existsVerifiedBlock(final long blockNumber) {
+        Preconditions.requireWhole(blockNumber);
+        if (!ready) {
+            return delegate.existsVerifiedBlock(blockNumber);
+        }
+        readLock.lock();
+        try {
+            return liveBlocks.contains(blockNumber) || archivedBlocks.contains(blockNumber);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @NonNull
+    @Override
+    public Optional<Long> findFirstAvailableBlockNumber() throws IOException {
+        if (!ready) {
+            return delegate.findFirstAvailableBlockNumber();
+        }
+        readLock.lock();
+        try {
+            final Optional<Long> firstLive = liveBlocks.first();
+            final Optional<Long> firstArchived = archivedBlocks.first();
+            if (firstLive.isPresent() && firstArchived.isPresent()) {
+                return Optional.of(Math.min(firstLive.get(), firstArchived.get()));
+            }
+            return firstLive.isPresent() ? firstLive : firstArchived;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @NonNull
+    @Override
+    public Optional<Long> findLatestAvailableBlockNumber() throws IOException {
+        if (!ready) {
+            return delegate.findLatestAvailableBlockNumber();
+        }
+        readLock.lock();
+        try {
+            final Optional<Long> latestLive = liveBlocks.last();
+            final Optional<Long> latestArchived = archivedBlocks.last();
+            if (latestLive.isPresent() && latestArchived.isPresent()) {
+                return Optional.of(Math.max(latestLive.get(), latestArchived.get()));
+            }
+            return latestLive.isPresent() ? latestLive : latestArchived;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public void registerUnverifiedBlock(final long blockNumber, @NonNull final CompressionType compressionType) {
+        Preconditions.requireWhole(blockNumber);
+        Objects.requireNonNull(compressionType);
+        update(() -> unverifiedBlocks.add(blockNumber, compressionType));
+    }
+
+    @Override
+    public void unregisterUnverifiedBlock(final long blockNumber) {
+        update(() -> unverifiedBlocks.remove(blockNumber));
+    }
+
+    @Override
+    public void registerVerifiedBlock(final long blockNumber, @NonNull final CompressionType compressionType) {
+        Preconditions.requireWhole(blockNumber);
+        Objects.requireNonNull(compressionType);
+        update(() -> {
+            unverifiedBlocks.remove(blockNumber);
+            liveBlocks.add(blockNumber, compressionType);
+        });
+        if (uncheckpointedLiveBlocks.incrementAndGet() >= archiveGroupSize
+                || System.nanoTime() - lastCheckpointNanos >= CHECKPOINT_INTERVAL_NANOS) {
+            scheduleCheckpoint();
+        }
+    }
+
+    @Override
+    public void registerArchivedBlocks(final long firstBlockNumber, final long lastBlockNumber) {
+        update(() -> {
+            for (final BlockRange archivedRange : liveBlocks.remove(firstBlockNumber, lastBlockNumber)) {
+                archivedBlocks.add(archivedRange);
+            }
+        });
+        // a restore no longer finds the first live Block of the last checkpoint
+        scheduleCheckpoint();
+    }
+
+    @Override
+    public void unregisterArchivedBlocks(final long firstBlockNumber, final long lastBlockNumber) {
+        update(() -> archivedBlocks.remove(firstBlockNumber, lastBlockNumber));
+        scheduleCheckpoint();
+    }
+
+    /**
+     * Applies the given change to the index, or keeps it to be applied once
+     * the index is rebuilt, unless the rebuild failed and its retry scans the
+     * storage after the change.
+     */
+    private void update(final Runnable change) {
+        writeLock.lock();
+        try {
+            if (ready) {
+                change.run();
+            } else if (collectingChanges) {
+                pendingChanges.add(change);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Restores the live and archived ranges of the index from the manifest,
+     * unless the manifest no longer matches the storage.
+     *
+     * @return {@code true} if the index is restored, else {@code false}
+     */
+    private boolean restore(final BlockManifest manifest) {
+        if (manifest.archiveGroupSize() != archiveGroupSize
+                || (manifest.liveRanges().isEmpty() && manifest.archivedRanges().isEmpty())) {
+            return false;
+        }
+        try {
+            // the archiver and the pruner always take the oldest Blocks, so the
+            // ends of the ranges are the Blocks that change between checkpoints
+            for (final BlockRange range : manifest.liveRanges()) {
+                if (delegate.findLiveBlock(range.first()).isEmpty()
+                        || delegate.findLiveBlock(range.last()).isEmpty()) {
+                    return false;
+                }
+            }
+            for (final BlockRange range : manifest.archivedRanges()) {
+                if (delegate.findArchivedBlock(range.first()).isEmpty()
+                        || delegate.findArchivedBlock(range.last()).isEmpty()) {
+                    return false;
+                }
+            }
+        } catch (final UncheckedIOException e) {
+            return false;
+        }
+        manifest.liveRanges().forEach(liveBlocks::add);
+        manifest.archivedRanges().forEach(archivedBlocks::add);
+        // the Blocks moved to live after the last checkpoint
+        long nextBlockNumber = Math.max(liveBlocks.last().orElse(-1L), archivedBlocks.last().orElse(-1L)) + 1;
+        Optional<LiveBlockPath> next;
+        while ((next = delegate.findLiveBlock(nextBlockNumber)).isPresent()) {
+            liveBlocks.add(nextBlockNumber++, next.get().compressionType());
+        }
+        return true;
+    }
+
+    /**
+     * Rebuilds the index, retrying with a growing delay until it is built or
+     * the thread is interrupted.
+     */
+    private void rebuildUntilBuilt() {
+        long retryDelayMillis = REBUILD_RETRY_INITIAL_DELAY_MILLIS;
+        while (!rebuild()) {
+            try {
+                Thread.sleep(retryDelayMillis);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            retryDelayMillis = Math.min(retryDelayMillis * 2, REBUILD_RETRY_MAX_DELAY_MILLIS);
+        }
+    }
+
+    /**
+     * Rebuilds the index by scanning the unverified and live roots, then
+     * applies the changes registered in the meantime. The index is not read
+     * until it is built, so it is written without holding the lock. If the
+     * scan fails, the changes are dropped and no longer kept until the next
+     * attempt.
+     *
+     * @return {@code true} if the index is built, else {@code false}
+     */
+    private boolean rebuild() {
+        writeLock.lock();
+        try {
+            collectingChanges = true;
+        } finally {
+            writeLock.unlock();
+        }
+        unverifiedBlocks.clear();
+        liveBlocks.clear();
+        archivedBlocks.clear();
+        try {
+            indexUnverifiedRoot();
+            indexLiveRoot();
+        } catch (final IOException | UncheckedIOException e) {
+            LOGGER.log(WARNING, "Failed to rebuild the Block index, lookups probe the file system", e);
+            metricsService.get(BlockIndexRebuildFailures).increment();
+            writeLock.lock();
+            try {
+                collectingChanges = false;
+                pendingChanges.clear();
+            } finally {
+                writeLock.unlock();
+            }
+            return false;
+        }
+        writeLock.lock();
+        try {
+            pendingChanges.forEach(Runnable::run);
+            pendingChanges.clear();
+            ready = true;
+        } finally {
+            writeLock.unlock();
+        }
+        LOGGER.log(INFO, "Rebuilt the Block index");
+        scheduleCheckpoint();
+        return true;
+    }
+
+    private void scheduleCheckpoint() {
+        if (ready && checkpointScheduled.compareAndSet(false, true)) {
+            executor.execute(this::checkpoint);
+        }
+    }
+
+    /**
+     * Writes the live and archived ranges of the index to the manifest. The
+     * changes made while the manifest is written schedule another checkpoint.
+     */
+    private void checkpoint() {
+        checkpointLock.lock();
+        try {
+            checkpointScheduled.set(false);
+            uncheckpointedLiveBlocks.set(0L);
+            lastCheckpointNanos = System.nanoTime();
+            final BlockManifest manifest;
+            readLock.lock();
+            try {
+                manifest = new BlockManifest(archiveGroupSize, liveBlocks.ranges(), archivedBlocks.ranges());
+            } finally {
+                readLock.unlock();
+            }
+            manifest.write(manifestPath);
+        } catch (final IOException e) {
+            LOGGER.log(WARNING, "Failed to write the Block manifest [%s]".formatted(manifestPath), e);
+        } finally {
+            checkpointLock.unlock();
+        }
+    }
+
+    private Optional<CompressionType> find(final BlockRangeSet blocks, final long blockNumber) {
+        readLock.lock();
+        try {
+            return blocks.find(blockNumber);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    private void indexUnverifiedRoot() throws IOException {
+        if (Files.isDirectory(unverifiedRootPath)) {
+            try (final Stream<Path> list = Files.list(unverifiedRootPath)) {
+                list.forEach(path -> indexBlockFile(path.getFileName().toString(), unverifiedBlocks));
+            }
+        }
+    }
+
+    private void indexLiveRoot() throws IOException {
+        if (Files.isDirectory(liveRootPath)) {
+            try (final Stream<Path> tree = Files.walk(liveRootPath)) {
+                for (final Path path : (Iterable<Path>) tree::iterator) {
+                    final String fileName = path.getFileName().toString();
+                    if (fileName.endsWith(Constants.ZIP_FILE_EXTENSION)) {
+                        indexZipFile(path);
+                    } else if (Files.isRegularFile(path)) {
+                        indexBlockFile(fileName, liveBlocks);
+                    }
+                }
+            }
+        }
+    }
+
+    private void indexZipFile(final Path zipFilePath) throws IOException {
+        try (final ZipFile zipFile = new ZipFile(zipFilePath.toFile())) {
+            final Enumeration<? extends ZipEntry> entries = zipFile.entries();
+            while (entries.hasMoreElements()) {
+                final ZipEntry entry = entries.nextElement();
+                if (!entry.isDirectory()) {
+                    final String entryName = entry.getName();
+                    // remove leading dir as part of the zip entry name
+                    indexBlockFile(entryName.substring(entryName.lastIndexOf('/') + 1), archivedBlocks);
+                }
+            }
+        }
+    }
+
+    private static void indexBlockFile(final String fileName, final BlockRangeSet blocks) {
+        final int blockExtensionStart = fileName.indexOf(Constants.BLOCK_FILE_EXTENSION);
+        if (blockExtensionStart <= 0 || !fileName.chars().limit(blockExtensionStart).allMatch(Character::isDigit)) {
+            return; // not a block file
+        }
+        final String compressionExtension =
+                fileName.substring(blockExtensionStart + Constants.BLOCK_FILE_EXTENSION.length());
+        final CompressionType[] allCompressionTypes = CompressionType.values();
+        for (int i = 0; i < allCompressionTypes.length; i++) {
+            if (allCompressionTypes[i].getFileExtension().equals(compressionExtension)) {
+                blocks.add(Long.parseLong(fileName.substring(0, blockExtensionStart)), allCompressionTypes[i]);
+                return;
+            }
+        }
+    }
+}
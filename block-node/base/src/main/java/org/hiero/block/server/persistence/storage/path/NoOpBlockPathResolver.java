@@ -36,8 +36,8 @@ public final class NoOpBlockPathResolver implements BlockPathResolver {
      */
     @NonNull
     @Override
-    public Path resolveRawPathToArchiveParentUnderLive(final long blockNumber) {
-        return resolveLiveRawPathToBlock(blockNumber);
+    public Optional<Path> resolveRawPathToArchiveParentUnderLive(final long blockNumber) {
+        return Optional.of(resolveLiveRawPathToBlock(blockNumber));
     }
 
     /**
@@ -46,8 +46,8 @@ public final class NoOpBlockPathResolver implements BlockPathResolver {
      */
     @NonNull
     @Override
-    public Path resolveRawPathToArchiveParentUnderArchive(final long blockNumber) {
-        return resolveLiveRawPathToBlock(blockNumber);
+    public Optional<Path> resolveRawPathToArchiveParentUnderArchive(final long blockNumber) {
+        return Optional.of(resolveLiveRawPathToBlock(blockNumber));
     }
 
     /**
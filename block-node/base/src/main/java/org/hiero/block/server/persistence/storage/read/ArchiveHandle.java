@@ -0,0 +1,298 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.persistence.storage.read;
+
+import static java.lang.System.Logger.Level.WARNING;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.EOFException;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.lang.System.Logger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.zip.ZipException;
+
+/**
+ * An open archive zip file with the location of each of its entries indexed.
+ * <p>
+ * The central directory of the zip is parsed once, when the handle is opened,
+ * and the offset of the data of every entry is resolved up front. Zip64
+ * records are supported, and every offset and length read from the zip is
+ * checked against the bounds of the file, so a malformed zip fails to open
+ * with a {@link ZipException}. The archive
+ * task writes all entries {@code STORED}, so reading an entry is then a
+ * single positional read through the {@link FileChannel} of the zip. Handles
+ * are shared through the {@link ArchiveHandleCache} and must be closed when
+ * no longer used, which releases them back to the cache.
+ */
+public final class ArchiveHandle implements AutoCloseable {
+    private static final Logger LOGGER = System.getLogger(ArchiveHandle.class.getName());
+    // zip format constants, see the PKWARE APPNOTE
+    private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+    private static final int LOCAL_HEADER_SIZE = 30;
+    private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+    private static final int CENTRAL_HEADER_SIZE = 46;
+    private static final int EOCD_SIGNATURE = 0x06054b50;
+    private static final int EOCD_SIZE = 22;
+    private static final int ZIP64_EOCD_SIGNATURE = 0x06064b50;
+    private static final int ZIP64_EOCD_SIZE = 56;
+    private static final int ZIP64_LOCATOR_SIGNATURE = 0x07064b50;
+    private static final int ZIP64_LOCATOR_SIZE = 20;
+    private static final int ZIP64_EXTRA_FIELD_ID = 0x0001;
+    private static final int MAX_COMMENT_LENGTH = 0xFFFF;
+    private static final long ZIP64_MARKER = 0xFFFFFFFFL;
+    private static final int STORED = 0;
+
+    private final Path zipFilePath;
+    private final FileChannel channel;
+    private final Map<String, EntryLocation> entries;
+    private final ArchiveHandleCache cache;
+    // guarded by the cache
+    int references;
+    boolean evicted;
+
+    /**
+     * The location of the data of a zip entry.
+     *
+     * @param dataOffset the offset of the entry data in the zip file
+     * @param length the length of the entry data
+     * @param method the compression method of the entry
+     */
+    private record EntryLocation(long dataOffset, int length, int method) {}
+
+    private ArchiveHandle(
+            @NonNull final Path zipFilePath,
+            @NonNull final FileChannel channel,
+            @NonNull final Map<String, EntryLocation> entries,
+            @NonNull final ArchiveHandleCache cache) {
+        this.zipFilePath = zipFilePath;
+        this.channel = channel;
+        this.entries = entries;
+        this.cache = cache;
+    }
+
+    /**
+     * Opens the given zip file and indexes its entries.
+     *
+     * @param zipFilePath the zip file to open
+     * @param cache the cache the handle is released to
+     * @return the opened handle
+     * @throws IOException if the zip file cannot be opened or is not a valid
+     * zip file
+     */
+    static ArchiveHandle open(@NonNull final Path zipFilePath, @NonNull final ArchiveHandleCache cache)
+            throws IOException {
+        final FileChannel channel = FileChannel.open(Objects.requireNonNull(zipFilePath), StandardOpenOption.READ);
+        try {
+            return new ArchiveHandle(zipFilePath, channel, indexEntries(zipFilePath, channel), cache);
+        } catch (final IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @return the path to the zip file of this handle
+     */
+    @NonNull
+    public Path zipFilePath() {
+        return zipFilePath;
+    }
+
+    /**
+     * Reads the bytes of the given entry.
+     *
+     * @param entryName the name of the entry to read
+     * @return the bytes of the entry, as they are stored in the zip
+     * @throws FileNotFoundException if the zip has no such entry
+     * @throws IOException if the entry cannot be read
+     */
+    @NonNull
+    public byte[] readEntry(@NonNull final String entryName) throws IOException {
+        final EntryLocation location = locate(entryName);
+        return read(channel, location.dataOffset(), location.length()).array();
+    }
+
+    /**
+     * Memory-maps the bytes of the given entry. The mapping stays valid after
+     * the handle is closed.
+     *
+     * @param entryName the name of the entry to map
+     * @return a read-only mapping of the bytes of the entry, as they are
+     * stored in the zip
+     * @throws FileNotFoundException if the zip has no such entry
+     * @throws IOException if the entry cannot be mapped
+     */
+    @NonNull
+    public MappedByteBuffer mapEntry(@NonNull final String entryName) throws IOException {
+        final EntryLocation location = locate(entryName);
+        return channel.map(MapMode.READ_ONLY, location.dataOffset(), location.length());
+    }
+
+    /**
+     * Releases the handle back to the cache it was acquired from.
+     */
+    @Override
+    public void close() {
+        cache.release(this);
+    }
+
+    /**
+     * Closes the underlying file channel. Called by the cache once the handle
+     * is evicted and no longer referenced.
+     */
+    void closeChannel() {
+        try {
+            channel.close();
+        } catch (final IOException e) {
+            LOGGER.log(WARNING, "Failed to close archive [%s]".formatted(zipFilePath), e);
+        }
+    }
+
+    private EntryLocation locate(final String entryName) throws IOException {
+        final EntryLocation location = entries.get(entryName);
+        if (location == null) {
+            throw new FileNotFoundException("Entry [%s] not found in [%s]".formatted(entryName, zipFilePath));
+        } else if (location.method() != STORED) {
+            throw new ZipException("Entry [%s] in [%s] is not stored uncompressed".formatted(entryName, zipFilePath));
+        }
+        return location;
+    }
+
+    private static Map<String, EntryLocation> indexEntries(final Path zipFilePath, final FileChannel channel)
+            throws IOException {
+        final long fileSize = channel.size();
+        final int tailLength = (int) Math.min(fileSize, EOCD_SIZE + MAX_COMMENT_LENGTH);
+        final ByteBuffer tail = read(channel, fileSize - tailLength, tailLength);
+        int eocd = tailLength - EOCD_SIZE;
+        while (eocd >= 0 && tail.getInt(eocd) != EOCD_SIGNATURE) {
+            eocd--;
+        }
+        if (eocd < 0) {
+            throw new ZipException("End of central directory not found in [%s]".formatted(zipFilePath));
+        }
+        long entryCount = tail.getShort(eocd + 10) & 0xFFFF;
+        long centralDirectorySize = tail.getInt(eocd + 12) & ZIP64_MARKER;
+        long centralDirectoryOffset = tail.getInt(eocd + 16) & ZIP64_MARKER;
+        if (entryCount == 0xFFFF || centralDirectorySize == ZIP64_MARKER || centralDirectoryOffset == ZIP64_MARKER) {
+            final int locator = eocd - ZIP64_LOCATOR_SIZE;
+            if (locator < 0 || tail.getInt(locator) != ZIP64_LOCATOR_SIGNATURE) {
+                throw new ZipException("Zip64 end of central directory not found in [%s]".formatted(zipFilePath));
+            }
+            final long zip64EocdOffset = tail.getLong(locator + 8);
+            if (zip64EocdOffset < 0 || zip64EocdOffset + ZIP64_EOCD_SIZE > fileSize) {
+                throw new ZipException("Invalid zip64 end of central directory in [%s]".formatted(zipFilePath));
+            }
+            final ByteBuffer zip64Eocd = read(channel, zip64EocdOffset, ZIP64_EOCD_SIZE);
+            if (zip64Eocd.getInt(0) != ZIP64_EOCD_SIGNATURE) {
+                throw new ZipException("Invalid zip64 end of central directory in [%s]".formatted(zipFilePath));
+            }
+            entryCount = zip64Eocd.getLong(32);
+            centralDirectorySize = zip64Eocd.getLong(40);
+            centralDirectoryOffset = zip64Eocd.getLong(48);
+        }
+        if (centralDirectorySize > Integer.MAX_VALUE) {
+            throw new ZipException("Central directory of [%s] is too large".formatted(zipFilePath));
+        } else if (centralDirectoryOffset < 0
+                || centralDirectorySize < 0
+                || centralDirectoryOffset + centralDirectorySize > fileSize) {
+            throw new ZipException("Central directory of [%s] is out of bounds".formatted(zipFilePath));
+        }
+        final ByteBuffer centralDirectory = read(channel, centralDirectoryOffset, (int) centralDirectorySize);
+        final Map<String, EntryLocation> entries = new HashMap<>();
+        int position = 0;
+        for (long i = 0; i < entryCount; i++) {
+            if (position + CENTRAL_HEADER_SIZE > centralDirectory.limit()
+                    || centralDirectory.getInt(position) != CENTRAL_HEADER_SIGNATURE) {
+                throw new ZipException("Invalid central directory header in [%s]".formatted(zipFilePath));
+            }
+            final int method = centralDirectory.getShort(position + 10) & 0xFFFF;
+            long compressedSize = centralDirectory.getInt(position + 20) & ZIP64_MARKER;
+            long uncompressedSize = centralDirectory.getInt(position + 24) & ZIP64_MARKER;
+            final int nameLength = centralDirectory.getShort(position + 28) & 0xFFFF;
+            final int extraLength = centralDirectory.getShort(position + 30) & 0xFFFF;
+            final int commentLength = centralDirectory.getShort(position + 32) & 0xFFFF;
+            long localHeaderOffset = centralDirectory.getInt(position + 42) & ZIP64_MARKER;
+            if (position + CENTRAL_HEADER_SIZE + nameLength + extraLength + commentLength
+                    > centralDirectory.limit()) {
+                throw new ZipException("Truncated central directory header in [%s]".formatted(zipFilePath));
+            }
+            final byte[] name = new byte[nameLength];
+            centralDirectory.get(position + CENTRAL_HEADER_SIZE, name);
+            // zip64 values are in the extra field, in this order, for those set to the marker only
+            int extra = position + CENTRAL_HEADER_SIZE + nameLength;
+            final int extraEnd = extra + extraLength;
+            while (extra + 4 <= extraEnd) {
+                final int id = centralDirectory.getShort(extra) & 0xFFFF;
+                final int size = centralDirectory.getShort(extra + 2) & 0xFFFF;
+                if (extra + 4 + size > extraEnd) {
+                    throw new ZipException("Truncated extra field in [%s]".formatted(zipFilePath));
+                } else if (id == ZIP64_EXTRA_FIELD_ID) {
+                    int value = extra + 4;
+                    final int valueEnd = value + size;
+                    if (uncompressedSize == ZIP64_MARKER && value + 8 <= valueEnd) {
+                        uncompressedSize = centralDirectory.getLong(value);
+                        value += 8;
+                    }
+                    if (compressedSize == ZIP64_MARKER && value + 8 <= valueEnd) {
+                        compressedSize = centralDirectory.getLong(value);
+                        value += 8;
+                    }
+                    if (localHeaderOffset == ZIP64_MARKER && value + 8 <= valueEnd) {
+                        localHeaderOffset = centralDirectory.getLong(value);
+                    }
+                }
+                extra += 4 + size;
+            }
+            final String entryName = new String(name, StandardCharsets.UTF_8);
+            if (!entryName.endsWith("/")) {
+                if (compressedSize > Integer.MAX_VALUE) {
+                    throw new ZipException("Entry [%s] in [%s] is too large".formatted(entryName, zipFilePath));
+                } else if (localHeaderOffset < 0
+                        || compressedSize < 0
+                        || localHeaderOffset + LOCAL_HEADER_SIZE > centralDirectoryOffset) {
+                    throw new ZipException("Entry [%s] in [%s] is out of bounds".formatted(entryName, zipFilePath));
+                }
+                final long dataOffset = dataOffset(zipFilePath, channel, localHeaderOffset);
+                // the data of every entry precedes the central directory
+                if (dataOffset + compressedSize > centralDirectoryOffset) {
+                    throw new ZipException("Entry [%s] in [%s] is out of bounds".formatted(entryName, zipFilePath));
+                }
+                entries.put(entryName, new EntryLocation(dataOffset, (int) compressedSize, method));
+            }
+            position = extraEnd + commentLength;
+        }
+        return entries;
+    }
+
+    private static long dataOffset(final Path zipFilePath, final FileChannel channel, final long localHeaderOffset)
+            throws IOException {
+        final ByteBuffer localHeader = read(channel, localHeaderOffset, LOCAL_HEADER_SIZE);
+        if (localHeader.getInt(0) != LOCAL_HEADER_SIGNATURE) {
+            throw new ZipException("Invalid local header in [%s]".formatted(zipFilePath));
+        }
+        final int nameLength = localHeader.getShort(26) & 0xFFFF;
+        final int extraLength = localHeader.getShort(28) & 0xFFFF;
+        return localHeaderOffset + LOCAL_HEADER_SIZE + nameLength + extraLength;
+    }
+
+    private static ByteBuffer read(final FileChannel channel, final long position, final int length)
+            throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("Unexpected end of archive at [%d]".formatted(position + buffer.position()));
+            }
+        }
+        return buffer;
+    }
+}
@@ -0,0 +1,181 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.persistence.storage.read;
+
+import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.ArchiveHandleCacheHits;
+import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.ArchiveHandleCacheMisses;
+import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Gauge.ArchiveHandlesOpen;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+import org.hiero.block.server.metrics.MetricsService;
+import org.hiero.block.server.persistence.storage.PersistenceStorageConfig;
+
+/**
+ * A bounded cache of open {@link ArchiveHandle}s, keyed by the path to the
+ * archive zip file.
+ * <p>
+ * Handles are reference counted. Each {@link #acquire(Path)} must be paired
+ * with a {@link ArchiveHandle#close()}, which releases the handle. When more
+ * than {@link PersistenceStorageConfig#archiveHandleCacheSize()} handles are
+ * cached, the least recently used one is evicted. An evicted handle that is
+ * still in use stays open until its last reference is released.
+ * <p>
+ * A zip is opened and indexed outside the lock of the cache, so it may be
+ * {@link #invalidate(Path) invalidated}, and deleted, meanwhile. Each
+ * invalidation starts a new generation of the cache, and a handle opened in
+ * an earlier generation is not cached, it is closed once its caller releases
+ * it.
+ */
+public final class ArchiveHandleCache {
+    private final int capacity;
+    private final MetricsService metricsService;
+    private final Opener opener;
+    // access ordered, the eldest entry is the least recently used
+    private final LinkedHashMap<Path, ArchiveHandle> handles = new LinkedHashMap<>(16, 0.75f, true);
+    // cached handles, plus evicted handles that are still referenced
+    private long openHandles;
+    // incremented by each invalidation, a handle opened in an earlier generation is not cached
+    private long generation;
+
+    /**
+     * Constructor.
+     *
+     * @param config valid, {@code non-null} instance of
+     * {@link PersistenceStorageConfig} used for initializing the cache
+     * @param metricsService valid, {@code non-null} instance of
+     * {@link MetricsService} used to report the cache hits and misses
+     */
+    public ArchiveHandleCache(
+            @NonNull final PersistenceStorageConfig config, @NonNull final MetricsService metricsService) {
+        this(config, metricsService, ArchiveHandle::open);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param config valid, {@code non-null} instance of
+     * {@link PersistenceStorageConfig} used for initializing the cache
+     * @param metricsService valid, {@code non-null} instance of
+     * {@link MetricsService} used to report the cache hits and misses
+     * @param opener valid, {@code non-null} instance of {@link Opener} used
+     * to open and index the zips that have no cached handle
+     */
+    ArchiveHandleCache(
+            @NonNull final PersistenceStorageConfig config,
+            @NonNull final MetricsService metricsService,
+            @NonNull final Opener opener) {
+        this.capacity = config.archiveHandleCacheSize();
+        this.metricsService = Objects.requireNonNull(metricsService);
+        this.opener = Objects.requireNonNull(opener);
+    }
+
+    /**
+     * Acquires the handle of the given zip file, opening and indexing the zip
+     * if it has no cached handle. The returned handle must be closed when no
+     * longer used.
+     *
+     * @param zipFilePath the path to the zip file
+     * @return the handle of the zip file
+     * @throws IOException if the zip file cannot be opened
+     */
+    @NonNull
+    public ArchiveHandle acquire(@NonNull final Path zipFilePath) throws IOException {
+        final long openGeneration;
+        synchronized (this) {
+            final ArchiveHandle cached = handles.get(zipFilePath);
+            if (cached != null) {
+                cached.references++;
+                metricsService.get(ArchiveHandleCacheHits).increment();
+                return cached;
+            }
+            openGeneration = generation;
+        }
+        metricsService.get(ArchiveHandleCacheMisses).increment();
+        // the zip is indexed outside the lock, so reads of other archives do not wait for it
+        final ArchiveHandle opened = opener.open(zipFilePath, this);
+        synchronized (this) {
+            final ArchiveHandle raced = handles.get(zipFilePath);
+            if (raced != null) {
+                opened.closeChannel();
+                raced.references++;
+                return raced;
+            }
+            opened.references = 1;
+            openHandles++;
+            if (openGeneration == generation) {
+                handles.put(zipFilePath, opened);
+                evictLeastRecentlyUsed();
+            } else {
+                // the zip may have been deleted while it was opened, the
+                // handle is only used by the caller and closed once released
+                opened.evicted = true;
+            }
+            metricsService.get(ArchiveHandlesOpen).set(openHandles);
+            return opened;
+        }
+    }
+
+    /**
+     * Removes the handle of the given zip file from the cache, once the zip
+     * file is deleted. A handle that is still in use stays open, and
+     * readable, until its last reference is released. A handle of the zip
+     * being opened meanwhile is not cached, so this must be called after the
+     * zip file is deleted, not before.
+     *
+     * @param zipFilePath the path to the zip file
+     */
+    public synchronized void invalidate(@NonNull final Path zipFilePath) {
+        generation++;
+        final ArchiveHandle removed = handles.remove(Objects.requireNonNull(zipFilePath));
+        if (removed != null) {
+            removed.evicted = true;
+            if (removed.references == 0) {
+                closeHandle(removed);
+            }
+        }
+    }
+
+    /**
+     * Releases a reference to the given handle, closing it if it has been
+     * evicted and this was its last reference.
+     *
+     * @param handle the handle to release
+     */
+    synchronized void release(@NonNull final ArchiveHandle handle) {
+        handle.references--;
+        if (handle.references == 0 && handle.evicted) {
+            closeHandle(handle);
+        }
+    }
+
+    private void evictLeastRecentlyUsed() {
+        final Iterator<ArchiveHandle> iterator = handles.values().iterator();
+        while (handles.size() > capacity) {
+            final ArchiveHandle eldest = iterator.next();
+            iterator.remove();
+            eldest.evicted = true;
+            if (eldest.references == 0) {
+                closeHandle(eldest);
+            }
+        }
+    }
+
+    private void closeHandle(final ArchiveHandle handle) {
+        handle.closeChannel();
+        openHandles--;
+        metricsService.get(ArchiveHandlesOpen).set(openHandles);
+    }
+
+    /**
+     * Opens and indexes a zip file, see {@link ArchiveHandle#open(Path, ArchiveHandleCache)}.
+     */
+    @FunctionalInterface
+    interface Opener {
+        @NonNull
+        ArchiveHandle open(@NonNull Path zipFilePath, @NonNull ArchiveHandleCache cache) throws IOException;
+    }
+}
@@ -3,16 +3,21 @@ package org.hiero.block.server.persistence.storage.read;
 
 import com.hedera.hapi.block.BlockUnparsed;
 import com.hedera.pbj.runtime.ParseException;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.hedera.pbj.runtime.io.stream.ReadableStreamingData;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipFile;
 import org.hiero.block.common.utils.Preconditions;
 import org.hiero.block.server.persistence.storage.PersistenceStorageConfig.CompressionType;
 import org.hiero.block.server.persistence.storage.compression.Compression;
@@ -22,10 +27,22 @@ import org.hiero.block.server.persistence.storage.path.LiveBlockPath;
 
 /**
  * A Block reader that reads block-as-file.
+ * <p>
+ * With memory-mapped reads, the block file, or the uncompressed zip entry of
+ * an archived block, is mapped and parsed straight from the mapping. An
+ * uncompressed block is parsed in place and a compressed one is decompressed
+ * from the mapping into a reused buffer, without copying the bytes through
+ * the heap buffers of a stream.
  */
-public final class BlockAsLocalFileReader implements LocalBlockReader<BlockUnparsed> {
+public final class BlockAsLocalFileReader
+        implements LocalBlockReader<BlockUnparsed>, EncodedBlockReader, StoredBlockReader {
     private final BlockPathResolver pathResolver;
     private final Compression compression;
+    private final ArchiveHandleCache archiveHandleCache;
+    private final boolean memoryMappedReads;
+    private final Decoder<BlockUnparsed> blockDecoder = new BlockDecoder();
+    private final Decoder<EncodedBlock> encodedBlockDecoder = new EncodedBlockDecoder();
+    private final Decoder<StoredBlock> storedBlockDecoder = new StoredBlockDecoder();
 
     /**
      * Constructor.
@@ -34,9 +51,14 @@ public final class BlockAsLocalFileReader implements LocalBlockReader<BlockUnpar
      * {@link BlockPathResolver} used to resolve paths to block files
      */
     private BlockAsLocalFileReader(
-            @NonNull final Compression compression, @NonNull final BlockPathResolver pathResolver) {
+            @NonNull final Compression compression,
+            @NonNull final BlockPathResolver pathResolver,
+            @NonNull final ArchiveHandleCache archiveHandleCache,
+            final boolean memoryMappedReads) {
         this.pathResolver = Objects.requireNonNull(pathResolver);
         this.compression = Objects.requireNonNull(compression);
+        this.archiveHandleCache = Objects.requireNonNull(archiveHandleCache);
+        this.memoryMappedReads = memoryMappedReads;
     }
 
     /**
@@ -45,24 +67,60 @@ public final class BlockAsLocalFileReader implements LocalBlockReader<BlockUnpar
      * @param compression valid, {@code non-null} instance of {@link Compression}
      * @param pathResolver valid, {@code non-null} instance of
      * {@link BlockPathResolver} used to resolve paths to block files
+     * @param archiveHandleCache valid, {@code non-null} instance of
+     * {@link ArchiveHandleCache} used to read archived blocks
+     * @param memoryMappedReads whether blocks are read by memory-mapping them
+     * instead of streaming them
      * @return a new, fully initialized instance of {@link BlockAsLocalFileReader}
      */
     public static BlockAsLocalFileReader of(
-            @NonNull final Compression compression, @NonNull final BlockPathResolver pathResolver) {
-        return new BlockAsLocalFileReader(compression, pathResolver);
+            @NonNull final Compression compression,
+            @NonNull final BlockPathResolver pathResolver,
+            @NonNull final ArchiveHandleCache archiveHandleCache,
+            final boolean memoryMappedReads) {
+        return new BlockAsLocalFileReader(compression, pathResolver, archiveHandleCache, memoryMappedReads);
     }
 
     @NonNull
     @Override
     public Optional<BlockUnparsed> read(final long blockNumber) throws IOException, ParseException {
+        return read(blockNumber, blockDecoder);
+    }
+
+    @NonNull
+    @Override
+    public Optional<EncodedBlock> readEncoded(final long blockNumber) throws IOException, ParseException {
+        return read(blockNumber, encodedBlockDecoder);
+    }
+
+    @NonNull
+    @Override
+    public Optional<StoredBlock> readStored(final long blockNumber) throws IOException {
+        try {
+            return read(blockNumber, storedBlockDecoder);
+        } catch (final ParseException e) {
+            // stored blocks are not decoded, so they are never parsed
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private <T> Optional<T> read(final long blockNumber, final Decoder<T> decoder)
+            throws IOException, ParseException {
         Preconditions.requireWhole(blockNumber);
         final Optional<LiveBlockPath> optBlockPath = pathResolver.findLiveBlock(blockNumber);
         if (optBlockPath.isPresent()) {
             final LiveBlockPath liveBlockPath = optBlockPath.get();
             final Path actualPathToBlock = liveBlockPath.dirPath().resolve(liveBlockPath.blockFileName());
-            final BlockUnparsed value;
+            if (memoryMappedReads) {
+                final MappedByteBuffer mapped;
+                try (final FileChannel channel = FileChannel.open(actualPathToBlock, StandardOpenOption.READ)) {
+                    mapped = channel.map(MapMode.READ_ONLY, 0, channel.size());
+                }
+                return Optional.of(decoder.decode(mapped, liveBlockPath.compressionType()));
+            }
+            final T value;
             try (final InputStream in = Files.newInputStream(actualPathToBlock)) {
-                value = doRead(in, liveBlockPath.compressionType());
+                value = decoder.decode(in, liveBlockPath.compressionType());
             }
             return Optional.of(value);
         } else {
@@ -70,23 +128,85 @@ public final class BlockAsLocalFileReader implements LocalBlockReader<BlockUnpar
             if (optArchivedBlock.isPresent()) {
                 final ArchiveBlockPath archiveBlockPath = optArchivedBlock.get();
                 final Path zipFilePath = archiveBlockPath.dirPath().resolve(archiveBlockPath.zipFileName());
-                final BlockUnparsed value;
-                // @todo(741) update reader to use zipfs to read blocks
-                try (final ZipFile zipFile = new ZipFile(zipFilePath.toFile())) {
-                    final ZipEntry entry = zipFile.getEntry(archiveBlockPath.zipEntryName());
-                    final InputStream in = zipFile.getInputStream(entry);
-                    value = doRead(in, archiveBlockPath.compressionType());
+                // the zip is opened and indexed once, the entry is mapped or
+                // read with a single positional read
+                try (final ArchiveHandle archiveHandle = archiveHandleCache.acquire(zipFilePath)) {
+                    if (memoryMappedReads) {
+                        final MappedByteBuffer mapped = archiveHandle.mapEntry(archiveBlockPath.zipEntryName());
+                        return Optional.of(decoder.decode(mapped, archiveBlockPath.compressionType()));
+                    }
+                    final byte[] entryBytes = archiveHandle.readEntry(archiveBlockPath.zipEntryName());
+                    return Optional.of(
+                            decoder.decode(new ByteArrayInputStream(entryBytes), archiveBlockPath.compressionType()));
                 }
-                return Optional.of(value);
             }
             return Optional.empty();
         }
     }
 
-    private BlockUnparsed doRead(final InputStream in, final CompressionType compressionType)
-            throws IOException, ParseException {
-        try (final ReadableStreamingData data = new ReadableStreamingData(compression.wrap(in, compressionType))) {
-            return BlockUnparsed.PROTOBUF.parse(data);
+    /**
+     * Decodes the stored bytes of a block, either streamed or mapped.
+     *
+     * @param <T> the type of the decoded block
+     */
+    private interface Decoder<T> {
+        T decode(InputStream in, CompressionType compressionType) throws IOException, ParseException;
+
+        T decode(ByteBuffer mapped, CompressionType compressionType) throws IOException, ParseException;
+    }
+
+    /**
+     * Parses the stored bytes into a {@link BlockUnparsed}.
+     */
+    private final class BlockDecoder implements Decoder<BlockUnparsed> {
+        @Override
+        public BlockUnparsed decode(final InputStream in, final CompressionType compressionType)
+                throws IOException, ParseException {
+            try (final ReadableStreamingData data = new ReadableStreamingData(compression.wrap(in, compressionType))) {
+                return BlockUnparsed.PROTOBUF.parse(data);
+            }
+        }
+
+        @Override
+        public BlockUnparsed decode(final ByteBuffer mapped, final CompressionType compressionType)
+                throws IOException, ParseException {
+            return compression.decompressAndParse(mapped, compressionType, BlockUnparsed.PROTOBUF);
+        }
+    }
+
+    /**
+     * Decompresses the stored bytes into an {@link EncodedBlock}.
+     */
+    private final class EncodedBlockDecoder implements Decoder<EncodedBlock> {
+        @Override
+        public EncodedBlock decode(final InputStream in, final CompressionType compressionType)
+                throws IOException, ParseException {
+            try (final InputStream decompressed = compression.wrap(in, compressionType)) {
+                return EncodedBlock.of(Bytes.wrap(decompressed.readAllBytes()));
+            }
+        }
+
+        @Override
+        public EncodedBlock decode(final ByteBuffer mapped, final CompressionType compressionType)
+                throws IOException, ParseException {
+            return EncodedBlock.of(compression.decompress(mapped, compressionType));
+        }
+    }
+
+    /**
+     * Keeps the stored bytes as they are, still compressed.
+     */
+    private static final class StoredBlockDecoder implements Decoder<StoredBlock> {
+        @Override
+        public StoredBlock decode(final InputStream in, final CompressionType compressionType) throws IOException {
+            return new StoredBlock(Bytes.wrap(in.readAllBytes()), compressionType);
+        }
+
+        @Override
+        public StoredBlock decode(final ByteBuffer mapped, final CompressionType compressionType) {
+            final byte[] bytes = new byte[mapped.remaining()];
+            mapped.duplicate().get(bytes);
+            return new StoredBlock(Bytes.wrap(bytes), compressionType);
         }
     }
 }
@@ -0,0 +1,125 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.persistence.storage.read;
+
+import com.hedera.hapi.block.BlockUnparsed;
+import com.hedera.pbj.runtime.ParseException;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.hedera.pbj.runtime.io.stream.ReadableStreamingData;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.Objects;
+import java.util.Optional;
+import org.hiero.block.common.utils.Preconditions;
+import org.hiero.block.server.persistence.storage.PersistenceStorageConfig.CompressionType;
+import org.hiero.block.server.persistence.storage.compression.Compression;
+import org.hiero.block.server.persistence.storage.path.BlockPathResolver;
+import org.hiero.block.server.persistence.storage.path.LiveBlockPath;
+import org.hiero.block.server.persistence.storage.segment.SegmentLog;
+import org.hiero.block.server.persistence.storage.segment.SegmentLogEntry;
+
+/**
+ * A Block reader that reads block-as-segment-log. A Block is read from the
+ * {@link SegmentLog} with a single positional read, or from the staging
+ * directory if it is verified but not yet appended to the log.
+ */
+public final class BlockAsSegmentLogReader
+        implements LocalBlockReader<BlockUnparsed>, EncodedBlockReader, StoredBlockReader {
+    private final Compression compression;
+    private final BlockPathResolver pathResolver;
+    private final SegmentLog segmentLog;
+
+    private BlockAsSegmentLogReader(
+            @NonNull final Compression compression,
+            @NonNull final BlockPathResolver pathResolver,
+            @NonNull final SegmentLog segmentLog) {
+        this.compression = Objects.requireNonNull(compression);
+        this.pathResolver = Objects.requireNonNull(pathResolver);
+        this.segmentLog = Objects.requireNonNull(segmentLog);
+    }
+
+    /**
+     * This method creates and returns a new instance of {@link BlockAsSegmentLogReader}.
+     *
+     * @param compression valid, {@code non-null} instance of {@link Compression}
+     * @param pathResolver valid, {@code non-null} instance of
+     * {@link BlockPathResolver} used to resolve paths to staged block files
+     * @param segmentLog valid, {@code non-null} instance of {@link SegmentLog}
+     * to read appended blocks from
+     * @return a new, fully initialized instance of {@link BlockAsSegmentLogReader}
+     */
+    public static BlockAsSegmentLogReader of(
+            @NonNull final Compression compression,
+            @NonNull final BlockPathResolver pathResolver,
+            @NonNull final SegmentLog segmentLog) {
+        return new BlockAsSegmentLogReader(compression, pathResolver, segmentLog);
+    }
+
+    @NonNull
+    @Override
+    public Optional<BlockUnparsed> read(final long blockNumber) throws IOException, ParseException {
+        Preconditions.requireWhole(blockNumber);
+        final Optional<SegmentLogEntry> optEntry = segmentLog.find(blockNumber);
+        if (optEntry.isPresent()) {
+            final SegmentLogEntry entry = optEntry.get();
+            final InputStream in = new ByteArrayInputStream(segmentLog.readBytes(entry));
+            return Optional.of(doRead(in, entry.compressionType()));
+        }
+        final Optional<LiveBlockPath> optStagedBlock = pathResolver.findLiveBlock(blockNumber);
+        if (optStagedBlock.isPresent()) {
+            final LiveBlockPath stagedBlock = optStagedBlock.get();
+            final InputStream in = Files.newInputStream(stagedBlock.dirPath().resolve(stagedBlock.blockFileName()));
+            return Optional.of(doRead(in, stagedBlock.compressionType()));
+        }
+        return Optional.empty();
+    }
+
+    @NonNull
+    @Override
+    public Optional<EncodedBlock> readEncoded(final long blockNumber) throws IOException, ParseException {
+        Preconditions.requireWhole(blockNumber);
+        final Optional<SegmentLogEntry> optEntry = segmentLog.find(blockNumber);
+        if (optEntry.isPresent()) {
+            final SegmentLogEntry entry = optEntry.get();
+            final ByteBuffer stored = ByteBuffer.wrap(segmentLog.readBytes(entry));
+            return Optional.of(EncodedBlock.of(compression.decompress(stored, entry.compressionType())));
+        }
+        final Optional<LiveBlockPath> optStagedBlock = pathResolver.findLiveBlock(blockNumber);
+        if (optStagedBlock.isPresent()) {
+            final LiveBlockPath stagedBlock = optStagedBlock.get();
+            final InputStream in = Files.newInputStream(stagedBlock.dirPath().resolve(stagedBlock.blockFileName()));
+            try (final InputStream decompressed = compression.wrap(in, stagedBlock.compressionType())) {
+                return Optional.of(EncodedBlock.of(Bytes.wrap(decompressed.readAllBytes())));
+            }
+        }
+        return Optional.empty();
+    }
+
+    @NonNull
+    @Override
+    public Optional<StoredBlock> readStored(final long blockNumber) throws IOException {
+        Preconditions.requireWhole(blockNumber);
+        final Optional<SegmentLogEntry> optEntry = segmentLog.find(blockNumber);
+        if (optEntry.isPresent()) {
+            final SegmentLogEntry entry = optEntry.get();
+            return Optional.of(new StoredBlock(Bytes.wrap(segmentLog.readBytes(entry)), entry.compressionType()));
+        }
+        final Optional<LiveBlockPath> optStagedBlock = pathResolver.findLiveBlock(blockNumber);
+        if (optStagedBlock.isPresent()) {
+            final LiveBlockPath stagedBlock = optStagedBlock.get();
+            final byte[] bytes = Files.readAllBytes(stagedBlock.dirPath().resolve(stagedBlock.blockFileName()));
+            return Optional.of(new StoredBlock(Bytes.wrap(bytes), stagedBlock.compressionType()));
+        }
+        return Optional.empty();
+    }
+
+    private BlockUnparsed doRead(final InputStream in, final CompressionType compressionType)
+            throws IOException, ParseException {
+        try (final ReadableStreamingData data = new ReadableStreamingData(compression.wrap(in, compressionType))) {
+            return BlockUnparsed.PROTOBUF.parse(data);
+        }
+    }
+}
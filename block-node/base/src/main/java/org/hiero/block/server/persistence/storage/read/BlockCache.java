@@ -0,0 +1,29 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.persistence.storage.read;
+
+/**
+ * A cache of the blocks read from the storage, kept up to date with the
+ * blocks persisted to and pruned from the storage.
+ */
+public interface BlockCache {
+    /**
+     * Reads the block with the given block number from the storage into the
+     * cache, asynchronously, unless it is already cached. Called for the
+     * blocks moved to live storage, as they are the ones most likely to be
+     * read next.
+     *
+     * @param blockNumber the block number of the block to cache
+     * @throws IllegalArgumentException if the blockNumber IS NOT a whole number
+     */
+    void populate(final long blockNumber);
+
+    /**
+     * Removes the blocks in the given range from the cache, when they are
+     * pruned from the storage. A block being read from the storage while it
+     * is invalidated is not cached once read.
+     *
+     * @param firstBlockNumber the number of the first block to remove, inclusive
+     * @param lastBlockNumber the number of the last block to remove, inclusive
+     */
+    void invalidate(final long firstBlockNumber, final long lastBlockNumber);
+}
@@ -0,0 +1,255 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.persistence.storage.read;
+
+import static java.lang.System.Logger.Level.WARNING;
+import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.BlockCacheEvictions;
+import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.BlockCacheHits;
+import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.BlockCacheMisses;
+import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Gauge.BlockCacheHitRatio;
+import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Gauge.BlockCacheResidentBytes;
+
+import com.hedera.hapi.block.BlockUnparsed;
+import com.hedera.pbj.runtime.ParseException;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import org.hiero.block.common.utils.Preconditions;
+import org.hiero.block.server.metrics.MetricsService;
+import org.hiero.block.server.persistence.storage.PersistenceStorageConfig;
+
+/**
+ * A Block reader that keeps the blocks it reads, decompressed, in a cache in
+ * front of the Block reader of the storage, so repeated reads of the same
+ * blocks are served from memory.
+ * <p>
+ * The cache is bounded by the bytes of the blocks it holds. When more than
+ * {@link PersistenceStorageConfig#blockCacheMaxBytes()} bytes are cached, the
+ * least recently used blocks are evicted. Concurrent reads of a block that is
+ * not cached share a single read from the storage. The blocks moved to live
+ * storage are {@link #populate(long) populated} into the cache as they are
+ * persisted, as they are the ones most likely to be read next.
+ * <p>
+ * Blocks pruned from the storage are {@link #invalidate(long, long)
+ * invalidated}. Each invalidation starts a new generation of the cache, and a
+ * read from the storage started in an earlier generation is not cached, so a
+ * block read while it was pruned is never cached again. Blocks read as they
+ * are stored are always read from the storage, so a block stored compressed is
+ * still read with its compression once it is cached.
+ */
+public final class CachingBlockReader
+        implements BlockReader<BlockUnparsed>, EncodedBlockReader, StoredBlockReader, BlockCache {
+    private static final System.Logger LOGGER = System.getLogger(CachingBlockReader.class.getName());
+    private static final Executor POPULATE_EXECUTOR = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("block-cache-populate-", 0).factory());
+    private final EncodedBlockReader encodedBlockReader;
+    private final StoredBlockReader storedBlockReader;
+    private final long maxBytes;
+    private final MetricsService metricsService;
+    // access ordered, the eldest entry is the least recently used
+    private final LinkedHashMap<Long, EncodedBlock> blocks = new LinkedHashMap<>(16, 0.75f, true);
+    // the reads from the storage in progress, shared by the reads of the same block
+    private final Map<Long, CompletableFuture<Optional<EncodedBlock>>> loads = new HashMap<>();
+    // incremented by each invalidation, a read started in an earlier generation is not cached
+    private long generation;
+    private long residentBytes;
+    private long hits;
+    private long misses;
+
+    private <R extends BlockReader<BlockUnparsed> & EncodedBlockReader & StoredBlockReader> CachingBlockReader(
+            @NonNull final R blockReader, final long maxBytes, @NonNull final MetricsService metricsService) {
+        Objects.requireNonNull(blockReader);
+        this.encodedBlockReader = blockReader;
+        this.storedBlockReader = blockReader;
+        this.maxBytes = Preconditions.requireWhole(maxBytes);
+        this.metricsService = Objects.requireNonNull(metricsService);
+    }
+
+    /**
+     * This method creates and returns a new instance of {@link CachingBlockReader}.
+     *
+     * @param blockReader valid, {@code non-null} Block reader of the storage to
+     * cache the blocks of
+     * @param config valid, {@code non-null} instance of
+     * {@link PersistenceStorageConfig} used for sizing the cache
+     * @param metricsService valid, {@code non-null} instance of
+     * {@link MetricsService} used to report the cache hits, misses and size
+     * @param <R> the type of the Block reader of the storage
+     * @return a new, fully initialized instance of {@link CachingBlockReader}
+     */
+    public static <R extends BlockReader<BlockUnparsed> & EncodedBlockReader & StoredBlockReader> CachingBlockReader of(
+            @NonNull final R blockReader,
+            @NonNull final PersistenceStorageConfig config,
+            @NonNull final MetricsService metricsService) {
+        return new CachingBlockReader(blockReader, config.blockCacheMaxBytes(), metricsService);
+    }
+
+    @NonNull
+    @Override
+    public Optional<BlockUnparsed> read(final long blockNumber) throws IOException, ParseException {
+        final Optional<EncodedBlock> blockOpt = readEncoded(blockNumber);
+        if (blockOpt.isPresent()) {
+            return Optional.of(BlockUnparsed.PROTOBUF.parse(blockOpt.get().bytes()));
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    @NonNull
+    @Override
+    public Optional<EncodedBlock> readEncoded(final long blockNumber) throws IOException, ParseException {
+        Preconditions.requireWhole(blockNumber);
+        return load(blockNumber, true);
+    }
+
+    /**
+     * The block is read from the storage as it is stored, whether it is
+     * cached or not, since the cache only holds its decompressed bytes.
+     */
+    @NonNull
+    @Override
+    public Optional<StoredBlock> readStored(final long blockNumber) throws IOException {
+        Preconditions.requireWhole(blockNumber);
+        return storedBlockReader.readStored(blockNumber);
+    }
+
+    @Override
+    public void populate(final long blockNumber) {
+        Preconditions.requireWhole(blockNumber);
+        POPULATE_EXECUTOR.execute(() -> {
+            try {
+                load(blockNumber, false);
+            } catch (final IOException | ParseException | RuntimeException e) {
+                LOGGER.log(WARNING, "Failed to cache Block [%d]".formatted(blockNumber), e);
+            }
+        });
+    }
+
+    @Override
+    public synchronized void invalidate(final long firstBlockNumber, final long lastBlockNumber) {
+        generation++;
+        // a read of the range in progress is no longer shared with the reads that follow
+        loads.keySet().removeIf(blockNumber -> blockNumber >= firstBlockNumber && blockNumber <= lastBlockNumber);
+        final Iterator<Map.Entry<Long, EncodedBlock>> iterator = blocks.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<Long, EncodedBlock> entry = iterator.next();
+            if (entry.getKey() >= firstBlockNumber && entry.getKey() <= lastBlockNumber) {
+                iterator.remove();
+                residentBytes -= weightOf(entry.getValue());
+            }
+        }
+        metricsService.get(BlockCacheResidentBytes).set(residentBytes);
+    }
+
+    private Optional<EncodedBlock> load(final long blockNumber, final boolean lookup)
+            throws IOException, ParseException {
+        final CompletableFuture<Optional<EncodedBlock>> inProgress;
+        final CompletableFuture<Optional<EncodedBlock>> load = new CompletableFuture<>();
+        final long loadGeneration;
+        synchronized (this) {
+            final EncodedBlock cached = blocks.get(blockNumber);
+            if (lookup) {
+                recordLookup(cached != null);
+            }
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+            inProgress = loads.putIfAbsent(blockNumber, load);
+            loadGeneration = generation;
+        }
+        if (inProgress != null) {
+            // the block is being read by another thread, its read is shared
+            return await(inProgress);
+        }
+        final Optional<EncodedBlock> blockOpt;
+        try {
+            blockOpt = encodedBlockReader.readEncoded(blockNumber);
+        } catch (final Throwable t) {
+            synchronized (this) {
+                loads.remove(blockNumber, load);
+            }
+            load.completeExceptionally(t);
+            throw t;
+        }
+        synchronized (this) {
+            loads.remove(blockNumber, load);
+            // a block invalidated while it was read may have been pruned
+            if (loadGeneration == generation) {
+                blockOpt.ifPresent(block -> cache(blockNumber, block));
+            }
+        }
+        load.complete(blockOpt);
+        return blockOpt;
+    }
+
+    private void cache(final long blockNumber, final EncodedBlock block) {
+        final long weight = weightOf(block);
+        if (weight > maxBytes) {
+            // a block larger than the whole cache would only evict everything else
+            return;
+        }
+        final EncodedBlock previous = blocks.put(blockNumber, block);
+        if (previous != null) {
+            residentBytes -= weightOf(previous);
+        }
+        residentBytes += weight;
+        final Iterator<EncodedBlock> iterator = blocks.values().iterator();
+        while (residentBytes > maxBytes) {
+            final EncodedBlock eldest = iterator.next();
+            iterator.remove();
+            residentBytes -= weightOf(eldest);
+            metricsService.get(BlockCacheEvictions).increment();
+        }
+        metricsService.get(BlockCacheResidentBytes).set(residentBytes);
+    }
+
+    private void recordLookup(final boolean hit) {
+        if (hit) {
+            hits++;
+            metricsService.get(BlockCacheHits).increment();
+        } else {
+            misses++;
+            metricsService.get(BlockCacheMisses).increment();
+        }
+        metricsService.get(BlockCacheHitRatio).set(hits * 100 / (hits + misses));
+    }
+
+    /**
+     * The bytes held for a cached block, its decompressed bytes and the
+     * offsets of its items.
+     */
+    private static long weightOf(final EncodedBlock block) {
+        return block.bytes().length() + (long) Long.BYTES * (block.itemCount() + 1);
+    }
+
+    private static Optional<EncodedBlock> await(final CompletableFuture<Optional<EncodedBlock>> load)
+            throws IOException, ParseException {
+        try {
+            return load.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the block to be read");
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            } else if (cause instanceof ParseException parseException) {
+                throw parseException;
+            } else if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IOException(cause);
+        }
+    }
+}
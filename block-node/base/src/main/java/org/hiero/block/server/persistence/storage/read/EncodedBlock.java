@@ -0,0 +1,229 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.persistence.storage.read;
+
+import com.hedera.hapi.block.BlockItemUnparsed;
+import com.hedera.pbj.runtime.ParseException;
+import com.hedera.pbj.runtime.ProtoWriterTools;
+import com.hedera.pbj.runtime.io.buffer.BufferedData;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A Block as the protobuf encoded bytes it is stored with, together with the
+ * boundaries of its items.
+ * <p>
+ * The items of a {@code Block} and the items of a {@code BlockItemSet} are
+ * both the repeated field number 1, so the encoded bytes of any run of
+ * consecutive items are a valid encoding of a {@code BlockItemSet} as well.
+ * This allows responses to be assembled from slices of the stored bytes
+ * instead of parsing the items and encoding them again.
+ */
+public final class EncodedBlock {
+    /** The tag of the items field of a Block, field number 1, length delimited. */
+    private static final int BLOCK_ITEMS_TAG = (1 << 3) | 2;
+
+    private final Bytes bytes;
+    // the offset of each encoded item field, followed by the length of the bytes
+    private final long[] itemOffsets;
+
+    private EncodedBlock(@NonNull final Bytes bytes, @NonNull final long[] itemOffsets) {
+        this.bytes = bytes;
+        this.itemOffsets = itemOffsets;
+    }
+
+    /**
+     * Creates an encoded Block by scanning the boundaries of its items. The
+     * items themselves are not parsed.
+     *
+     * @param bytes the protobuf encoded bytes of a Block
+     * @return the encoded Block
+     * @throws ParseException if the bytes are not a valid encoding of a Block
+     */
+    @NonNull
+    public static EncodedBlock of(@NonNull final Bytes bytes) throws ParseException {
+        final long length = Objects.requireNonNull(bytes).length();
+        long[] itemOffsets = new long[16];
+        int itemCount = 0;
+        long offset = 0;
+        while (offset < length) {
+            if (itemCount == itemOffsets.length - 1) {
+                itemOffsets = Arrays.copyOf(itemOffsets, itemOffsets.length * 2);
+            }
+            itemOffsets[itemCount++] = offset;
+            final long tag = readVarInt(bytes, offset);
+            if (tag != BLOCK_ITEMS_TAG) {
+                throw new ParseException("Unexpected tag [%d] at [%d] in a Block".formatted(tag, offset));
+            }
+            offset += varIntSize(bytes, offset);
+            final long itemLength = readVarInt(bytes, offset);
+            offset += varIntSize(bytes, offset);
+            // checked before advancing, a length past the end could overflow the offset
+            if (itemLength < 0 || itemLength > length - offset) {
+                throw new ParseException("Block item of length [%d] at [%d] ends after the end of the Block"
+                        .formatted(itemLength, offset));
+            }
+            offset += itemLength;
+        }
+        itemOffsets[itemCount] = length;
+        return new EncodedBlock(bytes, Arrays.copyOf(itemOffsets, itemCount + 1));
+    }
+
+    /**
+     * @return the protobuf encoded bytes of the Block
+     */
+    @NonNull
+    public Bytes bytes() {
+        return bytes;
+    }
+
+    /**
+     * @return the number of items of the Block
+     */
+    public int itemCount() {
+        return itemOffsets.length - 1;
+    }
+
+    /**
+     * Returns the encoded bytes of a run of consecutive items, a valid
+     * encoding of a {@code BlockItemSet} holding those items. The bytes are a
+     * view of the bytes of the Block, they are not copied.
+     *
+     * @param fromIndex the index of the first item, inclusive
+     * @param toIndex the index of the last item, exclusive
+     * @return the encoded bytes of the items
+     */
+    @NonNull
+    public Bytes items(final int fromIndex, final int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, itemCount());
+        return bytes.slice(itemOffsets[fromIndex], itemOffsets[toIndex] - itemOffsets[fromIndex]);
+    }
+
+    /**
+     * Parses the item with the given index.
+     *
+     * @param index the index of the item
+     * @return the parsed item
+     * @throws ParseException if the item cannot be parsed
+     */
+    @NonNull
+    public BlockItemUnparsed item(final int index) throws ParseException {
+        Objects.checkIndex(index, itemCount());
+        // skip the tag and the length of the item field, both were validated
+        // when the Block was scanned
+        final long lengthOffset = itemOffsets[index] + varIntSize(bytes, itemOffsets[index]);
+        final long dataOffset = lengthOffset + varIntSize(bytes, lengthOffset);
+        return BlockItemUnparsed.PROTOBUF.parse(bytes.slice(dataOffset, itemOffsets[index + 1] - dataOffset));
+    }
+
+    /**
+     * Encodes a message whose last field is the given, already encoded,
+     * message. The rest of the message is taken from its encoding with that
+     * field set to an empty message, which ends with the tag of the field
+     * followed by a zero length.
+     *
+     * @param withEmptyLastField the encoded message, with its last field set
+     * to an empty message
+     * @param lastField the encoded message to set the last field to
+     * @return the encoded message
+     * @throws IllegalArgumentException if the encoded message does not end
+     * with an empty field
+     */
+    @NonNull
+    public static Bytes withLastField(@NonNull final Bytes withEmptyLastField, @NonNull final Bytes lastField) {
+        return withLastField(withEmptyLastField, List.of(lastField));
+    }
+
+    /**
+     * Encodes a message whose last field is the concatenation of the given,
+     * already encoded, parts. The parts are copied once, straight into the
+     * encoded message.
+     *
+     * @param withEmptyLastField the encoded message, with its last field set
+     * to an empty message
+     * @param lastFieldParts the encoded parts of the message to set the last
+     * field to, in order
+     * @return the encoded message
+     * @throws IllegalArgumentException if the encoded message does not end
+     * with an empty field
+     */
+    @NonNull
+    public static Bytes withLastField(
+            @NonNull final Bytes withEmptyLastField, @NonNull final List<Bytes> lastFieldParts) {
+        final long prefixLength = withEmptyLastField.length() - 1;
+        long lastFieldLength = 0;
+        for (final Bytes part : lastFieldParts) {
+            lastFieldLength += part.length();
+        }
+        if (prefixLength < 1 || withEmptyLastField.getByte(prefixLength) != 0) {
+            throw new IllegalArgumentException("The encoded message does not end with an empty field");
+        } else if (lastFieldLength > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("The last field exceeds [%d] bytes".formatted(Integer.MAX_VALUE));
+        }
+        final int length = (int) lastFieldLength;
+        final byte[] encoded =
+                new byte[Math.toIntExact(prefixLength + ProtoWriterTools.sizeOfVarInt32(length) + length)];
+        final BufferedData out = BufferedData.wrap(encoded);
+        out.writeBytes(withEmptyLastField.slice(0, prefixLength));
+        out.writeVarInt(length, false);
+        for (final Bytes part : lastFieldParts) {
+            out.writeBytes(part);
+        }
+        return Bytes.wrap(encoded);
+    }
+
+    /**
+     * Returns the value of the last field of an encoded message, the
+     * counterpart of {@link #withLastField(Bytes, Bytes)}, without copying
+     * it.
+     *
+     * @param withEmptyLastField the encoded message, with its last field set
+     * to an empty message
+     * @param encoded the encoded message, which only differs from the former
+     * by the value of its last field
+     * @return the encoded value of the last field
+     * @throws ParseException if the length of the last field does not match
+     * the rest of the encoded message
+     */
+    @NonNull
+    public static Bytes lastField(@NonNull final Bytes withEmptyLastField, @NonNull final Bytes encoded)
+            throws ParseException {
+        final long lengthOffset = withEmptyLastField.length() - 1;
+        final long length = readVarInt(encoded, lengthOffset);
+        final long valueOffset = lengthOffset + varIntSize(encoded, lengthOffset);
+        if (valueOffset + length != encoded.length()) {
+            throw new ParseException("The last field of [%d] bytes does not end the message".formatted(length));
+        }
+        return encoded.slice(valueOffset, length);
+    }
+
+    private static long readVarInt(final Bytes bytes, final long offset) throws ParseException {
+        long value = 0;
+        long position = offset;
+        for (int shift = 0; shift < 64; shift += 7) {
+            if (position >= bytes.length()) {
+                throw new ParseException("Truncated var int at [%d]".formatted(offset));
+            }
+            final byte b = bytes.getByte(position++);
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new ParseException("Malformed var int at [%d]".formatted(offset));
+    }
+
+    /**
+     * Returns the size of the var int at the given offset, which has already
+     * been read successfully.
+     */
+    private static int varIntSize(final Bytes bytes, final long offset) {
+        int size = 1;
+        while ((bytes.getByte(offset + size - 1) & 0x80) != 0) {
+            size++;
+        }
+        return size;
+    }
+}
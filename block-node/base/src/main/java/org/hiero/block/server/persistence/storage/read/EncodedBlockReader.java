@@ -0,0 +1,26 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.persistence.storage.read;
+
+import com.hedera.pbj.runtime.ParseException;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * A Block reader that can also read a block as the protobuf encoded bytes it
+ * is stored with, so it can be sent without being parsed and encoded again.
+ */
+public interface EncodedBlockReader {
+    /**
+     * Reads the block with the given block number as its encoded bytes.
+     *
+     * @param blockNumber the block number of the block to read
+     * @return the encoded block with the given block number
+     * @throws IOException if an I/O error occurs fetching the block
+     * @throws ParseException if the boundaries of the items of the block
+     *     cannot be read
+     * @throws IllegalArgumentException if the blockNumber IS NOT a whole number
+     */
+    @NonNull
+    Optional<EncodedBlock> readEncoded(final long blockNumber) throws IOException, ParseException;
+}
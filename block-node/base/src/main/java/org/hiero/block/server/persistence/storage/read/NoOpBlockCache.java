@@ -0,0 +1,33 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.persistence.storage.read;
+
+/**
+ * A no-op Block cache, used when the blocks read are not cached.
+ */
+public final class NoOpBlockCache implements BlockCache {
+    /**
+     * Constructor.
+     */
+    private NoOpBlockCache() {}
+
+    /**
+     * This method creates and returns a new instance of
+     * {@link NoOpBlockCache}.
+     *
+     * @return a new, fully initialized instance of
+     * {@link NoOpBlockCache}
+     */
+    public static NoOpBlockCache newInstance() {
+        return new NoOpBlockCache();
+    }
+
+    @Override
+    public void populate(final long blockNumber) {
+        // do nothing
+    }
+
+    @Override
+    public void invalidate(final long firstBlockNumber, final long lastBlockNumber) {
+        // do nothing
+    }
+}
@@ -0,0 +1,38 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.persistence.storage.read;
+
+import com.github.luben.zstd.Zstd;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Objects;
+import org.hiero.block.server.persistence.storage.PersistenceStorageConfig.CompressionType;
+
+/**
+ * A record that represents a Block as the bytes it is stored with, before
+ * they are decompressed.
+ *
+ * @param bytes the stored bytes of the Block
+ * @param compressionType the compression the stored bytes are written with
+ */
+public record StoredBlock(@NonNull Bytes bytes, @NonNull CompressionType compressionType) {
+    // the largest Zstd frame header, which holds the ID of the dictionary of the frame
+    private static final int MAX_ZSTD_FRAME_HEADER_SIZE = 18;
+
+    public StoredBlock {
+        Objects.requireNonNull(bytes);
+        Objects.requireNonNull(compressionType);
+    }
+
+    /**
+     * @return {@code true} if the Block is stored as a Zstd frame compressed
+     * with a dictionary, which only the node holding the dictionary can
+     * decompress, else {@code false}
+     */
+    public boolean isDictionaryCompressed() {
+        if (compressionType != CompressionType.ZSTD) {
+            return false;
+        }
+        final int headerSize = (int) Math.min(bytes.length(), MAX_ZSTD_FRAME_HEADER_SIZE);
+        return Zstd.getDictIdFromFrame(bytes.toByteArray(0, headerSize)) != 0;
+    }
+}
@@ -0,0 +1,24 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.persistence.storage.read;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * A Block reader that can also read a block as the bytes it is stored with,
+ * still compressed, so it can be sent to clients that decompress it on their
+ * side.
+ */
+public interface StoredBlockReader {
+    /**
+     * Reads the block with the given block number as its stored bytes.
+     *
+     * @param blockNumber the block number of the block to read
+     * @return the stored block with the given block number
+     * @throws IOException if an I/O error occurs fetching the block
+     * @throws IllegalArgumentException if the blockNumber IS NOT a whole number
+     */
+    @NonNull
+    Optional<StoredBlock> readStored(final long blockNumber) throws IOException;
+}
@@ -0,0 +1,139 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.persistence.storage.recovery;
+
+import static java.lang.System.Logger.Level.INFO;
+import static java.lang.System.Logger.Level.WARNING;
+
+import com.hedera.hapi.block.BlockItemUnparsed;
+import com.hedera.hapi.block.BlockUnparsed;
+import com.hedera.pbj.runtime.ParseException;
+import com.hedera.pbj.runtime.io.stream.ReadableStreamingData;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import org.hiero.block.common.utils.Preconditions;
+import org.hiero.block.server.block.BlockItemBatchMetadata;
+import org.hiero.block.server.persistence.storage.compression.Compression;
+import org.hiero.block.server.persistence.storage.path.BlockPathResolver;
+import org.hiero.block.server.persistence.storage.path.UnverifiedBlockPath;
+import org.hiero.block.server.verification.BlockVerificationStatus;
+import org.hiero.block.server.verification.VerificationResult;
+import org.hiero.block.server.verification.session.BlockVerificationSession;
+import org.hiero.block.server.verification.session.BlockVerificationSessionFactory;
+
+/**
+ * An implementation of {@link UnverifiedBlockRecovery} for the Blocks written
+ * under the unverified root, one file per Block, as they are streamed in.
+ * <p>
+ * The unverified files are the journal of the Blocks in flight: every item of
+ * a Block is appended to its file before the Block is acknowledged. Instead of
+ * checkpointing the state of the hashers, the items of a recovered Block are
+ * replayed through a new verification session, which also rejects a file that
+ * was corrupted. A Block whose file was not written completely is discarded,
+ * the publisher resends it from its Block header.
+ */
+public final class BlockAsLocalFileRecovery implements UnverifiedBlockRecovery {
+    private static final System.Logger LOGGER = System.getLogger(BlockAsLocalFileRecovery.class.getName());
+    private final BlockPathResolver pathResolver;
+    private final Compression compression;
+    private final BlockVerificationSessionFactory sessionFactory;
+
+    /**
+     * Constructor.
+     *
+     * @param pathResolver valid, {@code non-null} instance of
+     * {@link BlockPathResolver} used to find the unverified Blocks
+     * @param compression valid, {@code non-null} instance of
+     * {@link Compression} used to read the unverified Blocks
+     * @param sessionFactory valid, {@code non-null} instance of
+     * {@link BlockVerificationSessionFactory} used to verify the unverified
+     * Blocks
+     */
+    public BlockAsLocalFileRecovery(
+            @NonNull final BlockPathResolver pathResolver,
+            @NonNull final Compression compression,
+            @NonNull final BlockVerificationSessionFactory sessionFactory) {
+        this.pathResolver = Objects.requireNonNull(pathResolver);
+        this.compression = Objects.requireNonNull(compression);
+        this.sessionFactory = Objects.requireNonNull(sessionFactory);
+    }
+
+    @NonNull
+    @Override
+    public List<VerificationResult> recover(final long firstBlockNumber) throws IOException {
+        Preconditions.requireWhole(firstBlockNumber);
+        final List<VerificationResult> recovered = new ArrayList<>();
+        long blockNumber = firstBlockNumber;
+        Optional<UnverifiedBlockPath> unverifiedBlockPath = pathResolver.findUnverifiedBlock(blockNumber);
+        while (unverifiedBlockPath.isPresent()) {
+            final Optional<VerificationResult> result = verify(unverifiedBlockPath.get());
+            if (result.isEmpty()) {
+                break;
+            }
+            recovered.add(result.get());
+            unverifiedBlockPath = pathResolver.findUnverifiedBlock(++blockNumber);
+        }
+        if (!recovered.isEmpty()) {
+            LOGGER.log(
+                    INFO,
+                    "Recovered Blocks [%d] to [%d] from the unverified root"
+                            .formatted(firstBlockNumber, blockNumber - 1));
+        }
+        return recovered;
+    }
+
+    /**
+     * Replays the items of the given unverified Block through a new
+     * verification session.
+     *
+     * @return the verification result of the Block, or an empty optional if
+     * the Block is incomplete or fails verification
+     */
+    private Optional<VerificationResult> verify(final UnverifiedBlockPath unverifiedBlockPath) throws IOException {
+        final long blockNumber = unverifiedBlockPath.blockNumber();
+        final Path blockPath = unverifiedBlockPath.dirPath().resolve(unverifiedBlockPath.blockFileName());
+        final List<BlockItemUnparsed> blockItems;
+        final BlockItemBatchMetadata metadata;
+        try (final InputStream in = Files.newInputStream(blockPath);
+                final ReadableStreamingData data = new ReadableStreamingData(
+                        compression.wrap(in, unverifiedBlockPath.compressionType()))) {
+            blockItems = BlockUnparsed.PROTOBUF.parse(data).blockItems();
+            metadata = blockItems.isEmpty() ? null : BlockItemBatchMetadata.parse(blockItems);
+        } catch (final ParseException | IOException e) {
+            // a file that was not written completely does not decompress or parse
+            LOGGER.log(WARNING, "Unverified Block [%d] is incomplete, discarding it".formatted(blockNumber), e);
+            return Optional.empty();
+        }
+        if (metadata == null
+                || !metadata.startsWithBlockHeader()
+                || !metadata.endsWithBlockProof()
+                || metadata.blockNumber() != blockNumber) {
+            LOGGER.log(WARNING, "Unverified Block [%d] is incomplete, discarding it".formatted(blockNumber));
+            return Optional.empty();
+        }
+        final BlockVerificationSession session = sessionFactory.createSession(metadata.blockHeader());
+        session.appendBlockItems(blockItems);
+        final VerificationResult result;
+        try {
+            result = session.getVerificationResult().get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while verifying unverified Block [%d]".formatted(blockNumber), e);
+        } catch (final ExecutionException e) {
+            LOGGER.log(WARNING, "Failed to verify unverified Block [%d]".formatted(blockNumber), e.getCause());
+            return Optional.empty();
+        }
+        if (result.status() != BlockVerificationStatus.VERIFIED) {
+            LOGGER.log(WARNING, "Unverified Block [%d] failed verification".formatted(blockNumber));
+            return Optional.empty();
+        }
+        return Optional.of(result);
+    }
+}
@@ -0,0 +1,37 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.persistence.storage.recovery;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
+import org.hiero.block.server.verification.VerificationResult;
+
+/**
+ * A no-op Block recovery, used when the Blocks are not persisted or not
+ * verified.
+ */
+public final class NoOpUnverifiedBlockRecovery implements UnverifiedBlockRecovery {
+    /**
+     * Constructor.
+     */
+    private NoOpUnverifiedBlockRecovery() {}
+
+    /**
+     * This method creates and returns a new instance of
+     * {@link NoOpUnverifiedBlockRecovery}.
+     *
+     * @return a new, fully initialized instance of
+     * {@link NoOpUnverifiedBlockRecovery}
+     */
+    public static NoOpUnverifiedBlockRecovery newInstance() {
+        return new NoOpUnverifiedBlockRecovery();
+    }
+
+    /**
+     * No-op recovery. Recovers no Blocks.
+     */
+    @NonNull
+    @Override
+    public List<VerificationResult> recover(final long firstBlockNumber) {
+        return List.of();
+    }
+}
@@ -0,0 +1,29 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.persistence.storage.recovery;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.util.List;
+import org.hiero.block.server.verification.VerificationResult;
+
+/**
+ * An interface that defines the recovery of the Blocks that were persisted
+ * under the unverified root, but not yet moved to the live root, when the
+ * server was stopped.
+ */
+public interface UnverifiedBlockRecovery {
+    /**
+     * Recovers the consecutive Blocks under the unverified root, starting with
+     * the Block with the given number, that are complete and pass
+     * verification. Recovery stops at the first Block that is missing,
+     * incomplete or fails verification.
+     *
+     * @param firstBlockNumber the number of the first Block to recover, the
+     * one after the latest Block available in the live or archive storage
+     * @return the verification results of the recovered Blocks, in ascending
+     * Block number order, never {@code null}
+     * @throws IOException if the unverified root cannot be read
+     */
+    @NonNull
+    List<VerificationResult> recover(final long firstBlockNumber) throws IOException;
+}
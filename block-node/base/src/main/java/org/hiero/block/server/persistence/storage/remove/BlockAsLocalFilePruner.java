@@ -0,0 +1,275 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.persistence.storage.remove;
+
+import static java.lang.System.Logger.Level.DEBUG;
+import static java.lang.System.Logger.Level.WARNING;
+import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.RetentionBlocksPruned;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import org.hiero.block.common.utils.FileUtilities;
+import org.hiero.block.server.metrics.MetricsService;
+import org.hiero.block.server.persistence.storage.PersistenceStorageConfig;
+import org.hiero.block.server.persistence.storage.path.BlockPathResolver;
+import org.hiero.block.server.persistence.storage.read.ArchiveHandleCache;
+import org.hiero.block.server.persistence.storage.read.BlockCache;
+import org.hiero.block.server.service.Constants;
+import org.hiero.block.server.service.ServiceStatus;
+
+/**
+ * An implementation of {@link BlockPruner} that utilizes the
+ * {@link PersistenceStorageConfig.StorageType#BLOCK_AS_LOCAL_FILE}
+ * persistence type.
+ * <p>
+ * Blocks are pruned a whole archive group at a time, oldest first, once the
+ * group is past any of the retention policies set in the
+ * {@link PersistenceStorageConfig}: the number of the latest blocks, the bytes
+ * of the archived blocks or the age of the archive. Pruning runs in the
+ * background each time a group of blocks has been persisted, and deletes the
+ * archives at no more than
+ * {@link PersistenceStorageConfig#retentionDeleteBytesPerSecond()}.
+ * <p>
+ * The first available block number is raised past a group before the group
+ * is deleted, and the group is no longer found by the path resolver before
+ * its archive is deleted, so no new read is started for a pruned block.
+ * Readers that already opened the archive keep reading it until they close it.
+ */
+public final class BlockAsLocalFilePruner implements BlockPruner {
+    private static final System.Logger LOGGER = System.getLogger(BlockAsLocalFilePruner.class.getName());
+    private static final Executor PRUNE_EXECUTOR =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("block-pruner-", 0).factory());
+    private static final int MAX_LONG_DIGITS = 19;
+    private final Path liveRootPath;
+    private final int archiveGroupSize;
+    private final int archiveDirDepth;
+    private final long retentionMaxBlocks;
+    private final long retentionMaxBytes;
+    private final long retentionMaxAgeMillis;
+    private final long retentionDeleteBytesPerSecond;
+    private final BlockPathResolver pathResolver;
+    private final BlockRemover blockRemover;
+    private final ArchiveHandleCache archiveHandleCache;
+    private final BlockCache blockCache;
+    private final ServiceStatus serviceStatus;
+    private final MetricsService metricsService;
+    private final AtomicBoolean pruning = new AtomicBoolean();
+    // the earliest time the next archive may be deleted at, only used by the pruning thread
+    private long nextDeleteNanos = System.nanoTime();
+
+    /**
+     * Constructor.
+     *
+     * @param config valid, {@code non-null} instance of
+     * {@link PersistenceStorageConfig} holding the retention policy
+     * @param pathResolver valid, {@code non-null} instance of
+     * {@link BlockPathResolver} used to resolve the archives
+     * @param blockRemover valid, {@code non-null} instance of
+     * {@link BlockRemover} used to delete the archives
+     * @param archiveHandleCache valid, {@code non-null} instance of
+     * {@link ArchiveHandleCache} holding the archives open for reading
+     * @param blockCache valid, {@code non-null} instance of
+     * {@link BlockCache} the pruned blocks are removed from
+     * @param serviceStatus valid, {@code non-null} instance of
+     * {@link ServiceStatus} holding the first available block number
+     * @param metricsService valid, {@code non-null} instance of
+     * {@link MetricsService} used to report the pruned blocks
+     */
+    public BlockAsLocalFilePruner(
+            @NonNull final PersistenceStorageConfig config,
+            @NonNull final BlockPathResolver pathResolver,
+            @NonNull final BlockRemover blockRemover,
+            @NonNull final ArchiveHandleCache archiveHandleCache,
+            @NonNull final BlockCache blockCache,
+            @NonNull final ServiceStatus serviceStatus,
+            @NonNull final MetricsService metricsService) {
+        this.liveRootPath = Objects.requireNonNull(config.liveRootPath());
+        this.archiveGroupSize = config.archiveGroupSize();
+        this.archiveDirDepth = MAX_LONG_DIGITS - (int) Math.log10(archiveGroupSize);
+        this.retentionMaxBlocks = config.retentionMaxBlocks();
+        this.retentionMaxBytes = config.retentionMaxBytes();
+        this.retentionMaxAgeMillis = TimeUnit.DAYS.toMillis(config.retentionMaxAgeDays());
+        this.retentionDeleteBytesPerSecond = config.retentionDeleteBytesPerSecond();
+        this.pathResolver = Objects.requireNonNull(pathResolver);
+        this.blockRemover = Objects.requireNonNull(blockRemover);
+        this.archiveHandleCache = Objects.requireNonNull(archiveHandleCache);
+        this.blockCache = Objects.requireNonNull(blockCache);
+        this.serviceStatus = Objects.requireNonNull(serviceStatus);
+        this.metricsService = Objects.requireNonNull(metricsService);
+    }
+
+    /**
+     * Pruning is started each time a group of blocks has been persisted,
+     * unless the previous pruning is still running.
+     */
+    @Override
+    public void notifyBlockPersisted(final long blockNumber) {
+        if (blockNumber % archiveGroupSize == 0 && pruning.compareAndSet(false, true)) {
+            PRUNE_EXECUTOR.execute(() -> {
+                try {
+                    final long blocksPruned = prune(blockNumber);
+                    LOGGER.log(DEBUG, "Pruned [{0}] Blocks", blocksPruned);
+                } catch (final IOException | RuntimeException e) {
+                    LOGGER.log(WARNING, "Failed to prune Blocks", e);
+                } finally {
+                    pruning.set(false);
+                }
+            });
+        }
+    }
+
+    /**
+     * Prunes, oldest first, the archive groups that are past the retention
+     * policy. Pruning stops at the first group that is retained.
+     *
+     * @param latestBlockNumber the number of the latest persisted block
+     * @return the number of blocks pruned
+     * @throws IOException if an archive could not be listed or deleted
+     */
+    long prune(final long latestBlockNumber) throws IOException {
+        final List<ArchiveGroup> groups = findArchiveGroups();
+        long archivedBytes = 0;
+        for (final ArchiveGroup group : groups) {
+            archivedBytes += group.sizeInBytes();
+        }
+        final long now = System.currentTimeMillis();
+        long blocksPruned = 0;
+        for (final ArchiveGroup group : groups) {
+            if (!isPrunable(group, latestBlockNumber)
+                    || !isExpired(group, latestBlockNumber, archivedBytes, now)
+                    || !awaitDeleteRate(group.sizeInBytes())) {
+                break;
+            }
+            // no new read is started for the group before it is deleted
+            serviceStatus.setFirstAvailableBlockNumber(group.lastBlockNumber() + 1);
+            blockRemover.removeArchived(group.firstBlockNumber(), group.lastBlockNumber());
+            archiveHandleCache.invalidate(group.zipLinkPath());
+            blockCache.invalidate(group.firstBlockNumber(), group.lastBlockNumber());
+            archivedBytes -= group.sizeInBytes();
+            blocksPruned += archiveGroupSize;
+            metricsService.get(RetentionBlocksPruned).add(archiveGroupSize);
+        }
+        return blocksPruned;
+    }
+
+    /**
+     * The group being archived and the one archived before it are never
+     * pruned, nor is a group whose live blocks are still being deleted by the
+     * archiver.
+     */
+    private boolean isPrunable(final ArchiveGroup group, final long latestBlockNumber) {
+        final Path rawLivePath = pathResolver
+                .resolveRawPathToArchiveParentUnderLive(group.firstBlockNumber())
+                .orElseThrow();
+        return group.lastBlockNumber() <= latestBlockNumber - 2L * archiveGroupSize
+                && Files.notExists(rawLivePath)
+                && Files.notExists(FileUtilities.appendExtension(rawLivePath, "del"));
+    }
+
+    private boolean isExpired(
+            final ArchiveGroup group, final long latestBlockNumber, final long archivedBytes, final long now) {
+        final boolean pastMaxBlocks =
+                retentionMaxBlocks > 0 && group.lastBlockNumber() <= latestBlockNumber - retentionMaxBlocks;
+        final boolean pastMaxBytes = retentionMaxBytes > 0 && archivedBytes > retentionMaxBytes;
+        final boolean pastMaxAge =
+                retentionMaxAgeMillis > 0 && group.lastModifiedMillis() < now - retentionMaxAgeMillis;
+        return pastMaxBlocks || pastMaxBytes || pastMaxAge;
+    }
+
+    /**
+     * Waits until the given bytes may be deleted without exceeding the delete
+     * rate.
+     *
+     * @return {@code true} if the bytes may be deleted, {@code false} if the
+     * thread was interrupted while waiting
+     */
+    private boolean awaitDeleteRate(final long bytes) {
+        final long waitNanos = nextDeleteNanos - System.nanoTime();
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        final long deleteNanos = (long) (bytes * 1_000_000_000d / retentionDeleteBytesPerSecond);
+        nextDeleteNanos = Math.max(nextDeleteNanos, System.nanoTime()) + deleteNanos;
+        return true;
+    }
+
+    /**
+     * Finds the archive groups, oldest first, through the links to their
+     * archives under the live root.
+     */
+    private List<ArchiveGroup> findArchiveGroups() throws IOException {
+        final List<Path> zipLinkPaths;
+        // the links are at the depth of the archived directories, the live blocks below it are not walked
+        try (final Stream<Path> tree = Files.find(liveRootPath, archiveDirDepth, (path, attributes) -> true)) {
+            zipLinkPaths = tree.filter(path -> path.getFileName().toString().endsWith(Constants.ZIP_FILE_EXTENSION))
+                    .sorted()
+                    .toList();
+        } catch (final UncheckedIOException e) {
+            // a live directory was deleted by the archiver while walking the tree
+            throw e.getCause();
+        }
+        final List<ArchiveGroup> groups = new ArrayList<>();
+        for (final Path zipLinkPath : zipLinkPaths) {
+            final long firstBlockNumber = parseFirstBlockNumber(zipLinkPath);
+            if (firstBlockNumber >= 0) {
+                groups.add(new ArchiveGroup(
+                        firstBlockNumber,
+                        firstBlockNumber + archiveGroupSize - 1,
+                        zipLinkPath,
+                        Files.size(zipLinkPath),
+                        Files.getLastModifiedTime(zipLinkPath).toMillis()));
+            }
+        }
+        return groups;
+    }
+
+    /**
+     * The digits of the path of the link to an archive, relative to the live
+     * root, are the leading digits of the number of the first block of the
+     * archived group.
+     *
+     * @return the number of the first block of the archived group, or -1 if
+     * the path is not the one of a link to an archive
+     */
+    private long parseFirstBlockNumber(final Path zipLinkPath) {
+        final Path relativePath = liveRootPath.relativize(zipLinkPath);
+        final String fileName = relativePath.getFileName().toString();
+        final StringBuilder digits = new StringBuilder(archiveDirDepth);
+        for (int i = 0; i < relativePath.getNameCount() - 1; i++) {
+            digits.append(relativePath.getName(i));
+        }
+        digits.append(fileName, 0, fileName.length() - Constants.ZIP_FILE_EXTENSION.length());
+        if (digits.length() != archiveDirDepth || !digits.chars().allMatch(Character::isDigit)) {
+            return -1;
+        }
+        final long firstBlockNumber = Long.parseLong(digits.toString()) * archiveGroupSize;
+        final Path expected = FileUtilities.appendExtension(
+                pathResolver
+                        .resolveRawPathToArchiveParentUnderLive(firstBlockNumber)
+                        .orElseThrow(),
+                Constants.ZIP_FILE_EXTENSION);
+        return expected.equals(zipLinkPath) ? firstBlockNumber : -1;
+    }
+
+    private record ArchiveGroup(
+            long firstBlockNumber,
+            long lastBlockNumber,
+            Path zipLinkPath,
+            long sizeInBytes,
+            long lastModifiedMillis) {}
+}
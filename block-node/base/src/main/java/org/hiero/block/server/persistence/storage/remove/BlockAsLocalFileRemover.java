@@ -7,9 +7,11 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Objects;
 import java.util.Optional;
+import org.hiero.block.common.utils.FileUtilities;
 import org.hiero.block.common.utils.Preconditions;
 import org.hiero.block.server.persistence.storage.path.BlockPathResolver;
 import org.hiero.block.server.persistence.storage.path.UnverifiedBlockPath;
+import org.hiero.block.server.service.Constants;
 
 /**
  * A Block remover that handles block-as-local-file.
@@ -34,9 +36,30 @@ public final class BlockAsLocalFileRemover implements LocalBlockRemover {
         if (optPath.isPresent()) {
             final UnverifiedBlockPath path = optPath.get();
             final Path targetPath = path.dirPath().resolve(path.blockFileName());
-            return Files.deleteIfExists(targetPath);
+            final boolean removed = Files.deleteIfExists(targetPath);
+            pathResolver.unregisterUnverifiedBlock(blockNumber);
+            return removed;
         } else {
             return false;
         }
     }
+
+    @Override
+    public boolean removeArchived(final long firstBlockNumber, final long lastBlockNumber) throws IOException {
+        Preconditions.requireWhole(firstBlockNumber);
+        final Optional<Path> optZipFilePath = pathResolver.resolveRawPathToArchiveParentUnderArchive(firstBlockNumber);
+        final Optional<Path> optZipParentPath = pathResolver.resolveRawPathToArchiveParentUnderLive(firstBlockNumber);
+        if (optZipFilePath.isEmpty() || optZipParentPath.isEmpty()) {
+            // the blocks are not archived, so there is no archive to remove
+            return false;
+        }
+        final Path zipFilePath = optZipFilePath.get();
+        final Path zipLinkPath = FileUtilities.appendExtension(optZipParentPath.get(), Constants.ZIP_FILE_EXTENSION);
+        // the blocks are no longer found before the archive is deleted, readers
+        // that already opened the archive keep reading it until they close it
+        pathResolver.unregisterArchivedBlocks(firstBlockNumber, lastBlockNumber);
+        final boolean linkRemoved = Files.deleteIfExists(zipLinkPath);
+        final boolean zipRemoved = Files.deleteIfExists(zipFilePath);
+        return linkRemoved || zipRemoved;
+    }
 }
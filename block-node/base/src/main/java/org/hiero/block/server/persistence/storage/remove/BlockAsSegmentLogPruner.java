@@ -0,0 +1,182 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.persistence.storage.remove;
+
+import static java.lang.System.Logger.Level.DEBUG;
+import static java.lang.System.Logger.Level.WARNING;
+import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.RetentionBlocksPruned;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.hiero.block.server.metrics.MetricsService;
+import org.hiero.block.server.persistence.storage.PersistenceStorageConfig;
+import org.hiero.block.server.persistence.storage.read.BlockCache;
+import org.hiero.block.server.persistence.storage.segment.SegmentLog;
+import org.hiero.block.server.service.ServiceStatus;
+
+/**
+ * An implementation of {@link BlockPruner} that utilizes the
+ * {@link PersistenceStorageConfig.StorageType#BLOCK_AS_SEGMENT_LOG}
+ * persistence type.
+ * <p>
+ * Blocks are pruned a whole segment at a time, oldest first, once the segment
+ * is past any of the retention policies set in the
+ * {@link PersistenceStorageConfig}: the number of the latest blocks, the bytes
+ * of the segments or the time the segment was last appended to. The segment
+ * blocks are appended to is never pruned. Pruning runs in the background each
+ * time a group of blocks has been persisted, and deletes the segments at no
+ * more than {@link PersistenceStorageConfig#retentionDeleteBytesPerSecond()}.
+ * <p>
+ * The first available block number is raised past a segment before the
+ * segment is deleted, and the blocks of the segment are no longer found in the
+ * log before it is deleted, so no new read is started for a pruned block.
+ */
+public final class BlockAsSegmentLogPruner implements BlockPruner {
+    private static final System.Logger LOGGER = System.getLogger(BlockAsSegmentLogPruner.class.getName());
+    private static final Executor PRUNE_EXECUTOR =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("block-pruner-", 0).factory());
+    private final int archiveGroupSize;
+    private final long segmentSize;
+    private final long retentionMaxBlocks;
+    private final long retentionMaxBytes;
+    private final long retentionMaxAgeMillis;
+    private final long retentionDeleteBytesPerSecond;
+    private final SegmentLog segmentLog;
+    private final BlockCache blockCache;
+    private final ServiceStatus serviceStatus;
+    private final MetricsService metricsService;
+    private final AtomicBoolean pruning = new AtomicBoolean();
+    // the earliest time the next segment may be deleted at, only used by the pruning thread
+    private long nextDeleteNanos = System.nanoTime();
+
+    /**
+     * Constructor.
+     *
+     * @param config valid, {@code non-null} instance of
+     * {@link PersistenceStorageConfig} holding the retention policy
+     * @param segmentLog valid, {@code non-null} instance of {@link SegmentLog}
+     * the segments are pruned from
+     * @param blockCache valid, {@code non-null} instance of
+     * {@link BlockCache} the pruned blocks are removed from
+     * @param serviceStatus valid, {@code non-null} instance of
+     * {@link ServiceStatus} holding the first available block number
+     * @param metricsService valid, {@code non-null} instance of
+     * {@link MetricsService} used to report the pruned blocks
+     */
+    public BlockAsSegmentLogPruner(
+            @NonNull final PersistenceStorageConfig config,
+            @NonNull final SegmentLog segmentLog,
+            @NonNull final BlockCache blockCache,
+            @NonNull final ServiceStatus serviceStatus,
+            @NonNull final MetricsService metricsService) {
+        this.archiveGroupSize = config.archiveGroupSize();
+        this.segmentSize = config.segmentSize();
+        this.retentionMaxBlocks = config.retentionMaxBlocks();
+        this.retentionMaxBytes = config.retentionMaxBytes();
+        this.retentionMaxAgeMillis = TimeUnit.DAYS.toMillis(config.retentionMaxAgeDays());
+        this.retentionDeleteBytesPerSecond = config.retentionDeleteBytesPerSecond();
+        this.segmentLog = Objects.requireNonNull(segmentLog);
+        this.blockCache = Objects.requireNonNull(blockCache);
+        this.serviceStatus = Objects.requireNonNull(serviceStatus);
+        this.metricsService = Objects.requireNonNull(metricsService);
+    }
+
+    /**
+     * Pruning is started each time a group of blocks has been persisted,
+     * unless the previous pruning is still running.
+     */
+    @Override
+    public void notifyBlockPersisted(final long blockNumber) {
+        if (blockNumber % archiveGroupSize == 0 && pruning.compareAndSet(false, true)) {
+            PRUNE_EXECUTOR.execute(() -> {
+                try {
+                    final long blocksPruned = prune(blockNumber);
+                    LOGGER.log(DEBUG, "Pruned [{0}] Blocks", blocksPruned);
+                } catch (final IOException | RuntimeException e) {
+                    LOGGER.log(WARNING, "Failed to prune Blocks", e);
+                } finally {
+                    pruning.set(false);
+                }
+            });
+        }
+    }
+
+    /**
+     * Prunes, oldest first, the segments that are past the retention policy.
+     * Pruning stops at the first segment that is retained.
+     *
+     * @param latestBlockNumber the number of the latest persisted block
+     * @return the number of blocks pruned
+     * @throws IOException if a segment could not be deleted
+     */
+    long prune(final long latestBlockNumber) throws IOException {
+        final Optional<Integer> firstSegment = segmentLog.findFirstSegment();
+        if (firstSegment.isEmpty()) {
+            return 0L;
+        }
+        final int activeSegment = segmentLog.activeSegment();
+        final long now = System.currentTimeMillis();
+        long blocksPruned = 0;
+        for (int segment = firstSegment.get(); segment < activeSegment; segment++) {
+            final Optional<Long> firstBlockNumber = segmentLog.findFirstBlockNumber(segment);
+            final Optional<Long> nextFirstBlockNumber = segmentLog.findFirstBlockNumber(segment + 1);
+            if (firstBlockNumber.isEmpty() || nextFirstBlockNumber.isEmpty()) {
+                break;
+            }
+            final long retainedBytes = (activeSegment - segment + 1) * segmentSize;
+            if (!isExpired(segment, nextFirstBlockNumber.get() - 1, latestBlockNumber, retainedBytes, now)
+                    || !awaitDeleteRate(segmentSize)) {
+                break;
+            }
+            // no new read is started for the segment before it is deleted
+            serviceStatus.setFirstAvailableBlockNumber(nextFirstBlockNumber.get());
+            final long blocksRemoved = segmentLog.removeBefore(segment + 1);
+            blockCache.invalidate(firstBlockNumber.get(), nextFirstBlockNumber.get() - 1);
+            blocksPruned += blocksRemoved;
+            metricsService.get(RetentionBlocksPruned).add(blocksRemoved);
+        }
+        return blocksPruned;
+    }
+
+    private boolean isExpired(
+            final int segment,
+            final long lastBlockNumber,
+            final long latestBlockNumber,
+            final long retainedBytes,
+            final long now)
+            throws IOException {
+        final boolean pastMaxBlocks =
+                retentionMaxBlocks > 0 && lastBlockNumber <= latestBlockNumber - retentionMaxBlocks;
+        final boolean pastMaxBytes = retentionMaxBytes > 0 && retainedBytes > retentionMaxBytes;
+        final boolean pastMaxAge = retentionMaxAgeMillis > 0
+                && segmentLog.segmentLastModifiedMillis(segment) < now - retentionMaxAgeMillis;
+        return pastMaxBlocks || pastMaxBytes || pastMaxAge;
+    }
+
+    /**
+     * Waits until the given bytes may be deleted without exceeding the delete
+     * rate.
+     *
+     * @return {@code true} if the bytes may be deleted, {@code false} if the
+     * thread was interrupted while waiting
+     */
+    private boolean awaitDeleteRate(final long bytes) {
+        final long waitNanos = nextDeleteNanos - System.nanoTime();
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        final long deleteNanos = (long) (bytes * 1_000_000_000d / retentionDeleteBytesPerSecond);
+        nextDeleteNanos = Math.max(nextDeleteNanos, System.nanoTime()) + deleteNanos;
+        return true;
+    }
+}
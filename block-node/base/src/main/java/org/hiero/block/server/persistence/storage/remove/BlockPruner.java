@@ -0,0 +1,15 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.persistence.storage.remove;
+
+/**
+ * An interface that defines an asynchronous block pruner, which deletes the
+ * archived blocks that are no longer retained by the retention policy.
+ */
+public interface BlockPruner {
+    /**
+     * This method will notify the pruner that a block has been persisted.
+     *
+     * @param blockNumber the block number that has been persisted
+     */
+    void notifyBlockPersisted(final long blockNumber);
+}
@@ -15,4 +15,21 @@ public interface BlockRemover {
      * @throws IllegalArgumentException if the blockNumber IS NOT a whole number
      */
     boolean removeUnverified(final long blockNumber) throws IOException;
+
+    /**
+     * Remove the archive group holding the archived blocks in the given range,
+     * both the archive under the archive root and its link under the live
+     * root. The blocks can no longer be found once this method is called,
+     * but readers that already hold the archive open can still read it.
+     *
+     * @param firstBlockNumber the block number of the first block of the
+     * archive group, inclusive
+     * @param lastBlockNumber the block number of the last block of the
+     * archive group, inclusive
+     * @return true if the archive group was removed successfully, false otherwise
+     * @throws IOException when failing to remove the archive group
+     * @throws IllegalArgumentException if the firstBlockNumber IS NOT a whole
+     * number
+     */
+    boolean removeArchived(final long firstBlockNumber, final long lastBlockNumber) throws IOException;
 }
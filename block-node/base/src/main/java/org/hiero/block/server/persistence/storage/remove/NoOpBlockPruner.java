@@ -0,0 +1,29 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.persistence.storage.remove;
+
+/**
+ * A no-op Block pruner, used when no retention policy is set.
+ */
+public final class NoOpBlockPruner implements BlockPruner {
+    /**
+     * Constructor.
+     */
+    private NoOpBlockPruner() {}
+
+    /**
+     * This method creates and returns a new instance of {@link NoOpBlockPruner}.
+     *
+     * @return a new, fully initialized instance of {@link NoOpBlockPruner}
+     */
+    public static NoOpBlockPruner newInstance() {
+        return new NoOpBlockPruner();
+    }
+
+    /**
+     * No-op pruner. Does nothing.
+     */
+    @Override
+    public void notifyBlockPersisted(final long blockNumber) {
+        // do nothing
+    }
+}
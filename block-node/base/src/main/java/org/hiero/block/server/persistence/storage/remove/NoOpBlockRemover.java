@@ -27,4 +27,13 @@ public final class NoOpBlockRemover implements BlockRemover {
     public boolean removeUnverified(final long blockNumber) {
         return false;
     }
+
+    /**
+     * No-op remover. Does nothing and always returns false. No preconditions
+     * check also.
+     */
+    @Override
+    public boolean removeArchived(final long firstBlockNumber, final long lastBlockNumber) {
+        return false;
+    }
 }
@@ -0,0 +1,418 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.persistence.storage.segment;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import org.hiero.block.common.utils.FileUtilities;
+import org.hiero.block.common.utils.Preconditions;
+import org.hiero.block.server.persistence.storage.PersistenceStorageConfig;
+import org.hiero.block.server.persistence.storage.PersistenceStorageConfig.CompressionType;
+import org.hiero.block.server.persistence.storage.path.LiveBlockPath;
+
+/**
+ * An append-only log of verified Blocks.
+ * <p>
+ * Blocks are appended back to back into large, pre-allocated segment files
+ * under the {@value #SEGMENTS_DIR_NAME} directory of the live root, instead of
+ * one file per Block. A Block that does not fit in the remaining space of the
+ * active segment is appended to a new segment. The location of every Block is
+ * recorded in a memory-mapped {@link SegmentLogIndex}, so a Block is read with
+ * a single positional read. Blocks are appended in batches, the bytes of a
+ * batch are forced to the device once, before the index entries of the batch
+ * are written, so an indexed Block is always fully persisted.
+ * <p>
+ * Blocks are appended in ascending order, so the oldest Blocks are removed a
+ * whole segment at a time by deleting the segment files.
+ * <p>
+ * Appends and removals are serialized, reads may run concurrently with them.
+ * Index lookups only wait for the entries of an append to be published, once
+ * the bytes of its Blocks were forced, never for the appended bytes to be
+ * written or forced. The segment after the active one is pre-allocated ahead
+ * of the appends that roll over to it, see {@link #preallocateNextSegment()},
+ * so an append only allocates a segment itself when it was not. A read that
+ * started before the segment of the Block was removed fails.
+ */
+public final class SegmentLog implements AutoCloseable {
+    /** The name of the directory under the live root that holds the log. */
+    public static final String SEGMENTS_DIR_NAME = "segments";
+
+    private static final String SEGMENT_FILE_EXTENSION = ".seg";
+    private static final String INDEX_FILE_NAME = "blocks.idx";
+    private static final int PREALLOCATION_BUFFER_SIZE = 1024 * 1024;
+    private final Path segmentsRootPath;
+    private final long segmentSize;
+    private final SegmentLogIndex index;
+    // guarded by itself
+    private final Map<Integer, FileChannel> segmentChannels = new HashMap<>();
+    // serializes appends and removals
+    private final Lock appendLock = new ReentrantLock();
+    // guards the index, writers only hold it to publish entries
+    private final ReadWriteLock indexLock = new ReentrantReadWriteLock();
+    // serializes the allocation of segments
+    private final Lock preallocationLock = new ReentrantLock();
+
+    /**
+     * Constructor. Opens the log under the live root of the given config,
+     * creating it if it does not exist.
+     *
+     * @param config valid, {@code non-null} instance of
+     * {@link PersistenceStorageConfig} used for initializing the log
+     * @throws IOException if the log cannot be opened
+     */
+    public SegmentLog(@NonNull final PersistenceStorageConfig config) throws IOException {
+        this.segmentsRootPath = config.liveRootPath().resolve(SEGMENTS_DIR_NAME);
+        this.segmentSize = config.segmentSize();
+        Files.createDirectories(segmentsRootPath);
+        this.index = new SegmentLogIndex(segmentsRootPath.resolve(INDEX_FILE_NAME));
+    }
+
+    /**
+     * Appends the Block held in the given file to the log. The file content is
+     * appended as is, no compression is applied.
+     *
+     * @param blockNumber the number of the Block to append
+     * @param source the file holding the Block
+     * @param compressionType the compression the Block file is written with
+     * @return the entry of the appended Block
+     * @throws IOException if the Block cannot be appended, or does not follow
+     * the latest Block in the log
+     */
+    @NonNull
+    public SegmentLogEntry append(
+            final long blockNumber, @NonNull final Path source, @NonNull final CompressionType compressionType)
+            throws IOException {
+        final LiveBlockPath block = new LiveBlockPath(
+                blockNumber, source.toAbsolutePath().getParent(), source.getFileName().toString(), compressionType);
+        return append(List.of(block)).getFirst();
+    }
+
+    /**
+     * Appends the Blocks held in the given files to the log, in the given
+     * order. The file contents are appended as is, no compression is applied.
+     * The bytes of all the Blocks are forced to the device once, then the
+     * index entries of all the Blocks are written and forced once. If the
+     * append fails, none of the Blocks is indexed.
+     *
+     * @param blocks the files holding the Blocks, in ascending Block order
+     * @return the entries of the appended Blocks, in the given order
+     * @throws IOException if the Blocks cannot be appended, or a Block does not
+     * follow the one before it
+     */
+    @NonNull
+    public List<SegmentLogEntry> append(@NonNull final List<LiveBlockPath> blocks) throws IOException {
+        appendLock.lock();
+        try {
+            return appendBlocks(blocks);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private List<SegmentLogEntry> appendBlocks(final List<LiveBlockPath> blocks) throws IOException {
+        final List<SegmentLogEntry> entries = new ArrayList<>(blocks.size());
+        final Set<FileChannel> written = new HashSet<>();
+        long previousBlockNumber = readIndex(index::latestBlockNumber).orElse(-1L);
+        int segment = readIndex(index::activeSegment);
+        long offset = readIndex(index::activeSegmentEnd);
+        for (final LiveBlockPath block : blocks) {
+            final long blockNumber = block.blockNumber();
+            if (blockNumber <= previousBlockNumber) {
+                throw new IOException("Block [%d] does not follow the latest Block [%d] in the log"
+                        .formatted(blockNumber, previousBlockNumber));
+            }
+            final Path source = block.dirPath().resolve(block.blockFileName());
+            try (final FileChannel in = FileChannel.open(source, StandardOpenOption.READ)) {
+                final long length = in.size();
+                if (length > Integer.MAX_VALUE) {
+                    throw new IOException(
+                            "Block [%d] of [%d] bytes is too large to append".formatted(blockNumber, length));
+                }
+                if (offset > 0 && offset + length > segmentSize) {
+                    // the Block does not fit, it starts a new segment
+                    segment++;
+                    offset = 0;
+                }
+                final FileChannel out = segmentChannel(segment, true);
+                long transferred = 0;
+                while (transferred < length) {
+                    transferred += out.transferFrom(in, offset + transferred, length - transferred);
+                }
+                written.add(out);
+                entries.add(new SegmentLogEntry(blockNumber, segment, offset, (int) length, block.compressionType()));
+                offset += length;
+            }
+            previousBlockNumber = blockNumber;
+        }
+        for (final FileChannel out : written) {
+            out.force(false);
+        }
+        indexLock.writeLock().lock();
+        try {
+            for (final SegmentLogEntry entry : entries) {
+                index.put(entry, entry.offset() + entry.length());
+            }
+        } finally {
+            indexLock.writeLock().unlock();
+        }
+        // only appends and removals write the index, they are serialized
+        index.force();
+        return entries;
+    }
+
+    /**
+     * Pre-allocates the segment after the active one, if it was not already,
+     * so the append that rolls over to it does not allocate it. Meant to be
+     * called by the appending thread between appends, it does not hold up
+     * appends, removals nor reads while the segment is written.
+     *
+     * @throws IOException if the segment cannot be allocated
+     */
+    public void preallocateNextSegment() throws IOException {
+        preallocateIfAbsent(activeSegment() + 1);
+    }
+
+    /**
+     * Finds the entry of the given Block.
+     *
+     * @param blockNumber the number of the Block to find
+     * @return the entry of the Block if it is in the log, else an empty optional
+     */
+    @NonNull
+    public Optional<SegmentLogEntry> find(final long blockNumber) {
+        Preconditions.requireWhole(blockNumber);
+        return readIndex(() -> index.find(blockNumber));
+    }
+
+    /**
+     * @param blockNumber the number of the Block to check
+     * @return {@code true} if the Block is in the log, else {@code false}
+     */
+    public boolean contains(final long blockNumber) {
+        return find(blockNumber).isPresent();
+    }
+
+    /**
+     * @return the number of the first Block in the log, if any
+     */
+    @NonNull
+    public Optional<Long> findFirstBlockNumber() {
+        return readIndex(index::firstBlockNumber);
+    }
+
+    /**
+     * @return the number of the latest Block in the log, if any
+     */
+    @NonNull
+    public Optional<Long> findLatestBlockNumber() {
+        return readIndex(index::latestBlockNumber);
+    }
+
+    /**
+     * @return the id of the segment Blocks are appended to, it is never
+     * removed
+     */
+    public int activeSegment() {
+        return readIndex(index::activeSegment);
+    }
+
+    /**
+     * @return the id of the oldest segment in the log, if any
+     */
+    @NonNull
+    public Optional<Integer> findFirstSegment() {
+        return readIndex(() -> index.firstBlockNumber().flatMap(index::find).map(SegmentLogEntry::segment));
+    }
+
+    /**
+     * Finds the first Block appended to the given segment, or to a later one
+     * if none was appended to it.
+     *
+     * @param segment the id of the segment
+     * @return the number of the Block, if any
+     */
+    @NonNull
+    public Optional<Long> findFirstBlockNumber(final int segment) {
+        Preconditions.requireWhole(segment);
+        return readIndex(() -> index.firstBlockNumberFrom(segment));
+    }
+
+    /**
+     * @param segment the id of the segment
+     * @return the time the given segment was last appended to, in milliseconds
+     * since the epoch
+     * @throws IOException if the segment does not exist
+     */
+    public long segmentLastModifiedMillis(final int segment) throws IOException {
+        return Files.getLastModifiedTime(resolveSegmentPath(segment)).toMillis();
+    }
+
+    /**
+     * Removes the segments before the given one along with the Blocks appended
+     * to them. The Blocks are no longer found before their segments are
+     * deleted.
+     *
+     * @param segment the id of the first segment to retain, must not be after
+     * the active segment
+     * @return the number of Blocks removed
+     * @throws IOException if the segments cannot be deleted
+     */
+    public long removeBefore(final int segment) throws IOException {
+        appendLock.lock();
+        try {
+            final int activeSegment = activeSegment();
+            if (segment > activeSegment) {
+                throw new IllegalArgumentException(
+                        "Segment [%d] is after the active segment [%d]".formatted(segment, activeSegment));
+            }
+            final Optional<Integer> firstSegment = findFirstSegment();
+            if (firstSegment.isEmpty() || firstSegment.get() >= segment) {
+                return 0L;
+            }
+            final long blocksRemoved = writeIndex(() -> index.removeBefore(segment));
+            index.force();
+            synchronized (segmentChannels) {
+                // a read must not reopen a segment between its channel being closed and the segment deleted
+                for (int i = firstSegment.get(); i < segment; i++) {
+                    final FileChannel channel = segmentChannels.remove(i);
+                    if (channel != null) {
+                        channel.close();
+                    }
+                    Files.deleteIfExists(resolveSegmentPath(i));
+                }
+            }
+            return blocksRemoved;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Reads the bytes of the Block at the given entry, as they were appended.
+     *
+     * @param entry the entry of the Block to read
+     * @return the bytes of the Block
+     * @throws IOException if the Block cannot be read
+     */
+    @NonNull
+    public byte[] readBytes(@NonNull final SegmentLogEntry entry) throws IOException {
+        final FileChannel channel = segmentChannel(entry.segment(), false);
+        final ByteBuffer buffer = ByteBuffer.allocate(entry.length());
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, entry.offset() + buffer.position()) < 0) {
+                throw new EOFException("Segment [%d] ends before Block [%d]"
+                        .formatted(entry.segment(), entry.blockNumber()));
+            }
+        }
+        return buffer.array();
+    }
+
+    @Override
+    public void close() throws IOException {
+        appendLock.lock();
+        try {
+            synchronized (segmentChannels) {
+                for (final FileChannel channel : segmentChannels.values()) {
+                    channel.close();
+                }
+                segmentChannels.clear();
+            }
+            index.close();
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * @param create whether a segment that does not exist is created, a
+     * removed segment is only ever looked up without creating it
+     */
+    private FileChannel segmentChannel(final int segment, final boolean create) throws IOException {
+        if (create) {
+            preallocateIfAbsent(segment);
+        }
+        synchronized (segmentChannels) {
+            FileChannel channel = segmentChannels.get(segment);
+            if (channel == null) {
+                channel = FileChannel.open(
+                        resolveSegmentPath(segment), StandardOpenOption.READ, StandardOpenOption.WRITE);
+                segmentChannels.put(segment, channel);
+            }
+            return channel;
+        }
+    }
+
+    private void preallocateIfAbsent(final int segment) throws IOException {
+        final Path segmentPath = resolveSegmentPath(segment);
+        preallocationLock.lock();
+        try {
+            if (Files.notExists(segmentPath)) {
+                preallocate(segmentPath);
+            }
+        } finally {
+            preallocationLock.unlock();
+        }
+    }
+
+    private <T> T readIndex(final Supplier<T> lookup) {
+        indexLock.readLock().lock();
+        try {
+            return lookup.get();
+        } finally {
+            indexLock.readLock().unlock();
+        }
+    }
+
+    private <T> T writeIndex(final Supplier<T> update) {
+        indexLock.writeLock().lock();
+        try {
+            return update.get();
+        } finally {
+            indexLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Pre-allocates a new segment by writing it full of zeros, so the file
+     * system allocates its blocks up front and appends neither grow the file
+     * nor update its size, unlike a sparse file of the same length. The
+     * segment is written under a temporary name and moved in place once fully
+     * allocated.
+     */
+    private void preallocate(final Path segmentPath) throws IOException {
+        final Path tempPath = FileUtilities.appendExtension(segmentPath, ".tmp");
+        final ByteBuffer zeros = ByteBuffer.allocateDirect(PREALLOCATION_BUFFER_SIZE);
+        try (final FileChannel out = FileChannel.open(
+                tempPath, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            long position = 0;
+            while (position < segmentSize) {
+                zeros.clear().limit((int) Math.min(zeros.capacity(), segmentSize - position));
+                position += out.write(zeros, position);
+            }
+            out.force(true);
+        }
+        Files.move(tempPath, segmentPath, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private Path resolveSegmentPath(final int segment) {
+        return segmentsRootPath.resolve("%010d%s".formatted(segment, SEGMENT_FILE_EXTENSION));
+    }
+}
@@ -0,0 +1,28 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.persistence.storage.segment;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Objects;
+import org.hiero.block.common.utils.Preconditions;
+import org.hiero.block.server.persistence.storage.PersistenceStorageConfig.CompressionType;
+
+/**
+ * A record that represents the location of a Block appended to the segment
+ * log.
+ *
+ * @param blockNumber the number of the Block
+ * @param segment the id of the segment the Block is appended to
+ * @param offset the offset of the Block in the segment
+ * @param length the length of the Block in the segment, in bytes
+ * @param compressionType the compression the Block was written with
+ */
+public record SegmentLogEntry(
+        long blockNumber, int segment, long offset, int length, @NonNull CompressionType compressionType) {
+    public SegmentLogEntry {
+        Preconditions.requireWhole(blockNumber);
+        Preconditions.requireWhole(segment);
+        Preconditions.requireWhole(offset);
+        Preconditions.requireWhole(length);
+        Objects.requireNonNull(compressionType);
+    }
+}
@@ -0,0 +1,328 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.persistence.storage.segment;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.hiero.block.server.persistence.storage.PersistenceStorageConfig.CompressionType;
+
+/**
+ * A memory-mapped index from Block number to the location of the Block in the
+ * segment log.
+ * <p>
+ * Block numbers are contiguous, so the index is a dense array of fixed-size
+ * entries, where the entry of a Block is found at its distance from the first
+ * indexed Block. A header ahead of the entries holds the first indexed Block
+ * number, the number of entries, the position the next Block will be appended
+ * at and the first entry still in the log, so the log resumes without
+ * scanning the segments. The entries are mapped in fixed-size chunks, on first
+ * access, so the index is not limited by the size of a single mapping and the
+ * entries of removed segments are not mapped once the log is reopened.
+ * <p>
+ * Entries are only written to the memory, {@link #force()} persists them.
+ * <p>
+ * Lookups may run concurrently with each other, they map the chunks they
+ * access. The {@link SegmentLog} excludes them while entries are written, and
+ * serializes the writes and {@link #force()}.
+ */
+final class SegmentLogIndex implements AutoCloseable {
+    private static final int MAGIC = 0x424E5349; // BNSI
+    private static final int VERSION = 1;
+    // header layout
+    private static final int MAGIC_POSITION = 0;
+    private static final int VERSION_POSITION = 4;
+    private static final int FIRST_BLOCK_NUMBER_POSITION = 8;
+    private static final int ENTRY_COUNT_POSITION = 16;
+    private static final int ACTIVE_SEGMENT_POSITION = 24;
+    private static final int ACTIVE_SEGMENT_END_POSITION = 32;
+    private static final int FIRST_RETAINED_INDEX_POSITION = 40;
+    private static final int HEADER_SIZE = 64;
+    // entry layout
+    private static final int ENTRY_OFFSET_POSITION = 0;
+    private static final int ENTRY_SEGMENT_POSITION = 8;
+    private static final int ENTRY_LENGTH_POSITION = 12;
+    private static final int ENTRY_COMPRESSION_POSITION = 16;
+    private static final int ENTRY_PRESENT_POSITION = 17;
+    private static final int ENTRY_SIZE = 24;
+    // the entries are mapped 64K at once
+    private static final int CHUNK_ENTRIES = 64 * 1024;
+    private static final long CHUNK_SIZE = (long) CHUNK_ENTRIES * ENTRY_SIZE;
+    private static final long NO_BLOCK_NUMBER = -1L;
+    private static final CompressionType[] COMPRESSION_TYPES = CompressionType.values();
+
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private final Map<Integer, MappedByteBuffer> chunks = new ConcurrentHashMap<>();
+    // the range of the chunks written since the last force, empty when lowest > highest
+    private int lowestDirtyChunk = Integer.MAX_VALUE;
+    private int highestDirtyChunk = -1;
+
+    /**
+     * Opens the index file at the given path, creating and initializing it if
+     * it does not exist.
+     *
+     * @param indexFilePath the path to the index file
+     * @throws IOException if the index file cannot be opened or is not a valid
+     * index file
+     */
+    SegmentLogIndex(@NonNull final Path indexFilePath) throws IOException {
+        this.channel = FileChannel.open(
+                Objects.requireNonNull(indexFilePath),
+                StandardOpenOption.CREATE,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        final boolean created = channel.size() == 0;
+        this.header = channel.map(MapMode.READ_WRITE, 0, HEADER_SIZE);
+        if (created) {
+            header.putInt(MAGIC_POSITION, MAGIC);
+            header.putInt(VERSION_POSITION, VERSION);
+            header.putLong(FIRST_BLOCK_NUMBER_POSITION, NO_BLOCK_NUMBER);
+            header.putLong(ENTRY_COUNT_POSITION, 0L);
+            header.putInt(ACTIVE_SEGMENT_POSITION, 0);
+            header.putLong(ACTIVE_SEGMENT_END_POSITION, 0L);
+            header.putLong(FIRST_RETAINED_INDEX_POSITION, 0L);
+            header.force();
+        } else if (header.getInt(MAGIC_POSITION) != MAGIC || header.getInt(VERSION_POSITION) != VERSION) {
+            channel.close();
+            throw new IOException("Invalid segment log index file [%s]".formatted(indexFilePath));
+        }
+    }
+
+    /**
+     * @return the number of the first indexed Block, if any
+     */
+    Optional<Long> firstBlockNumber() {
+        final long index = nextPresent(firstRetainedIndex(), entryCount());
+        return index < entryCount() ? Optional.of(firstIndexedBlockNumber() + index) : Optional.empty();
+    }
+
+    /**
+     * @return the number of the latest indexed Block, if any
+     */
+    Optional<Long> latestBlockNumber() {
+        for (long i = entryCount() - 1; i >= firstRetainedIndex(); i--) {
+            if (isPresent(i)) {
+                return Optional.of(firstIndexedBlockNumber() + i);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Finds the first Block appended to the given segment or to a later one.
+     * Blocks are appended in ascending order, so the segments of the entries
+     * ascend with the Block numbers and the Block is found with a binary
+     * search.
+     *
+     * @param segment the id of the segment
+     * @return the number of the Block if any, else an empty optional
+     */
+    Optional<Long> firstBlockNumberFrom(final int segment) {
+        long low = firstRetainedIndex();
+        long high = entryCount();
+        long found = entryCount();
+        while (low < high) {
+            final long middle = (low + high) >>> 1;
+            final long present = nextPresent(middle, high);
+            if (present == high) {
+                high = middle;
+            } else if (segmentAt(present) >= segment) {
+                found = present;
+                high = middle;
+            } else {
+                low = present + 1;
+            }
+        }
+        return found < entryCount() ? Optional.of(firstIndexedBlockNumber() + found) : Optional.empty();
+    }
+
+    /**
+     * Finds the entry of the given Block.
+     *
+     * @param blockNumber the number of the Block to find
+     * @return the entry of the Block if it is indexed, else an empty optional
+     */
+    Optional<SegmentLogEntry> find(final long blockNumber) {
+        final long index = indexOf(blockNumber);
+        if (index < 0 || !isPresent(index)) {
+            return Optional.empty();
+        }
+        final MappedByteBuffer chunk = chunk(index);
+        final int position = entryPosition(index);
+        return Optional.of(new SegmentLogEntry(
+                blockNumber,
+                chunk.getInt(position + ENTRY_SEGMENT_POSITION),
+                chunk.getLong(position + ENTRY_OFFSET_POSITION),
+                chunk.getInt(position + ENTRY_LENGTH_POSITION),
+                COMPRESSION_TYPES[chunk.get(position + ENTRY_COMPRESSION_POSITION)]));
+    }
+
+    /**
+     * @return the id of the segment Blocks are appended to
+     */
+    int activeSegment() {
+        return header.getInt(ACTIVE_SEGMENT_POSITION);
+    }
+
+    /**
+     * @return the position in the active segment the next Block is appended at
+     */
+    long activeSegmentEnd() {
+        return header.getLong(ACTIVE_SEGMENT_END_POSITION);
+    }
+
+    /**
+     * Records the given entry and the new end of the active segment. The entry
+     * must be for a Block number after the first indexed Block number.
+     *
+     * @param entry the entry to record
+     * @param activeSegmentEnd the position in the segment of the entry the next
+     * Block will be appended at
+     * @throws IOException if the index cannot be grown to hold the entry
+     */
+    void put(@NonNull final SegmentLogEntry entry, final long activeSegmentEnd) throws IOException {
+        if (firstIndexedBlockNumber() == NO_BLOCK_NUMBER) {
+            header.putLong(FIRST_BLOCK_NUMBER_POSITION, entry.blockNumber());
+        }
+        final long index = indexOf(entry.blockNumber());
+        if (index < 0) {
+            throw new IOException("Block [%d] precedes the first indexed Block [%d]"
+                    .formatted(entry.blockNumber(), firstIndexedBlockNumber()));
+        }
+        if (index / CHUNK_ENTRIES >= Integer.MAX_VALUE) {
+            throw new IOException("Segment log index cannot hold Block at index [%d]".formatted(index));
+        }
+        final MappedByteBuffer chunk;
+        try {
+            chunk = chunk(index);
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
+        final int position = entryPosition(index);
+        chunk.putLong(position + ENTRY_OFFSET_POSITION, entry.offset());
+        chunk.putInt(position + ENTRY_SEGMENT_POSITION, entry.segment());
+        chunk.putInt(position + ENTRY_LENGTH_POSITION, entry.length());
+        chunk.put(position + ENTRY_COMPRESSION_POSITION, (byte) entry.compressionType().ordinal());
+        chunk.put(position + ENTRY_PRESENT_POSITION, (byte) 1);
+        markDirty(index);
+        header.putLong(ENTRY_COUNT_POSITION, Math.max(entryCount(), index + 1));
+        header.putInt(ACTIVE_SEGMENT_POSITION, entry.segment());
+        header.putLong(ACTIVE_SEGMENT_END_POSITION, activeSegmentEnd);
+    }
+
+    /**
+     * Removes the entries of the Blocks appended before the given segment.
+     *
+     * @param segment the id of the first segment to retain
+     * @return the number of entries removed
+     */
+    long removeBefore(final int segment) {
+        final long firstRetainedIndex = firstRetainedIndex();
+        final long newFirstRetainedIndex = firstBlockNumberFrom(segment)
+                .map(blockNumber -> blockNumber - firstIndexedBlockNumber())
+                .orElse(entryCount());
+        header.putLong(FIRST_RETAINED_INDEX_POSITION, newFirstRetainedIndex);
+        return newFirstRetainedIndex - firstRetainedIndex;
+    }
+
+    /**
+     * Persists the entries and the header written since the last call. The
+     * entries are persisted first, so a persisted header never counts an
+     * entry that is not.
+     *
+     * @throws IOException if the index cannot be persisted
+     */
+    void force() throws IOException {
+        for (int i = lowestDirtyChunk; i <= highestDirtyChunk; i++) {
+            final MappedByteBuffer chunk = chunks.get(i);
+            if (chunk != null) {
+                chunk.force();
+            }
+        }
+        lowestDirtyChunk = Integer.MAX_VALUE;
+        highestDirtyChunk = -1;
+        header.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        force();
+        channel.close();
+    }
+
+    private long firstIndexedBlockNumber() {
+        return header.getLong(FIRST_BLOCK_NUMBER_POSITION);
+    }
+
+    private long entryCount() {
+        return header.getLong(ENTRY_COUNT_POSITION);
+    }
+
+    private long firstRetainedIndex() {
+        return header.getLong(FIRST_RETAINED_INDEX_POSITION);
+    }
+
+    private long indexOf(final long blockNumber) {
+        final long firstIndexedBlockNumber = firstIndexedBlockNumber();
+        if (firstIndexedBlockNumber == NO_BLOCK_NUMBER || blockNumber < firstIndexedBlockNumber) {
+            return -1L;
+        }
+        return blockNumber - firstIndexedBlockNumber;
+    }
+
+    private boolean isPresent(final long index) {
+        return index >= firstRetainedIndex()
+                && index < entryCount()
+                && chunk(index).get(entryPosition(index) + ENTRY_PRESENT_POSITION) == 1;
+    }
+
+    /**
+     * @return the first present entry at or after the given index and before
+     * the given end, or the end if there is none
+     */
+    private long nextPresent(final long index, final long end) {
+        for (long i = index; i < end; i++) {
+            if (isPresent(i)) {
+                return i;
+            }
+        }
+        return end;
+    }
+
+    private int segmentAt(final long index) {
+        return chunk(index).getInt(entryPosition(index) + ENTRY_SEGMENT_POSITION);
+    }
+
+    /**
+     * @throws UncheckedIOException if the chunk cannot be mapped
+     */
+    private MappedByteBuffer chunk(final long index) {
+        return chunks.computeIfAbsent((int) (index / CHUNK_ENTRIES), chunkIndex -> {
+            try {
+                // mapping past the end of the file grows it
+                return channel.map(MapMode.READ_WRITE, HEADER_SIZE + chunkIndex * CHUNK_SIZE, CHUNK_SIZE);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private void markDirty(final long index) {
+        final int chunkIndex = (int) (index / CHUNK_ENTRIES);
+        lowestDirtyChunk = Math.min(lowestDirtyChunk, chunkIndex);
+        highestDirtyChunk = Math.max(highestDirtyChunk, chunkIndex);
+    }
+
+    private static int entryPosition(final long index) {
+        return (int) (index % CHUNK_ENTRIES) * ENTRY_SIZE;
+    }
+}
@@ -7,17 +7,13 @@ import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.BlockP
 import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.BlocksPersisted;
 
 import com.hedera.hapi.block.BlockItemUnparsed;
-import com.hedera.hapi.block.BlockUnparsed;
-import com.hedera.pbj.runtime.io.stream.WritableStreamingData;
+import com.hedera.pbj.runtime.io.WritableSequentialData;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.OpenOption;
+import java.nio.channels.FileChannel;
 import java.nio.file.Path;
-import java.util.LinkedList;
-import java.util.List;
+import java.nio.file.StandardOpenOption;
 import java.util.Objects;
-import java.util.concurrent.LinkedTransferQueue;
 import java.util.concurrent.TransferQueue;
 import org.hiero.block.common.utils.FileUtilities;
 import org.hiero.block.common.utils.Preconditions;
@@ -31,31 +27,54 @@ import org.hiero.block.server.persistence.storage.write.BlockPersistenceResult.B
 /**
  * An async block writer that handles writing of blocks as a file to local
  * storage.
+ * <p>
+ * The block file is deliberately not forced to disk once the block proof is
+ * written. An unverified block is never acknowledged, and once verified it is
+ * moved to the live root by the {@link BlockGroupCommitter}, which forces the
+ * moved file along with its directories before the block is acknowledged, so
+ * a single sync per group makes the content durable. A block still unverified
+ * when the node stops is verified again at startup, so a file left torn by a
+ * crash fails verification instead of being served.
+ * <p>
+ * The writer runs on a {@link BlockWriterLane}, and takes the items of its
+ * Block off the queue of the lane, which it shares with the writers of the
+ * Blocks that follow on the lane. It takes every item of its Block, up to the
+ * block proof or the incomplete block flag, even when it failed to write the
+ * Block, so the next writer of the lane starts at the items of its own Block.
  */
 final class AsyncBlockAsLocalFileWriter implements AsyncBlockWriter {
     private static final System.Logger LOGGER = System.getLogger(AsyncBlockAsLocalFileWriter.class.getName());
+    // the tag of the repeated block items field (number 1, length delimited) of a block
+    private static final int BLOCK_ITEMS_TAG = (1 << 3) | 2;
+    // the most bytes the tag and the length of a block item take
+    private static final int MAX_ITEM_PREFIX_SIZE = 1 + 5;
     private final BlockPathResolver blockPathResolver;
     private final BlockRemover blockRemover;
     private final Compression compression;
-    private final LinkedTransferQueue<BlockItemUnparsed> queue;
+    private final BlockWriterLane lane;
+    private final TransferQueue<BlockItemUnparsed> queue;
     private final long blockNumber;
     private final AckHandler ackHandler;
     private final MetricsService metricsService;
+    // whether the block proof or the incomplete block flag was taken off the queue
+    private boolean blockEnded;
 
     AsyncBlockAsLocalFileWriter(
             final long blockNumber,
             @NonNull final BlockPathResolver blockPathResolver,
             @NonNull final BlockRemover blockRemover,
             @NonNull final Compression compression,
+            @NonNull final BlockWriterLane lane,
             @NonNull final AckHandler ackHandler,
             @NonNull final MetricsService metricsService) {
         this.blockPathResolver = Objects.requireNonNull(blockPathResolver);
         this.blockRemover = Objects.requireNonNull(blockRemover);
         this.compression = Objects.requireNonNull(compression);
+        this.lane = Objects.requireNonNull(lane);
         this.blockNumber = Preconditions.requireWhole(blockNumber);
         this.ackHandler = Objects.requireNonNull(ackHandler);
         this.metricsService = Objects.requireNonNull(metricsService);
-        this.queue = new LinkedTransferQueue<>();
+        this.queue = lane.queue();
     }
 
     @Override
@@ -69,6 +88,11 @@ final class AsyncBlockAsLocalFileWriter implements AsyncBlockWriter {
             LOGGER.log(ERROR, "Failed to persist block [%d]".formatted(blockNumber));
             metricsService.get(BlockPersistenceError).increment();
         }
+        if (!blockEnded && result.status() != BlockPersistenceStatus.PERSISTENCE_INTERRUPTED) {
+            // the items of the block that were not written are still on the
+            // queue of the lane, ahead of the items of the next block
+            skipRemainingBlockItems();
+        }
 
         return null;
     }
@@ -90,54 +114,106 @@ final class AsyncBlockAsLocalFileWriter implements AsyncBlockWriter {
         if (blockPathResolver.existsVerifiedBlock(blockNumber)) {
             return new BlockPersistenceResult(blockNumber, BlockPersistenceStatus.DUPLICATE_BLOCK);
         } else {
-            boolean blockComplete = false;
-            final List<BlockItemUnparsed> localBlockItems = new LinkedList<>();
-            while (!blockComplete) { // loop until received all items (until block proof arrives)
-                try {
-                    final BlockItemUnparsed nextItem = queue.take();
-                    if (nextItem == AsyncBlockWriter.INCOMPLETE_BLOCK_FLAG) {
-                        return new BlockPersistenceResult(blockNumber, BlockPersistenceStatus.INCOMPLETE_BLOCK);
-                    } else {
-                        localBlockItems.add(nextItem);
-                        if (nextItem.hasBlockProof()) {
-                            blockComplete = true;
-                            LOGGER.log(DEBUG, "Received Block Proof for Block [%d]".formatted(blockNumber));
-                        }
-                    }
-                } catch (final InterruptedException e) {
-                    // @todo(713) if we have entered here, something has cancelled the task.
-                    //    Is this the proper handling here?
-                    LOGGER.log(
-                            ERROR,
-                            "Interrupted while waiting for next block item for block [%d]".formatted(blockNumber));
-                    final BlockPersistenceResult result = revertWrite(BlockPersistenceStatus.PERSISTENCE_INTERRUPTED);
-                    Thread.currentThread().interrupt();
-                    return result;
+            final BlockPersistenceStatus status;
+            // items are streamed to the file as they arrive, so the whole block
+            // is never held in memory and only the end of the compressed frame
+            // remains to be written once the block proof arrives
+            // the block is registered before its file is created, so that a
+            // partially written block can still be found and reverted
+            blockPathResolver.registerUnverifiedBlock(blockNumber, compression.getCompressionType());
+            // the context of the lane, its buffer and its compression
+            // context, is reused from one block to the next
+            final BlockWriteContext context = lane.context();
+            // the file is created if it does not exist or truncated if it does
+            try (final FileChannel channel = FileChannel.open(
+                    getResolvedUnverifiedBlockPath(),
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.WRITE)) {
+                context.begin(channel);
+                status = streamBlockItems(context);
+                if (status == BlockPersistenceStatus.SUCCESS) {
+                    context.end();
                 }
-            }
-            // proceed to persist the items
-            // providing no {@link OpenOption} to the newOutputStream method
-            // will create the file if it does not exist or truncate it if it does
-            try (final WritableStreamingData wsd = new WritableStreamingData(
-                    compression.wrap(Files.newOutputStream(getResolvedUnverifiedBlockPath())))) {
-                final BlockUnparsed blockToWrite =
-                        BlockUnparsed.newBuilder().blockItems(localBlockItems).build();
-                BlockUnparsed.PROTOBUF.toBytes(blockToWrite).writeTo(wsd);
+            } catch (final InterruptedException e) {
+                // @todo(713) if we have entered here, something has cancelled the task.
+                //    Is this the proper handling here?
+                LOGGER.log(
+                        ERROR, "Interrupted while waiting for next block item for block [%d]".formatted(blockNumber));
+                final BlockPersistenceResult result = revertWrite(BlockPersistenceStatus.PERSISTENCE_INTERRUPTED);
+                Thread.currentThread().interrupt();
+                return result;
             } catch (final IOException e) {
                 LOGGER.log(ERROR, "Failed to write block [%d] to local storage!".formatted(blockNumber), e);
                 return revertWrite(BlockPersistenceStatus.FAILURE_DURING_WRITE);
+            } finally {
+                context.shrink();
+            }
+            if (status == BlockPersistenceStatus.SUCCESS) {
+                return new BlockPersistenceResult(blockNumber, status);
+            } else {
+                // the partially written block must not be left behind
+                return revertWrite(status);
             }
-            return new BlockPersistenceResult(blockNumber, BlockPersistenceStatus.SUCCESS);
+        }
+    }
+
+    /**
+     * This method takes the block items off the queue and writes each of them
+     * as an element of the block items of a block, in the protobuf wire format,
+     * until the block proof or the incomplete block flag arrives. The written
+     * bytes are identical to those of the whole block serialized at once.
+     *
+     * @param context the context to serialize the block items with
+     * @return {@link BlockPersistenceStatus#SUCCESS} if all the block items up to
+     *     the block proof were written, {@link BlockPersistenceStatus#INCOMPLETE_BLOCK}
+     *     if the incomplete block flag was received
+     * @throws InterruptedException if interrupted while waiting for the next item
+     * @throws IOException if an item could not be written
+     */
+    private BlockPersistenceStatus streamBlockItems(final BlockWriteContext context)
+            throws InterruptedException, IOException {
+        while (true) { // loop until received all items (until block proof arrives)
+            final BlockItemUnparsed nextItem = queue.take();
+            if (nextItem == AsyncBlockWriter.INCOMPLETE_BLOCK_FLAG) {
+                blockEnded = true;
+                return BlockPersistenceStatus.INCOMPLETE_BLOCK;
+            }
+            final int itemSize = BlockItemUnparsed.PROTOBUF.measureRecord(nextItem);
+            final WritableSequentialData out = context.reserve(MAX_ITEM_PREFIX_SIZE + itemSize);
+            out.writeVarInt(BLOCK_ITEMS_TAG, false);
+            out.writeVarInt(itemSize, false);
+            BlockItemUnparsed.PROTOBUF.write(nextItem, out);
+            if (nextItem.hasBlockProof()) {
+                LOGGER.log(DEBUG, "Received Block Proof for Block [%d]".formatted(blockNumber));
+                blockEnded = true;
+                return BlockPersistenceStatus.SUCCESS;
+            }
+        }
+    }
+
+    /**
+     * This method takes the block items of the block that were not written off
+     * the queue, up to the block proof or the incomplete block flag.
+     */
+    private void skipRemainingBlockItems() {
+        try {
+            BlockItemUnparsed nextItem;
+            do {
+                nextItem = queue.take();
+            } while (nextItem != AsyncBlockWriter.INCOMPLETE_BLOCK_FLAG && !nextItem.hasBlockProof());
+        } catch (final InterruptedException e) {
+            LOGGER.log(ERROR, "Interrupted while skipping the block items of block [%d]".formatted(blockNumber));
+            Thread.currentThread().interrupt();
         }
     }
 
     /**
      * This method will resolve the path to where the unverified block must be
      * written. We only need to resolve the path to the block. Unverified blocks
-     * can be overwritten. This path will be used to open a new output stream
-     * using {@link Files#newOutputStream(Path, OpenOption...)}. By default, if
-     * no options are provided, the file will be created if it does not exist or
-     * truncated if it does exist (effectively overwritten).
+     * can be overwritten. This path will be used to open a new channel, the
+     * file will be created if it does not exist or truncated if it does exist
+     * (effectively overwritten).
      *
      * @return the resolved path to the unverified block
      */
@@ -4,7 +4,9 @@ package org.hiero.block.server.persistence.storage.write;
 import static java.lang.System.Logger.Level.TRACE;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.inject.Inject;
 import org.hiero.block.common.utils.Preconditions;
 import org.hiero.block.server.ack.AckHandler;
@@ -14,13 +16,17 @@ import org.hiero.block.server.persistence.storage.path.BlockPathResolver;
 import org.hiero.block.server.persistence.storage.remove.BlockRemover;
 
 /**
- * Factory for creating {@link AsyncBlockAsLocalFileWriter} instances.
+ * Factory for creating {@link AsyncBlockAsLocalFileWriter} instances. The
+ * writers created for the same lane share the {@link BlockWriterLane}, so
+ * their item queue, buffers and compression context are reused from one block
+ * to the next.
  */
 public final class AsyncBlockAsLocalFileWriterFactory implements AsyncBlockWriterFactory {
     private static final System.Logger LOGGER = System.getLogger(AsyncBlockAsLocalFileWriterFactory.class.getName());
     private final BlockPathResolver blockPathResolver;
     private final BlockRemover blockRemover;
     private final Compression compression;
+    private final Map<Integer, BlockWriterLane> lanes = new ConcurrentHashMap<>();
     private final AckHandler ackHandler;
     private final MetricsService metricsService;
 
@@ -40,11 +46,13 @@ public final class AsyncBlockAsLocalFileWriterFactory implements AsyncBlockWrite
 
     @NonNull
     @Override
-    public AsyncBlockWriter create(final long blockNumber) {
+    public AsyncBlockWriter create(final long blockNumber, final int lane) {
         Preconditions.requireWhole(blockNumber);
+        Preconditions.requireWhole(lane);
+        final BlockWriterLane writerLane = lanes.computeIfAbsent(lane, l -> new BlockWriterLane(compression));
         final AsyncBlockAsLocalFileWriter instance = new AsyncBlockAsLocalFileWriter(
-                blockNumber, blockPathResolver, blockRemover, compression, ackHandler, metricsService);
-        LOGGER.log(TRACE, "Created Writer for Block [%d]".formatted(blockNumber));
+                blockNumber, blockPathResolver, blockRemover, compression, writerLane, ackHandler, metricsService);
+        LOGGER.log(TRACE, "Created Writer for Block [%d] on lane [%d]".formatted(blockNumber, lane));
         return instance;
     }
 }
@@ -40,6 +40,10 @@ public interface AsyncBlockWriter extends Callable<Void> {
      * are to be written to storage. This queue can be "pinged" that no more
      * items are to be expected either by offering the incomplete block flag or
      * by offering the block proof (we always expect that to be the case).
+     * The queue may be shared with the writers created for the same lane after
+     * this one, so a writer must take all the items of its block off the
+     * queue, up to the block proof or the incomplete block flag, even if it
+     * fails to persist the block.
      *
      * @return the queue that is used to pass in {@link BlockItemUnparsed}s that
      * are to be written to storage
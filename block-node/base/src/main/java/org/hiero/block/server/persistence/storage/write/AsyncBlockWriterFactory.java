@@ -9,11 +9,14 @@ import edu.umd.cs.findbugs.annotations.NonNull;
 public interface AsyncBlockWriterFactory {
     /**
      * Factory method, creates a new instance of an {@link AsyncBlockWriter}.
+     * The writers created for the same lane are run one after the other, in
+     * the order they were created, so they may share the state of the lane.
      *
      * @param blockNumber the block number for the block that this writer will
      * process, must be a valid block number
+     * @param lane the lane the writer is run on, must be a whole number
      * @return new, fully initialized instance of an {@link AsyncBlockWriter}
      */
     @NonNull
-    AsyncBlockWriter create(final long blockNumber);
+    AsyncBlockWriter create(final long blockNumber, final int lane);
 }
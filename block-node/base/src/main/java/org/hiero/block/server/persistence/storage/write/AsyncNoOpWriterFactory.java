@@ -26,11 +26,13 @@ public final class AsyncNoOpWriterFactory implements AsyncBlockWriterFactory {
      *
      * @param blockNumber the block number for the block that this writer will
      * process, no preconditions check for the block number
+     * @param lane the lane the writer is run on, the writer shares no state
+     * with the other writers of the lane
      * @return a new {@link AsyncNoOpWriter} instance
      */
     @NonNull
     @Override
-    public AsyncBlockWriter create(long blockNumber) {
+    public AsyncBlockWriter create(long blockNumber, int lane) {
         final AsyncNoOpWriter instance = new AsyncNoOpWriter(blockNumber, ackHandler, metricsService);
         LOGGER.log(TRACE, "Created Writer for Block [%d]".formatted(blockNumber));
         return instance;
@@ -61,6 +61,19 @@ public final class AsyncWriterExecutorFactory {
         };
     }
 
+    /**
+     * Returns the number of tasks the executor created for the given
+     * configuration runs at once.
+     *
+     * @param config the persistence storage configuration containing executor settings
+     * @return the number of tasks the executor runs at once
+     * @throws NullPointerException if config is null
+     */
+    public static int threadCount(@NonNull final PersistenceStorageConfig config) {
+        requireNonNull(config);
+        return config.executorType() == ExecutorType.SINGLE_THREAD ? 1 : config.threadCount();
+    }
+
     /**
      * Creates a thread pool executor with the specified configuration.
      * <p>
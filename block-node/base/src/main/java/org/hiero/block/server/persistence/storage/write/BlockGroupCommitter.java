@@ -0,0 +1,285 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.persistence.storage.write;
+
+import static java.lang.System.Logger.Level.ERROR;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import org.hiero.block.common.utils.FileUtilities;
+import org.hiero.block.common.utils.Preconditions;
+import org.hiero.block.server.persistence.storage.PersistenceStorageConfig;
+import org.hiero.block.server.persistence.storage.path.BlockPathResolver;
+import org.hiero.block.server.persistence.storage.path.LiveBlockPath;
+import org.hiero.block.server.persistence.storage.path.UnverifiedBlockPath;
+
+/**
+ * Moves verified Blocks from the unverified root to the live root in groups,
+ * and makes every group durable at once.
+ * <p>
+ * A group starts with the first Block submitted and is closed once it holds
+ * {@link PersistenceStorageConfig#groupCommitMaxBlocks()} Blocks, or once
+ * {@link PersistenceStorageConfig#groupCommitWindowMillis()} has elapsed.
+ * The Blocks of the group are moved, then the moved files and the directories
+ * entries were added to or removed from are forced to disk, and only then are
+ * the futures of the group completed, in the order the Blocks were submitted,
+ * on a thread of their own. The cost of the syncs is shared by all the Blocks
+ * of a group.
+ * <p>
+ * Once a Block fails to move, or a group fails to sync, the committer fails
+ * every Block submitted until it is {@link #reset()}, including the Blocks
+ * submitted before the failure but not yet moved, so no Block that follows a
+ * failed one reaches the live root. The Blocks of a group that failed to sync
+ * are moved back to the unverified root, last first, and the ones that cannot
+ * be moved back stay in the live root and complete normally, so the live root
+ * never holds a Block whose future failed.
+ */
+public final class BlockGroupCommitter {
+    private static final System.Logger LOGGER = System.getLogger(BlockGroupCommitter.class.getName());
+    private final BlockPathResolver pathResolver;
+    private final int maxBlocks;
+    private final long windowNanos;
+    private final Executor completionExecutor =
+            Executors.newSingleThreadExecutor(Thread.ofVirtual().name("block-group-complete-", 0).factory());
+    private final BlockingQueue<PendingMove> pendingMoves = new LinkedBlockingQueue<>();
+    private final Lock stateLock = new ReentrantLock();
+    // the generation of the Blocks accepted, bumped on every reset, guarded by the state lock
+    private long generation;
+    // the failure of the latest failed group, null unless failed, guarded by the state lock
+    private Exception failure;
+
+    /**
+     * Constructor. Starts committing the submitted Blocks on the given
+     * executor.
+     *
+     * @param config valid, {@code non-null} instance of
+     * {@link PersistenceStorageConfig} used for sizing the groups
+     * @param pathResolver valid, {@code non-null} instance of
+     * {@link BlockPathResolver} used to resolve the paths of the moved Blocks
+     * @param executor valid, {@code non-null} executor the groups are committed
+     * on, one of its threads is used for as long as the committer is in use
+     */
+    public BlockGroupCommitter(
+            @NonNull final PersistenceStorageConfig config,
+            @NonNull final BlockPathResolver pathResolver,
+            @NonNull final Executor executor) {
+        this.pathResolver = Objects.requireNonNull(pathResolver);
+        this.maxBlocks = config.groupCommitMaxBlocks();
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(config.groupCommitWindowMillis());
+        executor.execute(this::run);
+    }
+
+    /**
+     * Submits the verified Block with the given number to be moved to the live
+     * root with the next group.
+     *
+     * @param blockNumber the number of the Block to move, must be whole
+     * @return a future completed with the path to the Block under the live
+     * root once the group of the Block is durable, or completed exceptionally
+     * if the Block could not be moved, or if a Block was not moved since the
+     * latest {@link #reset()}
+     */
+    @NonNull
+    public CompletableFuture<LiveBlockPath> commit(final long blockNumber) {
+        Preconditions.requireWhole(blockNumber);
+        final PendingMove pendingMove;
+        stateLock.lock();
+        try {
+            pendingMove = new PendingMove(blockNumber, generation, new CompletableFuture<>());
+        } finally {
+            stateLock.unlock();
+        }
+        pendingMoves.add(pendingMove);
+        return pendingMove.future();
+    }
+
+    /**
+     * Accepts the Blocks submitted from now on again, after a Block failed to
+     * move. The Blocks submitted before the reset and not yet moved are still
+     * failed, the Blocks that follow the failed one are expected to be
+     * submitted again.
+     */
+    public void reset() {
+        stateLock.lock();
+        try {
+            failure = null;
+            generation++;
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    private void run() {
+        final List<PendingMove> group = new ArrayList<>(maxBlocks);
+        try {
+            while (true) {
+                final PendingMove first = pendingMoves.take();
+                if (!accept(first)) {
+                    continue;
+                }
+                group.add(first);
+                final long deadline = System.nanoTime() + windowNanos;
+                while (group.size() < maxBlocks) {
+                    final PendingMove next = pendingMoves.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    if (accept(next)) {
+                        group.add(next);
+                    }
+                }
+                commitGroup(group);
+                group.clear();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Accepts the given move unless the committer failed, or was reset after
+     * the move was submitted, in which case the move is failed.
+     */
+    private boolean accept(final PendingMove pendingMove) {
+        final Exception rejection;
+        stateLock.lock();
+        try {
+            if (failure == null && pendingMove.generation() == generation) {
+                return true;
+            }
+            rejection = new IOException(
+                    "Block [%d] not moved, a Block submitted before it failed to move"
+                            .formatted(pendingMove.blockNumber()),
+                    failure);
+        } finally {
+            stateLock.unlock();
+        }
+        completionExecutor.execute(() -> pendingMove.future().completeExceptionally(rejection));
+        return false;
+    }
+
+    private void commitGroup(final List<PendingMove> group) {
+        final List<MovedBlock> moved = new ArrayList<>(group.size());
+        final Set<Path> dirsToSync = new LinkedHashSet<>();
+        Exception groupFailure = null;
+        try {
+            for (final PendingMove pendingMove : group) {
+                moved.add(move(pendingMove.blockNumber(), dirsToSync));
+            }
+        } catch (final IOException | UncheckedIOException e) {
+            final long failedBlockNumber = group.get(moved.size()).blockNumber();
+            LOGGER.log(ERROR, "Failed to move Block [%d] to live storage".formatted(failedBlockNumber), e);
+            groupFailure = e;
+        }
+        try {
+            for (final MovedBlock movedBlock : moved) {
+                sync(movedBlock.target());
+            }
+            for (final Path dir : dirsToSync) {
+                sync(dir);
+            }
+        } catch (final IOException | UncheckedIOException e) {
+            LOGGER.log(ERROR, "Failed to sync a group of [%d] moved Blocks".formatted(moved.size()), e);
+            groupFailure = e;
+            rollBack(moved);
+        }
+        if (groupFailure != null) {
+            stateLock.lock();
+            try {
+                failure = groupFailure;
+            } finally {
+                stateLock.unlock();
+            }
+        }
+        final Exception completionFailure = groupFailure;
+        final List<PendingMove> completedGroup = List.copyOf(group);
+        completionExecutor.execute(() -> {
+            for (int i = 0; i < completedGroup.size(); i++) {
+                if (i < moved.size()) {
+                    completedGroup.get(i).future().complete(moved.get(i).liveBlockPath());
+                } else {
+                    completedGroup.get(i).future().completeExceptionally(completionFailure);
+                }
+            }
+        });
+    }
+
+    /**
+     * Moves the given Blocks back to the unverified root, last first, and
+     * keeps in the given list the Blocks that stay in the live root, which are
+     * the Blocks up to the last one that could not be moved back.
+     */
+    private static void rollBack(final List<MovedBlock> moved) {
+        while (!moved.isEmpty()) {
+            final MovedBlock movedBlock = moved.getLast();
+            try {
+                Files.move(movedBlock.target(), movedBlock.source());
+            } catch (final IOException | UncheckedIOException e) {
+                LOGGER.log(
+                        ERROR,
+                        "Failed to move Block [%d] back to unverified storage, [%d] Blocks stay in live storage"
+                                .formatted(movedBlock.liveBlockPath().blockNumber(), moved.size()),
+                        e);
+                return;
+            }
+            moved.removeLast();
+        }
+    }
+
+    /**
+     * Moves the Block with the given number from the unverified root to the
+     * live root, and adds the directories whose entries changed to the given
+     * set.
+     */
+    private MovedBlock move(final long blockNumber, final Set<Path> dirsToSync) throws IOException {
+        final UnverifiedBlockPath unverifiedBlockPath = pathResolver
+                .findUnverifiedBlock(blockNumber)
+                .orElseThrow(() -> new FileNotFoundException(
+                        "File for Block [%s] not found under unverified root".formatted(blockNumber)));
+        final Path source = unverifiedBlockPath.dirPath().resolve(unverifiedBlockPath.blockFileName());
+        final Path target = FileUtilities.appendExtension(
+                pathResolver.resolveLiveRawPathToBlock(blockNumber),
+                unverifiedBlockPath.compressionType().getFileExtension());
+        final Path targetDir = target.getParent();
+        // the directories about to be created, and the existing directory they
+        // are created in, each gain an entry
+        Path dir = targetDir;
+        while (dir != null && dirsToSync.add(dir) && Files.notExists(dir)) {
+            dir = dir.getParent();
+        }
+        Files.createDirectories(targetDir);
+        Files.move(source, target);
+        dirsToSync.add(source.getParent());
+        final LiveBlockPath liveBlockPath = new LiveBlockPath(
+                blockNumber, targetDir, target.getFileName().toString(), unverifiedBlockPath.compressionType());
+        return new MovedBlock(liveBlockPath, source, target);
+    }
+
+    private static void sync(final Path path) throws IOException {
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            channel.force(true);
+        }
+    }
+
+    private record PendingMove(long blockNumber, long generation, CompletableFuture<LiveBlockPath> future) {}
+
+    private record MovedBlock(LiveBlockPath liveBlockPath, Path source, Path target) {}
+}
@@ -0,0 +1,103 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.persistence.storage.write;
+
+import com.hedera.pbj.runtime.io.WritableSequentialData;
+import com.hedera.pbj.runtime.io.buffer.BufferedData;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Objects;
+import org.hiero.block.server.persistence.storage.compression.CompressionEncoder;
+
+/**
+ * The state a writer reuses from one Block to the next: a direct buffer the
+ * block items are serialized in, and the encoder the buffer is compressed
+ * with. Each {@link BlockWriterLane} owns one context, used by the writers of
+ * the lane one after the other, so there are only ever as many contexts as
+ * there are lanes. A buffer grown past {@value #MAX_IDLE_BUFFER_SIZE} bytes is
+ * shrunk back once the Block is written, so the direct memory held by idle
+ * lanes is bounded.
+ */
+final class BlockWriteContext {
+    // the size of the buffer gathering the small writes of each block item before compression
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    // the largest buffer kept by an idle context
+    private static final int MAX_IDLE_BUFFER_SIZE = 1024 * 1024;
+    private final CompressionEncoder encoder;
+    private ByteBuffer buffer;
+    // shares the position and the limit of the buffer
+    private BufferedData data;
+
+    /**
+     * Constructor.
+     *
+     * @param encoder the encoder the Blocks are compressed with
+     */
+    BlockWriteContext(@NonNull final CompressionEncoder encoder) {
+        this.encoder = Objects.requireNonNull(encoder);
+        allocate(WRITE_BUFFER_SIZE);
+    }
+
+    /**
+     * Begins writing a Block to the given channel.
+     *
+     * @param target the channel the compressed Block is written to
+     * @throws IOException if an I/O exception occurs
+     */
+    void begin(@NonNull final WritableByteChannel target) throws IOException {
+        buffer.clear();
+        encoder.begin(target);
+    }
+
+    /**
+     * Returns the output to serialize the next bytes of the Block to, with
+     * room for at least the given number of bytes.
+     *
+     * @param size the number of bytes about to be written
+     * @return the output to write the bytes to
+     * @throws IOException if the bytes written so far could not be compressed
+     */
+    @NonNull
+    WritableSequentialData reserve(final int size) throws IOException {
+        if (buffer.remaining() < size) {
+            flush();
+            if (buffer.capacity() < size) {
+                // the buffer grows to fit the largest block item written
+                allocate(size);
+            }
+        }
+        return data;
+    }
+
+    /**
+     * Ends writing the Block, all of its bytes are written to the channel.
+     *
+     * @throws IOException if an I/O exception occurs
+     */
+    void end() throws IOException {
+        flush();
+        encoder.end();
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        encoder.write(buffer);
+        buffer.clear();
+    }
+
+    /**
+     * Shrinks the buffer back to its initial size if it grew past the largest
+     * size kept between Blocks.
+     */
+    void shrink() {
+        if (buffer.capacity() > MAX_IDLE_BUFFER_SIZE) {
+            allocate(WRITE_BUFFER_SIZE);
+        }
+    }
+
+    private void allocate(final int capacity) {
+        buffer = ByteBuffer.allocateDirect(capacity);
+        data = BufferedData.wrap(buffer);
+    }
+}
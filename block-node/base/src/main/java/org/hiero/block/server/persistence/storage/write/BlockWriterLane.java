@@ -0,0 +1,59 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.persistence.storage.write;
+
+import com.hedera.hapi.block.BlockItemUnparsed;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Objects;
+import java.util.concurrent.LinkedTransferQueue;
+import java.util.concurrent.TransferQueue;
+import org.hiero.block.server.persistence.storage.compression.Compression;
+
+/**
+ * A lane the writers of a share of the Blocks run on, one after the other.
+ * The lane owns the queue the block items of its writers are passed through,
+ * and the {@link BlockWriteContext} they are written with, so neither is
+ * allocated again for each Block. The items of a Block are offered to the
+ * queue behind those of the Blocks before it on the lane, and each writer
+ * takes the items of its own Block only, up to the block proof or the
+ * incomplete block flag.
+ */
+final class BlockWriterLane {
+    private final Compression compression;
+    private final TransferQueue<BlockItemUnparsed> queue = new LinkedTransferQueue<>();
+    // created by the first writer of the lane that writes a Block
+    private BlockWriteContext context;
+
+    /**
+     * Constructor.
+     *
+     * @param compression the compression the Blocks of the lane are written with
+     */
+    BlockWriterLane(@NonNull final Compression compression) {
+        this.compression = Objects.requireNonNull(compression);
+    }
+
+    /**
+     * Returns the queue the block items of the writers of the lane are
+     * passed through.
+     *
+     * @return the queue of the block items of the lane
+     */
+    @NonNull
+    TransferQueue<BlockItemUnparsed> queue() {
+        return queue;
+    }
+
+    /**
+     * Returns the context the writers of the lane write their Blocks with.
+     * Must only be called by the writer running on the lane.
+     *
+     * @return the context of the lane
+     */
+    @NonNull
+    BlockWriteContext context() {
+        if (context == null) {
+            context = new BlockWriteContext(compression.newEncoder());
+        }
+        return context;
+    }
+}
@@ -15,8 +15,6 @@ import com.hedera.hapi.block.BlockItemUnparsed;
 import com.hedera.hapi.block.EndOfStream;
 import com.hedera.hapi.block.PublishStreamResponse;
 import com.hedera.hapi.block.PublishStreamResponseCode;
-import com.hedera.hapi.block.stream.output.BlockHeader;
-import com.hedera.pbj.runtime.ParseException;
 import com.hedera.pbj.runtime.grpc.Pipeline;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import edu.umd.cs.findbugs.annotations.NonNull;
@@ -27,11 +25,12 @@ import java.util.Optional;
 import java.util.concurrent.Flow;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.hiero.block.server.block.BlockInfo;
+import org.hiero.block.server.block.BlockItemBatchMetadata;
 import org.hiero.block.server.consumer.ConsumerConfig;
 import org.hiero.block.server.events.BlockNodeEventHandler;
 import org.hiero.block.server.events.LivenessCalculator;
 import org.hiero.block.server.events.ObjectEvent;
-import org.hiero.block.server.mediator.Publisher;
+import org.hiero.block.server.mediator.BlockItemBatchPublisher;
 import org.hiero.block.server.mediator.SubscriptionHandler;
 import org.hiero.block.server.metrics.MetricsService;
 import org.hiero.block.server.service.ServiceStatus;
@@ -48,7 +47,7 @@ public class ProducerBlockItemObserver
     private final Logger LOGGER = System.getLogger(getClass().getName());
 
     private final SubscriptionHandler<PublishStreamResponse> subscriptionHandler;
-    private final Publisher<List<BlockItemUnparsed>> publisher;
+    private final BlockItemBatchPublisher publisher;
     private final ServiceStatus serviceStatus;
     private final MetricsService metricsService;
     private final Flow.Subscriber<? super PublishStreamResponse> publishStreamResponseObserver;
@@ -59,6 +58,9 @@ public class ProducerBlockItemObserver
 
     private boolean allowCurrentBlockStream = false;
 
+    // The number of the block the producer is streaming, known once its header is received
+    private long currentBlockNumber = BlockItemBatchMetadata.UNKNOWN_BLOCK_NUMBER;
+
     /**
      * Constructor for the ProducerBlockStreamObserver class. It is responsible for calling the
      * mediator with blocks as they arrive from the upstream producer. It also sends responses back
@@ -77,7 +79,7 @@ public class ProducerBlockItemObserver
      */
     public ProducerBlockItemObserver(
             @NonNull final InstantSource producerLivenessClock,
-            @NonNull final Publisher<List<BlockItemUnparsed>> publisher,
+            @NonNull final BlockItemBatchPublisher publisher,
             @NonNull final SubscriptionHandler<PublishStreamResponse> subscriptionHandler,
             @NonNull final Pipeline<? super PublishStreamResponse> publishStreamResponseObserver,
             @NonNull final ServiceStatus serviceStatus,
@@ -104,6 +106,8 @@ public class ProducerBlockItemObserver
      * producer. The method publish the block item data to all subscribers via the Publisher and
      * sends a response back to the upstream producer.
      *
+     * <p>The block header is parsed once here, and the resulting metadata is published along with
+     * the block items so the downstream handlers do not parse it again.
      */
     @Override
     public void onNext(@NonNull final List<BlockItemUnparsed> blockItems) {
@@ -122,25 +126,19 @@ public class ProducerBlockItemObserver
                 // Refresh the producer liveness
                 livenessCalculator.refresh();
 
+                final BlockItemBatchMetadata metadata = BlockItemBatchMetadata.parse(blockItems, currentBlockNumber);
+
                 // pre-check for valid block
-                if (preCheck(blockItems)) {
-
-                    final BlockItemUnparsed blockItemUnparsed = blockItems.getFirst();
-                    if (blockItemUnparsed.hasBlockHeader()) {
-
-                        try {
-                            long blockNumber = BlockHeader.PROTOBUF
-                                    .parse(Objects.requireNonNull(blockItemUnparsed.blockHeader()))
-                                    .number();
-                            serviceStatus.setLatestReceivedBlockNumber(blockNumber);
-                            metricsService.get(CurrentBlockNumberInbound).set(blockNumber);
-                        } catch (ParseException e) {
-                            throw new RuntimeException(e);
-                        }
+                if (preCheck(metadata)) {
+
+                    if (metadata.startsWithBlockHeader()) {
+                        currentBlockNumber = metadata.blockNumber();
+                        serviceStatus.setLatestReceivedBlockNumber(currentBlockNumber);
+                        metricsService.get(CurrentBlockNumberInbound).set(currentBlockNumber);
                     }
 
                     // Publish the block to the mediator
-                    publisher.publish(blockItems);
+                    publisher.publish(blockItems, metadata);
                 }
             } else {
                 LOGGER.log(ERROR, getClass().getName() + " is not accepting BlockItems");
@@ -231,18 +229,17 @@ public class ProducerBlockItemObserver
 
     /**
      * Pre-check for valid block, if the block is a duplicate or future block, we don't stream to the Ring Buffer.
-     * @param blockItems the list of block items
+     * @param metadata the metadata of the list of block items
      * @return true if the block should stream forward to RB otherwise false
      */
-    private boolean preCheck(@NonNull final List<BlockItemUnparsed> blockItems) {
+    private boolean preCheck(@NonNull final BlockItemBatchMetadata metadata) {
 
         // we only check if is the start of a new block.
-        BlockItemUnparsed firstItem = blockItems.getFirst();
-        if (!firstItem.hasBlockHeader()) {
+        if (!metadata.startsWithBlockHeader()) {
             return allowCurrentBlockStream;
         }
 
-        final long nextBlockNumber = attemptParseBlockHeaderNumber(firstItem);
+        final long nextBlockNumber = metadata.blockNumber();
         final long nextExpectedBlockNumber = serviceStatus.getLatestReceivedBlockNumber() + 1;
 
         // temporary workaround so it always allows the first block at startup
@@ -286,20 +283,6 @@ public class ProducerBlockItemObserver
         return true;
     }
 
-    /**
-     * Parse the block header number from the given block item.
-     * If the block header is not parsable, log the error and throw a runtime exception.
-     * This is necessary to wrap the checked exception that is thrown by the parse method.
-     * */
-    private long attemptParseBlockHeaderNumber(@NonNull final BlockItemUnparsed blockItem) {
-        try {
-            return BlockHeader.PROTOBUF.parse(blockItem.blockHeader()).number();
-        } catch (ParseException e) {
-            LOGGER.log(ERROR, "Error parsing block header", e);
-            throw new RuntimeException(e);
-        }
-    }
-
     /**
      * Get the block hash for the given block number, only if is the latest acked block.
      * otherwise Empty
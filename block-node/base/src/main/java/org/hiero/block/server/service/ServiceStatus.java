@@ -54,6 +54,20 @@ public interface ServiceStatus {
      */
     void setLatestAckedBlock(BlockInfo latestAckedBlockInfo);
 
+    /**
+     * Waits until the latest acked block number reaches the given block number or the timeout
+     * elapses. Callers can use this method to wait for a block to become available instead of
+     * repeatedly checking the latest acked block.
+     *
+     * @param blockNumber the block number to wait for
+     * @param spinIterations the number of times to busy-spin before parking the calling thread
+     * @param timeoutNanos the maximum time to wait in nanoseconds
+     * @return the wakeup latency in nanoseconds, or {@link
+     *     org.hiero.block.server.events.DataAvailableSignal#NOT_AVAILABLE} if the block was not
+     *     acked before the timeout
+     */
+    long awaitLatestAckedBlock(long blockNumber, int spinIterations, long timeoutNanos);
+
     /**
      * Gets the latest received block number, when ack is skipped it might be used instead of last acked block number.
      * Also, if persistence + verification is in progress, it might be used to check if the block is already received.
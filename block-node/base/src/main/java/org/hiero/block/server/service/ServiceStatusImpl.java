@@ -10,6 +10,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import org.hiero.block.server.block.BlockInfo;
+import org.hiero.block.server.events.DataAvailableSignal;
 
 /**
  * The ServiceStatusImpl class implements the ServiceStatus interface. It provides the
@@ -22,6 +23,7 @@ public class ServiceStatusImpl implements ServiceStatus {
     private final int delayMillis;
     private WebServer webServer;
     private volatile BlockInfo latestAckedBlock;
+    private final DataAvailableSignal latestAckedBlockSignal = new DataAvailableSignal();
     private volatile long latestReceivedBlockNumber;
     private volatile long firstAvailableBlockNumber = Long.MIN_VALUE;
 
@@ -98,6 +100,18 @@ public class ServiceStatusImpl implements ServiceStatus {
     @Override
     public void setLatestAckedBlock(BlockInfo latestAckedBlock) {
         this.latestAckedBlock = latestAckedBlock;
+        latestAckedBlockSignal.signal();
+    }
+
+    @Override
+    public long awaitLatestAckedBlock(final long blockNumber, final int spinIterations, final long timeoutNanos) {
+        return latestAckedBlockSignal.await(
+                () -> {
+                    final BlockInfo blockInfo = latestAckedBlock;
+                    return blockInfo != null && blockInfo.getBlockNumber() >= blockNumber;
+                },
+                spinIterations,
+                timeoutNanos);
     }
 
     @Override
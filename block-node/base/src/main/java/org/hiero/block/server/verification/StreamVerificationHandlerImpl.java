@@ -10,6 +10,7 @@ import java.util.Objects;
 import javax.inject.Singleton;
 import org.hiero.block.server.events.BlockNodeEventHandler;
 import org.hiero.block.server.events.ObjectEvent;
+import org.hiero.block.server.mediator.LiveStreamEvent;
 import org.hiero.block.server.mediator.SubscriptionHandler;
 import org.hiero.block.server.metrics.MetricsService;
 import org.hiero.block.server.notifier.Notifier;
@@ -64,7 +65,7 @@ public class StreamVerificationHandlerImpl implements BlockNodeEventHandler<Obje
             }
 
             final List<BlockItemUnparsed> blockItems = event.get();
-            blockVerificationService.onBlockItemsReceived(blockItems);
+            blockVerificationService.onBlockItemsReceived(blockItems, LiveStreamEvent.metadataOf(event));
         } catch (final Exception e) {
 
             LOGGER.log(ERROR, "Failed to verify BlockItems: ", e);
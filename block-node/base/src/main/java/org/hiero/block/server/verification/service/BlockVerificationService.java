@@ -5,6 +5,7 @@ import com.hedera.hapi.block.BlockItemUnparsed;
 import com.hedera.pbj.runtime.ParseException;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.util.List;
+import org.hiero.block.server.block.BlockItemBatchMetadata;
 
 /**
  * Service that handles the verification of block items, it receives items from the handler.
@@ -16,5 +17,19 @@ public interface BlockVerificationService {
      * @param blockItems the block items to add to the verification service
      * @throws ParseException if the block items are invalid
      */
-    void onBlockItemsReceived(@NonNull List<BlockItemUnparsed> blockItems) throws ParseException;
+    default void onBlockItemsReceived(@NonNull List<BlockItemUnparsed> blockItems) throws ParseException {
+        onBlockItemsReceived(blockItems, BlockItemBatchMetadata.parse(blockItems));
+    }
+
+    /**
+     * Everytime the handler receives a block item, it will call this method to verify the block item.
+     * The metadata computed for the block items when they were received is used instead of
+     * parsing the block items again.
+     *
+     * @param blockItems the block items to add to the verification service
+     * @param metadata the metadata of the block items
+     * @throws ParseException if the block items are invalid
+     */
+    void onBlockItemsReceived(@NonNull List<BlockItemUnparsed> blockItems, @NonNull BlockItemBatchMetadata metadata)
+            throws ParseException;
 }
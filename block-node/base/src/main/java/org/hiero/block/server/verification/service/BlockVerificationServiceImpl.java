@@ -5,12 +5,11 @@ import static java.lang.System.Logger.Level.ERROR;
 import static java.util.Objects.requireNonNull;
 
 import com.hedera.hapi.block.BlockItemUnparsed;
-import com.hedera.hapi.block.stream.output.BlockHeader;
-import com.hedera.pbj.runtime.ParseException;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.util.List;
 import javax.inject.Inject;
 import org.hiero.block.server.ack.AckHandler;
+import org.hiero.block.server.block.BlockItemBatchMetadata;
 import org.hiero.block.server.metrics.BlockNodeMetricTypes;
 import org.hiero.block.server.metrics.MetricsService;
 import org.hiero.block.server.verification.BlockVerificationStatus;
@@ -49,22 +48,20 @@ public class BlockVerificationServiceImpl implements BlockVerificationService {
      * Everytime the handler receives block items, it will call this method to verify the block items.
      *
      * @param blockItems the block items to add to the verification service
-     * @throws ParseException if the block items are invalid
+     * @param metadata the metadata of the block items, holding the parsed block header
      */
     @Override
-    public void onBlockItemsReceived(@NonNull List<BlockItemUnparsed> blockItems) throws ParseException {
-
-        final BlockItemUnparsed firstItem = blockItems.getFirst();
+    public void onBlockItemsReceived(
+            @NonNull List<BlockItemUnparsed> blockItems, @NonNull BlockItemBatchMetadata metadata) {
 
         // If we have a new block header, that means a new block has started
-        if (firstItem.hasBlockHeader()) {
+        if (metadata.startsWithBlockHeader()) {
             metricsService
                     .get(BlockNodeMetricTypes.Counter.VerificationBlocksReceived)
                     .increment();
-            BlockHeader blockHeader = BlockHeader.PROTOBUF.parse(firstItem.blockHeader());
 
             // start new session and set it as current
-            currentSession = sessionFactory.createSession(blockHeader);
+            currentSession = sessionFactory.createSession(metadata.blockHeader());
             currentSession.appendBlockItems(blockItems);
 
             // Handle promise completion for the session.
@@ -7,6 +7,7 @@ import static java.lang.System.Logger.Level.INFO;
 import com.hedera.hapi.block.BlockItemUnparsed;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.util.List;
+import org.hiero.block.server.block.BlockItemBatchMetadata;
 
 /** No-op implementation of the {@link BlockVerificationService}. */
 public class NoOpBlockVerificationService implements BlockVerificationService {
@@ -26,4 +27,13 @@ public class NoOpBlockVerificationService implements BlockVerificationService {
     public void onBlockItemsReceived(@NonNull List<BlockItemUnparsed> blockItems) {
         LOGGER.log(DEBUG, "{0} is ignoring {1} block items.", getClass().getName(), blockItems.size());
     }
+
+    /**
+     * Does nothing
+     */
+    @Override
+    public void onBlockItemsReceived(
+            @NonNull List<BlockItemUnparsed> blockItems, @NonNull BlockItemBatchMetadata metadata) {
+        onBlockItemsReceived(blockItems);
+    }
 }
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.inOrder;
@@ -21,8 +22,10 @@ import static org.mockito.Mockito.when;
 import com.hedera.hapi.block.PublishStreamResponseCode;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.metrics.api.Counter;
+import java.io.IOException;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -73,6 +76,10 @@ class AckHandlerImplTest {
         lenient()
                 .when(metricsService.get(BlockNodeMetricTypes.Counter.AckedBlocked))
                 .thenReturn(metric);
+        // By default, blocks are moved to live storage durably right away
+        lenient()
+                .when(persistenceHandlerMock.moveVerified(anyLong()))
+                .thenReturn(CompletableFuture.completedFuture(null));
         ackHandler = new AckHandlerImpl(notifier, false, serviceStatus, blockRemover, metricsService);
         ackHandler.registerPersistence(persistenceHandlerMock);
     }
@@ -361,6 +368,63 @@ class AckHandlerImplTest {
         inOrder.verify(notifier).sendAck(eq(block2), eq(blockHash2), eq(false));
     }
 
+    @Test
+    @DisplayName("Blocks are ACKed in order once their move to live storage is durable")
+    void ackSentOnceMoveIsDurable() {
+        // given
+        final CompletableFuture<Void> move1 = new CompletableFuture<>();
+        final CompletableFuture<Void> move2 = new CompletableFuture<>();
+        when(persistenceHandlerMock.moveVerified(1L)).thenReturn(move1);
+        when(persistenceHandlerMock.moveVerified(2L)).thenReturn(move2);
+        final Bytes hash1 = Bytes.wrap("hash1".getBytes());
+        final Bytes hash2 = Bytes.wrap("hash2".getBytes());
+        ackHandler.blockPersisted(new BlockPersistenceResult(0L, BlockPersistenceStatus.SUCCESS));
+        ackHandler.blockVerified(0L, Bytes.wrap("hash0".getBytes()));
+
+        // when
+        ackHandler.blockPersisted(new BlockPersistenceResult(1L, BlockPersistenceStatus.SUCCESS));
+        ackHandler.blockVerified(1L, hash1);
+        ackHandler.blockPersisted(new BlockPersistenceResult(2L, BlockPersistenceStatus.SUCCESS));
+        ackHandler.blockVerified(2L, hash2);
+
+        // then
+        // both moves are submitted without waiting for the first to be durable
+        verify(persistenceHandlerMock).moveVerified(2L);
+        verify(notifier, never()).sendAck(eq(1L), any(), anyBoolean());
+        move2.complete(null);
+        verify(notifier, never()).sendAck(eq(2L), any(), anyBoolean());
+        move1.complete(null);
+        final InOrder inOrder = inOrder(notifier);
+        inOrder.verify(notifier).sendAck(eq(1L), eq(hash1), eq(false));
+        inOrder.verify(notifier).sendAck(eq(2L), eq(hash2), eq(false));
+    }
+
+    @Test
+    @DisplayName("A block that fails to move ends the stream at the last ACKed block")
+    void moveFailureSendsEndOfStream() throws IOException {
+        // given
+        when(persistenceHandlerMock.moveVerified(1L))
+                .thenReturn(CompletableFuture.failedFuture(new IOException("move failed")));
+        ackHandler.blockPersisted(new BlockPersistenceResult(0L, BlockPersistenceStatus.SUCCESS));
+        ackHandler.blockVerified(0L, Bytes.wrap("hash0".getBytes()));
+
+        // when
+        ackHandler.blockPersisted(new BlockPersistenceResult(1L, BlockPersistenceStatus.SUCCESS));
+        ackHandler.blockVerified(1L, Bytes.wrap("hash1".getBytes()));
+
+        // then
+        verify(notifier, never()).sendAck(eq(1L), any(), anyBoolean());
+        verify(notifier).sendEndOfStream(0L, PublishStreamResponseCode.STREAM_ITEMS_BAD_STATE_PROOF);
+        verify(blockRemover).removeUnverified(1L);
+        verify(persistenceHandlerMock).resetMoves();
+
+        // the block is moved once it is received again
+        when(persistenceHandlerMock.moveVerified(1L)).thenReturn(CompletableFuture.completedFuture(null));
+        ackHandler.blockPersisted(new BlockPersistenceResult(1L, BlockPersistenceStatus.SUCCESS));
+        ackHandler.blockVerified(1L, Bytes.wrap("hash1".getBytes()));
+        verify(notifier).sendAck(eq(1L), any(), eq(false));
+    }
+
     @ParameterizedTest
     @CsvSource({
         // Format: blockCount, maxPersistDelayNanos, maxVerifyDelayNanos
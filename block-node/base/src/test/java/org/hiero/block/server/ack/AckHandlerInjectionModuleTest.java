@@ -41,7 +41,20 @@ class AckHandlerInjectionModuleTest {
                 PersistenceStorageConfig.ExecutorType.THREAD_POOL,
                 6,
                 60000,
-                true);
+                true,
+                1073741824L,
+                64,
+                true,
+                268435456L,
+                0L,
+                0L,
+                0,
+                67108864L,
+                64,
+                2L,
+                Path.of(""),
+                0,
+                1000);
         final VerificationConfig verificationConfig = mock(VerificationConfig.class);
         when(verificationConfig.type()).thenReturn(VerificationConfig.VerificationServiceType.PRODUCTION);
 
@@ -0,0 +1,131 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIOException;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link BlockReadAhead} class.
+ */
+class BlockReadAheadTest {
+
+    private final List<Long> fetched = new CopyOnWriteArrayList<>();
+
+    /**
+     * This test aims to verify that the blocks read ahead are returned in
+     * order and that every block is fetched once.
+     */
+    @Test
+    void testReadInOrder() throws Exception {
+        try (final BlockReadAhead<Long> toTest = new BlockReadAhead<>(this::fetch, block -> 1024L, 4, 1024 * 1024)) {
+            for (long blockNumber = 1; blockNumber <= 10; blockNumber++) {
+                assertThat(toTest.read(blockNumber, 10)).contains(blockNumber);
+            }
+        }
+        assertThat(fetched).containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+    }
+
+    /**
+     * This test aims to verify that no block after the last block number is
+     * read ahead.
+     */
+    @Test
+    void testReadUpToLastBlockNumber() throws Exception {
+        try (final BlockReadAhead<Long> toTest = new BlockReadAhead<>(this::fetch, block -> 1024L, 4, 1024 * 1024)) {
+            for (long blockNumber = 1; blockNumber <= 3; blockNumber++) {
+                assertThat(toTest.read(blockNumber, 3)).contains(blockNumber);
+            }
+            // Past the last block number the block is read synchronously
+            assertThat(toTest.read(4, 3)).contains(4L);
+        }
+        assertThat(fetched).containsExactlyInAnyOrder(1L, 2L, 3L, 4L);
+    }
+
+    /**
+     * This test aims to verify that blocks are read on the calling thread
+     * when reading ahead is disabled.
+     */
+    @Test
+    void testReadAheadDisabled() throws Exception {
+        final List<Thread> threads = new CopyOnWriteArrayList<>();
+        final BlockReadAhead<Long> toTest = new BlockReadAhead<>(
+                blockNumber -> {
+                    threads.add(Thread.currentThread());
+                    return fetch(blockNumber);
+                },
+                block -> 1024L,
+                0,
+                1024 * 1024);
+        for (long blockNumber = 1; blockNumber <= 3; blockNumber++) {
+            assertThat(toTest.read(blockNumber, 10)).contains(blockNumber);
+        }
+        assertThat(fetched).containsExactly(1L, 2L, 3L);
+        assertThat(threads).containsOnly(Thread.currentThread());
+    }
+
+    /**
+     * This test aims to verify that a block not found is returned empty and
+     * that reading it again fetches it again.
+     */
+    @Test
+    void testReadNotFound() throws Exception {
+        final BlockReadAhead<Long> toTest = new BlockReadAhead<>(
+                blockNumber -> blockNumber == 3 && !fetched.contains(3L) ? notFound(blockNumber) : fetch(blockNumber),
+                block -> 1024L,
+                4,
+                1024 * 1024);
+        assertThat(toTest.read(1, 10)).contains(1L);
+        assertThat(toTest.read(2, 10)).contains(2L);
+        assertThat(toTest.read(3, 10)).isEmpty();
+        assertThat(toTest.read(3, 10)).contains(3L);
+        toTest.close();
+    }
+
+    /**
+     * This test aims to verify that the exception thrown by a fetch is
+     * thrown by the read as it is.
+     */
+    @Test
+    void testReadException() {
+        final BlockReadAhead<Long> toTest = new BlockReadAhead<>(
+                blockNumber -> {
+                    throw new IOException("Failed to read block " + blockNumber);
+                },
+                block -> 1024L,
+                4,
+                1024 * 1024);
+        assertThatIOException().isThrownBy(() -> toTest.read(1, 10)).withMessage("Failed to read block 1");
+        toTest.close();
+    }
+
+    /**
+     * This test aims to verify that reading a block out of order discards
+     * the blocks read ahead.
+     */
+    @Test
+    void testReadOutOfOrder() throws Exception {
+        try (final BlockReadAhead<Long> toTest = new BlockReadAhead<>(this::fetch, block -> 1024L, 4, 1024 * 1024)) {
+            assertThat(toTest.read(1, 100)).contains(1L);
+            assertThat(toTest.read(2, 100)).contains(2L);
+            assertThat(toTest.read(50, 100)).contains(50L);
+            assertThat(toTest.read(51, 100)).contains(51L);
+            assertThat(toTest.read(2, 100)).contains(2L);
+        }
+    }
+
+    private Optional<Long> fetch(final long blockNumber) {
+        fetched.add(blockNumber);
+        return Optional.of(blockNumber);
+    }
+
+    private Optional<Long> notFound(final long blockNumber) {
+        fetched.add(blockNumber);
+        return Optional.empty();
+    }
+}
@@ -3,7 +3,12 @@ package org.hiero.block.server.consumer;
 
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.hiero.block.server.consumer.ConsumerConfig.minMaxBlockItemBatchSize;
+import static org.hiero.block.server.consumer.ConsumerConfig.minMaxCoalescedResponseBytes;
+import static org.hiero.block.server.consumer.ConsumerConfig.minReadAheadMaxBlocks;
+import static org.hiero.block.server.consumer.ConsumerConfig.minReadAheadMaxBytes;
 import static org.hiero.block.server.consumer.ConsumerConfig.minTimeoutThresholdMillis;
+import static org.hiero.block.server.consumer.ConsumerConfig.minWaitMaxParkMillis;
+import static org.hiero.block.server.consumer.ConsumerConfig.minWaitSpinIterations;
 
 import java.util.stream.Stream;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -16,7 +21,16 @@ public class ConsumerConfigTest {
     @MethodSource("outOfRangeMaxBlockItemBatchSize")
     public void testMaxBlockItemBatchSize(int maxBlockItemBatchSize, final String message) {
         assertThatIllegalArgumentException()
-                .isThrownBy(() -> new ConsumerConfig(1500, 3, maxBlockItemBatchSize))
+                .isThrownBy(() -> new ConsumerConfig(
+                        1500,
+                        3,
+                        maxBlockItemBatchSize,
+                        ConsumerConfig.WaitMode.SIGNALLED,
+                        100,
+                        100,
+                        1048576,
+                        16,
+                        67108864))
                 .withMessage(message);
     }
 
@@ -24,7 +38,16 @@ public class ConsumerConfigTest {
     @MethodSource("outOfRangeTimeoutThresholdMillis")
     public void testTimeoutThresholdMillis(int timeoutThresholdMillis, final String message) {
         assertThatIllegalArgumentException()
-                .isThrownBy(() -> new ConsumerConfig(timeoutThresholdMillis, 3, 1000))
+                .isThrownBy(() -> new ConsumerConfig(
+                        timeoutThresholdMillis,
+                        3,
+                        1000,
+                        ConsumerConfig.WaitMode.SIGNALLED,
+                        100,
+                        100,
+                        1048576,
+                        16,
+                        67108864))
                 .withMessage(message);
     }
 
@@ -32,7 +55,93 @@ public class ConsumerConfigTest {
     @MethodSource("outOfRangeCueHistoricStreamingPaddingBlocks")
     public void testCueHistoricStreamingPaddingBlocks(int cueHistoricStreamingPaddingBlocks, final String message) {
         assertThatIllegalArgumentException()
-                .isThrownBy(() -> new ConsumerConfig(1500, cueHistoricStreamingPaddingBlocks, 1000))
+                .isThrownBy(() -> new ConsumerConfig(
+                        1500,
+                        cueHistoricStreamingPaddingBlocks,
+                        1000,
+                        ConsumerConfig.WaitMode.SIGNALLED,
+                        100,
+                        100,
+                        1048576,
+                        16,
+                        67108864))
+                .withMessage(message);
+    }
+
+    @ParameterizedTest
+    @MethodSource("outOfRangeWaitSpinIterations")
+    public void testWaitSpinIterations(int waitSpinIterations, final String message) {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new ConsumerConfig(
+                        1500,
+                        3,
+                        1000,
+                        ConsumerConfig.WaitMode.SIGNALLED,
+                        waitSpinIterations,
+                        100,
+                        1048576,
+                        16,
+                        67108864))
+                .withMessage(message);
+    }
+
+    @ParameterizedTest
+    @MethodSource("outOfRangeWaitMaxParkMillis")
+    public void testWaitMaxParkMillis(int waitMaxParkMillis, final String message) {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new ConsumerConfig(
+                        1500,
+                        3,
+                        1000,
+                        ConsumerConfig.WaitMode.SIGNALLED,
+                        100,
+                        waitMaxParkMillis,
+                        1048576,
+                        16,
+                        67108864))
+                .withMessage(message);
+    }
+
+    @ParameterizedTest
+    @MethodSource("outOfRangeMaxCoalescedResponseBytes")
+    public void testMaxCoalescedResponseBytes(int maxCoalescedResponseBytes, final String message) {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new ConsumerConfig(
+                        1500,
+                        3,
+                        1000,
+                        ConsumerConfig.WaitMode.SIGNALLED,
+                        100,
+                        100,
+                        maxCoalescedResponseBytes,
+                        16,
+                        67108864))
+                .withMessage(message);
+    }
+
+    @ParameterizedTest
+    @MethodSource("outOfRangeReadAheadMaxBlocks")
+    public void testReadAheadMaxBlocks(int readAheadMaxBlocks, final String message) {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new ConsumerConfig(
+                        1500,
+                        3,
+                        1000,
+                        ConsumerConfig.WaitMode.SIGNALLED,
+                        100,
+                        100,
+                        1048576,
+                        readAheadMaxBlocks,
+                        67108864))
+                .withMessage(message);
+    }
+
+    @ParameterizedTest
+    @MethodSource("outOfRangeReadAheadMaxBytes")
+    public void testReadAheadMaxBytes(int readAheadMaxBytes, final String message) {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new ConsumerConfig(
+                        1500, 3, 1000, ConsumerConfig.WaitMode.SIGNALLED, 100, 100, 1048576, 16, readAheadMaxBytes))
                 .withMessage(message);
     }
 
@@ -77,4 +186,74 @@ public class ConsumerConfigTest {
                                 "The input number [%d] is required to be greater or equal than [%d].",
                                 -1, minMaxBlockItemBatchSize)));
     }
+
+    private static Stream<Arguments> outOfRangeWaitSpinIterations() {
+        return Stream.of(
+                Arguments.of(
+                        -1,
+                        String.format(
+                                "The input number [%d] is required to be greater or equal than [%d].",
+                                -1, minWaitSpinIterations)),
+                Arguments.of(
+                        -100,
+                        String.format(
+                                "The input number [%d] is required to be greater or equal than [%d].",
+                                -100, minWaitSpinIterations)));
+    }
+
+    private static Stream<Arguments> outOfRangeWaitMaxParkMillis() {
+        return Stream.of(
+                Arguments.of(
+                        0,
+                        String.format(
+                                "The input number [%d] is required to be greater or equal than [%d].",
+                                0, minWaitMaxParkMillis)),
+                Arguments.of(
+                        -1,
+                        String.format(
+                                "The input number [%d] is required to be greater or equal than [%d].",
+                                -1, minWaitMaxParkMillis)));
+    }
+
+    private static Stream<Arguments> outOfRangeMaxCoalescedResponseBytes() {
+        return Stream.of(
+                Arguments.of(
+                        0,
+                        String.format(
+                                "The input number [%d] is required to be greater or equal than [%d].",
+                                0, minMaxCoalescedResponseBytes)),
+                Arguments.of(
+                        -1,
+                        String.format(
+                                "The input number [%d] is required to be greater or equal than [%d].",
+                                -1, minMaxCoalescedResponseBytes)));
+    }
+
+    private static Stream<Arguments> outOfRangeReadAheadMaxBlocks() {
+        return Stream.of(
+                Arguments.of(
+                        -1,
+                        String.format(
+                                "The input number [%d] is required to be greater or equal than [%d].",
+                                -1, minReadAheadMaxBlocks)),
+                Arguments.of(
+                        -100,
+                        String.format(
+                                "The input number [%d] is required to be greater or equal than [%d].",
+                                -100, minReadAheadMaxBlocks)));
+    }
+
+    private static Stream<Arguments> outOfRangeReadAheadMaxBytes() {
+        return Stream.of(
+                Arguments.of(
+                        0,
+                        String.format(
+                                "The input number [%d] is required to be greater or equal than [%d].",
+                                0, minReadAheadMaxBytes)),
+                Arguments.of(
+                        -1,
+                        String.format(
+                                "The input number [%d] is required to be greater or equal than [%d].",
+                                -1, minReadAheadMaxBytes)));
+    }
 }
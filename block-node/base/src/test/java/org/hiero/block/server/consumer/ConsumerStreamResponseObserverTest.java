@@ -1,7 +1,9 @@
 // SPDX-License-Identifier: Apache-2.0
 package org.hiero.block.server.consumer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.timeout;
@@ -16,14 +18,17 @@ import com.hedera.hapi.block.SubscribeStreamResponseUnparsed;
 import com.hedera.hapi.block.stream.BlockProof;
 import com.hedera.hapi.block.stream.input.EventHeader;
 import com.hedera.hapi.block.stream.output.BlockHeader;
+import com.hedera.pbj.runtime.ParseException;
 import com.hedera.pbj.runtime.grpc.Pipeline;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.config.api.Configuration;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.time.InstantSource;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import org.hiero.block.server.mediator.LiveStreamEvent;
 import org.hiero.block.server.mediator.LiveStreamMediator;
 import org.hiero.block.server.mediator.LiveStreamMediatorBuilder;
 import org.hiero.block.server.mediator.MediatorConfig;
@@ -36,6 +41,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -50,6 +56,12 @@ public class ConsumerStreamResponseObserverTest {
     @Mock
     private Pipeline<? super SubscribeStreamResponseUnparsed> helidonResponseStreamObserver;
 
+    @Mock
+    private Pipeline<? super Bytes> helidonBytesStreamObserver;
+
+    @Mock
+    private Pipeline<? super Bytes> otherHelidonBytesStreamObserver;
+
     @Mock
     private InstantSource testClock;
 
@@ -130,6 +142,107 @@ public class ConsumerStreamResponseObserverTest {
         assertTrue(streamMediator.isSubscribed(streamManager));
     }
 
+    @Test
+    public void testLiveStreamSendsSharedEncodedResponse() {
+
+        final LiveStreamMediator streamMediator = LiveStreamMediatorBuilder.newBuilder(
+                        metricsService, mediatorConfig, serviceStatus)
+                .build();
+        when(testClock.millis()).thenReturn(TEST_TIME);
+
+        // Mock live streaming
+        when(subscribeStreamRequest.startBlockNumber()).thenReturn(0L);
+        when(serviceStatus.isRunning()).thenReturn(true);
+
+        final StreamManager streamManager = ConsumerStreamBuilder.buildStreamManager(
+                testClock,
+                subscribeStreamRequest,
+                streamMediator,
+                new SubscribeStreamResponsePipeline(helidonBytesStreamObserver),
+                blockReader,
+                serviceStatus,
+                metricsService,
+                consumerConfig);
+        final StreamManager otherStreamManager = ConsumerStreamBuilder.buildStreamManager(
+                testClock,
+                subscribeStreamRequest,
+                streamMediator,
+                new SubscribeStreamResponsePipeline(otherHelidonBytesStreamObserver),
+                blockReader,
+                serviceStatus,
+                metricsService,
+                consumerConfig);
+
+        // Create a block item to publish
+        final BlockHeader blockHeader = BlockHeader.newBuilder().number(1).build();
+        final BlockItemUnparsed blockItem = BlockItemUnparsed.newBuilder()
+                .blockHeader(BlockHeader.PROTOBUF.toBytes(blockHeader))
+                .build();
+        List<BlockItemUnparsed> blockItems = List.of(blockItem);
+
+        // Set up the StreamManagers to poll for
+        // block items
+        assertTrue(streamManager.execute());
+        assertTrue(otherStreamManager.execute());
+
+        // Now publish the block items to the mediator
+        streamMediator.publish(blockItems);
+
+        // Call the StreamManagers to poll for
+        // the block items and send them to the
+        // clients
+        assertTrue(streamManager.execute());
+        assertTrue(otherStreamManager.execute());
+
+        final SubscribeStreamResponseUnparsed subscribeStreamResponse = SubscribeStreamResponseUnparsed.newBuilder()
+                .blockItems(BlockItemSetUnparsed.newBuilder()
+                        .blockItems(blockItems)
+                        .build())
+                .build();
+        final Bytes expected = SubscribeStreamResponseUnparsed.PROTOBUF.toBytes(subscribeStreamResponse);
+
+        // Capture the bytes sent to each client
+        final ArgumentCaptor<Bytes> captor = ArgumentCaptor.forClass(Bytes.class);
+        final ArgumentCaptor<Bytes> otherCaptor = ArgumentCaptor.forClass(Bytes.class);
+        verify(helidonBytesStreamObserver, timeout(testTimeout)).onNext(captor.capture());
+        verify(otherHelidonBytesStreamObserver, timeout(testTimeout)).onNext(otherCaptor.capture());
+
+        // Both clients receive the same instance of the encoded response
+        assertEquals(expected, captor.getValue());
+        assertSame(captor.getValue(), otherCaptor.getValue());
+    }
+
+    @Test
+    public void testCoalescedResponseSplicesSharedEncodedResponses() throws ParseException {
+
+        final ConsumerStreamResponseObserver consumerStreamResponseObserver = new ConsumerStreamResponseObserver(
+                new SubscribeStreamResponsePipeline(helidonBytesStreamObserver), metricsService);
+
+        // Two live batches, the first one starting a block
+        final BlockHeader blockHeader = BlockHeader.newBuilder().number(1).build();
+        final List<BlockItemUnparsed> firstBlockItems = List.of(BlockItemUnparsed.newBuilder()
+                .blockHeader(BlockHeader.PROTOBUF.toBytes(blockHeader))
+                .build());
+        final List<BlockItemUnparsed> secondBlockItems = List.of(BlockItemUnparsed.newBuilder()
+                .eventHeader(EventHeader.PROTOBUF.toBytes(EventHeader.newBuilder().build()))
+                .build());
+        final LiveStreamEvent firstEvent = new LiveStreamEvent();
+        firstEvent.set(firstBlockItems);
+        final LiveStreamEvent secondEvent = new LiveStreamEvent();
+        secondEvent.set(secondBlockItems);
+
+        consumerStreamResponseObserver.sendCoalesced(List.of(firstEvent, secondEvent));
+
+        final List<BlockItemUnparsed> coalescedBlockItems = new ArrayList<>(firstBlockItems);
+        coalescedBlockItems.addAll(secondBlockItems);
+        final SubscribeStreamResponseUnparsed expected = SubscribeStreamResponseUnparsed.newBuilder()
+                .blockItems(BlockItemSetUnparsed.newBuilder()
+                        .blockItems(coalescedBlockItems)
+                        .build())
+                .build();
+        verify(helidonBytesStreamObserver).onNext(SubscribeStreamResponseUnparsed.PROTOBUF.toBytes(expected));
+    }
+
     @Test
     public void testProducerTimeoutOutsideWindow() {
 
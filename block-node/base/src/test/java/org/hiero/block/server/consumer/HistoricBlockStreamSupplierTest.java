@@ -2,17 +2,23 @@
 package org.hiero.block.server.consumer;
 
 import static org.hiero.block.server.util.PersistTestUtils.generateBlockItemsUnparsedForWithBlockNumber;
+import static org.hiero.block.server.service.Constants.READ_STREAM_SUCCESS_RESPONSE;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
+import com.hedera.hapi.block.BlockItemSetUnparsed;
 import com.hedera.hapi.block.BlockItemUnparsed;
 import com.hedera.hapi.block.BlockUnparsed;
 import com.hedera.hapi.block.SubscribeStreamResponseUnparsed;
 import com.hedera.pbj.runtime.ParseException;
 import com.hedera.pbj.runtime.grpc.Pipeline;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.config.api.Configuration;
 import java.io.IOException;
 import java.util.LinkedList;
@@ -23,6 +29,8 @@ import java.util.stream.Stream;
 import org.hiero.block.common.utils.ChunkUtils;
 import org.hiero.block.server.metrics.MetricsService;
 import org.hiero.block.server.persistence.storage.read.BlockReader;
+import org.hiero.block.server.persistence.storage.read.EncodedBlock;
+import org.hiero.block.server.persistence.storage.read.EncodedBlockReader;
 import org.hiero.block.server.util.TestConfigUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -30,6 +38,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -103,6 +112,73 @@ public class HistoricBlockStreamSupplierTest {
                 .onNext(any());
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testClosedRangeHistoricStreamingEncoded() throws IOException, ParseException {
+
+        final BlockReader<BlockUnparsed> encodedBlockReader =
+                mock(BlockReader.class, withSettings().extraInterfaces(EncodedBlockReader.class));
+        final Pipeline<Bytes> replies = mock(Pipeline.class);
+        final BlockUnparsed block = generateBlocks(1, 25).getFirst();
+        when(((EncodedBlockReader) encodedBlockReader).readEncoded(1))
+                .thenReturn(Optional.of(EncodedBlock.of(BlockUnparsed.PROTOBUF.toBytes(block))));
+
+        final HistoricBlockStreamSupplier historicBlockStreamSupplier = new HistoricBlockStreamSupplier(
+                1L,
+                1L,
+                encodedBlockReader,
+                new SubscribeStreamResponsePipeline(replies),
+                metricsService,
+                consumerConfig);
+
+        historicBlockStreamSupplier.run();
+
+        // Confirm the responses spliced from the stored bytes are the encoded batches
+        final InOrder inOrder = inOrder(replies);
+        for (final List<BlockItemUnparsed> batch : ChunkUtils.chunkify(block.blockItems(), maxBlockItemBatchSize)) {
+            final SubscribeStreamResponseUnparsed response = SubscribeStreamResponseUnparsed.newBuilder()
+                    .blockItems(
+                            BlockItemSetUnparsed.newBuilder().blockItems(batch).build())
+                    .build();
+            inOrder.verify(replies).onNext(SubscribeStreamResponseUnparsed.PROTOBUF.toBytes(response));
+        }
+        inOrder.verify(replies).onNext(SubscribeStreamResponseUnparsed.PROTOBUF.toBytes(READ_STREAM_SUCCESS_RESPONSE));
+        verify(encodedBlockReader, times(0)).read(1);
+    }
+
+    @Test
+    public void testClosedRangeHistoricStreamingInOrder() throws IOException, ParseException {
+
+        final int numberOfBlocks = 8;
+        final List<BlockUnparsed> blocks = generateBlocks(numberOfBlocks, 5);
+        for (int i = 1; i <= numberOfBlocks; i++) {
+            final BlockUnparsed block = blocks.get(i - 1);
+            // The reads of the earlier blocks complete after the reads of the later ones
+            final long delayMillis = (numberOfBlocks - i) * 10L;
+            when(blockReader.read(i)).thenAnswer(invocation -> {
+                Thread.sleep(delayMillis);
+                return Optional.of(block);
+            });
+        }
+
+        final HistoricBlockStreamSupplier historicBlockStreamSupplier = new HistoricBlockStreamSupplier(
+                1L, numberOfBlocks, blockReader, helidonConsumerObserver, metricsService, consumerConfig);
+
+        historicBlockStreamSupplier.run();
+
+        // Confirm the blocks were sent in order regardless of the order their reads completed
+        final InOrder inOrder = inOrder(helidonConsumerObserver);
+        for (final BlockUnparsed block : blocks) {
+            inOrder.verify(helidonConsumerObserver)
+                    .onNext(SubscribeStreamResponseUnparsed.newBuilder()
+                            .blockItems(BlockItemSetUnparsed.newBuilder()
+                                    .blockItems(block.blockItems())
+                                    .build())
+                            .build());
+        }
+        inOrder.verify(helidonConsumerObserver).onNext(READ_STREAM_SUCCESS_RESPONSE);
+    }
+
     @Test
     public void testClosedRangeHistoricStreamingBlockNotFound() throws Exception {
         when(blockReader.read(1)).thenReturn(Optional.empty());
@@ -1,7 +1,9 @@
 // SPDX-License-Identifier: Apache-2.0
 package org.hiero.block.server.consumer;
 
+import static org.hiero.block.server.consumer.OpenRangeStreamManager.State.CUE_HISTORIC_STREAMING;
 import static org.hiero.block.server.consumer.OpenRangeStreamManager.State.CUE_LIVE_STREAMING;
+import static org.hiero.block.server.consumer.OpenRangeStreamManager.State.DRAIN_LIVE_STREAMING;
 import static org.hiero.block.server.consumer.OpenRangeStreamManager.State.HISTORIC_STREAMING;
 import static org.hiero.block.server.consumer.OpenRangeStreamManager.State.INIT_HISTORIC;
 import static org.hiero.block.server.consumer.OpenRangeStreamManager.State.INIT_LIVE;
@@ -9,12 +11,14 @@ import static org.hiero.block.server.consumer.OpenRangeStreamManager.State.LIVE_
 import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.ClosedRangeHistoricBlocksRetrieved;
 import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.HistoricToLiveStreamTransitions;
 import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.LiveBlockItemsConsumed;
+import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.LiveToHistoricStreamTransitions;
 import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Gauge.CurrentBlockNumberOutbound;
 import static org.hiero.block.server.util.PersistTestUtils.generateBlockItemsUnparsedForWithBlockNumber;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -85,8 +89,8 @@ public class OpenRangeStreamManagerTest {
     @Mock
     private Counter liveBlockItemsConsumed;
 
-    //    @Mock
-    //    private Counter liveToHistoricStreamTransitions;
+    @Mock
+    private Counter liveToHistoricStreamTransitions;
 
     @Mock
     private Pipeline<? super SubscribeStreamResponseUnparsed> helidonConsumerObserver;
@@ -176,9 +180,9 @@ public class OpenRangeStreamManagerTest {
 
         // Prep the blockReader to return 2 historical blocks
         // for the last part of the test when we transition back to historic
-        //        for (int i = 14; i < NUM_OF_BLOCKS; i++) {
-        //            when(blockReader.read(i)).thenReturn(Optional.of(blocks.get(i)));
-        //        }
+        for (int i = 14; i < NUM_OF_BLOCKS; i++) {
+            when(blockReader.read(i)).thenReturn(Optional.of(blocks.get(i)));
+        }
 
         // Prep the serviceStatus to return the last acked block number
         // Block 5 is acked
@@ -206,13 +210,14 @@ public class OpenRangeStreamManagerTest {
         // from block 1 and to live stream once it catches up.
         when(subscribeStreamRequest.startBlockNumber()).thenReturn(1L);
 
-        //        when(consumerConfig.cueHistoricStreamingPaddingBlocks()).thenReturn(3);
+        when(consumerConfig.cueHistoricStreamingPaddingBlocks()).thenReturn(3);
+        when(consumerConfig.waitMode()).thenReturn(ConsumerConfig.WaitMode.POLLING);
 
         // Prep the metrics
         when(metricsService.get(ClosedRangeHistoricBlocksRetrieved)).thenReturn(closedRangeHistoricBlocksRetrieved);
         when(metricsService.get(HistoricToLiveStreamTransitions)).thenReturn(historicToLiveStreamTransitions);
         when(metricsService.get(CurrentBlockNumberOutbound)).thenReturn(currentBlockNumberOutbound);
-        //        when(metricsService.get(LiveToHistoricStreamTransitions)).thenReturn(liveToHistoricStreamTransitions);
+        when(metricsService.get(LiveToHistoricStreamTransitions)).thenReturn(liveToHistoricStreamTransitions);
         when(metricsService.get(LiveBlockItemsConsumed)).thenReturn(liveBlockItemsConsumed);
 
         final OpenRangeStreamManager streamManager = ConsumerStreamBuilder.buildStreamManager(
@@ -310,50 +315,250 @@ public class OpenRangeStreamManagerTest {
                     .onNext(buildResponse(blocks.get(i).blockItems()));
         }
 
-        // @todo(#750) - Re-enable this test once the slow consumer logic is implemented
         // Simulate a slow consumer - flag that the threshold has been exceeded
-        //        when(liveBlockItemPoller.exceedsThreshold()).thenReturn(true);
-
-        //        // STREAMING_LIVE - transition to DRAIN_LIVE_STREAMING
-        //        streamManager.execute();
-        //        assertEquals(DRAIN_LIVE_STREAMING, streamManager.getState());
-        //
-        //        // DRAIN_LIVE_STREAMING - blocks 13, transition back to INIT_HISTORIC
-        //        streamManager.execute();
-        //        assertEquals(INIT_HISTORIC, streamManager.getState());
-        //        verify(helidonConsumerObserver, times(1))
-        //                .onNext(buildResponse(blocks.get(13).blockItems()));
-        //
-        //        for (int i = 8; i < 15 + 3; i++) {
-        //            // Verify the streamManager stays on the
-        //            // CUE_HISTORIC_STREAMING state until the
-        //            // blocks acked exceed the next live block number
-        //            // + the default padding of 3
-        //            streamManager.execute();
-        //            assertEquals(CUE_HISTORIC_STREAMING, streamManager.getState());
-        //
-        //            // Simulate blocks being acked
-        //            when(serviceStatus.getLatestAckedBlock()).thenReturn(new BlockInfo(i));
-        //        }
-        //
-        //        // Simulate block 18 being acked
-        //        when(serviceStatus.getLatestAckedBlock()).thenReturn(new BlockInfo(18));
-        //
-        //        // Blocks up to 18 should be acked now - transition to HISTORIC_STREAMING
-        //        streamManager.execute();
-        //        assertEquals(HISTORIC_STREAMING, streamManager.getState());
-        //
-        //        // STREAMING_HISTORIC - block 14
-        //        streamManager.execute();
-        //        assertEquals(HISTORIC_STREAMING, streamManager.getState());
-        //        verify(helidonConsumerObserver, times(1))
-        //                .onNext(buildResponse(blocks.get(14).blockItems()));
-        //
-        //        // STREAMING_HISTORIC - block 15
-        //        streamManager.execute();
-        //        assertEquals(HISTORIC_STREAMING, streamManager.getState());
-        //        verify(helidonConsumerObserver, times(1))
-        //                .onNext(buildResponse(blocks.get(15).blockItems()));
+        when(liveBlockItemPoller.exceedsThreshold()).thenReturn(true);
+
+        // STREAMING_LIVE - transition to DRAIN_LIVE_STREAMING
+        assertTrue(streamManager.execute());
+        assertEquals(DRAIN_LIVE_STREAMING, streamManager.getState());
+
+        // DRAIN_LIVE_STREAMING - blocks 13, transition back to INIT_HISTORIC
+        assertTrue(streamManager.execute());
+        assertEquals(INIT_HISTORIC, streamManager.getState());
+        verify(helidonConsumerObserver, times(1))
+                .onNext(buildResponse(blocks.get(13).blockItems()));
+        verify(subscriptionHandler, times(1)).unsubscribePoller(any());
+        verify(liveToHistoricStreamTransitions, times(1)).increment();
+
+        // INIT_HISTORIC - the acked blocks are not yet ahead of the
+        // historic stream by the padding, transition to CUE_HISTORIC_STREAMING
+        assertTrue(streamManager.execute());
+        assertEquals(CUE_HISTORIC_STREAMING, streamManager.getState());
+
+        for (int i = 8; i < 14 + 3; i++) {
+            // Simulate blocks being acked
+            when(serviceStatus.getLatestAckedBlock()).thenReturn(new BlockInfo(i));
+
+            // Verify the streamManager stays on the
+            // CUE_HISTORIC_STREAMING state until the
+            // blocks acked reach the next historic block number
+            // + the padding of 3
+            assertTrue(streamManager.execute());
+            assertEquals(CUE_HISTORIC_STREAMING, streamManager.getState());
+        }
+
+        // Simulate block 17 being acked
+        when(serviceStatus.getLatestAckedBlock()).thenReturn(new BlockInfo(17));
+
+        // Blocks up to 17 should be acked now - transition to HISTORIC_STREAMING
+        assertTrue(streamManager.execute());
+        assertEquals(HISTORIC_STREAMING, streamManager.getState());
+
+        // STREAMING_HISTORIC - block 14
+        assertTrue(streamManager.execute());
+        assertEquals(HISTORIC_STREAMING, streamManager.getState());
+        verify(helidonConsumerObserver, times(1))
+                .onNext(buildResponse(blocks.get(14).blockItems()));
+
+        // STREAMING_HISTORIC - block 15
+        assertTrue(streamManager.execute());
+        assertEquals(HISTORIC_STREAMING, streamManager.getState());
+        verify(helidonConsumerObserver, times(1))
+                .onNext(buildResponse(blocks.get(15).blockItems()));
+    }
+
+    @Test
+    public void testLiveStreamOverrunFallsBackToHistoricStream() throws Exception {
+
+        // Set up the test clock within the time range
+        when(testClock.millis()).thenReturn(TEST_TIME, TEST_TIME + 1);
+
+        final List<BlockUnparsed> blocks = buildBlocks(4);
+
+        // Prep the poller to stream blocks 0 and 1 before
+        // the publisher overruns it
+        final ObjectEvent<List<BlockItemUnparsed>> block0Event = new ObjectEvent<>();
+        block0Event.set(blocks.get(0).blockItems());
+        final ObjectEvent<List<BlockItemUnparsed>> block1Event = new ObjectEvent<>();
+        block1Event.set(blocks.get(1).blockItems());
+        when(liveBlockItemPoller.poll())
+                .thenReturn(Optional.of(block0Event), Optional.of(block1Event), Optional.empty());
+        when(liveBlockItemPoller.isOverrun()).thenReturn(true);
+        when(subscriptionHandler.subscribePoller(any())).thenReturn(liveBlockItemPoller);
+
+        // Block 2 is available from storage
+        when(blockReader.read(2)).thenReturn(Optional.of(blocks.get(2)));
+        when(serviceStatus.getLatestAckedBlock()).thenReturn(new BlockInfo(3));
+
+        // Mock a subscribeStreamRequest indicating a live stream starting
+        when(subscribeStreamRequest.startBlockNumber()).thenReturn(0L);
+        when(metricsService.get(CurrentBlockNumberOutbound)).thenReturn(currentBlockNumberOutbound);
+        when(metricsService.get(LiveBlockItemsConsumed)).thenReturn(liveBlockItemsConsumed);
+        when(metricsService.get(LiveToHistoricStreamTransitions)).thenReturn(liveToHistoricStreamTransitions);
+        when(metricsService.get(ClosedRangeHistoricBlocksRetrieved)).thenReturn(closedRangeHistoricBlocksRetrieved);
+
+        final OpenRangeStreamManager streamManager = ConsumerStreamBuilder.buildStreamManager(
+                testClock,
+                subscribeStreamRequest,
+                subscriptionHandler,
+                helidonConsumerObserver,
+                blockReader,
+                serviceStatus,
+                metricsService,
+                consumerConfig);
+
+        // INIT_LIVE - transition
+        assertTrue(streamManager.execute());
+        assertEquals(LIVE_STREAMING, streamManager.getState());
+
+        // LIVE_STREAMING - blocks 0 and 1
+        assertTrue(streamManager.execute());
+        assertTrue(streamManager.execute());
+        assertEquals(LIVE_STREAMING, streamManager.getState());
+
+        // The overrun poller is released and the stream falls back to historic
+        assertTrue(streamManager.execute());
+        assertEquals(INIT_HISTORIC, streamManager.getState());
+        verify(subscriptionHandler, times(1)).unsubscribePoller(any());
+        verify(liveToHistoricStreamTransitions, times(1)).increment();
+
+        // INIT_HISTORIC - transition
+        assertTrue(streamManager.execute());
+        assertEquals(HISTORIC_STREAMING, streamManager.getState());
+
+        // STREAMING_HISTORIC - resumes after the last fully sent block
+        assertTrue(streamManager.execute());
+        assertEquals(HISTORIC_STREAMING, streamManager.getState());
+        verify(helidonConsumerObserver, times(1))
+                .onNext(buildResponse(blocks.get(2).blockItems()));
+    }
+
+    /**
+     * This test aims to verify that when the live stream is overrun in the
+     * middle of a block, the block is streamed from history without the
+     * items the client already received.
+     */
+    @Test
+    public void testLiveStreamOverrunMidBlockSkipsSentItems() throws Exception {
+
+        // Set up the test clock within the time range
+        when(testClock.millis()).thenReturn(TEST_TIME, TEST_TIME + 1);
+
+        final List<BlockUnparsed> blocks = buildBlocks(3);
+
+        // Prep the poller to stream block 0 and the first half of
+        // block 1 before the publisher overruns it
+        final ObjectEvent<List<BlockItemUnparsed>> block0Event = new ObjectEvent<>();
+        block0Event.set(blocks.get(0).blockItems());
+        final List<BlockItemUnparsed> block1Items = blocks.get(1).blockItems();
+        final ObjectEvent<List<BlockItemUnparsed>> block1HalfEvent = new ObjectEvent<>();
+        block1HalfEvent.set(block1Items.subList(0, 5));
+        when(liveBlockItemPoller.poll())
+                .thenReturn(Optional.of(block0Event), Optional.of(block1HalfEvent), Optional.empty());
+        when(liveBlockItemPoller.isOverrun()).thenReturn(true);
+        when(subscriptionHandler.subscribePoller(any())).thenReturn(liveBlockItemPoller);
+
+        // Block 1 is available from storage
+        when(blockReader.read(1)).thenReturn(Optional.of(blocks.get(1)));
+        when(serviceStatus.getLatestAckedBlock()).thenReturn(new BlockInfo(2));
+
+        // Mock a subscribeStreamRequest indicating a live stream starting
+        when(subscribeStreamRequest.startBlockNumber()).thenReturn(0L);
+        when(metricsService.get(CurrentBlockNumberOutbound)).thenReturn(currentBlockNumberOutbound);
+        when(metricsService.get(LiveBlockItemsConsumed)).thenReturn(liveBlockItemsConsumed);
+        when(metricsService.get(LiveToHistoricStreamTransitions)).thenReturn(liveToHistoricStreamTransitions);
+        when(metricsService.get(ClosedRangeHistoricBlocksRetrieved)).thenReturn(closedRangeHistoricBlocksRetrieved);
+
+        final OpenRangeStreamManager streamManager = ConsumerStreamBuilder.buildStreamManager(
+                testClock,
+                subscribeStreamRequest,
+                subscriptionHandler,
+                helidonConsumerObserver,
+                blockReader,
+                serviceStatus,
+                metricsService,
+                consumerConfig);
+
+        // INIT_LIVE - transition
+        assertTrue(streamManager.execute());
+        assertEquals(LIVE_STREAMING, streamManager.getState());
+
+        // LIVE_STREAMING - block 0 and the first half of block 1
+        assertTrue(streamManager.execute());
+        assertTrue(streamManager.execute());
+        assertEquals(LIVE_STREAMING, streamManager.getState());
+        verify(helidonConsumerObserver, times(1)).onNext(buildResponse(block1Items.subList(0, 5)));
+
+        // The overrun poller is released and the stream falls back to historic
+        assertTrue(streamManager.execute());
+        assertEquals(INIT_HISTORIC, streamManager.getState());
+
+        // INIT_HISTORIC - transition
+        assertTrue(streamManager.execute());
+        assertEquals(HISTORIC_STREAMING, streamManager.getState());
+
+        // STREAMING_HISTORIC - only the rest of block 1 is sent
+        assertTrue(streamManager.execute());
+        assertEquals(HISTORIC_STREAMING, streamManager.getState());
+        verify(helidonConsumerObserver, times(1)).onNext(buildResponse(block1Items.subList(5, block1Items.size())));
+        verify(helidonConsumerObserver, never()).onNext(buildResponse(block1Items));
+    }
+
+    @Test
+    public void testLiveStreamCoalescesAvailableBatches() throws Exception {
+
+        // Set up the test clock within the time range
+        when(testClock.millis()).thenReturn(TEST_TIME, TEST_TIME + 1);
+
+        final List<BlockUnparsed> blocks = buildBlocks(3);
+
+        // Prep the poller to return 3 available live batches
+        final List<Optional<ObjectEvent<List<BlockItemUnparsed>>>> liveStreamResults = new ArrayList<>();
+        for (final BlockUnparsed block : blocks) {
+            final ObjectEvent<List<BlockItemUnparsed>> objectEvent = new ObjectEvent<>();
+            objectEvent.set(block.blockItems());
+            liveStreamResults.add(Optional.of(objectEvent));
+        }
+        when(liveBlockItemPoller.poll())
+                .thenReturn(
+                        liveStreamResults.get(0), liveStreamResults.get(1), liveStreamResults.get(2), Optional.empty());
+        when(subscriptionHandler.subscribePoller(any())).thenReturn(liveBlockItemPoller);
+
+        // Only the first 2 batches fit within the byte budget
+        final long twoBlocksBytes = measure(blocks.get(0).blockItems()) + measure(blocks.get(1).blockItems());
+        when(consumerConfig.maxCoalescedResponseBytes()).thenReturn((int) twoBlocksBytes);
+
+        // Mock a subscribeStreamRequest indicating a live stream starting
+        when(subscribeStreamRequest.startBlockNumber()).thenReturn(0L);
+        when(metricsService.get(CurrentBlockNumberOutbound)).thenReturn(currentBlockNumberOutbound);
+        when(metricsService.get(LiveBlockItemsConsumed)).thenReturn(liveBlockItemsConsumed);
+
+        final OpenRangeStreamManager streamManager = ConsumerStreamBuilder.buildStreamManager(
+                testClock,
+                subscribeStreamRequest,
+                subscriptionHandler,
+                helidonConsumerObserver,
+                blockReader,
+                serviceStatus,
+                metricsService,
+                consumerConfig);
+
+        // INIT_LIVE - transition
+        assertTrue(streamManager.execute());
+        assertEquals(LIVE_STREAMING, streamManager.getState());
+
+        // LIVE_STREAMING - blocks 0 and 1 are coalesced into a single response
+        assertTrue(streamManager.execute());
+        final List<BlockItemUnparsed> coalescedBlockItems = new ArrayList<>(blocks.get(0).blockItems());
+        coalescedBlockItems.addAll(blocks.get(1).blockItems());
+        verify(helidonConsumerObserver, times(1)).onNext(buildResponse(coalescedBlockItems));
+
+        // LIVE_STREAMING - block 2 is sent in the next response
+        assertTrue(streamManager.execute());
+        assertEquals(LIVE_STREAMING, streamManager.getState());
+        verify(helidonConsumerObserver, times(1))
+                .onNext(buildResponse(blocks.get(2).blockItems()));
+        verify(helidonConsumerObserver, times(2)).onNext(any());
     }
 
     @Test
@@ -423,4 +628,9 @@ public class OpenRangeStreamManagerTest {
                         BlockItemSetUnparsed.newBuilder().blockItems(blockItems).build())
                 .build();
     }
+
+    private static long measure(List<BlockItemUnparsed> blockItems) {
+        // Batches are coalesced by the size of their encoded response
+        return SubscribeStreamResponseUnparsed.PROTOBUF.measureRecord(buildResponse(blockItems));
+    }
 }
@@ -0,0 +1,271 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.download;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.BlocksDownloaded;
+import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.CompressedBlocksDownloaded;
+import static org.hiero.block.server.util.PersistTestUtils.generateBlockItemsUnparsedForWithBlockNumber;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import com.github.luben.zstd.Zstd;
+import com.hedera.hapi.block.BlockUnparsed;
+import com.hedera.pbj.runtime.ParseException;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.config.api.ConfigurationBuilder;
+import io.helidon.http.HeaderNames;
+import io.helidon.http.HeaderValues;
+import io.helidon.http.ServerRequestHeaders;
+import io.helidon.webserver.http.ServerRequest;
+import io.helidon.webserver.http.ServerResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.hiero.block.server.metrics.MetricsService;
+import org.hiero.block.server.persistence.storage.PersistenceStorageConfig;
+import org.hiero.block.server.persistence.storage.PersistenceStorageConfig.CompressionType;
+import org.hiero.block.server.persistence.storage.compression.ZstdDictionaries;
+import org.hiero.block.server.persistence.storage.read.BlockAsLocalFileReader;
+import org.hiero.block.server.persistence.storage.read.BlockReader;
+import org.hiero.block.server.persistence.storage.read.CachingBlockReader;
+import org.hiero.block.server.persistence.storage.read.EncodedBlock;
+import org.hiero.block.server.persistence.storage.read.EncodedBlockReader;
+import org.hiero.block.server.persistence.storage.read.StoredBlock;
+import org.hiero.block.server.persistence.storage.read.StoredBlockReader;
+import org.hiero.block.server.service.ServiceStatus;
+import org.hiero.block.server.util.TestConfigUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class BlockDownloadServiceTest {
+
+    @Mock
+    private ServiceStatus serviceStatus;
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ServerRequest serverRequest;
+
+    @Mock
+    private ServerRequestHeaders serverRequestHeaders;
+
+    @Mock
+    private ServerResponse serverResponse;
+
+    private BlockReader<BlockUnparsed> blockReader;
+
+    private MetricsService metricsService;
+
+    private BlockDownloadService blockDownloadService;
+
+    private Bytes block;
+
+    private ByteArrayOutputStream responseBody;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws IOException {
+        blockReader = mock(
+                BlockReader.class, withSettings().extraInterfaces(EncodedBlockReader.class, StoredBlockReader.class));
+        metricsService = TestConfigUtil.getTestBlockNodeMetricsService();
+        blockDownloadService = new BlockDownloadServiceImpl(serviceStatus, blockReader, metricsService);
+        block = BlockUnparsed.PROTOBUF.toBytes(BlockUnparsed.newBuilder()
+                .blockItems(generateBlockItemsUnparsedForWithBlockNumber(1))
+                .build());
+        responseBody = new ByteArrayOutputStream();
+    }
+
+    @Test
+    public void testHandleBlockZstdAccepted() throws IOException {
+        // given
+        final byte[] stored = Zstd.compress(block.toByteArray());
+        givenRequest("1", "gzip, zstd;q=0.5");
+        when(((StoredBlockReader) blockReader).readStored(1))
+                .thenReturn(Optional.of(new StoredBlock(Bytes.wrap(stored), CompressionType.ZSTD)));
+
+        // when
+        blockDownloadService.handleBlock(serverRequest, serverResponse);
+
+        // then the stored frame is sent as it is
+        verify(serverResponse).header(HeaderNames.CONTENT_ENCODING, "zstd");
+        verify(serverResponse).header(HeaderNames.CONTENT_LENGTH, Integer.toString(stored.length));
+        verify(serverResponse).status(200);
+        assertThat(responseBody.toByteArray()).isEqualTo(stored);
+        assertThat(metricsService.get(BlocksDownloaded).get()).isEqualTo(1L);
+        assertThat(metricsService.get(CompressedBlocksDownloaded).get()).isEqualTo(1L);
+    }
+
+    @Test
+    public void testHandleBlockDictionaryCompressed() throws IOException, ParseException {
+        // given a block stored compressed with a dictionary of the node
+        final List<byte[]> samples = new ArrayList<>();
+        for (long blockNumber = 0; blockNumber < 1_000; blockNumber++) {
+            samples.add(BlockUnparsed.PROTOBUF
+                    .toBytes(BlockUnparsed.newBuilder()
+                            .blockItems(generateBlockItemsUnparsedForWithBlockNumber(blockNumber))
+                            .build())
+                    .toByteArray());
+        }
+        final byte[] dictionary = ZstdDictionaries.train(samples, 1024);
+        final byte[] stored = Zstd.compressUsingDict(block.toByteArray(), dictionary, 3);
+        givenRequest("1", "zstd");
+        when(((StoredBlockReader) blockReader).readStored(1))
+                .thenReturn(Optional.of(new StoredBlock(Bytes.wrap(stored), CompressionType.ZSTD)));
+        when(((EncodedBlockReader) blockReader).readEncoded(1)).thenReturn(Optional.of(EncodedBlock.of(block)));
+
+        // when
+        blockDownloadService.handleBlock(serverRequest, serverResponse);
+
+        // then the block is decompressed by the server, a client cannot without the dictionary
+        verify(serverResponse, never()).header(eq(HeaderNames.CONTENT_ENCODING), anyString());
+        verify(serverResponse).status(200);
+        assertThat(responseBody.toByteArray()).isEqualTo(block.toByteArray());
+        assertThat(metricsService.get(CompressedBlocksDownloaded).get()).isZero();
+    }
+
+    @Test
+    public void testHandleBlockZstdNotAccepted() throws IOException, ParseException {
+        // given
+        givenRequest("1", "gzip, zstd;q=0");
+        when(((EncodedBlockReader) blockReader).readEncoded(1)).thenReturn(Optional.of(EncodedBlock.of(block)));
+
+        // when
+        blockDownloadService.handleBlock(serverRequest, serverResponse);
+
+        // then the block is read decompressed, not as it is stored
+        verify((StoredBlockReader) blockReader, never()).readStored(1);
+        verify(serverResponse, never()).header(eq(HeaderNames.CONTENT_ENCODING), anyString());
+        verify(serverResponse).status(200);
+        assertThat(responseBody.toByteArray()).isEqualTo(block.toByteArray());
+        assertThat(metricsService.get(BlocksDownloaded).get()).isEqualTo(1L);
+        assertThat(metricsService.get(CompressedBlocksDownloaded).get()).isZero();
+    }
+
+    @Test
+    public void testHandleBlockUncompressed() throws IOException {
+        // given
+        givenRequest("1", "zstd");
+        when(((StoredBlockReader) blockReader).readStored(1))
+                .thenReturn(Optional.of(new StoredBlock(block, CompressionType.NONE)));
+
+        // when
+        blockDownloadService.handleBlock(serverRequest, serverResponse);
+
+        // then
+        verify(serverResponse, never()).header(eq(HeaderNames.CONTENT_ENCODING), anyString());
+        assertThat(responseBody.toByteArray()).isEqualTo(block.toByteArray());
+    }
+
+    @Test
+    public void testHandleBlockThroughBlockCache() throws IOException, ParseException {
+        // given a block cache over the storage
+        final BlockAsLocalFileReader storageReader = mock(BlockAsLocalFileReader.class);
+        final PersistenceStorageConfig persistenceStorageConfig = ConfigurationBuilder.create()
+                .withConfigDataType(PersistenceStorageConfig.class)
+                .build()
+                .getConfigData(PersistenceStorageConfig.class);
+        blockDownloadService = new BlockDownloadServiceImpl(
+                serviceStatus,
+                CachingBlockReader.of(storageReader, persistenceStorageConfig, metricsService),
+                metricsService);
+        final byte[] stored = Zstd.compress(block.toByteArray());
+        when(storageReader.readStored(1))
+                .thenReturn(Optional.of(new StoredBlock(Bytes.wrap(stored), CompressionType.ZSTD)));
+        when(storageReader.readEncoded(1)).thenReturn(Optional.of(EncodedBlock.of(block)));
+
+        // when the block is downloaded compressed, then twice decompressed
+        givenRequest("1", "zstd");
+        blockDownloadService.handleBlock(serverRequest, serverResponse);
+        final byte[] compressedBody = responseBody.toByteArray();
+        givenRequest("1", null);
+        responseBody = new ByteArrayOutputStream();
+        blockDownloadService.handleBlock(serverRequest, serverResponse);
+        final byte[] firstBody = responseBody.toByteArray();
+        givenRequest("1", null);
+        responseBody = new ByteArrayOutputStream();
+        blockDownloadService.handleBlock(serverRequest, serverResponse);
+        final byte[] secondBody = responseBody.toByteArray();
+        // and compressed again once it is cached
+        givenRequest("1", "zstd");
+        responseBody = new ByteArrayOutputStream();
+        blockDownloadService.handleBlock(serverRequest, serverResponse);
+
+        // then the stored frame is sent compressed, and the block is decompressed once and then cached
+        assertThat(compressedBody).isEqualTo(stored);
+        assertThat(firstBody).isEqualTo(block.toByteArray());
+        assertThat(secondBody).isEqualTo(block.toByteArray());
+        assertThat(responseBody.toByteArray()).isEqualTo(stored);
+        verify(storageReader, times(1)).readEncoded(1);
+        assertThat(metricsService.get(BlocksDownloaded).get()).isEqualTo(4L);
+        assertThat(metricsService.get(CompressedBlocksDownloaded).get()).isEqualTo(2L);
+    }
+
+    @Test
+    public void testHandleBlockNotFound() throws IOException, ParseException {
+        // given
+        givenRequest("1", null);
+        when(((EncodedBlockReader) blockReader).readEncoded(1)).thenReturn(Optional.empty());
+
+        // when
+        blockDownloadService.handleBlock(serverRequest, serverResponse);
+
+        // then
+        verify(serverResponse).status(404);
+        verify(serverResponse).send("Block not found");
+    }
+
+    @Test
+    public void testHandleBlockInvalidBlockNumber() {
+        // given
+        when(serviceStatus.isRunning()).thenReturn(true);
+        when(serverRequest.path().pathParameters().get("blockNumber")).thenReturn("-1");
+        when(serverResponse.status(400)).thenReturn(serverResponse);
+
+        // when
+        blockDownloadService.handleBlock(serverRequest, serverResponse);
+
+        // then
+        verify(serverResponse).send("Invalid block number");
+    }
+
+    @Test
+    public void testHandleBlockNotRunning() {
+        // given
+        when(serviceStatus.isRunning()).thenReturn(false);
+        when(serverResponse.status(503)).thenReturn(serverResponse);
+
+        // when
+        blockDownloadService.handleBlock(serverRequest, serverResponse);
+
+        // then
+        verify(serverResponse).send("Service is not running");
+    }
+
+    private void givenRequest(final String blockNumber, final String acceptEncoding) {
+        when(serviceStatus.isRunning()).thenReturn(true);
+        when(serverRequest.path().pathParameters().get("blockNumber")).thenReturn(blockNumber);
+        when(serverRequest.headers()).thenReturn(serverRequestHeaders);
+        when(serverRequestHeaders.contains(HeaderNames.ACCEPT_ENCODING)).thenReturn(acceptEncoding != null);
+        if (acceptEncoding != null) {
+            when(serverRequestHeaders.get(HeaderNames.ACCEPT_ENCODING))
+                    .thenReturn(HeaderValues.create(HeaderNames.ACCEPT_ENCODING, acceptEncoding));
+        }
+        when(serverResponse.status(anyInt())).thenReturn(serverResponse);
+        // the response body is only written once the block is found
+        lenient().when(serverResponse.outputStream()).thenAnswer(invocation -> responseBody);
+    }
+}
@@ -0,0 +1,75 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+
+public class DataAvailableSignalTest {
+
+    @Test
+    public void testAwaitReturnsImmediatelyWhenDataAvailable() {
+        final DataAvailableSignal signal = new DataAvailableSignal();
+        assertEquals(0L, signal.await(() -> true, 0, TimeUnit.SECONDS.toNanos(10)));
+    }
+
+    @Test
+    public void testAwaitTimesOutWithoutData() {
+        final DataAvailableSignal signal = new DataAvailableSignal();
+        final long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(20);
+
+        final long start = System.nanoTime();
+        assertEquals(DataAvailableSignal.NOT_AVAILABLE, signal.await(() -> false, 10, timeoutNanos));
+        assertTrue(System.nanoTime() - start >= timeoutNanos);
+    }
+
+    @Test
+    public void testSignalWakesUpParkedWaiter() {
+        final DataAvailableSignal signal = new DataAvailableSignal();
+        final AtomicBoolean dataAvailable = new AtomicBoolean(false);
+
+        final CompletableFuture<Long> waiter = CompletableFuture.supplyAsync(
+                () -> signal.await(dataAvailable::get, 0, TimeUnit.SECONDS.toNanos(30)));
+
+        // The waiter must wake up long before its 30 second timeout
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            while (!waiter.isDone()) {
+                dataAvailable.set(true);
+                signal.signal();
+                Thread.sleep(1);
+            }
+            assertNotEquals(DataAvailableSignal.NOT_AVAILABLE, waiter.join());
+        });
+    }
+
+    @Test
+    public void testSingleSignalWakesUpAllParkedWaiters() {
+        final DataAvailableSignal signal = new DataAvailableSignal();
+        final AtomicBoolean dataAvailable = new AtomicBoolean(false);
+
+        final List<CompletableFuture<Long>> waiters = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            waiters.add(CompletableFuture.supplyAsync(
+                    () -> signal.await(dataAvailable::get, 0, TimeUnit.SECONDS.toNanos(30))));
+        }
+
+        // Every waiter passes the wakeup on, so one signal reaches all of them
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            Thread.sleep(50);
+            dataAvailable.set(true);
+            signal.signal();
+            for (final CompletableFuture<Long> waiter : waiters) {
+                assertNotEquals(DataAvailableSignal.NOT_AVAILABLE, waiter.join());
+            }
+        });
+    }
+}
@@ -0,0 +1,112 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.mediator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.hedera.hapi.block.BlockItemSetUnparsed;
+import com.hedera.hapi.block.BlockItemUnparsed;
+import com.hedera.hapi.block.SubscribeStreamResponseUnparsed;
+import com.hedera.hapi.block.stream.output.BlockHeader;
+import com.hedera.pbj.runtime.ParseException;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import java.util.List;
+import org.hiero.block.server.block.BlockItemBatchMetadata;
+import org.junit.jupiter.api.Test;
+
+public class LiveStreamEventTest {
+
+    @Test
+    public void testEncodedResponseMatchesBlockItems() {
+        final List<BlockItemUnparsed> blockItems = blockItemsForBlock(1);
+        final LiveStreamEvent event = new LiveStreamEvent();
+        event.set(blockItems);
+
+        final SubscribeStreamResponseUnparsed expected = SubscribeStreamResponseUnparsed.newBuilder()
+                .blockItems(BlockItemSetUnparsed.newBuilder()
+                        .blockItems(blockItems)
+                        .build())
+                .build();
+
+        assertEquals(SubscribeStreamResponseUnparsed.PROTOBUF.toBytes(expected), event.encodedResponse());
+    }
+
+    @Test
+    public void testEncodedResponseIsComputedOnce() {
+        final LiveStreamEvent event = new LiveStreamEvent();
+        event.set(blockItemsForBlock(1));
+
+        final Bytes first = event.encodedResponse();
+        assertSame(first, event.encodedResponse());
+    }
+
+    @Test
+    public void testEncodedResponseResetOnSet() {
+        final LiveStreamEvent event = new LiveStreamEvent();
+        event.set(blockItemsForBlock(1));
+        final Bytes first = event.encodedResponse();
+
+        // Reusing the ring buffer slot must not leak the previous response
+        event.set(blockItemsForBlock(2));
+        assertNotEquals(first, event.encodedResponse());
+    }
+
+    @Test
+    public void testCopyIsDetachedFromSlotReuse() {
+        final List<BlockItemUnparsed> blockItems = blockItemsForBlock(1);
+        final LiveStreamEvent event = new LiveStreamEvent();
+        event.set(blockItems);
+
+        final LiveStreamEvent copy = event.copy();
+        final Bytes encoded = copy.encodedResponse();
+
+        // The copy shares the encoded response with the slot
+        assertSame(encoded, event.encodedResponse());
+
+        // Reusing the slot does not change the copy
+        event.set(blockItemsForBlock(2));
+        assertEquals(blockItems, copy.get());
+        assertSame(encoded, copy.encodedResponse());
+    }
+
+    @Test
+    public void testReleasedEventFailsClearly() {
+        final LiveStreamEvent event = new LiveStreamEvent();
+        event.set(blockItemsForBlock(1));
+        event.clear();
+
+        assertThrows(IllegalStateException.class, event::get);
+        assertThrows(IllegalStateException.class, event::metadata);
+        assertThrows(IllegalStateException.class, event::encodedResponse);
+    }
+
+    @Test
+    public void testMetadataIsCarriedWithTheBatch() throws ParseException {
+        final List<BlockItemUnparsed> blockItems = blockItemsForBlock(1);
+        final BlockItemBatchMetadata metadata = BlockItemBatchMetadata.parse(blockItems);
+        final LiveStreamEvent event = new LiveStreamEvent();
+        event.set(blockItems, metadata);
+
+        assertEquals(1, metadata.blockNumber());
+        assertTrue(metadata.startsWithBlockHeader());
+        assertSame(metadata, LiveStreamEvent.metadataOf(event));
+        assertSame(metadata, event.copy().metadata());
+
+        // Reusing the slot without metadata must not leak the previous metadata
+        event.set(blockItemsForBlock(2));
+        assertNull(event.metadata());
+        assertEquals(2, LiveStreamEvent.metadataOf(event).blockNumber());
+    }
+
+    private static List<BlockItemUnparsed> blockItemsForBlock(final long blockNumber) {
+        final BlockHeader blockHeader =
+                BlockHeader.newBuilder().number(blockNumber).build();
+        return List.of(BlockItemUnparsed.newBuilder()
+                .blockHeader(BlockHeader.PROTOBUF.toBytes(blockHeader))
+                .build());
+    }
+}
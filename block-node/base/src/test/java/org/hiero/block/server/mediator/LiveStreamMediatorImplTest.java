@@ -1,16 +1,23 @@
 // SPDX-License-Identifier: Apache-2.0
 package org.hiero.block.server.mediator;
 
+import static com.lmax.disruptor.dsl.ProducerType.MULTI;
+import static com.lmax.disruptor.dsl.ProducerType.SINGLE;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hiero.block.server.mediator.WaitStrategyType.BLOCKING;
 import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.BlocksPersisted;
 import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.LiveBlockItems;
 import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Gauge.Consumers;
+import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Gauge.MediatorRetainedBytes;
 import static org.hiero.block.server.util.PersistTestUtils.PERSISTENCE_STORAGE_ARCHIVE_ROOT_PATH_KEY;
 import static org.hiero.block.server.util.PersistTestUtils.PERSISTENCE_STORAGE_LIVE_ROOT_PATH_KEY;
 import static org.hiero.block.server.util.PersistTestUtils.PERSISTENCE_STORAGE_UNVERIFIED_ROOT_PATH_KEY;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -26,10 +33,16 @@ import com.swirlds.config.api.Configuration;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.time.InstantSource;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import org.hiero.block.server.ack.AckHandler;
 import org.hiero.block.server.consumer.ConsumerConfig;
 import org.hiero.block.server.consumer.ConsumerStreamBuilder;
@@ -43,12 +56,15 @@ import org.hiero.block.server.persistence.storage.PersistenceStorageConfig;
 import org.hiero.block.server.persistence.storage.archive.LocalBlockArchiver;
 import org.hiero.block.server.persistence.storage.path.BlockPathResolver;
 import org.hiero.block.server.persistence.storage.read.BlockReader;
+import org.hiero.block.server.persistence.storage.read.NoOpBlockCache;
+import org.hiero.block.server.persistence.storage.recovery.NoOpUnverifiedBlockRecovery;
+import org.hiero.block.server.persistence.storage.remove.NoOpBlockPruner;
+import org.hiero.block.server.persistence.storage.remove.NoOpBlockRemover;
 import org.hiero.block.server.persistence.storage.write.AsyncBlockWriterFactory;
 import org.hiero.block.server.persistence.storage.write.AsyncNoOpWriterFactory;
 import org.hiero.block.server.service.ServiceConfig;
 import org.hiero.block.server.service.ServiceStatus;
 import org.hiero.block.server.service.ServiceStatusImpl;
-import org.hiero.block.server.util.BlockingExecutorService;
 import org.hiero.block.server.util.PersistTestUtils;
 import org.hiero.block.server.util.TestConfigUtil;
 import org.junit.jupiter.api.BeforeEach;
@@ -56,6 +72,8 @@ import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -177,8 +195,8 @@ class LiveStreamMediatorImplTest {
 
     @Test
     void testMediatorPersistenceWithoutSubscribers() throws IOException, InterruptedException {
-        // 1 block is expected to be processed, so the expected tasks param is set to 1
-        final BlockingExecutorService executor = new BlockingExecutorService(1, 1);
+        // the writer lanes are long-lived tasks, so each of them needs a thread of its own
+        final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
         final ServiceStatus serviceStatus = new ServiceStatusImpl(serviceConfig);
         final LiveStreamMediator streamMediator = LiveStreamMediatorBuilder.newBuilder(
                         metricsService, mediatorConfig, serviceStatus)
@@ -199,14 +217,21 @@ class LiveStreamMediatorImplTest {
                 executor,
                 archiverMock,
                 pathResolverMock,
-                persistenceStorageConfig);
+                persistenceStorageConfig,
+                NoOpBlockCache.newInstance(),
+                NoOpBlockPruner.newInstance(),
+                NoOpBlockRemover.newInstance(),
+                NoOpUnverifiedBlockRecovery.newInstance());
         streamMediator.subscribe(handler);
 
         // Acting as a producer, notify the mediator of a new block
         streamMediator.publish(blockItemUnparsed);
 
-        // Wait all the tasks to complete before the assertions to avoid flakiness
-        executor.waitTasksToComplete();
+        // Wait for the block to be persisted before the assertions to avoid flakiness
+        final long deadline = System.currentTimeMillis() + TEST_TIMEOUT;
+        while (metricsService.get(BlocksPersisted).get() < 1 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
 
         // Verify the counter was incremented
         assertEquals(10, metricsService.get(LiveBlockItems).get());
@@ -292,7 +317,11 @@ class LiveStreamMediatorImplTest {
                 executorMock,
                 archiverMock,
                 pathResolverMock,
-                persistenceStorageConfig);
+                persistenceStorageConfig,
+                NoOpBlockCache.newInstance(),
+                NoOpBlockPruner.newInstance(),
+                NoOpBlockRemover.newInstance(),
+                NoOpUnverifiedBlockRecovery.newInstance());
         streamMediator.subscribe(handler);
 
         // Acting as a producer, notify the mediator of a new block
@@ -311,7 +340,7 @@ class LiveStreamMediatorImplTest {
         verify(helidonResponseStreamObserver3, timeout(TEST_TIMEOUT).times(1)).onNext(subscribeStreamResponse);
 
         // Confirm Writer created
-        verify(asyncBlockWriterFactoryMock, timeout(TEST_TIMEOUT).times(1)).create(1L);
+        verify(asyncBlockWriterFactoryMock, timeout(TEST_TIMEOUT).times(1)).create(eq(1L), anyInt());
     }
 
     @Test
@@ -349,6 +378,234 @@ class LiveStreamMediatorImplTest {
         assertEquals(0L, metricsService.get(Consumers).get());
     }
 
+    @Test
+    void testPollerExceedsThresholdWhenLagging() throws Exception {
+        final MediatorConfig thresholdMediatorConfig = new MediatorConfig(
+                4, MediatorConfig.MediatorType.PRODUCTION, 50, true, 1, 536870912L, 0, 1024, BLOCKING, MULTI);
+        final LiveStreamMediator streamMediator = LiveStreamMediatorBuilder.newBuilder(
+                        metricsService, thresholdMediatorConfig, new ServiceStatusImpl(serviceConfig))
+                .build();
+
+        final StreamManager streamManager = () -> true;
+        final Poller<ObjectEvent<List<BlockItemUnparsed>>> poller = streamMediator.subscribePoller(streamManager);
+
+        // 1 of 4 slots behind is within the 50% threshold
+        streamMediator.publish(PersistTestUtils.generateBlockItemsUnparsedForWithBlockNumber(1));
+        assertFalse(poller.exceedsThreshold());
+
+        // 3 of 4 slots behind exceeds the 50% threshold
+        streamMediator.publish(PersistTestUtils.generateBlockItemsUnparsedForWithBlockNumber(2));
+        streamMediator.publish(PersistTestUtils.generateBlockItemsUnparsedForWithBlockNumber(3));
+        assertTrue(poller.exceedsThreshold());
+
+        // Catching up brings the poller back within the threshold
+        for (int i = 0; i < 3; i++) {
+            assertTrue(poller.poll().isPresent());
+        }
+        assertFalse(poller.exceedsThreshold());
+    }
+
+    @Test
+    void testPollerDrainsAvailableEventsInOnePoll() throws Exception {
+        final MediatorConfig batchingMediatorConfig = new MediatorConfig(
+                4, MediatorConfig.MediatorType.PRODUCTION, 10, true, 16, 536870912L, 0, 1024, BLOCKING, MULTI);
+        final LiveStreamMediator streamMediator = LiveStreamMediatorBuilder.newBuilder(
+                        metricsService, batchingMediatorConfig, new ServiceStatusImpl(serviceConfig))
+                .build();
+
+        final StreamManager streamManager = () -> true;
+        final Poller<ObjectEvent<List<BlockItemUnparsed>>> poller = streamMediator.subscribePoller(streamManager);
+
+        final List<List<BlockItemUnparsed>> published = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            final List<BlockItemUnparsed> blockItems = PersistTestUtils.generateBlockItemsUnparsedForWithBlockNumber(i);
+            published.add(blockItems);
+            streamMediator.publish(blockItems);
+        }
+
+        // The first poll drains every available event, releasing their slots to the publisher
+        assertEquals(published.get(0), poller.poll().orElseThrow().get());
+        assertFalse(poller.exceedsThreshold());
+
+        // The drained events are returned in order, even after the slots are reused
+        for (int i = 4; i <= 6; i++) {
+            streamMediator.publish(PersistTestUtils.generateBlockItemsUnparsedForWithBlockNumber(i));
+        }
+        assertEquals(published.get(1), poller.poll().orElseThrow().get());
+        assertEquals(published.get(2), poller.poll().orElseThrow().get());
+    }
+
+    @Test
+    void testPublishWaitsForRetainedBytesBudget() throws Exception {
+        final List<BlockItemUnparsed> block1 = PersistTestUtils.generateBlockItemsUnparsedForWithBlockNumber(1);
+        final List<BlockItemUnparsed> block2 = PersistTestUtils.generateBlockItemsUnparsedForWithBlockNumber(2);
+        final List<BlockItemUnparsed> block3 = PersistTestUtils.generateBlockItemsUnparsedForWithBlockNumber(3);
+        final long maxBlockBytes = Math.max(measure(block1), Math.max(measure(block2), measure(block3)));
+
+        // The budget only fits 2 of the batches
+        final MediatorConfig budgetMediatorConfig = new MediatorConfig(
+                16, MediatorConfig.MediatorType.PRODUCTION, 90, true, 1, 2 * maxBlockBytes, 0, 1024, BLOCKING, MULTI);
+        final LiveStreamMediator streamMediator = LiveStreamMediatorBuilder.newBuilder(
+                        metricsService, budgetMediatorConfig, new ServiceStatusImpl(serviceConfig))
+                .build();
+
+        final StreamManager streamManager = () -> true;
+        final Poller<ObjectEvent<List<BlockItemUnparsed>>> poller = streamMediator.subscribePoller(streamManager);
+
+        streamMediator.publish(block1);
+        streamMediator.publish(block2);
+        assertEquals(measure(block1) + measure(block2), metricsService.get(MediatorRetainedBytes).get());
+
+        // The ring buffer has free slots, but the next batch exceeds the budget
+        final CompletableFuture<Void> blockedPublish = CompletableFuture.runAsync(() -> streamMediator.publish(block3));
+        Thread.sleep(100);
+        assertFalse(blockedPublish.isDone());
+
+        // Consuming the oldest batch releases it and makes room for the next one
+        assertEquals(block1, poller.poll().orElseThrow().get());
+        blockedPublish.get(5, TimeUnit.SECONDS);
+        assertEquals(measure(block2) + measure(block3), metricsService.get(MediatorRetainedBytes).get());
+    }
+
+    @Test
+    void testPublishCountsRelayedCopiesAgainstRetainedBytesBudget() throws Exception {
+        final List<BlockItemUnparsed> block1 = PersistTestUtils.generateBlockItemsUnparsedForWithBlockNumber(1);
+        final List<BlockItemUnparsed> block2 = PersistTestUtils.generateBlockItemsUnparsedForWithBlockNumber(2);
+        final List<BlockItemUnparsed> block3 = PersistTestUtils.generateBlockItemsUnparsedForWithBlockNumber(3);
+        final long maxBlockBytes = Math.max(measure(block1), Math.max(measure(block2), measure(block3)));
+
+        // The budget only fits 2 of the batches, the relay ring holds more
+        final MediatorConfig budgetMediatorConfig = new MediatorConfig(
+                16, MediatorConfig.MediatorType.PRODUCTION, 90, true, 1, 2 * maxBlockBytes, 1, 16, BLOCKING, MULTI);
+        final LiveStreamMediator streamMediator = LiveStreamMediatorBuilder.newBuilder(
+                        metricsService, budgetMediatorConfig, new ServiceStatusImpl(serviceConfig))
+                .build();
+
+        final StreamManager streamManager = () -> true;
+        final Poller<ObjectEvent<List<BlockItemUnparsed>>> poller = streamMediator.subscribePoller(streamManager);
+
+        streamMediator.publish(block1);
+        streamMediator.publish(block2);
+
+        // The relay consumes the ring buffer, but its copies still retain the batches
+        final CompletableFuture<Void> blockedPublish = CompletableFuture.runAsync(() -> streamMediator.publish(block3));
+        Thread.sleep(100);
+        assertFalse(blockedPublish.isDone());
+        assertEquals(measure(block1) + measure(block2), metricsService.get(MediatorRetainedBytes).get());
+
+        // Consuming the oldest copy from the relay makes room for the next batch
+        assertEquals(block1, awaitPoll(poller).get());
+        blockedPublish.get(5, TimeUnit.SECONDS);
+        assertEquals(measure(block2) + measure(block3), metricsService.get(MediatorRetainedBytes).get());
+    }
+
+    @Test
+    void testNonGatingPollerReceivesEvents() throws Exception {
+        final MediatorConfig nonGatingMediatorConfig = new MediatorConfig(
+                4, MediatorConfig.MediatorType.PRODUCTION, 90, false, 16, 536870912L, 0, 1024, BLOCKING, MULTI);
+        final LiveStreamMediator streamMediator = LiveStreamMediatorBuilder.newBuilder(
+                        metricsService, nonGatingMediatorConfig, new ServiceStatusImpl(serviceConfig))
+                .build();
+
+        final StreamManager streamManager = () -> true;
+        final Poller<ObjectEvent<List<BlockItemUnparsed>>> poller = streamMediator.subscribePoller(streamManager);
+
+        final List<BlockItemUnparsed> blockItems = PersistTestUtils.generateBlockItemsUnparsedForWithBlockNumber(1);
+        streamMediator.publish(blockItems);
+
+        final Optional<ObjectEvent<List<BlockItemUnparsed>>> polled = poller.poll();
+        assertTrue(polled.isPresent());
+        assertEquals(blockItems, polled.get().get());
+        assertFalse(poller.isOverrun());
+    }
+
+    @Test
+    void testNonGatingPollerOverrunDoesNotBlockPublisher() throws Exception {
+        final MediatorConfig nonGatingMediatorConfig = new MediatorConfig(
+                4, MediatorConfig.MediatorType.PRODUCTION, 90, false, 16, 536870912L, 0, 1024, BLOCKING, MULTI);
+        final LiveStreamMediator streamMediator = LiveStreamMediatorBuilder.newBuilder(
+                        metricsService, nonGatingMediatorConfig, new ServiceStatusImpl(serviceConfig))
+                .build();
+
+        final StreamManager streamManager = () -> true;
+        final Poller<ObjectEvent<List<BlockItemUnparsed>>> poller = streamMediator.subscribePoller(streamManager);
+
+        // Publish twice the ring buffer size without polling. A gating
+        // poller would hold back the publisher once the ring is full.
+        for (int i = 1; i <= 8; i++) {
+            streamMediator.publish(PersistTestUtils.generateBlockItemsUnparsedForWithBlockNumber(i));
+        }
+
+        // The overrun poller must not return events from the reused slots
+        assertTrue(poller.poll().isEmpty());
+        assertTrue(poller.isOverrun());
+    }
+
+    @Test
+    void testFanOutRelaysEventsToEveryPoller() throws Exception {
+        // Each relay serves up to 2 pollers, so 3 pollers are spread over 2 relays
+        final MediatorConfig fanOutMediatorConfig = new MediatorConfig(
+                4, MediatorConfig.MediatorType.PRODUCTION, 90, true, 16, 536870912L, 2, 16, BLOCKING, MULTI);
+        final LiveStreamMediator streamMediator = LiveStreamMediatorBuilder.newBuilder(
+                        metricsService, fanOutMediatorConfig, new ServiceStatusImpl(serviceConfig))
+                .build();
+
+        final List<StreamManager> streamManagers = List.of(() -> true, () -> true, () -> true);
+        final List<Poller<ObjectEvent<List<BlockItemUnparsed>>>> pollers = new ArrayList<>();
+        for (final StreamManager streamManager : streamManagers) {
+            pollers.add(streamMediator.subscribePoller(streamManager));
+        }
+        assertEquals(3L, metricsService.get(Consumers).get());
+
+        // Publish more batches than the mediator ring buffer holds
+        final List<List<BlockItemUnparsed>> published = new ArrayList<>();
+        for (int i = 1; i <= 6; i++) {
+            final List<BlockItemUnparsed> blockItems = PersistTestUtils.generateBlockItemsUnparsedForWithBlockNumber(i);
+            published.add(blockItems);
+            streamMediator.publish(blockItems);
+        }
+
+        // Every poller receives every batch, in order, from its relay
+        for (final Poller<ObjectEvent<List<BlockItemUnparsed>>> poller : pollers) {
+            for (final List<BlockItemUnparsed> blockItems : published) {
+                assertEquals(blockItems, awaitPoll(poller).get());
+            }
+        }
+
+        for (final StreamManager streamManager : streamManagers) {
+            streamMediator.unsubscribePoller(streamManager);
+            assertFalse(streamMediator.isSubscribed(streamManager));
+        }
+        assertEquals(0L, metricsService.get(Consumers).get());
+
+        // The stopped relays no longer hold back the publisher
+        for (int i = 7; i <= 12; i++) {
+            streamMediator.publish(PersistTestUtils.generateBlockItemsUnparsedForWithBlockNumber(i));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(WaitStrategyType.class)
+    void testHandlerReceivesEventsWithWaitStrategy(final WaitStrategyType waitStrategy) throws Exception {
+        final MediatorConfig profileMediatorConfig = new MediatorConfig(
+                16, MediatorConfig.MediatorType.PRODUCTION, 90, true, 16, 536870912L, 0, 1024, waitStrategy, SINGLE);
+        final LiveStreamMediator streamMediator = LiveStreamMediatorBuilder.newBuilder(
+                        metricsService, profileMediatorConfig, new ServiceStatusImpl(serviceConfig))
+                .build();
+
+        streamMediator.subscribe(observer1);
+
+        final List<BlockItemUnparsed> blockItems = PersistTestUtils.generateBlockItemsUnparsedForWithBlockNumber(1);
+        streamMediator.publish(blockItems);
+
+        // The handler thread waits for the event with the configured strategy
+        verify(observer1, timeout(TEST_TIMEOUT))
+                .onEvent(argThat(event -> blockItems.equals(event.get())), eq(0L), eq(true));
+
+        streamMediator.unsubscribe(observer1);
+        assertFalse(streamMediator.isSubscribed(observer1));
+    }
+
     @Disabled("@todo(303), @todo(306) - adapt these tests once #303 and #306 are resolved")
     @Test
     void testOnCancelSubscriptionHandling() throws IOException {
@@ -559,7 +816,7 @@ class LiveStreamMediatorImplTest {
         // timeout(TEST_TIMEOUT).times(1)).onNext(endOfStreamResponse);
         //
         //        // Confirm Writer created
-        //        verify(asyncBlockWriterFactoryMock, timeout(TEST_TIMEOUT).times(1)).create(1L);
+        //        verify(asyncBlockWriterFactoryMock, timeout(TEST_TIMEOUT).times(1)).create(eq(1L), anyInt());
     }
 
     @Test
@@ -579,7 +836,11 @@ class LiveStreamMediatorImplTest {
                 executorMock,
                 archiverMock,
                 pathResolverMock,
-                persistenceStorageConfig);
+                persistenceStorageConfig,
+                NoOpBlockCache.newInstance(),
+                NoOpBlockPruner.newInstance(),
+                NoOpBlockRemover.newInstance(),
+                NoOpUnverifiedBlockRecovery.newInstance());
         streamMediator.subscribe(handler);
 
         final StreamManager streamManager = ConsumerStreamBuilder.buildStreamManager(
@@ -604,4 +865,25 @@ class LiveStreamMediatorImplTest {
         // Confirm the stream validator is still subscribed
         assertTrue(streamMediator.isSubscribed(handler));
     }
+
+    private static ObjectEvent<List<BlockItemUnparsed>> awaitPoll(
+            final Poller<ObjectEvent<List<BlockItemUnparsed>>> poller) throws Exception {
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(TEST_TIMEOUT);
+        while (System.nanoTime() < deadline) {
+            final Optional<ObjectEvent<List<BlockItemUnparsed>>> polled = poller.poll();
+            if (polled.isPresent()) {
+                return polled.get();
+            }
+            poller.awaitData(0, TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        throw new AssertionError("No event polled within the timeout");
+    }
+
+    private static long measure(final List<BlockItemUnparsed> blockItems) {
+        long bytes = 0;
+        for (final BlockItemUnparsed blockItem : blockItems) {
+            bytes += BlockItemUnparsed.PROTOBUF.measureRecord(blockItem);
+        }
+        return bytes;
+    }
 }
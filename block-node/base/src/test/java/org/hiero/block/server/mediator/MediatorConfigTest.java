@@ -1,6 +1,8 @@
 // SPDX-License-Identifier: Apache-2.0
 package org.hiero.block.server.mediator;
 
+import static com.lmax.disruptor.dsl.ProducerType.MULTI;
+import static org.hiero.block.server.mediator.WaitStrategyType.BLOCKING;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -11,16 +13,20 @@ import org.junit.jupiter.params.provider.ValueSource;
 
 public class MediatorConfigTest {
 
+    private static final long MAX_RETAINED_BYTES = 536870912L;
+
     @Test
     public void testMediatorConfig_happyPath() {
-        MediatorConfig mediatorConfig = new MediatorConfig(2048, null, 90);
+        MediatorConfig mediatorConfig =
+                new MediatorConfig(2048, null, 90, true, 16, MAX_RETAINED_BYTES, 0, 1024, BLOCKING, MULTI);
         assertEquals(2048, mediatorConfig.ringBufferSize());
     }
 
     @Test
     public void testMediatorConfig_negativeRingBufferSize() {
-        IllegalArgumentException exception =
-                assertThrows(IllegalArgumentException.class, () -> new MediatorConfig(-1, null, 90));
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> new MediatorConfig(-1, null, 90, true, 16, MAX_RETAINED_BYTES, 0, 1024, BLOCKING, MULTI));
         assertEquals("Mediator Ring Buffer Size must be positive", exception.getMessage());
     }
 
@@ -31,14 +37,17 @@ public class MediatorConfigTest {
 
         // Test the power of 2 values
         for (int powerOf2Value : powerOf2Values) {
-            MediatorConfig mediatorConfig = new MediatorConfig(powerOf2Value, null, 90);
+            MediatorConfig mediatorConfig =
+                    new MediatorConfig(powerOf2Value, null, 90, true, 16, MAX_RETAINED_BYTES, 0, 1024, BLOCKING, MULTI);
             assertEquals(powerOf2Value, mediatorConfig.ringBufferSize());
         }
 
         // Test the non-power of 2 values
         for (int powerOf2Value : powerOf2Values) {
-            IllegalArgumentException exception =
-                    assertThrows(IllegalArgumentException.class, () -> new MediatorConfig(powerOf2Value + 1, null, 90));
+            IllegalArgumentException exception = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> new MediatorConfig(
+                            powerOf2Value + 1, null, 90, true, 16, MAX_RETAINED_BYTES, 0, 1024, BLOCKING, MULTI));
             assertEquals("Mediator Ring Buffer Size must be a power of 2", exception.getMessage());
         }
     }
@@ -46,15 +55,53 @@ public class MediatorConfigTest {
     @ParameterizedTest
     @ValueSource(ints = {0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 91, 92, 93, 94, 95, 96, 97, 98, 99})
     public void testInvalidHistoricTransitionThresholdPercentage(int value) {
-        IllegalArgumentException exception =
-                assertThrows(IllegalArgumentException.class, () -> new MediatorConfig(2048, null, value));
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> new MediatorConfig(2048, null, value, true, 16, MAX_RETAINED_BYTES, 0, 1024, BLOCKING, MULTI));
         assertEquals("Historic Transition Threshold Percentage must be between 10 and 90", exception.getMessage());
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1, -16})
+    public void testInvalidPollerBatchSize(int value) {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> new MediatorConfig(2048, null, 90, true, value, MAX_RETAINED_BYTES, 0, 1024, BLOCKING, MULTI));
+        assertEquals("Mediator Poller Batch Size must be positive", exception.getMessage());
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, -1, -1024})
+    public void testInvalidMaxRetainedBytes(long value) {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> new MediatorConfig(2048, null, 90, true, 16, value, 0, 1024, BLOCKING, MULTI));
+        assertEquals("Mediator Max Retained Bytes must be positive", exception.getMessage());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, -16})
+    public void testInvalidFanOutConsumersPerRelay(int value) {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> new MediatorConfig(2048, null, 90, true, 16, MAX_RETAINED_BYTES, value, 1024, BLOCKING, MULTI));
+        assertEquals("Mediator Fan Out Consumers Per Relay must not be negative", exception.getMessage());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {3, 100, 1000})
+    public void testInvalidFanOutRelayRingBufferSize(int value) {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> new MediatorConfig(2048, null, 90, true, 16, MAX_RETAINED_BYTES, 256, value, BLOCKING, MULTI));
+        assertEquals("Mediator Fan Out Relay Ring Buffer Size must be a power of 2", exception.getMessage());
+    }
+
     @ParameterizedTest
     @ValueSource(ints = {10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 90})
     public void testValidHistoricTransitionThresholdPercentage(int value) {
-        MediatorConfig mediatorConfig = new MediatorConfig(2048, null, value);
+        MediatorConfig mediatorConfig =
+                new MediatorConfig(2048, null, value, true, 16, MAX_RETAINED_BYTES, 0, 1024, BLOCKING, MULTI);
         assertEquals(value, mediatorConfig.historicTransitionThresholdPercentage());
     }
 }
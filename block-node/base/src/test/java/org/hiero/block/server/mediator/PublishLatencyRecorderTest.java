@@ -0,0 +1,60 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.mediator;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.longThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.swirlds.metrics.api.LongGauge;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PublishLatencyRecorderTest {
+
+    @Mock
+    private LongGauge latencyGauge;
+
+    @Test
+    void testReportsPercentileOnceWindowIsFull() {
+        final PublishLatencyRecorder.HandlerRecorder handlerRecorder =
+                new PublishLatencyRecorder(latencyGauge).forHandler();
+
+        // More than 1% of the samples are a second late
+        final int lateSamples = PublishLatencyRecorder.WINDOW_SIZE / 50;
+        final long latePublishedNanos = System.nanoTime() - TimeUnit.SECONDS.toNanos(1);
+        for (int i = 0; i < lateSamples; i++) {
+            handlerRecorder.record(latePublishedNanos);
+        }
+        for (int i = lateSamples; i < PublishLatencyRecorder.WINDOW_SIZE - 1; i++) {
+            handlerRecorder.record(System.nanoTime());
+        }
+        verify(latencyGauge, never()).set(anyLong());
+
+        handlerRecorder.record(System.nanoTime());
+        verify(latencyGauge).set(longThat(micros -> micros >= TimeUnit.SECONDS.toMicros(1)));
+    }
+
+    @Test
+    void testReportsPercentileOfAllHandlers() {
+        final PublishLatencyRecorder publishLatencyRecorder = new PublishLatencyRecorder(latencyGauge);
+        final PublishLatencyRecorder.HandlerRecorder slowHandlerRecorder = publishLatencyRecorder.forHandler();
+        final PublishLatencyRecorder.HandlerRecorder fastHandlerRecorder = publishLatencyRecorder.forHandler();
+
+        // Only the slow handler is late, for more than 1% of the samples of both handlers
+        final int lateSamples = PublishLatencyRecorder.BATCH_SIZE;
+        final long latePublishedNanos = System.nanoTime() - TimeUnit.SECONDS.toNanos(1);
+        for (int i = 0; i < lateSamples; i++) {
+            slowHandlerRecorder.record(latePublishedNanos);
+        }
+        for (int i = lateSamples; i < PublishLatencyRecorder.WINDOW_SIZE; i++) {
+            fastHandlerRecorder.record(System.nanoTime());
+        }
+
+        verify(latencyGauge).set(longThat(micros -> micros >= TimeUnit.SECONDS.toMicros(1)));
+    }
+}
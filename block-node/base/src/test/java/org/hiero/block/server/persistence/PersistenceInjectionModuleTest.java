@@ -22,22 +22,39 @@ import org.hiero.block.server.persistence.storage.PersistenceStorageConfig;
 import org.hiero.block.server.persistence.storage.PersistenceStorageConfig.CompressionType;
 import org.hiero.block.server.persistence.storage.PersistenceStorageConfig.StorageType;
 import org.hiero.block.server.persistence.storage.archive.BlockAsLocalFileArchiver;
+import org.hiero.block.server.persistence.storage.archive.BlockAsSegmentLogArchiver;
 import org.hiero.block.server.persistence.storage.archive.LocalBlockArchiver;
 import org.hiero.block.server.persistence.storage.compression.Compression;
 import org.hiero.block.server.persistence.storage.compression.NoOpCompression;
 import org.hiero.block.server.persistence.storage.compression.ZstdCompression;
-import org.hiero.block.server.persistence.storage.path.BlockAsLocalFilePathResolver;
+import org.hiero.block.server.persistence.storage.path.BlockAsSegmentLogPathResolver;
 import org.hiero.block.server.persistence.storage.path.BlockPathResolver;
+import org.hiero.block.server.persistence.storage.path.IndexedBlockPathResolver;
 import org.hiero.block.server.persistence.storage.path.NoOpBlockPathResolver;
+import org.hiero.block.server.persistence.storage.read.ArchiveHandleCache;
 import org.hiero.block.server.persistence.storage.read.BlockAsLocalFileReader;
+import org.hiero.block.server.persistence.storage.read.BlockAsSegmentLogReader;
 import org.hiero.block.server.persistence.storage.read.BlockReader;
+import org.hiero.block.server.persistence.storage.read.CachingBlockReader;
+import org.hiero.block.server.persistence.storage.read.NoOpBlockCache;
 import org.hiero.block.server.persistence.storage.read.NoOpBlockReader;
+import org.hiero.block.server.persistence.storage.recovery.BlockAsLocalFileRecovery;
+import org.hiero.block.server.persistence.storage.recovery.NoOpUnverifiedBlockRecovery;
+import org.hiero.block.server.persistence.storage.recovery.UnverifiedBlockRecovery;
+import org.hiero.block.server.persistence.storage.remove.BlockAsLocalFilePruner;
+import org.hiero.block.server.persistence.storage.remove.BlockAsSegmentLogPruner;
 import org.hiero.block.server.persistence.storage.remove.BlockAsLocalFileRemover;
+import org.hiero.block.server.persistence.storage.remove.BlockPruner;
 import org.hiero.block.server.persistence.storage.remove.BlockRemover;
+import org.hiero.block.server.persistence.storage.remove.NoOpBlockPruner;
 import org.hiero.block.server.persistence.storage.remove.NoOpBlockRemover;
+import org.hiero.block.server.persistence.storage.segment.SegmentLog;
 import org.hiero.block.server.persistence.storage.write.AsyncBlockWriterFactory;
 import org.hiero.block.server.service.ServiceStatus;
 import org.hiero.block.server.util.TestConfigUtil;
+import org.hiero.block.server.verification.VerificationConfig;
+import org.hiero.block.server.verification.VerificationConfig.VerificationServiceType;
+import org.hiero.block.server.verification.session.BlockVerificationSessionFactory;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.io.TempDir;
@@ -78,6 +95,18 @@ class PersistenceInjectionModuleTest {
     @Mock
     private LocalBlockArchiver archiverMock;
 
+    @Mock
+    private SegmentLog segmentLogMock;
+
+    @Mock
+    private ArchiveHandleCache archiveHandleCacheMock;
+
+    @Mock
+    private VerificationConfig verificationConfigMock;
+
+    @Mock
+    private BlockVerificationSessionFactory sessionFactoryMock;
+
     @TempDir
     private Path testLiveRootPath;
 
@@ -99,16 +128,78 @@ class PersistenceInjectionModuleTest {
         when(persistenceStorageConfigMock.type()).thenReturn(storageType);
 
         final BlockReader<BlockUnparsed> actual = PersistenceInjectionModule.providesBlockReader(
-                persistenceStorageConfigMock, blockPathResolverMock, compressionMock);
+                persistenceStorageConfigMock,
+                blockPathResolverMock,
+                compressionMock,
+                () -> segmentLogMock,
+                archiveHandleCacheMock,
+                TestConfigUtil.getTestBlockNodeMetricsService());
 
         final Class<?> targetInstanceType =
                 switch (storageType) {
                     case BLOCK_AS_LOCAL_FILE -> BlockAsLocalFileReader.class;
+                    case BLOCK_AS_SEGMENT_LOG -> BlockAsSegmentLogReader.class;
                     case NO_OP -> NoOpBlockReader.class;
                 };
         assertThat(actual).isNotNull().isExactlyInstanceOf(targetInstanceType);
     }
 
+    /**
+     * This test aims to verify that the
+     * {@link PersistenceInjectionModule#providesBlockReader} method will return
+     * a {@link CachingBlockReader} in front of the block reader of the storage
+     * when the block cache is enabled, for the storage types that read blocks.
+     *
+     * @param storageType parameterized, the {@link StorageType} to test
+     */
+    @ParameterizedTest
+    @EnumSource(StorageType.class)
+    void testProvidesCachingBlockReader(final StorageType storageType) {
+        lenient().when(persistenceStorageConfigMock.liveRootPath()).thenReturn(testLiveRootPath);
+        lenient().when(persistenceStorageConfigMock.blockCacheMaxBytes()).thenReturn(1024L);
+        when(persistenceStorageConfigMock.type()).thenReturn(storageType);
+
+        final BlockReader<BlockUnparsed> actual = PersistenceInjectionModule.providesBlockReader(
+                persistenceStorageConfigMock,
+                blockPathResolverMock,
+                compressionMock,
+                () -> segmentLogMock,
+                archiveHandleCacheMock,
+                TestConfigUtil.getTestBlockNodeMetricsService());
+
+        final Class<?> targetInstanceType =
+                switch (storageType) {
+                    case BLOCK_AS_LOCAL_FILE, BLOCK_AS_SEGMENT_LOG -> CachingBlockReader.class;
+                    case NO_OP -> NoOpBlockReader.class;
+                };
+        assertThat(actual).isNotNull().isExactlyInstanceOf(targetInstanceType);
+    }
+
+    /**
+     * This test aims to verify that the
+     * {@link PersistenceInjectionModule#providesBlockCache} method will return
+     * the block reader itself when it caches the blocks it reads, and a
+     * {@link NoOpBlockCache} otherwise.
+     */
+    @Test
+    void testProvidesBlockCache() {
+        lenient().when(persistenceStorageConfigMock.liveRootPath()).thenReturn(testLiveRootPath);
+        when(persistenceStorageConfigMock.blockCacheMaxBytes()).thenReturn(1024L);
+        when(persistenceStorageConfigMock.type()).thenReturn(StorageType.BLOCK_AS_LOCAL_FILE);
+        final BlockReader<BlockUnparsed> cachingBlockReader = PersistenceInjectionModule.providesBlockReader(
+                persistenceStorageConfigMock,
+                blockPathResolverMock,
+                compressionMock,
+                () -> segmentLogMock,
+                archiveHandleCacheMock,
+                TestConfigUtil.getTestBlockNodeMetricsService());
+
+        assertThat(PersistenceInjectionModule.providesBlockCache(cachingBlockReader))
+                .isSameAs(cachingBlockReader);
+        assertThat(PersistenceInjectionModule.providesBlockCache(NoOpBlockReader.newInstance()))
+                .isExactlyInstanceOf(NoOpBlockCache.class);
+    }
+
     /**
      * This test aims to verify that the
      * {@link PersistenceInjectionModule#providesBlockRemover} method will
@@ -131,7 +222,7 @@ class PersistenceInjectionModuleTest {
 
         final Class<?> targetInstanceType =
                 switch (storageType) {
-                    case BLOCK_AS_LOCAL_FILE -> BlockAsLocalFileRemover.class;
+                    case BLOCK_AS_LOCAL_FILE, BLOCK_AS_SEGMENT_LOG -> BlockAsLocalFileRemover.class;
                     case NO_OP -> NoOpBlockRemover.class;
                 };
         assertThat(actual).isNotNull().isExactlyInstanceOf(targetInstanceType);
@@ -139,7 +230,81 @@ class PersistenceInjectionModuleTest {
 
     /**
      * This test aims to verify that the
-     * {@link PersistenceInjectionModule#providesPathResolver(PersistenceStorageConfig)}
+     * {@link PersistenceInjectionModule#providesBlockPruner} method will
+     * return the pruner of the {@link StorageType} when a retention policy is
+     * set, and a {@link NoOpBlockPruner} when the blocks are not persisted.
+     *
+     * @param storageType parameterized, the {@link StorageType} to test
+     */
+    @ParameterizedTest
+    @EnumSource(StorageType.class)
+    void testProvidesBlockPruner(final StorageType storageType) {
+        lenient().when(persistenceStorageConfigMock.liveRootPath()).thenReturn(testLiveRootPath);
+        lenient().when(persistenceStorageConfigMock.archiveGroupSize()).thenReturn(10);
+        lenient().when(persistenceStorageConfigMock.retentionEnabled()).thenReturn(true);
+        when(persistenceStorageConfigMock.type()).thenReturn(storageType);
+
+        final BlockPruner actual = PersistenceInjectionModule.providesBlockPruner(
+                persistenceStorageConfigMock,
+                blockPathResolverMock,
+                NoOpBlockRemover.newInstance(),
+                archiveHandleCacheMock,
+                () -> segmentLogMock,
+                NoOpBlockCache.newInstance(),
+                serviceStatusMock,
+                TestConfigUtil.getTestBlockNodeMetricsService());
+
+        final Class<?> targetInstanceType =
+                switch (storageType) {
+                    case BLOCK_AS_LOCAL_FILE -> BlockAsLocalFilePruner.class;
+                    case BLOCK_AS_SEGMENT_LOG -> BlockAsSegmentLogPruner.class;
+                    case NO_OP -> NoOpBlockPruner.class;
+                };
+        assertThat(actual).isNotNull().isExactlyInstanceOf(targetInstanceType);
+    }
+
+    /**
+     * This test aims to verify that the
+     * {@link PersistenceInjectionModule#providesUnverifiedBlockRecovery}
+     * method will return a {@link BlockAsLocalFileRecovery} only when the
+     * Blocks are both persisted and verified.
+     *
+     * @param storageType parameterized, the {@link StorageType} to test
+     */
+    @ParameterizedTest
+    @EnumSource(StorageType.class)
+    void testProvidesUnverifiedBlockRecovery(final StorageType storageType) {
+        when(persistenceStorageConfigMock.type()).thenReturn(storageType);
+        lenient().when(verificationConfigMock.type()).thenReturn(VerificationServiceType.PRODUCTION);
+
+        final UnverifiedBlockRecovery actual = PersistenceInjectionModule.providesUnverifiedBlockRecovery(
+                persistenceStorageConfigMock,
+                verificationConfigMock,
+                blockPathResolverMock,
+                compressionMock,
+                sessionFactoryMock);
+
+        final Class<?> targetInstanceType =
+                switch (storageType) {
+                    case BLOCK_AS_LOCAL_FILE, BLOCK_AS_SEGMENT_LOG -> BlockAsLocalFileRecovery.class;
+                    case NO_OP -> NoOpUnverifiedBlockRecovery.class;
+                };
+        assertThat(actual).isNotNull().isExactlyInstanceOf(targetInstanceType);
+
+        // nothing is recovered when the Blocks are not verified
+        when(verificationConfigMock.type()).thenReturn(VerificationServiceType.NO_OP);
+        assertThat(PersistenceInjectionModule.providesUnverifiedBlockRecovery(
+                        persistenceStorageConfigMock,
+                        verificationConfigMock,
+                        blockPathResolverMock,
+                        compressionMock,
+                        sessionFactoryMock))
+                .isExactlyInstanceOf(NoOpUnverifiedBlockRecovery.class);
+    }
+
+    /**
+     * This test aims to verify that the
+     * {@link PersistenceInjectionModule#providesPathResolver(PersistenceStorageConfig, dagger.Lazy, MetricsService)}
      * method will return the correct {@link BlockPathResolver} instance based
      * on the {@link StorageType} parameter. The test verifies only the result
      * type and not what is inside the instance! For the purpose of this test,
@@ -151,18 +316,20 @@ class PersistenceInjectionModuleTest {
      */
     @ParameterizedTest
     @EnumSource(StorageType.class)
-    void testProvidesBlockPathResolver(final StorageType storageType) {
+    void testProvidesBlockPathResolver(final StorageType storageType) throws IOException {
         lenient().when(persistenceStorageConfigMock.liveRootPath()).thenReturn(testLiveRootPath);
         lenient().when(persistenceStorageConfigMock.archiveRootPath()).thenReturn(testLiveRootPath);
         lenient().when(persistenceStorageConfigMock.unverifiedRootPath()).thenReturn(testLiveRootPath);
         lenient().when(persistenceStorageConfigMock.archiveGroupSize()).thenReturn(10);
         when(persistenceStorageConfigMock.type()).thenReturn(storageType);
 
-        final BlockPathResolver actual = PersistenceInjectionModule.providesPathResolver(persistenceStorageConfigMock);
+        final BlockPathResolver actual = PersistenceInjectionModule.providesPathResolver(
+                persistenceStorageConfigMock, () -> segmentLogMock, TestConfigUtil.getTestBlockNodeMetricsService());
 
         final Class<?> targetInstanceType =
                 switch (storageType) {
-                    case BLOCK_AS_LOCAL_FILE -> BlockAsLocalFilePathResolver.class;
+                    case BLOCK_AS_LOCAL_FILE -> IndexedBlockPathResolver.class;
+                    case BLOCK_AS_SEGMENT_LOG -> BlockAsSegmentLogPathResolver.class;
                     case NO_OP -> NoOpBlockPathResolver.class;
                 };
         assertThat(actual).isNotNull().isExactlyInstanceOf(targetInstanceType);
@@ -170,7 +337,7 @@ class PersistenceInjectionModuleTest {
 
     /**
      * This test aims to verify that the
-     * {@link PersistenceInjectionModule#providesCompression(PersistenceStorageConfig)}
+     * {@link PersistenceInjectionModule#providesCompression(PersistenceStorageConfig, BlockPathResolver)}
      * method will return the correct {@link Compression} instance based on the
      * {@link CompressionType} parameter. The test verifies only the result type
      * and not what is inside the instance! For the purpose of this test, what
@@ -184,7 +351,9 @@ class PersistenceInjectionModuleTest {
     @EnumSource(CompressionType.class)
     void testProvidesCompression(final CompressionType compressionType) {
         when(persistenceStorageConfigMock.compression()).thenReturn(compressionType);
-        final Compression actual = PersistenceInjectionModule.providesCompression(persistenceStorageConfigMock);
+        when(persistenceStorageConfigMock.compressionDictionaryRootPath()).thenReturn(testLiveRootPath);
+        final Compression actual =
+                PersistenceInjectionModule.providesCompression(persistenceStorageConfigMock, blockPathResolverMock);
 
         final Class<?> targetInstanceType =
                 switch (compressionType) {
@@ -196,7 +365,7 @@ class PersistenceInjectionModuleTest {
 
     /**
      * This test aims to verify that the
-     * {@link PersistenceInjectionModule#providesLocalBlockArchiver(PersistenceStorageConfig, BlockPathResolver)}
+     * {@link PersistenceInjectionModule#providesLocalBlockArchiver}
      * will return the correct {@link LocalBlockArchiver} instance based on the
      * {@link StorageType} parameter. The test verifies only the result type and
      * not what is inside the instance! For the purpose of this test, what is
@@ -209,9 +378,17 @@ class PersistenceInjectionModuleTest {
     @ParameterizedTest
     @EnumSource(StorageType.class)
     void testProvidesLocalBlockArchiver(final StorageType type) {
+        when(persistenceStorageConfigMock.type()).thenReturn(type);
+
         final LocalBlockArchiver actual = PersistenceInjectionModule.providesLocalBlockArchiver(
-                persistenceStorageConfigMock, blockPathResolverMock);
-        assertThat(actual).isNotNull().isExactlyInstanceOf(BlockAsLocalFileArchiver.class);
+                persistenceStorageConfigMock, blockPathResolverMock, () -> segmentLogMock);
+
+        final Class<?> targetInstanceType =
+                switch (type) {
+                    case BLOCK_AS_LOCAL_FILE, NO_OP -> BlockAsLocalFileArchiver.class;
+                    case BLOCK_AS_SEGMENT_LOG -> BlockAsSegmentLogArchiver.class;
+                };
+        assertThat(actual).isNotNull().isExactlyInstanceOf(targetInstanceType);
     }
 
     @Test
@@ -238,7 +415,11 @@ class PersistenceInjectionModuleTest {
                         asyncBlockWriterFactoryMock,
                         blockPathResolverMock,
                         persistenceStorageConfigMock,
-                        archiverMock);
+                        archiverMock,
+                        NoOpBlockCache.newInstance(),
+                        NoOpBlockPruner.newInstance(),
+                        NoOpBlockRemover.newInstance(),
+                        NoOpUnverifiedBlockRecovery.newInstance());
 
         // Then
         assertNotNull(streamVerifier);
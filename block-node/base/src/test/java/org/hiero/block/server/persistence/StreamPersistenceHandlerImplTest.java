@@ -2,13 +2,14 @@
 package org.hiero.block.server.persistence;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.assertj.core.api.Assertions.assertThatIOException;
 import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.StreamPersistenceHandlerError;
 import static org.hiero.block.server.util.PersistTestUtils.*;
 import static org.hiero.block.server.util.PersistTestUtils.PERSISTENCE_STORAGE_LIVE_ROOT_PATH_KEY;
 import static org.hiero.block.server.util.PersistTestUtils.generateBlockItemsUnparsed;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -16,11 +17,14 @@ import com.hedera.hapi.block.BlockItemUnparsed;
 import com.hedera.hapi.block.BlockUnparsed;
 import com.swirlds.config.api.Configuration;
 import com.swirlds.config.api.ConfigurationBuilder;
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import org.hiero.block.common.utils.FileUtilities;
 import org.hiero.block.server.ack.AckHandler;
@@ -33,6 +37,11 @@ import org.hiero.block.server.persistence.storage.PersistenceStorageConfig.Compr
 import org.hiero.block.server.persistence.storage.archive.LocalBlockArchiver;
 import org.hiero.block.server.persistence.storage.path.BlockPathResolver;
 import org.hiero.block.server.persistence.storage.path.UnverifiedBlockPath;
+import org.hiero.block.server.persistence.storage.read.NoOpBlockCache;
+import org.hiero.block.server.persistence.storage.recovery.NoOpUnverifiedBlockRecovery;
+import org.hiero.block.server.persistence.storage.remove.BlockRemover;
+import org.hiero.block.server.persistence.storage.remove.NoOpBlockPruner;
+import org.hiero.block.server.persistence.storage.remove.NoOpBlockRemover;
 import org.hiero.block.server.persistence.storage.write.AsyncBlockWriterFactory;
 import org.hiero.block.server.service.ServiceStatus;
 import org.junit.jupiter.api.BeforeEach;
@@ -75,6 +84,9 @@ class StreamPersistenceHandlerImplTest {
     @Mock
     private BlockPathResolver pathResolverMock;
 
+    @Mock
+    private BlockRemover blockRemoverMock;
+
     @TempDir
     private Path testTempDir;
 
@@ -110,7 +122,11 @@ class StreamPersistenceHandlerImplTest {
                 executorMock,
                 archiverMock,
                 pathResolverMock,
-                persistenceStorageConfig);
+                persistenceStorageConfig,
+                NoOpBlockCache.newInstance(),
+                NoOpBlockPruner.newInstance(),
+                NoOpBlockRemover.newInstance(),
+                NoOpUnverifiedBlockRecovery.newInstance());
     }
 
     /**
@@ -134,6 +150,39 @@ class StreamPersistenceHandlerImplTest {
         verify(metricsServiceMock, never()).get(StreamPersistenceHandlerError);
     }
 
+    /**
+     * This test aims to assert that the blocks left under the unverified root
+     * at startup are removed through the {@link BlockRemover}, and that the
+     * other files left there are deleted.
+     */
+    @Test
+    void testUnverifiedBlocksAreRemovedAtStartup() throws IOException {
+        final Path leftoverBlock = testUnverifiedRootPath.resolve("5.blk.zstd");
+        final Path leftoverFile = testUnverifiedRootPath.resolve("5.tmp");
+        FileUtilities.createFile(leftoverBlock);
+        FileUtilities.createFile(leftoverFile);
+        when(blockRemoverMock.removeUnverified(5L)).thenReturn(true);
+
+        new StreamPersistenceHandlerImpl(
+                subscriptionHandler,
+                notifierMock,
+                metricsServiceMock,
+                serviceStatusMock,
+                ackHandlerMock,
+                asyncBlockWriterFactoryMock,
+                executorMock,
+                archiverMock,
+                pathResolverMock,
+                persistenceStorageConfig,
+                NoOpBlockCache.newInstance(),
+                NoOpBlockPruner.newInstance(),
+                blockRemoverMock,
+                NoOpUnverifiedBlockRecovery.newInstance());
+
+        verify(blockRemoverMock).removeUnverified(5L);
+        assertThat(leftoverFile).doesNotExist();
+    }
+
     /**
      * This test aims to assert that the method
      * {@link StreamPersistenceHandlerImpl#moveVerified(long)} correctly moves
@@ -159,7 +208,7 @@ class StreamPersistenceHandlerImplTest {
         assertThat(expectedInLive).isNotNull().doesNotExist();
 
         // Call actual method && assert that the file is moved to live root
-        toTest.moveVerified(blockNumber);
+        toTest.moveVerified(blockNumber).join();
         assertThat(expectedInLive).isNotNull().isRegularFile().exists();
         assertThat(blockInUnverified).isNotNull().doesNotExist();
     }
@@ -190,14 +239,41 @@ class StreamPersistenceHandlerImplTest {
         Files.write(blockInUnverified, blockAsBytes);
 
         // Call actual method && assert
-        toTest.moveVerified(blockNumber);
+        toTest.moveVerified(blockNumber).join();
         assertThat(expectedInLive).isNotNull().hasBinaryContent(blockAsBytes);
     }
 
+    /**
+     * This test aims to assert that the method
+     * {@link StreamPersistenceHandlerImpl#moveVerified(long)} completes once
+     * the block is durable and registered, even if archiving it fails.
+     */
+    @Test
+    void testMoveSucceedsWhenArchivingFails() throws IOException {
+        final long blockNumber = 1;
+        final String blockFileName = blockNumber + ".blk";
+        when(pathResolverMock.resolveLiveRawPathToBlock(blockNumber))
+                .thenReturn(testLiveRootPath.resolve(blockFileName));
+        when(pathResolverMock.findUnverifiedBlock(blockNumber))
+                .thenReturn(Optional.of(new UnverifiedBlockPath(
+                        blockNumber, testUnverifiedRootPath, blockFileName, CompressionType.NONE)));
+        FileUtilities.createFile(testUnverifiedRootPath.resolve(blockFileName));
+        doThrow(new IllegalStateException("archiving failed"))
+                .when(archiverMock)
+                .notifyBlockPersisted(blockNumber);
+
+        assertThat(toTest.moveVerified(blockNumber)).succeedsWithin(Duration.ofSeconds(5));
+        verify(pathResolverMock).registerVerifiedBlock(blockNumber, CompressionType.NONE);
+        verify(archiverMock, timeout(5000)).notifyBlockPersisted(blockNumber);
+    }
+
     @Test
-    void testThrowsWhenNonExistingSource() throws IOException {
+    void testFailsWhenNonExistingSource() {
         final long blockNumber = 1;
         // Call actual method && assert
-        assertThatIOException().isThrownBy(() -> toTest.moveVerified(blockNumber));
+        assertThat(toTest.moveVerified(blockNumber))
+                .failsWithin(Duration.ofSeconds(5))
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(FileNotFoundException.class);
     }
 }
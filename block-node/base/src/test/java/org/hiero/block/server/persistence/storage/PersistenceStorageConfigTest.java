@@ -17,6 +17,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 /**
  * Test class that tests the functionality of the
@@ -46,6 +47,18 @@ class PersistenceStorageConfigTest {
     private static final int DEFAULT_THREAD_COUNT = 6;
     private static final int DEFAULT_THREAD_KEEP_ALIVE_TIME = 60000;
     private static final boolean DEFAULT_USE_VIRTUAL_THREADS = false;
+    private static final long DEFAULT_SEGMENT_SIZE = 1073741824L;
+    private static final int DEFAULT_ARCHIVE_HANDLE_CACHE_SIZE = 64;
+    private static final boolean DEFAULT_MEMORY_MAPPED_READS = true;
+    private static final long DEFAULT_BLOCK_CACHE_MAX_BYTES = 268435456L;
+    private static final long DEFAULT_RETENTION_MAX_BLOCKS = 0L;
+    private static final long DEFAULT_RETENTION_MAX_BYTES = 0L;
+    private static final int DEFAULT_RETENTION_MAX_AGE_DAYS = 0;
+    private static final long DEFAULT_RETENTION_DELETE_BYTES_PER_SECOND = 67108864L;
+    private static final int DEFAULT_GROUP_COMMIT_MAX_BLOCKS = 64;
+    private static final long DEFAULT_GROUP_COMMIT_WINDOW_MILLIS = 2L;
+    private static final int DEFAULT_COMPRESSION_DICTIONARY_SIZE = 0;
+    private static final int DEFAULT_COMPRESSION_DICTIONARY_SAMPLE_BLOCKS = 1000;
 
     @AfterEach
     void tearDown() {
@@ -86,7 +99,20 @@ class PersistenceStorageConfigTest {
                 DEFAULT_EXECUTOR_TYPE,
                 DEFAULT_THREAD_COUNT,
                 DEFAULT_THREAD_KEEP_ALIVE_TIME,
-                DEFAULT_USE_VIRTUAL_THREADS);
+                DEFAULT_USE_VIRTUAL_THREADS,
+                DEFAULT_SEGMENT_SIZE,
+                DEFAULT_ARCHIVE_HANDLE_CACHE_SIZE,
+                DEFAULT_MEMORY_MAPPED_READS,
+                DEFAULT_BLOCK_CACHE_MAX_BYTES,
+                DEFAULT_RETENTION_MAX_BLOCKS,
+                DEFAULT_RETENTION_MAX_BYTES,
+                DEFAULT_RETENTION_MAX_AGE_DAYS,
+                DEFAULT_RETENTION_DELETE_BYTES_PER_SECOND,
+                DEFAULT_GROUP_COMMIT_MAX_BLOCKS,
+                DEFAULT_GROUP_COMMIT_WINDOW_MILLIS,
+                Path.of(""),
+                DEFAULT_COMPRESSION_DICTIONARY_SIZE,
+                DEFAULT_COMPRESSION_DICTIONARY_SAMPLE_BLOCKS);
         assertThat(actual).returns(storageType, from(PersistenceStorageConfig::type));
     }
 
@@ -119,7 +145,20 @@ class PersistenceStorageConfigTest {
                 DEFAULT_EXECUTOR_TYPE,
                 DEFAULT_THREAD_COUNT,
                 DEFAULT_THREAD_KEEP_ALIVE_TIME,
-                DEFAULT_USE_VIRTUAL_THREADS);
+                DEFAULT_USE_VIRTUAL_THREADS,
+                DEFAULT_SEGMENT_SIZE,
+                DEFAULT_ARCHIVE_HANDLE_CACHE_SIZE,
+                DEFAULT_MEMORY_MAPPED_READS,
+                DEFAULT_BLOCK_CACHE_MAX_BYTES,
+                DEFAULT_RETENTION_MAX_BLOCKS,
+                DEFAULT_RETENTION_MAX_BYTES,
+                DEFAULT_RETENTION_MAX_AGE_DAYS,
+                DEFAULT_RETENTION_DELETE_BYTES_PER_SECOND,
+                DEFAULT_GROUP_COMMIT_MAX_BLOCKS,
+                DEFAULT_GROUP_COMMIT_WINDOW_MILLIS,
+                Path.of(""),
+                DEFAULT_COMPRESSION_DICTIONARY_SIZE,
+                DEFAULT_COMPRESSION_DICTIONARY_SAMPLE_BLOCKS);
         assertThat(actual)
                 .returns(expectedLiveRootPathToTest, from(PersistenceStorageConfig::liveRootPath))
                 .returns(expectedArchiveRootPathToTest, from(PersistenceStorageConfig::archiveRootPath));
@@ -147,7 +186,20 @@ class PersistenceStorageConfigTest {
                 DEFAULT_EXECUTOR_TYPE,
                 DEFAULT_THREAD_COUNT,
                 DEFAULT_THREAD_KEEP_ALIVE_TIME,
-                DEFAULT_USE_VIRTUAL_THREADS);
+                DEFAULT_USE_VIRTUAL_THREADS,
+                DEFAULT_SEGMENT_SIZE,
+                DEFAULT_ARCHIVE_HANDLE_CACHE_SIZE,
+                DEFAULT_MEMORY_MAPPED_READS,
+                DEFAULT_BLOCK_CACHE_MAX_BYTES,
+                DEFAULT_RETENTION_MAX_BLOCKS,
+                DEFAULT_RETENTION_MAX_BYTES,
+                DEFAULT_RETENTION_MAX_AGE_DAYS,
+                DEFAULT_RETENTION_DELETE_BYTES_PER_SECOND,
+                DEFAULT_GROUP_COMMIT_MAX_BLOCKS,
+                DEFAULT_GROUP_COMMIT_WINDOW_MILLIS,
+                Path.of(""),
+                DEFAULT_COMPRESSION_DICTIONARY_SIZE,
+                DEFAULT_COMPRESSION_DICTIONARY_SAMPLE_BLOCKS);
         assertThat(actual).returns(compressionLevel, from(PersistenceStorageConfig::compressionLevel));
     }
 
@@ -175,7 +227,20 @@ class PersistenceStorageConfigTest {
                         DEFAULT_EXECUTOR_TYPE,
                         DEFAULT_THREAD_COUNT,
                         DEFAULT_THREAD_KEEP_ALIVE_TIME,
-                        DEFAULT_USE_VIRTUAL_THREADS));
+                        DEFAULT_USE_VIRTUAL_THREADS,
+                        DEFAULT_SEGMENT_SIZE,
+                        DEFAULT_ARCHIVE_HANDLE_CACHE_SIZE,
+                        DEFAULT_MEMORY_MAPPED_READS,
+                        DEFAULT_BLOCK_CACHE_MAX_BYTES,
+                        DEFAULT_RETENTION_MAX_BLOCKS,
+                        DEFAULT_RETENTION_MAX_BYTES,
+                        DEFAULT_RETENTION_MAX_AGE_DAYS,
+                        DEFAULT_RETENTION_DELETE_BYTES_PER_SECOND,
+                        DEFAULT_GROUP_COMMIT_MAX_BLOCKS,
+                        DEFAULT_GROUP_COMMIT_WINDOW_MILLIS,
+                        Path.of(""),
+                        DEFAULT_COMPRESSION_DICTIONARY_SIZE,
+                        DEFAULT_COMPRESSION_DICTIONARY_SAMPLE_BLOCKS));
     }
 
     /**
@@ -199,7 +264,20 @@ class PersistenceStorageConfigTest {
                 DEFAULT_EXECUTOR_TYPE,
                 DEFAULT_THREAD_COUNT,
                 DEFAULT_THREAD_KEEP_ALIVE_TIME,
-                DEFAULT_USE_VIRTUAL_THREADS);
+                DEFAULT_USE_VIRTUAL_THREADS,
+                DEFAULT_SEGMENT_SIZE,
+                DEFAULT_ARCHIVE_HANDLE_CACHE_SIZE,
+                DEFAULT_MEMORY_MAPPED_READS,
+                DEFAULT_BLOCK_CACHE_MAX_BYTES,
+                DEFAULT_RETENTION_MAX_BLOCKS,
+                DEFAULT_RETENTION_MAX_BYTES,
+                DEFAULT_RETENTION_MAX_AGE_DAYS,
+                DEFAULT_RETENTION_DELETE_BYTES_PER_SECOND,
+                DEFAULT_GROUP_COMMIT_MAX_BLOCKS,
+                DEFAULT_GROUP_COMMIT_WINDOW_MILLIS,
+                Path.of(""),
+                DEFAULT_COMPRESSION_DICTIONARY_SIZE,
+                DEFAULT_COMPRESSION_DICTIONARY_SAMPLE_BLOCKS);
         assertThat(actual).returns(compressionType, from(PersistenceStorageConfig::compression));
     }
 
@@ -224,7 +302,20 @@ class PersistenceStorageConfigTest {
                 DEFAULT_EXECUTOR_TYPE,
                 DEFAULT_THREAD_COUNT,
                 DEFAULT_THREAD_KEEP_ALIVE_TIME,
-                DEFAULT_USE_VIRTUAL_THREADS);
+                DEFAULT_USE_VIRTUAL_THREADS,
+                DEFAULT_SEGMENT_SIZE,
+                DEFAULT_ARCHIVE_HANDLE_CACHE_SIZE,
+                DEFAULT_MEMORY_MAPPED_READS,
+                DEFAULT_BLOCK_CACHE_MAX_BYTES,
+                DEFAULT_RETENTION_MAX_BLOCKS,
+                DEFAULT_RETENTION_MAX_BYTES,
+                DEFAULT_RETENTION_MAX_AGE_DAYS,
+                DEFAULT_RETENTION_DELETE_BYTES_PER_SECOND,
+                DEFAULT_GROUP_COMMIT_MAX_BLOCKS,
+                DEFAULT_GROUP_COMMIT_WINDOW_MILLIS,
+                Path.of(""),
+                DEFAULT_COMPRESSION_DICTIONARY_SIZE,
+                DEFAULT_COMPRESSION_DICTIONARY_SAMPLE_BLOCKS);
         assertThat(actual).returns(archiveGroupSize, from(PersistenceStorageConfig::archiveGroupSize));
     }
 
@@ -251,7 +342,20 @@ class PersistenceStorageConfigTest {
                         DEFAULT_EXECUTOR_TYPE,
                         DEFAULT_THREAD_COUNT,
                         DEFAULT_THREAD_KEEP_ALIVE_TIME,
-                        DEFAULT_USE_VIRTUAL_THREADS));
+                        DEFAULT_USE_VIRTUAL_THREADS,
+                        DEFAULT_SEGMENT_SIZE,
+                        DEFAULT_ARCHIVE_HANDLE_CACHE_SIZE,
+                        DEFAULT_MEMORY_MAPPED_READS,
+                        DEFAULT_BLOCK_CACHE_MAX_BYTES,
+                        DEFAULT_RETENTION_MAX_BLOCKS,
+                        DEFAULT_RETENTION_MAX_BYTES,
+                        DEFAULT_RETENTION_MAX_AGE_DAYS,
+                        DEFAULT_RETENTION_DELETE_BYTES_PER_SECOND,
+                        DEFAULT_GROUP_COMMIT_MAX_BLOCKS,
+                        DEFAULT_GROUP_COMMIT_WINDOW_MILLIS,
+                        Path.of(""),
+                        DEFAULT_COMPRESSION_DICTIONARY_SIZE,
+                        DEFAULT_COMPRESSION_DICTIONARY_SAMPLE_BLOCKS));
     }
 
     /**
@@ -275,7 +379,20 @@ class PersistenceStorageConfigTest {
                 DEFAULT_EXECUTOR_TYPE,
                 DEFAULT_THREAD_COUNT,
                 DEFAULT_THREAD_KEEP_ALIVE_TIME,
-                DEFAULT_USE_VIRTUAL_THREADS);
+                DEFAULT_USE_VIRTUAL_THREADS,
+                DEFAULT_SEGMENT_SIZE,
+                DEFAULT_ARCHIVE_HANDLE_CACHE_SIZE,
+                DEFAULT_MEMORY_MAPPED_READS,
+                DEFAULT_BLOCK_CACHE_MAX_BYTES,
+                DEFAULT_RETENTION_MAX_BLOCKS,
+                DEFAULT_RETENTION_MAX_BYTES,
+                DEFAULT_RETENTION_MAX_AGE_DAYS,
+                DEFAULT_RETENTION_DELETE_BYTES_PER_SECOND,
+                DEFAULT_GROUP_COMMIT_MAX_BLOCKS,
+                DEFAULT_GROUP_COMMIT_WINDOW_MILLIS,
+                Path.of(""),
+                DEFAULT_COMPRESSION_DICTIONARY_SIZE,
+                DEFAULT_COMPRESSION_DICTIONARY_SAMPLE_BLOCKS);
         assertThat(actual).returns(executionQueueLimit, from(PersistenceStorageConfig::executionQueueLimit));
     }
 
@@ -302,7 +419,20 @@ class PersistenceStorageConfigTest {
                         DEFAULT_EXECUTOR_TYPE,
                         DEFAULT_THREAD_COUNT,
                         DEFAULT_THREAD_KEEP_ALIVE_TIME,
-                        DEFAULT_USE_VIRTUAL_THREADS));
+                        DEFAULT_USE_VIRTUAL_THREADS,
+                        DEFAULT_SEGMENT_SIZE,
+                        DEFAULT_ARCHIVE_HANDLE_CACHE_SIZE,
+                        DEFAULT_MEMORY_MAPPED_READS,
+                        DEFAULT_BLOCK_CACHE_MAX_BYTES,
+                        DEFAULT_RETENTION_MAX_BLOCKS,
+                        DEFAULT_RETENTION_MAX_BYTES,
+                        DEFAULT_RETENTION_MAX_AGE_DAYS,
+                        DEFAULT_RETENTION_DELETE_BYTES_PER_SECOND,
+                        DEFAULT_GROUP_COMMIT_MAX_BLOCKS,
+                        DEFAULT_GROUP_COMMIT_WINDOW_MILLIS,
+                        Path.of(""),
+                        DEFAULT_COMPRESSION_DICTIONARY_SIZE,
+                        DEFAULT_COMPRESSION_DICTIONARY_SAMPLE_BLOCKS));
     }
 
     /**
@@ -326,7 +456,20 @@ class PersistenceStorageConfigTest {
                 DEFAULT_EXECUTOR_TYPE,
                 threadCount,
                 DEFAULT_THREAD_KEEP_ALIVE_TIME,
-                DEFAULT_USE_VIRTUAL_THREADS);
+                DEFAULT_USE_VIRTUAL_THREADS,
+                DEFAULT_SEGMENT_SIZE,
+                DEFAULT_ARCHIVE_HANDLE_CACHE_SIZE,
+                DEFAULT_MEMORY_MAPPED_READS,
+                DEFAULT_BLOCK_CACHE_MAX_BYTES,
+                DEFAULT_RETENTION_MAX_BLOCKS,
+                DEFAULT_RETENTION_MAX_BYTES,
+                DEFAULT_RETENTION_MAX_AGE_DAYS,
+                DEFAULT_RETENTION_DELETE_BYTES_PER_SECOND,
+                DEFAULT_GROUP_COMMIT_MAX_BLOCKS,
+                DEFAULT_GROUP_COMMIT_WINDOW_MILLIS,
+                Path.of(""),
+                DEFAULT_COMPRESSION_DICTIONARY_SIZE,
+                DEFAULT_COMPRESSION_DICTIONARY_SAMPLE_BLOCKS);
         assertThat(actual).returns(threadCount, from(PersistenceStorageConfig::threadCount));
     }
 
@@ -353,7 +496,20 @@ class PersistenceStorageConfigTest {
                         DEFAULT_EXECUTOR_TYPE,
                         threadCount,
                         DEFAULT_THREAD_KEEP_ALIVE_TIME,
-                        DEFAULT_USE_VIRTUAL_THREADS));
+                        DEFAULT_USE_VIRTUAL_THREADS,
+                        DEFAULT_SEGMENT_SIZE,
+                        DEFAULT_ARCHIVE_HANDLE_CACHE_SIZE,
+                        DEFAULT_MEMORY_MAPPED_READS,
+                        DEFAULT_BLOCK_CACHE_MAX_BYTES,
+                        DEFAULT_RETENTION_MAX_BLOCKS,
+                        DEFAULT_RETENTION_MAX_BYTES,
+                        DEFAULT_RETENTION_MAX_AGE_DAYS,
+                        DEFAULT_RETENTION_DELETE_BYTES_PER_SECOND,
+                        DEFAULT_GROUP_COMMIT_MAX_BLOCKS,
+                        DEFAULT_GROUP_COMMIT_WINDOW_MILLIS,
+                        Path.of(""),
+                        DEFAULT_COMPRESSION_DICTIONARY_SIZE,
+                        DEFAULT_COMPRESSION_DICTIONARY_SAMPLE_BLOCKS));
     }
 
     /**
@@ -377,7 +533,20 @@ class PersistenceStorageConfigTest {
                 DEFAULT_EXECUTOR_TYPE,
                 DEFAULT_THREAD_COUNT,
                 threadKeepAliveTime,
-                DEFAULT_USE_VIRTUAL_THREADS);
+                DEFAULT_USE_VIRTUAL_THREADS,
+                DEFAULT_SEGMENT_SIZE,
+                DEFAULT_ARCHIVE_HANDLE_CACHE_SIZE,
+                DEFAULT_MEMORY_MAPPED_READS,
+                DEFAULT_BLOCK_CACHE_MAX_BYTES,
+                DEFAULT_RETENTION_MAX_BLOCKS,
+                DEFAULT_RETENTION_MAX_BYTES,
+                DEFAULT_RETENTION_MAX_AGE_DAYS,
+                DEFAULT_RETENTION_DELETE_BYTES_PER_SECOND,
+                DEFAULT_GROUP_COMMIT_MAX_BLOCKS,
+                DEFAULT_GROUP_COMMIT_WINDOW_MILLIS,
+                Path.of(""),
+                DEFAULT_COMPRESSION_DICTIONARY_SIZE,
+                DEFAULT_COMPRESSION_DICTIONARY_SAMPLE_BLOCKS);
         assertThat(actual).returns(threadKeepAliveTime, from(PersistenceStorageConfig::threadKeepAliveTime));
     }
 
@@ -404,7 +573,20 @@ class PersistenceStorageConfigTest {
                         DEFAULT_EXECUTOR_TYPE,
                         DEFAULT_THREAD_COUNT,
                         threadKeepAliveTime,
-                        DEFAULT_USE_VIRTUAL_THREADS));
+                        DEFAULT_USE_VIRTUAL_THREADS,
+                        DEFAULT_SEGMENT_SIZE,
+                        DEFAULT_ARCHIVE_HANDLE_CACHE_SIZE,
+                        DEFAULT_MEMORY_MAPPED_READS,
+                        DEFAULT_BLOCK_CACHE_MAX_BYTES,
+                        DEFAULT_RETENTION_MAX_BLOCKS,
+                        DEFAULT_RETENTION_MAX_BYTES,
+                        DEFAULT_RETENTION_MAX_AGE_DAYS,
+                        DEFAULT_RETENTION_DELETE_BYTES_PER_SECOND,
+                        DEFAULT_GROUP_COMMIT_MAX_BLOCKS,
+                        DEFAULT_GROUP_COMMIT_WINDOW_MILLIS,
+                        Path.of(""),
+                        DEFAULT_COMPRESSION_DICTIONARY_SIZE,
+                        DEFAULT_COMPRESSION_DICTIONARY_SAMPLE_BLOCKS));
     }
 
     /**
@@ -428,10 +610,422 @@ class PersistenceStorageConfigTest {
                 DEFAULT_EXECUTOR_TYPE,
                 DEFAULT_THREAD_COUNT,
                 DEFAULT_THREAD_KEEP_ALIVE_TIME,
-                useVirtualThreads);
+                useVirtualThreads,
+                DEFAULT_SEGMENT_SIZE,
+                DEFAULT_ARCHIVE_HANDLE_CACHE_SIZE,
+                DEFAULT_MEMORY_MAPPED_READS,
+                DEFAULT_BLOCK_CACHE_MAX_BYTES,
+                DEFAULT_RETENTION_MAX_BLOCKS,
+                DEFAULT_RETENTION_MAX_BYTES,
+                DEFAULT_RETENTION_MAX_AGE_DAYS,
+                DEFAULT_RETENTION_DELETE_BYTES_PER_SECOND,
+                DEFAULT_GROUP_COMMIT_MAX_BLOCKS,
+                DEFAULT_GROUP_COMMIT_WINDOW_MILLIS,
+                Path.of(""),
+                DEFAULT_COMPRESSION_DICTIONARY_SIZE,
+                DEFAULT_COMPRESSION_DICTIONARY_SAMPLE_BLOCKS);
         assertThat(actual).returns(useVirtualThreads, from(PersistenceStorageConfig::useVirtualThreads));
     }
 
+    /**
+     * This test aims to verify that the {@link PersistenceStorageConfig} class
+     * correctly returns the segment size that was set in the constructor.
+     *
+     * @param segmentSize parameterized, the segment size to test
+     */
+    @ParameterizedTest
+    @MethodSource("validSegmentSizes")
+    void testPersistenceStorageConfigValidSegmentSizes(final long segmentSize) {
+        final PersistenceStorageConfig actual = new PersistenceStorageConfig(
+                Path.of(""),
+                Path.of(""),
+                Path.of(""),
+                StorageType.BLOCK_AS_SEGMENT_LOG,
+                CompressionType.NONE,
+                DEFAULT_COMPRESSION_LEVEL,
+                DEFAULT_ARCHIVE_BATCH_SIZE,
+                DEFAULT_EXECUTION_QUEUE_LIMIT,
+                DEFAULT_EXECUTOR_TYPE,
+                DEFAULT_THREAD_COUNT,
+                DEFAULT_THREAD_KEEP_ALIVE_TIME,
+                DEFAULT_USE_VIRTUAL_THREADS,
+                segmentSize,
+                DEFAULT_ARCHIVE_HANDLE_CACHE_SIZE,
+                DEFAULT_MEMORY_MAPPED_READS,
+                DEFAULT_BLOCK_CACHE_MAX_BYTES,
+                DEFAULT_RETENTION_MAX_BLOCKS,
+                DEFAULT_RETENTION_MAX_BYTES,
+                DEFAULT_RETENTION_MAX_AGE_DAYS,
+                DEFAULT_RETENTION_DELETE_BYTES_PER_SECOND,
+                DEFAULT_GROUP_COMMIT_MAX_BLOCKS,
+                DEFAULT_GROUP_COMMIT_WINDOW_MILLIS,
+                Path.of(""),
+                DEFAULT_COMPRESSION_DICTIONARY_SIZE,
+                DEFAULT_COMPRESSION_DICTIONARY_SAMPLE_BLOCKS);
+        assertThat(actual).returns(segmentSize, from(PersistenceStorageConfig::segmentSize));
+    }
+
+    /**
+     * This test aims to verify that the {@link PersistenceStorageConfig} class
+     * correctly throws an {@link IllegalArgumentException} when the segment
+     * size is invalid.
+     *
+     * @param segmentSize parameterized, the segment size to test
+     */
+    @ParameterizedTest
+    @MethodSource("invalidSegmentSizes")
+    void testPersistenceStorageConfigInvalidSegmentSizes(final long segmentSize) {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new PersistenceStorageConfig(
+                        Path.of(""),
+                        Path.of(""),
+                        Path.of(""),
+                        StorageType.BLOCK_AS_SEGMENT_LOG,
+                        CompressionType.NONE,
+                        DEFAULT_COMPRESSION_LEVEL,
+                        DEFAULT_ARCHIVE_BATCH_SIZE,
+                        DEFAULT_EXECUTION_QUEUE_LIMIT,
+                        DEFAULT_EXECUTOR_TYPE,
+                        DEFAULT_THREAD_COUNT,
+                        DEFAULT_THREAD_KEEP_ALIVE_TIME,
+                        DEFAULT_USE_VIRTUAL_THREADS,
+                        segmentSize,
+                        DEFAULT_ARCHIVE_HANDLE_CACHE_SIZE,
+                        DEFAULT_MEMORY_MAPPED_READS,
+                        DEFAULT_BLOCK_CACHE_MAX_BYTES,
+                        DEFAULT_RETENTION_MAX_BLOCKS,
+                        DEFAULT_RETENTION_MAX_BYTES,
+                        DEFAULT_RETENTION_MAX_AGE_DAYS,
+                        DEFAULT_RETENTION_DELETE_BYTES_PER_SECOND,
+                        DEFAULT_GROUP_COMMIT_MAX_BLOCKS,
+                        DEFAULT_GROUP_COMMIT_WINDOW_MILLIS,
+                        Path.of(""),
+                        DEFAULT_COMPRESSION_DICTIONARY_SIZE,
+                        DEFAULT_COMPRESSION_DICTIONARY_SAMPLE_BLOCKS));
+    }
+
+    /**
+     * This test aims to verify that the {@link PersistenceStorageConfig} class
+     * correctly returns the archive handle cache size that was set in the
+     * constructor.
+     *
+     * @param archiveHandleCacheSize parameterized, the cache size to test
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {1, 64, 4096})
+    void testPersistenceStorageConfigValidArchiveHandleCacheSizes(final int archiveHandleCacheSize) {
+        final PersistenceStorageConfig actual = new PersistenceStorageConfig(
+                Path.of(""),
+                Path.of(""),
+                Path.of(""),
+                StorageType.BLOCK_AS_LOCAL_FILE,
+                CompressionType.NONE,
+                DEFAULT_COMPRESSION_LEVEL,
+                DEFAULT_ARCHIVE_BATCH_SIZE,
+                DEFAULT_EXECUTION_QUEUE_LIMIT,
+                DEFAULT_EXECUTOR_TYPE,
+                DEFAULT_THREAD_COUNT,
+                DEFAULT_THREAD_KEEP_ALIVE_TIME,
+                DEFAULT_USE_VIRTUAL_THREADS,
+                DEFAULT_SEGMENT_SIZE,
+                archiveHandleCacheSize,
+                DEFAULT_MEMORY_MAPPED_READS,
+                DEFAULT_BLOCK_CACHE_MAX_BYTES,
+                DEFAULT_RETENTION_MAX_BLOCKS,
+                DEFAULT_RETENTION_MAX_BYTES,
+                DEFAULT_RETENTION_MAX_AGE_DAYS,
+                DEFAULT_RETENTION_DELETE_BYTES_PER_SECOND,
+                DEFAULT_GROUP_COMMIT_MAX_BLOCKS,
+                DEFAULT_GROUP_COMMIT_WINDOW_MILLIS,
+                Path.of(""),
+                DEFAULT_COMPRESSION_DICTIONARY_SIZE,
+                DEFAULT_COMPRESSION_DICTIONARY_SAMPLE_BLOCKS);
+        assertThat(actual).returns(archiveHandleCacheSize, from(PersistenceStorageConfig::archiveHandleCacheSize));
+    }
+
+    /**
+     * This test aims to verify that the {@link PersistenceStorageConfig} class
+     * correctly throws an {@link IllegalArgumentException} when the archive
+     * handle cache size is invalid.
+     *
+     * @param archiveHandleCacheSize parameterized, the cache size to test
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 0, 4097})
+    void testPersistenceStorageConfigInvalidArchiveHandleCacheSizes(final int archiveHandleCacheSize) {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new PersistenceStorageConfig(
+                        Path.of(""),
+                        Path.of(""),
+                        Path.of(""),
+                        StorageType.BLOCK_AS_LOCAL_FILE,
+                        CompressionType.NONE,
+                        DEFAULT_COMPRESSION_LEVEL,
+                        DEFAULT_ARCHIVE_BATCH_SIZE,
+                        DEFAULT_EXECUTION_QUEUE_LIMIT,
+                        DEFAULT_EXECUTOR_TYPE,
+                        DEFAULT_THREAD_COUNT,
+                        DEFAULT_THREAD_KEEP_ALIVE_TIME,
+                        DEFAULT_USE_VIRTUAL_THREADS,
+                        DEFAULT_SEGMENT_SIZE,
+                        archiveHandleCacheSize,
+                        DEFAULT_MEMORY_MAPPED_READS,
+                        DEFAULT_BLOCK_CACHE_MAX_BYTES,
+                        DEFAULT_RETENTION_MAX_BLOCKS,
+                        DEFAULT_RETENTION_MAX_BYTES,
+                        DEFAULT_RETENTION_MAX_AGE_DAYS,
+                        DEFAULT_RETENTION_DELETE_BYTES_PER_SECOND,
+                        DEFAULT_GROUP_COMMIT_MAX_BLOCKS,
+                        DEFAULT_GROUP_COMMIT_WINDOW_MILLIS,
+                        Path.of(""),
+                        DEFAULT_COMPRESSION_DICTIONARY_SIZE,
+                        DEFAULT_COMPRESSION_DICTIONARY_SAMPLE_BLOCKS));
+    }
+
+    /**
+     * This test aims to verify that the {@link PersistenceStorageConfig} class
+     * correctly returns the block cache max bytes that were set in the
+     * constructor.
+     *
+     * @param blockCacheMaxBytes parameterized, the cache max bytes to test
+     */
+    @ParameterizedTest
+    @ValueSource(longs = {0L, 1L, 268435456L})
+    void testPersistenceStorageConfigValidBlockCacheMaxBytes(final long blockCacheMaxBytes) {
+        final PersistenceStorageConfig actual = new PersistenceStorageConfig(
+                Path.of(""),
+                Path.of(""),
+                Path.of(""),
+                StorageType.BLOCK_AS_LOCAL_FILE,
+                CompressionType.NONE,
+                DEFAULT_COMPRESSION_LEVEL,
+                DEFAULT_ARCHIVE_BATCH_SIZE,
+                DEFAULT_EXECUTION_QUEUE_LIMIT,
+                DEFAULT_EXECUTOR_TYPE,
+                DEFAULT_THREAD_COUNT,
+                DEFAULT_THREAD_KEEP_ALIVE_TIME,
+                DEFAULT_USE_VIRTUAL_THREADS,
+                DEFAULT_SEGMENT_SIZE,
+                DEFAULT_ARCHIVE_HANDLE_CACHE_SIZE,
+                DEFAULT_MEMORY_MAPPED_READS,
+                blockCacheMaxBytes,
+                DEFAULT_RETENTION_MAX_BLOCKS,
+                DEFAULT_RETENTION_MAX_BYTES,
+                DEFAULT_RETENTION_MAX_AGE_DAYS,
+                DEFAULT_RETENTION_DELETE_BYTES_PER_SECOND,
+                DEFAULT_GROUP_COMMIT_MAX_BLOCKS,
+                DEFAULT_GROUP_COMMIT_WINDOW_MILLIS,
+                Path.of(""),
+                DEFAULT_COMPRESSION_DICTIONARY_SIZE,
+                DEFAULT_COMPRESSION_DICTIONARY_SAMPLE_BLOCKS);
+        assertThat(actual).returns(blockCacheMaxBytes, from(PersistenceStorageConfig::blockCacheMaxBytes));
+    }
+
+    /**
+     * This test aims to verify that the {@link PersistenceStorageConfig} class
+     * correctly throws an {@link IllegalArgumentException} when the block
+     * cache max bytes are invalid.
+     *
+     * @param blockCacheMaxBytes parameterized, the cache max bytes to test
+     */
+    @ParameterizedTest
+    @ValueSource(longs = {-1L, -268435456L})
+    void testPersistenceStorageConfigInvalidBlockCacheMaxBytes(final long blockCacheMaxBytes) {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new PersistenceStorageConfig(
+                        Path.of(""),
+                        Path.of(""),
+                        Path.of(""),
+                        StorageType.BLOCK_AS_LOCAL_FILE,
+                        CompressionType.NONE,
+                        DEFAULT_COMPRESSION_LEVEL,
+                        DEFAULT_ARCHIVE_BATCH_SIZE,
+                        DEFAULT_EXECUTION_QUEUE_LIMIT,
+                        DEFAULT_EXECUTOR_TYPE,
+                        DEFAULT_THREAD_COUNT,
+                        DEFAULT_THREAD_KEEP_ALIVE_TIME,
+                        DEFAULT_USE_VIRTUAL_THREADS,
+                        DEFAULT_SEGMENT_SIZE,
+                        DEFAULT_ARCHIVE_HANDLE_CACHE_SIZE,
+                        DEFAULT_MEMORY_MAPPED_READS,
+                        blockCacheMaxBytes,
+                        DEFAULT_RETENTION_MAX_BLOCKS,
+                        DEFAULT_RETENTION_MAX_BYTES,
+                        DEFAULT_RETENTION_MAX_AGE_DAYS,
+                        DEFAULT_RETENTION_DELETE_BYTES_PER_SECOND,
+                        DEFAULT_GROUP_COMMIT_MAX_BLOCKS,
+                        DEFAULT_GROUP_COMMIT_WINDOW_MILLIS,
+                        Path.of(""),
+                        DEFAULT_COMPRESSION_DICTIONARY_SIZE,
+                        DEFAULT_COMPRESSION_DICTIONARY_SAMPLE_BLOCKS));
+    }
+
+    /**
+     * This test aims to verify that the {@link PersistenceStorageConfig} class
+     * correctly returns the retention policy that was set in the constructor,
+     * and whether the retention is enabled by it.
+     *
+     * @param retentionMaxBlocks parameterized, the number of blocks to retain
+     * @param retentionMaxBytes parameterized, the bytes to retain
+     * @param retentionMaxAgeDays parameterized, the days to retain for
+     * @param expectedRetentionEnabled parameterized, whether the retention is
+     * expected to be enabled
+     */
+    @ParameterizedTest
+    @MethodSource("validRetentionPolicies")
+    void testPersistenceStorageConfigValidRetentionPolicies(
+            final long retentionMaxBlocks,
+            final long retentionMaxBytes,
+            final int retentionMaxAgeDays,
+            final boolean expectedRetentionEnabled) {
+        final PersistenceStorageConfig actual = new PersistenceStorageConfig(
+                Path.of(""),
+                Path.of(""),
+                Path.of(""),
+                StorageType.BLOCK_AS_LOCAL_FILE,
+                CompressionType.NONE,
+                DEFAULT_COMPRESSION_LEVEL,
+                DEFAULT_ARCHIVE_BATCH_SIZE,
+                DEFAULT_EXECUTION_QUEUE_LIMIT,
+                DEFAULT_EXECUTOR_TYPE,
+                DEFAULT_THREAD_COUNT,
+                DEFAULT_THREAD_KEEP_ALIVE_TIME,
+                DEFAULT_USE_VIRTUAL_THREADS,
+                DEFAULT_SEGMENT_SIZE,
+                DEFAULT_ARCHIVE_HANDLE_CACHE_SIZE,
+                DEFAULT_MEMORY_MAPPED_READS,
+                DEFAULT_BLOCK_CACHE_MAX_BYTES,
+                retentionMaxBlocks,
+                retentionMaxBytes,
+                retentionMaxAgeDays,
+                DEFAULT_RETENTION_DELETE_BYTES_PER_SECOND,
+                DEFAULT_GROUP_COMMIT_MAX_BLOCKS,
+                DEFAULT_GROUP_COMMIT_WINDOW_MILLIS,
+                Path.of(""),
+                DEFAULT_COMPRESSION_DICTIONARY_SIZE,
+                DEFAULT_COMPRESSION_DICTIONARY_SAMPLE_BLOCKS);
+        assertThat(actual)
+                .returns(retentionMaxBlocks, from(PersistenceStorageConfig::retentionMaxBlocks))
+                .returns(retentionMaxBytes, from(PersistenceStorageConfig::retentionMaxBytes))
+                .returns(retentionMaxAgeDays, from(PersistenceStorageConfig::retentionMaxAgeDays))
+                .returns(expectedRetentionEnabled, from(PersistenceStorageConfig::retentionEnabled));
+    }
+
+    /**
+     * This test aims to verify that the {@link PersistenceStorageConfig} class
+     * correctly throws an {@link IllegalArgumentException} when the retention
+     * policy is invalid.
+     *
+     * @param retentionMaxBlocks parameterized, the number of blocks to retain
+     * @param retentionMaxBytes parameterized, the bytes to retain
+     * @param retentionMaxAgeDays parameterized, the days to retain for
+     */
+    @ParameterizedTest
+    @MethodSource("invalidRetentionPolicies")
+    void testPersistenceStorageConfigInvalidRetentionPolicies(
+            final long retentionMaxBlocks, final long retentionMaxBytes, final int retentionMaxAgeDays) {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new PersistenceStorageConfig(
+                        Path.of(""),
+                        Path.of(""),
+                        Path.of(""),
+                        StorageType.BLOCK_AS_LOCAL_FILE,
+                        CompressionType.NONE,
+                        DEFAULT_COMPRESSION_LEVEL,
+                        DEFAULT_ARCHIVE_BATCH_SIZE,
+                        DEFAULT_EXECUTION_QUEUE_LIMIT,
+                        DEFAULT_EXECUTOR_TYPE,
+                        DEFAULT_THREAD_COUNT,
+                        DEFAULT_THREAD_KEEP_ALIVE_TIME,
+                        DEFAULT_USE_VIRTUAL_THREADS,
+                        DEFAULT_SEGMENT_SIZE,
+                        DEFAULT_ARCHIVE_HANDLE_CACHE_SIZE,
+                        DEFAULT_MEMORY_MAPPED_READS,
+                        DEFAULT_BLOCK_CACHE_MAX_BYTES,
+                        retentionMaxBlocks,
+                        retentionMaxBytes,
+                        retentionMaxAgeDays,
+                        DEFAULT_RETENTION_DELETE_BYTES_PER_SECOND,
+                        DEFAULT_GROUP_COMMIT_MAX_BLOCKS,
+                        DEFAULT_GROUP_COMMIT_WINDOW_MILLIS,
+                        Path.of(""),
+                        DEFAULT_COMPRESSION_DICTIONARY_SIZE,
+                        DEFAULT_COMPRESSION_DICTIONARY_SAMPLE_BLOCKS));
+    }
+
+    /**
+     * This test aims to verify that the {@link PersistenceStorageConfig} class
+     * correctly returns the retention delete rate that was set in the
+     * constructor.
+     *
+     * @param retentionDeleteBytesPerSecond parameterized, the delete rate to
+     * test
+     */
+    @ParameterizedTest
+    @ValueSource(longs = {1L, 1048576L, 67108864L})
+    void testPersistenceStorageConfigValidRetentionDeleteBytesPerSecond(final long retentionDeleteBytesPerSecond) {
+        final PersistenceStorageConfig actual = new PersistenceStorageConfig(
+                Path.of(""),
+                Path.of(""),
+                Path.of(""),
+                StorageType.BLOCK_AS_LOCAL_FILE,
+                CompressionType.NONE,
+                DEFAULT_COMPRESSION_LEVEL,
+                DEFAULT_ARCHIVE_BATCH_SIZE,
+                DEFAULT_EXECUTION_QUEUE_LIMIT,
+                DEFAULT_EXECUTOR_TYPE,
+                DEFAULT_THREAD_COUNT,
+                DEFAULT_THREAD_KEEP_ALIVE_TIME,
+                DEFAULT_USE_VIRTUAL_THREADS,
+                DEFAULT_SEGMENT_SIZE,
+                DEFAULT_ARCHIVE_HANDLE_CACHE_SIZE,
+                DEFAULT_MEMORY_MAPPED_READS,
+                DEFAULT_BLOCK_CACHE_MAX_BYTES,
+                DEFAULT_RETENTION_MAX_BLOCKS,
+                DEFAULT_RETENTION_MAX_BYTES,
+                DEFAULT_RETENTION_MAX_AGE_DAYS,
+                retentionDeleteBytesPerSecond);
+        assertThat(actual)
+                .returns(
+                        retentionDeleteBytesPerSecond,
+                        from(PersistenceStorageConfig::retentionDeleteBytesPerSecond));
+    }
+
+    /**
+     * This test aims to verify that the {@link PersistenceStorageConfig} class
+     * correctly throws an {@link IllegalArgumentException} when the retention
+     * delete rate is invalid.
+     *
+     * @param retentionDeleteBytesPerSecond parameterized, the delete rate to
+     * test
+     */
+    @ParameterizedTest
+    @ValueSource(longs = {0L, -1L, -67108864L})
+    void testPersistenceStorageConfigInvalidRetentionDeleteBytesPerSecond(final long retentionDeleteBytesPerSecond) {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new PersistenceStorageConfig(
+                        Path.of(""),
+                        Path.of(""),
+                        Path.of(""),
+                        StorageType.BLOCK_AS_LOCAL_FILE,
+                        CompressionType.NONE,
+                        DEFAULT_COMPRESSION_LEVEL,
+                        DEFAULT_ARCHIVE_BATCH_SIZE,
+                        DEFAULT_EXECUTION_QUEUE_LIMIT,
+                        DEFAULT_EXECUTOR_TYPE,
+                        DEFAULT_THREAD_COUNT,
+                        DEFAULT_THREAD_KEEP_ALIVE_TIME,
+                        DEFAULT_USE_VIRTUAL_THREADS,
+                        DEFAULT_SEGMENT_SIZE,
+                        DEFAULT_ARCHIVE_HANDLE_CACHE_SIZE,
+                        DEFAULT_MEMORY_MAPPED_READS,
+                        DEFAULT_BLOCK_CACHE_MAX_BYTES,
+                        DEFAULT_RETENTION_MAX_BLOCKS,
+                        DEFAULT_RETENTION_MAX_BYTES,
+                        DEFAULT_RETENTION_MAX_AGE_DAYS,
+                        retentionDeleteBytesPerSecond));
+    }
+
     /**
      * The default absolute paths. We expect these to allow the persistence
      * config to be instantiated. Providing a blank string is accepted, it will
@@ -625,4 +1219,33 @@ class PersistenceStorageConfigTest {
     private static Stream<Arguments> validUseVirtualThreads() {
         return Stream.of(Arguments.of(true), Arguments.of(false));
     }
+
+    private static Stream<Arguments> validSegmentSizes() {
+        return Stream.of(
+                Arguments.of(1_048_576L),
+                Arguments.of(67_108_864L),
+                Arguments.of(1_073_741_824L),
+                Arguments.of(4_294_967_296L));
+    }
+
+    private static Stream<Arguments> invalidSegmentSizes() {
+        return Stream.of(Arguments.of(-1L), Arguments.of(0L), Arguments.of(1_048_575L));
+    }
+
+    private static Stream<Arguments> validRetentionPolicies() {
+        return Stream.of(
+                Arguments.of(0L, 0L, 0, false),
+                Arguments.of(1L, 0L, 0, true),
+                Arguments.of(0L, 1L, 0, true),
+                Arguments.of(0L, 0L, 1, true),
+                Arguments.of(1_000_000L, 1_099_511_627_776L, 365, true));
+    }
+
+    private static Stream<Arguments> invalidRetentionPolicies() {
+        return Stream.of(
+                Arguments.of(-1L, 0L, 0),
+                Arguments.of(0L, -1L, 0),
+                Arguments.of(0L, 0L, -1),
+                Arguments.of(Long.MIN_VALUE, Long.MIN_VALUE, Integer.MIN_VALUE));
+    }
 }
@@ -0,0 +1,110 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.persistence.storage.archive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hiero.block.server.util.PersistTestUtils.PERSISTENCE_STORAGE_LIVE_ROOT_PATH_KEY;
+import static org.hiero.block.server.util.PersistTestUtils.PERSISTENCE_STORAGE_SEGMENT_SIZE;
+
+import com.swirlds.config.api.ConfigurationBuilder;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import org.hiero.block.server.persistence.storage.PersistenceStorageConfig;
+import org.hiero.block.server.persistence.storage.path.BlockAsSegmentLogPathResolver;
+import org.hiero.block.server.persistence.storage.path.BlockPathResolver;
+import org.hiero.block.server.persistence.storage.segment.SegmentLog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link BlockAsSegmentLogArchiver}.
+ */
+class BlockAsSegmentLogArchiverTest {
+    @TempDir
+    private Path testTempDir;
+
+    private SegmentLog segmentLog;
+    private BlockPathResolver pathResolver;
+    private List<Runnable> submitted;
+    private BlockAsSegmentLogArchiver toTest;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        final PersistenceStorageConfig config = ConfigurationBuilder.create()
+                .withConfigDataType(PersistenceStorageConfig.class)
+                .withValue(PERSISTENCE_STORAGE_LIVE_ROOT_PATH_KEY, testTempDir.resolve("live").toString())
+                .withValue(PERSISTENCE_STORAGE_SEGMENT_SIZE, String.valueOf(1024 * 1024))
+                .build()
+                .getConfigData(PersistenceStorageConfig.class);
+        segmentLog = new SegmentLog(config);
+        pathResolver = new BlockAsSegmentLogPathResolver(config, segmentLog);
+        submitted = new ArrayList<>();
+        final Executor executor = submitted::add;
+        toTest = new BlockAsSegmentLogArchiver(pathResolver, segmentLog, executor);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        segmentLog.close();
+    }
+
+    /**
+     * This test aims to verify that the Blocks persisted while an append is
+     * pending are appended together, in order, by a single background task,
+     * and that their staged files are removed once appended.
+     */
+    @Test
+    void testAppendsPersistedBlocksInBackground() throws IOException {
+        stage(0L);
+        stage(1L);
+
+        toTest.notifyBlockPersisted(0L);
+        toTest.notifyBlockPersisted(1L);
+
+        assertThat(segmentLog.findLatestBlockNumber()).isEmpty();
+        assertThat(submitted).hasSize(1);
+        submitted.getFirst().run();
+
+        assertThat(segmentLog.contains(0L)).isTrue();
+        assertThat(segmentLog.contains(1L)).isTrue();
+        assertThat(segmentLog.find(0L).orElseThrow().segment())
+                .isEqualTo(segmentLog.find(1L).orElseThrow().segment());
+        assertThat(pathResolver.findLiveBlock(0L)).isEmpty();
+        assertThat(pathResolver.findLiveBlock(1L)).isEmpty();
+        assertThat(pathResolver.existsVerifiedBlock(1L)).isTrue();
+    }
+
+    /**
+     * This test aims to verify that the staged Blocks a previous run left
+     * unappended are appended ahead of the next persisted Block.
+     */
+    @Test
+    void testAppendsLeftoverStagedBlocks() throws IOException {
+        stage(0L);
+        toTest.notifyBlockPersisted(0L);
+        submitted.removeFirst().run();
+        // Block 1 was staged but not appended before a restart
+        stage(1L);
+        stage(2L);
+
+        toTest.notifyBlockPersisted(2L);
+        submitted.removeFirst().run();
+
+        assertThat(segmentLog.contains(1L)).isTrue();
+        assertThat(segmentLog.contains(2L)).isTrue();
+        assertThat(segmentLog.find(2L).orElseThrow().offset())
+                .isGreaterThan(segmentLog.find(1L).orElseThrow().offset());
+        assertThat(pathResolver.findLiveBlock(1L)).isEmpty();
+    }
+
+    private void stage(final long blockNumber) throws IOException {
+        final Path stagedPath = pathResolver.resolveLiveRawPathToBlock(blockNumber);
+        Files.createDirectories(stagedPath.getParent());
+        Files.write(stagedPath, new byte[] {(byte) blockNumber, 1, 2, 3});
+    }
+}
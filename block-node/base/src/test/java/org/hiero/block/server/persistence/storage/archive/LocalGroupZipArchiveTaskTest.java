@@ -168,7 +168,8 @@ class LocalGroupZipArchiveTaskTest {
         doWriteBlocks(blocksTenToNineteenAsItems, 10, 20);
         // create the root for the archive under live, this is expected to be
         // present for the task to run properly
-        Files.createDirectories(pathResolverSpy.resolveRawPathToArchiveParentUnderLive(9));
+        Files.createDirectories(
+                pathResolverSpy.resolveRawPathToArchiveParentUnderLive(9).orElseThrow());
         // call the actual archiver
         final LocalGroupZipArchiveTask toTest =
                 new LocalGroupZipArchiveTask(THRESHOLD_PASSED_TEN, persistenceStorageConfig, pathResolverSpy);
@@ -179,7 +180,7 @@ class LocalGroupZipArchiveTaskTest {
     @Test
     void testArchiveBlockThrowsExceptionIfZipFileExists() throws IOException {
         // create the zip file that should not exist when starting the archiver
-        final Path zipFile = pathResolverSpy.resolveRawPathToArchiveParentUnderArchive(0);
+        final Path zipFile = pathResolverSpy.resolveRawPathToArchiveParentUnderArchive(0).orElseThrow();
         FileUtilities.createFile(zipFile);
         // call the actual archiver
         final LocalGroupZipArchiveTask toTest =
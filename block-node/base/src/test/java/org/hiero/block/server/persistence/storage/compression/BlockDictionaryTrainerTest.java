@@ -0,0 +1,95 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.persistence.storage.compression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hiero.block.server.util.PersistTestUtils.PERSISTENCE_STORAGE_ARCHIVE_ROOT_PATH_KEY;
+import static org.hiero.block.server.util.PersistTestUtils.PERSISTENCE_STORAGE_LIVE_ROOT_PATH_KEY;
+import static org.hiero.block.server.util.PersistTestUtils.PERSISTENCE_STORAGE_UNVERIFIED_ROOT_PATH_KEY;
+
+import com.swirlds.config.api.ConfigurationBuilder;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.hiero.block.common.utils.FileUtilities;
+import org.hiero.block.server.persistence.storage.PersistenceStorageConfig;
+import org.hiero.block.server.persistence.storage.PersistenceStorageConfig.CompressionType;
+import org.hiero.block.server.persistence.storage.path.BlockAsLocalFilePathResolver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for the {@link BlockDictionaryTrainer} class.
+ */
+class BlockDictionaryTrainerTest {
+    private static final String PERSISTENCE_STORAGE_COMPRESSION_DICTIONARY_SIZE =
+            "persistence.storage.compressionDictionarySize";
+
+    @TempDir
+    private Path testTempDir;
+
+    private BlockAsLocalFilePathResolver pathResolver;
+    private ZstdDictionaries dictionaries;
+    private BlockDictionaryTrainer toTest;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // the default number of Blocks to sample is 1000
+        final PersistenceStorageConfig persistenceStorageConfig = ConfigurationBuilder.create()
+                .withConfigDataType(PersistenceStorageConfig.class)
+                .withValue(PERSISTENCE_STORAGE_LIVE_ROOT_PATH_KEY, testTempDir.resolve("live").toString())
+                .withValue(PERSISTENCE_STORAGE_ARCHIVE_ROOT_PATH_KEY, testTempDir.resolve("archive").toString())
+                .withValue(PERSISTENCE_STORAGE_UNVERIFIED_ROOT_PATH_KEY, testTempDir.resolve("unverified").toString())
+                .withValue(PERSISTENCE_STORAGE_COMPRESSION_DICTIONARY_SIZE, "1024")
+                .build()
+                .getConfigData(PersistenceStorageConfig.class);
+        pathResolver = new BlockAsLocalFilePathResolver(persistenceStorageConfig);
+        dictionaries = ZstdDictionaries.open(testTempDir.resolve("dictionaries"), 3);
+        toTest = new BlockDictionaryTrainer(
+                persistenceStorageConfig, pathResolver, NoOpCompression.newInstance(dictionaries));
+    }
+
+    /**
+     * This test aims to verify that no dictionary is trained while there are
+     * fewer Blocks than are sampled, and that one is trained and installed
+     * once enough Blocks were persisted.
+     */
+    @Test
+    void testDictionaryIsTrainedOnceEnoughBlocks() throws IOException {
+        final List<byte[]> blocks = ZstdDictionariesTest.samples();
+        for (int i = 0; i < blocks.size() / 2; i++) {
+            createBlockFile(i, blocks.get(i));
+        }
+        assertThat(toTest.trainAndInstall(dictionaries)).isFalse();
+        assertThat(dictionaries.activeDictionary()).isNull();
+
+        for (int i = blocks.size() / 2; i < blocks.size(); i++) {
+            createBlockFile(i, blocks.get(i));
+        }
+        assertThat(toTest.trainAndInstall(dictionaries)).isTrue();
+        assertThat(dictionaries.activeDictionary()).isNotNull();
+    }
+
+    /**
+     * This test aims to verify that a dictionary trained in the background is
+     * installed on the given executor.
+     */
+    @Test
+    void testDictionaryIsTrainedInBackground() throws IOException {
+        final List<byte[]> blocks = ZstdDictionariesTest.samples();
+        for (int i = 0; i < blocks.size(); i++) {
+            createBlockFile(i, blocks.get(i));
+        }
+
+        toTest.trainInBackground(dictionaries, Runnable::run);
+        assertThat(dictionaries.activeDictionary()).isNotNull();
+    }
+
+    private void createBlockFile(final long blockNumber, final byte[] block) throws IOException {
+        final Path blockPath = FileUtilities.appendExtension(
+                pathResolver.resolveLiveRawPathToBlock(blockNumber), CompressionType.NONE.getFileExtension());
+        Files.createDirectories(blockPath.getParent());
+        Files.write(blockPath, block);
+    }
+}
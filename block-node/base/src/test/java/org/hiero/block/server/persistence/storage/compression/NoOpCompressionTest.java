@@ -43,6 +43,16 @@ class NoOpCompressionTest {
         assertThat(toTest.getCompressionFileExtension()).isNotNull().isBlank();
     }
 
+    /**
+     * This test aims to verify that the
+     * {@link NoOpCompression#getCompressionType()} method returns
+     * {@link CompressionType#NONE}.
+     */
+    @Test
+    void testGetCompressionType() {
+        assertThat(toTest.getCompressionType()).isEqualTo(CompressionType.NONE);
+    }
+
     /**
      * This test aims to verify that the
      * {@link NoOpCompression#wrap(OutputStream)} correctly wraps a valid
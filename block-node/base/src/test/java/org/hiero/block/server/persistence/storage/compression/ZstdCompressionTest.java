@@ -2,21 +2,34 @@
 package org.hiero.block.server.persistence.storage.compression;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.hiero.block.server.util.PersistTestUtils.PERSISTENCE_STORAGE_COMPRESSION_LEVEL;
 
+import com.github.luben.zstd.Zstd;
 import com.github.luben.zstd.ZstdOutputStream;
+import com.hedera.hapi.block.BlockUnparsed;
+import com.hedera.pbj.runtime.Codec;
+import com.hedera.pbj.runtime.ParseException;
 import com.swirlds.config.api.Configuration;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.stream.Stream;
 import org.hiero.block.common.utils.FileUtilities;
 import org.hiero.block.server.persistence.storage.PersistenceStorageConfig;
 import org.hiero.block.server.persistence.storage.PersistenceStorageConfig.CompressionType;
+import org.hiero.block.server.util.PersistTestUtils;
 import org.hiero.block.server.util.TestConfigUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -24,6 +37,7 @@ import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 /**
  * Tests for the {@link ZstdCompression} class.
@@ -57,6 +71,16 @@ class ZstdCompressionTest {
                 .isEqualTo(".zstd");
     }
 
+    /**
+     * This test aims to verify that the
+     * {@link ZstdCompression#getCompressionType()} method returns
+     * {@link CompressionType#ZSTD}.
+     */
+    @Test
+    void testGetCompressionType() {
+        assertThat(toTest.getCompressionType()).isEqualTo(CompressionType.ZSTD);
+    }
+
     /**
      * This test aims to verify that the
      * {@link NoOpCompression#wrap(OutputStream)} correctly wraps a valid
@@ -120,6 +144,162 @@ class ZstdCompressionTest {
         assertThat(actual).isNotNull().isEqualTo(expected);
     }
 
+    /**
+     * This test aims to verify that a {@link CompressionEncoder} created by
+     * {@link ZstdCompression#newEncoder()} compresses stream after stream,
+     * including after a stream that was abandoned, and that every stream is
+     * decompressed by {@link Compression#wrap(InputStream, CompressionType)}.
+     *
+     * @throws IOException if an I/O exception occurs
+     */
+    @Test
+    void testEncoderIsReused() throws IOException {
+        final byte[] first = "first stream".repeat(1_000).getBytes(StandardCharsets.UTF_8);
+        final byte[] second = "second stream".repeat(1_000).getBytes(StandardCharsets.UTF_8);
+        try (final CompressionEncoder encoder = toTest.newEncoder()) {
+            encode(encoder, testTempDir.resolve("first.zstd"), first, true);
+            encode(encoder, testTempDir.resolve("abandoned.zstd"), second, false);
+            encode(encoder, testTempDir.resolve("second.zstd"), second, true);
+        }
+
+        try (final InputStream in =
+                toTest.wrap(Files.newInputStream(testTempDir.resolve("first.zstd")), CompressionType.ZSTD)) {
+            assertThat(in.readAllBytes()).isEqualTo(first);
+        }
+        try (final InputStream in =
+                toTest.wrap(Files.newInputStream(testTempDir.resolve("second.zstd")), CompressionType.ZSTD)) {
+            assertThat(in.readAllBytes()).isEqualTo(second);
+        }
+    }
+
+    /**
+     * This test aims to verify that a {@link CompressionEncoder} created by
+     * {@link ZstdCompression#newEncoder()} compresses the remaining bytes of a
+     * heap buffer larger than its direct input buffer, and consumes them.
+     *
+     * @throws IOException if an I/O exception occurs
+     */
+    @Test
+    void testEncoderCompressesHeapBuffer() throws IOException {
+        final byte[] data = "heap stream".repeat(20_000).getBytes(StandardCharsets.UTF_8);
+        final Path target = testTempDir.resolve("heap.zstd");
+        final ByteBuffer source = ByteBuffer.wrap(data).position(5);
+        try (final CompressionEncoder encoder = toTest.newEncoder();
+                final FileChannel channel =
+                        FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            encoder.begin(channel);
+            encoder.write(source);
+            encoder.end();
+        }
+
+        assertThat(source.hasRemaining()).isFalse();
+        try (final InputStream in = toTest.wrap(Files.newInputStream(target), CompressionType.ZSTD)) {
+            assertThat(in.readAllBytes()).isEqualTo(Arrays.copyOfRange(data, 5, data.length));
+        }
+    }
+
+    /**
+     * This test aims to verify that the
+     * {@link Compression#decompressAndParse(ByteBuffer, CompressionType, Codec)}
+     * correctly decompresses a direct or heap buffer using the Zstandard
+     * compression algorithm and parses the result, also when the decompressed
+     * bytes outgrow the initial decompression buffer.
+     *
+     * @param direct parameterized, whether the compressed bytes are held in a
+     * direct buffer
+     * @throws IOException if an I/O exception occurs
+     * @throws ParseException if a parse exception occurs
+     */
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void testSuccessfulDecompressAndParse(final boolean direct) throws IOException, ParseException {
+        final BlockUnparsed expected = BlockUnparsed.newBuilder()
+                .blockItems(PersistTestUtils.generateBlockItemsUnparsedForWithBlockNumber(1L, 200_000))
+                .build();
+        final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (final OutputStream out = toTest.wrap(compressed)) {
+            BlockUnparsed.PROTOBUF.toBytes(expected).writeTo(out);
+        }
+        final byte[] compressedBytes = compressed.toByteArray();
+        final ByteBuffer source = direct
+                ? ByteBuffer.allocateDirect(compressedBytes.length).put(compressedBytes).flip()
+                : ByteBuffer.wrap(compressedBytes);
+
+        final BlockUnparsed actual = toTest.decompressAndParse(source, CompressionType.ZSTD, BlockUnparsed.PROTOBUF);
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    /**
+     * This test aims to verify that the
+     * {@link Compression#decompress(ByteBuffer, CompressionType)} decompresses
+     * heap buffers one after the other, whether they fit in a pooled input
+     * buffer or not, without the bytes of one leaking into the next.
+     *
+     * @throws IOException if an I/O exception occurs
+     */
+    @Test
+    void testDecompressesHeapBuffersOfAnySize() throws IOException {
+        // random bytes do not compress, so the frame outgrows the pooled input buffers
+        final byte[] large = new byte[512 * 1024];
+        new Random(42L).nextBytes(large);
+        final byte[] small = "small heap block".getBytes(StandardCharsets.UTF_8);
+
+        for (final byte[] data : List.of(large, small, large, small)) {
+            final ByteBuffer source = ByteBuffer.wrap(Zstd.compress(data));
+            assertThat(toTest.decompress(source, CompressionType.ZSTD).toByteArray()).isEqualTo(data);
+            assertThat(source.position()).isZero();
+        }
+    }
+
+    /**
+     * This test aims to verify that the streams compressed with the active
+     * dictionary are tagged with the ID of the dictionary, and that they are
+     * decompressed with it after the dictionaries are opened again, both by
+     * {@link Compression#wrap(InputStream, CompressionType)} and by
+     * {@link Compression#decompressAndParse(ByteBuffer, CompressionType, Codec)}.
+     *
+     * @throws IOException if an I/O exception occurs
+     * @throws ParseException if a parse exception occurs
+     */
+    @Test
+    void testDictionaryCompression() throws IOException, ParseException {
+        final Path dictionaryRootPath = testTempDir.resolve("dictionaries");
+        final ZstdDictionaries dictionaries =
+                ZstdDictionaries.open(dictionaryRootPath, persistenceStorageConfig.compressionLevel());
+        final long dictionaryId = dictionaries.install(ZstdDictionaries.train(ZstdDictionariesTest.samples(), 1024));
+        final ZstdCompression withDictionary = ZstdCompression.of(persistenceStorageConfig, dictionaries);
+        final BlockUnparsed expected = BlockUnparsed.newBuilder()
+                .blockItems(PersistTestUtils.generateBlockItemsUnparsedForWithBlockNumber(2_000L))
+                .build();
+        final byte[] data = BlockUnparsed.PROTOBUF.toBytes(expected).toByteArray();
+        final Path encoded = testTempDir.resolve("encoded.zstd");
+        try (final CompressionEncoder encoder = withDictionary.newEncoder()) {
+            encode(encoder, encoded, data, true);
+        }
+        final Path wrapped = testTempDir.resolve("wrapped.zstd");
+        try (final OutputStream out = withDictionary.wrap(Files.newOutputStream(wrapped))) {
+            out.write(data);
+        }
+
+        final ZstdCompression reader = ZstdCompression.of(
+                persistenceStorageConfig,
+                ZstdDictionaries.open(dictionaryRootPath, persistenceStorageConfig.compressionLevel()));
+        for (final Path compressed : new Path[] {encoded, wrapped}) {
+            final byte[] compressedBytes = Files.readAllBytes(compressed);
+            assertThat(Zstd.getDictIdFromFrame(compressedBytes)).isEqualTo(dictionaryId);
+            try (final InputStream in = reader.wrap(Files.newInputStream(compressed), CompressionType.ZSTD)) {
+                assertThat(in.readAllBytes()).isEqualTo(data);
+            }
+            assertThat(reader.decompressAndParse(
+                            ByteBuffer.wrap(compressedBytes), CompressionType.ZSTD, BlockUnparsed.PROTOBUF))
+                    .isEqualTo(expected);
+        }
+        // without the dictionary the streams cannot be decompressed
+        final ByteBuffer encodedBytes = ByteBuffer.wrap(Files.readAllBytes(encoded));
+        assertThatExceptionOfType(IOException.class)
+                .isThrownBy(() -> toTest.decompress(encodedBytes, CompressionType.ZSTD));
+    }
+
     private Path actualZstdCompression(final byte[] byteArrayTestData) throws IOException {
         final Path tempFile = testTempDir.resolve(
                 FileUtilities.appendExtension(Path.of("tempComparisonFile.txt"), toTest.getCompressionFileExtension()));
@@ -142,4 +322,19 @@ class ZstdCompressionTest {
                 Arguments.of("\t a "),
                 Arguments.of("\n a "));
     }
+
+    private static void encode(
+            final CompressionEncoder encoder, final Path target, final byte[] data, final boolean end)
+            throws IOException {
+        try (final FileChannel channel =
+                FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            encoder.begin(channel);
+            final ByteBuffer source = ByteBuffer.allocateDirect(data.length);
+            source.put(data).flip();
+            encoder.write(source);
+            if (end) {
+                encoder.end();
+            }
+        }
+    }
 }
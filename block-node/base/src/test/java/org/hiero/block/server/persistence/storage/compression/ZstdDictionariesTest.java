@@ -0,0 +1,90 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.persistence.storage.compression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import com.github.luben.zstd.Zstd;
+import com.hedera.hapi.block.BlockUnparsed;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.hiero.block.server.util.PersistTestUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for the {@link ZstdDictionaries} class.
+ */
+class ZstdDictionariesTest {
+    @TempDir
+    private Path testTempDir;
+
+    /**
+     * This test aims to verify that an installed dictionary is kept under the
+     * dictionary root, and is the active dictionary once the dictionaries are
+     * opened again.
+     */
+    @Test
+    void testInstallAndOpen() throws IOException {
+        final Path rootPath = testTempDir.resolve("dictionaries");
+        final ZstdDictionaries dictionaries = ZstdDictionaries.open(rootPath, 3);
+        assertThat(dictionaries.activeDictionary()).isNull();
+        assertThat(rootPath).doesNotExist();
+
+        final byte[] dictionary = ZstdDictionaries.train(samples(), 1024);
+        final long dictionaryId = dictionaries.install(dictionary);
+
+        assertThat(dictionaryId).isEqualTo(Zstd.getDictIdFromDict(dictionary));
+        assertThat(dictionaries.activeDictionary()).isNotNull();
+        assertThat(rootPath.resolve(dictionaryId + ZstdDictionaries.DICTIONARY_FILE_EXTENSION))
+                .hasBinaryContent(dictionary);
+        assertThat(rootPath.resolve(ZstdDictionaries.ACTIVE_FILE_NAME)).hasContent(Long.toString(dictionaryId));
+
+        final ZstdDictionaries reopened = ZstdDictionaries.open(rootPath, 3);
+        assertThat(reopened.activeDictionary()).isNotNull();
+        assertThat(reopened.decompressDictionary(dictionaryId)).isSameAs(reopened.decompressDictionary(dictionaryId));
+    }
+
+    /**
+     * This test aims to verify that a dictionary that is not under the
+     * dictionary root cannot be found, and that dictionaries without a root
+     * have no dictionary.
+     */
+    @Test
+    void testUnknownDictionary() throws IOException {
+        final ZstdDictionaries dictionaries = ZstdDictionaries.open(testTempDir, 3);
+        assertThatExceptionOfType(FileNotFoundException.class)
+                .isThrownBy(() -> dictionaries.decompressDictionary(42L));
+        assertThatExceptionOfType(FileNotFoundException.class)
+                .isThrownBy(() -> ZstdDictionaries.none().decompressDictionary(42L));
+        assertThatExceptionOfType(IOException.class)
+                .isThrownBy(() -> ZstdDictionaries.none().install(ZstdDictionaries.train(samples(), 1024)));
+        assertThat(ZstdDictionaries.none().activeDictionary()).isNull();
+    }
+
+    /**
+     * This test aims to verify that training fails with an
+     * {@link IOException} when there are no samples.
+     */
+    @Test
+    void testTrainWithoutSamples() {
+        assertThatExceptionOfType(IOException.class).isThrownBy(() -> ZstdDictionaries.train(List.of(), 1024));
+    }
+
+    /**
+     * @return samples of Blocks to train a dictionary from
+     */
+    static List<byte[]> samples() {
+        final List<byte[]> samples = new ArrayList<>();
+        for (long blockNumber = 0; blockNumber < 1_000; blockNumber++) {
+            final BlockUnparsed block = BlockUnparsed.newBuilder()
+                    .blockItems(PersistTestUtils.generateBlockItemsUnparsedForWithBlockNumber(blockNumber))
+                    .build();
+            samples.add(BlockUnparsed.PROTOBUF.toBytes(block).toByteArray());
+        }
+        return samples;
+    }
+}
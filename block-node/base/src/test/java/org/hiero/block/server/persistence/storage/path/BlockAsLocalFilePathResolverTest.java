@@ -120,7 +120,7 @@ class BlockAsLocalFilePathResolverTest {
 
     /**
      * This test aims to verify that the
-     * {@link BlockAsLocalFilePathResolver#resolveRawPathToArchiveParentUnderLive(long)}
+     * {@link BlockAsLocalFilePathResolver#resolveRawPathToArchiveParentUnderLive(long).orElseThrow()}
      * correctly resolves the path to an archive root under live, based on group
      * size as to where a given block by number would reside
      *
@@ -132,13 +132,14 @@ class BlockAsLocalFilePathResolverTest {
         final String zipFolder = archiveBlockPath.zipFileName().replace(Constants.ZIP_FILE_EXTENSION, "");
         final Path expected =
                 testLiveRootPath.resolve(archiveBlockPath.dirPath()).resolve(zipFolder);
-        final Path actual = toTest.resolveRawPathToArchiveParentUnderLive(archiveBlockPath.blockNumber());
+        final Path actual = toTest.resolveRawPathToArchiveParentUnderLive(archiveBlockPath.blockNumber())
+                .orElseThrow();
         assertThat(actual).isNotNull().isAbsolute().isEqualByComparingTo(expected);
     }
 
     /**
      * This test aims to verify that the
-     * {@link BlockAsLocalFilePathResolver#resolveRawPathToArchiveParentUnderArchive(long)}
+     * {@link BlockAsLocalFilePathResolver#resolveRawPathToArchiveParentUnderArchive(long).orElseThrow()}
      * correctly resolves the path to an archive root under archive, based on
      * group size as to where a given block by number would reside
      *
@@ -149,7 +150,8 @@ class BlockAsLocalFilePathResolverTest {
     void testSuccessfulResolveParentToArchivedBlocks(final ArchiveBlockPath archiveBlockPath) {
         final Path expected =
                 testArchiveRootPath.resolve(archiveBlockPath.dirPath().resolve(archiveBlockPath.zipFileName()));
-        final Path actual = toTest.resolveRawPathToArchiveParentUnderArchive(archiveBlockPath.blockNumber());
+        final Path actual = toTest.resolveRawPathToArchiveParentUnderArchive(archiveBlockPath.blockNumber())
+                .orElseThrow();
         assertThat(actual).isNotNull().isAbsolute().isEqualByComparingTo(expected);
     }
 
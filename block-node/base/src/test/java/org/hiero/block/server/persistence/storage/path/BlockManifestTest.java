@@ -0,0 +1,60 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.persistence.storage.path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import org.hiero.block.common.utils.FileUtilities;
+import org.hiero.block.server.persistence.storage.PersistenceStorageConfig.CompressionType;
+import org.hiero.block.server.persistence.storage.path.BlockRangeSet.BlockRange;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for the {@link BlockManifest} class.
+ */
+class BlockManifestTest {
+    @TempDir
+    private Path testTempDir;
+
+    /**
+     * This test aims to verify that a written manifest is read back with the
+     * ranges it was written with, replacing the previous manifest.
+     */
+    @Test
+    void testWriteAndRead() throws IOException {
+        final Path manifestPath = testTempDir.resolve("live").resolve(BlockManifest.MANIFEST_FILE_NAME);
+        new BlockManifest(10, List.of(new BlockRange(0L, 9L, CompressionType.NONE)), List.of()).write(manifestPath);
+        final BlockManifest second = new BlockManifest(
+                10,
+                List.of(new BlockRange(20L, 24L, CompressionType.ZSTD), new BlockRange(25L, 25L, CompressionType.NONE)),
+                List.of(new BlockRange(0L, 19L, CompressionType.ZSTD)));
+        second.write(manifestPath);
+
+        assertThat(BlockManifest.read(manifestPath)).contains(second);
+        assertThat(FileUtilities.appendExtension(manifestPath, ".tmp")).doesNotExist();
+    }
+
+    /**
+     * This test aims to verify that a missing manifest, and a manifest that
+     * was not written completely, are not read.
+     */
+    @Test
+    void testReadMissingOrTruncated() throws IOException {
+        final Path manifestPath = testTempDir.resolve(BlockManifest.MANIFEST_FILE_NAME);
+        assertThat(BlockManifest.read(manifestPath)).isEmpty();
+
+        new BlockManifest(10, List.of(new BlockRange(0L, 9L, CompressionType.NONE)), List.of()).write(manifestPath);
+        final byte[] bytes = Files.readAllBytes(manifestPath);
+        Files.write(manifestPath, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThat(BlockManifest.read(manifestPath)).isEmpty();
+
+        bytes[bytes.length - 1]++;
+        Files.write(manifestPath, bytes);
+        assertThat(BlockManifest.read(manifestPath)).isEmpty();
+    }
+}
@@ -0,0 +1,97 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.persistence.storage.path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.hiero.block.server.persistence.storage.PersistenceStorageConfig.CompressionType;
+import org.hiero.block.server.persistence.storage.path.BlockRangeSet.BlockRange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link BlockRangeSet} class.
+ */
+class BlockRangeSetTest {
+    private BlockRangeSet toTest;
+
+    @BeforeEach
+    void setUp() {
+        toTest = new BlockRangeSet();
+    }
+
+    /**
+     * This test aims to verify that consecutive Blocks with the same
+     * compression are merged into a single range.
+     */
+    @Test
+    void testMergesConsecutiveBlocks() {
+        toTest.add(2L, CompressionType.ZSTD);
+        toTest.add(0L, CompressionType.ZSTD);
+        toTest.add(1L, CompressionType.ZSTD);
+
+        assertThat(toTest.remove(0L, 10L)).containsExactly(new BlockRange(0L, 2L, CompressionType.ZSTD));
+    }
+
+    /**
+     * This test aims to verify that Blocks with a different compression are
+     * kept in separate ranges and each is found with its own compression.
+     */
+    @Test
+    void testKeepsCompressionPerBlock() {
+        toTest.add(0L, CompressionType.ZSTD);
+        toTest.add(1L, CompressionType.NONE);
+        toTest.add(2L, CompressionType.ZSTD);
+
+        assertThat(toTest.find(0L)).contains(CompressionType.ZSTD);
+        assertThat(toTest.find(1L)).contains(CompressionType.NONE);
+        assertThat(toTest.find(2L)).contains(CompressionType.ZSTD);
+        assertThat(toTest.find(3L)).isEmpty();
+        assertThat(toTest.first()).contains(0L);
+        assertThat(toTest.last()).contains(2L);
+    }
+
+    /**
+     * This test aims to verify that removing a Block from the middle of a
+     * range splits the range.
+     */
+    @Test
+    void testRemoveSplitsRange() {
+        for (long i = 0; i < 10; i++) {
+            toTest.add(i, CompressionType.NONE);
+        }
+
+        assertThat(toTest.remove(5L)).isTrue();
+        assertThat(toTest.remove(5L)).isFalse();
+
+        assertThat(toTest.contains(4L)).isTrue();
+        assertThat(toTest.contains(5L)).isFalse();
+        assertThat(toTest.contains(6L)).isTrue();
+        assertThat(toTest.remove(3L, 7L))
+                .containsExactly(
+                        new BlockRange(3L, 4L, CompressionType.NONE), new BlockRange(6L, 7L, CompressionType.NONE));
+        assertThat(toTest.first()).contains(0L);
+        assertThat(toTest.last()).contains(9L);
+    }
+
+    /**
+     * This test aims to verify that removed ranges can be added to another
+     * set, keeping their compression.
+     */
+    @Test
+    void testMoveRanges() {
+        for (long i = 0; i < 20; i++) {
+            toTest.add(i, (i < 5) ? CompressionType.NONE : CompressionType.ZSTD);
+        }
+        final BlockRangeSet target = new BlockRangeSet();
+
+        final List<BlockRange> moved = toTest.remove(0L, 9L);
+        moved.forEach(target::add);
+
+        assertThat(toTest.first()).contains(10L);
+        assertThat(target.first()).contains(0L);
+        assertThat(target.last()).contains(9L);
+        assertThat(target.find(4L)).contains(CompressionType.NONE);
+        assertThat(target.find(5L)).contains(CompressionType.ZSTD);
+    }
+}
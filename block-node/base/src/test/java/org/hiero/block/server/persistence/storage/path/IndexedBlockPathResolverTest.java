@@ -0,0 +1,284 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.persistence.storage.path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.BlockIndexRebuildFailures;
+import static org.hiero.block.server.util.PersistTestUtils.PERSISTENCE_STORAGE_ARCHIVE_GROUP_SIZE;
+import static org.hiero.block.server.util.PersistTestUtils.PERSISTENCE_STORAGE_ARCHIVE_ROOT_PATH_KEY;
+import static org.hiero.block.server.util.PersistTestUtils.PERSISTENCE_STORAGE_LIVE_ROOT_PATH_KEY;
+import static org.hiero.block.server.util.PersistTestUtils.PERSISTENCE_STORAGE_UNVERIFIED_ROOT_PATH_KEY;
+
+import com.swirlds.config.api.ConfigurationBuilder;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.hiero.block.common.utils.FileUtilities;
+import org.hiero.block.server.metrics.MetricsService;
+import org.hiero.block.server.persistence.storage.PersistenceStorageConfig;
+import org.hiero.block.server.persistence.storage.PersistenceStorageConfig.CompressionType;
+import org.hiero.block.server.persistence.storage.archive.LocalGroupZipArchiveTask;
+import org.hiero.block.server.persistence.storage.path.BlockRangeSet.BlockRange;
+import org.hiero.block.server.service.Constants;
+import org.hiero.block.server.util.TestConfigUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for the {@link IndexedBlockPathResolver} class.
+ */
+class IndexedBlockPathResolverTest {
+    @TempDir
+    private Path testTempDir;
+
+    private PersistenceStorageConfig persistenceStorageConfig;
+    private BlockAsLocalFilePathResolver fileSystemResolver;
+    private MetricsService metricsService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        persistenceStorageConfig = ConfigurationBuilder.create()
+                .withConfigDataType(PersistenceStorageConfig.class)
+                .withValue(PERSISTENCE_STORAGE_LIVE_ROOT_PATH_KEY, testTempDir.resolve("live").toString())
+                .withValue(PERSISTENCE_STORAGE_ARCHIVE_ROOT_PATH_KEY, testTempDir.resolve("archive").toString())
+                .withValue(PERSISTENCE_STORAGE_UNVERIFIED_ROOT_PATH_KEY, testTempDir.resolve("unverified").toString())
+                .withValue(PERSISTENCE_STORAGE_ARCHIVE_GROUP_SIZE, "10")
+                .build()
+                .getConfigData(PersistenceStorageConfig.class);
+        fileSystemResolver = new BlockAsLocalFilePathResolver(persistenceStorageConfig);
+        metricsService = TestConfigUtil.getTestBlockNodeMetricsService();
+    }
+
+    /**
+     * This test aims to verify that the index is built from the Blocks that
+     * exist in the storage when the resolver is created, and that lookups
+     * resolve the same paths as the file system resolver.
+     */
+    @Test
+    void testIndexIsBuiltFromStorage() throws IOException {
+        createBlockFile(fileSystemResolver.resolveLiveRawUnverifiedPathToBlock(0L), CompressionType.ZSTD);
+        for (long i = 1; i < 5; i++) {
+            createBlockFile(fileSystemResolver.resolveLiveRawPathToBlock(i), CompressionType.NONE);
+        }
+
+        final IndexedBlockPathResolver toTest = new IndexedBlockPathResolver(persistenceStorageConfig, metricsService);
+
+        assertThat(toTest.findUnverifiedBlock(0L)).isEqualTo(fileSystemResolver.findUnverifiedBlock(0L));
+        assertThat(toTest.findLiveBlock(3L)).isPresent().isEqualTo(fileSystemResolver.findLiveBlock(3L));
+        assertThat(toTest.findLiveBlock(5L)).isEmpty();
+        assertThat(toTest.existsVerifiedBlock(0L)).isFalse();
+        assertThat(toTest.existsVerifiedBlock(4L)).isTrue();
+        assertThat(toTest.findFirstAvailableBlockNumber()).contains(1L);
+        assertThat(toTest.findLatestAvailableBlockNumber()).contains(4L);
+    }
+
+    /**
+     * This test aims to verify that the index is built from archived Blocks
+     * as well, and that lookups resolve the same archive paths as the file
+     * system resolver.
+     */
+    @Test
+    void testIndexIsBuiltFromArchive() throws Exception {
+        for (long i = 0; i < 20; i++) {
+            createBlockFile(fileSystemResolver.resolveLiveRawPathToBlock(i), CompressionType.ZSTD);
+        }
+        new LocalGroupZipArchiveTask(20L, persistenceStorageConfig, fileSystemResolver).call();
+
+        final IndexedBlockPathResolver toTest = new IndexedBlockPathResolver(persistenceStorageConfig, metricsService);
+
+        // the task archives the group below the threshold, blocks 10 to 19
+        assertThat(toTest.findArchivedBlock(15L)).isPresent().isEqualTo(fileSystemResolver.findArchivedBlock(15L));
+        assertThat(toTest.findLiveBlock(15L)).isEmpty();
+        assertThat(toTest.findLiveBlock(7L)).isPresent().isEqualTo(fileSystemResolver.findLiveBlock(7L));
+        assertThat(toTest.findFirstAvailableBlockNumber()).contains(0L);
+        assertThat(toTest.findLatestAvailableBlockNumber()).contains(19L);
+    }
+
+    /**
+     * This test aims to verify that the index follows a Block through its
+     * lifecycle, from unverified to live to archived to pruned, without
+     * looking at the storage.
+     */
+    @Test
+    void testIndexFollowsRegistrations() throws IOException {
+        final IndexedBlockPathResolver toTest = new IndexedBlockPathResolver(persistenceStorageConfig, metricsService);
+
+        toTest.registerUnverifiedBlock(12L, CompressionType.ZSTD);
+        assertThat(toTest.findUnverifiedBlock(12L))
+                .get()
+                .extracting(UnverifiedBlockPath::compressionType)
+                .isEqualTo(CompressionType.ZSTD);
+        assertThat(toTest.existsVerifiedBlock(12L)).isFalse();
+
+        toTest.registerVerifiedBlock(12L, CompressionType.ZSTD);
+        assertThat(toTest.findUnverifiedBlock(12L)).isEmpty();
+        assertThat(toTest.findLiveBlock(12L)).isPresent();
+        assertThat(toTest.existsVerifiedBlock(12L)).isTrue();
+
+        toTest.registerArchivedBlocks(10L, 19L);
+        assertThat(toTest.findLiveBlock(12L)).isEmpty();
+        assertThat(toTest.findArchivedBlock(12L))
+                .get()
+                .extracting(ArchiveBlockPath::zipEntryName)
+                .asString()
+                .endsWith(CompressionType.ZSTD.getFileExtension());
+        assertThat(toTest.existsVerifiedBlock(12L)).isTrue();
+
+        toTest.registerUnverifiedBlock(13L, CompressionType.NONE);
+        toTest.unregisterUnverifiedBlock(13L);
+        assertThat(toTest.findUnverifiedBlock(13L)).isEmpty();
+
+        toTest.unregisterArchivedBlocks(10L, 19L);
+        assertThat(toTest.findArchivedBlock(12L)).isEmpty();
+        assertThat(toTest.existsVerifiedBlock(12L)).isFalse();
+        assertThat(toTest.findFirstAvailableBlockNumber()).isEmpty();
+    }
+
+    /**
+     * This test aims to verify that the index is restored from the manifest
+     * checkpointed by a previous resolver, without scanning the storage, and
+     * that the Blocks moved to live after the checkpoint are added to it.
+     */
+    @Test
+    void testIndexIsRestoredFromManifest() throws IOException {
+        for (long i = 0; i < 5; i++) {
+            createBlockFile(fileSystemResolver.resolveLiveRawPathToBlock(i), CompressionType.NONE);
+        }
+        new IndexedBlockPathResolver(persistenceStorageConfig, metricsService);
+        assertThat(persistenceStorageConfig.liveRootPath().resolve(BlockManifest.MANIFEST_FILE_NAME))
+                .exists();
+
+        // block 5 follows the checkpoint, block 9 would only be found by a scan
+        createBlockFile(fileSystemResolver.resolveLiveRawPathToBlock(5L), CompressionType.ZSTD);
+        createBlockFile(fileSystemResolver.resolveLiveRawPathToBlock(9L), CompressionType.NONE);
+        final IndexedBlockPathResolver toTest = new IndexedBlockPathResolver(persistenceStorageConfig, metricsService);
+
+        assertThat(toTest.findLiveBlock(5L)).isPresent().isEqualTo(fileSystemResolver.findLiveBlock(5L));
+        assertThat(toTest.findLiveBlock(9L)).isEmpty();
+        assertThat(toTest.findFirstAvailableBlockNumber()).contains(0L);
+        assertThat(toTest.findLatestAvailableBlockNumber()).contains(5L);
+    }
+
+    /**
+     * This test aims to verify that a manifest that no longer matches the
+     * storage is rebuilt in the background, that lookups probe the file
+     * system until then, and that the Blocks registered in the meantime are
+     * indexed once it is rebuilt.
+     */
+    @Test
+    void testStaleManifestIsRebuilt() throws IOException {
+        for (long i = 0; i < 5; i++) {
+            createBlockFile(fileSystemResolver.resolveLiveRawPathToBlock(i), CompressionType.NONE);
+        }
+        new IndexedBlockPathResolver(persistenceStorageConfig, metricsService);
+        Files.delete(fileSystemResolver.resolveLiveRawPathToBlock(0L));
+
+        final List<Runnable> tasks = new ArrayList<>();
+        final IndexedBlockPathResolver toTest = new IndexedBlockPathResolver(persistenceStorageConfig, tasks::add, metricsService);
+        assertThat(toTest.findLiveBlock(3L)).isPresent().isEqualTo(fileSystemResolver.findLiveBlock(3L));
+        assertThat(toTest.findFirstAvailableBlockNumber()).contains(1L);
+        toTest.registerVerifiedBlock(5L, CompressionType.ZSTD);
+        assertThat(toTest.findLiveBlock(5L)).isEmpty();
+
+        while (!tasks.isEmpty()) {
+            tasks.removeFirst().run();
+        }
+        assertThat(toTest.findLiveBlock(5L)).isPresent();
+        assertThat(toTest.findFirstAvailableBlockNumber()).contains(1L);
+        assertThat(toTest.findLatestAvailableBlockNumber()).contains(5L);
+        final Path manifestPath = persistenceStorageConfig.liveRootPath().resolve(BlockManifest.MANIFEST_FILE_NAME);
+        assertThat(BlockManifest.read(manifestPath))
+                .get()
+                .extracting(BlockManifest::liveRanges)
+                .isEqualTo(List.of(
+                        new BlockRange(1L, 4L, CompressionType.NONE), new BlockRange(5L, 5L, CompressionType.ZSTD)));
+    }
+
+    /**
+     * This test aims to verify that the index is checkpointed right away when
+     * Blocks are archived or pruned, once per group of Blocks moved to live,
+     * and never when unverified Blocks are registered.
+     */
+    @Test
+    void testCheckpointIsRateLimited() throws IOException {
+        final List<Runnable> tasks = new ArrayList<>();
+        final IndexedBlockPathResolver toTest = new IndexedBlockPathResolver(persistenceStorageConfig, tasks::add, metricsService);
+        while (!tasks.isEmpty()) {
+            tasks.removeFirst().run();
+        }
+
+        toTest.registerUnverifiedBlock(0L, CompressionType.NONE);
+        toTest.unregisterUnverifiedBlock(0L);
+        assertThat(tasks).isEmpty();
+
+        for (long i = 0; i < 9; i++) {
+            toTest.registerVerifiedBlock(i, CompressionType.NONE);
+        }
+        assertThat(tasks).isEmpty();
+        toTest.registerVerifiedBlock(9L, CompressionType.NONE);
+        assertThat(tasks).hasSize(1);
+        tasks.removeFirst().run();
+
+        toTest.registerArchivedBlocks(0L, 9L);
+        assertThat(tasks).hasSize(1);
+        tasks.removeFirst().run();
+        final Path manifestPath = persistenceStorageConfig.liveRootPath().resolve(BlockManifest.MANIFEST_FILE_NAME);
+        assertThat(BlockManifest.read(manifestPath))
+                .get()
+                .extracting(BlockManifest::archivedRanges)
+                .isEqualTo(List.of(new BlockRange(0L, 9L, CompressionType.NONE)));
+
+        toTest.unregisterArchivedBlocks(0L, 9L);
+        assertThat(tasks).hasSize(1);
+    }
+
+    /**
+     * This test aims to verify that a rebuild that fails is counted and
+     * retried, that lookups probe the file system until then, and that the
+     * index is built from the storage once the retry succeeds.
+     */
+    @Test
+    void testFailedRebuildIsRetried() throws Exception {
+        final Path corruptZipPath =
+                persistenceStorageConfig.liveRootPath().resolve("corrupt".concat(Constants.ZIP_FILE_EXTENSION));
+        Files.createDirectories(corruptZipPath.getParent());
+        Files.write(corruptZipPath, new byte[] {1, 2, 3});
+        final List<Runnable> tasks = new ArrayList<>();
+        final IndexedBlockPathResolver toTest =
+                new IndexedBlockPathResolver(persistenceStorageConfig, tasks::add, metricsService);
+        final Thread rebuild = new Thread(tasks.removeFirst());
+        rebuild.start();
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5L);
+        while (metricsService.get(BlockIndexRebuildFailures).get() == 0L && System.nanoTime() < deadline) {
+            Thread.sleep(10L);
+        }
+        assertThat(metricsService.get(BlockIndexRebuildFailures).get()).isEqualTo(1L);
+
+        // the registration is not kept, the retry finds the Block in the storage
+        toTest.registerVerifiedBlock(5L, CompressionType.ZSTD);
+        createBlockFile(fileSystemResolver.resolveLiveRawPathToBlock(5L), CompressionType.NONE);
+        assertThat(toTest.findLiveBlock(5L)).isPresent().isEqualTo(fileSystemResolver.findLiveBlock(5L));
+        Files.delete(corruptZipPath);
+
+        rebuild.join(TimeUnit.SECONDS.toMillis(5L));
+        assertThat(rebuild.isAlive()).isFalse();
+        assertThat(metricsService.get(BlockIndexRebuildFailures).get()).isEqualTo(1L);
+        Files.delete(FileUtilities.appendExtension(
+                fileSystemResolver.resolveLiveRawPathToBlock(5L), CompressionType.NONE.getFileExtension()));
+        // answered by the index, not the storage
+        assertThat(toTest.findLiveBlock(5L))
+                .get()
+                .extracting(LiveBlockPath::compressionType)
+                .isEqualTo(CompressionType.NONE);
+    }
+
+    private static void createBlockFile(final Path rawPath, final CompressionType compressionType)
+            throws IOException {
+        final Path blockPath = FileUtilities.appendExtension(rawPath, compressionType.getFileExtension());
+        Files.createDirectories(blockPath.getParent());
+        Files.write(blockPath, new byte[] {1});
+    }
+}
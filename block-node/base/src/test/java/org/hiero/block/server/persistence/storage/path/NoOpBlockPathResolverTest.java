@@ -60,7 +60,7 @@ class NoOpBlockPathResolverTest {
 
     /**
      * This test aims to verify that the
-     * {@link NoOpBlockPathResolver#resolveRawPathToArchiveParentUnderLive(long)}
+     * {@link NoOpBlockPathResolver#resolveRawPathToArchiveParentUnderLive(long).orElseThrow()}
      * correctly resolves the path to an archive root under live, based on group
      * size as to where a given block by number would reside. The no-op resolver
      * does nothing, always returns a path resolved under '/tmp' based on the
@@ -71,13 +71,13 @@ class NoOpBlockPathResolverTest {
     @ParameterizedTest
     @MethodSource({"validBlockNumbers", "invalidBlockNumbers"})
     void testSuccessfulResolveParentToArchiveUnderLive(final long toResolve, final Path expected) {
-        final Path actual = toTest.resolveRawPathToArchiveParentUnderLive(toResolve);
+        final Path actual = toTest.resolveRawPathToArchiveParentUnderLive(toResolve).orElseThrow();
         assertThat(actual).isNotNull().isAbsolute().isEqualByComparingTo(expected);
     }
 
     /**
      * This test aims to verify that the
-     * {@link NoOpBlockPathResolver#resolveRawPathToArchiveParentUnderArchive(long)}
+     * {@link NoOpBlockPathResolver#resolveRawPathToArchiveParentUnderArchive(long).orElseThrow()}
      * correctly resolves the path to an archive root under archive, based on
      * group size as to where a given block by number would reside. The no-op
      * resolver does nothing, always returns a path resolved under '/tmp' based
@@ -88,7 +88,7 @@ class NoOpBlockPathResolverTest {
     @ParameterizedTest
     @MethodSource({"validBlockNumbers", "invalidBlockNumbers"})
     void testSuccessfulResolveParentToArchivedBlocks(final long toResolve, final Path expected) {
-        final Path actual = toTest.resolveRawPathToArchiveParentUnderArchive(toResolve);
+        final Path actual = toTest.resolveRawPathToArchiveParentUnderArchive(toResolve).orElseThrow();
         assertThat(actual).isNotNull().isAbsolute().isEqualByComparingTo(expected);
     }
 
@@ -0,0 +1,372 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.persistence.storage.read;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.ArchiveHandleCacheHits;
+import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.ArchiveHandleCacheMisses;
+import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Gauge.ArchiveHandlesOpen;
+import static org.hiero.block.server.util.PersistTestUtils.PERSISTENCE_STORAGE_LIVE_ROOT_PATH_KEY;
+
+import com.swirlds.config.api.ConfigurationBuilder;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+import org.hiero.block.server.metrics.MetricsService;
+import org.hiero.block.server.persistence.storage.PersistenceStorageConfig;
+import org.hiero.block.server.util.TestConfigUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Tests for the {@link ArchiveHandleCache} and {@link ArchiveHandle} classes.
+ */
+class ArchiveHandleCacheTest {
+    private static final String PERSISTENCE_STORAGE_ARCHIVE_HANDLE_CACHE_SIZE =
+            "persistence.storage.archiveHandleCacheSize";
+
+    @TempDir
+    private Path testTempDir;
+
+    private PersistenceStorageConfig persistenceStorageConfig;
+    private MetricsService metricsService;
+    private ArchiveHandleCache toTest;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        persistenceStorageConfig = ConfigurationBuilder.create()
+                .withConfigDataType(PersistenceStorageConfig.class)
+                .withValue(PERSISTENCE_STORAGE_LIVE_ROOT_PATH_KEY, testTempDir.toString())
+                .withValue(PERSISTENCE_STORAGE_ARCHIVE_HANDLE_CACHE_SIZE, "2")
+                .build()
+                .getConfigData(PersistenceStorageConfig.class);
+        metricsService = TestConfigUtil.getTestBlockNodeMetricsService();
+        toTest = new ArchiveHandleCache(persistenceStorageConfig, metricsService);
+    }
+
+    /**
+     * This test aims to verify that the entries of a zip are read back with
+     * the bytes they were stored with.
+     */
+    @Test
+    void testReadEntry() throws IOException {
+        final Path zipFilePath = createZip("0.zip", ZipEntry.STORED, "0000/0.blk", "0000/1.blk.zstd");
+
+        try (final ArchiveHandle handle = toTest.acquire(zipFilePath)) {
+            assertThat(handle.zipFilePath()).isEqualTo(zipFilePath);
+            assertThat(handle.readEntry("0000/0.blk")).isEqualTo(entryBytes("0000/0.blk"));
+            assertThat(handle.readEntry("0000/1.blk.zstd")).isEqualTo(entryBytes("0000/1.blk.zstd"));
+            assertThatExceptionOfType(FileNotFoundException.class).isThrownBy(() -> handle.readEntry("0000/2.blk"));
+        }
+    }
+
+    /**
+     * This test aims to verify that an entry that is not stored uncompressed
+     * cannot be read.
+     */
+    @Test
+    void testReadDeflatedEntry() throws IOException {
+        final Path zipFilePath = createZip("0.zip", ZipEntry.DEFLATED, "0000/0.blk");
+
+        try (final ArchiveHandle handle = toTest.acquire(zipFilePath)) {
+            assertThatExceptionOfType(ZipException.class).isThrownBy(() -> handle.readEntry("0000/0.blk"));
+        }
+    }
+
+    /**
+     * This test aims to verify that a zip is opened once and its handle is
+     * shared by subsequent acquisitions, which are reported as hits.
+     */
+    @Test
+    void testHitsAndMisses() throws IOException {
+        final Path zipFilePath = createZip("0.zip", ZipEntry.STORED, "0000/0.blk");
+
+        final ArchiveHandle first = toTest.acquire(zipFilePath);
+        first.close();
+        try (final ArchiveHandle second = toTest.acquire(zipFilePath)) {
+            assertThat(second).isSameAs(first);
+            assertThat(second.readEntry("0000/0.blk")).isEqualTo(entryBytes("0000/0.blk"));
+        }
+
+        assertThat(metricsService.get(ArchiveHandleCacheMisses).get()).isEqualTo(1L);
+        assertThat(metricsService.get(ArchiveHandleCacheHits).get()).isEqualTo(1L);
+        assertThat(metricsService.get(ArchiveHandlesOpen).get()).isEqualTo(1L);
+    }
+
+    /**
+     * This test aims to verify that the least recently used handle is evicted
+     * once the cache is full, and that an evicted handle stays readable until
+     * its last reference is released.
+     */
+    @Test
+    void testEvictsLeastRecentlyUsed() throws IOException {
+        final Path zip0 = createZip("0.zip", ZipEntry.STORED, "0000/0.blk");
+        final Path zip1 = createZip("1.zip", ZipEntry.STORED, "0000/1.blk");
+        final Path zip2 = createZip("2.zip", ZipEntry.STORED, "0000/2.blk");
+
+        final ArchiveHandle held = toTest.acquire(zip0);
+        toTest.acquire(zip1).close();
+        toTest.acquire(zip2).close();
+
+        // zip0 is evicted but still referenced, so it is kept open
+        assertThat(metricsService.get(ArchiveHandlesOpen).get()).isEqualTo(3L);
+        assertThat(held.readEntry("0000/0.blk")).isEqualTo(entryBytes("0000/0.blk"));
+        held.close();
+        assertThat(metricsService.get(ArchiveHandlesOpen).get()).isEqualTo(2L);
+
+        // zip0 has to be opened again
+        try (final ArchiveHandle reopened = toTest.acquire(zip0)) {
+            assertThat(reopened).isNotSameAs(held);
+        }
+        assertThat(metricsService.get(ArchiveHandleCacheMisses).get()).isEqualTo(4L);
+        assertThat(metricsService.get(ArchiveHandlesOpen).get()).isEqualTo(2L);
+    }
+
+    /**
+     * This test aims to verify that an invalidated handle is no longer
+     * cached, and that it stays readable, even after its zip is deleted,
+     * until its last reference is released.
+     */
+    @Test
+    void testInvalidate() throws IOException {
+        final Path zipFilePath = createZip("0.zip", ZipEntry.STORED, "0000/0.blk");
+
+        final ArchiveHandle held = toTest.acquire(zipFilePath);
+        toTest.invalidate(zipFilePath);
+        Files.delete(zipFilePath);
+        assertThat(held.readEntry("0000/0.blk")).isEqualTo(entryBytes("0000/0.blk"));
+        assertThat(metricsService.get(ArchiveHandlesOpen).get()).isEqualTo(1L);
+        held.close();
+        assertThat(metricsService.get(ArchiveHandlesOpen).get()).isZero();
+
+        // the deleted zip can no longer be acquired
+        assertThatExceptionOfType(IOException.class).isThrownBy(() -> toTest.acquire(zipFilePath));
+    }
+
+    /**
+     * This test aims to verify that a handle opened while its zip is
+     * invalidated is not cached, so a zip deleted during its opening is not
+     * served from the cache afterwards.
+     */
+    @Test
+    void testInvalidateWhileOpening() throws IOException {
+        final Path zipFilePath = createZip("0.zip", ZipEntry.STORED, "0000/0.blk");
+        final AtomicReference<ArchiveHandleCache> cache = new AtomicReference<>();
+        cache.set(new ArchiveHandleCache(persistenceStorageConfig, metricsService, (path, owner) -> {
+            final ArchiveHandle opened = ArchiveHandle.open(path, owner);
+            // the zip is pruned once it has been opened
+            Files.delete(path);
+            cache.get().invalidate(path);
+            return opened;
+        }));
+
+        final ArchiveHandle held = cache.get().acquire(zipFilePath);
+        assertThat(held.readEntry("0000/0.blk")).isEqualTo(entryBytes("0000/0.blk"));
+        assertThat(metricsService.get(ArchiveHandlesOpen).get()).isEqualTo(1L);
+        held.close();
+        assertThat(metricsService.get(ArchiveHandlesOpen).get()).isZero();
+
+        // the deleted zip is not served from the cache
+        assertThatExceptionOfType(IOException.class).isThrownBy(() -> cache.get().acquire(zipFilePath));
+    }
+
+    /**
+     * This test aims to verify that a file that is not a zip cannot be
+     * acquired and is not cached.
+     */
+    @Test
+    void testAcquireInvalidZip() throws IOException {
+        final Path notAZip = Files.write(testTempDir.resolve("0.zip"), new byte[] {1, 2, 3});
+
+        assertThatExceptionOfType(ZipException.class).isThrownBy(() -> toTest.acquire(notAZip));
+        assertThat(metricsService.get(ArchiveHandlesOpen).get()).isZero();
+    }
+
+    /**
+     * This test aims to verify that the entries of a zip with more entries
+     * than the end of central directory can count, which is only readable
+     * through its zip64 records, are read back.
+     */
+    @Test
+    void testReadZip64() throws IOException {
+        final int entryCount = 0xFFFF + 1;
+        final Path zipFilePath = testTempDir.resolve("0.zip");
+        try (final OutputStream out = Files.newOutputStream(zipFilePath);
+                final ZipOutputStream zipOut = new ZipOutputStream(out)) {
+            for (int i = 0; i < entryCount; i++) {
+                putStoredEntry(zipOut, "0000/%d.blk".formatted(i), Integer.toString(i).getBytes());
+            }
+        }
+
+        try (final ArchiveHandle handle = toTest.acquire(zipFilePath)) {
+            assertThat(handle.readEntry("0000/0.blk")).isEqualTo("0".getBytes());
+            final String lastEntryName = "0000/%d.blk".formatted(entryCount - 1);
+            assertThat(handle.readEntry(lastEntryName)).isEqualTo(Integer.toString(entryCount - 1).getBytes());
+        }
+    }
+
+    /**
+     * This test aims to verify that the sizes and the offset of an entry set
+     * in the zip64 extra field, rather than in its central directory header,
+     * are used to read the entry.
+     */
+    @Test
+    void testReadZip64ExtraField() throws IOException {
+        final byte[] bytes = entryBytes("0000/0.blk");
+        final Path zipFilePath = Files.write(testTempDir.resolve("0.zip"), zip64("0000/0.blk", bytes));
+
+        try (final ArchiveHandle handle = toTest.acquire(zipFilePath)) {
+            assertThat(handle.readEntry("0000/0.blk")).isEqualTo(bytes);
+            final ByteBuffer mapped = handle.mapEntry("0000/0.blk");
+            final byte[] mappedBytes = new byte[mapped.remaining()];
+            mapped.get(mappedBytes);
+            assertThat(mappedBytes).isEqualTo(bytes);
+        }
+        // the zip is valid for java.util.zip as well
+        try (final ZipFile zipFile = new ZipFile(zipFilePath.toFile())) {
+            assertThat(zipFile.getInputStream(zipFile.getEntry("0000/0.blk")).readAllBytes())
+                    .isEqualTo(bytes);
+        }
+    }
+
+    /**
+     * This test aims to verify that a malformed zip fails to be acquired
+     * with a {@link ZipException} and is not cached.
+     */
+    @ParameterizedTest
+    @MethodSource("malformedZips")
+    void testAcquireMalformedZip(final String description, final Consumer<ByteBuffer> corruption)
+            throws IOException {
+        final Path zipFilePath = createZip("0.zip", ZipEntry.STORED, "0000/0.blk");
+        final ByteBuffer zipBytes =
+                ByteBuffer.wrap(Files.readAllBytes(zipFilePath)).order(ByteOrder.LITTLE_ENDIAN);
+        corruption.accept(zipBytes);
+        Files.write(zipFilePath, Arrays.copyOf(zipBytes.array(), zipBytes.limit()));
+
+        assertThatExceptionOfType(ZipException.class)
+                .as(description)
+                .isThrownBy(() -> toTest.acquire(zipFilePath));
+        assertThat(metricsService.get(ArchiveHandlesOpen).get()).isZero();
+    }
+
+    private static Stream<Arguments> malformedZips() {
+        return Stream.of(
+                Arguments.of("truncated end of central directory", (Consumer<ByteBuffer>)
+                        zip -> zip.limit(zip.limit() - 10)),
+                Arguments.of("central directory past the end of the file", (Consumer<ByteBuffer>)
+                        zip -> zip.putInt(eocd(zip) + 16, zip.limit())),
+                Arguments.of("central directory smaller than its header", (Consumer<ByteBuffer>)
+                        zip -> zip.putInt(eocd(zip) + 12, 10)),
+                Arguments.of("more entries than in the central directory", (Consumer<ByteBuffer>)
+                        zip -> zip.putShort(eocd(zip) + 8, (short) 2).putShort(eocd(zip) + 10, (short) 2)),
+                Arguments.of("invalid central directory header", (Consumer<ByteBuffer>)
+                        zip -> zip.putInt(centralDirectory(zip), 0)),
+                Arguments.of("entry name past the central directory", (Consumer<ByteBuffer>)
+                        zip -> zip.putShort(centralDirectory(zip) + 28, Short.MAX_VALUE)),
+                Arguments.of("invalid local header", (Consumer<ByteBuffer>) zip -> zip.putInt(0, 0)),
+                Arguments.of("local header past the entries", (Consumer<ByteBuffer>)
+                        zip -> zip.putInt(centralDirectory(zip) + 42, centralDirectory(zip))),
+                Arguments.of("entry data past the entries", (Consumer<ByteBuffer>)
+                        zip -> zip.putInt(centralDirectory(zip) + 20, zip.limit())));
+    }
+
+    // the offset of the end of central directory of a zip without a comment
+    private static int eocd(final ByteBuffer zip) {
+        return zip.limit() - 22;
+    }
+
+    private static int centralDirectory(final ByteBuffer zip) {
+        return zip.getInt(eocd(zip) + 16);
+    }
+
+    /**
+     * A zip with a single stored entry whose sizes and offset are all set in
+     * the zip64 extra fields, with zip64 end of central directory records.
+     */
+    private static byte[] zip64(final String entryName, final byte[] bytes) {
+        final byte[] name = entryName.getBytes();
+        final CRC32 crc = new CRC32();
+        crc.update(bytes);
+        final int localEntrySize = 30 + name.length + 20 + bytes.length;
+        final int centralDirectorySize = 46 + name.length + 28;
+        final ByteBuffer zip = ByteBuffer.allocate(localEntrySize + centralDirectorySize + 56 + 20 + 22)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        // local header
+        zip.putInt(0x04034b50).putShort((short) 45).putShort((short) 0).putShort((short) ZipEntry.STORED);
+        zip.putInt(0).putInt((int) crc.getValue()).putInt(0xFFFFFFFF).putInt(0xFFFFFFFF);
+        zip.putShort((short) name.length).putShort((short) 20).put(name);
+        zip.putShort((short) 1).putShort((short) 16).putLong(bytes.length).putLong(bytes.length);
+        zip.put(bytes);
+        // central directory header
+        final int centralDirectoryOffset = zip.position();
+        zip.putInt(0x02014b50).putShort((short) 45).putShort((short) 45).putShort((short) 0);
+        zip.putShort((short) ZipEntry.STORED).putInt(0).putInt((int) crc.getValue());
+        zip.putInt(0xFFFFFFFF).putInt(0xFFFFFFFF).putShort((short) name.length).putShort((short) 28);
+        zip.putShort((short) 0).putShort((short) 0).putShort((short) 0).putInt(0).putInt(0xFFFFFFFF).put(name);
+        zip.putShort((short) 1).putShort((short) 24).putLong(bytes.length).putLong(bytes.length).putLong(0);
+        // zip64 end of central directory record and locator
+        final int zip64EocdOffset = zip.position();
+        zip.putInt(0x06064b50).putLong(44).putShort((short) 45).putShort((short) 45).putInt(0).putInt(0);
+        zip.putLong(1).putLong(1).putLong(centralDirectorySize).putLong(centralDirectoryOffset);
+        zip.putInt(0x07064b50).putInt(0).putLong(zip64EocdOffset).putInt(1);
+        // end of central directory record
+        zip.putInt(0x06054b50).putShort((short) 0).putShort((short) 0).putShort((short) 0xFFFF);
+        zip.putShort((short) 0xFFFF).putInt(0xFFFFFFFF).putInt(0xFFFFFFFF).putShort((short) 0);
+        return zip.array();
+    }
+
+    private Path createZip(final String fileName, final int method, final String... entryNames) throws IOException {
+        final Path zipFilePath = testTempDir.resolve(fileName);
+        try (final OutputStream out = Files.newOutputStream(zipFilePath);
+                final ZipOutputStream zipOut = new ZipOutputStream(out)) {
+            for (final String entryName : entryNames) {
+                final byte[] bytes = entryBytes(entryName);
+                if (method == ZipEntry.STORED) {
+                    putStoredEntry(zipOut, entryName, bytes);
+                } else {
+                    final ZipEntry zipEntry = new ZipEntry(entryName);
+                    zipEntry.setMethod(method);
+                    zipOut.putNextEntry(zipEntry);
+                    zipOut.write(bytes);
+                    zipOut.closeEntry();
+                }
+            }
+        }
+        return zipFilePath;
+    }
+
+    private static void putStoredEntry(final ZipOutputStream zipOut, final String entryName, final byte[] bytes)
+            throws IOException {
+        final ZipEntry zipEntry = new ZipEntry(entryName);
+        zipEntry.setMethod(ZipEntry.STORED);
+        final CRC32 crc = new CRC32();
+        crc.update(bytes);
+        zipEntry.setSize(bytes.length);
+        zipEntry.setCompressedSize(bytes.length);
+        zipEntry.setCrc(crc.getValue());
+        zipOut.putNextEntry(zipEntry);
+        zipOut.write(bytes);
+        zipOut.closeEntry();
+    }
+
+    private static byte[] entryBytes(final String entryName) {
+        return ("contents of " + entryName).repeat(10).getBytes();
+    }
+}
@@ -4,6 +4,8 @@ package org.hiero.block.server.persistence.storage.read;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.from;
+import static org.hiero.block.server.util.PersistTestUtils.PERSISTENCE_STORAGE_ARCHIVE_GROUP_SIZE;
+import static org.hiero.block.server.util.PersistTestUtils.PERSISTENCE_STORAGE_ARCHIVE_ROOT_PATH_KEY;
 import static org.hiero.block.server.util.PersistTestUtils.PERSISTENCE_STORAGE_COMPRESSION_TYPE;
 import static org.hiero.block.server.util.PersistTestUtils.PERSISTENCE_STORAGE_LIVE_ROOT_PATH_KEY;
 import static org.mockito.Mockito.spy;
@@ -15,6 +17,7 @@ import com.hedera.pbj.runtime.ParseException;
 import com.swirlds.config.api.Configuration;
 import com.swirlds.config.api.ConfigurationBuilder;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
@@ -22,16 +25,22 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Stream;
 import org.assertj.core.api.InstanceOfAssertFactories;
+import org.hiero.block.common.utils.FileUtilities;
 import org.hiero.block.server.persistence.storage.PersistenceStorageConfig;
+import org.hiero.block.server.persistence.storage.PersistenceStorageConfig.CompressionType;
+import org.hiero.block.server.persistence.storage.archive.LocalGroupZipArchiveTask;
 import org.hiero.block.server.persistence.storage.compression.Compression;
 import org.hiero.block.server.persistence.storage.compression.NoOpCompression;
+import org.hiero.block.server.persistence.storage.compression.ZstdCompression;
 import org.hiero.block.server.persistence.storage.path.BlockAsLocalFilePathResolver;
 import org.hiero.block.server.persistence.storage.path.BlockPathResolver;
 import org.hiero.block.server.util.PersistTestUtils;
+import org.hiero.block.server.util.TestConfigUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
 
 /**
@@ -41,6 +50,8 @@ import org.junit.jupiter.params.provider.MethodSource;
 class BlockAsLocalFileReaderTest {
     private Compression compressionMock;
     private BlockPathResolver blockPathResolverMock;
+    private PersistenceStorageConfig persistenceStorageConfig;
+    private ArchiveHandleCache archiveHandleCache;
     private BlockAsLocalFileReader toTest;
 
     @TempDir
@@ -53,13 +64,17 @@ class BlockAsLocalFileReaderTest {
                 .withConfigDataType(PersistenceStorageConfig.class)
                 .withValue(PERSISTENCE_STORAGE_COMPRESSION_TYPE, "NONE")
                 .withValue(PERSISTENCE_STORAGE_LIVE_ROOT_PATH_KEY, testLiveRootPath.toString())
+                .withValue(PERSISTENCE_STORAGE_ARCHIVE_ROOT_PATH_KEY, testTempDir.resolve("archive").toString())
+                .withValue(PERSISTENCE_STORAGE_ARCHIVE_GROUP_SIZE, "10")
                 .build();
-        final PersistenceStorageConfig persistenceStorageConfig = config.getConfigData(PersistenceStorageConfig.class);
+        persistenceStorageConfig = config.getConfigData(PersistenceStorageConfig.class);
         final Path testConfigLiveRootPath = persistenceStorageConfig.liveRootPath();
         assertThat(testConfigLiveRootPath).isEqualTo(testLiveRootPath);
         compressionMock = spy(NoOpCompression.newInstance());
         blockPathResolverMock = spy(new BlockAsLocalFilePathResolver(persistenceStorageConfig));
-        toTest = BlockAsLocalFileReader.of(compressionMock, blockPathResolverMock);
+        archiveHandleCache =
+                new ArchiveHandleCache(persistenceStorageConfig, TestConfigUtil.getTestBlockNodeMetricsService());
+        toTest = BlockAsLocalFileReader.of(compressionMock, blockPathResolverMock, archiveHandleCache, false);
     }
 
     /**
@@ -125,6 +140,94 @@ class BlockAsLocalFileReaderTest {
                 .containsExactlyElementsOf(blockItemUnparsed);
     }
 
+    /**
+     * This test aims to verify that memory-mapped reads of live blocks return
+     * the same contents as streamed reads, for every compression type.
+     *
+     * @param compressionType parameterized, the compression of the block file
+     */
+    @ParameterizedTest
+    @EnumSource(CompressionType.class)
+    void testMemoryMappedLiveBlockRead(final CompressionType compressionType) throws IOException, ParseException {
+        final long blockNumber = 12L;
+        final List<BlockItemUnparsed> blockItemUnparsed =
+                PersistTestUtils.generateBlockItemsUnparsedForWithBlockNumber(blockNumber);
+        writeBlockFile(
+                blockPathResolverMock.resolveLiveRawPathToBlock(blockNumber), blockItemUnparsed, compressionType);
+        final BlockAsLocalFileReader mappedReader =
+                BlockAsLocalFileReader.of(compressionMock, blockPathResolverMock, archiveHandleCache, true);
+
+        final Optional<BlockUnparsed> actual = mappedReader.read(blockNumber);
+        assertThat(actual)
+                .isPresent()
+                .get()
+                .extracting(BlockUnparsed::blockItems)
+                .asInstanceOf(InstanceOfAssertFactories.LIST)
+                .containsExactlyElementsOf(blockItemUnparsed);
+        assertThat(actual).isEqualTo(toTest.read(blockNumber));
+    }
+
+    /**
+     * This test aims to verify that memory-mapped reads of archived blocks
+     * return the same contents as streamed reads, for every compression type.
+     *
+     * @param compressionType parameterized, the compression of the block files
+     */
+    @ParameterizedTest
+    @EnumSource(CompressionType.class)
+    void testMemoryMappedArchivedBlockRead(final CompressionType compressionType) throws Exception {
+        for (long i = 10; i < 20; i++) {
+            writeBlockFile(
+                    blockPathResolverMock.resolveLiveRawPathToBlock(i),
+                    PersistTestUtils.generateBlockItemsUnparsedForWithBlockNumber(i),
+                    compressionType);
+        }
+        new LocalGroupZipArchiveTask(20L, persistenceStorageConfig, blockPathResolverMock).call();
+        assertThat(blockPathResolverMock.findArchivedBlock(15L)).isPresent();
+        final BlockAsLocalFileReader mappedReader =
+                BlockAsLocalFileReader.of(compressionMock, blockPathResolverMock, archiveHandleCache, true);
+
+        for (long i = 10; i < 20; i++) {
+            final Optional<BlockUnparsed> actual = mappedReader.read(i);
+            assertThat(actual)
+                    .isPresent()
+                    .get()
+                    .extracting(BlockUnparsed::blockItems)
+                    .asInstanceOf(InstanceOfAssertFactories.LIST)
+                    .containsExactlyElementsOf(PersistTestUtils.generateBlockItemsUnparsedForWithBlockNumber(i));
+            assertThat(actual).isEqualTo(toTest.read(i));
+        }
+    }
+
+    /**
+     * This test aims to verify that the {@link BlockAsLocalFileReader#readEncoded(long)} returns the
+     * encoded bytes of a block, with the boundaries of its items, for streamed and memory-mapped
+     * reads and for every compression type.
+     *
+     * @param compressionType parameterized, the compression of the block file
+     */
+    @ParameterizedTest
+    @EnumSource(CompressionType.class)
+    void testSuccessfulEncodedBlockRead(final CompressionType compressionType) throws IOException, ParseException {
+        final long blockNumber = 12L;
+        final List<BlockItemUnparsed> blockItemUnparsed =
+                PersistTestUtils.generateBlockItemsUnparsedForWithBlockNumber(blockNumber);
+        writeBlockFile(
+                blockPathResolverMock.resolveLiveRawPathToBlock(blockNumber), blockItemUnparsed, compressionType);
+        final BlockUnparsed expected =
+                BlockUnparsed.newBuilder().blockItems(blockItemUnparsed).build();
+        final BlockAsLocalFileReader mappedReader =
+                BlockAsLocalFileReader.of(compressionMock, blockPathResolverMock, archiveHandleCache, true);
+
+        for (final BlockAsLocalFileReader reader : List.of(toTest, mappedReader)) {
+            final EncodedBlock actual = reader.readEncoded(blockNumber).orElseThrow();
+            assertThat(actual.bytes()).isEqualTo(BlockUnparsed.PROTOBUF.toBytes(expected));
+            assertThat(actual.itemCount()).isEqualTo(blockItemUnparsed.size());
+            assertThat(actual.item(blockItemUnparsed.size() - 1)).isEqualTo(blockItemUnparsed.getLast());
+        }
+        assertThat(toTest.readEncoded(blockNumber + 1)).isEmpty();
+    }
+
     /**
      * This test aims to verify that the
      * {@link BlockAsLocalFileReader#read(long) correctly returns an empty {@link Optional} when no block file is
@@ -160,6 +263,22 @@ class BlockAsLocalFileReaderTest {
         return written;
     }
 
+    private void writeBlockFile(
+            final Path rawPath, final List<BlockItemUnparsed> blockItemUnparsed, final CompressionType compressionType)
+            throws IOException {
+        final Path blockPath = FileUtilities.appendExtension(rawPath, compressionType.getFileExtension());
+        Files.createDirectories(blockPath.getParent());
+        final Compression compression = switch (compressionType) {
+            case ZSTD -> ZstdCompression.of(persistenceStorageConfig);
+            case NONE -> NoOpCompression.newInstance();
+        };
+        final BlockUnparsed block =
+                BlockUnparsed.newBuilder().blockItems(blockItemUnparsed).build();
+        try (final OutputStream out = compression.wrap(Files.newOutputStream(blockPath))) {
+            BlockUnparsed.PROTOBUF.toBytes(block).writeTo(out);
+        }
+    }
+
     /**
      * Some valid block numbers.
      *
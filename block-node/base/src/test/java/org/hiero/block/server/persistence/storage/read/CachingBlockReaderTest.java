@@ -0,0 +1,288 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.persistence.storage.read;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIOException;
+import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.BlockCacheEvictions;
+import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.BlockCacheHits;
+import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.BlockCacheMisses;
+import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Gauge.BlockCacheHitRatio;
+import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Gauge.BlockCacheResidentBytes;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.hedera.hapi.block.BlockUnparsed;
+import com.hedera.pbj.runtime.ParseException;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.config.api.ConfigurationBuilder;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+import org.hiero.block.server.metrics.MetricsService;
+import org.hiero.block.server.persistence.storage.PersistenceStorageConfig;
+import org.hiero.block.server.persistence.storage.PersistenceStorageConfig.CompressionType;
+import org.hiero.block.server.util.PersistTestUtils;
+import org.hiero.block.server.util.TestConfigUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Tests for the {@link CachingBlockReader} class.
+ */
+@ExtendWith(MockitoExtension.class)
+class CachingBlockReaderTest {
+    private static final String PERSISTENCE_STORAGE_BLOCK_CACHE_MAX_BYTES = "persistence.storage.blockCacheMaxBytes";
+
+    @Mock
+    private BlockAsLocalFileReader blockReaderMock;
+
+    private MetricsService metricsService;
+    private EncodedBlock block1;
+    private EncodedBlock block2;
+    private EncodedBlock block3;
+
+    @BeforeEach
+    void setUp() throws ParseException {
+        metricsService = TestConfigUtil.getTestBlockNodeMetricsService();
+        block1 = encode(1);
+        block2 = encode(2);
+        block3 = encode(3);
+    }
+
+    /**
+     * This test aims to verify that a block is read from the storage once and
+     * that the following reads of the block, parsed or encoded, are served
+     * from the cache.
+     */
+    @Test
+    void testHitsAndMisses() throws IOException, ParseException {
+        when(blockReaderMock.readEncoded(1)).thenReturn(Optional.of(block1));
+        final CachingBlockReader toTest = newCachingBlockReader(1024 * 1024);
+
+        assertThat(toTest.readEncoded(1)).containsSame(block1);
+        assertThat(toTest.readEncoded(1)).containsSame(block1);
+        assertThat(toTest.read(1)).contains(BlockUnparsed.PROTOBUF.parse(block1.bytes()));
+
+        verify(blockReaderMock, times(1)).readEncoded(1);
+        verify(blockReaderMock, never()).read(1);
+        assertThat(metricsService.get(BlockCacheMisses).get()).isEqualTo(1L);
+        assertThat(metricsService.get(BlockCacheHits).get()).isEqualTo(2L);
+        assertThat(metricsService.get(BlockCacheHitRatio).get()).isEqualTo(66L);
+    }
+
+    /**
+     * This test aims to verify that a block that is not found is not cached.
+     */
+    @Test
+    void testNotFound() throws IOException, ParseException {
+        when(blockReaderMock.readEncoded(1)).thenReturn(Optional.empty(), Optional.of(block1));
+        final CachingBlockReader toTest = newCachingBlockReader(1024 * 1024);
+
+        assertThat(toTest.readEncoded(1)).isEmpty();
+        assertThat(toTest.readEncoded(1)).containsSame(block1);
+        verify(blockReaderMock, times(2)).readEncoded(1);
+    }
+
+    /**
+     * This test aims to verify that the least recently used blocks are
+     * evicted once the bytes of the cached blocks exceed the maximum.
+     */
+    @Test
+    void testEviction() throws IOException, ParseException {
+        when(blockReaderMock.readEncoded(1)).thenReturn(Optional.of(block1));
+        when(blockReaderMock.readEncoded(2)).thenReturn(Optional.of(block2));
+        when(blockReaderMock.readEncoded(3)).thenReturn(Optional.of(block3));
+        final CachingBlockReader toTest = newCachingBlockReader(weightOf(block1) + weightOf(block2));
+
+        toTest.readEncoded(1);
+        toTest.readEncoded(2);
+        // block 1 becomes the most recently used
+        toTest.readEncoded(1);
+        assertThat(metricsService.get(BlockCacheResidentBytes).get()).isEqualTo(weightOf(block1) + weightOf(block2));
+
+        // block 2 is evicted to make room for block 3
+        toTest.readEncoded(3);
+        assertThat(metricsService.get(BlockCacheEvictions).get()).isEqualTo(1L);
+        assertThat(metricsService.get(BlockCacheResidentBytes).get()).isEqualTo(weightOf(block1) + weightOf(block3));
+        toTest.readEncoded(1);
+        toTest.readEncoded(2);
+        verify(blockReaderMock, times(1)).readEncoded(1);
+        verify(blockReaderMock, times(2)).readEncoded(2);
+    }
+
+    /**
+     * This test aims to verify that a block larger than the cache is not
+     * cached.
+     */
+    @Test
+    void testBlockLargerThanCache() throws IOException, ParseException {
+        when(blockReaderMock.readEncoded(1)).thenReturn(Optional.of(block1));
+        final CachingBlockReader toTest = newCachingBlockReader(weightOf(block1) - 1);
+
+        assertThat(toTest.readEncoded(1)).containsSame(block1);
+        assertThat(toTest.readEncoded(1)).containsSame(block1);
+        verify(blockReaderMock, times(2)).readEncoded(1);
+        assertThat(metricsService.get(BlockCacheResidentBytes).get()).isZero();
+    }
+
+    /**
+     * This test aims to verify that concurrent reads of a block that is not
+     * cached share a single read from the storage.
+     */
+    @Test
+    void testConcurrentReadsShareRead() throws Exception {
+        final CountDownLatch readStarted = new CountDownLatch(1);
+        final CountDownLatch readReleased = new CountDownLatch(1);
+        when(blockReaderMock.readEncoded(1)).thenAnswer(invocation -> {
+            readStarted.countDown();
+            readReleased.await();
+            return Optional.of(block1);
+        });
+        final CachingBlockReader toTest = newCachingBlockReader(1024 * 1024);
+
+        final AtomicReference<Optional<EncodedBlock>> first = new AtomicReference<>();
+        final AtomicReference<Optional<EncodedBlock>> second = new AtomicReference<>();
+        final Thread firstReader = Thread.ofVirtual().start(() -> first.set(readEncoded(toTest, 1)));
+        readStarted.await();
+        final Thread secondReader = Thread.ofVirtual().start(() -> second.set(readEncoded(toTest, 1)));
+        // the second read waits for the read of the first one
+        secondReader.join(100);
+        assertThat(secondReader.isAlive()).isTrue();
+
+        readReleased.countDown();
+        firstReader.join();
+        secondReader.join();
+        assertThat(first.get()).containsSame(block1);
+        assertThat(second.get()).containsSame(block1);
+        verify(blockReaderMock, times(1)).readEncoded(1);
+    }
+
+    /**
+     * This test aims to verify that a failed read is thrown, and is not
+     * cached.
+     */
+    @Test
+    void testReadFailure() throws IOException, ParseException {
+        when(blockReaderMock.readEncoded(1)).thenThrow(new IOException("read failed")).thenReturn(Optional.of(block1));
+        final CachingBlockReader toTest = newCachingBlockReader(1024 * 1024);
+
+        assertThatIOException().isThrownBy(() -> toTest.readEncoded(1)).withMessage("read failed");
+        assertThat(toTest.readEncoded(1)).containsSame(block1);
+    }
+
+    /**
+     * This test aims to verify that a populated block is read into the cache
+     * and that reading it afterwards is a hit.
+     */
+    @Test
+    void testPopulate() throws IOException, ParseException {
+        when(blockReaderMock.readEncoded(1)).thenReturn(Optional.of(block1));
+        final CachingBlockReader toTest = newCachingBlockReader(1024 * 1024);
+
+        toTest.populate(1);
+        verify(blockReaderMock, timeout(1000)).readEncoded(1);
+        // the block is cached once its read completes
+        while (metricsService.get(BlockCacheResidentBytes).get() == 0) {
+            Thread.onSpinWait();
+        }
+
+        assertThat(toTest.readEncoded(1)).containsSame(block1);
+        verify(blockReaderMock, times(1)).readEncoded(1);
+        assertThat(metricsService.get(BlockCacheHits).get()).isEqualTo(1L);
+        assertThat(metricsService.get(BlockCacheMisses).get()).isZero();
+    }
+
+    /**
+     * This test aims to verify that the invalidated blocks are removed from
+     * the cache and that the other blocks stay cached.
+     */
+    @Test
+    void testInvalidate() throws IOException, ParseException {
+        when(blockReaderMock.readEncoded(1)).thenReturn(Optional.of(block1));
+        when(blockReaderMock.readEncoded(2)).thenReturn(Optional.of(block2));
+        when(blockReaderMock.readEncoded(3)).thenReturn(Optional.of(block3));
+        final CachingBlockReader toTest = newCachingBlockReader(1024 * 1024);
+
+        toTest.readEncoded(1);
+        toTest.readEncoded(2);
+        toTest.readEncoded(3);
+        toTest.invalidate(1, 2);
+        assertThat(metricsService.get(BlockCacheResidentBytes).get()).isEqualTo(weightOf(block3));
+
+        toTest.readEncoded(1);
+        toTest.readEncoded(3);
+        verify(blockReaderMock, times(2)).readEncoded(1);
+        verify(blockReaderMock, times(1)).readEncoded(3);
+    }
+
+    /**
+     * This test aims to verify that a block read while it is invalidated is
+     * not cached, so a block pruned during its read is read from the storage
+     * again.
+     */
+    @Test
+    void testInvalidateWhileReading() throws IOException, ParseException {
+        final AtomicReference<CachingBlockReader> toTest = new AtomicReference<>();
+        when(blockReaderMock.readEncoded(1)).thenAnswer(invocation -> {
+            // the block is pruned once it has been read from the storage
+            toTest.get().invalidate(1, 1);
+            return Optional.of(block1);
+        });
+        toTest.set(newCachingBlockReader(1024 * 1024));
+
+        assertThat(toTest.get().readEncoded(1)).containsSame(block1);
+        assertThat(metricsService.get(BlockCacheResidentBytes).get()).isZero();
+        toTest.get().readEncoded(1);
+        verify(blockReaderMock, times(2)).readEncoded(1);
+    }
+
+    /**
+     * This test aims to verify that a block is read from the storage as it is
+     * stored, with its compression, even when it is cached.
+     */
+    @Test
+    void testReadStored() throws IOException, ParseException {
+        final StoredBlock stored = new StoredBlock(Bytes.wrap(new byte[] {1, 2, 3}), CompressionType.ZSTD);
+        when(blockReaderMock.readEncoded(1)).thenReturn(Optional.of(block1));
+        when(blockReaderMock.readStored(1)).thenReturn(Optional.of(stored));
+        final CachingBlockReader toTest = newCachingBlockReader(1024 * 1024);
+
+        toTest.readEncoded(1);
+        assertThat(toTest.readStored(1)).containsSame(stored);
+        verify(blockReaderMock, times(1)).readStored(1);
+    }
+
+    private CachingBlockReader newCachingBlockReader(final long maxBytes) {
+        final PersistenceStorageConfig persistenceStorageConfig = ConfigurationBuilder.create()
+                .withConfigDataType(PersistenceStorageConfig.class)
+                .withValue(PERSISTENCE_STORAGE_BLOCK_CACHE_MAX_BYTES, String.valueOf(maxBytes))
+                .build()
+                .getConfigData(PersistenceStorageConfig.class);
+        return CachingBlockReader.of(blockReaderMock, persistenceStorageConfig, metricsService);
+    }
+
+    private static Optional<EncodedBlock> readEncoded(final CachingBlockReader toTest, final long blockNumber) {
+        try {
+            return toTest.readEncoded(blockNumber);
+        } catch (final IOException | ParseException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static long weightOf(final EncodedBlock block) {
+        return block.bytes().length() + (long) Long.BYTES * (block.itemCount() + 1);
+    }
+
+    private static EncodedBlock encode(final long blockNumber) throws ParseException {
+        return EncodedBlock.of(BlockUnparsed.PROTOBUF.toBytes(BlockUnparsed.newBuilder()
+                .blockItems(PersistTestUtils.generateBlockItemsUnparsedForWithBlockNumber(blockNumber))
+                .build()));
+    }
+}
@@ -0,0 +1,142 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.persistence.storage.read;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import com.hedera.hapi.block.BlockItemSetUnparsed;
+import com.hedera.hapi.block.BlockItemUnparsed;
+import com.hedera.hapi.block.BlockUnparsed;
+import com.hedera.hapi.block.SubscribeStreamResponseUnparsed;
+import com.hedera.pbj.runtime.ParseException;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import java.util.Arrays;
+import java.util.List;
+import org.hiero.block.server.util.PersistTestUtils;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link EncodedBlock} class.
+ */
+class EncodedBlockTest {
+
+    /**
+     * This test aims to verify that the items of an encoded block are found
+     * and parsed back to the items the block was encoded with.
+     */
+    @Test
+    void testItems() throws ParseException {
+        final List<BlockItemUnparsed> blockItems = PersistTestUtils.generateBlockItemsUnparsedForWithBlockNumber(1L);
+        final Bytes bytes = encode(blockItems);
+
+        final EncodedBlock toTest = EncodedBlock.of(bytes);
+        assertThat(toTest.bytes()).isEqualTo(bytes);
+        assertThat(toTest.itemCount()).isEqualTo(blockItems.size());
+        for (int i = 0; i < blockItems.size(); i++) {
+            assertThat(toTest.item(i)).isEqualTo(blockItems.get(i));
+        }
+        assertThat(toTest.items(0, blockItems.size())).isEqualTo(bytes);
+    }
+
+    /**
+     * This test aims to verify that the bytes of a run of items are the
+     * encoding of a BlockItemSet holding those items.
+     */
+    @Test
+    void testItemsAreEncodedBlockItemSet() throws ParseException {
+        final List<BlockItemUnparsed> blockItems = PersistTestUtils.generateBlockItemsUnparsedForWithBlockNumber(1L);
+        final EncodedBlock toTest = EncodedBlock.of(encode(blockItems));
+
+        final BlockItemSetUnparsed expected = BlockItemSetUnparsed.newBuilder()
+                .blockItems(blockItems.subList(2, 5))
+                .build();
+        assertThat(toTest.items(2, 5)).isEqualTo(BlockItemSetUnparsed.PROTOBUF.toBytes(expected));
+        assertThat(toTest.items(3, 3).length()).isZero();
+    }
+
+    /**
+     * This test aims to verify that a message spliced with an encoded last
+     * field is the same as the message encoded with that field set.
+     */
+    @Test
+    void testWithLastField() throws ParseException {
+        final List<BlockItemUnparsed> blockItems = PersistTestUtils.generateBlockItemsUnparsedForWithBlockNumber(1L);
+        final EncodedBlock block = EncodedBlock.of(encode(blockItems));
+        final Bytes withEmptyLastField = SubscribeStreamResponseUnparsed.PROTOBUF.toBytes(
+                SubscribeStreamResponseUnparsed.newBuilder()
+                        .blockItems(BlockItemSetUnparsed.DEFAULT)
+                        .build());
+
+        final SubscribeStreamResponseUnparsed expected = SubscribeStreamResponseUnparsed.newBuilder()
+                .blockItems(BlockItemSetUnparsed.newBuilder()
+                        .blockItems(blockItems)
+                        .build())
+                .build();
+        assertThat(EncodedBlock.withLastField(withEmptyLastField, block.items(0, block.itemCount())))
+                .isEqualTo(SubscribeStreamResponseUnparsed.PROTOBUF.toBytes(expected));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> EncodedBlock.withLastField(Bytes.wrap(new byte[] {0x12, 0x01}), block.bytes()));
+    }
+
+    /**
+     * This test aims to verify that the last field of an encoded message is
+     * sliced back out of it, and that several parts are spliced into a
+     * single last field.
+     */
+    @Test
+    void testLastField() throws ParseException {
+        final List<BlockItemUnparsed> blockItems = PersistTestUtils.generateBlockItemsUnparsedForWithBlockNumber(1L);
+        final EncodedBlock block = EncodedBlock.of(encode(blockItems));
+        final Bytes withEmptyLastField = SubscribeStreamResponseUnparsed.PROTOBUF.toBytes(
+                SubscribeStreamResponseUnparsed.newBuilder()
+                        .blockItems(BlockItemSetUnparsed.DEFAULT)
+                        .build());
+        final Bytes items = block.items(0, block.itemCount());
+        final Bytes encoded = EncodedBlock.withLastField(withEmptyLastField, items);
+
+        assertThat(EncodedBlock.lastField(withEmptyLastField, encoded)).isEqualTo(items);
+        final int split = (int) block.items(0, 1).length();
+        assertThat(EncodedBlock.withLastField(
+                        withEmptyLastField, List.of(items.slice(0, split), items.slice(split, items.length() - split))))
+                .isEqualTo(encoded);
+        assertThatExceptionOfType(ParseException.class)
+                .isThrownBy(() -> EncodedBlock.lastField(withEmptyLastField, encoded.slice(0, encoded.length() - 1)));
+    }
+
+    /**
+     * This test aims to verify that bytes that are not the encoding of a
+     * block are rejected.
+     */
+    @Test
+    void testInvalidBlock() {
+        // a varint field, number 1
+        assertThatExceptionOfType(ParseException.class)
+                .isThrownBy(() -> EncodedBlock.of(Bytes.wrap(new byte[] {0x08, 0x01})));
+        // an item longer than the block
+        assertThatExceptionOfType(ParseException.class)
+                .isThrownBy(() -> EncodedBlock.of(Bytes.wrap(new byte[] {0x0A, 0x05, 0x01})));
+        // a truncated length
+        assertThatExceptionOfType(ParseException.class)
+                .isThrownBy(() -> EncodedBlock.of(Bytes.wrap(new byte[] {0x0A, (byte) 0x80})));
+        // a negative length
+        final byte[] negativeLength = new byte[12];
+        negativeLength[0] = 0x0A;
+        Arrays.fill(negativeLength, 1, 10, (byte) 0xFF);
+        negativeLength[10] = 0x01;
+        assertThatExceptionOfType(ParseException.class)
+                .isThrownBy(() -> EncodedBlock.of(Bytes.wrap(negativeLength)));
+        // a length that overflows the offset of the next item
+        final byte[] overflowingLength = new byte[11];
+        overflowingLength[0] = 0x0A;
+        Arrays.fill(overflowingLength, 1, 9, (byte) 0xFF);
+        overflowingLength[9] = 0x7F;
+        assertThatExceptionOfType(ParseException.class)
+                .isThrownBy(() -> EncodedBlock.of(Bytes.wrap(overflowingLength)));
+    }
+
+    private static Bytes encode(final List<BlockItemUnparsed> blockItems) {
+        return BlockUnparsed.PROTOBUF.toBytes(
+                BlockUnparsed.newBuilder().blockItems(blockItems).build());
+    }
+}
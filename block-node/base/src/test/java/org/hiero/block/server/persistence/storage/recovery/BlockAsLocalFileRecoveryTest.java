@@ -0,0 +1,150 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.persistence.storage.recovery;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hiero.block.server.util.PersistTestUtils.PERSISTENCE_STORAGE_ARCHIVE_ROOT_PATH_KEY;
+import static org.hiero.block.server.util.PersistTestUtils.PERSISTENCE_STORAGE_LIVE_ROOT_PATH_KEY;
+import static org.hiero.block.server.util.PersistTestUtils.PERSISTENCE_STORAGE_UNVERIFIED_ROOT_PATH_KEY;
+import static org.hiero.block.server.util.PersistTestUtils.generateBlockItemsUnparsedForWithBlockNumber;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+
+import com.hedera.hapi.block.BlockItemUnparsed;
+import com.hedera.hapi.block.BlockUnparsed;
+import com.hedera.hapi.block.stream.output.BlockHeader;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.config.api.ConfigurationBuilder;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.hiero.block.common.utils.FileUtilities;
+import org.hiero.block.server.persistence.storage.PersistenceStorageConfig;
+import org.hiero.block.server.persistence.storage.PersistenceStorageConfig.CompressionType;
+import org.hiero.block.server.persistence.storage.compression.Compression;
+import org.hiero.block.server.persistence.storage.compression.ZstdCompression;
+import org.hiero.block.server.persistence.storage.path.BlockAsLocalFilePathResolver;
+import org.hiero.block.server.verification.BlockVerificationStatus;
+import org.hiero.block.server.verification.VerificationResult;
+import org.hiero.block.server.verification.session.BlockVerificationSession;
+import org.hiero.block.server.verification.session.BlockVerificationSessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Tests for the {@link BlockAsLocalFileRecovery} class.
+ */
+@ExtendWith(MockitoExtension.class)
+class BlockAsLocalFileRecoveryTest {
+    @TempDir
+    private Path testTempDir;
+
+    @Mock
+    private BlockVerificationSessionFactory sessionFactoryMock;
+
+    private BlockAsLocalFilePathResolver pathResolver;
+    private Compression compression;
+    private BlockAsLocalFileRecovery toTest;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        final PersistenceStorageConfig persistenceStorageConfig = ConfigurationBuilder.create()
+                .withConfigDataType(PersistenceStorageConfig.class)
+                .withValue(PERSISTENCE_STORAGE_LIVE_ROOT_PATH_KEY, testTempDir.resolve("live").toString())
+                .withValue(PERSISTENCE_STORAGE_ARCHIVE_ROOT_PATH_KEY, testTempDir.resolve("archive").toString())
+                .withValue(PERSISTENCE_STORAGE_UNVERIFIED_ROOT_PATH_KEY, testTempDir.resolve("unverified").toString())
+                .build()
+                .getConfigData(PersistenceStorageConfig.class);
+        pathResolver = new BlockAsLocalFilePathResolver(persistenceStorageConfig);
+        compression = ZstdCompression.of(persistenceStorageConfig);
+        toTest = new BlockAsLocalFileRecovery(pathResolver, compression, sessionFactoryMock);
+    }
+
+    /**
+     * This test aims to verify that the consecutive complete Blocks are
+     * recovered, and that recovery stops at a Block whose file was not written
+     * completely.
+     */
+    @Test
+    void testRecoversUpToIncompleteBlock() throws IOException {
+        for (long i = 5; i < 8; i++) {
+            writeUnverifiedBlock(i);
+        }
+        final Path incomplete = writeUnverifiedBlock(8L);
+        final byte[] bytes = Files.readAllBytes(incomplete);
+        Files.write(incomplete, Arrays.copyOf(bytes, bytes.length / 2));
+        writeUnverifiedBlock(9L);
+        stubSessions(BlockVerificationStatus.VERIFIED);
+
+        final List<VerificationResult> actual = toTest.recover(5L);
+
+        assertThat(actual).extracting(VerificationResult::blockNumber).containsExactly(5L, 6L, 7L);
+        assertThat(actual).extracting(VerificationResult::status).containsOnly(BlockVerificationStatus.VERIFIED);
+    }
+
+    /**
+     * This test aims to verify that recovery stops at a Block that fails
+     * verification, and that nothing is recovered when the first Block is
+     * missing.
+     */
+    @Test
+    void testStopsAtBlockFailingVerification() throws IOException {
+        writeUnverifiedBlock(1L);
+        writeUnverifiedBlock(2L);
+        stubSessions(BlockVerificationStatus.INVALID_HASH_OR_SIGNATURE);
+
+        assertThat(toTest.recover(0L)).isEmpty();
+        assertThat(toTest.recover(1L)).isEmpty();
+    }
+
+    /**
+     * Stubs the session factory to create sessions completing with the given
+     * status once the Block proof is appended.
+     */
+    private void stubSessions(final BlockVerificationStatus status) {
+        lenient().when(sessionFactoryMock.createSession(any())).thenAnswer(invocation -> {
+            final long blockNumber = invocation.getArgument(0, BlockHeader.class).number();
+            final CompletableFuture<VerificationResult> result = new CompletableFuture<>();
+            return new BlockVerificationSession() {
+                @Override
+                public void appendBlockItems(@NonNull final List<BlockItemUnparsed> blockItems) {
+                    if (blockItems.getLast().hasBlockProof()) {
+                        result.complete(new VerificationResult(blockNumber, Bytes.wrap(new byte[] {1}), status));
+                    }
+                }
+
+                @Override
+                public boolean isRunning() {
+                    return !result.isDone();
+                }
+
+                @Override
+                public CompletableFuture<VerificationResult> getVerificationResult() {
+                    return result;
+                }
+            };
+        });
+    }
+
+    private Path writeUnverifiedBlock(final long blockNumber) throws IOException {
+        final Path blockPath = FileUtilities.appendExtension(
+                pathResolver.resolveLiveRawUnverifiedPathToBlock(blockNumber),
+                CompressionType.ZSTD.getFileExtension());
+        Files.createDirectories(blockPath.getParent());
+        final BlockUnparsed block = BlockUnparsed.newBuilder()
+                .blockItems(generateBlockItemsUnparsedForWithBlockNumber(blockNumber))
+                .build();
+        try (final OutputStream out = compression.wrap(Files.newOutputStream(blockPath))) {
+            BlockUnparsed.PROTOBUF.toBytes(block).writeTo(out);
+        }
+        return blockPath;
+    }
+}
@@ -0,0 +1,244 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.persistence.storage.remove;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.RetentionBlocksPruned;
+import static org.hiero.block.server.util.PersistTestUtils.PERSISTENCE_STORAGE_ARCHIVE_ROOT_PATH_KEY;
+import static org.hiero.block.server.util.PersistTestUtils.PERSISTENCE_STORAGE_LIVE_ROOT_PATH_KEY;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import com.swirlds.config.api.ConfigurationBuilder;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import org.hiero.block.common.utils.FileUtilities;
+import org.hiero.block.server.metrics.MetricsService;
+import org.hiero.block.server.persistence.storage.PersistenceStorageConfig;
+import org.hiero.block.server.persistence.storage.path.BlockAsLocalFilePathResolver;
+import org.hiero.block.server.persistence.storage.path.BlockPathResolver;
+import org.hiero.block.server.persistence.storage.read.ArchiveHandleCache;
+import org.hiero.block.server.persistence.storage.read.BlockCache;
+import org.hiero.block.server.service.Constants;
+import org.hiero.block.server.service.ServiceStatus;
+import org.hiero.block.server.util.TestConfigUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
+
+/**
+ * Tests for the {@link BlockAsLocalFilePruner} class.
+ */
+class BlockAsLocalFilePrunerTest {
+    private static final String PERSISTENCE_STORAGE_ARCHIVE_GROUP_SIZE = "persistence.storage.archiveGroupSize";
+    private static final String PERSISTENCE_STORAGE_RETENTION_MAX_BLOCKS = "persistence.storage.retentionMaxBlocks";
+    private static final String PERSISTENCE_STORAGE_RETENTION_MAX_BYTES = "persistence.storage.retentionMaxBytes";
+    private static final String PERSISTENCE_STORAGE_RETENTION_MAX_AGE_DAYS = "persistence.storage.retentionMaxAgeDays";
+
+    @TempDir
+    private Path testTempDir;
+
+    private MetricsService metricsService;
+    private ServiceStatus serviceStatusMock;
+    private BlockCache blockCacheMock;
+    private ArchiveHandleCache archiveHandleCacheMock;
+
+    @BeforeEach
+    void setUp() {
+        metricsService = TestConfigUtil.getTestBlockNodeMetricsService();
+        serviceStatusMock = mock(ServiceStatus.class);
+        blockCacheMock = mock(BlockCache.class);
+        archiveHandleCacheMock = mock(ArchiveHandleCache.class);
+    }
+
+    /**
+     * This test aims to verify that the archive groups older than the
+     * number of the latest blocks to retain are pruned, oldest first, and that
+     * the first available block number is raised past each group before it
+     * is deleted.
+     */
+    @Test
+    void testPruneByMaxBlocks() throws IOException {
+        final PersistenceStorageConfig config = newConfig(PERSISTENCE_STORAGE_RETENTION_MAX_BLOCKS, "35");
+        final BlockPathResolver pathResolver = new BlockAsLocalFilePathResolver(config);
+        final BlockRemover blockRemover = mock(BlockRemover.class);
+        for (long firstBlockNumber = 0; firstBlockNumber < 40; firstBlockNumber += 10) {
+            archive(pathResolver, firstBlockNumber, 100);
+        }
+        final BlockAsLocalFilePruner toTest = newPruner(config, pathResolver, blockRemover);
+
+        // the groups up to block 60 - 35 = 25 are past the retention
+        assertThat(toTest.prune(60)).isEqualTo(20L);
+
+        final InOrder inOrder = inOrder(serviceStatusMock, blockRemover, archiveHandleCacheMock, blockCacheMock);
+        inOrder.verify(serviceStatusMock).setFirstAvailableBlockNumber(10L);
+        inOrder.verify(blockRemover).removeArchived(0L, 9L);
+        inOrder.verify(archiveHandleCacheMock).invalidate(zipLinkPath(pathResolver, 0));
+        inOrder.verify(blockCacheMock).invalidate(0L, 9L);
+        inOrder.verify(serviceStatusMock).setFirstAvailableBlockNumber(20L);
+        inOrder.verify(blockRemover).removeArchived(10L, 19L);
+        inOrder.verify(archiveHandleCacheMock).invalidate(zipLinkPath(pathResolver, 10));
+        inOrder.verify(blockCacheMock).invalidate(10L, 19L);
+        inOrder.verifyNoMoreInteractions();
+        assertThat(metricsService.get(RetentionBlocksPruned).get()).isEqualTo(20L);
+    }
+
+    /**
+     * This test aims to verify that the oldest archive groups are pruned
+     * while the bytes of all archives exceed the bytes to retain.
+     */
+    @Test
+    void testPruneByMaxBytes() throws IOException {
+        final PersistenceStorageConfig config = newConfig(PERSISTENCE_STORAGE_RETENTION_MAX_BYTES, "250");
+        final BlockPathResolver pathResolver = new BlockAsLocalFilePathResolver(config);
+        final BlockRemover blockRemover = new BlockAsLocalFileRemover(pathResolver);
+        for (long firstBlockNumber = 0; firstBlockNumber < 40; firstBlockNumber += 10) {
+            archive(pathResolver, firstBlockNumber, 100);
+        }
+        final BlockAsLocalFilePruner toTest = newPruner(config, pathResolver, blockRemover);
+
+        // 400 archived bytes, the two oldest groups are pruned to get under 250
+        assertThat(toTest.prune(60)).isEqualTo(20L);
+
+        assertThat(pathResolver.resolveRawPathToArchiveParentUnderArchive(0).orElseThrow()).doesNotExist();
+        assertThat(zipLinkPath(pathResolver, 0)).doesNotExist();
+        assertThat(pathResolver.resolveRawPathToArchiveParentUnderArchive(10).orElseThrow()).doesNotExist();
+        assertThat(zipLinkPath(pathResolver, 10)).doesNotExist();
+        assertThat(pathResolver.resolveRawPathToArchiveParentUnderArchive(20).orElseThrow()).exists();
+        assertThat(zipLinkPath(pathResolver, 20)).exists();
+        verify(serviceStatusMock).setFirstAvailableBlockNumber(20L);
+    }
+
+    /**
+     * This test aims to verify that the archive groups archived before the
+     * number of days to retain are pruned.
+     */
+    @Test
+    void testPruneByMaxAge() throws IOException {
+        final PersistenceStorageConfig config = newConfig(PERSISTENCE_STORAGE_RETENTION_MAX_AGE_DAYS, "1");
+        final BlockPathResolver pathResolver = new BlockAsLocalFilePathResolver(config);
+        final BlockRemover blockRemover = new BlockAsLocalFileRemover(pathResolver);
+        for (long firstBlockNumber = 0; firstBlockNumber < 40; firstBlockNumber += 10) {
+            archive(pathResolver, firstBlockNumber, 100);
+        }
+        final FileTime twoDaysAgo = FileTime.from(Instant.now().minus(Duration.ofDays(2)));
+        Files.setLastModifiedTime(
+                pathResolver.resolveRawPathToArchiveParentUnderArchive(0).orElseThrow(), twoDaysAgo);
+        final BlockAsLocalFilePruner toTest = newPruner(config, pathResolver, blockRemover);
+
+        assertThat(toTest.prune(60)).isEqualTo(10L);
+
+        assertThat(pathResolver.resolveRawPathToArchiveParentUnderArchive(0).orElseThrow()).doesNotExist();
+        assertThat(pathResolver.resolveRawPathToArchiveParentUnderArchive(10).orElseThrow()).exists();
+        verify(serviceStatusMock).setFirstAvailableBlockNumber(10L);
+    }
+
+    /**
+     * This test aims to verify that the group being archived, the one
+     * archived before it and a group whose live blocks are still being
+     * deleted are not pruned, and that pruning stops at the first group that
+     * is not pruned.
+     */
+    @Test
+    void testNoPruneWhileArchiving() throws IOException {
+        final PersistenceStorageConfig config = newConfig(PERSISTENCE_STORAGE_RETENTION_MAX_BLOCKS, "1");
+        final BlockPathResolver pathResolver = new BlockAsLocalFilePathResolver(config);
+        final BlockRemover blockRemover = spy(new BlockAsLocalFileRemover(pathResolver));
+        for (long firstBlockNumber = 0; firstBlockNumber < 40; firstBlockNumber += 10) {
+            archive(pathResolver, firstBlockNumber, 100);
+        }
+        Files.createDirectories(
+                FileUtilities.appendExtension(
+                        pathResolver.resolveRawPathToArchiveParentUnderLive(10).orElseThrow(), "del"));
+        final BlockAsLocalFilePruner toTest = newPruner(config, pathResolver, blockRemover);
+
+        // the live blocks of the second group are still being deleted
+        assertThat(toTest.prune(40)).isEqualTo(10L);
+        verify(blockRemover).removeArchived(0L, 9L);
+        verify(blockRemover, never()).removeArchived(10L, 19L);
+
+        // the groups up to block 40 - 2 * 10 = 20 are not pruned
+        Files.delete(FileUtilities.appendExtension(
+                pathResolver.resolveRawPathToArchiveParentUnderLive(10).orElseThrow(), "del"));
+        assertThat(toTest.prune(40)).isEqualTo(10L);
+        verify(blockRemover).removeArchived(10L, 19L);
+        verify(blockRemover, never()).removeArchived(20L, 29L);
+    }
+
+    /**
+     * This test aims to verify that pruning is started in the background once
+     * a group of blocks has been persisted.
+     */
+    @Test
+    void testNotifyBlockPersisted() throws IOException {
+        final PersistenceStorageConfig config = newConfig(PERSISTENCE_STORAGE_RETENTION_MAX_BLOCKS, "20");
+        final BlockPathResolver pathResolver = new BlockAsLocalFilePathResolver(config);
+        final BlockRemover blockRemover = mock(BlockRemover.class);
+        archive(pathResolver, 0, 100);
+        final BlockAsLocalFilePruner toTest = newPruner(config, pathResolver, blockRemover);
+
+        // not the end of a group, nothing is pruned
+        toTest.notifyBlockPersisted(31);
+        toTest.notifyBlockPersisted(30);
+
+        verify(blockRemover, timeout(1000)).removeArchived(0L, 9L);
+        verify(serviceStatusMock).setFirstAvailableBlockNumber(10L);
+    }
+
+    private PersistenceStorageConfig newConfig(final String retentionKey, final String retentionValue) {
+        return ConfigurationBuilder.create()
+                .withConfigDataType(PersistenceStorageConfig.class)
+                .withValue(PERSISTENCE_STORAGE_LIVE_ROOT_PATH_KEY, testTempDir.resolve("live").toString())
+                .withValue(PERSISTENCE_STORAGE_ARCHIVE_ROOT_PATH_KEY, testTempDir.resolve("archive").toString())
+                .withValue(PERSISTENCE_STORAGE_ARCHIVE_GROUP_SIZE, "10")
+                .withValue(retentionKey, retentionValue)
+                .build()
+                .getConfigData(PersistenceStorageConfig.class);
+    }
+
+    private BlockAsLocalFilePruner newPruner(
+            final PersistenceStorageConfig config,
+            final BlockPathResolver pathResolver,
+            final BlockRemover blockRemover) {
+        return new BlockAsLocalFilePruner(
+                config,
+                pathResolver,
+                blockRemover,
+                archiveHandleCacheMock,
+                blockCacheMock,
+                serviceStatusMock,
+                metricsService);
+    }
+
+    /**
+     * Creates the archive of the group with the given first block number and
+     * the link to it under the live root, as the archiver does.
+     */
+    private static void archive(final BlockPathResolver pathResolver, final long firstBlockNumber, final int size)
+            throws IOException {
+        final Path zipFilePath = pathResolver
+                .resolveRawPathToArchiveParentUnderArchive(firstBlockNumber)
+                .orElseThrow();
+        Files.createDirectories(zipFilePath.getParent());
+        Files.write(zipFilePath, new byte[size]);
+        final Path zipLinkPath = zipLinkPath(pathResolver, firstBlockNumber);
+        Files.createDirectories(zipLinkPath.getParent());
+        Files.createLink(zipLinkPath, zipFilePath);
+    }
+
+    private static Path zipLinkPath(final BlockPathResolver pathResolver, final long firstBlockNumber) {
+        return FileUtilities.appendExtension(
+                pathResolver
+                        .resolveRawPathToArchiveParentUnderLive(firstBlockNumber)
+                        .orElseThrow(),
+                Constants.ZIP_FILE_EXTENSION);
+    }
+}
@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.hiero.block.server.util.PersistTestUtils.PERSISTENCE_STORAGE_UNVERIFIED_ROOT_PATH_KEY;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.swirlds.config.api.Configuration;
@@ -12,6 +13,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.HashMap;
+import java.util.Optional;
 import java.util.stream.Stream;
 import org.hiero.block.server.persistence.storage.PersistenceStorageConfig;
 import org.hiero.block.server.persistence.storage.path.BlockAsLocalFilePathResolver;
@@ -19,6 +21,7 @@ import org.hiero.block.server.persistence.storage.path.BlockPathResolver;
 import org.hiero.block.server.service.Constants;
 import org.hiero.block.server.util.TestConfigUtil;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -108,6 +111,36 @@ class BlockAsLocalFileRemoverTest {
         assertThatIllegalArgumentException().isThrownBy(() -> toTest.removeUnverified(toRemove));
     }
 
+    /**
+     * This test aims to verify that the
+     * {@link BlockAsLocalFileRemover#removeArchived(long, long)} correctly
+     * deletes the archive of the given group and its link under the live
+     * root, and that the archived blocks are unregistered.
+     */
+    @Test
+    void testSuccessfulArchivedGroupDeletion() throws IOException {
+        final Path zipFilePath = testTempPath.resolve("archive").resolve("0.zip");
+        final Path rawLinkPath = testTempPath.resolve("live").resolve("0");
+        final Path zipLinkPath = testTempPath.resolve("live").resolve("0.zip");
+        Files.createDirectories(zipFilePath.getParent());
+        Files.createDirectories(zipLinkPath.getParent());
+        Files.createFile(zipFilePath);
+        Files.createLink(zipLinkPath, zipFilePath);
+
+        when(blockPathResolverMock.resolveRawPathToArchiveParentUnderArchive(0L))
+                .thenReturn(Optional.of(zipFilePath));
+        when(blockPathResolverMock.resolveRawPathToArchiveParentUnderLive(0L))
+                .thenReturn(Optional.of(rawLinkPath));
+        final boolean actual = toTest.removeArchived(0L, 9L);
+        assertThat(actual).isTrue();
+        assertThat(zipFilePath).doesNotExist();
+        assertThat(zipLinkPath).doesNotExist();
+        verify(blockPathResolverMock).unregisterArchivedBlocks(0L, 9L);
+
+        // nothing is left to remove
+        assertThat(toTest.removeArchived(0L, 9L)).isFalse();
+    }
+
     /**
      * Some valid block numbers.
      *
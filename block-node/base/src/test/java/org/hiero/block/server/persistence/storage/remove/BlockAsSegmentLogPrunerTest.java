@@ -0,0 +1,161 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.persistence.storage.remove;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.RetentionBlocksPruned;
+import static org.hiero.block.server.util.PersistTestUtils.PERSISTENCE_STORAGE_ARCHIVE_GROUP_SIZE;
+import static org.hiero.block.server.util.PersistTestUtils.PERSISTENCE_STORAGE_LIVE_ROOT_PATH_KEY;
+import static org.hiero.block.server.util.PersistTestUtils.PERSISTENCE_STORAGE_SEGMENT_SIZE;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import com.swirlds.config.api.ConfigurationBuilder;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.hiero.block.server.metrics.MetricsService;
+import org.hiero.block.server.persistence.storage.PersistenceStorageConfig;
+import org.hiero.block.server.persistence.storage.PersistenceStorageConfig.CompressionType;
+import org.hiero.block.server.persistence.storage.path.LiveBlockPath;
+import org.hiero.block.server.persistence.storage.read.BlockCache;
+import org.hiero.block.server.persistence.storage.segment.SegmentLog;
+import org.hiero.block.server.service.ServiceStatus;
+import org.hiero.block.server.util.TestConfigUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
+
+/**
+ * Tests for the {@link BlockAsSegmentLogPruner} class.
+ */
+class BlockAsSegmentLogPrunerTest {
+    private static final String PERSISTENCE_STORAGE_RETENTION_MAX_BLOCKS = "persistence.storage.retentionMaxBlocks";
+    private static final String PERSISTENCE_STORAGE_RETENTION_MAX_BYTES = "persistence.storage.retentionMaxBytes";
+    private static final int SEGMENT_SIZE = 1024 * 1024;
+    // two Blocks fill a segment
+    private static final int BLOCK_SIZE = SEGMENT_SIZE / 2;
+
+    @TempDir
+    private Path testTempDir;
+
+    private MetricsService metricsService;
+    private ServiceStatus serviceStatusMock;
+    private BlockCache blockCacheMock;
+
+    @BeforeEach
+    void setUp() {
+        metricsService = TestConfigUtil.getTestBlockNodeMetricsService();
+        serviceStatusMock = mock(ServiceStatus.class);
+        blockCacheMock = mock(BlockCache.class);
+    }
+
+    /**
+     * This test aims to verify that the segments whose Blocks are all older
+     * than the number of the latest blocks to retain are pruned, oldest first,
+     * that the first available block number is raised past each segment
+     * before it is deleted, and that the active segment is never pruned.
+     */
+    @Test
+    void testPruneByMaxBlocks() throws IOException {
+        final PersistenceStorageConfig config = newConfig(PERSISTENCE_STORAGE_RETENTION_MAX_BLOCKS, "3");
+        try (final SegmentLog segmentLog = new SegmentLog(config)) {
+            appendBlocks(segmentLog, 8);
+            final BlockAsSegmentLogPruner toTest = newPruner(config, segmentLog);
+
+            // the segments up to block 7 - 3 = 4 are past the retention
+            assertThat(toTest.prune(7)).isEqualTo(4L);
+
+            final InOrder inOrder = inOrder(serviceStatusMock, blockCacheMock);
+            inOrder.verify(serviceStatusMock).setFirstAvailableBlockNumber(2L);
+            inOrder.verify(blockCacheMock).invalidate(0L, 1L);
+            inOrder.verify(serviceStatusMock).setFirstAvailableBlockNumber(4L);
+            inOrder.verify(blockCacheMock).invalidate(2L, 3L);
+            inOrder.verifyNoMoreInteractions();
+            assertThat(segmentLog.findFirstBlockNumber()).contains(4L);
+            assertThat(segmentLog.contains(3L)).isFalse();
+            assertThat(metricsService.get(RetentionBlocksPruned).get()).isEqualTo(4L);
+
+            // only the active segment is left once all Blocks are past the retention
+            assertThat(toTest.prune(100)).isEqualTo(2L);
+            assertThat(segmentLog.findFirstSegment()).contains(segmentLog.activeSegment());
+        }
+    }
+
+    /**
+     * This test aims to verify that the oldest segments are pruned while the
+     * bytes of all segments exceed the bytes to retain.
+     */
+    @Test
+    void testPruneByMaxBytes() throws IOException {
+        final PersistenceStorageConfig config =
+                newConfig(PERSISTENCE_STORAGE_RETENTION_MAX_BYTES, String.valueOf(2L * SEGMENT_SIZE));
+        try (final SegmentLog segmentLog = new SegmentLog(config)) {
+            appendBlocks(segmentLog, 8);
+            final BlockAsSegmentLogPruner toTest = newPruner(config, segmentLog);
+
+            // 4 segments, the two oldest are pruned to retain 2
+            assertThat(toTest.prune(7)).isEqualTo(4L);
+
+            verify(serviceStatusMock).setFirstAvailableBlockNumber(4L);
+            assertThat(segmentLog.findFirstSegment()).contains(2);
+            final Path segmentsRootPath = config.liveRootPath().resolve(SegmentLog.SEGMENTS_DIR_NAME);
+            assertThat(segmentsRootPath.resolve("0000000001.seg")).doesNotExist();
+            assertThat(segmentsRootPath.resolve("0000000002.seg")).exists();
+        }
+    }
+
+    /**
+     * This test aims to verify that pruning is started in the background once
+     * a group of blocks has been persisted.
+     */
+    @Test
+    void testNotifyBlockPersisted() throws IOException {
+        final PersistenceStorageConfig config = newConfig(PERSISTENCE_STORAGE_RETENTION_MAX_BLOCKS, "2");
+        try (final SegmentLog segmentLog = new SegmentLog(config)) {
+            appendBlocks(segmentLog, 4);
+            final BlockAsSegmentLogPruner toTest = newPruner(config, segmentLog);
+
+            // not the end of a group, nothing is pruned
+            toTest.notifyBlockPersisted(11);
+            toTest.notifyBlockPersisted(10);
+
+            verify(blockCacheMock, timeout(1000)).invalidate(0L, 1L);
+            verify(serviceStatusMock).setFirstAvailableBlockNumber(2L);
+        }
+    }
+
+    private PersistenceStorageConfig newConfig(final String retentionKey, final String retentionValue) {
+        return ConfigurationBuilder.create()
+                .withConfigDataType(PersistenceStorageConfig.class)
+                .withValue(PERSISTENCE_STORAGE_LIVE_ROOT_PATH_KEY, testTempDir.resolve("live").toString())
+                .withValue(PERSISTENCE_STORAGE_ARCHIVE_GROUP_SIZE, "10")
+                .withValue(PERSISTENCE_STORAGE_SEGMENT_SIZE, String.valueOf(SEGMENT_SIZE))
+                .withValue(retentionKey, retentionValue)
+                .build()
+                .getConfigData(PersistenceStorageConfig.class);
+    }
+
+    private BlockAsSegmentLogPruner newPruner(final PersistenceStorageConfig config, final SegmentLog segmentLog) {
+        return new BlockAsSegmentLogPruner(config, segmentLog, blockCacheMock, serviceStatusMock, metricsService);
+    }
+
+    /**
+     * Appends the given number of Blocks, starting at Block 0, two to a
+     * segment.
+     */
+    private void appendBlocks(final SegmentLog segmentLog, final int count) throws IOException {
+        final List<LiveBlockPath> blocks = new ArrayList<>(count);
+        for (long blockNumber = 0; blockNumber < count; blockNumber++) {
+            final Path staged = testTempDir.resolve(blockNumber + ".blk");
+            Files.write(staged, new byte[BLOCK_SIZE]);
+            blocks.add(new LiveBlockPath(
+                    blockNumber, testTempDir, staged.getFileName().toString(), CompressionType.NONE));
+        }
+        segmentLog.append(blocks);
+    }
+}
@@ -34,6 +34,20 @@ class NoOpBlockRemoverTest {
         assertThat(actual).isFalse();
     }
 
+    /**
+     * This test aims to verify that the
+     * {@link NoOpBlockRemover#removeArchived(long, long)} does nothing and
+     * returns false always. The no-op remover has no preconditions check as well.
+     *
+     * @param toRemove parameterized, block number
+     */
+    @ParameterizedTest
+    @MethodSource({"validBlockNumbers", "invalidBlockNumbers"})
+    void testSuccessfulArchivedGroupDeletion(final long toRemove) {
+        final boolean actual = toTest.removeArchived(toRemove, toRemove);
+        assertThat(actual).isFalse();
+    }
+
     /**
      * Some valid block numbers.
      *
@@ -0,0 +1,260 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.persistence.storage.segment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIOException;
+import static org.hiero.block.server.util.PersistTestUtils.PERSISTENCE_STORAGE_LIVE_ROOT_PATH_KEY;
+import static org.hiero.block.server.util.PersistTestUtils.PERSISTENCE_STORAGE_SEGMENT_SIZE;
+
+import com.swirlds.config.api.ConfigurationBuilder;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+import org.hiero.block.server.persistence.storage.PersistenceStorageConfig;
+import org.hiero.block.server.persistence.storage.PersistenceStorageConfig.CompressionType;
+import org.hiero.block.server.persistence.storage.path.LiveBlockPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for the {@link SegmentLog} class.
+ */
+class SegmentLogTest {
+    private static final int SEGMENT_SIZE = 1024 * 1024;
+
+    @TempDir
+    private Path testTempDir;
+
+    private PersistenceStorageConfig persistenceStorageConfig;
+
+    @BeforeEach
+    void setUp() {
+        persistenceStorageConfig = ConfigurationBuilder.create()
+                .withConfigDataType(PersistenceStorageConfig.class)
+                .withValue(PERSISTENCE_STORAGE_LIVE_ROOT_PATH_KEY, testTempDir.resolve("live").toString())
+                .withValue(PERSISTENCE_STORAGE_SEGMENT_SIZE, String.valueOf(SEGMENT_SIZE))
+                .build()
+                .getConfigData(PersistenceStorageConfig.class);
+    }
+
+    /**
+     * This test aims to verify that the {@link SegmentLog} appends Blocks back
+     * to back and reads each of them back as they were appended.
+     */
+    @Test
+    void testAppendAndRead() throws IOException {
+        try (final SegmentLog toTest = new SegmentLog(persistenceStorageConfig)) {
+            assertThat(toTest.findFirstBlockNumber()).isEmpty();
+            final byte[] first = blockBytes(100, (byte) 1);
+            final byte[] second = blockBytes(200, (byte) 2);
+
+            final SegmentLogEntry firstEntry = toTest.append(0L, stage(0L, first), CompressionType.NONE);
+            final SegmentLogEntry secondEntry = toTest.append(1L, stage(1L, second), CompressionType.ZSTD);
+
+            assertThat(firstEntry.offset()).isZero();
+            assertThat(secondEntry.offset()).isEqualTo(first.length);
+            assertThat(secondEntry.segment()).isEqualTo(firstEntry.segment());
+            assertThat(toTest.find(1L)).contains(secondEntry);
+            assertThat(toTest.readBytes(firstEntry)).isEqualTo(first);
+            assertThat(toTest.readBytes(secondEntry)).isEqualTo(second);
+            assertThat(toTest.contains(2L)).isFalse();
+            assertThat(toTest.findFirstBlockNumber()).contains(0L);
+            assertThat(toTest.findLatestBlockNumber()).contains(1L);
+        }
+    }
+
+    /**
+     * This test aims to verify that a Block which does not fit in the active
+     * segment is appended to a new segment.
+     */
+    @Test
+    void testRollsToNewSegment() throws IOException {
+        try (final SegmentLog toTest = new SegmentLog(persistenceStorageConfig)) {
+            final byte[] large = blockBytes(SEGMENT_SIZE - 10, (byte) 1);
+            final byte[] small = blockBytes(20, (byte) 2);
+
+            final SegmentLogEntry largeEntry = toTest.append(5L, stage(5L, large), CompressionType.NONE);
+            final SegmentLogEntry smallEntry = toTest.append(6L, stage(6L, small), CompressionType.NONE);
+
+            assertThat(smallEntry.segment()).isEqualTo(largeEntry.segment() + 1);
+            assertThat(smallEntry.offset()).isZero();
+            assertThat(toTest.readBytes(smallEntry)).isEqualTo(small);
+        }
+    }
+
+    /**
+     * This test aims to verify that a reopened {@link SegmentLog} finds the
+     * Blocks appended before and resumes appending after them.
+     */
+    @Test
+    void testReopenResumesLog() throws IOException {
+        final byte[] first = blockBytes(64, (byte) 1);
+        final SegmentLogEntry firstEntry;
+        try (final SegmentLog toTest = new SegmentLog(persistenceStorageConfig)) {
+            firstEntry = toTest.append(10L, stage(10L, first), CompressionType.NONE);
+        }
+        try (final SegmentLog toTest = new SegmentLog(persistenceStorageConfig)) {
+            assertThat(toTest.find(10L)).contains(firstEntry);
+            assertThat(toTest.readBytes(firstEntry)).isEqualTo(first);
+            final SegmentLogEntry secondEntry =
+                    toTest.append(11L, stage(11L, blockBytes(32, (byte) 2)), CompressionType.NONE);
+            assertThat(secondEntry.offset()).isEqualTo(first.length);
+            assertThat(toTest.findLatestBlockNumber()).contains(11L);
+        }
+    }
+
+    /**
+     * This test aims to verify that a Block preceding the first Block in the
+     * log cannot be appended.
+     */
+    @Test
+    void testAppendPrecedingBlockFails() throws IOException {
+        try (final SegmentLog toTest = new SegmentLog(persistenceStorageConfig)) {
+            toTest.append(10L, stage(10L, blockBytes(8, (byte) 1)), CompressionType.NONE);
+            final Path preceding = stage(9L, blockBytes(8, (byte) 2));
+            assertThatIOException().isThrownBy(() -> toTest.append(9L, preceding, CompressionType.NONE));
+            assertThat(toTest.contains(9L)).isFalse();
+        }
+    }
+
+    /**
+     * This test aims to verify that the {@link SegmentLog} appends a batch of
+     * Blocks across segments and indexes all of them.
+     */
+    @Test
+    void testAppendBatch() throws IOException {
+        try (final SegmentLog toTest = new SegmentLog(persistenceStorageConfig)) {
+            final byte[] large = blockBytes(SEGMENT_SIZE - 10, (byte) 1);
+            final byte[] small = blockBytes(20, (byte) 2);
+
+            final List<SegmentLogEntry> entries = toTest.append(List.of(
+                    liveBlockPath(3L, stage(3L, large), CompressionType.NONE),
+                    liveBlockPath(4L, stage(4L, small), CompressionType.ZSTD)));
+
+            assertThat(entries).hasSize(2);
+            assertThat(entries.get(1).segment()).isEqualTo(entries.get(0).segment() + 1);
+            assertThat(toTest.find(3L)).contains(entries.get(0));
+            assertThat(toTest.find(4L)).contains(entries.get(1));
+            assertThat(toTest.readBytes(entries.get(1))).isEqualTo(small);
+            assertThat(toTest.activeSegment()).isEqualTo(entries.get(1).segment());
+        }
+    }
+
+    /**
+     * This test aims to verify that a new segment is allocated to its full
+     * size before Blocks are appended to it.
+     */
+    @Test
+    void testPreallocatesSegment() throws IOException {
+        try (final SegmentLog toTest = new SegmentLog(persistenceStorageConfig)) {
+            toTest.append(0L, stage(0L, blockBytes(8, (byte) 1)), CompressionType.NONE);
+        }
+        final Path segmentsRootPath = testTempDir.resolve("live").resolve(SegmentLog.SEGMENTS_DIR_NAME);
+        try (final Stream<Path> segments = Files.list(segmentsRootPath)) {
+            final List<Path> segmentFiles = segments.filter(path -> path.toString().endsWith(".seg"))
+                    .toList();
+            assertThat(segmentFiles).hasSize(1);
+            assertThat(segmentFiles.getFirst()).hasSize(SEGMENT_SIZE);
+        }
+    }
+
+    /**
+     * This test aims to verify that the segment after the active one is
+     * pre-allocated ahead of the append that rolls over to it, which then
+     * appends to it.
+     */
+    @Test
+    void testPreallocatesNextSegment() throws IOException {
+        try (final SegmentLog toTest = new SegmentLog(persistenceStorageConfig)) {
+            final SegmentLogEntry largeEntry =
+                    toTest.append(0L, stage(0L, blockBytes(SEGMENT_SIZE - 10, (byte) 1)), CompressionType.NONE);
+            toTest.preallocateNextSegment();
+
+            final Path nextSegmentPath = testTempDir
+                    .resolve("live")
+                    .resolve(SegmentLog.SEGMENTS_DIR_NAME)
+                    .resolve("%010d.seg".formatted(largeEntry.segment() + 1));
+            assertThat(nextSegmentPath).hasSize(SEGMENT_SIZE);
+
+            final byte[] small = blockBytes(20, (byte) 2);
+            final SegmentLogEntry smallEntry = toTest.append(1L, stage(1L, small), CompressionType.NONE);
+            assertThat(smallEntry.segment()).isEqualTo(largeEntry.segment() + 1);
+            assertThat(toTest.readBytes(smallEntry)).isEqualTo(small);
+        }
+    }
+
+    /**
+     * This test aims to verify that the index holds Blocks beyond a single
+     * chunk of entries, and finds them once reopened.
+     */
+    @Test
+    void testIndexSpansChunks() throws IOException {
+        final long farBlockNumber = 200_000L;
+        try (final SegmentLog toTest = new SegmentLog(persistenceStorageConfig)) {
+            toTest.append(0L, stage(0L, blockBytes(8, (byte) 1)), CompressionType.NONE);
+            toTest.append(farBlockNumber, stage(farBlockNumber, blockBytes(8, (byte) 2)), CompressionType.NONE);
+        }
+        try (final SegmentLog toTest = new SegmentLog(persistenceStorageConfig)) {
+            assertThat(toTest.findFirstBlockNumber()).contains(0L);
+            assertThat(toTest.findLatestBlockNumber()).contains(farBlockNumber);
+            assertThat(toTest.contains(farBlockNumber - 1)).isFalse();
+            assertThat(toTest.readBytes(toTest.find(farBlockNumber).orElseThrow()))
+                    .isEqualTo(blockBytes(8, (byte) 2));
+        }
+    }
+
+    /**
+     * This test aims to verify that removing the segments before a given one
+     * deletes them along with their Blocks, which are no longer found, and
+     * keeps the Blocks of the retained segments.
+     */
+    @Test
+    void testRemoveBefore() throws IOException {
+        try (final SegmentLog toTest = new SegmentLog(persistenceStorageConfig)) {
+            final List<SegmentLogEntry> entries = toTest.append(List.of(
+                    liveBlockPath(0L, stage(0L, blockBytes(SEGMENT_SIZE / 2, (byte) 1)), CompressionType.NONE),
+                    liveBlockPath(1L, stage(1L, blockBytes(SEGMENT_SIZE / 2, (byte) 2)), CompressionType.NONE),
+                    liveBlockPath(2L, stage(2L, blockBytes(SEGMENT_SIZE / 2, (byte) 3)), CompressionType.NONE),
+                    liveBlockPath(3L, stage(3L, blockBytes(SEGMENT_SIZE / 2, (byte) 4)), CompressionType.NONE)));
+            assertThat(entries).extracting(SegmentLogEntry::segment).containsExactly(0, 0, 1, 1);
+            assertThat(toTest.findFirstSegment()).contains(0);
+            assertThat(toTest.findFirstBlockNumber(1)).contains(2L);
+
+            assertThat(toTest.removeBefore(1)).isEqualTo(2L);
+
+            assertThat(toTest.contains(0L)).isFalse();
+            assertThat(toTest.contains(1L)).isFalse();
+            assertThat(toTest.findFirstBlockNumber()).contains(2L);
+            assertThat(toTest.findFirstSegment()).contains(1);
+            assertThatIOException().isThrownBy(() -> toTest.readBytes(entries.getFirst()));
+            assertThat(toTest.readBytes(entries.get(2))).isEqualTo(blockBytes(SEGMENT_SIZE / 2, (byte) 3));
+            assertThat(toTest.removeBefore(1)).isZero();
+        }
+        try (final SegmentLog toTest = new SegmentLog(persistenceStorageConfig)) {
+            assertThat(toTest.findFirstBlockNumber()).contains(2L);
+            assertThat(toTest.contains(1L)).isFalse();
+        }
+    }
+
+    private Path stage(final long blockNumber, final byte[] bytes) throws IOException {
+        final Path staged = testTempDir.resolve(blockNumber + ".blk");
+        Files.write(staged, bytes);
+        return staged;
+    }
+
+    private static LiveBlockPath liveBlockPath(
+            final long blockNumber, final Path staged, final CompressionType compressionType) {
+        return new LiveBlockPath(
+                blockNumber, staged.getParent(), staged.getFileName().toString(), compressionType);
+    }
+
+    private static byte[] blockBytes(final int length, final byte value) {
+        final byte[] bytes = new byte[length];
+        Arrays.fill(bytes, value);
+        return bytes;
+    }
+}
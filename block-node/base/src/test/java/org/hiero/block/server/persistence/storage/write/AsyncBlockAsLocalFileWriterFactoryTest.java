@@ -48,7 +48,7 @@ class AsyncBlockAsLocalFileWriterFactoryTest {
 
     /**
      * This test aims to verify that the
-     * {@link AsyncBlockAsLocalFileWriterFactory#create(long)} correctly
+     * {@link AsyncBlockAsLocalFileWriterFactory#create(long, int)} correctly
      * creates an {@link AsyncBlockAsLocalFileWriter} instance.
      *
      * @param blockNumber parameterized, block number
@@ -56,13 +56,13 @@ class AsyncBlockAsLocalFileWriterFactoryTest {
     @ParameterizedTest
     @MethodSource("validBlockNumbers")
     void testCreate(final long blockNumber) {
-        final AsyncBlockWriter actual = toTest.create(blockNumber);
+        final AsyncBlockWriter actual = toTest.create(blockNumber, 0);
         assertThat(actual).isNotNull().isExactlyInstanceOf(AsyncBlockAsLocalFileWriter.class);
     }
 
     /**
      * This test aims to verify that the
-     * {@link AsyncBlockAsLocalFileWriterFactory#create(long)} correctly
+     * {@link AsyncBlockAsLocalFileWriterFactory#create(long, int)} correctly
      * throws an {@link IllegalArgumentException} when an invalid block number is
      * provided.
      *
@@ -71,7 +71,7 @@ class AsyncBlockAsLocalFileWriterFactoryTest {
     @ParameterizedTest
     @MethodSource("invalidBlockNumbers")
     void testCreateInvalidBlockNumber(final long blockNumber) {
-        assertThatIllegalArgumentException().isThrownBy(() -> toTest.create(blockNumber));
+        assertThatIllegalArgumentException().isThrownBy(() -> toTest.create(blockNumber, 0));
     }
 
     /**
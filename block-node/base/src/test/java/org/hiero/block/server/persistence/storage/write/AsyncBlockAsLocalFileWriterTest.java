@@ -30,6 +30,7 @@ import org.hiero.block.server.persistence.storage.remove.BlockRemover;
 import org.hiero.block.server.persistence.storage.write.BlockPersistenceResult.BlockPersistenceStatus;
 import org.hiero.block.server.service.Constants;
 import org.hiero.block.server.util.PersistTestUtils;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.io.TempDir;
@@ -89,6 +90,7 @@ class AsyncBlockAsLocalFileWriterTest {
                 blockPathResolverMock,
                 blockRemoverMock,
                 compressionMock,
+                new BlockWriterLane(compressionMock),
                 ackHandlerMock,
                 metricsServiceMock);
         final TransferQueue<BlockItemUnparsed> q = toTest.getQueue();
@@ -100,6 +102,7 @@ class AsyncBlockAsLocalFileWriterTest {
                 .thenReturn(expectedWrittenBlockFile);
         when(blockPathResolverMock.existsVerifiedBlock(validBlockNumber)).thenReturn(false);
         when(compressionMock.getCompressionFileExtension()).thenReturn("");
+        when(compressionMock.newEncoder()).thenCallRealMethod();
         when(compressionMock.wrap(any(OutputStream.class))).thenAnswer(invocation -> invocation.getArgument(0));
         when(metricsServiceMock.get(BlocksPersisted)).thenReturn(successfulPersistenceCounterMock);
 
@@ -138,6 +141,7 @@ class AsyncBlockAsLocalFileWriterTest {
                 blockPathResolverMock,
                 blockRemoverMock,
                 compressionMock,
+                new BlockWriterLane(compressionMock),
                 ackHandlerMock,
                 metricsServiceMock);
         final TransferQueue<BlockItemUnparsed> q = toTest.getQueue();
@@ -149,6 +153,7 @@ class AsyncBlockAsLocalFileWriterTest {
                 .thenReturn(expectedWrittenBlockFile);
         when(blockPathResolverMock.existsVerifiedBlock(validBlockNumber)).thenReturn(false);
         when(compressionMock.getCompressionFileExtension()).thenReturn("");
+        when(compressionMock.newEncoder()).thenCallRealMethod();
         when(compressionMock.wrap(any(OutputStream.class))).thenAnswer(invocation -> invocation.getArgument(0));
         when(metricsServiceMock.get(BlocksPersisted)).thenReturn(successfulPersistenceCounterMock);
 
@@ -195,6 +200,7 @@ class AsyncBlockAsLocalFileWriterTest {
                 blockPathResolverMock,
                 blockRemoverMock,
                 compressionMock,
+                new BlockWriterLane(compressionMock),
                 ackHandlerMock,
                 metricsServiceMock);
         final TransferQueue<BlockItemUnparsed> q = toTest.getQueue();
@@ -206,6 +212,7 @@ class AsyncBlockAsLocalFileWriterTest {
                 .thenReturn(expectedWrittenBlockFile);
         when(blockPathResolverMock.existsVerifiedBlock(validBlockNumber)).thenReturn(false);
         when(compressionMock.getCompressionFileExtension()).thenReturn("");
+        when(compressionMock.newEncoder()).thenCallRealMethod();
         when(compressionMock.wrap(any(OutputStream.class))).thenAnswer(invocation -> invocation.getArgument(0));
         when(metricsServiceMock.get(BlocksPersisted)).thenReturn(successfulPersistenceCounterMock);
 
@@ -235,6 +242,7 @@ class AsyncBlockAsLocalFileWriterTest {
                 blockPathResolverMock,
                 blockRemoverMock,
                 compressionMock,
+                new BlockWriterLane(compressionMock),
                 ackHandlerMock,
                 metricsServiceMock);
         final TransferQueue<BlockItemUnparsed> q = toTest.getQueue();
@@ -247,6 +255,7 @@ class AsyncBlockAsLocalFileWriterTest {
                 .thenReturn(expectedWrittenBlockFile);
         when(blockPathResolverMock.existsVerifiedBlock(validBlockNumber)).thenReturn(false);
         when(compressionMock.getCompressionFileExtension()).thenReturn("");
+        when(compressionMock.newEncoder()).thenCallRealMethod();
         when(compressionMock.wrap(any(OutputStream.class))).thenThrow(IOException.class);
 
         // then
@@ -276,6 +285,7 @@ class AsyncBlockAsLocalFileWriterTest {
                 blockPathResolverMock,
                 blockRemoverMock,
                 compressionMock,
+                new BlockWriterLane(compressionMock),
                 ackHandlerMock,
                 metricsServiceMock);
         final TransferQueue<BlockItemUnparsed> q = toTest.getQueue();
@@ -287,6 +297,7 @@ class AsyncBlockAsLocalFileWriterTest {
                 .thenReturn(expectedWrittenBlockFile);
         when(blockPathResolverMock.existsVerifiedBlock(validBlockNumber)).thenReturn(false);
         when(compressionMock.getCompressionFileExtension()).thenReturn("");
+        when(compressionMock.newEncoder()).thenCallRealMethod();
         when(compressionMock.wrap(any(OutputStream.class))).thenThrow(IOException.class);
         when(blockRemoverMock.removeUnverified(validBlockNumber)).thenThrow(IOException.class);
         when(metricsServiceMock.get(BlockPersistenceError)).thenReturn(persistenceErrorCounterMock);
@@ -325,6 +336,7 @@ class AsyncBlockAsLocalFileWriterTest {
                 blockPathResolverMock,
                 blockRemoverMock,
                 compressionMock,
+                new BlockWriterLane(compressionMock),
                 ackHandlerMock,
                 metricsServiceMock);
         final TransferQueue<BlockItemUnparsed> q = toTest.getQueue();
@@ -333,13 +345,22 @@ class AsyncBlockAsLocalFileWriterTest {
         validBlock.forEach(q::offer);
 
         // when
+        final Path expectedWrittenBlockFile = testTempDir.resolve(validBlockNumber + Constants.BLOCK_FILE_EXTENSION);
+        when(blockPathResolverMock.resolveLiveRawUnverifiedPathToBlock(validBlockNumber))
+                .thenReturn(expectedWrittenBlockFile);
         when(blockPathResolverMock.existsVerifiedBlock(validBlockNumber)).thenReturn(false);
+        when(compressionMock.getCompressionFileExtension()).thenReturn("");
+        when(compressionMock.newEncoder()).thenCallRealMethod();
+        when(compressionMock.wrap(any(OutputStream.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(blockRemoverMock.removeUnverified(validBlockNumber)).thenReturn(true);
 
         // then
         toTest.call();
         final BlockPersistenceResult expectedResult =
                 new BlockPersistenceResult(validBlockNumber, BlockPersistenceStatus.INCOMPLETE_BLOCK);
         verifyUnsuccessfulPersistencePublish(expectedResult);
+        // the items streamed before the flag must be cleaned up
+        verify(blockRemoverMock, times(1)).removeUnverified(validBlockNumber);
     }
 
     /**
@@ -361,6 +382,7 @@ class AsyncBlockAsLocalFileWriterTest {
                 blockPathResolverMock,
                 blockRemoverMock,
                 compressionMock,
+                new BlockWriterLane(compressionMock),
                 ackHandlerMock,
                 metricsServiceMock);
         final TransferQueue<BlockItemUnparsed> q = toTest.getQueue();
@@ -377,6 +399,46 @@ class AsyncBlockAsLocalFileWriterTest {
         verifyUnsuccessfulPersistencePublish(expectedResult);
     }
 
+    /**
+     * This test aims to verify that a writer which fails to persist its block
+     * takes the rest of the items of its block off the queue of its lane, so
+     * the next writer of the lane writes the items of its own block only.
+     */
+    @Timeout(value = TEST_TIMEOUT_MILLIS, unit = TimeUnit.MILLISECONDS)
+    @Test
+    void testWritersOfLaneTakeOwnBlockItems() throws Exception {
+        // setup
+        final BlockWriterLane lane = new BlockWriterLane(compressionMock);
+        final List<BlockItemUnparsed> duplicateBlock = PersistTestUtils.generateBlockItemsUnparsedForWithBlockNumber(1);
+        final List<BlockItemUnparsed> nextBlock = PersistTestUtils.generateBlockItemsUnparsedForWithBlockNumber(2);
+        final AsyncBlockWriter duplicateWriter = new AsyncBlockAsLocalFileWriter(
+                1, blockPathResolverMock, blockRemoverMock, compressionMock, lane, ackHandlerMock, metricsServiceMock);
+        final AsyncBlockWriter nextWriter = new AsyncBlockAsLocalFileWriter(
+                2, blockPathResolverMock, blockRemoverMock, compressionMock, lane, ackHandlerMock, metricsServiceMock);
+        duplicateBlock.forEach(duplicateWriter.getQueue()::offer);
+        nextBlock.forEach(nextWriter.getQueue()::offer);
+
+        // when
+        final Path expectedWrittenBlockFile = testTempDir.resolve(2 + Constants.BLOCK_FILE_EXTENSION);
+        when(blockPathResolverMock.existsVerifiedBlock(1)).thenReturn(true);
+        when(blockPathResolverMock.existsVerifiedBlock(2)).thenReturn(false);
+        when(blockPathResolverMock.resolveLiveRawUnverifiedPathToBlock(2)).thenReturn(expectedWrittenBlockFile);
+        when(compressionMock.getCompressionFileExtension()).thenReturn("");
+        when(compressionMock.newEncoder()).thenCallRealMethod();
+        when(compressionMock.wrap(any(OutputStream.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(metricsServiceMock.get(BlockPersistenceError)).thenReturn(persistenceErrorCounterMock);
+        when(metricsServiceMock.get(BlocksPersisted)).thenReturn(successfulPersistenceCounterMock);
+
+        // then
+        duplicateWriter.call();
+        nextWriter.call();
+        assertThat(lane.queue()).isEmpty();
+        assertThat(expectedWrittenBlockFile).hasBinaryContent(generateByteArrayOfTestBlock(nextBlock));
+        verify(ackHandlerMock, times(1))
+                .blockPersisted(new BlockPersistenceResult(1, BlockPersistenceStatus.DUPLICATE_BLOCK));
+        verify(ackHandlerMock, times(1)).blockPersisted(new BlockPersistenceResult(2, BlockPersistenceStatus.SUCCESS));
+    }
+
     /**
      * This test aims to verify that we cannot create an instance of
      * {@link AsyncBlockAsLocalFileWriter} with an invalid block number.
@@ -393,6 +455,7 @@ class AsyncBlockAsLocalFileWriterTest {
                         blockPathResolverMock,
                         blockRemoverMock,
                         compressionMock,
+                        new BlockWriterLane(compressionMock),
                         ackHandlerMock,
                         metricsServiceMock));
     }
@@ -34,7 +34,7 @@ class AsyncNoOpWriterFactoryTest {
 
     /**
      * This test aims to verify that the
-     * {@link AsyncNoOpWriterFactory#create(long)} correctly
+     * {@link AsyncNoOpWriterFactory#create(long, int)} correctly
      * creates an {@link AsyncNoOpWriterFactory} instance, no precondition
      * check for the block number.
      *
@@ -43,7 +43,7 @@ class AsyncNoOpWriterFactoryTest {
     @ParameterizedTest
     @MethodSource({"validBlockNumbers", "invalidBlockNumbers"})
     void testCreate(final long blockNumber) {
-        final AsyncBlockWriter actual = toTest.create(blockNumber);
+        final AsyncBlockWriter actual = toTest.create(blockNumber, 0);
         assertThat(actual).isNotNull().isExactlyInstanceOf(AsyncNoOpWriter.class);
     }
 
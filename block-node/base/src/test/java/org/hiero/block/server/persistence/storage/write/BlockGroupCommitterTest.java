@@ -0,0 +1,152 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.persistence.storage.write;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hiero.block.server.util.PersistTestUtils.PERSISTENCE_STORAGE_ARCHIVE_ROOT_PATH_KEY;
+import static org.hiero.block.server.util.PersistTestUtils.PERSISTENCE_STORAGE_LIVE_ROOT_PATH_KEY;
+import static org.hiero.block.server.util.PersistTestUtils.PERSISTENCE_STORAGE_UNVERIFIED_ROOT_PATH_KEY;
+
+import com.swirlds.config.api.ConfigurationBuilder;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import org.hiero.block.common.utils.FileUtilities;
+import org.hiero.block.server.persistence.storage.PersistenceStorageConfig;
+import org.hiero.block.server.persistence.storage.PersistenceStorageConfig.CompressionType;
+import org.hiero.block.server.persistence.storage.path.BlockAsLocalFilePathResolver;
+import org.hiero.block.server.persistence.storage.path.LiveBlockPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for the {@link BlockGroupCommitter} class.
+ */
+class BlockGroupCommitterTest {
+    private static final String PERSISTENCE_STORAGE_GROUP_COMMIT_MAX_BLOCKS =
+            "persistence.storage.groupCommitMaxBlocks";
+    private static final String PERSISTENCE_STORAGE_GROUP_COMMIT_WINDOW_MILLIS =
+            "persistence.storage.groupCommitWindowMillis";
+
+    @TempDir
+    private Path testTempDir;
+
+    private BlockAsLocalFilePathResolver pathResolver;
+    private BlockGroupCommitter toTest;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // the window is long enough that the groups are only closed by size
+        final PersistenceStorageConfig persistenceStorageConfig = ConfigurationBuilder.create()
+                .withConfigDataType(PersistenceStorageConfig.class)
+                .withValue(PERSISTENCE_STORAGE_LIVE_ROOT_PATH_KEY, testTempDir.resolve("live").toString())
+                .withValue(PERSISTENCE_STORAGE_ARCHIVE_ROOT_PATH_KEY, testTempDir.resolve("archive").toString())
+                .withValue(PERSISTENCE_STORAGE_UNVERIFIED_ROOT_PATH_KEY, testTempDir.resolve("unverified").toString())
+                .withValue(PERSISTENCE_STORAGE_GROUP_COMMIT_MAX_BLOCKS, "3")
+                .withValue(PERSISTENCE_STORAGE_GROUP_COMMIT_WINDOW_MILLIS, "60000")
+                .build()
+                .getConfigData(PersistenceStorageConfig.class);
+        pathResolver = new BlockAsLocalFilePathResolver(persistenceStorageConfig);
+        toTest = new BlockGroupCommitter(
+                persistenceStorageConfig, pathResolver, Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    /**
+     * This test aims to verify that the Blocks of a group are moved to the
+     * live root, and that their futures are completed once the group is
+     * closed, with the paths of the moved Blocks.
+     */
+    @Test
+    void testGroupIsMovedToLive() throws IOException {
+        for (long i = 0; i < 3; i++) {
+            createUnverifiedBlock(i, CompressionType.ZSTD);
+        }
+
+        final CompletableFuture<LiveBlockPath> first = toTest.commit(0L);
+        final CompletableFuture<LiveBlockPath> second = toTest.commit(1L);
+        // the group is not closed until it is full
+        assertThat(first).isNotDone();
+        final CompletableFuture<LiveBlockPath> third = toTest.commit(2L);
+
+        assertThat(third).succeedsWithin(Duration.ofSeconds(5));
+        assertThat(first).isCompletedWithValue(pathResolver.findLiveBlock(0L).orElseThrow());
+        assertThat(second).isCompletedWithValue(pathResolver.findLiveBlock(1L).orElseThrow());
+        assertThat(third).isCompletedWithValue(pathResolver.findLiveBlock(2L).orElseThrow());
+        assertThat(pathResolver.findUnverifiedBlock(1L)).isEmpty();
+    }
+
+    /**
+     * This test aims to verify that a Block that cannot be moved fails, and
+     * that the Blocks submitted after it are failed without being moved.
+     */
+    @Test
+    void testBlocksAfterFailedMoveAreNotMoved() throws IOException {
+        createUnverifiedBlock(0L, CompressionType.NONE);
+        createUnverifiedBlock(2L, CompressionType.NONE);
+
+        final CompletableFuture<LiveBlockPath> first = toTest.commit(0L);
+        final CompletableFuture<LiveBlockPath> second = toTest.commit(1L);
+        final CompletableFuture<LiveBlockPath> third = toTest.commit(2L);
+
+        assertThat(first).succeedsWithin(Duration.ofSeconds(5));
+        assertThat(second)
+                .failsWithin(Duration.ofSeconds(5))
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(FileNotFoundException.class);
+        assertThat(third).failsWithin(Duration.ofSeconds(5));
+        assertThat(pathResolver.findLiveBlock(2L)).isEmpty();
+        assertThat(pathResolver.findUnverifiedBlock(2L)).isPresent();
+    }
+
+    /**
+     * This test aims to verify that the Blocks submitted after a failed move
+     * are failed without being moved until the committer is reset, including
+     * the Blocks submitted before the reset, and that the Blocks submitted
+     * after the reset are moved.
+     */
+    @Test
+    void testBlocksAreRejectedUntilReset() throws IOException {
+        // Block 0 is missing, so it fails to move
+        for (long i = 1; i < 4; i++) {
+            createUnverifiedBlock(i, CompressionType.NONE);
+        }
+
+        final CompletableFuture<LiveBlockPath> failed = toTest.commit(0L);
+        toTest.commit(1L);
+        toTest.commit(2L);
+        assertThat(failed).failsWithin(Duration.ofSeconds(5));
+
+        // submitted after the failure, and before the reset
+        final CompletableFuture<LiveBlockPath> rejected = toTest.commit(3L);
+        assertThat(rejected)
+                .failsWithin(Duration.ofSeconds(5))
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(IOException.class);
+        final CompletableFuture<LiveBlockPath> stale = toTest.commit(1L);
+        toTest.reset();
+        assertThat(stale).failsWithin(Duration.ofSeconds(5));
+        assertThat(pathResolver.findLiveBlock(1L)).isEmpty();
+        assertThat(pathResolver.findLiveBlock(3L)).isEmpty();
+
+        createUnverifiedBlock(0L, CompressionType.NONE);
+        toTest.commit(0L);
+        toTest.commit(1L);
+        final CompletableFuture<LiveBlockPath> moved = toTest.commit(2L);
+        assertThat(moved).succeedsWithin(Duration.ofSeconds(5));
+        assertThat(pathResolver.findLiveBlock(0L)).isPresent();
+        assertThat(pathResolver.findUnverifiedBlock(3L)).isPresent();
+    }
+
+    private void createUnverifiedBlock(final long blockNumber, final CompressionType compressionType)
+            throws IOException {
+        final Path blockPath = FileUtilities.appendExtension(
+                pathResolver.resolveLiveRawUnverifiedPathToBlock(blockNumber), compressionType.getFileExtension());
+        Files.createDirectories(blockPath.getParent());
+        Files.write(blockPath, new byte[] {1});
+    }
+}
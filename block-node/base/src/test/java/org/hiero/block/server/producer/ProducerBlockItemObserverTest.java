@@ -25,7 +25,7 @@ import java.util.Map;
 import org.hiero.block.server.block.BlockInfo;
 import org.hiero.block.server.consumer.ConsumerConfig;
 import org.hiero.block.server.events.ObjectEvent;
-import org.hiero.block.server.mediator.Publisher;
+import org.hiero.block.server.mediator.BlockItemBatchPublisher;
 import org.hiero.block.server.mediator.SubscriptionHandler;
 import org.hiero.block.server.metrics.MetricsService;
 import org.hiero.block.server.service.ServiceConfig;
@@ -46,7 +46,7 @@ public class ProducerBlockItemObserverTest {
     private InstantSource testClock;
 
     @Mock
-    private Publisher<List<BlockItemUnparsed>> publisher;
+    private BlockItemBatchPublisher publisher;
 
     @Mock
     private SubscriptionHandler<PublishStreamResponse> subscriptionHandler;
@@ -151,7 +151,7 @@ public class ProducerBlockItemObserverTest {
                 metricsService);
 
         producerBlockItemObserver.onNext(List.of());
-        verify(publisher, never()).publish(any());
+        verify(publisher, never()).publish(any(), any());
     }
 
     @Test
@@ -244,7 +244,7 @@ public class ProducerBlockItemObserverTest {
         // verify helidonPublishPipeline.onNext() is called once with publishStreamResponse
         verify(helidonPublishPipeline, timeout(testTimeout).times(1)).onNext(publishStreamResponse);
         // verify that the duplicate block is not published
-        verify(publisher, never()).publish(any());
+        verify(publisher, never()).publish(any(), any());
     }
 
     @Test
@@ -287,7 +287,7 @@ public class ProducerBlockItemObserverTest {
         // verify helidonPublishPipeline.onNext() is called once with publishStreamResponse
         verify(helidonPublishPipeline, timeout(testTimeout).times(1)).onNext(publishStreamResponse);
         // verify that the duplicate block is not published
-        verify(publisher, never()).publish(any());
+        verify(publisher, never()).publish(any(), any());
     }
 
     @Test
@@ -328,7 +328,7 @@ public class ProducerBlockItemObserverTest {
         // verify helidonPublishPipeline.onNext() is called once with publishStreamResponse
         verify(helidonPublishPipeline, timeout(testTimeout).times(1)).onNext(publishStreamResponse);
         // verify that the duplicate block is not published
-        verify(publisher, never()).publish(any());
+        verify(publisher, never()).publish(any(), any());
     }
 
     @Test
@@ -375,7 +375,7 @@ public class ProducerBlockItemObserverTest {
         // verify helidonPublishPipeline.onNext() is called once with publishStreamResponse
         verify(helidonPublishPipeline, timeout(testTimeout).times(1)).onNext(publishStreamResponse);
         // verify that the duplicate block is not published
-        verify(publisher, never()).publish(any());
+        verify(publisher, never()).publish(any(), any());
     }
 
     @Test
@@ -415,6 +415,6 @@ public class ProducerBlockItemObserverTest {
         // verify that .onNext() is called only once.
         verify(helidonPublishPipeline, timeout(testTimeout).times(1)).onNext(any());
         // verify that the future block is not published
-        verify(publisher, never()).publish(any());
+        verify(publisher, never()).publish(any(), any());
     }
 }
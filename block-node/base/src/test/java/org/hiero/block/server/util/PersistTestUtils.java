@@ -18,6 +18,7 @@ public final class PersistTestUtils {
     public static final String PERSISTENCE_STORAGE_COMPRESSION_TYPE = "persistence.storage.compressionType";
     public static final String PERSISTENCE_STORAGE_COMPRESSION_LEVEL = "persistence.storage.compressionLevel";
     public static final String PERSISTENCE_STORAGE_ARCHIVE_GROUP_SIZE = "persistence.storage.archiveGroupSize";
+    public static final String PERSISTENCE_STORAGE_SEGMENT_SIZE = "persistence.storage.segmentSize";
 
     private PersistTestUtils() {}
 
@@ -81,7 +81,7 @@ public class StreamVerificationHandlerImplTest {
 
         streamVerificationHandler.onEvent(event, 0, false);
 
-        verify(blockVerificationService, times(1)).onBlockItemsReceived(blockItems);
+        verify(blockVerificationService, times(1)).onBlockItemsReceived(eq(blockItems), any());
         verify(serviceStatus, never()).stopRunning(any());
         verify(subscriptionHandler, never()).unsubscribe(any());
         verify(notifier, never()).notifyUnrecoverableError();
@@ -107,7 +107,7 @@ public class StreamVerificationHandlerImplTest {
         // Simulate an exception when verifying block items
         doThrow(new RuntimeException("Verification failed"))
                 .when(blockVerificationService)
-                .onBlockItemsReceived(blockItems);
+                .onBlockItemsReceived(eq(blockItems), any());
 
         streamVerificationHandler.onEvent(event, 0, false);
 
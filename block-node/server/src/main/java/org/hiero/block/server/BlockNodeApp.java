@@ -18,6 +18,7 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import org.hiero.block.server.config.ServerConfig;
 import org.hiero.block.server.config.logging.ConfigurationLogging;
+import org.hiero.block.server.download.BlockDownloadService;
 import org.hiero.block.server.health.HealthService;
 import org.hiero.block.server.pbj.PbjBlockAccessService;
 import org.hiero.block.server.pbj.PbjBlockStreamService;
@@ -34,6 +35,7 @@ public class BlockNodeApp {
 
     private final ServiceStatus serviceStatus;
     private final HealthService healthService;
+    private final BlockDownloadService blockDownloadService;
     private final WebServerConfig.Builder webServerBuilder;
     private final PbjBlockStreamService pbjBlockStreamService;
     private final PbjBlockAccessService pbjBlockAccessService;
@@ -45,6 +47,7 @@ public class BlockNodeApp {
      *
      * @param serviceStatus has the status of the service
      * @param healthService handles the health API requests
+     * @param blockDownloadService handles the block download API requests
      * @param pbjBlockStreamService defines the Block Stream services
      * @param pbjBlockAccessService defines the Block Access services
      * @param webServerBuilder used to build the web server and start it
@@ -54,6 +57,7 @@ public class BlockNodeApp {
     public BlockNodeApp(
             @NonNull final ServiceStatus serviceStatus,
             @NonNull final HealthService healthService,
+            @NonNull final BlockDownloadService blockDownloadService,
             @NonNull final PbjBlockStreamService pbjBlockStreamService,
             @NonNull final PbjBlockAccessService pbjBlockAccessService,
             @NonNull final WebServerConfig.Builder webServerBuilder,
@@ -61,6 +65,7 @@ public class BlockNodeApp {
             @NonNull final ConfigurationLogging configurationLogging) {
         this.serviceStatus = requireNonNull(serviceStatus);
         this.healthService = requireNonNull(healthService);
+        this.blockDownloadService = requireNonNull(blockDownloadService);
         this.pbjBlockStreamService = requireNonNull(pbjBlockStreamService);
         this.pbjBlockAccessService = requireNonNull(pbjBlockAccessService);
         this.webServerBuilder = requireNonNull(webServerBuilder);
@@ -78,8 +83,9 @@ public class BlockNodeApp {
         // Log the configuration
         configurationLogging.log();
 
-        final HttpRouting.Builder httpRouting =
-                HttpRouting.builder().register(healthService.getHealthRootPath(), healthService);
+        final HttpRouting.Builder httpRouting = HttpRouting.builder()
+                .register(healthService.getHealthRootPath(), healthService)
+                .register(blockDownloadService.getBlockDownloadRootPath(), blockDownloadService);
 
         final PbjRouting.Builder pbjRouting =
                 PbjRouting.builder().service(pbjBlockStreamService).service(pbjBlockAccessService);
@@ -7,6 +7,7 @@ import dagger.Component;
 import javax.inject.Singleton;
 import org.hiero.block.server.ack.AckHandlerInjectionModule;
 import org.hiero.block.server.config.ConfigInjectionModule;
+import org.hiero.block.server.download.BlockDownloadInjectionModule;
 import org.hiero.block.server.health.HealthInjectionModule;
 import org.hiero.block.server.mediator.MediatorInjectionModule;
 import org.hiero.block.server.metrics.MetricsInjectionModule;
@@ -24,6 +25,7 @@ import org.hiero.block.server.verification.VerificationInjectionModule;
             ServiceInjectionModule.class,
             BlockNodeAppInjectionModule.class,
             HealthInjectionModule.class,
+            BlockDownloadInjectionModule.class,
             PersistenceInjectionModule.class,
             MediatorInjectionModule.class,
             ConfigInjectionModule.class,
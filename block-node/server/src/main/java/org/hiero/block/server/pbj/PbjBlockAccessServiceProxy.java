@@ -20,6 +20,8 @@ import java.util.Optional;
 import javax.inject.Inject;
 import org.hiero.block.server.metrics.MetricsService;
 import org.hiero.block.server.persistence.storage.read.BlockReader;
+import org.hiero.block.server.persistence.storage.read.EncodedBlock;
+import org.hiero.block.server.persistence.storage.read.EncodedBlockReader;
 import org.hiero.block.server.service.ServiceStatus;
 
 /**
@@ -32,6 +34,13 @@ public class PbjBlockAccessServiceProxy implements PbjBlockAccessService {
 
     private final System.Logger LOGGER = System.getLogger(getClass().getName());
 
+    // A successful SingleBlockResponse holding an empty block
+    private static final Bytes EMPTY_BLOCK_SUCCESS_RESPONSE =
+            SingleBlockResponseUnparsed.PROTOBUF.toBytes(SingleBlockResponseUnparsed.newBuilder()
+                    .status(SingleBlockResponseCode.READ_BLOCK_SUCCESS)
+                    .block(BlockUnparsed.DEFAULT)
+                    .build());
+
     private final ServiceStatus serviceStatus;
     private final BlockReader<BlockUnparsed> blockReader;
     private final MetricsService metricsService;
@@ -66,10 +75,10 @@ public class PbjBlockAccessServiceProxy implements PbjBlockAccessService {
         try {
             final var m = (BlockAccessMethod) method;
             return switch (m) {
-                case singleBlock -> Pipelines.<SingleBlockRequest, SingleBlockResponseUnparsed>unary()
+                case singleBlock -> Pipelines.<SingleBlockRequest, Bytes>unary()
                         .mapRequest(bytes -> parseSingleBlockRequest(bytes))
-                        .method(this::singleBlock)
-                        .mapResponse(reply -> createSingleBlockResponse(reply, options))
+                        .method(request -> singleBlockEncoded(request, options))
+                        .mapResponse(reply -> reply)
                         .respondTo(replies)
                         .build();
             };
@@ -131,6 +140,51 @@ public class PbjBlockAccessServiceProxy implements PbjBlockAccessService {
         }
     }
 
+    /**
+     * Executes the unary singleBlock gRPC method, answering with the wire-encoded response. When
+     * the block reader provides blocks in their stored encoding, the response is spliced from the
+     * stored bytes of the block instead of parsing the block and encoding it again.
+     *
+     * @param singleBlockRequest the single block request
+     * @param options the request options
+     * @return the wire-encoded single block response
+     */
+    @NonNull
+    Bytes singleBlockEncoded(
+            @NonNull final SingleBlockRequest singleBlockRequest, @NonNull final RequestOptions options) {
+
+        if (!(blockReader instanceof EncodedBlockReader encodedBlockReader) || !serviceStatus.isRunning()) {
+            return createSingleBlockResponse(singleBlock(singleBlockRequest), options);
+        }
+
+        LOGGER.log(DEBUG, "Executing Unary singleBlock gRPC method");
+
+        final long blockNumber = singleBlockRequest.blockNumber();
+        SingleBlockResponseCode responseCode;
+        try {
+            final Optional<EncodedBlock> blockOpt = encodedBlockReader.readEncoded(blockNumber);
+            if (blockOpt.isPresent()) {
+                LOGGER.log(DEBUG, "Successfully returning block number: {0}", blockNumber);
+                metricsService.get(SingleBlocksRetrieved).increment();
+
+                return EncodedBlock.withLastField(EMPTY_BLOCK_SUCCESS_RESPONSE, blockOpt.get().bytes());
+            }
+
+            LOGGER.log(DEBUG, "Block number {0} not found", blockNumber);
+            metricsService.get(SingleBlocksNotFound).increment();
+            responseCode = SingleBlockResponseCode.READ_BLOCK_NOT_FOUND;
+        } catch (IOException e) {
+            LOGGER.log(ERROR, "Error reading block number: {0}", blockNumber);
+            responseCode = SingleBlockResponseCode.READ_BLOCK_NOT_AVAILABLE;
+        } catch (ParseException e) {
+            LOGGER.log(ERROR, "Error parsing block number: {0}", blockNumber);
+            responseCode = SingleBlockResponseCode.READ_BLOCK_NOT_AVAILABLE;
+        }
+
+        return createSingleBlockResponse(
+                SingleBlockResponseUnparsed.newBuilder().status(responseCode).build(), options);
+    }
+
     @NonNull
     private SingleBlockRequest parseSingleBlockRequest(@NonNull final Bytes message) throws ParseException {
         return SingleBlockRequest.PROTOBUF.parse(message);
@@ -27,6 +27,7 @@ import org.hiero.block.server.block.BlockInfo;
 import org.hiero.block.server.consumer.ClosedRangeHistoricStreamEventHandlerBuilder;
 import org.hiero.block.server.consumer.ConsumerConfig;
 import org.hiero.block.server.consumer.ConsumerStreamBuilder;
+import org.hiero.block.server.consumer.SubscribeStreamResponsePipeline;
 import org.hiero.block.server.events.BlockNodeEventHandler;
 import org.hiero.block.server.events.ObjectEvent;
 import org.hiero.block.server.mediator.LiveStreamMediator;
@@ -154,14 +155,16 @@ public class PbjBlockStreamServiceProxy implements PbjBlockStreamService {
                             .build();
                 }
                 case subscribeBlockStream -> Pipelines
-                        .<SubscribeStreamRequest, SubscribeStreamResponseUnparsed>serverStreaming()
+                        .<SubscribeStreamRequest, Bytes>serverStreaming()
                         .mapRequest(bytes -> parseSubscribeStreamRequest(bytes, options))
                         .method((subscribeStreamRequest, helidonConsumerObserver) -> subscribeBlockStream(
                                 subscribeStreamRequest,
-                                helidonConsumerObserver,
+                                new SubscribeStreamResponsePipeline(helidonConsumerObserver),
                                 openRangeHistoricStreamingExecutorService,
                                 closedRangeHistoricStreamingExecutorService))
-                        .mapResponse(reply -> createSubscribeStreamResponse(reply, options))
+                        // Responses are encoded by SubscribeStreamResponsePipeline so live
+                        // batches encoded once can be shared across consumers.
+                        .mapResponse(reply -> reply)
                         .respondTo(replies)
                         .build();
             };
@@ -371,13 +374,6 @@ public class PbjBlockStreamServiceProxy implements PbjBlockStreamService {
         return SubscribeStreamRequest.PROTOBUF.parse(message);
     }
 
-    @NonNull
-    private Bytes createSubscribeStreamResponse(
-            @NonNull final SubscribeStreamResponseUnparsed subscribeStreamResponse,
-            @NonNull final RequestOptions options) {
-        return SubscribeStreamResponseUnparsed.PROTOBUF.toBytes(subscribeStreamResponse);
-    }
-
     @NonNull
     private List<BlockItemUnparsed> parsePublishStreamRequest(
             @NonNull final Bytes message, @NonNull final RequestOptions options) throws ParseException {
@@ -19,6 +19,7 @@ import java.util.List;
 import org.hiero.block.server.config.ServerConfig;
 import org.hiero.block.server.config.logging.ConfigurationLogging;
 import org.hiero.block.server.consumer.ConsumerConfig;
+import org.hiero.block.server.download.BlockDownloadService;
 import org.hiero.block.server.events.BlockNodeEventHandler;
 import org.hiero.block.server.events.ObjectEvent;
 import org.hiero.block.server.health.HealthService;
@@ -47,6 +48,9 @@ class BlockNodeAppTest {
     @Mock
     private HealthService healthService;
 
+    @Mock
+    private BlockDownloadService blockDownloadService;
+
     @Mock
     private WebServerConfig.Builder webServerBuilder;
 
@@ -90,6 +94,7 @@ class BlockNodeAppTest {
         blockNodeApp = new BlockNodeApp(
                 serviceStatus,
                 healthService,
+                blockDownloadService,
                 new PbjBlockStreamServiceProxy(
                         liveStreamMediator,
                         serviceStatus,
@@ -112,6 +117,7 @@ class BlockNodeAppTest {
         when(webServerBuilder.connectionConfig(any(ConnectionConfig.class))).thenReturn(webServerBuilder);
         when(webServerBuilder.build()).thenReturn(webServer);
         when(healthService.getHealthRootPath()).thenReturn("/health");
+        when(blockDownloadService.getBlockDownloadRootPath()).thenReturn("/blocks");
     }
 
     @Test
@@ -123,6 +129,7 @@ class BlockNodeAppTest {
         verify(serviceStatus).setWebServer(webServer);
         verify(webServer).start();
         verify(healthService).getHealthRootPath();
+        verify(blockDownloadService).getBlockDownloadRootPath();
         verify(webServerBuilder).port(8080);
         verify(webServerBuilder).addRouting(any(PbjRouting.Builder.class));
         verify(webServerBuilder).addRouting(any(HttpRouting.Builder.class));
@@ -1,6 +1,8 @@
 // SPDX-License-Identifier: Apache-2.0
 package org.hiero.block.server.notifier;
 
+import static com.lmax.disruptor.dsl.ProducerType.MULTI;
+import static org.hiero.block.server.mediator.WaitStrategyType.BLOCKING;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -11,14 +13,14 @@ public class NotifierConfigTest {
 
     @Test
     public void testNotifierConfig_happyPath() {
-        NotifierConfig notifierConfig = new NotifierConfig(2048, 90);
+        NotifierConfig notifierConfig = new NotifierConfig(2048, 90, BLOCKING, MULTI);
         assertEquals(2048, notifierConfig.ringBufferSize());
     }
 
     @Test
     public void testNotifierConfig_negativeRingBufferSize() {
-        IllegalArgumentException exception =
-                assertThrows(IllegalArgumentException.class, () -> new NotifierConfig(-1, 90));
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class, () -> new NotifierConfig(-1, 90, BLOCKING, MULTI));
         assertEquals("Notifier Ring Buffer Size must be positive", exception.getMessage());
     }
 
@@ -28,14 +30,15 @@ public class NotifierConfigTest {
         int[] powerOf2Values = IntStream.iterate(2, n -> n * 2).limit(30).toArray();
 
         for (int powerOf2Value : powerOf2Values) {
-            NotifierConfig notifierConfig = new NotifierConfig(powerOf2Value, 90);
+            NotifierConfig notifierConfig = new NotifierConfig(powerOf2Value, 90, BLOCKING, MULTI);
             assertEquals(powerOf2Value, notifierConfig.ringBufferSize());
         }
 
         // Test the non-power of 2 values
         for (int powerOf2Value : powerOf2Values) {
-            IllegalArgumentException exception =
-                    assertThrows(IllegalArgumentException.class, () -> new NotifierConfig(powerOf2Value + 1, 90));
+            IllegalArgumentException exception = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> new NotifierConfig(powerOf2Value + 1, 90, BLOCKING, MULTI));
             assertEquals("Notifier Ring Buffer Size must be a power of 2", exception.getMessage());
         }
     }
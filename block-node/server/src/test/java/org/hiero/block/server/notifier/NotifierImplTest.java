@@ -36,10 +36,10 @@ import org.hiero.block.server.ack.AckHandler;
 import org.hiero.block.server.consumer.ConsumerConfig;
 import org.hiero.block.server.events.BlockNodeEventHandler;
 import org.hiero.block.server.events.ObjectEvent;
+import org.hiero.block.server.mediator.BlockItemBatchPublisher;
 import org.hiero.block.server.mediator.LiveStreamMediator;
 import org.hiero.block.server.mediator.LiveStreamMediatorBuilder;
 import org.hiero.block.server.mediator.MediatorConfig;
-import org.hiero.block.server.mediator.Publisher;
 import org.hiero.block.server.mediator.SubscriptionHandler;
 import org.hiero.block.server.metrics.MetricsService;
 import org.hiero.block.server.pbj.PbjBlockStreamService;
@@ -49,6 +49,10 @@ import org.hiero.block.server.persistence.storage.PersistenceStorageConfig;
 import org.hiero.block.server.persistence.storage.archive.LocalBlockArchiver;
 import org.hiero.block.server.persistence.storage.path.BlockPathResolver;
 import org.hiero.block.server.persistence.storage.read.BlockReader;
+import org.hiero.block.server.persistence.storage.read.NoOpBlockCache;
+import org.hiero.block.server.persistence.storage.recovery.NoOpUnverifiedBlockRecovery;
+import org.hiero.block.server.persistence.storage.remove.NoOpBlockPruner;
+import org.hiero.block.server.persistence.storage.remove.NoOpBlockRemover;
 import org.hiero.block.server.persistence.storage.write.AsyncBlockWriterFactory;
 import org.hiero.block.server.producer.ProducerBlockItemObserver;
 import org.hiero.block.server.producer.ProducerConfig;
@@ -74,7 +78,7 @@ class NotifierImplTest {
     private Notifiable mediator;
 
     @Mock
-    private Publisher<List<BlockItemUnparsed>> publisher;
+    private BlockItemBatchPublisher publisher;
 
     @Mock
     private ServiceStatus serviceStatus;
@@ -286,7 +290,11 @@ class NotifierImplTest {
                 executorMock,
                 archiverMock,
                 pathResolverMock,
-                persistenceStorageConfig);
+                persistenceStorageConfig,
+                NoOpBlockCache.newInstance(),
+                NoOpBlockPruner.newInstance(),
+                NoOpBlockRemover.newInstance(),
+                NoOpUnverifiedBlockRecovery.newInstance());
         final BlockVerificationService blockVerificationService = new NoOpBlockVerificationService();
         final StreamVerificationHandlerImpl streamVerificationHandler = new StreamVerificationHandlerImpl(
                 streamMediator, notifier, metricsService, serviceStatus, blockVerificationService);
@@ -3,9 +3,11 @@ package org.hiero.block.server.pbj;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 import com.hedera.hapi.block.BlockItemUnparsed;
 import com.hedera.hapi.block.BlockUnparsed;
@@ -24,6 +26,8 @@ import java.util.Map;
 import java.util.Optional;
 import org.hiero.block.server.metrics.MetricsService;
 import org.hiero.block.server.persistence.storage.read.BlockReader;
+import org.hiero.block.server.persistence.storage.read.EncodedBlock;
+import org.hiero.block.server.persistence.storage.read.EncodedBlockReader;
 import org.hiero.block.server.service.ServiceStatus;
 import org.hiero.block.server.util.TestConfigUtil;
 import org.junit.jupiter.api.BeforeEach;
@@ -101,6 +105,44 @@ public class PbjBlockAccessServiceProxyTest {
         verify(replies, timeout(testTimeout).times(1)).onComplete();
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSingleBlockEncoded() throws IOException, ParseException {
+        final BlockReader<BlockUnparsed> encodedBlockReader =
+                mock(BlockReader.class, withSettings().extraInterfaces(EncodedBlockReader.class));
+        final PbjBlockAccessServiceProxy pbjBlockAccessServiceProxy =
+                new PbjBlockAccessServiceProxy(serviceStatus, encodedBlockReader, metricsService);
+        final Pipeline<? super Bytes> pipeline =
+                pbjBlockAccessServiceProxy.open(PbjBlockAccessService.BlockAccessMethod.singleBlock, options, replies);
+        assertNotNull(pipeline);
+
+        when(serviceStatus.isRunning()).thenReturn(true);
+
+        final var blockItems = BlockItemUnparsed.newBuilder()
+                .blockHeader(BlockHeader.PROTOBUF.toBytes(
+                        BlockHeader.newBuilder().number(1).build()))
+                .build();
+        final BlockUnparsed block =
+                BlockUnparsed.newBuilder().blockItems(blockItems).build();
+        when(((EncodedBlockReader) encodedBlockReader).readEncoded(1))
+                .thenReturn(Optional.of(EncodedBlock.of(BlockUnparsed.PROTOBUF.toBytes(block))));
+
+        final SingleBlockRequest singleBlockRequest =
+                SingleBlockRequest.newBuilder().blockNumber(1).build();
+        pipeline.onNext(SingleBlockRequest.PROTOBUF.toBytes(singleBlockRequest));
+
+        // The response spliced from the stored bytes is the encoded response
+        final var readSuccessResponse = SingleBlockResponseUnparsed.newBuilder()
+                .status(SingleBlockResponseCode.READ_BLOCK_SUCCESS)
+                .block(block)
+                .build();
+        verify(replies, timeout(testTimeout).times(1)).onSubscribe(any());
+        verify(replies, timeout(testTimeout).times(1))
+                .onNext(SingleBlockResponseUnparsed.PROTOBUF.toBytes(readSuccessResponse));
+        verify(replies, timeout(testTimeout).times(1)).onComplete();
+        verify(encodedBlockReader, timeout(testTimeout).times(0)).read(1);
+    }
+
     @Test
     public void testSingleBlockNotFound() throws IOException, ParseException {
         final PbjBlockAccessServiceProxy pbjBlockAccessServiceProxy =
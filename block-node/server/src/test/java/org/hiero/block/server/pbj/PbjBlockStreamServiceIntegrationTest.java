@@ -3,6 +3,7 @@ package org.hiero.block.server.pbj;
 
 import static com.hedera.hapi.block.SubscribeStreamResponseCode.READ_STREAM_NOT_AVAILABLE;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.BlocksPersisted;
 import static org.hiero.block.server.util.PbjProtoTestUtils.buildEmptyPublishStreamRequest;
 import static org.hiero.block.server.util.PbjProtoTestUtils.buildLiveStreamSubscribeStreamRequest;
 import static org.hiero.block.server.util.PersistTestUtils.PERSISTENCE_STORAGE_ARCHIVE_ROOT_PATH_KEY;
@@ -75,8 +76,12 @@ import org.hiero.block.server.persistence.storage.compression.NoOpCompression;
 import org.hiero.block.server.persistence.storage.path.BlockAsLocalFilePathResolver;
 import org.hiero.block.server.persistence.storage.path.BlockPathResolver;
 import org.hiero.block.server.persistence.storage.read.BlockReader;
+import org.hiero.block.server.persistence.storage.read.NoOpBlockCache;
 import org.hiero.block.server.persistence.storage.remove.BlockAsLocalFileRemover;
 import org.hiero.block.server.persistence.storage.remove.BlockRemover;
+import org.hiero.block.server.persistence.storage.recovery.NoOpUnverifiedBlockRecovery;
+import org.hiero.block.server.persistence.storage.remove.NoOpBlockPruner;
+import org.hiero.block.server.persistence.storage.remove.NoOpBlockRemover;
 import org.hiero.block.server.persistence.storage.write.AsyncBlockAsLocalFileWriterFactory;
 import org.hiero.block.server.persistence.storage.write.AsyncBlockWriterFactory;
 import org.hiero.block.server.persistence.storage.write.AsyncNoOpWriterFactory;
@@ -208,7 +213,8 @@ class PbjBlockStreamServiceIntegrationTest {
     void testPublishBlockStreamRegistrationAndExecution() throws IOException, InterruptedException {
         final int numberOfBlocks = 1;
 
-        final ExecutorService persistenceExecutor = Executors.newFixedThreadPool(numberOfBlocks);
+        // the writer lanes are long-lived tasks, so each of them needs a thread of its own
+        final ExecutorService persistenceExecutor = Executors.newVirtualThreadPerTaskExecutor();
         final BlockingExecutorService subscriberExecutor1 = new BlockingExecutorService(1, 1);
         final BlockingExecutorService subscriberExecutor2 = new BlockingExecutorService(1, 1);
         final BlockingExecutorService subscriberExecutor3 = new BlockingExecutorService(1, 1);
@@ -319,7 +325,8 @@ class PbjBlockStreamServiceIntegrationTest {
     void testFullProducerConsumerHappyPath() throws IOException, InterruptedException {
         final int numberOfBlocks = 5;
 
-        final ExecutorService persistenceExecutor = Executors.newFixedThreadPool(numberOfBlocks);
+        // the writer lanes are long-lived tasks, so each of them needs a thread of its own
+        final ExecutorService persistenceExecutor = Executors.newVirtualThreadPerTaskExecutor();
         final BlockingExecutorService subscriberExecutor1 = new BlockingExecutorService(1, 1);
         final BlockingExecutorService subscriberExecutor2 = new BlockingExecutorService(1, 1);
         final BlockingExecutorService subscriberExecutor3 = new BlockingExecutorService(1, 1);
@@ -423,7 +430,8 @@ class PbjBlockStreamServiceIntegrationTest {
         final BlockingExecutorService subscriberExecutor4 = new BlockingExecutorService(1, 1);
         final BlockingExecutorService subscriberExecutor5 = new BlockingExecutorService(1, 1);
         final BlockingExecutorService subscriberExecutor6 = new BlockingExecutorService(1, 1);
-        final BlockingExecutorService persistenceExecutor = new BlockingExecutorService(numberOfBlocks, numberOfBlocks);
+        // the writer lanes are long-lived tasks, so each of them needs a thread of its own
+        final ExecutorService persistenceExecutor = Executors.newVirtualThreadPerTaskExecutor();
 
         // These latches will be used to await subscription of dynamically added subscribers
         CountDownLatch subscriber4Latch = new CountDownLatch(1);
@@ -538,7 +546,10 @@ class PbjBlockStreamServiceIntegrationTest {
                 subscriber6Latch.await();
             }
         }
-        persistenceExecutor.waitTasksToComplete();
+        // Wait for all the blocks to be persisted
+        while (metricsService.get(BlocksPersisted).get() < numberOfBlocks) {
+            Thread.sleep(10);
+        }
         subscriberExecutor1.waitTasksToComplete();
         subscriberExecutor2.waitTasksToComplete();
         subscriberExecutor3.waitTasksToComplete();
@@ -605,7 +616,11 @@ class PbjBlockStreamServiceIntegrationTest {
                 executorMock,
                 archiverMock,
                 pathResolverMock,
-                persistenceStorageConfig);
+                persistenceStorageConfig,
+                NoOpBlockCache.newInstance(),
+                NoOpBlockPruner.newInstance(),
+                NoOpBlockRemover.newInstance(),
+                NoOpUnverifiedBlockRecovery.newInstance());
         final StreamVerificationHandlerImpl streamVerificationHandler = new StreamVerificationHandlerImpl(
                 streamMediator, notifierMock, metricsService, serviceStatus, mock(BlockVerificationService.class));
         final PbjBlockStreamServiceProxy pbjBlockStreamServiceProxy = new PbjBlockStreamServiceProxy(
@@ -765,7 +780,11 @@ class PbjBlockStreamServiceIntegrationTest {
                 executorMock,
                 archiverMock,
                 pathResolverMock,
-                persistenceStorageConfig);
+                persistenceStorageConfig,
+                NoOpBlockCache.newInstance(),
+                NoOpBlockPruner.newInstance(),
+                NoOpBlockRemover.newInstance(),
+                NoOpUnverifiedBlockRecovery.newInstance());
         final StreamVerificationHandlerImpl streamVerificationHandler = new StreamVerificationHandlerImpl(
                 streamMediator, notifier, metricsService, serviceStatus, mock(BlockVerificationService.class));
         final PbjBlockStreamServiceProxy pbjBlockStreamServiceProxy = new PbjBlockStreamServiceProxy(
@@ -969,7 +988,11 @@ class PbjBlockStreamServiceIntegrationTest {
                 persistenceExecutor,
                 archiverMock,
                 mockPersistence ? pathResolverMock : pathResolver,
-                persistenceStorageConfig);
+                persistenceStorageConfig,
+                NoOpBlockCache.newInstance(),
+                NoOpBlockPruner.newInstance(),
+                NoOpBlockRemover.newInstance(),
+                NoOpUnverifiedBlockRecovery.newInstance());
         final StreamVerificationHandlerImpl streamVerificationHandler = new StreamVerificationHandlerImpl(
                 streamMediator, notifier, metricsService, serviceStatus, BlockVerificationService);
         return new PbjBlockStreamServiceProxy(
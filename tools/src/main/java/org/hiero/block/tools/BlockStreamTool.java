@@ -2,6 +2,7 @@
 package org.hiero.block.tools;
 
 import org.hiero.block.tools.commands.BlockInfo;
+import org.hiero.block.tools.commands.CompressionDictionary;
 import org.hiero.block.tools.commands.ConvertToJson;
 import org.hiero.block.tools.commands.record2blocks.Record2BlockCommand;
 import org.hiero.block.tools.commands.record2blocks.gcp.AddNewerBlockTimes;
@@ -22,6 +23,7 @@ import picocli.CommandLine.Command;
         subcommands = {
             ConvertToJson.class,
             BlockInfo.class,
+            CompressionDictionary.class,
             Record2BlockCommand.class,
             FetchMirrorNodeRecordsCsv.class,
             ExtractBlockTimes.class,
@@ -0,0 +1,337 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.tools.commands;
+
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdCompressCtx;
+import com.github.luben.zstd.ZstdDictCompress;
+import com.github.luben.zstd.ZstdDictDecompress;
+import com.github.luben.zstd.ZstdDictTrainer;
+import com.github.luben.zstd.ZstdInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+import picocli.CommandLine.Parameters;
+
+/**
+ * Command line command that trains a Zstd dictionary from block files, installs it in a block node dictionary
+ * directory and recompresses the Zstd block files with it. The compression ratio and decode speed of the block files
+ * are printed before and after, so the gain of the dictionary can be measured.
+ *
+ * <p>The dictionary directory has the layout the block node reads: every dictionary is in a {@code <id>.zdict} file,
+ * and the {@code active} file holds the ID of the dictionary new blocks are compressed with. Block files compressed
+ * with an earlier dictionary are read with the dictionary named in their frame header.
+ *
+ * <p>The block node must be stopped while the block files are recompressed. A block file is replaced by an atomic
+ * move, and a node reading or moving it at the same time could serve or archive the old file. Every file is written
+ * to a temporary file, forced to disk, and moved over the block file, and the directory is forced after the move, so
+ * a crash leaves either the old or the new file.
+ */
+@SuppressWarnings({"FieldMayBeFinal", "CallToPrintStackTrace"})
+@Command(
+        name = "dictionary",
+        description = "Trains a Zstd dictionary from block files and recompresses the Zstd block files with it")
+public class CompressionDictionary implements Runnable {
+    /** Only the start of every block is sampled, a dictionary only helps to compress the start of a frame */
+    private static final int MAX_SAMPLE_SIZE = 128 * 1024;
+    /** The number of times every block is decoded when measuring the decode speed */
+    private static final int DECODE_ROUNDS = 3;
+
+    @Parameters(index = "0..*")
+    private File[] files;
+
+    @Option(
+            names = {"-d", "--dictionary-dir"},
+            required = true,
+            description = "The block node dictionary directory to install the dictionary in")
+    private File dictionaryDir;
+
+    @Option(
+            names = {"-s", "--size"},
+            description = "The maximum size of the dictionary in bytes (default: ${DEFAULT-VALUE})")
+    private int dictionarySize = 112_640;
+
+    @Option(
+            names = {"-n", "--samples"},
+            description = "The number of the latest blocks to train the dictionary from (default: ${DEFAULT-VALUE})")
+    private int sampleBlocks = 1_000;
+
+    @Option(
+            names = {"-l", "--level"},
+            description = "The Zstd compression level (default: ${DEFAULT-VALUE})")
+    private int compressionLevel = 3;
+
+    @Option(
+            names = {"-r", "--recompress"},
+            description = "Rewrite the Zstd block files compressed with the new dictionary, the block node must be "
+                    + "stopped meanwhile (default: ${DEFAULT-VALUE})")
+    private boolean recompress = false;
+
+    /** The dictionaries found in the dictionary directory, by ID */
+    private final Map<Long, ZstdDictDecompress> dictionaries = new HashMap<>();
+
+    /**
+     * Empty Default constructor to remove JavaDoc warning
+     */
+    public CompressionDictionary() {}
+
+    /**
+     * Main method to run the command
+     */
+    @Override
+    public void run() {
+        if (files == null || files.length == 0) {
+            System.err.println("No files to train a dictionary from");
+            return;
+        }
+        try {
+            final List<Path> blockFiles = findBlockFiles();
+            if (blockFiles.isEmpty()) {
+                System.err.println("No block files found");
+                return;
+            }
+            // train from the latest blocks
+            final List<Path> sampleFiles =
+                    blockFiles.subList(Math.max(0, blockFiles.size() - sampleBlocks), blockFiles.size());
+            final List<byte[]> samples = new ArrayList<>(sampleFiles.size());
+            for (final Path sampleFile : sampleFiles) {
+                final byte[] block = readBlock(sampleFile);
+                samples.add(Arrays.copyOf(block, Math.min(block.length, MAX_SAMPLE_SIZE)));
+            }
+            final ZstdDictTrainer trainer = new ZstdDictTrainer(
+                    samples.stream().mapToInt(sample -> sample.length).sum(), dictionarySize);
+            samples.forEach(trainer::addSample);
+            final long trainStart = System.nanoTime();
+            final byte[] dictionary = trainer.trainSamples();
+            final long dictionaryId = Zstd.getDictIdFromDict(dictionary);
+            System.out.printf(
+                    "Trained dictionary [%d] of %,d bytes from %,d blocks in %,d ms%n",
+                    dictionaryId, dictionary.length, sampleFiles.size(), (System.nanoTime() - trainStart) / 1_000_000);
+            installDictionary(dictionaryId, dictionary);
+            measureAndRecompress(
+                    blockFiles,
+                    new ZstdDictCompress(dictionary, compressionLevel),
+                    new ZstdDictDecompress(dictionary));
+        } catch (Exception e) {
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Compresses every block with the new dictionary, and prints the compression ratio and decode speed of the block
+     * files before and after. The Zstd block files are rewritten when recompressing is enabled.
+     *
+     * @param blockFiles the block files
+     * @param compressDictionary the new dictionary prepared for compression
+     * @param decompressDictionary the new dictionary prepared for decompression
+     * @throws IOException if a block file cannot be read or rewritten
+     */
+    private void measureAndRecompress(
+            final List<Path> blockFiles,
+            final ZstdDictCompress compressDictionary,
+            final ZstdDictDecompress decompressDictionary)
+            throws IOException {
+        long uncompressedBytes = 0;
+        long bytesBefore = 0;
+        long bytesAfter = 0;
+        long decodeNanosBefore = 0;
+        long decodeNanosAfter = 0;
+        long recompressedFiles = 0;
+        try (final ZstdCompressCtx compressCtx = new ZstdCompressCtx()) {
+            compressCtx.setLevel(compressionLevel);
+            compressCtx.loadDict(compressDictionary);
+            for (final Path blockFile : blockFiles) {
+                final byte[] stored = Files.readAllBytes(blockFile);
+                long start = System.nanoTime();
+                byte[] block = null;
+                for (int i = 0; i < DECODE_ROUNDS; i++) {
+                    block = decode(blockFile, stored);
+                }
+                decodeNanosBefore += System.nanoTime() - start;
+                final byte[] recompressed = compressCtx.compress(block);
+                start = System.nanoTime();
+                // decoded the same way as the Zstd block files before
+                for (int i = 0; i < DECODE_ROUNDS; i++) {
+                    try (ZstdInputStream in = new ZstdInputStream(new ByteArrayInputStream(recompressed))) {
+                        in.setDict(decompressDictionary);
+                        in.readAllBytes();
+                    }
+                }
+                decodeNanosAfter += System.nanoTime() - start;
+                uncompressedBytes += block.length;
+                bytesBefore += stored.length;
+                bytesAfter += recompressed.length;
+                if (recompress && isZstd(blockFile)) {
+                    writeAtomically(blockFile, recompressed);
+                    recompressedFiles++;
+                }
+            }
+        }
+        System.out.println("\n=========================================================");
+        System.out.println("Summary : ");
+        System.out.printf("    Total Blocks                  = %,d %n", blockFiles.size());
+        System.out.printf("    Total Bytes Uncompressed      = %,.2f MB%n", uncompressedBytes / 1024.0 / 1024.0);
+        System.out.printf("    Total Bytes Before            = %,.2f MB%n", bytesBefore / 1024.0 / 1024.0);
+        System.out.printf("    Total Bytes After             = %,.2f MB%n", bytesAfter / 1024.0 / 1024.0);
+        System.out.printf("    Compression Ratio Before      = %,.2f %n", uncompressedBytes / (double) bytesBefore);
+        System.out.printf("    Compression Ratio After       = %,.2f %n", uncompressedBytes / (double) bytesAfter);
+        System.out.printf(
+                "    Decode Speed Before           = %,.2f MB/s%n",
+                decodeSpeed(uncompressedBytes * DECODE_ROUNDS, decodeNanosBefore));
+        System.out.printf(
+                "    Decode Speed After            = %,.2f MB/s%n",
+                decodeSpeed(uncompressedBytes * DECODE_ROUNDS, decodeNanosAfter));
+        System.out.printf("    Recompressed Zstd Block Files = %,d %n", recompressedFiles);
+        System.out.println("=========================================================");
+    }
+
+    /**
+     * Collect all the block file paths sorted by file name, so the latest blocks are last
+     *
+     * @return the block file paths
+     * @throws IOException if the files cannot be walked
+     */
+    private List<Path> findBlockFiles() throws IOException {
+        final List<Path> blockFiles = new ArrayList<>();
+        for (final File file : files) {
+            if (!file.exists()) {
+                System.err.println("File not found : " + file);
+                continue;
+            }
+            try (var paths = Files.walk(file.toPath())) {
+                paths.filter(Files::isRegularFile)
+                        .filter(path -> {
+                            final String fileName = path.getFileName().toString();
+                            return fileName.endsWith(".blk")
+                                    || fileName.endsWith(".blk.gz")
+                                    || fileName.endsWith(".blk.zstd");
+                        })
+                        .forEach(blockFiles::add);
+            }
+        }
+        blockFiles.sort(Comparator.comparing(path -> path.getFileName().toString()));
+        return blockFiles;
+    }
+
+    /**
+     * Read the uncompressed bytes of a block file
+     *
+     * @param blockFile the block file
+     * @return the uncompressed bytes of the block
+     * @throws IOException if the block file cannot be read
+     */
+    private byte[] readBlock(final Path blockFile) throws IOException {
+        return decode(blockFile, Files.readAllBytes(blockFile));
+    }
+
+    /**
+     * Decode the stored bytes of a block file, with the dictionary named in the frame header for Zstd block files
+     *
+     * @param blockFile the block file
+     * @param stored the stored bytes of the block file
+     * @return the uncompressed bytes of the block
+     * @throws IOException if the bytes cannot be decoded
+     */
+    private byte[] decode(final Path blockFile, final byte[] stored) throws IOException {
+        final String fileName = blockFile.getFileName().toString();
+        if (fileName.endsWith(".gz")) {
+            try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(stored))) {
+                return in.readAllBytes();
+            }
+        } else if (isZstd(blockFile)) {
+            try (ZstdInputStream in = new ZstdInputStream(new ByteArrayInputStream(stored))) {
+                final long dictionaryId = Zstd.getDictIdFromFrame(stored);
+                if (dictionaryId != 0) {
+                    in.setDict(findDictionary(dictionaryId));
+                }
+                return in.readAllBytes();
+            }
+        } else {
+            return stored;
+        }
+    }
+
+    private ZstdDictDecompress findDictionary(final long dictionaryId) throws IOException {
+        ZstdDictDecompress dictionary = dictionaries.get(dictionaryId);
+        if (dictionary == null) {
+            final Path dictionaryFile = dictionaryDir.toPath().resolve(dictionaryId + ".zdict");
+            if (!Files.exists(dictionaryFile)) {
+                throw new IOException("Dictionary [" + dictionaryId + "] not found in " + dictionaryDir);
+            }
+            dictionary = new ZstdDictDecompress(Files.readAllBytes(dictionaryFile));
+            dictionaries.put(dictionaryId, dictionary);
+        }
+        return dictionary;
+    }
+
+    /**
+     * Write the dictionary to the dictionary directory and make it the active dictionary
+     *
+     * @param dictionaryId the ID of the dictionary
+     * @param dictionary the dictionary
+     * @throws IOException if the dictionary cannot be written
+     */
+    private void installDictionary(final long dictionaryId, final byte[] dictionary) throws IOException {
+        final Path dir = dictionaryDir.toPath();
+        Files.createDirectories(dir);
+        writeAtomically(dir.resolve(dictionaryId + ".zdict"), dictionary);
+        writeAtomically(dir.resolve("active"), Long.toString(dictionaryId).getBytes(StandardCharsets.US_ASCII));
+        System.out.println("Installed dictionary [" + dictionaryId + "] in " + dictionaryDir.getAbsolutePath());
+    }
+
+    /**
+     * Replace the file with the given bytes, so a crash leaves either the old or the new file. The bytes are written
+     * to a temporary file that is forced to disk, along with its directory, before it is moved over the file, and the
+     * directory is forced again after the move, so the move is durable too.
+     *
+     * @param path the file to replace
+     * @param bytes the new bytes of the file
+     * @throws IOException if the file cannot be replaced
+     */
+    private static void writeAtomically(final Path path, final byte[] bytes) throws IOException {
+        final Path tempPath = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(
+                tempPath, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        final Path directory = path.toAbsolutePath().getParent();
+        forceDirectory(directory);
+        Files.move(tempPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        forceDirectory(directory);
+    }
+
+    private static void forceDirectory(final Path directory) throws IOException {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        }
+    }
+
+    private static boolean isZstd(final Path blockFile) {
+        return blockFile.getFileName().toString().endsWith(".zstd");
+    }
+
+    private static double decodeSpeed(final long bytes, final long nanos) {
+        return nanos == 0 ? 0 : bytes / 1024.0 / 1024.0 / (nanos / 1_000_000_000.0);
+    }
+}